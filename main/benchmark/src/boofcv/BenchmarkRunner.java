@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv;
+
+import boofcv.struct.image.ImageSingleBand;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Entry point for the JMH benchmarks.  Accepts the standard JMH command line arguments, e.g. a regular expression
+ * selecting which benchmarks to run or "-p size=640x480" to override a parameter.  Unless specified otherwise the
+ * results are saved in JSON format to {@link #DEFAULT_RESULT} so that they can be compared across releases.
+ *
+ * <pre>
+ * mvn -P benchmark package
+ * java -jar benchmark/target/benchmarks.jar ".*Convolve.*" -rff convolve-0.17.json
+ * </pre>
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkRunner {
+
+	public static final String DEFAULT_RESULT = "boofcv-benchmark.json";
+
+	/**
+	 * Parses an image size parameter which has the format "width x height", e.g. "640x480".
+	 *
+	 * @return array containing {width,height}
+	 */
+	public static int[] parseSize( String size ) {
+		String words[] = size.split("x");
+		if( words.length != 2 )
+			throw new IllegalArgumentException("Expected an image size in the format WIDTHxHEIGHT, not "+size);
+		return new int[]{Integer.parseInt(words[0]),Integer.parseInt(words[1])};
+	}
+
+	/**
+	 * Looks up the single band image class from its simple name, e.g. "ImageUInt8".
+	 */
+	@SuppressWarnings("unchecked")
+	public static Class<ImageSingleBand> imageType( String name ) {
+		try {
+			return (Class<ImageSingleBand>)Class.forName("boofcv.struct.image."+name);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalArgumentException("Unknown image type "+name);
+		}
+	}
+
+	public static void main( String args[] ) throws RunnerException, IOException {
+		CommandLineOptions cmd;
+		try {
+			cmd = new CommandLineOptions(args);
+		} catch (CommandLineOptionException e) {
+			System.err.println("Error parsing command line: "+e.getMessage());
+			System.exit(1);
+			return;
+		}
+
+		if( cmd.shouldHelp() ) {
+			cmd.showHelp();
+			return;
+		}
+
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmd);
+		if( !cmd.getResultFormat().hasValue() )
+			builder.resultFormat(ResultFormatType.JSON);
+		if( !cmd.getResult().hasValue() )
+			builder.result(DEFAULT_RESULT);
+
+		Runner runner = new Runner(builder.build());
+		if( cmd.shouldList() )
+			runner.list();
+		else
+			runner.run();
+	}
+}
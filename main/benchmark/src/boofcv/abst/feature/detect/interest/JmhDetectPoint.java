@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.feature.detect.interest;
+
+import boofcv.BenchmarkRunner;
+import boofcv.alg.feature.detect.interest.GeneralFeatureDetector;
+import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.feature.detect.interest.FactoryDetectPoint;
+import boofcv.factory.feature.detect.interest.FactoryInterestPoint;
+import boofcv.struct.image.ImageSingleBand;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks interest point detectors through the {@link InterestPointDetector} interface, which includes the cost
+ * of computing image derivatives and non-maximum suppression.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class JmhDetectPoint {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"ImageUInt8","ImageFloat32"})
+	public String imageType;
+
+	@Param({"ShiTomasi","Harris","Fast","FastHessian"})
+	public String detector;
+
+	ImageSingleBand image;
+	InterestPointDetector alg;
+
+	@Setup
+	public void setup() {
+		int shape[] = BenchmarkRunner.parseSize(size);
+		Class<ImageSingleBand> type = BenchmarkRunner.imageType(imageType);
+		Class<ImageSingleBand> derivType = GImageDerivativeOps.getDerivativeType(type);
+
+		image = GeneralizedImageOps.createSingleBand(type,shape[0],shape[1]);
+		GImageMiscOps.fillUniform(image, new Random(234), 0, 255);
+
+		ConfigGeneralDetector config = new ConfigGeneralDetector(-1,2,1);
+		GeneralFeatureDetector general;
+		if( detector.equals("ShiTomasi") ) {
+			general = FactoryDetectPoint.createShiTomasi(config, false, derivType);
+		} else if( detector.equals("Harris") ) {
+			general = FactoryDetectPoint.createHarris(config, false, derivType);
+		} else if( detector.equals("Fast") ) {
+			general = FactoryDetectPoint.createFast(new ConfigFast(20,9), config, type);
+		} else if( detector.equals("FastHessian") ) {
+			alg = FactoryInterestPoint.fastHessian(null);
+			return;
+		} else {
+			throw new IllegalArgumentException("Unknown detector "+detector);
+		}
+		alg = FactoryInterestPoint.wrapPoint(general, 1, type, derivType);
+	}
+
+	@Benchmark
+	public int detect() {
+		alg.detect(image);
+		return alg.getNumberOfFeatures();
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.distort;
+
+import boofcv.BenchmarkRunner;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.distort.PixelTransform_F32;
+import boofcv.struct.image.ImageSingleBand;
+import georegression.struct.homo.Homography2D_F32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkImageDistort.  Warps an image using a random homography and bilinear interpolation.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class JmhImageDistort {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"ImageUInt8","ImageFloat32"})
+	public String imageType;
+
+	ImageSingleBand src;
+	ImageSingleBand dst;
+
+	ImageDistort homography;
+	ImageDistort cached;
+
+	@Setup
+	public void setup() {
+		int shape[] = BenchmarkRunner.parseSize(size);
+		Class<ImageSingleBand> type = BenchmarkRunner.imageType(imageType);
+		Random rand = new Random(234);
+
+		src = GeneralizedImageOps.createSingleBand(type,shape[0],shape[1]);
+		dst = GeneralizedImageOps.createSingleBand(type,shape[0],shape[1]);
+		GImageMiscOps.fillUniform(src, rand, 0, 100);
+
+		Homography2D_F32 H = new Homography2D_F32((float)rand.nextGaussian(),(float)rand.nextGaussian(),
+				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
+				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
+				(float)rand.nextGaussian());
+		PixelTransform_F32 tran = new PixelTransformHomography_F32(H);
+
+		InterpolatePixelS interp = FactoryInterpolation.bilinearPixelS(type);
+		ImageBorder border = FactoryImageBorder.general(type, BorderType.EXTENDED);
+		homography = FactoryDistort.distort(interp, border, type);
+		homography.setModel(tran);
+
+		interp = FactoryInterpolation.bilinearPixelS(type);
+		border = FactoryImageBorder.general(type, BorderType.EXTENDED);
+		cached = FactoryDistort.distortCached(interp, border, type);
+		cached.setModel(tran);
+	}
+
+	@Benchmark
+	public void homographyBilinear() {
+		homography.apply(src, dst);
+	}
+
+	@Benchmark
+	public void homographyBilinearCrop() {
+		homography.apply(src, dst, 0, 0, dst.width, dst.height);
+	}
+
+	@Benchmark
+	public void mapBilinear() {
+		cached.apply(src, dst, 0, 0, dst.width, dst.height);
+	}
+}
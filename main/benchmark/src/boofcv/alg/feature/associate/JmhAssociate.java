@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.AssociateDescription;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.factory.feature.associate.FactoryAssociation;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.ddogleg.struct.FastQueue;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkAssociationSpeedRandom.  Associates two sets of randomly generated descriptions.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JmhAssociate {
+
+	@Param({"64"})
+	public int dof;
+
+	@Param({"500","2000"})
+	public int numFeatures;
+
+	@Param({"Greedy","GreedyBackwards","RandomForest"})
+	public String associator;
+
+	FastQueue<TupleDesc_F64> listA;
+	FastQueue<TupleDesc_F64> listB;
+
+	AssociateDescription<TupleDesc_F64> alg;
+
+	@Setup
+	public void setup() {
+		Random rand = new Random(234234);
+		listA = createSet(rand);
+		listB = createSet(rand);
+
+		ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class,true);
+
+		if( associator.equals("Greedy") )
+			alg = FactoryAssociation.greedy(score, Double.MAX_VALUE, false);
+		else if( associator.equals("GreedyBackwards") )
+			alg = FactoryAssociation.greedy(score, Double.MAX_VALUE, true);
+		else if( associator.equals("RandomForest") )
+			alg = FactoryAssociation.kdRandomForest(dof, 500, 15, 5, 1233445565);
+		else
+			throw new IllegalArgumentException("Unknown associator "+associator);
+	}
+
+	private FastQueue<TupleDesc_F64> createSet( Random rand ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(dof);
+			}
+		};
+
+		for( int i = 0; i < numFeatures; i++ ) {
+			TupleDesc_F64 t = ret.grow();
+			for( int j = 0; j < dof; j++ ) {
+				t.value[j] = (rand.nextDouble()-0.5)*20;
+			}
+		}
+		return ret;
+	}
+
+	@Benchmark
+	public int associate() {
+		alg.setSource(listA);
+		alg.setDestination(listB);
+		alg.associate();
+		return alg.getMatches().size();
+	}
+}
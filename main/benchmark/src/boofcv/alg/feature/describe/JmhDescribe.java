@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.describe;
+
+import boofcv.BenchmarkRunner;
+import boofcv.abst.feature.describe.ConfigBrief;
+import boofcv.abst.feature.describe.ConfigSurfDescribe;
+import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GConvertImage;
+import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageType;
+import boofcv.struct.image.MultiSpectral;
+import georegression.struct.point.Point2D_I32;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkDescribe.  Describes a fixed set of randomly selected points in a random image.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class JmhDescribe {
+	static int NUM_POINTS = 512;
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"ImageUInt8","ImageFloat32"})
+	public String imageType;
+
+	@Param({"SURF-F","SURF-F-Color","SURF-S","SURF-S-Color","BRIEF-512","BRIEFSO-512"})
+	public String describer;
+
+	ImageSingleBand gray;
+	MultiSpectral colorMS;
+
+	Point2D_I32 pts[];
+	double scales[];
+	double yaws[];
+
+	DescribeRegionPoint alg;
+	TupleDesc desc;
+
+	@Setup
+	public void setup() {
+		int shape[] = BenchmarkRunner.parseSize(size);
+		int width = shape[0], height = shape[1];
+		Class<ImageSingleBand> type = BenchmarkRunner.imageType(imageType);
+		Random rand = new Random(234234);
+
+		colorMS = new MultiSpectral(type,width,height,3);
+		GImageMiscOps.fillUniform(colorMS, rand, 0, 100);
+		gray = GConvertImage.average(colorMS,null);
+
+		pts = new Point2D_I32[ NUM_POINTS ];
+		scales = new double[ NUM_POINTS ];
+		yaws = new double[ NUM_POINTS ];
+		int border = 20;
+		for( int i = 0; i < NUM_POINTS; i++ ) {
+			int x = rand.nextInt(width-border*2)+border;
+			int y = rand.nextInt(height-border*2)+border;
+			pts[i] = new Point2D_I32(x,y);
+			scales[i] = rand.nextDouble()*3+1;
+			yaws[i] = 2.0*(rand.nextDouble()-0.5)*Math.PI;
+		}
+
+		ConfigSurfDescribe.Speed surfSpeed = new ConfigSurfDescribe.Speed();
+		ConfigSurfDescribe.Stablility surfStable = new ConfigSurfDescribe.Stablility();
+
+		if( describer.equals("SURF-F") )
+			alg = FactoryDescribeRegionPoint.surfFast(surfSpeed, type);
+		else if( describer.equals("SURF-F-Color") )
+			alg = FactoryDescribeRegionPoint.surfColorFast(surfSpeed, ImageType.ms(3, type));
+		else if( describer.equals("SURF-S") )
+			alg = FactoryDescribeRegionPoint.surfStable(surfStable, type);
+		else if( describer.equals("SURF-S-Color") )
+			alg = FactoryDescribeRegionPoint.surfColorStable(surfStable, ImageType.ms(3, type));
+		else if( describer.equals("BRIEF-512") )
+			alg = FactoryDescribeRegionPoint.brief(new ConfigBrief(true), type);
+		else if( describer.equals("BRIEFSO-512") )
+			alg = FactoryDescribeRegionPoint.brief(new ConfigBrief(false), type);
+		else
+			throw new IllegalArgumentException("Unknown describer "+describer);
+
+		desc = alg.createDescription();
+	}
+
+	@Benchmark
+	public TupleDesc describe() {
+		if( alg.getImageType().getFamily() == ImageType.Family.SINGLE_BAND )
+			alg.setImage(gray);
+		else
+			alg.setImage(colorMS);
+
+		for( int i = 0; i < pts.length; i++ ) {
+			Point2D_I32 p = pts[i];
+			alg.process(p.x,p.y,yaws[i],scales[i],desc);
+		}
+		return desc;
+	}
+}
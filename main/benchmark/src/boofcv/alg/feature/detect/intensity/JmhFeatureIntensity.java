@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.BenchmarkRunner;
+import boofcv.alg.feature.detect.intensity.impl.*;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkFastIntensity, BenchmarkSsdCornerIntensity, and BenchmarkFastHessianFeatureIntensity.
+ * Computes feature intensity images using the low level implementations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JmhFeatureIntensity {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	static int windowRadius = 2;
+	static int hessianSkip = 1;
+	static int hessianSize = 15;
+
+	ImageUInt8 input_U8;
+	ImageFloat32 intensity;
+	ImageFloat32 integral;
+
+	ImageFloat32 derivX_F32;
+	ImageFloat32 derivY_F32;
+	ImageSInt16 derivX_S16;
+	ImageSInt16 derivY_S16;
+
+	ImplFastIntensity9<ImageUInt8> fast9 = new ImplFastIntensity9<ImageUInt8>(new ImplFastHelper_U8(60));
+	ImplFastIntensity12<ImageUInt8> fast12 = new ImplFastIntensity12<ImageUInt8>(new ImplFastHelper_U8(60));
+	ImplShiTomasiCorner_F32 klt_F32 = new ImplShiTomasiCorner_F32(windowRadius);
+	ImplShiTomasiCornerWeighted_F32 kltWeighted_F32 = new ImplShiTomasiCornerWeighted_F32(windowRadius);
+	ImplShiTomasiCorner_S16 klt_S16 = new ImplShiTomasiCorner_S16(windowRadius);
+	ImplShiTomasiCornerWeighted_S16 kltWeighted_S16 = new ImplShiTomasiCornerWeighted_S16(windowRadius);
+
+	@Setup
+	public void setup() {
+		int shape[] = BenchmarkRunner.parseSize(size);
+		int width = shape[0], height = shape[1];
+		Random rand = new Random(234);
+
+		input_U8 = new ImageUInt8(width,height);
+		intensity = new ImageFloat32(width,height);
+		integral = new ImageFloat32(width,height);
+		derivX_F32 = new ImageFloat32(width,height);
+		derivY_F32 = new ImageFloat32(width,height);
+		derivX_S16 = new ImageSInt16(width,height);
+		derivY_S16 = new ImageSInt16(width,height);
+
+		ImageMiscOps.fillUniform(input_U8, rand, 0, 255);
+		ImageMiscOps.fillUniform(derivX_F32, rand, -255, 255);
+		ImageMiscOps.fillUniform(derivY_F32, rand, -255, 255);
+		ImageMiscOps.fillUniform(derivX_S16, rand, -255, 255);
+		ImageMiscOps.fillUniform(derivY_S16, rand, -255, 255);
+
+		ImageFloat32 original = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(original, rand, 0, 200);
+		IntegralImageOps.transform(original,integral);
+	}
+
+	@Benchmark
+	public void fast9_U8() {
+		fast9.process(input_U8,intensity);
+	}
+
+	@Benchmark
+	public void fast12_U8() {
+		fast12.process(input_U8,intensity);
+	}
+
+	@Benchmark
+	public void klt_F32() {
+		klt_F32.process(derivX_F32,derivY_F32,intensity);
+	}
+
+	@Benchmark
+	public void kltWeighted_F32() {
+		kltWeighted_F32.process(derivX_F32,derivY_F32,intensity);
+	}
+
+	@Benchmark
+	public void klt_S16() {
+		klt_S16.process(derivX_S16,derivY_S16,intensity);
+	}
+
+	@Benchmark
+	public void kltWeighted_S16() {
+		kltWeighted_S16.process(derivX_S16,derivY_S16,intensity);
+	}
+
+	@Benchmark
+	public void fastHessianNaive() {
+		ImplIntegralImageFeatureIntensity.hessianNaive(integral,hessianSkip,hessianSize,intensity);
+	}
+
+	@Benchmark
+	public void fastHessian() {
+		IntegralImageFeatureIntensity.hessian(integral,hessianSkip,hessianSize,intensity);
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.BenchmarkRunner;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramConstant;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkMedianFilter.  Covers the range of radii where the cost of the different median
+ * filter implementations diverges.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JmhMedianFilter {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	@Param({"1","2","3","4","5","6","7","8","9","10","11","12","13","14","15","16","17","18","19","20"})
+	public int radius;
+
+	ImageUInt8 input_U8;
+	ImageUInt8 out_U8;
+	ImageFloat32 input_F32;
+	ImageFloat32 out_F32;
+
+	@Setup
+	public void setup() {
+		int shape[] = BenchmarkRunner.parseSize(size);
+		int width = shape[0], height = shape[1];
+		Random rand = new Random(234);
+
+		input_U8 = new ImageUInt8(width,height);
+		out_U8 = new ImageUInt8(width,height);
+		input_F32 = new ImageFloat32(width,height);
+		out_F32 = new ImageFloat32(width,height);
+
+		ImageMiscOps.fillUniform(input_U8,rand,0,256);
+		ImageMiscOps.fillUniform(input_F32,rand,0,256);
+	}
+
+	@Benchmark
+	public void blurImageOps_U8() {
+		BlurImageOps.median(input_U8,out_U8,radius);
+	}
+
+	@Benchmark
+	public void blurImageOps_F32() {
+		BlurImageOps.median(input_F32,out_F32,radius);
+	}
+
+	@Benchmark
+	public void histogramInner_U8() {
+		ImplMedianHistogramInner.process(input_U8,out_U8,radius,null,null);
+	}
+
+	@Benchmark
+	public void histogramConstant_U8() {
+		ImplMedianHistogramConstant.process(input_U8,out_U8,radius,null);
+	}
+}
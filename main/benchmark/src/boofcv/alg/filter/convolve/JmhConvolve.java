@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.BenchmarkRunner;
+import boofcv.alg.filter.convolve.noborder.*;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderIndex1D_Extend;
+import boofcv.core.image.border.ImageBorder1D_I32;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkConvolve.  Benchmarks the different low level convolution implementations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JmhConvolve {
+
+	@Param({"640x480","1920x1080"})
+	public String size;
+
+	// iterate through different sized kernel radius
+	@Param({"1","2"})
+	public int radius;
+
+	Kernel2D_F32 kernel2D_F32;
+	Kernel1D_F32 kernelF32;
+	Kernel1D_I32 kernelI32;
+	Kernel2D_I32 kernel2D_I32;
+	ImageFloat32 input_F32;
+	ImageFloat32 out_F32;
+	ImageUInt8 input_U8;
+	ImageSInt16 input_S16;
+	ImageUInt8 out_U8;
+	ImageSInt16 out_S16;
+	ImageSInt32 out_S32;
+
+	ImageBorder1D_I32 border = new ImageBorder1D_I32(BorderIndex1D_Extend.class);
+
+	@Setup
+	public void setup() {
+		int shape[] = BenchmarkRunner.parseSize(size);
+		int width = shape[0], height = shape[1];
+		Random rand = new Random(234);
+
+		input_F32 = new ImageFloat32(width,height);
+		out_F32 = new ImageFloat32(width,height);
+		input_U8 = new ImageUInt8(width,height);
+		input_S16 = new ImageSInt16(width,height);
+		out_U8 = new ImageUInt8(width,height);
+		out_S16 = new ImageSInt16(width,height);
+		out_S32 = new ImageSInt32(width,height);
+
+		ImageMiscOps.fillUniform(input_U8,rand,0,20);
+		ImageMiscOps.fillUniform(input_S16,rand,0,20);
+		ImageMiscOps.fillUniform(input_F32,rand,0,20);
+
+		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, -1, radius);
+		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,-1,radius);
+		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
+		kernel2D_I32 = FactoryKernelGaussian.gaussian(Kernel2D_I32.class, -1, radius);
+	}
+
+	@Benchmark
+	public void horizontal_F32() {
+		ConvolveImageStandard.horizontal(kernelF32, input_F32,out_F32);
+	}
+
+	@Benchmark
+	public void horizontal_I8_I8_div2() {
+		ConvolveImageStandard.horizontal(kernelI32, input_U8, out_U8, 10);
+	}
+
+	@Benchmark
+	public boolean horizontalUnroll_I8_I8_div() {
+		return ConvolveImageUnrolled_U8_I8_Div.horizontal(kernelI32, input_U8, out_U8,10);
+	}
+
+	@Benchmark
+	public void horizontal_I8_I16() {
+		ConvolveImageStandard.horizontal(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void horizontal_I16_I16() {
+		ConvolveImageStandard.horizontal(kernelI32, input_S16, out_S16);
+	}
+
+	@Benchmark
+	public void vertical_F32() {
+		ConvolveImageStandard.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void vertical_I8_I8_div() {
+		ConvolveImageStandard.vertical(kernelI32, input_U8, out_U8,10);
+	}
+
+	@Benchmark
+	public boolean verticalUnrolled_U8_I8_div() {
+		return ConvolveImageUnrolled_U8_I8_Div.vertical(kernelI32, input_U8, out_U8,10);
+	}
+
+	@Benchmark
+	public void vertical_I8_I16() {
+		ConvolveImageStandard.vertical(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void vertical_I16_I16() {
+		ConvolveImageStandard.vertical(kernelI32, input_S16, out_S16);
+	}
+
+	@Benchmark
+	public void convolve2D_F32() {
+		ConvolveImageNoBorder.convolve(kernel2D_F32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public void convolve2D_Std_F32() {
+		ConvolveImageStandard.convolve(kernel2D_F32, input_F32,out_F32);
+	}
+
+	@Benchmark
+	public boolean convolve2D_Unrolled_F32() {
+		return ConvolveImageUnrolled_F32_F32.convolve(kernel2D_F32, input_F32,out_F32);
+	}
+
+	@Benchmark
+	public void convolve2D_I8_I16() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public void convolve2D_Extend_I8_I16() {
+		ConvolveWithBorder.convolve(kernel2D_I32, input_U8, out_S16, border);
+	}
+
+	@Benchmark
+	public void convolve2D_Std_I8_I8_DIV() {
+		ConvolveImageStandard.convolve(kernel2D_I32, input_U8, out_U8,10);
+	}
+
+	@Benchmark
+	public void convolve2D_I8_I8_DIV() {
+		ConvolveImageNoBorder.convolve(kernel2D_I32, input_U8, out_U8,10);
+	}
+
+	@Benchmark
+	public void convolve2D_Std_I8_I16() {
+		ConvolveImageStandard.convolve(kernel2D_I32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public boolean horizontalUnrolled_F32() {
+		return ConvolveImageUnrolled_F32_F32.horizontal(kernelF32, input_F32,out_F32);
+	}
+
+	@Benchmark
+	public boolean verticalUnrolled_F32() {
+		return ConvolveImageUnrolled_F32_F32.vertical(kernelF32, input_F32, out_F32);
+	}
+
+	@Benchmark
+	public boolean horizontalUnrolled_U8() {
+		return ConvolveImageUnrolled_U8_I16.horizontal(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public boolean verticalUnrolled_U8() {
+		return ConvolveImageUnrolled_U8_I16.vertical(kernelI32, input_U8, out_S16);
+	}
+
+	@Benchmark
+	public boolean horizontalUnrolled_I16() {
+		return ConvolveImageUnrolled_S16_I16.horizontal(kernelI32, input_S16, out_S16);
+	}
+
+	@Benchmark
+	public boolean verticalUnrolled_I16() {
+		return ConvolveImageUnrolled_S16_I16.vertical(kernelI32, input_S16, out_S16);
+	}
+
+	@Benchmark
+	public void box_U8_S32_Vertical() {
+		ImplConvolveBox.vertical(input_U8, out_S32,radius);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofEpipolar;
+import boofcv.abst.geo.RefineEpipolar;
+import boofcv.factory.geo.EnumEpipolar;
+import boofcv.factory.geo.EpipolarError;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.AssociatedPair;
+import org.ejml.data.DenseMatrix64F;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkRuntimeHomography, BenchmarkRuntimeFundamental, and BenchmarkRuntimeRefineHomography.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JmhEpipolar {
+
+	@Param({"500"})
+	public int numPoints;
+
+	static double tol = 1e-16;
+	static int MAX_ITER = 200;
+
+	// planar scene in pixels for homography
+	StereoScene planar = new StereoScene();
+	// planar scene in normalized image coordinates for homography refinement
+	StereoScene planarNorm = new StereoScene();
+	// general scene in normalized image coordinates for essential matrix
+	StereoScene general = new StereoScene();
+
+	Estimate1ofEpipolar homographyNorm = FactoryMultiView.computeHomography(true);
+	Estimate1ofEpipolar homographyUnorm = FactoryMultiView.computeHomography(false);
+	Estimate1ofEpipolar essential8 = FactoryMultiView.computeFundamental_1(EnumEpipolar.ESSENTIAL_8_LINEAR, 0);
+	Estimate1ofEpipolar essential7 = FactoryMultiView.computeFundamental_1(EnumEpipolar.ESSENTIAL_7_LINEAR, 1);
+	Estimate1ofEpipolar essential5 = FactoryMultiView.computeFundamental_1(EnumEpipolar.ESSENTIAL_5_NISTER, 1);
+	RefineEpipolar refineSimple = FactoryMultiView.refineHomography(tol, MAX_ITER, EpipolarError.SIMPLE);
+	RefineEpipolar refineSampson = FactoryMultiView.refineHomography(tol, MAX_ITER, EpipolarError.SAMPSON);
+
+	List<AssociatedPair> planar4;
+	List<AssociatedPair> general6;
+	List<AssociatedPair> general8;
+
+	DenseMatrix64F initialH = new DenseMatrix64F(3,3);
+	DenseMatrix64F found = new DenseMatrix64F(3,3);
+
+	@Setup
+	public void setup() {
+		planar.init(numPoints, true, true);
+		planarNorm.init(numPoints, false, true);
+		general.init(numPoints, false, false);
+
+		planar4 = planar.pairs.subList(0,4);
+		general6 = general.pairs.subList(0,6);
+		general8 = general.pairs.subList(0,8);
+
+		// initial estimate for refinement is a perturbed version of the truth
+		homographyNorm.process(planarNorm.pairs, initialH);
+		initialH.data[0] += 0.1;
+		initialH.data[4] -= 0.15;
+		initialH.data[7] -= 0.2;
+	}
+
+	@Benchmark
+	public DenseMatrix64F homographyLinear4_Norm() {
+		homographyNorm.process(planar4, found);
+		return found;
+	}
+
+	@Benchmark
+	public DenseMatrix64F homographyLinear4_Unorm() {
+		homographyUnorm.process(planar4, found);
+		return found;
+	}
+
+	@Benchmark
+	public DenseMatrix64F homographyLinearN() {
+		homographyNorm.process(planar.pairs, found);
+		return found;
+	}
+
+	@Benchmark
+	public DenseMatrix64F essentialLinear8() {
+		essential8.process(general8, found);
+		return found;
+	}
+
+	@Benchmark
+	public DenseMatrix64F essentialLinear7() {
+		essential7.process(general8, found);
+		return found;
+	}
+
+	@Benchmark
+	public DenseMatrix64F essentialNister5() {
+		essential5.process(general6, found);
+		return found;
+	}
+
+	@Benchmark
+	public DenseMatrix64F refineHomographySimple() {
+		refineSimple.fitModel(planarNorm.pairs, initialH, found);
+		return found;
+	}
+
+	@Benchmark
+	public DenseMatrix64F refineHomographySampson() {
+		refineSampson.fitModel(planarNorm.pairs, initialH, found);
+		return found;
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.geo;
+
+import boofcv.abst.geo.Estimate1ofPnP;
+import boofcv.alg.geo.pose.PnPLepetitEPnP;
+import boofcv.factory.geo.EnumPNP;
+import boofcv.factory.geo.FactoryMultiView;
+import boofcv.struct.geo.Point2D3D;
+import georegression.struct.se.Se3_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkRuntimePose.  Estimates camera pose from the minimum number of observations.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JmhPose {
+	static int NUM_POINTS = 5;
+
+	StereoScene scene = new StereoScene();
+
+	PnPLepetitEPnP epnp0 = new PnPLepetitEPnP();
+	PnPLepetitEPnP epnp5 = new PnPLepetitEPnP();
+	Estimate1ofPnP grunert = FactoryMultiView.computePnP_1(EnumPNP.P3P_GRUNERT,-1,1);
+	Estimate1ofPnP finster = FactoryMultiView.computePnP_1(EnumPNP.P3P_FINSTERWALDER,-1,1);
+
+	List<Point2D3D> obsGrunert;
+	List<Point2D3D> obsFinster;
+
+	Se3_F64 found = new Se3_F64();
+
+	@Setup
+	public void setup() {
+		scene.init(NUM_POINTS, false, false);
+
+		epnp0.setNumIterations(0);
+		epnp5.setNumIterations(5);
+
+		obsGrunert = scene.observationPose.subList(0, grunert.getMinimumPoints());
+		obsFinster = scene.observationPose.subList(0, finster.getMinimumPoints());
+	}
+
+	@Benchmark
+	public Se3_F64 epnp_Iter0() {
+		epnp0.process(scene.worldPoints, scene.observationCurrent, found);
+		return found;
+	}
+
+	@Benchmark
+	public Se3_F64 epnp_Iter5() {
+		epnp5.process(scene.worldPoints, scene.observationCurrent, found);
+		return found;
+	}
+
+	@Benchmark
+	public Se3_F64 p3pGrunert() {
+		grunert.process(obsGrunert, found);
+		return found;
+	}
+
+	@Benchmark
+	public Se3_F64 p3pFinsterwalder() {
+		finster.process(obsFinster, found);
+		return found;
+	}
+}
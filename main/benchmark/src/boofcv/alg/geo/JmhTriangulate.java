@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.geo;
+
+import boofcv.alg.geo.triangulate.PixelDepthLinear;
+import boofcv.alg.geo.triangulate.TriangulateGeometric;
+import boofcv.alg.geo.triangulate.TriangulateLinearDLT;
+import boofcv.struct.geo.AssociatedPair;
+import georegression.struct.point.Point3D_F64;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkRuntimeTriangulate.  Triangulates every point in a two view scene.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JmhTriangulate {
+
+	@Param({"500"})
+	public int numPoints;
+
+	StereoScene scene = new StereoScene();
+
+	TriangulateLinearDLT dlt = new TriangulateLinearDLT();
+	TriangulateGeometric geometric = new TriangulateGeometric();
+	PixelDepthLinear depth = new PixelDepthLinear();
+
+	Point3D_F64 found = new Point3D_F64();
+
+	@Setup
+	public void setup() {
+		scene.init(numPoints, false, false);
+	}
+
+	@Benchmark
+	public Point3D_F64 linearDLT() {
+		for( int i = 0; i < scene.pairs.size(); i++ ) {
+			AssociatedPair p = scene.pairs.get(i);
+			dlt.triangulate(p.p1, p.p2, scene.motion, found);
+		}
+		return found;
+	}
+
+	@Benchmark
+	public Point3D_F64 geometric() {
+		for( int i = 0; i < scene.pairs.size(); i++ ) {
+			AssociatedPair p = scene.pairs.get(i);
+			geometric.triangulate(p.p1, p.p2, scene.motion, found);
+		}
+		return found;
+	}
+
+	@Benchmark
+	public double pixelDepth() {
+		double total = 0;
+		for( int i = 0; i < scene.pairs.size(); i++ ) {
+			AssociatedPair p = scene.pairs.get(i);
+			total += depth.depth2View(p.p1, p.p2, scene.motion);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.geo;
+
+import boofcv.struct.geo.AssociatedPair;
+import boofcv.struct.geo.Point2D3D;
+import georegression.geometry.RotationMatrixGenerator;
+import georegression.struct.point.Point2D_F64;
+import georegression.struct.point.Point3D_F64;
+import georegression.struct.se.Se3_F64;
+import georegression.transform.se.SePointOps_F64;
+import org.ejml.data.DenseMatrix64F;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic two view scene used by the geometric benchmarks.  Same as ArtificialStereoScene in the geo benchmarks.
+ *
+ * @author Peter Abeles
+ */
+public class StereoScene {
+	protected Random rand = new Random(234234);
+
+	// create a reasonable calibration matrix
+	protected DenseMatrix64F K = new DenseMatrix64F(3,3,true,705,0.001,326,0,704,224,0,0,1);
+
+	protected Se3_F64 motion;
+	protected List<AssociatedPair> pairs;
+	protected List<Point2D_F64> observationCurrent;
+	protected List<Point3D_F64> worldPoints;
+	protected List<Point2D3D> observationPose;
+
+	/**
+	 * Creates the scene
+	 *
+	 * @param N Number of points
+	 * @param isPixels If true the observations are in pixels, otherwise normalized image coordinates
+	 * @param planar If true all the points will lie on a plane
+	 */
+	public void init( int N , boolean isPixels , boolean planar ) {
+		// define the camera's motion
+		motion = new Se3_F64();
+		motion.getR().set(RotationMatrixGenerator.eulerArbitrary(0, 1, 2, 0.5 , -0.2, 0.15));
+		motion.getT().set(0.1,-0.2,0.01);
+
+		// randomly generate points in space
+		if( planar ) {
+			worldPoints = new ArrayList<Point3D_F64>();
+			for( int i = 0; i < N; i++ ) {
+				double x = (rand.nextDouble()-0.5)*2;
+				double y = (rand.nextDouble()-0.5)*2;
+				worldPoints.add(new Point3D_F64(x, y, 3));
+			}
+		} else {
+			worldPoints = GeoTestingOps.randomPoints_F64(-1, 1, -1, 1, 2, 3, N, rand);
+		}
+
+		// transform points into second camera's reference frame
+		pairs = new ArrayList<AssociatedPair>();
+		observationCurrent = new ArrayList<Point2D_F64>();
+		observationPose = new ArrayList<Point2D3D>();
+
+		for(Point3D_F64 p1 : worldPoints) {
+			Point3D_F64 p2 = SePointOps_F64.transform(motion, p1, null);
+
+			AssociatedPair pair = new AssociatedPair();
+			pair.p1.set(p1.x/p1.z,p1.y/p1.z);
+			pair.p2.set(p2.x/p2.z,p2.y/p2.z);
+			pairs.add(pair);
+
+			observationCurrent.add(pair.p2);
+			observationPose.add( new Point2D3D(pair.p2,p1));
+
+			if( isPixels ) {
+				PerspectiveOps.convertNormToPixel(K,pair.p1,pair.p1);
+				PerspectiveOps.convertNormToPixel(K,pair.p2,pair.p2);
+			}
+		}
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.interpolate;
+
+import boofcv.BenchmarkRunner;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageSingleBand;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH version of BenchmarkInterpolatePixel.  Interpolates a 300 x 300 grid of points one pixel at a time.  The
+ * image size doesn't change the amount of work done so only the image type is a parameter.
+ *
+ * @author Peter Abeles
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unchecked")
+public class JmhInterpolatePixel {
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+
+	// defines the region its interpolation
+	static float start = 10.1f;
+	static float end = 310.1f;
+	static float step = 1f;
+
+	@Param({"ImageUInt8","ImageFloat32"})
+	public String imageType;
+
+	InterpolatePixelS bilinear;
+	InterpolatePixelS nearest;
+	InterpolatePixelS bicubic;
+	InterpolatePixelS polynomial;
+
+	@Setup
+	public void setup() {
+		Class<ImageSingleBand> type = BenchmarkRunner.imageType(imageType);
+
+		ImageSingleBand image = GeneralizedImageOps.createSingleBand(type,imgWidth,imgHeight);
+		GImageMiscOps.fillUniform(image, new Random(234), 0, 200);
+
+		bilinear = FactoryInterpolation.bilinearPixelS(type);
+		nearest = FactoryInterpolation.nearestNeighborPixelS(type);
+		bicubic = FactoryInterpolation.bicubicS(-0.5f, 0, 255, type);
+		polynomial = FactoryInterpolation.polynomialS(5, 0, 255, type);
+
+		bilinear.setImage(image);
+		nearest.setImage(image);
+		bicubic.setImage(image);
+		polynomial.setImage(image);
+	}
+
+	private static float sumSafe( InterpolatePixelS alg ) {
+		float total = 0;
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				total += alg.get(x, y);
+		return total;
+	}
+
+	@Benchmark
+	public float bilinear_Safe() {
+		return sumSafe(bilinear);
+	}
+
+	@Benchmark
+	public float bilinear_UnSafe() {
+		float total = 0;
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				total += bilinear.get_fast(x, y);
+		return total;
+	}
+
+	@Benchmark
+	public float nearestNeighbor_Safe() {
+		return sumSafe(nearest);
+	}
+
+	@Benchmark
+	public float bicubicConvolution_Safe() {
+		return sumSafe(bicubic);
+	}
+
+	@Benchmark
+	public float polynomial_Safe() {
+		return sumSafe(polynomial);
+	}
+}
@@ -51,9 +51,6 @@ public class WrapPlanarSquareGridTarget implements PlanarCalibrationDetector {
 	// set of found points
 	List<Point2D_F64> ret;
 
-	ImageFloat32 work1 = new ImageFloat32(1,1);
-	ImageFloat32 work2 = new ImageFloat32(1,1);
-
 	ConfigSquareGrid config;
 
 	public WrapPlanarSquareGridTarget( ConfigSquareGrid config ) {
@@ -72,15 +69,10 @@ public class WrapPlanarSquareGridTarget implements PlanarCalibrationDetector {
 	@Override
 	public boolean process(ImageFloat32 input) {
 
-		work1.reshape(input.width,input.height);
-		work2.reshape(input.width,input.height);
-
 		binary.reshape(input.width,input.height);
 
 		if( config.binaryGlobalThreshold <= 0 ) {
-			work1.reshape(input.width,input.height);
-			work2.reshape(input.width,input.height);
-			GThresholdImageOps.adaptiveSquare(input, binary, config.binaryAdaptiveRadius, config.binaryAdaptiveBias, true, work1, work2);
+			GThresholdImageOps.adaptiveSquare(input, binary, config.binaryAdaptiveRadius, config.binaryAdaptiveBias, true);
 		} else
 			GThresholdImageOps.threshold(input, binary, config.binaryGlobalThreshold, true);
 
@@ -97,10 +97,6 @@ public class DetectChessCalibrationPoints<T extends ImageSingleBand, D extends I
 	private SearchLocalPeak<ImageFloat32> localPeak =
 			FactorySearchLocalPeak.meanShiftUniform(10, 1e-4f,ImageFloat32.class);
 
-	// work space for thresholding
-	private T work1;
-	private T work2;
-
 	// storage for selecting control points from QuadBlob graphs
 	private int indexes[] = new int[4];
 	private int values[] = new int[4];
@@ -126,9 +122,6 @@ public class DetectChessCalibrationPoints<T extends ImageSingleBand, D extends I
 
 		orderAlg = new OrderChessboardQuadBlobs(numCols,numRows);
 
-		work1 = GeneralizedImageOps.createSingleBand(imageType,1,1);
-		work2 = GeneralizedImageOps.createSingleBand(imageType,1,1);
-
 		derivX = GeneralizedImageOps.createSingleBand(derivType, 1, 1);
 		derivY = GeneralizedImageOps.createSingleBand(derivType, 1, 1);
 
@@ -221,9 +214,7 @@ public class DetectChessCalibrationPoints<T extends ImageSingleBand, D extends I
 	private boolean detectChessBoard(T gray ) {
 
 		if( userBinaryThreshold <= 0 ) {
-			work1.reshape(gray.width,gray.height);
-			work2.reshape(gray.width,gray.height);
-			GThresholdImageOps.adaptiveSquare(gray, binary, userAdaptiveRadius, userAdaptiveBias, true, work1, work2);
+			GThresholdImageOps.adaptiveSquare(gray, binary, userAdaptiveRadius, userAdaptiveBias, true);
 		} else {
 			GThresholdImageOps.threshold(gray, binary, userBinaryThreshold, true);
 		}
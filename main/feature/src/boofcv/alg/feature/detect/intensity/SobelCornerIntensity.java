@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.intensity;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Computes a {@link GradientCornerIntensity} directly from the input image.  The image gradient is found using
+ * a Sobel operator, then the same deformation matrix as {@link GradientCornerIntensity} is summed inside a
+ * square window and converted into a corner intensity.  Instead of writing the gradient and the summed
+ * products to full size images between each step, all the steps are done in a single pass down the image
+ * while only a few rows of intermediate results are kept in memory.  The gradient and Hessian can
+ * optionally be saved as a side effect.
+ * </p>
+ *
+ * <p>
+ * The results are the same as {@link boofcv.alg.filter.derivative.GradientSobel} with an extended border
+ * followed by {@link boofcv.alg.filter.derivative.HessianFromGradient#hessianSobel} and an unweighted
+ * corner intensity, up to floating point round off error.
+ * </p>
+ *
+ * @param <T> Input image type.
+ * @param <D> Image derivative type.
+ *
+ * @author Peter Abeles
+ */
+public interface SobelCornerIntensity<T extends ImageSingleBand, D extends ImageSingleBand>
+		extends FeatureIntensity<T>
+{
+	/**
+	 * Computes feature intensity image.  The gradient is only saved if derivX is not null and the Hessian
+	 * is only computed if derivXX is not null.
+	 *
+	 * @param image (Input) Image being processed.
+	 * @param derivX (Output) Image derivative along the x-axis.  Can be null.
+	 * @param derivY (Output) Image derivative along the y-axis.  Required if derivX is not null.
+	 * @param derivXX (Output) Second derivative x-x.  Can be null.
+	 * @param derivYY (Output) Second derivative y-y.  Required if derivXX is not null.
+	 * @param derivXY (Output) Second derivative x-y.  Required if derivXX is not null.
+	 * @param intensity (Output) Corner intensity image.
+	 */
+	public void process( T image , D derivX , D derivY , D derivXX , D derivYY , D derivXY ,
+						 ImageFloat32 intensity );
+}
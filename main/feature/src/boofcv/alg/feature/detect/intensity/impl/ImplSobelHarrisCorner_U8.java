@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+/**
+ * <p>
+ * Harris corner intensity, see {@link boofcv.alg.feature.detect.intensity.HarrisCornerIntensity}, computed
+ * directly from an input image using {@link ImplSobelSsdCorner_U8}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplSobelHarrisCorner_U8 extends ImplSobelSsdCorner_U8 {
+
+	// tuning parameter
+	float kappa;
+
+	public ImplSobelHarrisCorner_U8( int windowRadius , float kappa ) {
+		super(windowRadius);
+		this.kappa = kappa;
+	}
+
+	public void setKappa(float kappa) {
+		this.kappa = kappa;
+	}
+
+	public float getKappa() {
+		return kappa;
+	}
+
+	@Override
+	protected float computeIntensity() {
+		// det(A) - kappa*trace(A)^2
+		float totalXX = this.totalXX, totalYY = this.totalYY, totalXY = this.totalXY;
+		float trace = totalXX + totalYY;
+		return (totalXX * totalYY - totalXY * totalXY) - kappa * trace*trace;
+	}
+}
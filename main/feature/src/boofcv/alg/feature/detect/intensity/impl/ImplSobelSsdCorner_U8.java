@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.feature.detect.intensity.SobelCornerIntensity;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Implementation of {@link SobelCornerIntensity} for {@link ImageUInt8}.  All the sums are
+ * computed using integer arithmetic.  The image is processed one row at a time.
+ * For each row the Sobel gradient is computed and saved in a buffer which contains the three most recent rows.  From
+ * the gradient the sum of gradient products along the x-axis is computed and saved in another buffer with
+ * 2*radius+1 rows.  The sum along the y-axis is updated for each column by adding the new row and removing the row
+ * which just left the window.  Once enough rows have been processed the corner intensity is computed for the
+ * center row of the window.
+ * </p>
+ *
+ * <p>
+ * NOTE: Image borders are not processed.  The zeros in the image border need to be taken in account when
+ * extract features using algorithms such as non-max suppression.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class ImplSobelSsdCorner_U8 implements SobelCornerIntensity<ImageUInt8,ImageSInt16> {
+
+	// radius of detected features
+	protected int radius;
+
+	// image gradient for the three most recently processed rows
+	private int gradX[] = new int[1];
+	private int gradY[] = new int[1];
+
+	// sum of gradient products along the x-axis for each row inside the window
+	private int horizXX[] = new int[1];
+	private int horizXY[] = new int[1];
+	private int horizYY[] = new int[1];
+
+	// sum of gradient products inside the window for each column
+	private int tempXX[] = new int[1];
+	private int tempXY[] = new int[1];
+	private int tempYY[] = new int[1];
+
+	// storage for the second derivatives of a single row
+	private int rowA[] = new int[1];
+	private int rowB[] = new int[1];
+
+	// defines the A matrix, from which the eigenvalues are computed
+	protected int totalXX, totalYY, totalXY;
+
+	// used to keep track of where it is in the image
+	protected int x, y;
+
+	public ImplSobelSsdCorner_U8( int windowRadius ) {
+		this.radius = windowRadius;
+	}
+
+	/**
+	 * Computes the pixel's corner intensity.
+	 * @return corner intensity.
+	 */
+	protected abstract float computeIntensity();
+
+	@Override
+	public int getRadius() {
+		return radius;
+	}
+
+	@Override
+	public int getIgnoreBorder() {
+		return radius;
+	}
+
+	@Override
+	public void process(ImageUInt8 image,
+						ImageSInt16 derivX, ImageSInt16 derivY,
+						ImageSInt16 derivXX, ImageSInt16 derivYY, ImageSInt16 derivXY,
+						ImageFloat32 intensity ) {
+		InputSanityCheck.checkSameShape(image,intensity);
+		if( derivX != null )
+			InputSanityCheck.checkSameShape(image,derivX,derivY);
+		if( derivXX != null )
+			InputSanityCheck.checkSameShape(image,derivXX,derivYY,derivXY);
+
+		final int width = image.width;
+		final int height = image.height;
+		final int windowWidth = radius*2 + 1;
+
+		declareStorage(width,windowWidth);
+
+		// the corner intensity can only be computed if the window fits inside the image
+		boolean corners = width >= windowWidth && height >= windowWidth;
+
+		for( int row = 0; row < height; row++ ) {
+			int slot = (row % 3)*width;
+
+			int above = image.startIndex + Math.max(row-1,0)*image.stride;
+			int center = image.startIndex + row*image.stride;
+			int below = image.startIndex + Math.min(row+1,height-1)*image.stride;
+
+			sobel(image.data,above,center,below,width,gradX,slot,gradY,slot);
+
+			if( derivX != null ) {
+				copy(gradX,slot,derivX,row,width);
+				copy(gradY,slot,derivY,row,width);
+			}
+
+			// the Hessian needs the gradient in the row below, so it lags one row behind
+			if( derivXX != null && row > 0 )
+				hessian(row-1,width,height,derivXX,derivYY,derivXY);
+
+			if( corners ) {
+				horizontal(row,slot,width,windowWidth);
+				// once the window is full the intensity can be computed for its center row
+				if( row >= windowWidth-1 )
+					intensity(row-radius,width,intensity);
+			}
+		}
+
+		if( derivXX != null )
+			hessian(height-1,width,height,derivXX,derivYY,derivXY);
+	}
+
+	private void declareStorage( int width , int windowWidth ) {
+		if( gradX.length < width*3 ) {
+			gradX = new int[width*3];
+			gradY = new int[width*3];
+			tempXX = new int[width];
+			tempXY = new int[width];
+			tempYY = new int[width];
+			rowA = new int[width];
+			rowB = new int[width];
+		}
+		if( horizXX.length < width*windowWidth ) {
+			horizXX = new int[width*windowWidth];
+			horizXY = new int[width*windowWidth];
+			horizYY = new int[width*windowWidth];
+		}
+
+		// values are subtracted from these arrays as the window slides so they need to start at zero
+		Arrays.fill(horizXX,0);
+		Arrays.fill(horizXY,0);
+		Arrays.fill(horizYY,0);
+		Arrays.fill(tempXX,0);
+		Arrays.fill(tempXY,0);
+		Arrays.fill(tempYY,0);
+	}
+
+	/**
+	 * Computes the sum of gradient products along the x-axis for the most recent row, while taking advantage
+	 * of duplicate calculations for each window.  The sum inside the window for each column is updated by adding
+	 * the new row and removing the row it replaces in the buffer.
+	 */
+	private void horizontal( int row , int slot , int width , int windowWidth ) {
+		final int[] gradX = this.gradX, gradY = this.gradY;
+		final int[] hXX = horizXX, hXY = horizXY, hYY = horizYY;
+		final int[] tXX = tempXX, tXY = tempXY, tYY = tempYY;
+
+		int index = (row % windowWidth)*width;
+
+		int totalXX = 0, totalXY = 0, totalYY = 0;
+
+		for( int i = 0; i < windowWidth; i++ ) {
+			int dx = gradX[slot+i];
+			int dy = gradY[slot+i];
+
+			totalXX += dx*dx;
+			totalXY += dx*dy;
+			totalYY += dy*dy;
+		}
+
+		int h = index + radius;
+		tXX[radius] = tXX[radius] - hXX[h] + totalXX;
+		tXY[radius] = tXY[radius] - hXY[h] + totalXY;
+		tYY[radius] = tYY[radius] - hYY[h] + totalYY;
+
+		hXX[h] = totalXX;
+		hXY[h] = totalXY;
+		hYY[h] = totalYY;
+
+		final int endX = width - radius;
+		for( int col = radius+1; col < endX; col++ ) {
+			int dx = gradX[slot+col-radius-1];
+			int dy = gradY[slot+col-radius-1];
+
+			totalXX -= dx*dx;
+			totalXY -= dx*dy;
+			totalYY -= dy*dy;
+
+			dx = gradX[slot+col+radius];
+			dy = gradY[slot+col+radius];
+
+			totalXX += dx*dx;
+			totalXY += dx*dy;
+			totalYY += dy*dy;
+
+			h = index + col;
+			tXX[col] = tXX[col] - hXX[h] + totalXX;
+			tXY[col] = tXY[col] - hXY[h] + totalXY;
+			tYY[col] = tYY[col] - hYY[h] + totalYY;
+
+			hXX[h] = totalXX;
+			hXY[h] = totalXY;
+			hYY[h] = totalYY;
+		}
+	}
+
+	/**
+	 * Computes the corner intensity along a row using the sums inside the window
+	 */
+	private void intensity( int row , int width , ImageFloat32 intensity ) {
+		final int[] tXX = tempXX, tXY = tempXY, tYY = tempYY;
+		final float[] inten = intensity.data;
+
+		y = row;
+		int index = intensity.startIndex + row*intensity.stride + radius;
+		final int endX = width - radius;
+		for( int col = radius; col < endX; col++ ) {
+			totalXX = tXX[col];
+			totalXY = tXY[col];
+			totalYY = tYY[col];
+
+			x = col;
+			inten[index++] = computeIntensity();
+		}
+	}
+
+	/**
+	 * Computes the Hessian along a row by applying a Sobel operator to the gradient
+	 */
+	private void hessian( int row , int width , int height ,
+						  ImageSInt16 derivXX, ImageSInt16 derivYY, ImageSInt16 derivXY ) {
+		int above = (Math.max(row-1,0) % 3)*width;
+		int center = (row % 3)*width;
+		int below = (Math.min(row+1,height-1) % 3)*width;
+
+		sobel(gradX,above,center,below,width,rowA,rowB);
+		copy(rowA,0,derivXX,row,width);
+		copy(rowB,0,derivXY,row,width);
+
+		sobel(gradY,above,center,below,width,rowA,rowB);
+		copy(rowB,0,derivYY,row,width);
+	}
+
+	/**
+	 * Copies a row into the derivative image
+	 */
+	private static void copy( int[] src , int srcIndex , ImageSInt16 dst , int row , int width ) {
+		int index = dst.startIndex + row*dst.stride;
+		for( int i = 0; i < width; i++ ) {
+			dst.data[index++] = (short)src[srcIndex++];
+		}
+	}
+
+	/**
+	 * Applies the Sobel operator to a single row.  Pixels outside the image are handled by extending the border.
+	 *
+	 * @param data Image data
+	 * @param above Index of the first pixel in the row above
+	 * @param center Index of the first pixel in the row being processed
+	 * @param below Index of the first pixel in the row below
+	 * @param width Number of pixels in a row
+	 */
+	protected static void sobel( byte[] data , int above , int center , int below , int width ,
+								 int[] outX , int indexX , int[] outY , int indexY ) {
+		sobel(data,above,center,below,0,0,Math.min(1,width-1),outX,indexX,outY,indexY);
+
+		if( width > 2 ) {
+			// The Sobel kernel is separable.  The column sum and difference are computed once for each column
+			// and saved for the next two pixels
+			int a = data[above] & 0xFF, c = data[below] & 0xFF;
+			int s0 = a + 2*(data[center] & 0xFF) + c;
+			int d0 = c - a;
+			a = data[above+1] & 0xFF; c = data[below+1] & 0xFF;
+			int s1 = a + 2*(data[center+1] & 0xFF) + c;
+			int d1 = c - a;
+
+			for( int x = 1; x < width-1; x++ ) {
+				a = data[above+x+1] & 0xFF;
+				c = data[below+x+1] & 0xFF;
+				int s2 = a + 2*(data[center+x+1] & 0xFF) + c;
+				int d2 = c - a;
+
+				outX[indexX+x] = s2 - s0;
+				outY[indexY+x] = d0 + 2*d1 + d2;
+
+				s0 = s1; s1 = s2;
+				d0 = d1; d1 = d2;
+			}
+		}
+
+		if( width > 1 ) {
+			int x = width-1;
+			sobel(data,above,center,below,x-1,x,x,outX,indexX+x,outY,indexY+x);
+		}
+	}
+
+	/**
+	 * Applies the Sobel operator to a single pixel with the specified column indexes
+	 */
+	private static void sobel( byte[] data , int above , int center , int below ,
+							   int x0 , int x1 , int x2 ,
+							   int[] outX , int indexX , int[] outY , int indexY ) {
+		int a11 = data[above+x0] & 0xFF, a12 = data[above+x1] & 0xFF, a13 = data[above+x2] & 0xFF;
+		int a21 = data[center+x0] & 0xFF,                             a23 = data[center+x2] & 0xFF;
+		int a31 = data[below+x0] & 0xFF, a32 = data[below+x1] & 0xFF, a33 = data[below+x2] & 0xFF;
+
+		int v = a33 - a11;
+		int w = a31 - a13;
+
+		outY[indexY] = (a32 - a12) * 2 + v + w;
+		outX[indexX] = (a23 - a21) * 2 + v - w;
+	}
+
+	/**
+	 * Applies the Sobel operator to a single row of the gradient.  Pixels outside the image are handled by
+	 * extending the border.
+	 */
+	protected static void sobel( int[] data , int above , int center , int below , int width ,
+								 int[] outX , int[] outY ) {
+		sobel(data,above,center,below,0,0,Math.min(1,width-1),outX,outY);
+
+		if( width > 2 ) {
+			// The Sobel kernel is separable.  The column sum and difference are computed once for each column
+			// and saved for the next two pixels
+			int a = data[above], c = data[below];
+			int s0 = a + 2*data[center] + c;
+			int d0 = c - a;
+			a = data[above+1]; c = data[below+1];
+			int s1 = a + 2*data[center+1] + c;
+			int d1 = c - a;
+
+			for( int x = 1; x < width-1; x++ ) {
+				a = data[above+x+1];
+				c = data[below+x+1];
+				int s2 = a + 2*data[center+x+1] + c;
+				int d2 = c - a;
+
+				outX[x] = s2 - s0;
+				outY[x] = d0 + 2*d1 + d2;
+
+				s0 = s1; s1 = s2;
+				d0 = d1; d1 = d2;
+			}
+		}
+
+		if( width > 1 ) {
+			int x = width-1;
+			sobel(data,above,center,below,x-1,x,x,outX,outY);
+		}
+	}
+
+	/**
+	 * Applies the Sobel operator to a single gradient pixel with the specified column indexes
+	 */
+	private static void sobel( int[] data , int above , int center , int below ,
+							   int x0 , int x1 , int x2 ,
+							   int[] outX , int[] outY ) {
+		int a11 = data[above+x0], a12 = data[above+x1], a13 = data[above+x2];
+		int a21 = data[center+x0],                      a23 = data[center+x2];
+		int a31 = data[below+x0], a32 = data[below+x1], a33 = data[below+x2];
+
+		int v = a33 - a11;
+		int w = a31 - a13;
+
+		outY[x1] = (a32 - a12) * 2 + v + w;
+		outX[x1] = (a23 - a21) * 2 + v - w;
+	}
+}
@@ -267,4 +267,18 @@ public class GeneralFeatureDetector<I extends ImageSingleBand, D extends ImageSi
 	public void setSearchRadius( int radius ) {
 		extractor.setSearchRadius(radius);
 	}
+
+	/**
+	 * Returns the search radius for the feature
+	 */
+	public int getSearchRadius() {
+		return extractor.getSearchRadius();
+	}
+
+	/**
+	 * Returns the number of pixels along the image border which are ignored
+	 */
+	public int getIgnoreBorder() {
+		return extractor.getIgnoreBorder();
+	}
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.struct.ImageRectangle;
+import boofcv.struct.ImageTileGrid;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.TiledImage;
+import georegression.struct.point.Point2D_I16;
+
+/**
+ * <p>
+ * Detects features in a {@link TiledImage} by running {@link EasyGeneralFeatureDetector} on one tile at a time.
+ * Each tile is read along with a halo of pixels around it and only features inside the tile's core are kept.  If
+ * the halo is at least as large as {@link #selectHalo} then the same features are found as when the whole
+ * image is processed at once.
+ * </p>
+ *
+ * <p>
+ * The maximum number of features is applied to each tile individually and not to the whole image, so a
+ * threshold should be used instead.  Feature coordinates are stored using shorts, limiting the image's size
+ * to 32767 pixels along each axis.  If {@link BoofConcurrency#USE_CONCURRENT} is true then tiles are processed
+ * concurrently and each thread has its own detector.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class TiledGeneralFeatureDetector<T extends ImageSingleBand, D extends ImageSingleBand> {
+
+	// creates the detector used by each thread
+	WorkerFactory<EasyGeneralFeatureDetector<T,D>> factory;
+
+	int halo;
+	int tileSize;
+
+	// source of tile images
+	ImagePool pool = new ImagePool();
+
+	// features found across the whole image
+	QueueCorner maximums = new QueueCorner(10);
+	QueueCorner minimums = new QueueCorner(10);
+
+	/**
+	 * Configures the detector
+	 *
+	 * @param factory Creates the detector which is applied to each tile
+	 * @param halo Number of pixels around each tile's core that is read.  See {@link #selectHalo}
+	 * @param tileSize Width and height of each tile's core
+	 */
+	public TiledGeneralFeatureDetector( WorkerFactory<EasyGeneralFeatureDetector<T, D>> factory ,
+										int halo , int tileSize ) {
+		if( halo < 0 )
+			throw new IllegalArgumentException("Halo must be >= 0");
+		this.factory = factory;
+		this.halo = halo;
+		this.tileSize = tileSize;
+	}
+
+	/**
+	 * Returns the minimum halo needed for a tile to have the same features as the whole image.  Intensity values
+	 * are invalid inside the detector's ignored border and near the tile's edge where the derivatives are wrong,
+	 * and non-maximum suppression needs valid values inside its search radius.
+	 *
+	 * @param detector The feature detector
+	 * @param derivativeRadius Number of pixels away the image derivatives read, e.g. 1 for a Sobel gradient and
+	 *                         2 if the hessian is also computed with Sobel.
+	 * @return Halo in pixels
+	 */
+	public static int selectHalo( GeneralFeatureDetector detector , int derivativeRadius ) {
+		return detector.getIgnoreBorder() + detector.getSearchRadius() + derivativeRadius;
+	}
+
+	/**
+	 * Detects features inside the image
+	 *
+	 * @param image The image.  Not modified.
+	 */
+	public void detect( final TiledImage<T> image ) {
+		if( image.getWidth() > Short.MAX_VALUE || image.getHeight() > Short.MAX_VALUE )
+			throw new IllegalArgumentException("Image is too large for QueueCorner");
+
+		final ImageTileGrid grid = new ImageTileGrid(image.getWidth(), image.getHeight(),
+				tileSize, tileSize, halo, halo);
+
+		final int numTiles = grid.getNumTiles();
+		final QueueCorner tileMaximums[] = new QueueCorner[numTiles];
+		final QueueCorner tileMinimums[] = new QueueCorner[numTiles];
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(0, numTiles, 1, new IntRangeTask() {
+				@Override
+				public void process(int start, int end) {
+					processTiles(grid, start, end, image, tileMaximums, tileMinimums);
+				}
+			});
+		} else {
+			processTiles(grid, 0, numTiles, image, tileMaximums, tileMinimums);
+		}
+
+		// combine in the order of the tiles so that the results don't depend on the number of threads
+		maximums.reset();
+		minimums.reset();
+		for( int i = 0; i < numTiles; i++ ) {
+			addAll(tileMaximums[i], maximums);
+			addAll(tileMinimums[i], minimums);
+		}
+	}
+
+	/**
+	 * Detects features in tiles inside the specified range using a new instance of the detector
+	 */
+	protected void processTiles( ImageTileGrid grid , int start , int end , TiledImage<T> image ,
+								 QueueCorner tileMaximums[] , QueueCorner tileMinimums[] ) {
+		EasyGeneralFeatureDetector<T,D> detector = factory.create();
+
+		ImageRectangle core = new ImageRectangle();
+		ImageRectangle region = new ImageRectangle();
+
+		for( int tile = start; tile < end; tile++ ) {
+			grid.getCore(tile, core);
+			grid.getHalo(tile, region);
+
+			T tileImage = pool.borrow(image.getImageType(), region.getWidth(), region.getHeight());
+			try {
+				image.read(region.x0, region.y0, tileImage);
+				detector.detect(tileImage, null);
+
+				tileMaximums[tile] = insideCore(detector.getMaximums(), region, core);
+				tileMinimums[tile] = insideCore(detector.getMinimums(), region, core);
+			} finally {
+				pool.recycle(tileImage);
+			}
+		}
+	}
+
+	/**
+	 * Returns the features inside the core in image coordinates
+	 */
+	private static QueueCorner insideCore( QueueCorner found , ImageRectangle region , ImageRectangle core ) {
+		QueueCorner ret = new QueueCorner(found.size + 1);
+		for( int i = 0; i < found.size; i++ ) {
+			Point2D_I16 p = found.get(i);
+			int x = p.x + region.x0;
+			int y = p.y + region.y0;
+			if( x >= core.x0 && x < core.x1 && y >= core.y0 && y < core.y1 )
+				ret.add(x, y);
+		}
+		return ret;
+	}
+
+	private static void addAll( QueueCorner src , QueueCorner dst ) {
+		for( int i = 0; i < src.size; i++ ) {
+			dst.add(src.get(i));
+		}
+	}
+
+	/**
+	 * Local maximums found in the most recently processed image
+	 */
+	public QueueCorner getMaximums() {
+		return maximums;
+	}
+
+	/**
+	 * Local minimums found in the most recently processed image
+	 */
+	public QueueCorner getMinimums() {
+		return minimums;
+	}
+
+	public int getHalo() {
+		return halo;
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public ImagePool getImagePool() {
+		return pool;
+	}
+
+	public void setImagePool(ImagePool pool) {
+		this.pool = pool;
+	}
+}
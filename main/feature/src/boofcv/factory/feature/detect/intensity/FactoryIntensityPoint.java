@@ -24,6 +24,7 @@ import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HarrisCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
 import boofcv.alg.feature.detect.intensity.ShiTomasiCornerIntensity;
+import boofcv.alg.feature.detect.intensity.SobelCornerIntensity;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.struct.image.ImageSingleBand;
 
@@ -88,6 +89,40 @@ public class FactoryIntensityPoint {
 		return new WrapperGradientCornerIntensity<I, D>(alg);
 	}
 
+	/**
+	 * Feature intensity for Harris corner detector which computes the image gradient internally in a single pass.
+	 * Results are the same as {@link #harris} with an unweighted window and a Sobel gradient.
+	 *
+	 * @param windowRadius Size of the feature it is detects, Try 2.
+	 * @param kappa Tuning parameter, typically a small number around 0.04
+	 * @param imageType Type of input image.
+	 * @param <I> Input image type.
+	 * @param <D> Derivative type.
+	 * @return Harris feature intensity
+	 */
+	public static <I extends ImageSingleBand, D extends ImageSingleBand>
+	GeneralFeatureIntensity<I,D>  harrisSobel(int windowRadius, float kappa, Class<I> imageType)
+	{
+		SobelCornerIntensity<I,D> alg =  FactoryIntensityPointAlg.harrisSobel(windowRadius, kappa, imageType);
+		return new WrapperSobelCornerIntensity<I, D>(alg);
+	}
+
+	/**
+	 * Feature intensity for KLT corner detector which computes the image gradient internally in a single pass.
+	 * Results are the same as {@link #shiTomasi} with an unweighted window and a Sobel gradient.
+	 *
+	 * @param windowRadius Size of the feature it detects, Try 2.
+	 * @param imageType Type of input image.
+	 * @param <I> Input image type.
+	 * @param <D> Derivative type.
+	 * @return KLT feature intensity
+	 */
+	public static <I extends ImageSingleBand, D extends ImageSingleBand>
+	GeneralFeatureIntensity<I,D> shiTomasiSobel(int windowRadius, Class<I> imageType) {
+		SobelCornerIntensity<I,D> alg =  FactoryIntensityPointAlg.shiTomasiSobel(windowRadius, imageType);
+		return new WrapperSobelCornerIntensity<I, D>(alg);
+	}
+
 	/**
 	 * Feature intensity for Kitchen and Rosenfeld corner detector.  See {@link boofcv.alg.feature.detect.intensity.KitRosCornerIntensity} for more details.
 	 *
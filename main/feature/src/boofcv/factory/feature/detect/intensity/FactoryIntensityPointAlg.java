@@ -21,6 +21,7 @@ package boofcv.factory.feature.detect.intensity;
 import boofcv.alg.feature.detect.intensity.FastCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HarrisCornerIntensity;
 import boofcv.alg.feature.detect.intensity.ShiTomasiCornerIntensity;
+import boofcv.alg.feature.detect.intensity.SobelCornerIntensity;
 import boofcv.alg.feature.detect.intensity.impl.*;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
@@ -123,4 +124,42 @@ public class FactoryIntensityPointAlg {
 		} else
 			throw new IllegalArgumentException("Unknown image type "+derivType);
 	}
+
+	/**
+	 * Creates a {@link SobelCornerIntensity} which computes the Harris corner intensity directly from the input image.
+	 *
+	 * @param windowRadius Size of the feature it is detects, Try 2.
+	 * @param kappa Tuning parameter, typically a small number around 0.04
+	 * @param imageType Type of input image.
+	 * @return Harris corner
+	 */
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	SobelCornerIntensity<T,D> harrisSobel(int windowRadius, float kappa, Class<T> imageType)
+	{
+		if( imageType == ImageFloat32.class )
+			return (SobelCornerIntensity<T,D>)new ImplSobelHarrisCorner_F32(windowRadius,kappa);
+		else if( imageType == ImageUInt8.class )
+			return (SobelCornerIntensity<T,D>)new ImplSobelHarrisCorner_U8(windowRadius,kappa);
+		else
+			throw new IllegalArgumentException("Unknown image type "+imageType);
+	}
+
+	/**
+	 * Creates a {@link SobelCornerIntensity} which computes the Shi-Tomasi corner intensity directly from the
+	 * input image.
+	 *
+	 * @param windowRadius Size of the feature it detects, Try 2.
+	 * @param imageType Type of input image.
+	 * @return KLT corner
+	 */
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	SobelCornerIntensity<T,D> shiTomasiSobel(int windowRadius, Class<T> imageType)
+	{
+		if( imageType == ImageFloat32.class )
+			return (SobelCornerIntensity<T,D>)new ImplSobelShiTomasiCorner_F32(windowRadius);
+		else if( imageType == ImageUInt8.class )
+			return (SobelCornerIntensity<T,D>)new ImplSobelShiTomasiCorner_U8(windowRadius);
+		else
+			throw new IllegalArgumentException("Unknown image type "+imageType);
+	}
 }
@@ -87,6 +87,44 @@ public class FactoryDetectPoint {
 		return createGeneral(cornerIntensity, configDetector);
 	}
 
+	/**
+	 * Detects Harris corners.  The Sobel gradient and corner intensity are computed together in a single pass
+	 * through the image, avoiding the need to save the gradient.  Produces the same results as
+	 * {@link #createHarris} with an unweighted window.
+	 *
+	 * @param configDetector Configuration for feature detector.
+	 * @param imageType       Type of input image.
+	 * @see boofcv.alg.feature.detect.intensity.SobelCornerIntensity
+	 */
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	GeneralFeatureDetector<T, D> createHarrisSobel(ConfigGeneralDetector configDetector, Class<T> imageType) {
+		if( configDetector == null)
+			configDetector = new ConfigGeneralDetector();
+
+		GeneralFeatureIntensity<T, D> intensity =
+				FactoryIntensityPoint.harrisSobel(configDetector.radius, 0.04f, imageType);
+		return createGeneral(intensity, configDetector);
+	}
+
+	/**
+	 * Detects Shi-Tomasi corners.  The Sobel gradient and corner intensity are computed together in a single pass
+	 * through the image, avoiding the need to save the gradient.  Produces the same results as
+	 * {@link #createShiTomasi} with an unweighted window.
+	 *
+	 * @param configDetector Configuration for feature detector.
+	 * @param imageType       Type of input image.
+	 * @see boofcv.alg.feature.detect.intensity.SobelCornerIntensity
+	 */
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	GeneralFeatureDetector<T, D> createShiTomasiSobel(ConfigGeneralDetector configDetector, Class<T> imageType) {
+		if( configDetector == null)
+			configDetector = new ConfigGeneralDetector();
+
+		GeneralFeatureIntensity<T, D> intensity =
+				FactoryIntensityPoint.shiTomasiSobel(configDetector.radius, imageType);
+		return createGeneral(intensity, configDetector);
+	}
+
 	/**
 	 * Detects Kitchen and Rosenfeld corners.
 	 *
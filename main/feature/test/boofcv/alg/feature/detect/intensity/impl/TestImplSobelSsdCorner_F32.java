@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.intensity.impl;
+
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.filter.derivative.HessianFromGradient;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.BoofDefaults;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplSobelSsdCorner_F32 {
+
+	Random rand = new Random(234);
+
+	int width = 25;
+	int height = 30;
+
+	/**
+	 * Compare against computing the gradient, Hessian, and intensity in separate steps
+	 */
+	@Test
+	public void compareToSeparateSteps() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			compare(width,height,radius,false);
+			compare(width,height,radius,true);
+		}
+	}
+
+	/**
+	 * Images which are smaller than or almost the same size as the window
+	 */
+	@Test
+	public void smallImages() {
+		compare(1,1,2,false);
+		compare(2,3,2,false);
+		compare(4,9,2,false);
+		compare(9,4,2,false);
+		compare(5,5,2,false);
+		compare(6,5,2,false);
+	}
+
+	/**
+	 * The same instance should produce the same results when the image shape changes
+	 */
+	@Test
+	public void changeShape() {
+		ImplSobelShiTomasiCorner_F32 alg = new ImplSobelShiTomasiCorner_F32(2);
+
+		for( int i = 0; i < 3; i++ ) {
+			ImageFloat32 input = new ImageFloat32(width-i*5,height-i*3);
+			ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			ImageFloat32 expected = new ImageFloat32(input.width,input.height);
+			ImageFloat32 found = new ImageFloat32(input.width,input.height);
+
+			new ImplSobelShiTomasiCorner_F32(2).process(input,null,null,null,null,null,expected);
+			alg.process(input,null,null,null,null,null,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	private void compare( int width , int height , int radius , boolean subimage ) {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		ImageFloat32 derivX = new ImageFloat32(width,height);
+		ImageFloat32 derivY = new ImageFloat32(width,height);
+		ImageFloat32 derivXX = new ImageFloat32(width,height);
+		ImageFloat32 derivYY = new ImageFloat32(width,height);
+		ImageFloat32 derivXY = new ImageFloat32(width,height);
+
+		GradientSobel.process(input,derivX,derivY,BoofDefaults.borderDerivative_F32());
+		HessianFromGradient.hessianSobel(derivX,derivY,derivXX,derivYY,derivXY,BoofDefaults.borderDerivative_F32());
+
+		ImageFloat32 expectedShi = new ImageFloat32(width,height);
+		ImageFloat32 expectedHarris = new ImageFloat32(width,height);
+		if( width >= radius*2+1 && height >= radius*2+1 ) {
+			new ImplShiTomasiCorner_F32(radius).process(derivX,derivY,expectedShi);
+			new ImplHarrisCorner_F32(radius,0.04f).process(derivX,derivY,expectedHarris);
+		}
+
+		ImageFloat32 foundX = new ImageFloat32(width,height);
+		ImageFloat32 foundY = new ImageFloat32(width,height);
+		ImageFloat32 foundXX = new ImageFloat32(width,height);
+		ImageFloat32 foundYY = new ImageFloat32(width,height);
+		ImageFloat32 foundXY = new ImageFloat32(width,height);
+		ImageFloat32 foundShi = new ImageFloat32(width,height);
+		ImageFloat32 foundHarris = new ImageFloat32(width,height);
+
+		if( subimage ) {
+			input = BoofTesting.createSubImageOf(input);
+			foundX = BoofTesting.createSubImageOf(foundX);
+			foundY = BoofTesting.createSubImageOf(foundY);
+			foundXX = BoofTesting.createSubImageOf(foundXX);
+			foundYY = BoofTesting.createSubImageOf(foundYY);
+			foundXY = BoofTesting.createSubImageOf(foundXY);
+			foundShi = BoofTesting.createSubImageOf(foundShi);
+		}
+
+		ImplSobelShiTomasiCorner_F32 alg = new ImplSobelShiTomasiCorner_F32(radius);
+		alg.process(input,foundX,foundY,foundXX,foundYY,foundXY,foundShi);
+
+		BoofTesting.assertEquals(derivX,foundX,1e-4);
+		BoofTesting.assertEquals(derivY,foundY,1e-4);
+		BoofTesting.assertEquals(derivXX,foundXX,1e-4);
+		BoofTesting.assertEquals(derivYY,foundYY,1e-4);
+		BoofTesting.assertEquals(derivXY,foundXY,1e-4);
+		checkIntensity(expectedShi, foundShi);
+
+		// don't compute any of the derivatives
+		new ImplSobelHarrisCorner_F32(radius,0.04f).process(input,null,null,null,null,null,foundHarris);
+		checkIntensity(expectedHarris, foundHarris);
+	}
+
+	private void checkIntensity( ImageFloat32 expected , ImageFloat32 found ) {
+		for( int y = 0; y < expected.height; y++ ) {
+			for( int x = 0; x < expected.width; x++ ) {
+				float e = expected.get(x,y);
+				assertEquals(e,found.get(x,y),Math.max(1,Math.abs(e))*1e-3f);
+			}
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.interest.ConfigGeneralDetector;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.factory.feature.detect.interest.FactoryDetectPoint;
+import boofcv.struct.QueueCorner;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.TiledImageArray;
+import georegression.struct.point.Point2D_I16;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTiledGeneralFeatureDetector {
+
+	Random rand = new Random(234);
+	int width = 80;
+	int height = 65;
+
+	WorkerFactory<EasyGeneralFeatureDetector<ImageUInt8,ImageSInt16>> factory =
+			new WorkerFactory<EasyGeneralFeatureDetector<ImageUInt8, ImageSInt16>>() {
+		@Override
+		public EasyGeneralFeatureDetector<ImageUInt8, ImageSInt16> create() {
+			return new EasyGeneralFeatureDetector<ImageUInt8, ImageSInt16>(createDetector(),
+					ImageUInt8.class, ImageSInt16.class);
+		}
+	};
+
+	private GeneralFeatureDetector<ImageUInt8, ImageSInt16> createDetector() {
+		ConfigGeneralDetector config = new ConfigGeneralDetector(-1, 2, 10, 1, true);
+		return FactoryDetectPoint.createShiTomasi(config, false, ImageSInt16.class);
+	}
+
+	/**
+	 * The same features should be found as when the whole image is processed
+	 */
+	@Test
+	public void compareToWholeImage() {
+		ImageUInt8 image = new ImageUInt8(width, height);
+		ImageMiscOps.fillUniform(image, rand, 0, 200);
+
+		EasyGeneralFeatureDetector<ImageUInt8, ImageSInt16> whole = factory.create();
+		whole.detect(image, null);
+		Set<Integer> expected = toSet(whole.getMaximums());
+		assertTrue(expected.size() > 10);
+
+		int halo = TiledGeneralFeatureDetector.selectHalo(createDetector(), 1);
+		for( int tileSize : new int[]{10,23,100} ) {
+			TiledGeneralFeatureDetector<ImageUInt8, ImageSInt16> alg =
+					new TiledGeneralFeatureDetector<ImageUInt8, ImageSInt16>(factory, halo, tileSize);
+			alg.detect(new TiledImageArray<ImageUInt8>(image));
+
+			assertEquals(expected.size(), alg.getMaximums().size);
+			assertEquals(expected, toSet(alg.getMaximums()));
+		}
+	}
+
+	@Test
+	public void concurrent() {
+		boolean prevUse = BoofConcurrency.USE_CONCURRENT;
+		int prevThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.USE_CONCURRENT = true;
+		BoofConcurrency.setMaxThreads(4);
+		try {
+			compareToWholeImage();
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = prevUse;
+			BoofConcurrency.setMaxThreads(prevThreads);
+		}
+	}
+
+	private Set<Integer> toSet( QueueCorner corners ) {
+		Set<Integer> ret = new HashSet<Integer>();
+		for( int i = 0; i < corners.size; i++ ) {
+			Point2D_I16 p = corners.get(i);
+			ret.add(p.y*width + p.x);
+		}
+		return ret;
+	}
+}
@@ -30,6 +30,7 @@ import boofcv.misc.ProfileOperation;
 import boofcv.struct.distort.PixelTransform_F32;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
 import georegression.struct.homo.Homography2D_F32;
 
 import java.util.Random;
@@ -108,6 +109,23 @@ public class BenchmarkImageDistort<T extends ImageSingleBand> {
 		}
 	}
 
+	public class BilinearFixed_U8 extends PerformerBase {
+		ImageDistort<ImageUInt8> alg;
+
+		public BilinearFixed_U8( Homography2D_F32 homography , boolean cached ) {
+			PixelTransform_F32 tran = new PixelTransformHomography_F32(homography);
+			ImageBorder<ImageUInt8> border = FactoryImageBorder.general(ImageUInt8.class, BorderType.EXTENDED);
+
+			alg = FactoryDistort.distortBilinearFixed_U8(border,cached);
+			alg.setModel(tran);
+		}
+
+		@Override
+		public void process() {
+			alg.apply((ImageUInt8)src_F32, (ImageUInt8)dst_F32);
+		}
+	}
+
 	private void benchmark() {
 		Random rand = new Random(234);
 
@@ -123,6 +141,11 @@ public class BenchmarkImageDistort<T extends ImageSingleBand> {
 		ProfileOperation.printOpsPerSec(new HomographyBilinear_F32(affine),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new HomographyBilinearCrop_F32(affine),TEST_TIME);
 
+		if( imageType == ImageUInt8.class ) {
+			ProfileOperation.printOpsPerSec(new BilinearFixed_U8(affine,true),TEST_TIME);
+			ProfileOperation.printOpsPerSec(new BilinearFixed_U8(affine,false),TEST_TIME);
+		}
+
 	}
 
 
@@ -130,5 +153,9 @@ public class BenchmarkImageDistort<T extends ImageSingleBand> {
 		BenchmarkImageDistort benchmark = new BenchmarkImageDistort(ImageFloat32.class);
 
 		benchmark.benchmark();
+
+		benchmark = new BenchmarkImageDistort(ImageUInt8.class);
+
+		benchmark.benchmark();
 	}
 }
@@ -59,7 +59,13 @@ public class BenchmarkThresholding extends SimpleBenchmark {
 
 	public int timeAdaptiveSquare(int reps) {
 		for( int i = 0; i < reps; i++ )
-			ThresholdImageOps.adaptiveSquare(input, output_U8, 20,0, true,work,work2);
+			ThresholdImageOps.adaptiveSquare(input, output_U8, 20,0, true);
+		return 0;
+	}
+
+	public int timeAdaptiveBlockMinMax(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ThresholdImageOps.adaptiveBlockMinMax(input, output_U8, 20, 10, true);
 		return 0;
 	}
 
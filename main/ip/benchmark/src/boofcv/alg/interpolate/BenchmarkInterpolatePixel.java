@@ -49,6 +49,12 @@ public class BenchmarkInterpolatePixel {
 	static float end = 310.1f;
 	static float step = 1f;
 
+	// the same points as the loops above, but stored in arrays for batch interpolation
+	static float pointsX[];
+	static float pointsY[];
+	static float values[];
+	static int numPoints;
+
 	public static class Bilinear_Safe_F32 extends PerformerBase {
 		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
 
@@ -71,6 +77,24 @@ public class BenchmarkInterpolatePixel {
 		}
 	}
 
+	public static class Bilinear_Batch_F32 extends PerformerBase {
+		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
+
+		@Override
+		public void process() {
+			alg.get(pointsX, pointsY, values, numPoints);
+		}
+	}
+
+	public static class Bilinear_BatchUnSafe_F32 extends PerformerBase {
+		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
+
+		@Override
+		public void process() {
+			alg.get_fast(pointsX, pointsY, values, numPoints);
+		}
+	}
+
 	public static class NearestNeighbor_Safe_F32 extends PerformerBase {
 		NearestNeighborPixel_F32 alg = new NearestNeighborPixel_F32(imgFloat32);
 
@@ -106,6 +130,35 @@ public class BenchmarkInterpolatePixel {
 		}
 	}
 
+	public static class Polynomial_Batch_F32 extends PerformerBase {
+		ImplPolynomialPixel_F32 alg = new ImplPolynomialPixel_F32(5,0,255);
+
+		@Override
+		public void process() {
+			alg.setImage(imgFloat32);
+			alg.get(pointsX, pointsY, values, numPoints);
+		}
+	}
+
+	private static void createPoints() {
+		numPoints = 0;
+		for (float x = start; x <= end; x += step)
+			for (float y = start; y <= end; y += step)
+				numPoints++;
+
+		pointsX = new float[numPoints];
+		pointsY = new float[numPoints];
+		values = new float[numPoints];
+
+		int index = 0;
+		for (float x = start; x <= end; x += step) {
+			for (float y = start; y <= end; y += step) {
+				pointsX[index] = x;
+				pointsY[index++] = y;
+			}
+		}
+	}
+
 	public static void main(String args[]) {
 		imgInt8 = new ImageUInt8(imgWidth, imgHeight);
 		imgFloat32 = new ImageFloat32(imgWidth, imgHeight);
@@ -113,14 +166,18 @@ public class BenchmarkInterpolatePixel {
 		Random rand = new Random(234);
 		ImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
 		ImageMiscOps.fillUniform(imgFloat32, rand, 0, 200);
+		createPoints();
 
 		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
 		System.out.println();
 
 		ProfileOperation.printOpsPerSec(new Bilinear_Safe_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Bilinear_UnSafe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Bilinear_Batch_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Bilinear_BatchUnSafe_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new NearestNeighbor_Safe_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new BilinearConvolution_Safe_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Polynomial_Safe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Polynomial_Batch_F32(), TEST_TIME);
 	}
 }
@@ -38,6 +38,7 @@ public class BenchmarkFastFourierTransform {
 
 	static ImageFloat32 input = new ImageFloat32(width,height);
 	static InterleavedF32 fourier = new InterleavedF32(width,height,2);
+	static InterleavedF32 fourierHalf = new InterleavedF32(width/2+1,height,2);
 	static ImageFloat32 output = new ImageFloat32(width,height);
 
 
@@ -52,6 +53,17 @@ public class BenchmarkFastFourierTransform {
 		}
 	}
 
+	public static class ComputeHalfFFT extends PerformerBase {
+
+		DiscreteFourierTransform dft = DiscreteFourierTransformOps.createTransformF32();
+
+		@Override
+		public void process() {
+			dft.forwardHalf(input,fourierHalf);
+			dft.inverseHalf(fourierHalf,output);
+		}
+	}
+
 	public static void main( String args[] ) {
 
 		Random rand = new Random(234);
@@ -61,5 +73,6 @@ public class BenchmarkFastFourierTransform {
 		System.out.println();
 
 		ProfileOperation.printOpsPerSec(new ComputeFFT(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new ComputeHalfFFT(), TEST_TIME);
 	}
 }
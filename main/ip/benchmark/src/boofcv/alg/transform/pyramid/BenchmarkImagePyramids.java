@@ -20,6 +20,7 @@ package boofcv.alg.transform.pyramid;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.factory.transform.pyramid.FactoryPyramid;
@@ -50,6 +51,8 @@ public class BenchmarkImagePyramids {
 
 	static PyramidDiscrete<ImageFloat32> pyramidD;
 	static PyramidFloat<ImageFloat32> pyramidF;
+	static PyramidDiscrete<ImageFloat32> pyramidD_MT;
+	static PyramidFloat<ImageFloat32> pyramidF_MT;
 
 	static Class<ImageFloat32> imageType = ImageFloat32.class;
 
@@ -69,6 +72,22 @@ public class BenchmarkImagePyramids {
 		}
 	}
 
+	public static class Float_MT_F32 extends PerformerBase {
+
+		@Override
+		public void process() {
+			pyramidF_MT.process(input);
+		}
+	}
+
+	public static class Discrete_MT_F32 extends PerformerBase {
+
+		@Override
+		public void process() {
+			pyramidD_MT.process(input);
+		}
+	}
+
 	private static void createUpdate() {
 		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1.0,2);
 		pyramidD = new PyramidDiscreteSampleBlur<ImageFloat32>(kernel,2,ImageFloat32.class,true,scalesD);
@@ -76,6 +95,11 @@ public class BenchmarkImagePyramids {
 		InterpolatePixelS<ImageFloat32> interp = FactoryInterpolation.bilinearPixelS(ImageFloat32.class);
 		pyramidF = FactoryPyramid.scaleSpacePyramid(scalesF, ImageFloat32.class);
 
+		pyramidD_MT = new PyramidDiscreteSampleBlur_MT<ImageFloat32>(kernel,2,ImageFloat32.class,true,scalesD);
+		BoofConcurrency.USE_CONCURRENT = true;
+		pyramidF_MT = FactoryPyramid.scaleSpacePyramid(scalesF, ImageFloat32.class);
+		BoofConcurrency.USE_CONCURRENT = false;
+
 	}
 
 	public static void main(String args[]) {
@@ -89,5 +113,7 @@ public class BenchmarkImagePyramids {
 
 		ProfileOperation.printOpsPerSec(new Float_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Discrete_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Float_MT_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Discrete_MT_F32(), TEST_TIME);
 	}
 }
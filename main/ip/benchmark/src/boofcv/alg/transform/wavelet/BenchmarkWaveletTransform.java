@@ -44,6 +44,9 @@ public class BenchmarkWaveletTransform {
 
 	static WaveletDescription<WlCoef_F32> desc_F32 = FactoryWaveletDaub.biorthogonal_F32(5, BorderType.REFLECT);
 	static WaveletDescription<WlCoef_I32> desc_I32 = FactoryWaveletDaub.biorthogonal_I32(5,BorderType.REFLECT);
+	// same wavelet but without lifting, forcing the convolution based transform
+	static WaveletDescription<WlCoef_F32> conv_F32 = new WaveletDescription<WlCoef_F32>(
+			desc_F32.getBorder(),desc_F32.getForward(),desc_F32.getInverse());
 
 	static ImageFloat32 orig_F32 = new ImageFloat32(imgWidth,imgHeight);
 	static ImageFloat32 temp1_F32 = new ImageFloat32(imgWidth,imgHeight);
@@ -69,6 +72,14 @@ public class BenchmarkWaveletTransform {
 		}
 	}
 
+	public static class Convolution_F32 extends PerformerBase {
+
+		@Override
+		public void process() {
+			WaveletTransformOps.transform1(conv_F32,orig_F32,temp1_F32,temp2_F32);
+		}
+	}
+
 	public static class Naive_I32 extends PerformerBase {
 
 		@Override
@@ -86,6 +97,14 @@ public class BenchmarkWaveletTransform {
 		}
 	}
 
+	public static class Lifting_I32 extends PerformerBase {
+
+		@Override
+		public void process() {
+			WaveletLiftingOps.transformN(desc_I32,orig_I32,temp1_I32,1);
+		}
+	}
+
 	public static class FullLevel3_F32 extends PerformerBase {
 
 		static ImageFloat32 copy = new ImageFloat32(imgWidth,imgHeight);
@@ -119,7 +138,9 @@ public class BenchmarkWaveletTransform {
 		ProfileOperation.printOpsPerSec(new FullLevel3_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Convolution_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_I32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_I32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Lifting_I32(), TEST_TIME);
 	}
 }
@@ -51,8 +51,11 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.alg.InputSanityCheck;\n" +
-				"import boofcv.struct.image.*;\n" +
+				"import boofcv.alg.filter.binary.impl.ImplThresholdAdaptive;\n" +
+				"import boofcv.alg.filter.binary.impl.ImplThresholdAdaptive_MT;\n" +
 				"import boofcv.alg.filter.blur.BlurImageOps;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.struct.image.*;\n" +
 				"\n" +
 				"/**\n" +
 				" * <p>\n" +
@@ -75,6 +78,7 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 
 	public void printAdaptive( AutoTypeImage imageIn ) {
 		printAdaptiveSquare(imageIn);
+		printAdaptiveBlockMinMax(imageIn);
 		printAdaptiveGaussian(imageIn);
 	}
 
@@ -141,15 +145,55 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 				"\t * If down is true then b(x,y) = I(x,y) <= T(x,y) + bias ? 1 : 0.  Otherwise\n" +
 				"\t * b(x,y) = I(x,y) >= T(x,y) + bias ? 0 : 1\n" +
 				"\t *\n" +
+				"\t * The local mean is computed from a sliding window of column sums in the same pass that the threshold\n" +
+				"\t * is applied, so no intermediate images are needed.\n" +
+				"\t *\n" +
 				"\t * @param input Input image.\n" +
-				"\t * @param output (optional) Output binary image.  If null it will be declared internally.\n" +
+				"\t * @param output (optional) Output binary image.  If null it will be declared internally."+
+				(imageIn.isInteger() ? "  Can't be the input or share its data." : "")+"\n" +
 				"\t * @param radius Radius of square region.\n" +
 				"\t * @param bias Bias used to adjust threshold\n" +
 				"\t * @param down Should it threshold up or down.\n" +
+				"\t * @return Thresholded image.\n" +
+				"\t */\n" +
+				"\tpublic static ImageUInt8 adaptiveSquare( "+imageName+" input , ImageUInt8 output ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t int radius , "+sumType+" bias , boolean down ) {\n" +
+				"\n" +
+				"\t\tif( radius <= 0 )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"Radius must be > 0\");\n" +
+				"\n" +
+				"\t\toutput = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);\n" +
+				"\n");
+		if( imageIn.isInteger() ) {
+			out.print("\t\tif( input.data == output.data )\n" +
+					"\t\t\tthrow new IllegalArgumentException(\"The output can't share data with the input\");\n" +
+					"\n");
+		}
+		out.print("\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplThresholdAdaptive_MT.squareMean(input,radius,bias,down,output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\t"+sumType+" columnSums[] = new "+sumType+"[ input.width ];\n");
+		if( imageIn.isInteger() ) {
+			out.print("\t\t\t"+sumType+" rowMeans[] = new "+sumType+"[ input.width ];\n" +
+					"\t\t\tImplThresholdAdaptive.squareMean(input,radius,bias,down,0,input.height,columnSums,rowMeans,output);\n");
+		} else {
+			out.print("\t\t\tImplThresholdAdaptive.squareMean(input,radius,bias,down,0,input.height,columnSums,output);\n");
+		}
+		out.print("\t\t}\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+
+		out.print("\t/**\n" +
+				"\t * Same as {@link #adaptiveSquare("+imageName+", ImageUInt8, int, "+sumType+", boolean)} but the local\n" +
+				"\t * mean is first computed into an intermediate image using {@link BlurImageOps#mean}."+
+				(imageIn.isInteger() ? "  The output\n\t * can be the input image." : "")+"\n" +
+				"\t *\n" +
 				"\t * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.\n" +
 				"\t * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.\n" +
-				"\t * @return Thresholded image.\n" +
+				"\t * @deprecated Use the version without storage, which doesn't need intermediate images.\n" +
 				"\t */\n" +
+				"\t@Deprecated\n" +
 				"\tpublic static ImageUInt8 adaptiveSquare( "+imageName+" input , ImageUInt8 output ,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\t int radius , "+sumType+" bias , boolean down ,\n" +
 				"\t\t\t\t\t\t\t\t\t\t\t "+imageName+" storage1 , "+imageName+" storage2 ) {\n" +
@@ -202,6 +246,49 @@ public class GenerateThresholdImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	public void printAdaptiveBlockMinMax( AutoTypeImage imageIn ) {
+
+		String imageName = imageIn.getSingleBandName();
+		String sumType = imageIn.getSumType();
+
+		out.print("\t/**\n" +
+				"\t * Thresholds the image using the minimum and maximum values inside of local blocks, which is robust to\n" +
+				"\t * uneven lighting.  The image is broken up into square blocks and the threshold for a pixel is half way\n" +
+				"\t * between the min and max of the 3x3 group of blocks centered around its block.  If the difference\n" +
+				"\t * between the min and max is less than minimumSpread the block is assumed to be background and set to 0.\n" +
+				"\t * If down is true then b(x,y) = I(x,y) <= T(x,y) ? 1 : 0.  Otherwise b(x,y) = I(x,y) >= T(x,y) ? 1 : 0\n" +
+				"\t *\n" +
+				"\t * @param input Input image.\n" +
+				"\t * @param output (optional) Output binary image.  If null it will be declared internally.\n" +
+				"\t * @param blockWidth Width and height of each block.  Pixels which don't fill a block are added to the last one.\n" +
+				"\t * @param minimumSpread Minimum difference between min and max for a block to contain foreground.\n" +
+				"\t * @param down Should it threshold up or down.\n" +
+				"\t * @return Thresholded image.\n" +
+				"\t */\n" +
+				"\tpublic static ImageUInt8 adaptiveBlockMinMax( "+imageName+" input , ImageUInt8 output ,\n" +
+				"\t\t\t\t\t\t\t\t\t\t\t\t  int blockWidth , "+sumType+" minimumSpread , boolean down ) {\n" +
+				"\n" +
+				"\t\tif( blockWidth <= 0 )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"blockWidth must be > 0\");\n" +
+				"\n" +
+				"\t\toutput = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);\n" +
+				"\n" +
+				"\t\tint blocksX = ImplThresholdAdaptive.numBlocks(input.width,blockWidth);\n" +
+				"\t\tint blocksY = ImplThresholdAdaptive.numBlocks(input.height,blockWidth);\n" +
+				"\t\t"+sumType+" min[] = new "+sumType+"[ blocksX*blocksY ];\n" +
+				"\t\t"+sumType+" max[] = new "+sumType+"[ blocksX*blocksY ];\n" +
+				"\n" +
+				"\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n" +
+				"\t\t\tImplThresholdAdaptive_MT.blockMinMax(input,blockWidth,minimumSpread,down,min,max,output);\n" +
+				"\t\t} else {\n" +
+				"\t\t\tImplThresholdAdaptive.blockMinMax(input,blockWidth,0,blocksY,min,max);\n" +
+				"\t\t\tImplThresholdAdaptive.blockThreshold(input,blockWidth,minimumSpread,down,0,blocksY,min,max,output);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\treturn output;\n" +
+				"\t}\n\n");
+	}
+
 	public void printAdaptiveGaussian( AutoTypeImage imageIn ) {
 
 		String imageName = imageIn.getSingleBandName();
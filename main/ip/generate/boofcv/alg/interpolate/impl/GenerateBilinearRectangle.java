@@ -125,11 +125,6 @@ public class GenerateBilinearRectangle extends CodeGeneratorBase {
 				"\t\tfloat bx = 1.0f - ax;\n" +
 				"\t\tfloat by = 1.0f - ay;\n" +
 				"\n" +
-				"\t\tfloat a0 = bx * by;\n" +
-				"\t\tfloat a1 = ax * by;\n" +
-				"\t\tfloat a2 = ax * ay;\n" +
-				"\t\tfloat a3 = bx * ay;\n" +
-				"\n" +
 				"\t\tint regWidth = output.width;\n" +
 				"\t\tint regHeight = output.height;\n" +
 				"\t\tfinal float results[] = output.data;\n" +
@@ -150,25 +145,20 @@ public class GenerateBilinearRectangle extends CodeGeneratorBase {
 				"\t\t\t}\n" +
 				"\t\t}\n" +
 				"\n" +
-				"\t\t// perform the interpolation while reducing the number of times the image needs to be accessed\n" +
+				"\t\t// perform the interpolation while reducing the number of times the image needs to be accessed.\n" +
+				"\t\t// Each column is interpolated vertically once and then shared by the two pixels which use it\n" +
 				"\t\tfor (int i = 0; i < regHeight; i++) {\n" +
 				"\t\t\tint index = orig.startIndex + (yt + i) * stride + xt;\n" +
 				"\t\t\tint indexResults = output.startIndex + i*output.stride;\n" +
 				"\n" +
-				"\t\t\tfloat XY = data[index]"+bitWise+";\n" +
-				"\t\t\tfloat Xy = data[index + stride]"+bitWise+";\n" +
+				"\t\t\tfloat left = by*(data[index] "+bitWise+") + ay*(data[index + stride] "+bitWise+");\n" +
 				"\n" +
 				"\t\t\tint indexEnd = index + regWidth;\n" +
-				"\t\t\t// for( int j = 0; j < regWidth; j++, index++ ) {\n" +
 				"\t\t\tfor (; index < indexEnd; index++) {\n" +
-				"\t\t\t\tfloat xY = data[index + 1]"+bitWise+";\n" +
-				"\t\t\t\tfloat xy = data[index + stride + 1]"+bitWise+";\n" +
-				"\n" +
-				"\t\t\t\tfloat val = a0 * XY + a1 * xY + a2 * xy + a3 * Xy;\n" +
+				"\t\t\t\tfloat right = by*(data[index + 1] "+bitWise+") + ay*(data[index + stride + 1] "+bitWise+");\n" +
 				"\n" +
-				"\t\t\t\tresults[indexResults++] = val;\n" +
-				"\t\t\t\tXY = xY;\n" +
-				"\t\t\t\tXy = xy;\n" +
+				"\t\t\t\tresults[indexResults++] = bx*left + ax*right;\n" +
+				"\t\t\t\tleft = right;\n" +
 				"\t\t\t}\n" +
 				"\t\t}\n" +
 				"\t\t\n" +
@@ -56,12 +56,14 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 
 		printPreamble();
 		printTheRest();
+		printCopy();
 		out.println("}");
 	}
 
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.alg.interpolate.BilinearPixel;\n" +
+				"import boofcv.alg.interpolate.InterpolatePixelS;\n" +
 				"import boofcv.struct.image."+image.getSingleBandName()+";\n");
 		out.println();
 		out.println();
@@ -89,6 +91,7 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 
 	private void printTheRest() {
 		String bitWise = image.getBitWise();
+		String floatCast = floatType.equals("double") ? "(float)" : "";
 
 
 
@@ -112,6 +115,30 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 				"\t}\n" +
 				"\n" +
 				"\t@Override\n" +
+				"\tpublic void get_fast(float x[], float y[], float values[], int length) {\n" +
+				"\t\tfinal "+image.getDataType()+"[] data = orig.data;\n" +
+				"\n" +
+				"\t\tfor( int i = 0; i < length; i++ ) {\n" +
+				"\t\t\tfloat px = x[i];\n" +
+				"\t\t\tfloat py = y[i];\n" +
+				"\n" +
+				"\t\t\tint xt = (int) px;\n" +
+				"\t\t\tint yt = (int) py;\n" +
+				"\t\t\t"+floatType+" ax = px - xt;\n" +
+				"\t\t\t"+floatType+" ay = py - yt;\n" +
+				"\n" +
+				"\t\t\tint index = orig.startIndex + yt * stride + xt;\n" +
+				"\n" +
+				"\t\t\t"+floatType+" val = (1.0"+f+" - ax) * (1.0"+f+" - ay) * (data[index] "+bitWise+"); // (x,y)\n" +
+				"\t\t\tval += ax * (1.0"+f+" - ay) * (data[index + 1] "+bitWise+"); // (x+1,y)\n" +
+				"\t\t\tval += ax * ay * (data[index + 1 + stride] "+bitWise+"); // (x+1,y+1)\n" +
+				"\t\t\tval += (1.0"+f+" - ax) * ay * (data[index + stride] "+bitWise+"); // (x,y+1)\n" +
+				"\n" +
+				"\t\t\tvalues[i] = "+floatCast+"val;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
 				"\tpublic float get(float x, float y) {\n" +
 				"\t\tif (x < 0 || y < 0 || x > width-1 || y > height-1)\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Point is outside of the image \"+x+\" \"+y);\n" +
@@ -139,6 +166,13 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printCopy() {
+		out.print("\t@Override\n" +
+				"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
+				"\t\treturn new "+className+"();\n" +
+				"\t}\n\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplBilinearPixel gen = new GenerateImplBilinearPixel();
 		gen.generate();
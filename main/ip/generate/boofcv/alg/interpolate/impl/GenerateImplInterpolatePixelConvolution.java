@@ -195,6 +195,11 @@ public class GenerateImplInterpolatePixelConvolution extends CodeGeneratorBase {
 				"\t@Override\n" +
 				"\tpublic int getFastBorderY() {\n" +
 				"\t\treturn kernel.getRadius();\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic InterpolatePixelS<"+inputType.getSingleBandName()+"> copy() {\n" +
+				"\t\treturn new "+className+"(kernel,min,max);\n" +
 				"\t}\n");
 	}
 
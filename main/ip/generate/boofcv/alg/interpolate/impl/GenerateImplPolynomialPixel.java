@@ -48,12 +48,15 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 	private void createFile() throws FileNotFoundException {
 		printPreamble();
 		printTheRest();
+		printBatch();
+		printCopy();
 		out.println("}");
 	}
 
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
-		out.print("import boofcv.alg.interpolate.PolynomialPixel;\n" +
+		out.print("import boofcv.alg.interpolate.InterpolatePixelS;\n" +
+				"import boofcv.alg.interpolate.PolynomialPixel;\n" +
 				"import boofcv.struct.image.*;\n");
 		out.println();
 		out.print("/**\n" +
@@ -144,6 +147,55 @@ public class GenerateImplPolynomialPixel extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printBatch() {
+		boolean directAccess = !image.isInteger();
+
+		out.print("\t@Override\n" +
+				"\tpublic void get_fast(float x[], float y[], float values[], int length) {\n");
+		if( directAccess )
+			out.print("\t\tfinal "+image.getDataType()+"[] data = image.data;\n\n");
+		out.print("\t\tfor( int p = 0; p < length; p++ ) {\n" +
+				"\t\t\tfloat px = x[p];\n" +
+				"\t\t\tfloat py = y[p];\n" +
+				"\n" +
+				"\t\t\tint x0 = (int) px - M/2 + offM;\n" +
+				"\t\t\tint y0 = (int) py - M/2 + offM;\n" +
+				"\n" +
+				"\t\t\tinterp1D.setInput(horiz,horiz.length);\n" +
+				"\t\t\tfor( int i = 0; i < M; i++ ) {\n");
+		if( directAccess )
+			out.print("\t\t\t\tint index = image.startIndex + (i+y0)*image.stride + x0;\n" +
+					"\t\t\t\tfor( int j = 0; j < M; j++ ) {\n" +
+					"\t\t\t\t\thoriz[j] = data[index+j];\n" +
+					"\t\t\t\t}\n");
+		else
+			out.print("\t\t\t\tfor( int j = 0; j < M; j++ ) {\n" +
+					"\t\t\t\t\thoriz[j] = image.get(j+x0,i+y0);\n" +
+					"\t\t\t\t}\n");
+		out.print("\t\t\t\tvert[i]=interp1D.process(px-x0,0,M-1);\n" +
+				"\t\t\t}\n" +
+				"\t\t\tinterp1D.setInput(vert,vert.length);\n" +
+				"\n" +
+				"\t\t\tfloat ret = interp1D.process(py-y0,0,M-1);\n" +
+				"\n" +
+				"\t\t\t// because it is fitting polynomials it can go above or below max or min values.\n" +
+				"\t\t\tif( ret > max ) {\n" +
+				"\t\t\t\tret = max;\n" +
+				"\t\t\t} else if( ret < min ) {\n" +
+				"\t\t\t\tret = min;\n" +
+				"\t\t\t}\n" +
+				"\t\t\tvalues[p] = ret;\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printCopy() {
+		out.print("\t@Override\n" +
+				"\tpublic InterpolatePixelS<"+image.getSingleBandName()+"> copy() {\n" +
+				"\t\treturn new "+className+"(M,min,max);\n" +
+				"\t}\n\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplPolynomialPixel gen = new GenerateImplPolynomialPixel();
 		gen.generate();
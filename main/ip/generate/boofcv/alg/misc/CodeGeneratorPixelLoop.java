@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.misc.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+/**
+ * <p>
+ * Base class for generators of pixel-wise operations which create a single threaded class and a
+ * concurrent "_MT" version of the same class. The single threaded function forwards the call to the concurrent
+ * function when {@link boofcv.concurrency.BoofConcurrency#USE_CONCURRENT} is true. The concurrent
+ * function splits the image into blocks of rows using {@link boofcv.concurrency.BoofConcurrency#loopBlocks}.
+ * </p>
+ *
+ * <p>
+ * Inner loops are written so that the JIT can unroll and vectorize them. Each row is traversed with a single
+ * induction variable and there are no branches on the image layout inside the loop. If every image
+ * is contiguous in memory (stride == width) all the rows are processed as a single long row.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class CodeGeneratorPixelLoop extends CodeGeneratorBase {
+
+	// name of the single threaded class
+	protected String baseName;
+	// true if the concurrent version is being generated
+	protected boolean concurrent;
+
+	protected CodeGeneratorPixelLoop( String baseName ) {
+		this.baseName = baseName;
+	}
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		concurrent = false;
+		setOutputFile(baseName);
+		printClass();
+		out.close();
+
+		concurrent = true;
+		setOutputFile(baseName+"_MT");
+		printClass();
+		out.close();
+	}
+
+	/**
+	 * Prints the class for the current value of {@link #concurrent}, including the preamble and closing bracket.
+	 */
+	protected abstract void printClass();
+
+	/**
+	 * Import statements for classes in boofcv.concurrency which are used by the generated code
+	 */
+	protected String concurrencyImports() {
+		String imports = "import boofcv.concurrency.BoofConcurrency;\n";
+		if( concurrent )
+			imports += "import boofcv.concurrency.IntRangeTask;\n";
+		return imports;
+	}
+
+	/**
+	 * Prints the class declaration and its javadoc
+	 *
+	 * @param imports Import statements
+	 * @param description Description of the single threaded class
+	 */
+	protected void printPreamble( String imports , String description ) {
+		out.print(imports +
+				"\n" +
+				"/**\n");
+		if( concurrent ) {
+			out.print(" * <p>\n" +
+					" * Concurrent implementations of functions in {@link "+baseName+"}. Images are split into blocks of\n" +
+					" * rows which are processed in parallel using {@link BoofConcurrency}. Call the functions in\n" +
+					" * {@link "+baseName+"} instead of using this class directly.\n" +
+					" * </p>\n");
+		} else {
+			out.print(description);
+		}
+		out.print(" *\n" +
+				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}.</p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+" {\n\n");
+	}
+
+	/**
+	 * Prints the function declaration, the sanity check, and in the single threaded version the code which passes
+	 * the call on to the concurrent version.
+	 *
+	 * @param returnType Type returned by the function
+	 * @param name Name of the function
+	 * @param sanityCheck Code which checks the input arguments, can be null
+	 * @param params Function parameters, e.g. "ImageFloat32 input"
+	 */
+	protected void printFunctionStart( String returnType , String name , String sanityCheck , String ...params ) {
+		String declaration = "";
+		String arguments = "";
+		int lineLength = 0;
+		for( int i = 0; i < params.length; i++ ) {
+			String p = concurrent ? "final "+params[i] : params[i];
+			if( i > 0 ) {
+				// start a new line if the declaration is too long
+				if( lineLength + p.length() > 90 ) {
+					declaration += " ,\n\t\t\t\t\t\t\t";
+					lineLength = 0;
+				} else {
+					declaration += " , ";
+				}
+				arguments += ",";
+			}
+			declaration += p;
+			lineLength += p.length() + 3;
+			arguments += params[i].substring(params[i].lastIndexOf(' ')+1).replace("[]","");
+		}
+
+		out.print("\tpublic static "+returnType+" "+name+"( "+declaration+" ) {\n\n");
+		if( sanityCheck != null )
+			out.print("\t\t"+sanityCheck+"\n\n");
+
+		if( !concurrent ) {
+			String call = baseName+"_MT."+name+"("+arguments+");";
+			out.print("\t\tif( BoofConcurrency.USE_CONCURRENT ) {\n");
+			if( returnType.equals("void") ) {
+				out.print("\t\t\t"+call+"\n" +
+						"\t\t\treturn;\n");
+			} else {
+				out.print("\t\t\treturn "+call+"\n");
+			}
+			out.print("\t\t}\n\n");
+		}
+	}
+
+	/**
+	 * Prints the start of the concurrent loop over blocks of rows. Rows in the block are from y0 to y1.
+	 *
+	 * @param height Expression for the number of rows in the image
+	 */
+	protected void printBlockStart( String height ) {
+		out.print("\t\tBoofConcurrency.loopBlocks(0,"+height+",BoofConcurrency.getMinBandHeight(),new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void process( int y0 , int y1 ) {\n");
+	}
+
+	protected void printBlockEnd() {
+		out.print("\t\t\t}\n" +
+				"\t\t});\n");
+	}
+
+	/**
+	 * Prints a loop which applies an operation to every pixel inside the images. In the concurrent version
+	 * the loop is wrapped inside of a block of rows. Inside of the loop the pixel in image 'images[k]' is at
+	 * index 'indexes[k]+i'.
+	 *
+	 * @param images Name of each image. All images must have the same shape.
+	 * @param indexes Name of the variable which stores the start of the row in each image
+	 * @param operation Code applied to each pixel. Lines are separated by new line characters.
+	 */
+	protected void printPixelLoop( String images[] , String indexes[] , String operation ) {
+		printPixelLoop(images, indexes, images[0]+".width", operation);
+	}
+
+	/**
+	 * Same as {@link #printPixelLoop(String[], String[], String)} but the number of array elements in a row is specified.
+	 *
+	 * @param rowLength Expression for the number of array elements in each row, e.g. width*numBands
+	 */
+	protected void printPixelLoop( String images[] , String indexes[] , String rowLength , String operation ) {
+		if( concurrent ) {
+			printBlockStart(images[0]+".height");
+			printRowLoop("\t\t\t\t", images, indexes, rowLength, operation);
+			printBlockEnd();
+		} else {
+			printRowLoop("\t\t", images, indexes, rowLength, operation);
+		}
+	}
+
+	/**
+	 * Prints the loop over rows and pixels without the concurrent block. In the concurrent version it's
+	 * assumed that the variables y0 and y1 specify the range of rows.
+	 *
+	 * @param tab Indentation of the code
+	 */
+	protected void printRowLoop( String tab , String images[] , String indexes[] , String operation ) {
+		printRowLoop(tab, images, indexes, images[0]+".width", operation);
+	}
+
+	protected void printRowLoop( String tab , String images[] , String indexes[] , String rowLength ,
+								 String operation ) {
+		String firstRow = concurrent ? "(y0+y)" : "y";
+
+		String contiguous = "";
+		for( int i = 0; i < images.length; i++ ) {
+			if( i > 0 )
+				contiguous += " && ";
+			contiguous += images[i]+".stride == columns";
+		}
+
+		out.print(tab+"int rows = "+(concurrent ? "y1-y0" : images[0]+".height")+";\n" +
+				tab+"int columns = "+rowLength+";\n" +
+				tab+"if( "+contiguous+" ) {\n" +
+				tab+"\t// no gaps between rows, process the image as one long row\n" +
+				tab+"\tcolumns *= rows;\n" +
+				tab+"\trows = 1;\n" +
+				tab+"}\n" +
+				"\n" +
+				tab+"for( int y = 0; y < rows; y++ ) {\n");
+		for( int i = 0; i < images.length; i++ ) {
+			out.print(tab+"\tint "+indexes[i]+" = "+images[i]+".startIndex + "+firstRow+"*"+images[i]+".stride;\n");
+		}
+		out.print("\n" +
+				tab+"\tfor( int i = 0; i < columns; i++ ) {\n");
+		for( String line : operation.split("\n") ) {
+			out.print(tab+"\t\t"+line+"\n");
+		}
+		out.print(tab+"\t}\n" +
+				tab+"}\n");
+	}
+}
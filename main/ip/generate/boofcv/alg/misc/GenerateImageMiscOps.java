@@ -19,47 +19,39 @@
 package boofcv.alg.misc;
 
 import boofcv.misc.AutoTypeImage;
-import boofcv.misc.CodeGeneratorBase;
 
 import java.io.FileNotFoundException;
 
 
 /**
- * Generates functions inside of {@link boofcv.alg.misc.ImageMiscOps}.
+ * Generates functions inside of {@link boofcv.alg.misc.ImageMiscOps} and {@link boofcv.alg.misc.ImageMiscOps_MT}.
+ * Only functions which process every pixel are in the concurrent class.
  *
  * @author Peter Abeles
  */
-public class GenerateImageMiscOps extends CodeGeneratorBase {
-
-	String className = "ImageMiscOps";
+public class GenerateImageMiscOps extends CodeGeneratorPixelLoop {
 
 	private AutoTypeImage imageType;
 	private String imageName;
 	private String dataType;
 	private String bitWise;
 
-	public void generate() throws FileNotFoundException {
-		printPreamble();
-		printAllGeneric();
-		printAllSpecific();
-		out.println("}");
+	public GenerateImageMiscOps() {
+		super("ImageMiscOps");
 	}
 
-	private void printPreamble() throws FileNotFoundException {
-		setOutputFile(className);
-		out.print("import boofcv.struct.image.*;\n" +
-				"\n" +
-				"import java.util.Random;\n" +
-				"\n" +
-				"\n" +
-				"/**\n" +
-				" * Basic image operations which have no place better to go.\n" +
-				" *\n" +
-				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}.</p>\n"+
-				" *\n"+
-				" * @author Peter Abeles\n" +
-				" */\n" +
-				"public class "+className+" {\n\n");
+	@Override
+	protected void printClass() {
+		String imports = concurrencyImports() +
+				"import boofcv.struct.image.*;\n";
+		if( !concurrent )
+			imports += "\nimport java.util.Random;\n";
+
+		printPreamble(imports," * Basic image operations which have no place better to go.\n");
+		printAllGeneric();
+		if( !concurrent )
+			printAllSpecific();
+		out.println("}");
 	}
 
 	public void printAllGeneric() {
@@ -72,6 +64,8 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 			printCopy();
 			printFill();
 			printFillInterleaved();
+			if( concurrent )
+				continue;
 			printFillBorder();
 			printFillRectangle();
 			printFillUniform();
@@ -108,24 +102,29 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t * @param height Height of region to be copied\n" +
 				"\t * @param input Input image\n" +
 				"\t * @param output output image\n" +
-				"\t */\n" +
-				"\tpublic static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height ,\n" +
-				"\t\t\t\t\t\t\t "+imageName+" input , "+imageName+" output ) {\n" +
-				"\n" +
-				"\t\tif( input.width < srcX+width || input.height < srcY+height )\n" +
+				"\t */\n");
+		printFunctionStart("void","copy",
+				"if( input.width < srcX+width || input.height < srcY+height )\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Copy region must be contained input image\");\n" +
 				"\t\tif( output.width < dstX+width || output.height < dstY+height )\n" +
-				"\t\t\tthrow new IllegalArgumentException(\"Copy region must be contained output image\");\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < height; y++) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;\n" +
-				"\t\t\tint indexDst = output.startIndex + (dstY + y) * output.stride + dstX;\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"Copy region must be contained output image\");",
+				"int srcX","int srcY","int dstX","int dstY","int width","int height",
+				imageName+" input",imageName+" output");
+
+		String tab = concurrent ? "\t\t\t\t" : "\t\t";
+		if( concurrent ) {
+			printBlockStart("height");
+		}
+		out.print(tab+"for (int y = "+(concurrent ? "y0; y < y1" : "0; y < height")+"; y++) {\n" +
+				tab+"\tint indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;\n" +
+				tab+"\tint indexDst = output.startIndex + (dstY + y) * output.stride + dstX;\n" +
 				"\n" +
-				"\t\t\tfor (int x = 0; x < width; x++) {\n" +
-				"\t\t\t\toutput.data[indexDst++] = input.data[indexSrc++];\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				tab+"\tSystem.arraycopy(input.data,indexSrc,output.data,indexDst,width);\n" +
+				tab+"}\n");
+		if( concurrent ) {
+			printBlockEnd();
+		}
+		out.print("\t}\n\n");
 	}
 
 	public void printFill()
@@ -136,16 +135,10 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t *\n" +
 				"\t * @param input An image.\n" +
 				"\t * @param value The value that the image is being filled with.\n" +
-				"\t */\n" +
-				"\tpublic static void fill("+imageName+" input, "+imageType.getSumType()+" value) {\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
-				"\t\t\tint index = input.getStartIndex() + y * input.getStride();\n" +
-				"\t\t\tfor (int x = 0; x < input.width; x++) {\n" +
-				"\t\t\t\tinput.data[index++] = "+typeCast+"value;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","fill",null,imageName+" input",imageType.getSumType()+" value");
+		printPixelLoop(new String[]{"input"},new String[]{"index"},"input.data[index+i] = "+typeCast+"value;");
+		out.print("\t}\n\n");
 	}
 
 	public void printFillInterleaved()
@@ -157,17 +150,11 @@ public class GenerateImageMiscOps extends CodeGeneratorBase {
 				"\t *\n" +
 				"\t * @param input An image.\n" +
 				"\t * @param value The value that the image is being filled with.\n" +
-				"\t */\n" +
-				"\tpublic static void fill("+imageName+" input, "+imageType.getSumType()+" value) {\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < input.height; y++) {\n" +
-				"\t\t\tint index = input.getStartIndex() + y * input.getStride();\n" +
-				"\t\t\tint end = index + input.width*input.numBands;\n" +
-				"\t\t\tfor (; index < end; index++ ) {\n" +
-				"\t\t\t\tinput.data[index] = "+typeCast+"value;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","fill",null,imageName+" input",imageType.getSumType()+" value");
+		printPixelLoop(new String[]{"input"},new String[]{"index"},"input.width*input.numBands",
+				"input.data[index+i] = "+typeCast+"value;");
+		out.print("\t}\n\n");
 	}
 
 	public void printFillBorder()
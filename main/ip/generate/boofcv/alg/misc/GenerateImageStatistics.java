@@ -19,40 +19,43 @@
 package boofcv.alg.misc;
 
 import boofcv.misc.AutoTypeImage;
-import boofcv.misc.CodeGeneratorBase;
 
 import java.io.FileNotFoundException;
 
 
 /**
- * Generates functions inside of {@link ImageMiscOps}.
+ * Generates functions inside of {@link ImageStatistics} and {@link ImageStatistics_MT}.
  *
  * @author Peter Abeles
  */
-public class GenerateImageStatistics extends CodeGeneratorBase {
-
-	String className = "ImageStatistics";
+public class GenerateImageStatistics extends CodeGeneratorPixelLoop {
 
 	private AutoTypeImage input;
 
-	public void generate() throws FileNotFoundException {
-		printPreamble();
-		printAll();
-		out.println("}");
+	public GenerateImageStatistics() {
+		super("ImageStatistics");
 	}
 
-	private void printPreamble() throws FileNotFoundException {
-		setOutputFile(className);
-		out.print("import boofcv.struct.image.*;\n" +
-				"\n" +
-				"/**\n" +
-				" * Computes statistical properties of pixels inside an image.\n" +
-				" *\n" +
-				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}</p>.\n"+
-				" *\n"+
-				" * @author Peter Abeles\n" +
-				" */\n" +
-				"public class "+className+" {\n\n");
+	@Override
+	protected void printClass() {
+		String imports = concurrencyImports() +
+				"import boofcv.struct.image.*;\n";
+		if( concurrent )
+			imports += "\nimport java.util.Arrays;\n";
+
+		String description = " * Computes statistical properties of pixels inside an image.\n";
+		if( !concurrent ) {
+			description += " *\n" +
+					" * <p>\n" +
+					" * When {@link BoofConcurrency#USE_CONCURRENT} is true, floating point sums are computed for each block\n" +
+					" * of rows and then added together. The result can differ from the single threaded result\n" +
+					" * by round off error.\n" +
+					" * </p>\n";
+		}
+
+		printPreamble(imports,description);
+		printAll();
+		out.println("}");
 	}
 
 	public void printAll() {
@@ -72,140 +75,160 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 		}
 	}
 
+	/**
+	 * Prints code which reduces all the pixels in the images down to a single variable. In the concurrent
+	 * version each block of rows computes a partial result which is saved in an array at the index of its first row.
+	 * The partial results are then combined in order, which makes the result independent of how threads are scheduled.
+	 *
+	 * @param type Type of the variable
+	 * @param variable Name of the variable
+	 * @param initial Initial value of the variable
+	 * @param combine Code which combines partial[i] with the variable
+	 */
+	private void printReduction( String images[] , String indexes[] , String type , String variable ,
+								 String initial , String operation , String combine ) {
+		if( concurrent ) {
+			out.print("\t\tfinal "+type+" partial[] = new "+type+"["+images[0]+".height];\n");
+			if( !initial.equals("0") )
+				out.print("\t\tArrays.fill(partial,"+initial+");\n");
+			out.print("\n");
+			printBlockStart(images[0]+".height");
+			out.print("\t\t\t\t"+type+" "+variable+" = "+initial+";\n\n");
+			printRowLoop("\t\t\t\t",images,indexes,operation);
+			out.print("\n" +
+					"\t\t\t\tpartial[y0] = "+variable+";\n");
+			printBlockEnd();
+			out.print("\n" +
+					"\t\t"+type+" "+variable+" = "+initial+";\n" +
+					"\t\tfor( int i = 0; i < partial.length; i++ ) {\n" +
+					"\t\t\t"+combine+"\n" +
+					"\t\t}\n");
+		} else {
+			out.print("\t\t"+type+" "+variable+" = "+initial+";\n\n");
+			printRowLoop("\t\t",images,indexes,operation);
+		}
+	}
+
 	public void printHistogram() {
+		String operation;
 		if( input.isSigned() ) {
-
 			out.print("\t/**\n" +
 					"\t * Computes the histogram of intensity values for the image.\n" +
 					"\t * \n" +
 					"\t * @param input (input) Image.\n" +
 					"\t * @param minValue (input) Minimum possible intensity value   \n" +
 					"\t * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.\n" +
-					"\t */\n" +
-					"\tpublic static void histogram( "+input.getSingleBandName()+" input , int minValue , int histogram[] ) {\n" +
-					"\t\tfor( int i = 0; i < histogram.length; i++ )\n" +
-					"\t\t\thistogram[i] = 0;\n" +
-					"\t\t\n" +
-					"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-					"\t\t\tint index = input.startIndex + y*input.stride;\n" +
-					"\t\t\tint end = index + input.width;\n" +
-					"\n" +
-					"\t\t\tfor( ; index < end; index++ ) {\n" +
-					"\t\t\t\t// floor value. just convert to int rounds towards zero\n");
-			if( input.isInteger()) {
-				if( input.getNumBits() == 64 )
-					out.print("\t\t\t\thistogram[(int)input.data[index] - minValue]++;\n");
-				else
-					out.print("\t\t\t\thistogram[input.data[index] - minValue ]++;\n");
-			} else
-				out.print("\t\t\t\thistogram[(int)input.data[index] - minValue ]++;\n");
-			out.print("\t\t\t}\n" +
-					"\t\t}\n" +
-					"\t}\n\n");
+					"\t */\n");
+			printFunctionStart("void","histogram",null,input.getSingleBandName()+" input","int minValue","int histogram[]");
+			// floor value. just convert to int rounds towards zero
+			if( input.isInteger() && input.getNumBits() != 64 )
+				operation = "HISTOGRAM[input.data[index+i] - minValue]++;";
+			else
+				operation = "HISTOGRAM[(int)input.data[index+i] - minValue]++;";
 		} else {
 			out.print("\t/**\n" +
 					"\t * Computes the histogram of intensity values for the image.\n" +
 					"\t * \n" +
 					"\t * @param input (input) Image.\n" +
 					"\t * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.\n" +
-					"\t */\n" +
-					"\tpublic static void histogram( "+input.getSingleBandName()+" input , int histogram[] ) {\n" +
-					"\t\tfor( int i = 0; i < histogram.length; i++ )\n" +
-					"\t\t\thistogram[i] = 0;\n" +
-					"\t\t\n" +
-					"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-					"\t\t\tint index = input.startIndex + y*input.stride;\n" +
-					"\t\t\tint end = index + input.width;\n" +
-					"\n" +
-					"\t\t\tfor( ; index < end; index++ ) {\n" +
-					"\t\t\t\thistogram[input.data[index]"+input.getBitWise()+"]++;\n" +
-					"\t\t\t}\n" +
-					"\t\t}\n" +
-					"\t}\n\n");
+					"\t */\n");
+			printFunctionStart("void","histogram",null,input.getSingleBandName()+" input","int histogram[]");
+			operation = "HISTOGRAM[input.data[index+i]"+input.getBitWise()+"]++;";
+		}
+
+		out.print("\t\tfor( int i = 0; i < histogram.length; i++ )\n" +
+				"\t\t\thistogram[i] = 0;\n" +
+				"\n");
+
+		String images[] = new String[]{"input"};
+		String indexes[] = new String[]{"index"};
+		if( concurrent ) {
+			// each block computes its own histogram to avoid contention
+			printBlockStart("input.height");
+			out.print("\t\t\t\tint local[] = new int[histogram.length];\n\n");
+			printRowLoop("\t\t\t\t",images,indexes,operation.replace("HISTOGRAM","local"));
+			out.print("\n" +
+					"\t\t\t\tsynchronized( histogram ) {\n" +
+					"\t\t\t\t\tfor( int i = 0; i < local.length; i++ )\n" +
+					"\t\t\t\t\t\thistogram[i] += local[i];\n" +
+					"\t\t\t\t}\n");
+			printBlockEnd();
+		} else {
+			printRowLoop("\t\t",images,indexes,operation.replace("HISTOGRAM","histogram"));
 		}
+		out.print("\t}\n\n");
 	}
 
 	public void printMaxAbs() {
+		String sumType = input.getSumType();
+
 		out.print("\t/**\n" +
 				"\t * Returns the absolute value of the element with the largest absolute value.\n" +
 				"\t * \n" +
 				"\t * @param input Input image. Not modified.\n" +
 				"\t * @return Largest pixel absolute value.\n" +
-				"\t */\n" +
-				"\tpublic static "+input.getSumType()+" maxAbs( "+input.getSingleBandName()+" input ) {\n" +
-				"\n" +
-				"\t\t"+input.getSumType()+" max = 0;\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint index = input.startIndex + y*input.stride;\n" +
-				"\t\t\tint end = index + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; index < end; index++ ) {\n");
+				"\t */\n");
+		printFunctionStart(sumType,"maxAbs",null,input.getSingleBandName()+" input");
+
+		String operation;
 		if( input.isSigned() )
-			out.print("\t\t\t\t"+input.getSumType()+" v = Math.abs(input.data[index]);\n");
+			operation = sumType+" v = Math.abs(input.data[index+i]);\n";
 		else
-			out.print("\t\t\t\t"+input.getSumType()+" v = input.data[index]"+input.getBitWise()+";\n");
-		out.print("\t\t\t\tif( v > max )\n" +
-				"\t\t\t\t\tmax = v;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t\treturn max;\n" +
+			operation = sumType+" v = input.data[index+i]"+input.getBitWise()+";\n";
+		operation += "if( v > max )\n" +
+				"\tmax = v;";
+
+		printReduction(new String[]{"input"},new String[]{"index"},sumType,"max","0",operation,
+				"if( partial[i] > max )\n" +
+				"\t\t\t\tmax = partial[i];");
+		out.print("\t\treturn max;\n" +
 				"\t}\n\n");
 	}
 
 	public void printMax() {
+		String sumType = input.getSumType();
+
 		out.print("\t/**\n" +
 				"\t * Returns the maximum element value.\n" +
 				"\t * \n" +
 				"\t * @param input Input image. Not modified.\n" +
 				"\t * @return Maximum pixel value.\n" +
-				"\t */\n" +
-				"\tpublic static "+input.getSumType()+" max( "+input.getSingleBandName()+" input ) {\n" +
-				"\n" +
-				"\t\t"+input.getSumType()+" max = input.get(0,0);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint index = input.startIndex + y*input.stride;\n" +
-				"\t\t\tint end = index + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; index < end; index++ ) {\n");
-		out.print("\t\t\t\t"+input.getSumType()+" v = input.data[index] "+input.getBitWise()+";\n");
-		out.print("\t\t\t\tif( v > max )\n" +
-				"\t\t\t\t\tmax = v;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t\treturn max;\n" +
+				"\t */\n");
+		printFunctionStart(sumType,"max",null,input.getSingleBandName()+" input");
+		printReduction(new String[]{"input"},new String[]{"index"},sumType,"max","input.get(0,0)",
+				sumType+" v = input.data[index+i] "+input.getBitWise()+";\n" +
+				"if( v > max )\n" +
+				"\tmax = v;",
+				"if( partial[i] > max )\n" +
+				"\t\t\t\tmax = partial[i];");
+		out.print("\t\treturn max;\n" +
 				"\t}\n\n");
 	}
 
 	public void printMin() {
+		String sumType = input.getSumType();
+
 		out.print("\t/**\n" +
 				"\t * Returns the minimum element value.\n" +
 				"\t * \n" +
 				"\t * @param input Input image. Not modified.\n" +
 				"\t * @return Minimum pixel value.\n" +
-				"\t */\n" +
-				"\tpublic static "+input.getSumType()+" min( "+input.getSingleBandName()+" input ) {\n" +
-				"\n" +
-				"\t\t"+input.getSumType()+" min = input.get(0,0);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint index = input.startIndex + y*input.stride;\n" +
-				"\t\t\tint end = index + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; index < end; index++ ) {\n");
-		out.print("\t\t\t\t"+input.getSumType()+" v = input.data[index] "+input.getBitWise()+";\n");
-		out.print("\t\t\t\tif( v < min )\n" +
-				"\t\t\t\t\tmin = v;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t\treturn min;\n" +
+				"\t */\n");
+		printFunctionStart(sumType,"min",null,input.getSingleBandName()+" input");
+		printReduction(new String[]{"input"},new String[]{"index"},sumType,"min","input.get(0,0)",
+				sumType+" v = input.data[index+i] "+input.getBitWise()+";\n" +
+				"if( v < min )\n" +
+				"\tmin = v;",
+				"if( partial[i] < min )\n" +
+				"\t\t\t\tmin = partial[i];");
+		out.print("\t\treturn min;\n" +
 				"\t}\n\n");
 	}
 
 	public void printSum() {
 
 		String bitWise = input.getBitWise();
+		String sumType = input.getSumType();
 
 		out.print("\t/**\n" +
 				"\t * <p>\n" +
@@ -213,24 +236,12 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * </p>\n" +
 				"\t * \n" +
 				"\t * @param img Input image. Not modified.\n" +
-				"\t */\n" +
-				"\tpublic static "+input.getSumType()+" sum( "+input.getSingleBandName()+" img ) {\n" +
-				"\n" +
-				"\t\tfinal int h = img.getHeight();\n" +
-				"\t\tfinal int w = img.getWidth();\n" +
-				"\n" +
-				"\t\t"+input.getSumType()+" total = 0;\n" +
-				"\t\t\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = index+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; index < indexEnd; index++ ) {\n" +
-				"\t\t\t\ttotal += img.data[index] "+bitWise+";\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t\t\n" +
+				"\t */\n");
+		printFunctionStart(sumType,"sum",null,input.getSingleBandName()+" img");
+		printReduction(new String[]{"img"},new String[]{"index"},sumType,"total","0",
+				"total += img.data[index+i] "+bitWise+";",
+				"total += partial[i];");
+		out.print("\n" +
 				"\t\treturn total;\n" +
 				"\t}\n\n");
 	}
@@ -257,22 +268,13 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param img Input image. Not modified.\n" +
 				"\t * @param mean Mean pixel intensity value.   \n" +
 				"\t * @return Pixel variance   \n" +
-				"\t */\n" +
-				"\tpublic static double variance( "+input.getSingleBandName()+" img , double mean ) {\n" +
-				"\n" +
-				"\t\tdouble variance = 0;\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < img.height; y++) {\n" +
-				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
-				"\n" +
-				"\t\t\tint indexEnd = index+img.width;\n" +
-				"\t\t\t// for(int x = 0; x < img.width; x++ ) {\n" +
-				"\t\t\tfor (; index < indexEnd; index++ ) {\n" +
-				"\t\t\t\tdouble d = (img.data[index]"+bitWise+") - mean; \n" +
-				"\t\t\t\tvariance += d*d;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\n" +
+				"\t */\n");
+		printFunctionStart("double","variance",null,input.getSingleBandName()+" img","double mean");
+		printReduction(new String[]{"img"},new String[]{"index"},"double","variance","0",
+				"double d = (img.data[index+i]"+bitWise+") - mean;\n" +
+				"variance += d*d;",
+				"variance += partial[i];");
+		out.print("\n" +
 				"\t\treturn variance/(img.width*img.height);\n" +
 				"\t}\n\n");
 	}
@@ -290,19 +292,13 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param imgA first image. Not modified.\n" +
 				"\t * @param imgB second image. Not modified.\n" +
 				"\t * @return error between the two images.\n" +
-				"\t */\n" +
-				"\tpublic static double meanDiffSq("+imageName+" imgA, "+imageName+" imgB ) {\n" +
-				"\t\t"+largeSumType+" total = 0;\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < imgA.height; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tfor (int x = 0; x < imgA.width; x++,indexA++,indexB++) {\n" +
-				"\t\t\t\t"+sumType+" difference = (imgA.data[indexA]"+bitWise+")-(imgB.data[indexB]"+bitWise+");\n" +
-				"\t\t\t\ttotal += difference*difference;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\n" +
+				"\t */\n");
+		printFunctionStart("double","meanDiffSq",null,imageName+" imgA",imageName+" imgB");
+		printReduction(new String[]{"imgA","imgB"},new String[]{"indexA","indexB"},largeSumType,"total","0",
+				sumType+" difference = (imgA.data[indexA+i]"+bitWise+")-(imgB.data[indexB+i]"+bitWise+");\n" +
+				"total += difference*difference;",
+				"total += partial[i];");
+		out.print("\n" +
 				"\t\treturn total / (double)(imgA.width*imgA.height);\n" +
 				"\t}\n\n");
 	}
@@ -319,19 +315,13 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t * @param imgA first image. Not modified.\n" +
 				"\t * @param imgB second image. Not modified.\n" +
 				"\t * @return error between the two images.\n" +
-				"\t */\n" +
-				"\tpublic static double meanDiffAbs("+imageName+" imgA, "+imageName+" imgB ) {\n" +
-				"\t\t"+sumType+" total = 0;\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < imgA.height; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tfor (int x = 0; x < imgA.width; x++,indexA++,indexB++) {\n" +
-				"\t\t\t\t"+sumType+" difference = (imgA.data[indexA]"+bitWise+")-(imgB.data[indexB]"+bitWise+");\n" +
-				"\t\t\t\ttotal += Math.abs(difference);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\n" +
+				"\t */\n");
+		printFunctionStart("double","meanDiffAbs",null,imageName+" imgA",imageName+" imgB");
+		printReduction(new String[]{"imgA","imgB"},new String[]{"indexA","indexB"},sumType,"total","0",
+				sumType+" difference = (imgA.data[indexA+i]"+bitWise+")-(imgB.data[indexB+i]"+bitWise+");\n" +
+				"total += Math.abs(difference);",
+				"total += partial[i];");
+		out.print("\n" +
 				"\t\treturn total / (double)(imgA.width*imgA.height);\n" +
 				"\t}\n\n");
 	}
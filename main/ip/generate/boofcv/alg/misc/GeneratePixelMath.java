@@ -19,7 +19,6 @@
 package boofcv.alg.misc;
 
 import boofcv.misc.AutoTypeImage;
-import boofcv.misc.CodeGeneratorBase;
 
 import java.io.FileNotFoundException;
 
@@ -27,38 +26,28 @@ import static boofcv.misc.AutoTypeImage.*;
 
 
 /**
- * Generates functions inside of {@link boofcv.alg.misc.ImageMiscOps}.
+ * Generates functions inside of {@link boofcv.alg.misc.PixelMath} and {@link boofcv.alg.misc.PixelMath_MT}.
  *
  * @author Peter Abeles
  */
-public class GeneratePixelMath extends CodeGeneratorBase {
-
-	String className = "PixelMath";
+public class GeneratePixelMath extends CodeGeneratorPixelLoop {
 
 	private AutoTypeImage input;
 
-	public void generate() throws FileNotFoundException {
-		printPreamble();
-		printAllSigned();
-		printAll();
-		out.println("}");
+	public GeneratePixelMath() {
+		super("PixelMath");
 	}
 
-	private void printPreamble() throws FileNotFoundException {
-		setOutputFile(className);
-		out.print("import boofcv.struct.image.*;\n" +
-				"\n" +
-				"import boofcv.alg.InputSanityCheck;\n" +
-				"\n" +
-				"/**\n" +
+	@Override
+	protected void printClass() {
+		printPreamble("import boofcv.alg.InputSanityCheck;\n" +
+				concurrencyImports() +
+				"import boofcv.struct.image.*;\n",
 				" * Functions which perform basic arithmetic (e.g. addition, subtraction, multiplication, or " +
-				"division) on a pixel by pixel basis.\n" +
-				" *\n" +
-				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}.</p>\n"+
-				" *\n"+
-				" * @author Peter Abeles\n" +
-				" */\n" +
-				"public class "+className+" {\n\n");
+				"division) on a pixel by pixel basis.\n");
+		printAllSigned();
+		printAll();
+		out.println("}");
 	}
 
 	public void printAll() {
@@ -74,7 +63,8 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 			printPlusBounded();
 			printBoundImage();
 			printDiffAbs();
-			printAverageBand();
+			if( !concurrent )
+				printAverageBand();
 		}
 
 		AutoTypeImage outputsAdd[] = new AutoTypeImage[]{U16,S16,S32,S32,S32,S64,F32,F64};
@@ -102,6 +92,22 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		}
 	}
 
+	/**
+	 * Prints the body of a function with one input and one output image
+	 */
+	private void printInputOutput( String operation ) {
+		printPixelLoop(new String[]{"input","output"},new String[]{"indexSrc","indexDst"},operation);
+		out.print("\t}\n\n");
+	}
+
+	/**
+	 * Prints the body of a function with two input images and one output image
+	 */
+	private void printTwoInputs( String output , String indexOutput , String operation ) {
+		printPixelLoop(new String[]{"imgA","imgB",output},new String[]{"indexA","indexB",indexOutput},operation);
+		out.print("\t}\n\n");
+	}
+
 	public void printAbs()
 	{
 		out.print("\t/**\n" +
@@ -110,21 +116,10 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * \n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the absolute value image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void abs( "+ input.getSingleBandName()+" input , "+ input.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\t\t\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"Math.abs(input.data[indexSrc]);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","abs","InputSanityCheck.checkSameShape(input,output);",
+				input.getSingleBandName()+" input",input.getSingleBandName()+" output");
+		printInputOutput("output.data[indexDst+i] = "+input.getTypeCastFromSum()+"Math.abs(input.data[indexSrc+i]);");
 	}
 
 	public void printInvert() {
@@ -133,21 +128,10 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t *\n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the inverted image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void invert( "+input.getSingleBandName()+" input , "+input.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"-input.data[indexSrc];\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","invert","InputSanityCheck.checkSameShape(input,output);",
+				input.getSingleBandName()+" input",input.getSingleBandName()+" output");
+		printInputOutput("output.data[indexDst+i] = "+input.getTypeCastFromSum()+"-input.data[indexSrc+i];");
 	}
 
 	public void printDivide() {
@@ -160,21 +144,10 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param denominator What each element is divided by.\n" +
 				"\t * @param output The output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void divide( "+input.getSingleBandName()+" input , "+scaleType+" denominator , "+input.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++, indexDst++ ) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+typeCast+"((input.data[indexSrc] "+input.getBitWise()+") / denominator);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","divide","InputSanityCheck.checkSameShape(input,output);",
+				input.getSingleBandName()+" input",scaleType+" denominator",input.getSingleBandName()+" output");
+		printInputOutput("output.data[indexDst+i] = "+typeCast+"((input.data[indexSrc+i] "+input.getBitWise()+") / denominator);");
 	}
 
 	public void printDivideBounded() {
@@ -190,28 +163,16 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param lower Lower bound on output\n" +
 				"\t * @param upper Upper bound on output\n" +
 				"\t * @param output The output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void divide( "+input.getSingleBandName()+" input , "+scaleType+" denominator , "+
-				sumType+" lower , "+sumType+" upper , "+input.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++, indexDst++ ) {\n" +
-				"\t\t\t\t"+sumType+" val = "+typeCast+"((input.data[indexSrc] "+input.getBitWise()+") / denominator);\n" +
-				"\t\t\t\tif( val < lower ) val = lower;\n" +
-				"\t\t\t\tif( val > upper ) val = upper;\n" +
-				"\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"val;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","divide","InputSanityCheck.checkSameShape(input,output);",
+				input.getSingleBandName()+" input",scaleType+" denominator",
+				sumType+" lower",sumType+" upper",input.getSingleBandName()+" output");
+		printInputOutput(sumType+" val = "+typeCast+"((input.data[indexSrc+i] "+input.getBitWise()+") / denominator);\n" +
+				"if( val < lower ) val = lower;\n" +
+				"if( val > upper ) val = upper;\n" +
+				"output.data[indexDst+i] = "+input.getTypeCastFromSum()+"val;");
 	}
 
-
 	public void printMultiply() {
 		String scaleType = input.isInteger() ? "double" : input.getSumType();
 		String typeCast = scaleType.compareTo(input.getSumType()) != 0 ? "("+input.getDataType()+")" : "";
@@ -223,21 +184,10 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param value What each element is multiplied by.\n" +
 				"\t * @param output The output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void multiply( "+input.getSingleBandName()+" input , "+scaleType+" value , "+input.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++, indexDst++ ) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+typeCast+"((input.data[indexSrc] "+input.getBitWise()+") * value);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","multiply","InputSanityCheck.checkSameShape(input,output);",
+				input.getSingleBandName()+" input",scaleType+" value",input.getSingleBandName()+" output");
+		printInputOutput("output.data[indexDst+i] = "+typeCast+"((input.data[indexSrc+i] "+input.getBitWise()+") * value);");
 	}
 
 	public void printMultiplyBounded() {
@@ -254,25 +204,14 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param lower Lower bound on output\n" +
 				"\t * @param upper Upper bound on output\n" +
 				"\t * @param output The output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void multiply( "+input.getSingleBandName()+" input , "+scaleType+" value , " +
-				sumType+" lower , "+sumType+" upper , "+input.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++, indexDst++ ) {\n" +
-				"\t\t\t\t"+sumType+" val = "+typeCast+"((input.data[indexSrc] "+input.getBitWise()+") * value);\n" +
-				"\t\t\t\tif( val < lower ) val = lower;\n" +
-				"\t\t\t\tif( val > upper ) val = upper;\n" +
-				"\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"val;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","multiply","InputSanityCheck.checkSameShape(input,output);",
+				input.getSingleBandName()+" input",scaleType+" value",
+				sumType+" lower",sumType+" upper",input.getSingleBandName()+" output");
+		printInputOutput(sumType+" val = "+typeCast+"((input.data[indexSrc+i] "+input.getBitWise()+") * value);\n" +
+				"if( val < lower ) val = lower;\n" +
+				"if( val > upper ) val = upper;\n" +
+				"output.data[indexDst+i] = "+input.getTypeCastFromSum()+"val;");
 	}
 
 	public void printPlus() {
@@ -282,21 +221,10 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param value What is added to each element.\n" +
 				"\t * @param output The output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void plus( "+input.getSingleBandName()+" input , "+input.getSumType()+" value , "+input.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++, indexDst++ ) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"((input.data[indexSrc] "+input.getBitWise()+") + value);\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","plus","InputSanityCheck.checkSameShape(input,output);",
+				input.getSingleBandName()+" input",input.getSumType()+" value",input.getSingleBandName()+" output");
+		printInputOutput("output.data[indexDst+i] = "+input.getTypeCastFromSum()+"((input.data[indexSrc+i] "+input.getBitWise()+") + value);");
 	}
 
 	public void printPlusBounded() {
@@ -310,25 +238,14 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param lower Lower bound on output\n" +
 				"\t * @param upper Upper bound on output\n" +
 				"\t * @param output The output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void plus( "+input.getSingleBandName()+" input , "+sumType+" value , "+
-				sumType+" lower , "+sumType+" upper , "+input.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++, indexDst++ ) {\n" +
-				"\t\t\t\t"+sumType+" val = (input.data[indexSrc] "+input.getBitWise()+") + value;\n" +
-				"\t\t\t\tif( val < lower ) val = lower;\n" +
-				"\t\t\t\tif( val > upper ) val = upper;\n" +
-				"\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"val;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","plus","InputSanityCheck.checkSameShape(input,output);",
+				input.getSingleBandName()+" input",sumType+" value",
+				sumType+" lower",sumType+" upper",input.getSingleBandName()+" output");
+		printInputOutput(sumType+" val = (input.data[indexSrc+i] "+input.getBitWise()+") + value;\n" +
+				"if( val < lower ) val = lower;\n" +
+				"if( val > upper ) val = upper;\n" +
+				"output.data[indexDst+i] = "+input.getTypeCastFromSum()+"val;");
 	}
 
 	public void printBoundImage() {
@@ -342,26 +259,15 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param img Image\n" +
 				"\t * @param min minimum value.\n" +
 				"\t * @param max maximum value.\n" +
-				"\t */\n" +
-				"\tpublic static void boundImage( "+input.getSingleBandName()+" img , "+sumType+" min , "+sumType+" max ) {\n" +
-				"\t\tfinal int h = img.getHeight();\n" +
-				"\t\tfinal int w = img.getWidth();\n" +
-				"\n" +
-				"\t\t"+input.getDataType()+"[] data = img.data;\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint index = img.getStartIndex() + y * img.getStride();\n" +
-				"\t\t\tint indexEnd = index+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; index < indexEnd; index++) {\n" +
-				"\t\t\t\t"+sumType+" value = data[index]"+bitWise+";\n" +
-				"\t\t\t\tif( value < min )\n" +
-				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"min;\n" +
-				"\t\t\t\telse if( value > max )\n" +
-				"\t\t\t\t\tdata[index] = "+input.getTypeCastFromSum()+"max;\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","boundImage",null,
+				input.getSingleBandName()+" img",sumType+" min",sumType+" max");
+		printPixelLoop(new String[]{"img"},new String[]{"index"},
+				sumType+" value = img.data[index+i]"+bitWise+";\n" +
+				"if( value < min ) value = min;\n" +
+				"if( value > max ) value = max;\n" +
+				"img.data[index+i] = "+input.getTypeCastFromSum()+"value;");
+		out.print("\t}\n\n");
 	}
 
 	public void printDiffAbs() {
@@ -377,25 +283,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param imgA Input image. Not modified.\n" +
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param diff Absolute value of difference image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void diffAbs( "+input.getSingleBandName()+" imgA , "+input.getSingleBandName()+" imgB , "+input.getSingleBandName()+" diff ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,diff);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexDiff = diff.getStartIndex() + y * diff.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {\n" +
-				"\t\t\t\tdiff.data[indexDiff] = "+typeCast+"Math.abs((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","diffAbs","InputSanityCheck.checkSameShape(imgA,imgB,diff);",
+				input.getSingleBandName()+" imgA",input.getSingleBandName()+" imgB",input.getSingleBandName()+" diff");
+		printTwoInputs("diff","indexDiff",
+				"diff.data[indexDiff+i] = "+typeCast+"Math.abs((imgA.data[indexA+i] "+bitWise+") - (imgB.data[indexB+i] "+bitWise+"));");
 	}
 
 	public void printAddTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
@@ -411,25 +303,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param imgA Input image. Not modified.\n" +
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void add( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") + (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","add","InputSanityCheck.checkSameShape(imgA,imgB,output);",
+				typeIn.getSingleBandName()+" imgA",typeIn.getSingleBandName()+" imgB",typeOut.getSingleBandName()+" output");
+		printTwoInputs("output","indexOut",
+				"output.data[indexOut+i] = "+typeCast+"((imgA.data[indexA+i] "+bitWise+") + (imgB.data[indexB+i] "+bitWise+"));");
 	}
 
 	public void printSubtractTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
@@ -445,26 +323,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param imgA Input image. Not modified.\n" +
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void subtract( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "
-				+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") - (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","subtract","InputSanityCheck.checkSameShape(imgA,imgB,output);",
+				typeIn.getSingleBandName()+" imgA",typeIn.getSingleBandName()+" imgB",typeOut.getSingleBandName()+" output");
+		printTwoInputs("output","indexOut",
+				"output.data[indexOut+i] = "+typeCast+"((imgA.data[indexA+i] "+bitWise+") - (imgB.data[indexB+i] "+bitWise+"));");
 	}
 
 	public void printMultTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
@@ -480,25 +343,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param imgA Input image. Not modified.\n" +
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void multiply( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") * (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","multiply","InputSanityCheck.checkSameShape(imgA,imgB,output);",
+				typeIn.getSingleBandName()+" imgA",typeIn.getSingleBandName()+" imgB",typeOut.getSingleBandName()+" output");
+		printTwoInputs("output","indexOut",
+				"output.data[indexOut+i] = "+typeCast+"((imgA.data[indexA+i] "+bitWise+") * (imgB.data[indexB+i] "+bitWise+"));");
 	}
 
 	public void printLog( AutoTypeImage typeIn , AutoTypeImage typeOut ) {
@@ -511,21 +360,10 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t *\n" +
 				"\t * @param input The input image. Not modified.\n" +
 				"\t * @param output Where the log image is written to. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void log( "+typeIn.getSingleBandName()+" input , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\n" +
-				"\t\tInputSanityCheck.checkSameShape(input,output);\n" +
-				"\n" +
-				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
-				"\t\t\tint indexSrc = input.startIndex + y* input.stride;\n" +
-				"\t\t\tint indexDst = output.startIndex + y* output.stride;\n" +
-				"\t\t\tint end = indexSrc + input.width;\n" +
-				"\n" +
-				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++) {\n" +
-				"\t\t\t\toutput.data[indexDst] = "+typeCast+"Math.log(1 + input.data[indexSrc]"+bitWise+");\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","log","InputSanityCheck.checkSameShape(input,output);",
+				typeIn.getSingleBandName()+" input",typeOut.getSingleBandName()+" output");
+		printInputOutput("output.data[indexDst+i] = "+typeCast+"Math.log(1 + input.data[indexSrc+i]"+bitWise+");");
 	}
 
 	public void printDivTwoImages( AutoTypeImage typeIn , AutoTypeImage typeOut  ) {
@@ -541,25 +379,11 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t * @param imgA Input image. Not modified.\n" +
 				"\t * @param imgB Input image. Not modified.\n" +
 				"\t * @param output Output image. Modified.\n" +
-				"\t */\n" +
-				"\tpublic static void divide( "+typeIn.getSingleBandName()+" imgA , "+typeIn.getSingleBandName()+" imgB , "+typeOut.getSingleBandName()+" output ) {\n" +
-				"\t\tInputSanityCheck.checkSameShape(imgA,imgB,output);\n" +
-				"\t\t\n" +
-				"\t\tfinal int h = imgA.getHeight();\n" +
-				"\t\tfinal int w = imgA.getWidth();\n" +
-				"\n" +
-				"\t\tfor (int y = 0; y < h; y++) {\n" +
-				"\t\t\tint indexA = imgA.getStartIndex() + y * imgA.getStride();\n" +
-				"\t\t\tint indexB = imgB.getStartIndex() + y * imgB.getStride();\n" +
-				"\t\t\tint indexOut = output.getStartIndex() + y * output.getStride();\n" +
-				"\t\t\t\n" +
-				"\t\t\tint indexEnd = indexA+w;\n" +
-				"\t\t\t// for(int x = 0; x < w; x++ ) {\n" +
-				"\t\t\tfor (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {\n" +
-				"\t\t\t\toutput.data[indexOut] = "+typeCast+"((imgA.data[indexA] "+bitWise+") / (imgB.data[indexB] "+bitWise+"));\n" +
-				"\t\t\t}\n" +
-				"\t\t}\n" +
-				"\t}\n\n");
+				"\t */\n");
+		printFunctionStart("void","divide","InputSanityCheck.checkSameShape(imgA,imgB,output);",
+				typeIn.getSingleBandName()+" imgA",typeIn.getSingleBandName()+" imgB",typeOut.getSingleBandName()+" output");
+		printTwoInputs("output","indexOut",
+				"output.data[indexOut+i] = "+typeCast+"((imgA.data[indexA+i] "+bitWise+") / (imgB.data[indexB+i] "+bitWise+"));");
 	}
 
 
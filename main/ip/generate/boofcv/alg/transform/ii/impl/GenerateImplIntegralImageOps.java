@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -28,6 +28,8 @@ import java.io.PrintStream;
 
 
 /**
+ * Generates {@link ImplIntegralImageOps} and {@link ImplIntegralImageOps_MT}.
+ *
  * @author Peter Abeles
  */
 public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
@@ -35,19 +37,16 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 
 	PrintStream out;
 
-	public GenerateImplIntegralImageOps() throws FileNotFoundException {
-		out = new PrintStream(new FileOutputStream(className + ".java"));
-	}
+	// true if the concurrent implementation is being generated
+	boolean concurrent;
 
 	@Override
 	public void generate() throws FileNotFoundException {
+		concurrent = false;
+		out = new PrintStream(new FileOutputStream(className + ".java"));
 		printPreamble();
 
-		printTwoInput(AutoTypeImage.F32, AutoTypeImage.F32);
-		printTwoInput(AutoTypeImage.F64, AutoTypeImage.F64);
-		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S32);
-		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S32);
-		printTwoInput(AutoTypeImage.S64, AutoTypeImage.S64);
+		printAllTransforms();
 		singleInput(AutoTypeImage.F32);
 		singleInput(AutoTypeImage.S32);
 		singleInput(AutoTypeImage.F64);
@@ -55,10 +54,32 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 
 		out.print("\n" +
 				"}\n");
+
+		concurrent = true;
+		out = new PrintStream(new FileOutputStream(className + "_MT.java"));
+		printPreambleConcurrent();
+
+		printAllTransforms();
+		printSelectBands();
+		printAddRow(AutoTypeImage.F32);
+		printAddRow(AutoTypeImage.F64);
+		printAddRow(AutoTypeImage.S32);
+		printAddRow(AutoTypeImage.S64);
+
+		out.print("}\n");
+	}
+
+	private void printAllTransforms() {
+		printTwoInput(AutoTypeImage.F32, AutoTypeImage.F32);
+		printTwoInput(AutoTypeImage.F64, AutoTypeImage.F64);
+		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S32);
+		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S64);
+		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S32);
+		printTwoInput(AutoTypeImage.S64, AutoTypeImage.S64);
 	}
 
 	private void printPreamble() {
-		out.print(CodeGeneratorUtil.copyright);
+		out.print(CodeGeneratorUtil.copyright+"\n\n");
 		out.print("package boofcv.alg.transform.ii.impl;\n" +
 				"\n" +
 				"import boofcv.alg.transform.ii.IntegralKernel;\n" +
@@ -80,15 +101,46 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"public class "+className+" {\n\n");
 	}
 
-	private void printTwoInput( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
-		printTransform(imageIn,imageOut);
+	private void printPreambleConcurrent() {
+		out.print(CodeGeneratorUtil.copyright+"\n\n");
+		out.print("package boofcv.alg.transform.ii.impl;\n" +
+				"\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent implementation of {@link ImplIntegralImageOps}.  The image is split into horizontal bands and the\n" +
+				" * integral image of each band is computed in parallel as if it was an image by itself.  Then the last row of each\n" +
+				" * band is corrected by sequentially adding the last row of the band above it.  Once all the last rows are\n" +
+				" * known the remaining rows in each band are corrected in parallel.  Integer images produce identical results\n" +
+				" * to the single threaded version, while floating point images can differ slightly since the order the sums\n" +
+				" * are computed in is different.\n" +
+				" * </p>\n" +
+				" * \n" +
+				" * <p>\n" +
+				" * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.\n" +
+				" * </p>\n" +
+				" * \n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+"_MT {\n\n");
+	}
 
+	private void printTwoInput( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+		if( concurrent )
+			printTransformConcurrent(imageIn,imageOut);
+		else
+			printTransform(imageIn,imageOut);
 	}
 
 	private void singleInput(AutoTypeImage image) {
 		printConvolve(image,image);
 		printConvolveBorder(image,image);
 		printConvolveSparse(image);
+		printConvolveSparseBatch(image);
 		printBlockUnsafe(image);
 		printBlockZero(image);
 	}
@@ -126,6 +178,79 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printTransformConcurrent( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+		String nameIn = imageIn.getSingleBandName();
+		String nameOut = imageOut.getSingleBandName();
+
+		out.print("\tpublic static void transform( final "+nameIn+" input , final "+nameOut+" transformed )\n" +
+				"\t{\n" +
+				"\t\tfinal int bounds[] = selectBands(input.height);\n" +
+				"\t\tfinal int numBands = bounds.length-1;\n" +
+				"\n" +
+				"\t\t// integral image of each band, ignoring the rows above it\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,numBands,1,new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void process(int start, int end) {\n" +
+				"\t\t\t\tfor( int band = start; band < end; band++ ) {\n" +
+				"\t\t\t\t\t"+nameIn+" subIn = input.subimage(0,bounds[band],input.width,bounds[band+1],null);\n" +
+				"\t\t\t\t\t"+nameOut+" subOut = transformed.subimage(0,bounds[band],input.width,bounds[band+1],null);\n" +
+				"\t\t\t\t\tImplIntegralImageOps.transform(subIn,subOut);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\n" +
+				"\t\t// carry the sum down to the last row in each band\n" +
+				"\t\tfor( int band = 1; band < numBands; band++ ) {\n" +
+				"\t\t\taddRow(transformed,bounds[band]-1,bounds[band+1]-1,bounds[band+1]);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t// add the sum of all the rows above each band to its remaining rows\n" +
+				"\t\tBoofConcurrency.loopBlocks(1,numBands,1,new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void process(int start, int end) {\n" +
+				"\t\t\t\tfor( int band = start; band < end; band++ ) {\n" +
+				"\t\t\t\t\taddRow(transformed,bounds[band]-1,bounds[band],bounds[band+1]-1);\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	private void printSelectBands() {
+		out.print("\t/**\n" +
+				"\t * Splits the rows into bands, one for each thread, which are at least\n" +
+				"\t * {@link BoofConcurrency#getMinBandHeight()} rows tall.\n" +
+				"\t *\n" +
+				"\t * @return The first row in each band followed by the image's height.\n" +
+				"\t */\n" +
+				"\tprivate static int[] selectBands( int height ) {\n" +
+				"\t\tint numBands = Math.min(BoofConcurrency.getMaxThreads(),height/BoofConcurrency.getMinBandHeight());\n" +
+				"\t\tnumBands = Math.max(1,numBands);\n" +
+				"\n" +
+				"\t\tint bounds[] = new int[ numBands+1 ];\n" +
+				"\t\tfor( int i = 0; i <= numBands; i++ ) {\n" +
+				"\t\t\tbounds[i] = (int)((long)i*height/numBands);\n" +
+				"\t\t}\n" +
+				"\t\treturn bounds;\n" +
+				"\t}\n\n");
+	}
+
+	private void printAddRow( AutoTypeImage image ) {
+		out.print("\t/**\n" +
+				"\t * Adds row 'src' to rows y0 (inclusive) to y1 (exclusive)\n" +
+				"\t */\n" +
+				"\tprivate static void addRow( "+image.getSingleBandName()+" image , int src , int y0 , int y1 ) {\n" +
+				"\t\tint indexSrc = image.startIndex + src*image.stride;\n" +
+				"\n" +
+				"\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\tint indexDst = image.startIndex + y*image.stride;\n" +
+				"\t\t\tfor( int x = 0; x < image.width; x++ ) {\n" +
+				"\t\t\t\timage.data[indexDst+x] += image.data[indexSrc+x];\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	private void printConvolve( AutoTypeImage imageIn , AutoTypeImage imageOut) {
 		out.print("\tpublic static void convolve( "+imageIn.getSingleBandName()+" integral ,\n" +
 				"\t\t\t\t\t\t\t\t IntegralKernel kernel,\n" +
@@ -208,6 +333,56 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printConvolveSparseBatch( AutoTypeImage image ) {
+		String sumType = image.getSumType();
+		String bitWise = image.getBitWise();
+
+		out.print("\tpublic static void convolveSparse( "+image.getSingleBandName()+" integral , IntegralKernel kernel ,\n" +
+				"\t\t\t\t\t\t\t\t\t   int x[] , int y[] , int length , "+sumType+" output[] )\n" +
+				"\t{\n" +
+				"\t\tint N = kernel.getNumBlocks();\n" +
+				"\n" +
+				"\t\t// offset of each block's corners from the center pixel and the region where no block touches the border\n" +
+				"\t\tint offsets[] = new int[ N*4 ];\n" +
+				"\t\tint minX = 0, minY = 0;\n" +
+				"\t\tint maxX = integral.width-1, maxY = integral.height-1;\n" +
+				"\n" +
+				"\t\tfor( int i = 0; i < N; i++ ) {\n" +
+				"\t\t\tImageRectangle r = kernel.blocks[i];\n" +
+				"\t\t\toffsets[i*4  ] = r.y1*integral.stride + r.x1;\n" +
+				"\t\t\toffsets[i*4+1] = r.y0*integral.stride + r.x1;\n" +
+				"\t\t\toffsets[i*4+2] = r.y1*integral.stride + r.x0;\n" +
+				"\t\t\toffsets[i*4+3] = r.y0*integral.stride + r.x0;\n" +
+				"\n" +
+				"\t\t\tminX = Math.max(minX,-r.x0);\n" +
+				"\t\t\tminY = Math.max(minY,-r.y0);\n" +
+				"\t\t\tmaxX = Math.min(maxX,integral.width-1-r.x1);\n" +
+				"\t\t\tmaxY = Math.min(maxY,integral.height-1-r.y1);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tfor( int i = 0; i < length; i++ ) {\n" +
+				"\t\t\tint px = x[i];\n" +
+				"\t\t\tint py = y[i];\n" +
+				"\n" +
+				"\t\t\tif( px >= minX && px <= maxX && py >= minY && py <= maxY ) {\n" +
+				"\t\t\t\tint index = integral.startIndex + py*integral.stride + px;\n" +
+				"\t\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\t\tfor( int j = 0; j < N; j++ ) {\n" +
+				"\t\t\t\t\tint o = j*4;\n" +
+				"\t\t\t\t\t"+sumType+" br = integral.data[ index + offsets[o  ] ]"+bitWise+";\n" +
+				"\t\t\t\t\t"+sumType+" tr = integral.data[ index + offsets[o+1] ]"+bitWise+";\n" +
+				"\t\t\t\t\t"+sumType+" bl = integral.data[ index + offsets[o+2] ]"+bitWise+";\n" +
+				"\t\t\t\t\t"+sumType+" tl = integral.data[ index + offsets[o+3] ]"+bitWise+";\n" +
+				"\t\t\t\t\ttotal += (br-tr-bl+tl)*kernel.scales[j];\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t\toutput[i] = total;\n" +
+				"\t\t\t} else {\n" +
+				"\t\t\t\toutput[i] = convolveSparse(integral,kernel,px,py);\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	private void printBlockUnsafe( AutoTypeImage image ) {
 		String sumType = image.getSumType();
 		String bitWise = image.getBitWise();
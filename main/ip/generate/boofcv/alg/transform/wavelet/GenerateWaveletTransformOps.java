@@ -146,8 +146,15 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\tif( output.width < coef.scaling.length || output.width < coef.wavelet.length )\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Wavelet is too large for provided image.\");\n" +
 				"\t\tif( output.height < coef.scaling.length || output.height < coef.wavelet.length )\n" +
-				"\t\t\tthrow new IllegalArgumentException(\"Wavelet is too large for provided image.\");\n" +
-				"\t\tstorage = InputSanityCheck.checkDeclare(output, storage);\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"Wavelet is too large for provided image.\");\n");
+		if( !imageIn.isInteger() ) {
+			out.print("\n" +
+					"\t\tif( WaveletLiftingOps.isSupported(desc) && input.width == output.width && input.height == output.height ) {\n" +
+					"\t\t\tWaveletLiftingOps.transform1(desc,input,output);\n" +
+					"\t\t\treturn;\n" +
+					"\t\t}\n");
+		}
+		out.print("\t\tstorage = InputSanityCheck.checkDeclare(output, storage);\n" +
 				"\n" +
 				"\t\t// the faster routines can only be run on images which are not too small\n" +
 				"\t\tint minSize = Math.max(coef.getScalingLength(),coef.getWaveletLength())*3;\n" +
@@ -187,8 +194,14 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\tif( numLevels == 1 ) {\n" +
 				"\t\t\ttransform1(desc,input,output, storage);\n" +
 				"\t\t\treturn;\n" +
-				"\t\t}\n" +
-				"\n" +
+				"\t\t}\n");
+		if( !imageIn.isInteger() ) {
+			out.print("\t\tif( WaveletLiftingOps.isSupported(desc) ) {\n" +
+					"\t\t\tWaveletLiftingOps.transformN(desc,input,output,storage,numLevels);\n" +
+					"\t\t\treturn;\n" +
+					"\t\t}\n");
+		}
+		out.print("\n" +
 				"\t\tUtilWavelet.checkShape(desc.getForward(),input,output,numLevels);\n" +
 				"\t\tstorage = InputSanityCheck.checkDeclare(output, storage);\n" +
 				"\t\t// modify the shape of a temporary image not the original\n" +
@@ -240,8 +253,17 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\tif( output.width < coef.scaling.length || output.width < coef.wavelet.length )\n" +
 				"\t\t\tthrow new IllegalArgumentException(\"Wavelet is too large for provided image.\");\n" +
 				"\t\tif( output.height < coef.scaling.length || output.height < coef.wavelet.length )\n" +
-				"\t\t\tthrow new IllegalArgumentException(\"Wavelet is too large for provided image.\");\n" +
-				"\t\tstorage = InputSanityCheck.checkDeclare(input, storage);\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"Wavelet is too large for provided image.\");\n");
+		if( !imageIn.isInteger() ) {
+			out.print("\n" +
+					"\t\tif( WaveletLiftingOps.isSupported(desc) && input.width == output.width && input.height == output.height ) {\n" +
+					"\t\t\tWaveletLiftingOps.inverse1(desc,input,output);\n" +
+					"\t\t\tif( minValue != "+MIN_VALUE+" && maxValue != "+MAX_VALUE+" )\n" +
+					"\t\t\t\tPixelMath.boundImage(output,minValue,maxValue);\n" +
+					"\t\t\treturn;\n" +
+					"\t\t}\n");
+		}
+		out.print("\t\tstorage = InputSanityCheck.checkDeclare(input, storage);\n" +
 				"\n" +
 				"\t\t// the faster routines can only be run on images which are not too small\n" +
 				"\t\tint minSize = Math.max(coef.getScalingLength(),coef.getWaveletLength())*3;\n" +
@@ -288,8 +310,14 @@ public class GenerateWaveletTransformOps extends CodeGeneratorBase {
 				"\t\t\tinverse1(desc,input,output, storage,minValue,maxValue);\n" +
 				"\t\t\tPixelMath.boundImage(output,minValue,maxValue);\n" +
 				"\t\t\treturn;\n" +
-				"\t\t}\n" +
-				"\n" +
+				"\t\t}\n");
+		if( !imageIn.isInteger() ) {
+			out.print("\t\tif( WaveletLiftingOps.isSupported(desc) ) {\n" +
+					"\t\t\tWaveletLiftingOps.inverseN(desc,input,output,storage,numLevels,minValue,maxValue);\n" +
+					"\t\t\treturn;\n" +
+					"\t\t}\n");
+		}
+		out.print("\n" +
 				"\t\tUtilWavelet.checkShape(desc.getForward(),output,input,numLevels);\n" +
 				"\t\tstorage = InputSanityCheck.checkDeclare(input, storage);\n" +
 				"\t\t// modify the shape of a temporary image not the original\n" +
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.DirectImageBase;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Applies a {@link FilterImageInterface} to {@link DirectImageBase direct images} by processing them one horizontal
+ * band at a time.  Each band, along with 'halo' rows above and below it, is copied into an array image borrowed
+ * from an {@link ImagePool}, filtered, and then only the band's own rows are copied into the output.  Memory
+ * usage is bounded by the band size and not the image size, which allows images larger than the heap to be
+ * filtered by any of the existing filters.
+ * </p>
+ *
+ * <p>
+ * The output is identical to filtering the whole image at once as long as the halo is at least as large as the
+ * number of rows the filter reads above or below a pixel, e.g. the radius of a blur or convolution kernel.
+ * Filters whose border depends on rows at the opposite side of the image (e.g. a wrapped border) are not
+ * supported.  Pixels inside the filter's unprocessed border are left unmodified in the output.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class FilterDirectImage<Input extends ImageSingleBand, Output extends ImageSingleBand> {
+
+	// default number of pixels in a band
+	public static final int DEFAULT_BAND_PIXELS = 1 << 20;
+
+	FilterImageInterface<Input,Output> filter;
+
+	// number of rows read above and below the band
+	int halo;
+	// number of rows written to the output for each band.  If <= 0 it's selected from the image width
+	int bandHeight;
+
+	// source of band images
+	ImagePool pool;
+
+	/**
+	 * Configures the adapter.
+	 *
+	 * @param filter The filter being applied
+	 * @param halo Number of rows above and below a pixel which the filter reads
+	 * @param bandHeight Number of output rows processed at once.  If &le; 0 then bands have about
+	 * {@link #DEFAULT_BAND_PIXELS} pixels.
+	 * @param pool (Optional) Pool that band images are borrowed from.  If null a pool is created.
+	 */
+	public FilterDirectImage( FilterImageInterface<Input, Output> filter, int halo, int bandHeight, ImagePool pool ) {
+		if( halo < 0 )
+			throw new IllegalArgumentException("halo must be >= 0");
+		this.filter = filter;
+		this.halo = halo;
+		this.bandHeight = bandHeight;
+		this.pool = pool == null ? new ImagePool() : pool;
+	}
+
+	public FilterDirectImage( FilterImageInterface<Input, Output> filter, int halo ) {
+		this(filter,halo,0,null);
+	}
+
+	/**
+	 * Applies the filter to the input image and writes the results into the output image
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public void process( DirectImageBase<?,Input> input , DirectImageBase<?,Output> output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int width = input.width;
+		int height = input.height;
+		int band = bandHeight > 0 ? bandHeight : Math.max(1, DEFAULT_BAND_PIXELS/Math.max(1,width));
+
+		// if the filter skips the border then the output band needs to start with the output's values
+		boolean copyOutput = filter.getHorizontalBorder() > 0 || filter.getVerticalBorder() > 0;
+
+		DirectImageBase rawIn = input;
+		DirectImageBase rawOut = output;
+		DirectImageBase subIn = null;
+		DirectImageBase subOut = null;
+
+		for( int y0 = 0; y0 < height; y0 += band ) {
+			int y1 = Math.min(height, y0 + band);
+			int haloY0 = Math.max(0, y0 - halo);
+			int haloY1 = Math.min(height, y1 + halo);
+
+			Input bandIn = pool.borrow(input.getArrayImageType(), width, haloY1 - haloY0);
+			Output bandOut = pool.borrow(output.getArrayImageType(), width, haloY1 - haloY0);
+
+			try {
+				subIn = rawIn.subimage(0, haloY0, width, haloY1, subIn);
+				subIn.copyTo(bandIn);
+
+				if( copyOutput ) {
+					subOut = rawOut.subimage(0, haloY0, width, haloY1, subOut);
+					subOut.copyTo(bandOut);
+				}
+
+				filter.process(bandIn, bandOut);
+
+				subOut = rawOut.subimage(0, y0, width, y1, subOut);
+				subOut.copyFrom(bandOut.subimage(0, y0 - haloY0, width, y1 - haloY0, null));
+			} finally {
+				pool.recycle(bandIn);
+				pool.recycle(bandOut);
+			}
+		}
+	}
+
+	public FilterImageInterface<Input, Output> getFilter() {
+		return filter;
+	}
+
+	public int getHalo() {
+		return halo;
+	}
+
+	public int getBandHeight() {
+		return bandHeight;
+	}
+
+	public void setBandHeight(int bandHeight) {
+		this.bandHeight = bandHeight;
+	}
+
+	public ImagePool getImagePool() {
+		return pool;
+	}
+}
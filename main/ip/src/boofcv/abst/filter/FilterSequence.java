@@ -19,12 +19,13 @@
 package boofcv.abst.filter;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 
 
 /**
  * Applies a sequence of filters. After the first filter each filter will have the same input
- * and output image type.
+ * and output image type.  Intermediate images are borrowed from an {@link ImagePool}.
  *
  * @author Peter Abeles
  */
@@ -38,9 +39,28 @@ public class FilterSequence<Input extends ImageSingleBand, Output extends ImageS
 	int borderHorizontal = 0;
 	int borderVertical = 0;
 
+	// source of intermediate images
+	ImagePool pool;
+
+	/**
+	 * Creates a sequence which uses its own pool for intermediate images
+	 */
 	public FilterSequence( FilterImageInterface<Input,Output> first,
 						   FilterImageInterface<Output,Output>... sequence )
 	{
+		this(new ImagePool(), first, sequence);
+	}
+
+	/**
+	 * Creates a sequence which borrows intermediate images from the specified pool
+	 *
+	 * @param pool Pool that intermediate images are borrowed from.
+	 */
+	public FilterSequence( ImagePool pool ,
+						   FilterImageInterface<Input,Output> first,
+						   FilterImageInterface<Output,Output>... sequence )
+	{
+		this.pool = pool;
 		this.firstFilter = first;
 		this.sequence = sequence;
 
@@ -59,20 +79,42 @@ public class FilterSequence<Input extends ImageSingleBand, Output extends ImageS
 
 	@Override
 	public void process(Input input, Output output) {
-		Output temp1 = (Output)output._createNew( output.width , output.height );
-		Output temp2 = (Output)output._createNew( output.width , output.height );
+		Output temp1 = pool.borrowLike(output, output.width, output.height);
+		Output temp2 = pool.borrowLike(output, output.width, output.height);
 
+		clearBorder(firstFilter, temp1);
 		firstFilter.process(input,temp1);
 
 		for( FilterImageInterface<Output,Output> f : sequence ) {
+			clearBorder(f, temp2);
 			f.process(temp1,temp2);
 			Output swap = temp1;
 			temp1 = temp2;
 			temp2 = swap;
-			GImageMiscOps.fill(temp2, 0);
 		}
 
 		output.setTo(temp1);
+
+		pool.recycle(temp1);
+		pool.recycle(temp2);
+	}
+
+	/**
+	 * Filters don't need to write to the image border.  Zero the border so that the next filter reads the same
+	 * values as it would from a new image.  The rest of the image is overwritten by the filter.
+	 */
+	private static void clearBorder( FilterImageInterface filter , ImageSingleBand image ) {
+		int borderX = Math.min(filter.getHorizontalBorder(), image.width);
+		int borderY = Math.min(filter.getVerticalBorder(), image.height);
+
+		if( borderX > 0 ) {
+			GImageMiscOps.fillRectangle(image, 0, 0, 0, borderX, image.height);
+			GImageMiscOps.fillRectangle(image, 0, image.width - borderX, 0, borderX, image.height);
+		}
+		if( borderY > 0 ) {
+			GImageMiscOps.fillRectangle(image, 0, 0, 0, image.width, borderY);
+			GImageMiscOps.fillRectangle(image, 0, 0, image.height - borderY, image.width, borderY);
+		}
 	}
 
 	@Override
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.struct.ImageRectangle;
+import boofcv.struct.ImageTileGrid;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.TiledImage;
+
+/**
+ * <p>
+ * Applies a {@link FilterImageInterface} to a {@link TiledImage} one tile at a time, allowing images which don't fit
+ * into memory to be processed.  Each tile is read along with a halo of pixels around it, filtered, and only
+ * the tile's core is written to the output.  Tile images are borrowed from an {@link ImagePool}.
+ * </p>
+ *
+ * <p>
+ * The halo should be at least as large as the number of pixels the filter reads around each pixel, e.g. the
+ * radius of the convolution kernel.  With the default settings the halo is clipped by the image border and the
+ * filter's own border handling is used along the image's edge, which produces the same results as filtering the
+ * entire image at once.  If a {@link BorderType} is specified then tiles along the image's edge are padded
+ * with pixels from {@link boofcv.core.image.border.ImageBorder} instead, which allows filters that skip the
+ * image border to process every pixel.  Filters which wrap around the image are not supported.
+ * </p>
+ *
+ * <p>
+ * If created with a {@link WorkerFactory} and {@link BoofConcurrency#USE_CONCURRENT} is true then tiles are
+ * processed concurrently and each thread has its own filter.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class TiledImageFilter<Input extends ImageSingleBand, Output extends ImageSingleBand> {
+
+	// creates the filter that's applied to each tile
+	WorkerFactory<FilterImageInterface<Input,Output>> factory;
+	// if true the factory always returns the same instance and it can't be used by multiple threads
+	boolean shared;
+
+	int tileWidth, tileHeight;
+	int haloX, haloY;
+
+	// (Optional) how tiles along the image border are padded
+	BorderType borderType;
+
+	// source of tile images
+	ImagePool pool = new ImagePool();
+
+	/**
+	 * Configures the tiled filter so that each thread gets its own instance of the filter.
+	 *
+	 * @param factory Creates instances of the filter.
+	 * @param haloX Number of pixels to the left and right of a pixel which the filter reads
+	 * @param haloY Number of pixels above and below a pixel which the filter reads
+	 * @param tileWidth Width of the core region in each tile
+	 * @param tileHeight Height of the core region in each tile
+	 */
+	public TiledImageFilter( WorkerFactory<FilterImageInterface<Input, Output>> factory ,
+							 int haloX , int haloY , int tileWidth , int tileHeight ) {
+		if( haloX < 0 || haloY < 0 )
+			throw new IllegalArgumentException("Halo must be >= 0");
+		this.factory = factory;
+		this.haloX = haloX;
+		this.haloY = haloY;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+	}
+
+	/**
+	 * Configures the tiled filter using a single instance of the filter.  Tiles will be processed sequentially.
+	 *
+	 * @see #TiledImageFilter(WorkerFactory, int, int, int, int)
+	 */
+	public TiledImageFilter( final FilterImageInterface<Input, Output> filter ,
+							 int haloX , int haloY , int tileWidth , int tileHeight ) {
+		this(new WorkerFactory<FilterImageInterface<Input, Output>>() {
+			@Override
+			public FilterImageInterface<Input, Output> create() {
+				return filter;
+			}
+		}, haloX, haloY, tileWidth, tileHeight);
+		shared = true;
+	}
+
+	/**
+	 * Applies the filter to the input image and writes the results into the output image
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public void process( final TiledImage<Input> input , final TiledImage<Output> output ) {
+		if( input.getWidth() != output.getWidth() || input.getHeight() != output.getHeight() )
+			throw new IllegalArgumentException("Input and output must have the same shape");
+
+		final ImageTileGrid grid = new ImageTileGrid(input.getWidth(), input.getHeight(),
+				tileWidth, tileHeight, haloX, haloY);
+
+		if( BoofConcurrency.USE_CONCURRENT && !shared ) {
+			BoofConcurrency.loopBlocks(0, grid.getNumTiles(), 1, new IntRangeTask() {
+				@Override
+				public void process(int start, int end) {
+					processTiles(grid, start, end, input, output);
+				}
+			});
+		} else {
+			processTiles(grid, 0, grid.getNumTiles(), input, output);
+		}
+	}
+
+	/**
+	 * Processes tiles in the specified range using a new instance of the filter
+	 */
+	protected void processTiles( ImageTileGrid grid , int start , int end ,
+								 TiledImage<Input> input , TiledImage<Output> output ) {
+		FilterImageInterface<Input, Output> filter = factory.create();
+
+		// if the filter skips the border then the output tile needs to start with the output's values
+		boolean copyOutput = filter.getHorizontalBorder() > 0 || filter.getVerticalBorder() > 0;
+
+		ImageRectangle core = new ImageRectangle();
+		ImageRectangle halo = new ImageRectangle();
+		ImageRectangle region = new ImageRectangle();
+
+		for( int tile = start; tile < end; tile++ ) {
+			grid.getCore(tile, core);
+			grid.getHalo(tile, halo);
+
+			// region covered by the tile images
+			if( borderType == null )
+				region.set(halo);
+			else
+				region.set(core.x0 - haloX, core.y0 - haloY, core.x1 + haloX, core.y1 + haloY);
+
+			int w = region.getWidth();
+			int h = region.getHeight();
+			int offX = halo.x0 - region.x0;
+			int offY = halo.y0 - region.y0;
+
+			Input tileIn = pool.borrow(input.getImageType(), w, h);
+			Output tileOut = pool.borrow(output.getImageType(), w, h);
+
+			try {
+				Input inner = (Input)tileIn.subimage(offX, offY, offX + halo.getWidth(), offY + halo.getHeight(), null);
+				input.read(halo.x0, halo.y0, inner);
+
+				if( borderType != null && (w != halo.getWidth() || h != halo.getHeight()) )
+					fillBorder(tileIn, inner, offX, offY);
+
+				if( copyOutput ) {
+					output.read(halo.x0, halo.y0, (Output)tileOut.subimage(offX, offY,
+							offX + halo.getWidth(), offY + halo.getHeight(), null));
+				}
+
+				filter.process(tileIn, tileOut);
+
+				int cx = core.x0 - region.x0;
+				int cy = core.y0 - region.y0;
+				output.write(core.x0, core.y0, (Output)tileOut.subimage(cx, cy,
+						cx + core.getWidth(), cy + core.getHeight(), null));
+			} finally {
+				pool.recycle(tileIn);
+				pool.recycle(tileOut);
+			}
+		}
+	}
+
+	/**
+	 * Fills in pixels in the tile which are outside the image using the image border
+	 */
+	private void fillBorder( Input tile , Input inner , int offX , int offY ) {
+		ImageBorder<Input> border = FactoryImageBorder.general(inner, borderType);
+
+		for( int y = 0; y < tile.height; y++ ) {
+			boolean insideY = y >= offY && y < offY + inner.height;
+			for( int x = 0; x < tile.width; x++ ) {
+				if( insideY && x >= offX && x < offX + inner.width )
+					continue;
+				GeneralizedImageOps.set(tile, x, y, border.getGeneral(x - offX, y - offY));
+			}
+		}
+	}
+
+	/**
+	 * Specifies how tiles along the image border are padded.  If null, the default, tiles are not padded.
+	 *
+	 * @param borderType How the border is handled.  Only EXTENDED and REFLECT are supported.
+	 */
+	public void setBorderType( BorderType borderType ) {
+		if( borderType != null && borderType != BorderType.EXTENDED && borderType != BorderType.REFLECT )
+			throw new IllegalArgumentException("Border type not supported by tiled images: "+borderType);
+		this.borderType = borderType;
+	}
+
+	public BorderType getBorderType() {
+		return borderType;
+	}
+
+	public int getHaloX() {
+		return haloX;
+	}
+
+	public int getHaloY() {
+		return haloY;
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	public int getTileHeight() {
+		return tileHeight;
+	}
+
+	public ImagePool getImagePool() {
+		return pool;
+	}
+
+	public void setImagePool(ImagePool pool) {
+		this.pool = pool;
+	}
+}
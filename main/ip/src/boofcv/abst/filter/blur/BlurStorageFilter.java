@@ -19,6 +19,7 @@
 package boofcv.abst.filter.blur;
 
 import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.testing.BoofTesting;
 
@@ -27,7 +28,9 @@ import java.lang.reflect.Method;
 
 /**
  * Simplified interface for using a blur filter that requires storage.  Reflections are used to look up a function inside
- * of {@link boofcv.alg.filter.blur.BlurImageOps} which is then invoked later on.
+ * of {@link boofcv.alg.filter.blur.BlurImageOps} which is then invoked later on.  If an {@link ImagePool} is
+ * specified then the storage is borrowed from the pool while the image is being processed instead of being
+ * owned by the filter.
  *
  * @author Peter Abeles
  */
@@ -43,6 +46,8 @@ public class BlurStorageFilter<T extends ImageSingleBand> implements BlurFilter<
 	private ImageSingleBand storage;
 	// if sigma is an input or not
 	private boolean hasSigma;
+	// (Optional) Source of storage images
+	private ImagePool pool;
 
 	// type of image it processes
 	Class<T> inputType;
@@ -87,23 +92,45 @@ public class BlurStorageFilter<T extends ImageSingleBand> implements BlurFilter<
 
 	@Override
 	public void process(T input, T output) {
-		try {
+		ImageSingleBand work;
+		if( pool != null ) {
+			work = pool.borrowLike(output,output.width,output.height);
+		} else {
 			if( storage == null ) {
 				storage = (ImageSingleBand)output._createNew(output.width,output.height);
 			} else {
 				storage.reshape(output.width,output.height);
 			}
+			work = storage;
+		}
+
+		try {
 			if( hasSigma )
-				m.invoke(null,input,output,sigma,radius,storage);
+				m.invoke(null,input,output,sigma,radius,work);
 			else
-				m.invoke(null,input,output,radius,storage);
+				m.invoke(null,input,output,radius,work);
 		} catch (IllegalAccessException e) {
 			throw new RuntimeException(e);
 		} catch (InvocationTargetException e) {
 			throw new RuntimeException(e);
+		} finally {
+			if( pool != null )
+				pool.recycle(work);
 		}
 	}
 
+	/**
+	 * Specifies a pool which storage images are borrowed from.  If null then the filter declares its own storage.
+	 */
+	public void setImagePool( ImagePool pool ) {
+		this.pool = pool;
+		this.storage = null;
+	}
+
+	public ImagePool getImagePool() {
+		return pool;
+	}
+
 	@Override
 	public int getHorizontalBorder() {
 		return 0;
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter.blur;
+
+import boofcv.alg.filter.blur.GBlurImageOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * Approximates Gaussian blur with a filter whose cost per pixel does not depend on sigma.  Either a recursive filter
+ * or repeated box filters are used.  See {@link boofcv.alg.filter.blur.BlurImageOps#gaussianRecursive} and
+ * {@link boofcv.alg.filter.blur.BlurImageOps#gaussianBox}.  The radius is the radius of the equivalent
+ * Gaussian kernel, as computed by {@link FactoryKernelGaussian#radiusForSigma(double, int)}.
+ *
+ * @author Peter Abeles
+ */
+public class GaussianApproxFilter<T extends ImageSingleBand> implements BlurFilter<T> {
+
+	// the Gaussian's standard deviation
+	private double sigma;
+	// number of box filter passes or zero if the recursive filter is used
+	private int numPasses;
+	// stores intermediate results for the box filter
+	private T storage;
+	// (Optional) Source of storage images
+	private ImagePool pool;
+
+	// type of image it processes
+	Class<T> inputType;
+
+	/**
+	 * Configures the filter
+	 *
+	 * @param inputType Type of input image
+	 * @param sigma The Gaussian's standard deviation
+	 * @param numPasses Number of box filter passes along each axis.  If 0 then the recursive filter is used.
+	 */
+	public GaussianApproxFilter(Class<T> inputType, double sigma, int numPasses) {
+		if( numPasses < 0 )
+			throw new IllegalArgumentException("Number of passes can't be negative");
+		this.inputType = inputType;
+		this.sigma = sigma;
+		this.numPasses = numPasses;
+	}
+
+	@Override
+	public int getRadius() {
+		return FactoryKernelGaussian.radiusForSigma(sigma,0);
+	}
+
+	@Override
+	public void setRadius(int radius) {
+		this.sigma = FactoryKernelGaussian.sigmaForRadius(radius,0);
+	}
+
+	public double getSigma() {
+		return sigma;
+	}
+
+	public void setSigma(double sigma) {
+		this.sigma = sigma;
+	}
+
+	@Override
+	public void process(T input, T output) {
+		if( numPasses == 0 ) {
+			GBlurImageOps.gaussianRecursive(input,output,sigma);
+			return;
+		}
+
+		T work;
+		if( pool != null ) {
+			work = pool.borrowLike(output,output.width,output.height);
+		} else {
+			if( storage == null ) {
+				storage = (T)output._createNew(output.width,output.height);
+			} else {
+				storage.reshape(output.width,output.height);
+			}
+			work = storage;
+		}
+
+		try {
+			GBlurImageOps.gaussianBox(input,output,sigma,numPasses,work);
+		} finally {
+			if( pool != null )
+				pool.recycle(work);
+		}
+	}
+
+	/**
+	 * Specifies a pool which storage images are borrowed from.  If null then the filter declares its own storage.
+	 */
+	public void setImagePool( ImagePool pool ) {
+		this.pool = pool;
+		this.storage = null;
+	}
+
+	public ImagePool getImagePool() {
+		return pool;
+	}
+
+	@Override
+	public int getHorizontalBorder() {
+		return 0;
+	}
+
+	@Override
+	public int getVerticalBorder() {
+		return 0;
+	}
+
+	@Override
+	public Class<T> getInputType() {
+		return inputType;
+	}
+}
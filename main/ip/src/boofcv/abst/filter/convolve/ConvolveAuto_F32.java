@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter.convolve;
+
+import boofcv.alg.filter.convolve.*;
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.ImageFloat32;
+
+/**
+ * <p>
+ * Convolves a kernel across an {@link ImageFloat32} using whichever of direct, separable, or Fourier convolution
+ * is estimated to be the fastest by {@link ConvolveCostModel}.  The method is selected again whenever the
+ * image shape changes.  Fourier convolution is typically selected for kernels with a radius larger than five
+ * and separable convolution for 2D kernels which can be decomposed into two 1D kernels, such as a Gaussian blur.
+ * </p>
+ *
+ * <p>
+ * The kernel's spectrum and other work space are saved between calls, making this class more efficient than
+ * {@link GConvolveImageOps#convolveAuto} when the same kernel is applied to many images.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveAuto_F32 implements ConvolveInterface<ImageFloat32,ImageFloat32> {
+
+	// relative tolerance used when checking to see if a 2D kernel is separable
+	public static final float SEPARABLE_TOL = 1e-5f;
+
+	// the kernel.  Only one of these will be not null
+	private Kernel2D_F32 kernel2D;
+	private Kernel1D_F32 kernel1D;
+	private boolean horizontal;
+
+	// the 2D kernel decomposed into two 1D kernels or null if it isn't separable
+	private Kernel1D_F32 separableH;
+	private Kernel1D_F32 separableV;
+
+	// how the image border is handled
+	private BorderType type;
+	private ImageBorder_F32 border;
+
+	// selected method for the previous image shape
+	private ConvolveMethod method;
+	private int prevWidth = -1;
+	private int prevHeight = -1;
+
+	// declared when Fourier convolution is first used
+	private ConvolveFourier_F32 fourier;
+	// storage for the output of the horizontal kernel in separable convolution
+	private ImageFloat32 storage = new ImageFloat32(1,1);
+
+	/**
+	 * Convolution with a 2D kernel
+	 *
+	 * @param kernel The kernel.  Must not be modified while this class is in use.
+	 * @param type How the image border is handled.
+	 */
+	public ConvolveAuto_F32( Kernel2D_F32 kernel , BorderType type ) {
+		this.kernel2D = kernel;
+		setBorder(type);
+
+		Kernel1D_F32 h = new Kernel1D_F32(kernel.width);
+		Kernel1D_F32 v = new Kernel1D_F32(kernel.width);
+		if( KernelMath.decomposeSeparable(kernel,h,v,SEPARABLE_TOL) && isSeparableBorder(kernel,h,v) ) {
+			separableH = h;
+			separableV = v;
+		}
+	}
+
+	/**
+	 * Convolution with a 1D kernel
+	 *
+	 * @param kernel The kernel.  Must not be modified while this class is in use.
+	 * @param horizontal true for convolution along the rows and false for along the columns
+	 * @param type How the image border is handled.
+	 */
+	public ConvolveAuto_F32( Kernel1D_F32 kernel , boolean horizontal , BorderType type ) {
+		this.kernel1D = kernel;
+		this.horizontal = horizontal;
+		setBorder(type);
+	}
+
+	private void setBorder( BorderType type ) {
+		this.type = type;
+		if( type != BorderType.SKIP && type != BorderType.NORMALIZED )
+			border = (ImageBorder_F32)FactoryImageBorder.general(ImageFloat32.class, type);
+	}
+
+	/**
+	 * Applying the 1D kernels one after the other produces the same results as the 2D kernel for all border
+	 * types except NORMALIZED, where the image interior isn't normalized.  In that case both kernels must sum up
+	 * to one.
+	 */
+	private boolean isSeparableBorder( Kernel2D_F32 kernel , Kernel1D_F32 h , Kernel1D_F32 v ) {
+		if( type != BorderType.NORMALIZED )
+			return true;
+
+		float sumH = 0;
+		for( int i = 0; i < h.width; i++ )
+			sumH += h.data[i];
+		if( Math.abs(kernel.computeSum()-1) > SEPARABLE_TOL || Math.abs(sumH) <= SEPARABLE_TOL )
+			return false;
+
+		// scale the kernels so that they both sum up to one
+		for( int i = 0; i < h.width; i++ ) {
+			h.data[i] /= sumH;
+			v.data[i] *= sumH;
+		}
+		return true;
+	}
+
+	@Override
+	public void process(ImageFloat32 input, ImageFloat32 output) {
+		if( input.width != prevWidth || input.height != prevHeight ) {
+			prevWidth = input.width;
+			prevHeight = input.height;
+			method = selectMethod(input.width,input.height);
+		}
+
+		switch( method ) {
+			case DIRECT:
+				if( kernel2D != null )
+					processDirect(kernel2D, input, output);
+				else
+					processDirect(kernel1D, horizontal, input, output);
+				break;
+
+			case SEPARABLE:
+				processSeparable(input, output);
+				break;
+
+			case FOURIER:
+				processFourier(input, output);
+				break;
+		}
+	}
+
+	private ConvolveMethod selectMethod( int width , int height ) {
+		if( kernel2D != null )
+			return ConvolveCostModel.select(kernel2D, separableH != null, width, height);
+		else
+			return ConvolveCostModel.select(kernel1D.width, horizontal, width, height);
+	}
+
+	private void processDirect( Kernel2D_F32 kernel , ImageFloat32 input , ImageFloat32 output ) {
+		switch( type ) {
+			case SKIP: ConvolveImageNoBorder.convolve(kernel,input,output); break;
+			case NORMALIZED: ConvolveNormalized.convolve(kernel,input,output); break;
+			default: ConvolveWithBorder.convolve(kernel,input,output,border); break;
+		}
+	}
+
+	private void processDirect( Kernel1D_F32 kernel , boolean horizontal ,
+								ImageFloat32 input , ImageFloat32 output ) {
+		switch( type ) {
+			case SKIP:
+				if( horizontal )
+					ConvolveImageNoBorder.horizontal(kernel,input,output);
+				else
+					ConvolveImageNoBorder.vertical(kernel,input,output);
+				break;
+
+			case NORMALIZED:
+				if( horizontal )
+					ConvolveNormalized.horizontal(kernel,input,output);
+				else
+					ConvolveNormalized.vertical(kernel,input,output);
+				break;
+
+			default:
+				if( horizontal )
+					ConvolveWithBorder.horizontal(kernel,input,output,border);
+				else
+					ConvolveWithBorder.vertical(kernel,input,output,border);
+				break;
+		}
+	}
+
+	private void processSeparable( ImageFloat32 input , ImageFloat32 output ) {
+		storage.reshape(input.width,input.height);
+
+		processDirect(separableH,true,input,storage);
+
+		if( type == BorderType.SKIP ) {
+			// only columns inside the horizontal border have been computed
+			int r = separableH.offset;
+			int x1 = input.width - (separableH.width - r - 1);
+			if( x1 <= r )
+				return;
+			processDirect(separableV,false,storage.subimage(r,0,x1,input.height,null),
+					output.subimage(r,0,x1,input.height,null));
+		} else {
+			processDirect(separableV,false,storage,output);
+		}
+	}
+
+	private void processFourier( ImageFloat32 input , ImageFloat32 output ) {
+		if( fourier == null ) {
+			if( kernel2D != null )
+				fourier = new ConvolveFourier_F32(kernel2D);
+			else
+				fourier = new ConvolveFourier_F32(kernel1D,horizontal);
+		}
+
+		switch( type ) {
+			case SKIP: fourier.convolve(input,output); break;
+			case NORMALIZED: fourier.convolveNormalized(input,output); break;
+			default: fourier.convolve(input,output,border); break;
+		}
+	}
+
+	/**
+	 * Method used to process the most recent image or null if no image has been processed
+	 */
+	public ConvolveMethod getMethod() {
+		return method;
+	}
+
+	private KernelBase getKernel() {
+		return kernel2D != null ? kernel2D : kernel1D;
+	}
+
+	@Override
+	public int getHorizontalBorder() {
+		if( type == BorderType.SKIP)
+			return getKernel().getRadius();
+		else
+			return 0;
+	}
+
+	@Override
+	public int getVerticalBorder() {
+		return getHorizontalBorder();
+	}
+
+	@Override
+	public BorderType getBorderType() {
+		return type;
+	}
+
+	@Override
+	public Class<ImageFloat32> getInputType() {
+		return ImageFloat32.class;
+	}
+}
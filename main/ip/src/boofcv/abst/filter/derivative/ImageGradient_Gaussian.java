@@ -24,6 +24,7 @@ import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageType;
 
@@ -32,7 +33,8 @@ import static boofcv.factory.filter.kernel.FactoryKernelGaussian.sigmaForRadius;
 
 /**
  * Finds the derivative using a Gaussian kernel.  This is the same as convolving the image
- * and then computing the derivative
+ * and then computing the derivative.  Intermediate results are stored in an image borrowed from an
+ * {@link ImagePool}, if one is specified.
  *
  * @author Peter Abeles
  */
@@ -45,6 +47,8 @@ public class ImageGradient_Gaussian<I extends ImageSingleBand, D extends ImageSi
 
 	// storage the results after the first gaussian blur
 	private I storage;
+	// (Optional) Source of storage images
+	private ImagePool pool;
 
 	// type of input/output images
 	private Class<D> derivType;
@@ -77,16 +81,37 @@ public class ImageGradient_Gaussian<I extends ImageSingleBand, D extends ImageSi
 	@Override
 	public void process( I inputImage , D derivX, D derivY ) {
 
-		if( storage == null ) {
-			storage = (I)inputImage._createNew(inputImage.width,inputImage.height );
+		I work;
+		if( pool != null ) {
+			work = pool.borrowLike(inputImage,inputImage.width,inputImage.height);
 		} else {
-			storage.reshape(inputImage.width,inputImage.height);
+			if( storage == null ) {
+				storage = (I)inputImage._createNew(inputImage.width,inputImage.height );
+			} else {
+				storage.reshape(inputImage.width,inputImage.height);
+			}
+			work = storage;
 		}
 
-		GConvolveImageOps.verticalNormalized(kernelBlur,inputImage,storage);
-		GConvolveImageOps.horizontal(kernelDeriv,storage,derivX,border );
-		GConvolveImageOps.horizontalNormalized(kernelBlur,inputImage,storage);
-		GConvolveImageOps.vertical(kernelDeriv,storage,derivY,border );
+		GConvolveImageOps.verticalNormalized(kernelBlur,inputImage,work);
+		GConvolveImageOps.horizontal(kernelDeriv,work,derivX,border );
+		GConvolveImageOps.horizontalNormalized(kernelBlur,inputImage,work);
+		GConvolveImageOps.vertical(kernelDeriv,work,derivY,border );
+
+		if( pool != null )
+			pool.recycle(work);
+	}
+
+	/**
+	 * Specifies a pool which storage images are borrowed from.  If null then it declares its own storage.
+	 */
+	public void setImagePool( ImagePool pool ) {
+		this.pool = pool;
+		this.storage = null;
+	}
+
+	public ImagePool getImagePool() {
+		return pool;
 	}
 
 	@Override
@@ -35,6 +35,12 @@ import boofcv.struct.image.ImageBase;
  * a[i*2*width+2*j+1] = Im[i][j], 0&le;i&lt;height, 0&le;j&lt;width,</pre>
  * </p>
  * <p>
+ * HALF SPECTRUM: The transform of a real image is Hermitian symmetric, Re[i][j] = Re[-i][-j] and
+ * Im[i][j] = -Im[-i][-j], so only columns 0 to width/2 need to be computed and stored.  {@link #forwardHalf}
+ * and {@link #inverseHalf} work with this reduced spectrum, which has (width/2+1) complex columns and the
+ * same height as the image.  It uses about half the memory and half the computations of the full transform.
+ * </p>
+ * <p>
  * INPUT MODIFICATION: By default none of the inputs are modified.  However, in some implementations, memory can be
  * saved by allowing inputs to be modified.  To allow the class to modify its inputs use the following function,
  * {@link #setModifyInputs(boolean)}.
@@ -59,6 +65,24 @@ public interface DiscreteFourierTransform<I extends ImageBase, T extends ImageBa
 	 */
 	public void inverse( T transform , I image );
 
+	/**
+	 * Applies the forward transform to the input image and only computes the non-redundant half of the spectrum.
+	 *
+	 * @param image (Input) Input image.  Default: Not modified.
+	 * @param transform (Output) Half of the Fourier transform, width/2+1 complex columns and the same height as the
+	 *                  input.  Modified.
+	 */
+	public void forwardHalf( I image , T transform );
+
+	/**
+	 * Applies the inverse transform to a half spectrum computed by {@link #forwardHalf} to recover the original image.
+	 *
+	 * @param transform (Input) Half of the Fourier transform, width/2+1 complex columns and the same height as the
+	 *                  output.  Default: Not modified.
+	 * @param image (Output) reconstructed image.  Modified.
+	 */
+	public void inverseHalf( T transform , I image );
+
 	/**
 	 * This function can toggle the internal implementations ability to modify the input image or input transform.
 	 *
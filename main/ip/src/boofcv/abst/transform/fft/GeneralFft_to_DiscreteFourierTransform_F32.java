@@ -19,24 +19,23 @@
 package boofcv.abst.transform.fft;
 
 import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
+import boofcv.alg.transform.fft.FftPlanCache;
+import boofcv.alg.transform.fft.FftPlan_F32;
 import boofcv.alg.transform.fft.GeneralPurposeFFT_F32_2D;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.InterleavedF32;
 
 /**
- * Wrapper around {@link GeneralPurposeFFT_F32_2D} which implements {@link DiscreteFourierTransform}
+ * Wrapper around {@link GeneralPurposeFFT_F32_2D} which implements {@link DiscreteFourierTransform}.  The
+ * transforms are borrowed from a {@link FftPlanCache} so that they are only declared once for each image size.
  *
  * @author Peter Abeles
  */
 public class GeneralFft_to_DiscreteFourierTransform_F32
 		implements DiscreteFourierTransform<ImageFloat32,InterleavedF32>
 {
-	// previous size of input image
-	private int prevWidth = -1;
-	private int prevHeight = -1;
-
-	// performs the FFT
-	private GeneralPurposeFFT_F32_2D alg;
+	// source of FFT plans
+	private FftPlanCache cache;
 
 	// storage for temporary results
 	private InterleavedF32 tmp = new InterleavedF32(1,1,2);
@@ -44,19 +43,30 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 	// if true then it can modify the input images
 	private boolean modifyInputs = false;
 
+	public GeneralFft_to_DiscreteFourierTransform_F32( FftPlanCache cache ) {
+		this.cache = cache;
+	}
+
+	public GeneralFft_to_DiscreteFourierTransform_F32() {
+		this(FftPlanCache.getGlobal());
+	}
+
 	@Override
 	public void forward(ImageFloat32 image, InterleavedF32 transform ) {
 		DiscreteFourierTransformOps.checkImageArguments(image,transform);
 		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
 		int N = image.width*image.height;
 		System.arraycopy(image.data,0,transform.data,0,N);
 
 		// the transform over writes the input data
-		alg.realForwardFull(transform.data);
+		FftPlan_F32 plan = cache.acquireF32(image.width,image.height);
+		try {
+			plan.getFull().realForwardFull(transform.data);
+		} finally {
+			cache.release(plan);
+		}
 	}
 
 	@Override
@@ -65,8 +75,6 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 		if( image.isSubimage() || transform.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
 		// If he user lets us, modify the transform
 		InterleavedF32 workImage;
 		if(modifyInputs) {
@@ -77,7 +85,12 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 			workImage = tmp;
 		}
 
-		alg.complexInverse(workImage.data, true);
+		FftPlan_F32 plan = cache.acquireF32(image.width,image.height);
+		try {
+			plan.getFull().complexInverse(workImage.data, true);
+		} finally {
+			cache.release(plan);
+		}
 
 		// copy the real portion.  imaginary should be zeros
 		int N = image.width*image.height;
@@ -86,14 +99,37 @@ public class GeneralFft_to_DiscreteFourierTransform_F32
 		}
 	}
 
-	/**
-	 * Declare the algorithm if the image size has changed
-	 */
-	private void checkDeclareAlg(ImageFloat32 image) {
-		if( prevWidth != image.width || prevHeight != image.height ) {
-			prevWidth = image.width;
-			prevHeight = image.height;
-			alg = new GeneralPurposeFFT_F32_2D(image.height,image.width);
+	@Override
+	public void forwardHalf(ImageFloat32 image, InterleavedF32 transform) {
+		DiscreteFourierTransformOps.checkHalfArguments(image, transform);
+
+		FftPlan_F32 plan = cache.acquireF32(image.width,image.height);
+		try {
+			plan.forwardHalf(image,transform);
+		} finally {
+			cache.release(plan);
+		}
+	}
+
+	@Override
+	public void inverseHalf(InterleavedF32 transform, ImageFloat32 image) {
+		DiscreteFourierTransformOps.checkHalfArguments(image, transform);
+
+		// the plan uses the transform as work space
+		InterleavedF32 workImage;
+		if(modifyInputs) {
+			workImage = transform;
+		} else {
+			tmp.reshape(transform.width,transform.height);
+			tmp.setTo(transform);
+			workImage = tmp;
+		}
+
+		FftPlan_F32 plan = cache.acquireF32(image.width,image.height);
+		try {
+			plan.inverseHalf(workImage,image);
+		} finally {
+			cache.release(plan);
 		}
 	}
 
@@ -19,24 +19,23 @@
 package boofcv.abst.transform.fft;
 
 import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
+import boofcv.alg.transform.fft.FftPlanCache;
+import boofcv.alg.transform.fft.FftPlan_F64;
 import boofcv.alg.transform.fft.GeneralPurposeFFT_F64_2D;
 import boofcv.struct.image.ImageFloat64;
 import boofcv.struct.image.InterleavedF64;
 
 /**
- * Wrapper around {@link GeneralPurposeFFT_F64_2D} which implements {@link DiscreteFourierTransform}
+ * Wrapper around {@link GeneralPurposeFFT_F64_2D} which implements {@link DiscreteFourierTransform}.  The
+ * transforms are borrowed from a {@link FftPlanCache} so that they are only declared once for each image size.
  *
  * @author Peter Abeles
  */
 public class GeneralFft_to_DiscreteFourierTransform_F64
 		implements DiscreteFourierTransform<ImageFloat64,InterleavedF64>
 {
-	// previous size of input image
-	private int prevWidth = -1;
-	private int prevHeight = -1;
-
-	// performs the FFT
-	private GeneralPurposeFFT_F64_2D alg;
+	// source of FFT plans
+	private FftPlanCache cache;
 
 	// storage for temporary results
 	private InterleavedF64 tmp = new InterleavedF64(1,1,2);
@@ -44,19 +43,30 @@ public class GeneralFft_to_DiscreteFourierTransform_F64
 	// if true then it can modify the input images
 	private boolean modifyInputs = false;
 
+	public GeneralFft_to_DiscreteFourierTransform_F64( FftPlanCache cache ) {
+		this.cache = cache;
+	}
+
+	public GeneralFft_to_DiscreteFourierTransform_F64() {
+		this(FftPlanCache.getGlobal());
+	}
+
 	@Override
 	public void forward(ImageFloat64 image, InterleavedF64 transform ) {
 		DiscreteFourierTransformOps.checkImageArguments(image,transform);
 		if( image.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
 		int N = image.width*image.height;
 		System.arraycopy(image.data,0,transform.data,0,N);
 
 		// the transform over writes the input data
-		alg.realForwardFull(transform.data);
+		FftPlan_F64 plan = cache.acquireF64(image.width,image.height);
+		try {
+			plan.getFull().realForwardFull(transform.data);
+		} finally {
+			cache.release(plan);
+		}
 	}
 
 	@Override
@@ -65,8 +75,6 @@ public class GeneralFft_to_DiscreteFourierTransform_F64
 		if( image.isSubimage() )
 			throw new IllegalArgumentException("Subimages are not supported");
 
-		checkDeclareAlg(image);
-
 		// If he user lets us, modify the transform
 		InterleavedF64 workImage;
 		if(modifyInputs) {
@@ -77,7 +85,12 @@ public class GeneralFft_to_DiscreteFourierTransform_F64
 			workImage = tmp;
 		}
 
-		alg.complexInverse(workImage.data, true);
+		FftPlan_F64 plan = cache.acquireF64(image.width,image.height);
+		try {
+			plan.getFull().complexInverse(workImage.data, true);
+		} finally {
+			cache.release(plan);
+		}
 
 		// copy the real portion.  imaginary should be zeros
 		int N = image.width*image.height;
@@ -86,14 +99,37 @@ public class GeneralFft_to_DiscreteFourierTransform_F64
 		}
 	}
 
-	/**
-	 * Declare the algorithm if the image size has changed
-	 */
-	private void checkDeclareAlg(ImageFloat64 image) {
-		if( prevWidth != image.width || prevHeight != image.height ) {
-			prevWidth = image.width;
-			prevHeight = image.height;
-			alg = new GeneralPurposeFFT_F64_2D(image.height,image.width);
+	@Override
+	public void forwardHalf(ImageFloat64 image, InterleavedF64 transform) {
+		DiscreteFourierTransformOps.checkHalfArguments(image, transform);
+
+		FftPlan_F64 plan = cache.acquireF64(image.width,image.height);
+		try {
+			plan.forwardHalf(image,transform);
+		} finally {
+			cache.release(plan);
+		}
+	}
+
+	@Override
+	public void inverseHalf(InterleavedF64 transform, ImageFloat64 image) {
+		DiscreteFourierTransformOps.checkHalfArguments(image, transform);
+
+		// the plan uses the transform as work space
+		InterleavedF64 workImage;
+		if(modifyInputs) {
+			workImage = transform;
+		} else {
+			tmp.reshape(transform.width,transform.height);
+			tmp.setTo(transform);
+			workImage = tmp;
+		}
+
+		FftPlan_F64 plan = cache.acquireF64(image.width,image.height);
+		try {
+			plan.inverseHalf(workImage,image);
+		} finally {
+			cache.release(plan);
 		}
 	}
 
@@ -19,7 +19,12 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorInterleaved;
+import boofcv.alg.color.impl.ImplColorInterleaved_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 
 /**
@@ -364,4 +369,53 @@ public class ColorHsv {
 			}
 		}
 	}
+
+	/**
+	 * Converts an interleaved RGB image into HSV.  RGB values are 8-bit and the value in HSV has the same range.
+	 * Divisions are replaced by a lookup table.
+	 *
+	 * @param rgb (Input) Image in RGB format
+	 * @param hsv (Output) Image in HSV format
+	 */
+	public static void rgbToHsv_U8( InterleavedU8 rgb , InterleavedF32 hsv ) {
+		InputSanityCheck.checkSameShape(rgb,hsv);
+		ImplColorInterleaved.checkBands(rgb,hsv);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToHsv_U8(rgb,hsv);
+		else
+			ImplColorInterleaved.rgbToHsv_U8(rgb,hsv,0,rgb.height);
+	}
+
+	/**
+	 * Converts an interleaved RGB image into HSV.
+	 *
+	 * @param rgb (Input) Image in RGB format
+	 * @param hsv (Output) Image in HSV format
+	 */
+	public static void rgbToHsv_F32( InterleavedF32 rgb , InterleavedF32 hsv ) {
+		InputSanityCheck.checkSameShape(rgb,hsv);
+		ImplColorInterleaved.checkBands(rgb,hsv);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToHsv_F32(rgb,hsv);
+		else
+			ImplColorInterleaved.rgbToHsv_F32(rgb,hsv,0,rgb.height);
+	}
+
+	/**
+	 * Converts an interleaved HSV image into RGB.
+	 *
+	 * @param hsv (Input) Image in HSV format
+	 * @param rgb (Output) Image in RGB format
+	 */
+	public static void hsvToRgb_F32( InterleavedF32 hsv , InterleavedF32 rgb ) {
+		InputSanityCheck.checkSameShape(hsv,rgb);
+		ImplColorInterleaved.checkBands(rgb,hsv);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.hsvToRgb_F32(hsv,rgb);
+		else
+			ImplColorInterleaved.hsvToRgb_F32(hsv,rgb,0,hsv.height);
+	}
 }
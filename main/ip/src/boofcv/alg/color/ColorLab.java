@@ -19,8 +19,13 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorInterleaved;
+import boofcv.alg.color.impl.ImplColorInterleaved_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 
 /**
@@ -208,4 +213,37 @@ public class ColorLab {
 			}
 		}
 	}
+
+	/**
+	 * Converts an interleaved 8-bit RGB image into LAB.  XYZ is computed using lookup tables and the cube root
+	 * is interpolated from a table, which introduces an error of less than 0.01 in L.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image
+	 */
+	public static void rgbToLab_U8( InterleavedU8 rgb , InterleavedF32 lab ) {
+		InputSanityCheck.checkSameShape(rgb,lab);
+		ImplColorInterleaved.checkBands(rgb,lab);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToLab_U8(rgb,lab);
+		else
+			ImplColorInterleaved.rgbToLab_U8(rgb,lab,0,rgb.height);
+	}
+
+	/**
+	 * Converts an interleaved RGB image into LAB.  RGB is assumed to have a range from 0:255
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param lab (Output) LAB encoded image
+	 */
+	public static void rgbToLab_F32( InterleavedF32 rgb , InterleavedF32 lab ) {
+		InputSanityCheck.checkSameShape(rgb,lab);
+		ImplColorInterleaved.checkBands(rgb,lab);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToLab_F32(rgb,lab);
+		else
+			ImplColorInterleaved.rgbToLab_F32(rgb,lab,0,rgb.height);
+	}
 }
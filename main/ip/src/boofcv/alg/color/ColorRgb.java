@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.color;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorInterleaved;
+import boofcv.alg.color.impl.ImplColorInterleaved_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+
+/**
+ * <p>
+ * Conversion from RGB into gray scale.  Unlike {@link boofcv.core.image.ConvertImage#average}, the bands are
+ * weighted by how bright they appear to people, using the same weights as the Y channel in {@link ColorYuv}.
+ * </p>
+ *
+ * <p>
+ * Interleaved images can have more than three bands, e.g. an alpha channel, and the extra bands are ignored.  The
+ * bands must be in RGB order, which is not the case for images extracted from a BufferedImage of type
+ * TYPE_3BYTE_BGR.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ColorRgb {
+
+	/**
+	 * Converts an 8-bit interleaved RGB image into gray scale using fixed point arithmetic.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param gray (Output) Gray scale image
+	 */
+	public static void rgbToGray_Weighted( InterleavedU8 rgb , ImageUInt8 gray ) {
+		InputSanityCheck.checkSameShape(rgb,gray);
+		ImplColorInterleaved.checkBands(rgb,null);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToGray_Weighted(rgb,gray);
+		else
+			ImplColorInterleaved.rgbToGray_Weighted(rgb,gray,0,rgb.height);
+	}
+
+	/**
+	 * Converts an interleaved RGB image into gray scale.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param gray (Output) Gray scale image
+	 */
+	public static void rgbToGray_Weighted( InterleavedF32 rgb , ImageFloat32 gray ) {
+		InputSanityCheck.checkSameShape(rgb,gray);
+		ImplColorInterleaved.checkBands(rgb,null);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToGray_Weighted(rgb,gray);
+		else
+			ImplColorInterleaved.rgbToGray_Weighted(rgb,gray,0,rgb.height);
+	}
+}
@@ -19,8 +19,13 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorInterleaved;
+import boofcv.alg.color.impl.ImplColorInterleaved_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 
 /**
@@ -170,4 +175,36 @@ public class ColorXyz {
 			}
 		}
 	}
+
+	/**
+	 * Converts an interleaved 8-bit RGB image into XYZ.  Multiplications are replaced by lookup tables.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param xyz (Output) XYZ encoded image
+	 */
+	public static void rgbToXyz_U8( InterleavedU8 rgb , InterleavedF32 xyz ) {
+		InputSanityCheck.checkSameShape(rgb,xyz);
+		ImplColorInterleaved.checkBands(rgb,xyz);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToXyz_U8(rgb,xyz);
+		else
+			ImplColorInterleaved.rgbToXyz_U8(rgb,xyz,0,rgb.height);
+	}
+
+	/**
+	 * Converts an interleaved RGB image into XYZ.  RGB is assumed to have a range from 0:255
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param xyz (Output) XYZ encoded image
+	 */
+	public static void rgbToXyz_F32( InterleavedF32 rgb , InterleavedF32 xyz ) {
+		InputSanityCheck.checkSameShape(rgb,xyz);
+		ImplColorInterleaved.checkBands(rgb,xyz);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToXyz_F32(rgb,xyz);
+		else
+			ImplColorInterleaved.rgbToXyz_F32(rgb,xyz,0,rgb.height);
+	}
 }
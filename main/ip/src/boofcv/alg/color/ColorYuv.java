@@ -19,8 +19,13 @@
 package boofcv.alg.color;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.color.impl.ImplColorInterleaved;
+import boofcv.alg.color.impl.ImplColorInterleaved_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 
 /**
@@ -250,4 +255,69 @@ public class ColorYuv {
 		}
 	}
 
+	/**
+	 * Converts an interleaved RGB image into YUV.
+	 *
+	 * @param rgb (Input) RGB encoded image
+	 * @param yuv (Output) YUV encoded image
+	 */
+	public static void rgbToYuv_F32( InterleavedF32 rgb , InterleavedF32 yuv ) {
+		InputSanityCheck.checkSameShape(rgb,yuv);
+		ImplColorInterleaved.checkBands(rgb,yuv);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToYuv_F32(rgb,yuv);
+		else
+			ImplColorInterleaved.rgbToYuv_F32(rgb,yuv,0,rgb.height);
+	}
+
+	/**
+	 * Converts an interleaved YUV image into RGB.
+	 *
+	 * @param yuv (Input) YUV encoded image
+	 * @param rgb (Output) RGB encoded image
+	 */
+	public static void yuvToRgb_F32( InterleavedF32 yuv , InterleavedF32 rgb ) {
+		InputSanityCheck.checkSameShape(yuv,rgb);
+		ImplColorInterleaved.checkBands(rgb,yuv);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.yuvToRgb_F32(yuv,rgb);
+		else
+			ImplColorInterleaved.yuvToRgb_F32(yuv,rgb,0,yuv.height);
+	}
+
+	/**
+	 * Converts an interleaved RGB image into YCbCr using fixed point lookup tables.  Same results as
+	 * {@link #rgbToYCbCr(int, int, int, byte[])}.
+	 *
+	 * @param rgb (Input) RGB encoded 8-bit image
+	 * @param yuv (Output) YCbCr encoded 8-bit image
+	 */
+	public static void rgbToYCbCr_U8( InterleavedU8 rgb , InterleavedU8 yuv ) {
+		InputSanityCheck.checkSameShape(rgb,yuv);
+		ImplColorInterleaved.checkBands(rgb,yuv);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.rgbToYCbCr_U8(rgb,yuv);
+		else
+			ImplColorInterleaved.rgbToYCbCr_U8(rgb,yuv,0,rgb.height);
+	}
+
+	/**
+	 * Converts an interleaved YCbCr image into RGB using fixed point lookup tables.  Same results as
+	 * {@link #ycbcrToRgb(int, int, int, byte[])}.
+	 *
+	 * @param yuv (Input) YCbCr encoded 8-bit image
+	 * @param rgb (Output) RGB encoded 8-bit image
+	 */
+	public static void ycbcrToRgb_U8( InterleavedU8 yuv , InterleavedU8 rgb ) {
+		InputSanityCheck.checkSameShape(yuv,rgb);
+		ImplColorInterleaved.checkBands(rgb,yuv);
+
+		if( BoofConcurrency.USE_CONCURRENT )
+			ImplColorInterleaved_MT.ycbcrToRgb_U8(yuv,rgb);
+		else
+			ImplColorInterleaved.ycbcrToRgb_U8(yuv,rgb,0,yuv.height);
+	}
 }
@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.color.ColorHsv;
+import boofcv.alg.color.ColorLab;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageInterleaved;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+
+/**
+ * <p>
+ * Implementations of color conversions which operate directly on interleaved images.  Each function processes
+ * the rows from y0 to y1.  The first three bands of the input are the color channels and any additional bands,
+ * such as alpha, are ignored.  Conversions from 8-bit images use lookup tables in place of multiplications and
+ * divisions.  Results are the same as the per pixel functions in {@link boofcv.alg.color} to within floating
+ * point error, except for gray scale which is computed in fixed point.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorInterleaved {
+
+	// ITU-R BT.601 luma weights scaled by 2^16
+	public static final int GRAY_R = 19595;
+	public static final int GRAY_G = 38470;
+	public static final int GRAY_B = 7471;
+
+	// 1.0/value for all 8-bit values.  Zero is mapped to zero
+	static final float INV[] = new float[256];
+
+	// value times the YCbCr coefficients in ColorYuv, which are scaled by 2^10.  The +16 and +128 offsets are
+	// added after the sum has been shifted back down
+	static final int Y_R[] = new int[256], Y_G[] = new int[256], Y_B[] = new int[256];
+	static final int CB_R[] = new int[256], CB_G[] = new int[256], CB_B[] = new int[256];
+	static final int CR_R[] = new int[256], CR_G[] = new int[256], CR_B[] = new int[256];
+
+	// lookup tables for YCbCr to RGB
+	static final int YI[] = new int[256];
+	static final int R_CR[] = new int[256], G_CR[] = new int[256], G_CB[] = new int[256], B_CB[] = new int[256];
+
+	// contribution of each normalized 8-bit channel to X, Y, Z
+	static final float X_R[] = new float[256], X_G[] = new float[256], X_B[] = new float[256];
+	static final float YY_R[] = new float[256], YY_G[] = new float[256], YY_B[] = new float[256];
+	static final float Z_R[] = new float[256], Z_G[] = new float[256], Z_B[] = new float[256];
+
+	// samples of the LAB transfer function across [0,1].  Interpolated between samples
+	static final int LAB_SAMPLES = 2048;
+	static final float LAB_F[] = new float[ LAB_SAMPLES + 2 ];
+
+	static {
+		for( int i = 1; i < 256; i++ ) {
+			INV[i] = 1.0f/i;
+		}
+
+		for( int i = 0; i < 256; i++ ) {
+			Y_R[i] = 187*i; Y_G[i] = 629*i; Y_B[i] = 63*i;
+			CB_R[i] = -103*i; CB_G[i] = -346*i; CB_B[i] = 450*i;
+			CR_R[i] = 450*i; CR_G[i] = -409*i; CR_B[i] = -41*i;
+
+			YI[i] = Math.max(0,1191*(i - 16));
+			R_CR[i] = 1836*(i-128);
+			G_CR[i] = -547*(i-128);
+			G_CB[i] = -218*(i-128);
+			B_CB[i] = 2165*(i-128);
+
+			float v = i/255f;
+			X_R[i] = 0.412453f*v/ColorLab.Xr_f; X_G[i] = 0.35758f*v/ColorLab.Xr_f; X_B[i] = 0.180423f*v/ColorLab.Xr_f;
+			YY_R[i] = 0.212671f*v/ColorLab.Yr_f; YY_G[i] = 0.71516f*v/ColorLab.Yr_f; YY_B[i] = 0.072169f*v/ColorLab.Yr_f;
+			Z_R[i] = 0.019334f*v/ColorLab.Zr_f; Z_G[i] = 0.119193f*v/ColorLab.Zr_f; Z_B[i] = 0.950227f*v/ColorLab.Zr_f;
+		}
+
+		// one extra sample past the end so that interpolation at 1.0 doesn't need to be handled separately
+		for( int i = 0; i < LAB_F.length; i++ ) {
+			LAB_F[i] = labF((double)i/LAB_SAMPLES);
+		}
+	}
+
+	/**
+	 * The nonlinear function applied to normalized X, Y, and Z when computing LAB
+	 */
+	private static float labF( double t ) {
+		if( t > ColorLab.epsilon )
+			return (float)Math.pow(t,1.0/3.0);
+		else
+			return (float)((ColorLab.kappa*t + 16.0)/116.0);
+	}
+
+	/**
+	 * Looks up the LAB transfer function using linear interpolation.  t must be in [0,1]
+	 */
+	private static float labLookup( float t ) {
+		float f = t*LAB_SAMPLES;
+		int i = (int)f;
+		float w = f - i;
+		return LAB_F[i] + w*(LAB_F[i+1]-LAB_F[i]);
+	}
+
+	/**
+	 * Checks the number of bands in the images being converted
+	 *
+	 * @param color Image in RGB which can have extra bands
+	 * @param converted (Optional) Image in another color space with exactly 3 bands
+	 */
+	public static void checkBands( ImageInterleaved color , ImageInterleaved converted ) {
+		if( color.numBands < 3 )
+			throw new IllegalArgumentException("RGB image must have at least 3 bands");
+		if( converted != null && converted.numBands != 3 )
+			throw new IllegalArgumentException("Converted image must have 3 bands");
+	}
+
+	public static void rgbToGray_Weighted( InterleavedU8 rgb , ImageUInt8 gray , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRgb = rgb.startIndex + y*rgb.stride;
+			int indexGray = gray.startIndex + y*gray.stride;
+			int end = indexGray + gray.width;
+
+			for( ; indexGray < end; indexGray++ , indexRgb += numBands ) {
+				int r = rgb.data[indexRgb] & 0xFF;
+				int g = rgb.data[indexRgb+1] & 0xFF;
+				int b = rgb.data[indexRgb+2] & 0xFF;
+
+				gray.data[indexGray] = (byte)((GRAY_R*r + GRAY_G*g + GRAY_B*b + 32768) >> 16);
+			}
+		}
+	}
+
+	public static void rgbToGray_Weighted( InterleavedF32 rgb , ImageFloat32 gray , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRgb = rgb.startIndex + y*rgb.stride;
+			int indexGray = gray.startIndex + y*gray.stride;
+			int end = indexGray + gray.width;
+
+			for( ; indexGray < end; indexGray++ , indexRgb += numBands ) {
+				gray.data[indexGray] = 0.299f*rgb.data[indexRgb] + 0.587f*rgb.data[indexRgb+1] +
+						0.114f*rgb.data[indexRgb+2];
+			}
+		}
+	}
+
+	public static void rgbToHsv_U8( InterleavedU8 rgb , InterleavedF32 hsv , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRgb = rgb.startIndex + y*rgb.stride;
+			int indexHsv = hsv.startIndex + y*hsv.stride;
+			int end = indexHsv + hsv.width*3;
+
+			for( ; indexHsv < end; indexHsv += 3 , indexRgb += numBands ) {
+				int r = rgb.data[indexRgb] & 0xFF;
+				int g = rgb.data[indexRgb+1] & 0xFF;
+				int b = rgb.data[indexRgb+2] & 0xFF;
+
+				int max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+				int min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+				int delta = max - min;
+
+				hsv.data[indexHsv+2] = max;
+
+				if( max == 0 ) {
+					hsv.data[indexHsv] = Float.NaN;
+					hsv.data[indexHsv+1] = 0;
+					continue;
+				}
+				hsv.data[indexHsv+1] = delta*INV[max];
+
+				// the hue is NaN when delta is zero, the same as in ColorHsv
+				float h;
+				if( delta == 0 )
+					h = Float.NaN;
+				else if( r == max )
+					h = ( g - b )*INV[delta];
+				else if( g == max )
+					h = 2 + ( b - r )*INV[delta];
+				else
+					h = 4 + ( r - g )*INV[delta];
+
+				h *= ColorHsv.d60_F32;
+				if( h < 0 )
+					h += ColorHsv.PI2_F32;
+
+				hsv.data[indexHsv] = h;
+			}
+		}
+	}
+
+	public static void rgbToHsv_F32( InterleavedF32 rgb , InterleavedF32 hsv , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexRgb = rgb.startIndex + y*rgb.stride;
+			int indexHsv = hsv.startIndex + y*hsv.stride;
+			int end = indexHsv + hsv.width*3;
+
+			for( ; indexHsv < end; indexHsv += 3 , indexRgb += numBands ) {
+				float r = rgb.data[indexRgb];
+				float g = rgb.data[indexRgb+1];
+				float b = rgb.data[indexRgb+2];
+
+				float max = r > g ? ( r > b ? r : b) : ( g > b ? g : b );
+				float min = r < g ? ( r < b ? r : b) : ( g < b ? g : b );
+				float delta = max - min;
+
+				hsv.data[indexHsv+2] = max;
+
+				if( max == 0 ) {
+					hsv.data[indexHsv] = Float.NaN;
+					hsv.data[indexHsv+1] = 0;
+					continue;
+				}
+				hsv.data[indexHsv+1] = delta/max;
+
+				float h;
+				if( r == max )
+					h = ( g - b )/delta;
+				else if( g == max )
+					h = 2 + ( b - r )/delta;
+				else
+					h = 4 + ( r - g )/delta;
+
+				h *= ColorHsv.d60_F32;
+				if( h < 0 )
+					h += ColorHsv.PI2_F32;
+
+				hsv.data[indexHsv] = h;
+			}
+		}
+	}
+
+	public static void hsvToRgb_F32( InterleavedF32 hsv , InterleavedF32 rgb , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexHsv = hsv.startIndex + y*hsv.stride;
+			int indexRgb = rgb.startIndex + y*rgb.stride;
+			int end = indexHsv + hsv.width*3;
+
+			for( ; indexHsv < end; indexHsv += 3 , indexRgb += numBands ) {
+				float h = hsv.data[indexHsv];
+				float s = hsv.data[indexHsv+1];
+				float v = hsv.data[indexHsv+2];
+
+				h /= ColorHsv.d60_F32;
+				int h_int = (int)h;
+				float remainder = h - h_int;
+				float p = v * ( 1 - s );
+				float q = v * ( 1 - s * remainder );
+				float t = v * ( 1 - s * ( 1 - remainder ) );
+
+				float r,g,b;
+				if( h_int < 1 ) {
+					r = v; g = t; b = p;
+				} else if( h_int < 2 ) {
+					r = q; g = v; b = p;
+				} else if( h_int < 3 ) {
+					r = p; g = v; b = t;
+				} else if( h_int < 4 ) {
+					r = p; g = q; b = v;
+				} else if( h_int < 5 ) {
+					r = t; g = p; b = v;
+				} else {
+					r = v; g = p; b = q;
+				}
+
+				rgb.data[indexRgb] = r;
+				rgb.data[indexRgb+1] = g;
+				rgb.data[indexRgb+2] = b;
+			}
+		}
+	}
+
+	public static void rgbToYuv_F32( InterleavedF32 rgb , InterleavedF32 yuv , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int end = indexYuv + yuv.width*3;
+
+			for( ; indexYuv < end; indexYuv += 3 , indexRgb += numBands ) {
+				float r = rgb.data[indexRgb];
+				float g = rgb.data[indexRgb+1];
+				float b = rgb.data[indexRgb+2];
+
+				float y = 0.299f*r + 0.587f*g + 0.114f*b;
+
+				yuv.data[indexYuv] = y;
+				yuv.data[indexYuv+1] = 0.492f*(b-y);
+				yuv.data[indexYuv+2] = 0.877f*(r-y);
+			}
+		}
+	}
+
+	public static void yuvToRgb_F32( InterleavedF32 yuv , InterleavedF32 rgb , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexYuv + yuv.width*3;
+
+			for( ; indexYuv < end; indexYuv += 3 , indexRgb += numBands ) {
+				float y = yuv.data[indexYuv];
+				float u = yuv.data[indexYuv+1];
+				float v = yuv.data[indexYuv+2];
+
+				rgb.data[indexRgb] = y + 1.13983f*v;
+				rgb.data[indexRgb+1] = y - 0.39465f*u - 0.58060f*v;
+				rgb.data[indexRgb+2] = y + 2.032f*u;
+			}
+		}
+	}
+
+	public static void rgbToYCbCr_U8( InterleavedU8 rgb , InterleavedU8 yuv , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int end = indexYuv + yuv.width*3;
+
+			for( ; indexYuv < end; indexYuv += 3 , indexRgb += numBands ) {
+				int r = rgb.data[indexRgb] & 0xFF;
+				int g = rgb.data[indexRgb+1] & 0xFF;
+				int b = rgb.data[indexRgb+2] & 0xFF;
+
+				yuv.data[indexYuv] = (byte)(((Y_R[r] + Y_G[g] + Y_B[b]) >> 10) + 16);
+				yuv.data[indexYuv+1] = (byte)(((CB_R[r] + CB_G[g] + CB_B[b]) >> 10) + 128);
+				yuv.data[indexYuv+2] = (byte)(((CR_R[r] + CR_G[g] + CR_B[b]) >> 10) + 128);
+			}
+		}
+	}
+
+	public static void ycbcrToRgb_U8( InterleavedU8 yuv , InterleavedU8 rgb , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexYuv = yuv.startIndex + row*yuv.stride;
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int end = indexYuv + yuv.width*3;
+
+			for( ; indexYuv < end; indexYuv += 3 , indexRgb += numBands ) {
+				int y = YI[yuv.data[indexYuv] & 0xFF];
+				int cb = yuv.data[indexYuv+1] & 0xFF;
+				int cr = yuv.data[indexYuv+2] & 0xFF;
+
+				int r = (y + R_CR[cr]) >> 10;
+				int g = (y + G_CR[cr] + G_CB[cb]) >> 10;
+				int b = (y + B_CB[cb]) >> 10;
+
+				if( r < 0 ) r = 0;
+				else if( r > 255 ) r = 255;
+				if( g < 0 ) g = 0;
+				else if( g > 255 ) g = 255;
+				if( b < 0 ) b = 0;
+				else if( b > 255 ) b = 255;
+
+				rgb.data[indexRgb] = (byte)r;
+				rgb.data[indexRgb+1] = (byte)g;
+				rgb.data[indexRgb+2] = (byte)b;
+			}
+		}
+	}
+
+	public static void rgbToXyz_U8( InterleavedU8 rgb , InterleavedF32 xyz , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexXyz = xyz.startIndex + row*xyz.stride;
+			int end = indexXyz + xyz.width*3;
+
+			for( ; indexXyz < end; indexXyz += 3 , indexRgb += numBands ) {
+				int r = rgb.data[indexRgb] & 0xFF;
+				int g = rgb.data[indexRgb+1] & 0xFF;
+				int b = rgb.data[indexRgb+2] & 0xFF;
+
+				// the tables are normalized by the reference white, which needs to be undone
+				xyz.data[indexXyz] = (X_R[r] + X_G[g] + X_B[b])*ColorLab.Xr_f;
+				xyz.data[indexXyz+1] = (YY_R[r] + YY_G[g] + YY_B[b])*ColorLab.Yr_f;
+				xyz.data[indexXyz+2] = (Z_R[r] + Z_G[g] + Z_B[b])*ColorLab.Zr_f;
+			}
+		}
+	}
+
+	public static void rgbToXyz_F32( InterleavedF32 rgb , InterleavedF32 xyz , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexXyz = xyz.startIndex + row*xyz.stride;
+			int end = indexXyz + xyz.width*3;
+
+			for( ; indexXyz < end; indexXyz += 3 , indexRgb += numBands ) {
+				float r = rgb.data[indexRgb]/255f;
+				float g = rgb.data[indexRgb+1]/255f;
+				float b = rgb.data[indexRgb+2]/255f;
+
+				xyz.data[indexXyz] = 0.412453f*r + 0.35758f*g + 0.180423f*b;
+				xyz.data[indexXyz+1] = 0.212671f*r + 0.71516f*g + 0.072169f*b;
+				xyz.data[indexXyz+2] = 0.019334f*r + 0.119193f*g + 0.950227f*b;
+			}
+		}
+	}
+
+	public static void rgbToLab_U8( InterleavedU8 rgb , InterleavedF32 lab , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexLab = lab.startIndex + row*lab.stride;
+			int end = indexLab + lab.width*3;
+
+			for( ; indexLab < end; indexLab += 3 , indexRgb += numBands ) {
+				int r = rgb.data[indexRgb] & 0xFF;
+				int g = rgb.data[indexRgb+1] & 0xFF;
+				int b = rgb.data[indexRgb+2] & 0xFF;
+
+				float xr = X_R[r] + X_G[g] + X_B[b];
+				float yr = YY_R[r] + YY_G[g] + YY_B[b];
+				float zr = Z_R[r] + Z_G[g] + Z_B[b];
+
+				// rounding errors can push values slightly outside of [0,1]
+				float fx = labLookup(xr > 1f ? 1f : xr);
+				float fy = labLookup(yr > 1f ? 1f : yr);
+				float fz = labLookup(zr > 1f ? 1f : zr);
+
+				lab.data[indexLab] = 116.0f*fy-16.0f;
+				lab.data[indexLab+1] = 500.0f*(fx-fy);
+				lab.data[indexLab+2] = 200.0f*(fy-fz);
+			}
+		}
+	}
+
+	public static void rgbToLab_F32( InterleavedF32 rgb , InterleavedF32 lab , int y0 , int y1 ) {
+		final int numBands = rgb.numBands;
+		float tmp[] = new float[3];
+
+		for( int row = y0; row < y1; row++ ) {
+			int indexRgb = rgb.startIndex + row*rgb.stride;
+			int indexLab = lab.startIndex + row*lab.stride;
+			int end = indexLab + lab.width*3;
+
+			for( ; indexLab < end; indexLab += 3 , indexRgb += numBands ) {
+				ColorLab.srgbToLab(rgb.data[indexRgb]/255f,rgb.data[indexRgb+1]/255f,rgb.data[indexRgb+2]/255f,tmp);
+
+				lab.data[indexLab] = tmp[0];
+				lab.data[indexLab+1] = tmp[1];
+				lab.data[indexLab+2] = tmp[2];
+			}
+		}
+	}
+}
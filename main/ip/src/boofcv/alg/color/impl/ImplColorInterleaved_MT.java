@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.color.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImplColorInterleaved}.  Each pixel is converted independently so the rows
+ * are split into blocks which are processed in parallel, producing identical results.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplColorInterleaved_MT {
+
+	public static void rgbToGray_Weighted( final InterleavedU8 rgb , final ImageUInt8 gray ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToGray_Weighted(rgb,gray,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToGray_Weighted( final InterleavedF32 rgb , final ImageFloat32 gray ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToGray_Weighted(rgb,gray,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToHsv_U8( final InterleavedU8 rgb , final InterleavedF32 hsv ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToHsv_U8(rgb,hsv,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToHsv_F32( final InterleavedF32 rgb , final InterleavedF32 hsv ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToHsv_F32(rgb,hsv,y0,y1);
+			}
+		});
+	}
+
+	public static void hsvToRgb_F32( final InterleavedF32 hsv , final InterleavedF32 rgb ) {
+		BoofConcurrency.loopBlocks(0,hsv.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.hsvToRgb_F32(hsv,rgb,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToYuv_F32( final InterleavedF32 rgb , final InterleavedF32 yuv ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToYuv_F32(rgb,yuv,y0,y1);
+			}
+		});
+	}
+
+	public static void yuvToRgb_F32( final InterleavedF32 yuv , final InterleavedF32 rgb ) {
+		BoofConcurrency.loopBlocks(0,yuv.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.yuvToRgb_F32(yuv,rgb,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToYCbCr_U8( final InterleavedU8 rgb , final InterleavedU8 yuv ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToYCbCr_U8(rgb,yuv,y0,y1);
+			}
+		});
+	}
+
+	public static void ycbcrToRgb_U8( final InterleavedU8 yuv , final InterleavedU8 rgb ) {
+		BoofConcurrency.loopBlocks(0,yuv.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.ycbcrToRgb_U8(yuv,rgb,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToXyz_U8( final InterleavedU8 rgb , final InterleavedF32 xyz ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToXyz_U8(rgb,xyz,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToXyz_F32( final InterleavedF32 rgb , final InterleavedF32 xyz ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToXyz_F32(rgb,xyz,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToLab_U8( final InterleavedU8 rgb , final InterleavedF32 lab ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToLab_U8(rgb,lab,y0,y1);
+			}
+		});
+	}
+
+	public static void rgbToLab_F32( final InterleavedF32 rgb , final InterleavedF32 lab ) {
+		BoofConcurrency.loopBlocks(0,rgb.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				ImplColorInterleaved.rgbToLab_F32(rgb,lab,y0,y1);
+			}
+		});
+	}
+}
@@ -19,15 +19,24 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.distort.PixelTransform_F32;
 import boofcv.struct.image.ImageSingleBand;
-import georegression.struct.point.Point2D_F32;
 
 /**
+ * <p>
  * Except for very simple functions, computing the per pixel distortion is an expensive operation.
  * To overcome this problem the distortion is computed once and cached.  Then when the image is distorted
- * again the save results are simply recalled and not computed again.
+ * again the save results are simply recalled and not computed again.  The location of each pixel is
+ * stored in a single float array with interleaved x and y coordinates.
+ * </p>
+ *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then the image is split into bands of rows which are
+ * distorted in parallel.  Each band interpolates using its own copy of the interpolation algorithm.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -35,7 +44,8 @@ public abstract class ImageDistortCache<T extends ImageSingleBand> implements Im
 
 	// size of output image
 	private int width=-1,height=-1;
-	private Point2D_F32 map[];
+	// location of each output pixel in the source image. (x,y) interleaved in row-major order
+	private float map[] = new float[0];
 	// sub pixel interpolation
 	private InterpolatePixelS<T> interp;
 	// handle the image border
@@ -44,9 +54,6 @@ public abstract class ImageDistortCache<T extends ImageSingleBand> implements Im
 	// transform
 	private PixelTransform_F32 dstToSrc;
 
-	// crop boundary
-	private int x0,y0,x1,y1;
-
 	protected T srcImg;
 	protected T dstImg;
 
@@ -72,55 +79,64 @@ public abstract class ImageDistortCache<T extends ImageSingleBand> implements Im
 
 	@Override
 	public void apply(T srcImg, T dstImg) {
-		init(srcImg, dstImg);
-
-		x0 = 0;y0 = 0;x1 = dstImg.width;y1 = dstImg.height;
-
-		if( border != null )
-			applyBorder();
-		else
-			applyNoBorder();
+		apply(srcImg, dstImg, 0, 0, dstImg.width, dstImg.height);
 	}
 
 	@Override
-	public void apply(T srcImg, T dstImg, int dstX0, int dstY0, int dstX1, int dstY1) {
+	public void apply(T srcImg, T dstImg, final int dstX0, final int dstY0, final int dstX1, int dstY1) {
 		init(srcImg, dstImg);
 
-		x0 = dstX0;y0 = dstY0;x1 = dstX1;y1 = dstY1;
-
-		if( border != null )
-			applyBorder();
-		else
-			applyNoBorder();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			BoofConcurrency.loopBlocks(dstY0, dstY1, BoofConcurrency.getMinBandHeight(), new IntRangeTask() {
+				@Override
+				public void process(int y0, int y1) {
+					// the first band is processed by the calling thread
+					InterpolatePixelS<T> interp = ImageDistortCache.this.interp;
+					if( y0 != dstY0 ) {
+						interp = interp.copy();
+						interp.setImage(ImageDistortCache.this.srcImg);
+					}
+					applyRows(interp, dstX0, y0, dstX1, y1);
+				}
+			});
+		} else {
+			applyRows(interp, dstX0, dstY0, dstX1, dstY1);
+		}
 	}
 
 	private void init(T srcImg, T dstImg) {
 		if( dirty || width != dstImg.width || height != dstImg.height) {
 			width = dstImg.width;
 			height = dstImg.height;
-			map = new Point2D_F32[width*height];
-			for( int i = 0; i < map.length; i++ ) {
-				map[i] = new Point2D_F32();
-			}
+			if( map.length < width*height*2 )
+				map = new float[width*height*2];
 
 			int index = 0;
 			for( int y = 0; y < height; y++ ) {
 				for( int x = 0; x < width; x++ ) {
 					dstToSrc.compute(x,y);
-					map[index++].set(dstToSrc.distX,dstToSrc.distY);
+					map[index++] = dstToSrc.distX;
+					map[index++] = dstToSrc.distY;
 				}
 			}
-		} else if( dstImg.width != width || dstImg.height != height )
-			throw new IllegalArgumentException("Unexpected dstImg dimension");
+			dirty = false;
+		}
 
 		this.srcImg = srcImg;
 		this.dstImg = dstImg;
 		interp.setImage(srcImg);
+		if( border != null )
+			border.setImage(srcImg);
 	}
 
-	public void applyBorder() {
+	private void applyRows( InterpolatePixelS<T> interp , int x0 , int y0 , int x1 , int y1 ) {
+		if( border != null )
+			applyBorder(interp, x0, y0, x1, y1);
+		else
+			applyNoBorder(interp, x0, y0, x1, y1);
+	}
 
-		border.setImage(srcImg);
+	protected void applyBorder( InterpolatePixelS<T> interp , int x0 , int y0 , int x1 , int y1 ) {
 
 		final float minInterpX = interp.getFastBorderX();
 		final float minInterpY = interp.getFastBorderY();
@@ -132,22 +148,24 @@ public abstract class ImageDistortCache<T extends ImageSingleBand> implements Im
 
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
 
-				if( s.x < minInterpX || s.x > maxInterpX || s.y < minInterpY || s.y > maxInterpY ) {
-					if( s.x < 0f || s.x > widthF || s.y < 0f || s.y > heightF )
-						assign(indexDst,(float)border.getGeneral((int)s.x,(int)s.y));
+				if( sx < minInterpX || sx > maxInterpX || sy < minInterpY || sy > maxInterpY ) {
+					if( sx < 0f || sx > widthF || sy < 0f || sy > heightF )
+						assign(indexDst,(float)border.getGeneral((int)sx,(int)sy));
 					else
-						assign(indexDst,interp.get(s.x, s.y));
+						assign(indexDst,interp.get(sx, sy));
 				} else {
-					assign(indexDst,interp.get_fast(s.x, s.y));
+					assign(indexDst,interp.get_fast(sx, sy));
 				}
 			}
 		}
 	}
 
-	public void applyNoBorder() {
+	protected void applyNoBorder( InterpolatePixelS<T> interp , int x0 , int y0 , int x1 , int y1 ) {
 		final float minInterpX = interp.getFastBorderX();
 		final float minInterpY = interp.getFastBorderY();
 		final float maxInterpX = srcImg.getWidth()-interp.getFastBorderX()-1;
@@ -158,14 +176,16 @@ public abstract class ImageDistortCache<T extends ImageSingleBand> implements Im
 
 		for( int y = y0; y < y1; y++ ) {
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			int indexMap = (y*width + x0)*2;
 			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
+				float sx = map[indexMap++];
+				float sy = map[indexMap++];
 
-				if( s.x < minInterpX || s.x > maxInterpX || s.y < minInterpY || s.y > maxInterpY ) {
-					if( s.x >= 0f && s.x <= widthF && s.y >= 0f && s.y <= heightF )
-						assign(indexDst,interp.get(s.x, s.y));
+				if( sx < minInterpX || sx > maxInterpX || sy < minInterpY || sy > maxInterpY ) {
+					if( sx >= 0f && sx <= widthF && sy >= 0f && sy <= heightF )
+						assign(indexDst,interp.get(sx, sy));
 				} else {
-					assign(indexDst,interp.get_fast(s.x, s.y));
+					assign(indexDst,interp.get_fast(sx, sy));
 				}
 			}
 		}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.struct.distort.PixelTransform_F32;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Distorts an {@link ImageUInt8} using bilinear interpolation computed with integer arithmetic.  Produces
+ * the same results as {@link ImplImageDistort_I8} with {@link boofcv.alg.interpolate.impl.ImplBilinearPixel_U8}
+ * to within a couple of pixel values.
+ * </p>
+ *
+ * <p>
+ * Source coordinates are converted into 16.16 fixed-point and bilinear weights are computed with
+ * {@link #WEIGHT_BITS} bits of precision.  Pixels which can be interpolated without going outside the image,
+ * the vast majority, are processed without any special handling.  Only pixels in the strip along the image
+ * border are interpolated with reduced support or assigned a value from the {@link ImageBorder}.  Coordinates
+ * further than 32767 pixels from the origin are clamped.
+ * </p>
+ *
+ * <p>
+ * If caching is turned on then the fixed-point coordinate of every pixel is computed once, when the model or the
+ * image shape changes.  Otherwise they are computed one row at a time when the image is distorted.  Cached
+ * distortions are processed in bands of rows concurrently if {@link BoofConcurrency#USE_CONCURRENT} is true.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageDistortBilinear_U8 implements ImageDistort<ImageUInt8> {
+
+	/**
+	 * Number of bits in each bilinear weight.
+	 */
+	public static final int WEIGHT_BITS = 8;
+
+	// handle the image border
+	private ImageBorder<ImageUInt8> border;
+	// if true the location of each pixel is only computed when the model or shape changes
+	private boolean cached;
+
+	// transform from dst to src image
+	private PixelTransform_F32 dstToSrc;
+
+	// fixed-point location of each pixel in the source image.  (x,y) interleaved and in row-major order.
+	// Either the entire image or just one row, depending on if it's cached or not.
+	private int map[] = new int[0];
+	// shape of the image the cached map was computed for
+	private int width=-1,height=-1;
+	private boolean dirty;
+
+	private ImageUInt8 srcImg;
+	private ImageUInt8 dstImg;
+
+	/**
+	 * Specifies configuration parameters
+	 *
+	 * @param border How borders are handled.  If null then pixels outside the source image are not modified.
+	 * @param cached If true the location of each pixel is saved and only recomputed if the model or image shape
+	 *               changes.
+	 */
+	public ImplImageDistortBilinear_U8( ImageBorder<ImageUInt8> border , boolean cached ) {
+		this.border = border;
+		this.cached = cached;
+	}
+
+	@Override
+	public void setModel(PixelTransform_F32 dstToSrc) {
+		this.dstToSrc = dstToSrc;
+		this.dirty = true;
+	}
+
+	@Override
+	public void apply(ImageUInt8 srcImg, ImageUInt8 dstImg) {
+		apply(srcImg, dstImg, 0, 0, dstImg.width, dstImg.height);
+	}
+
+	@Override
+	public void apply(ImageUInt8 srcImg, ImageUInt8 dstImg,
+					  final int dstX0, int dstY0, final int dstX1, int dstY1) {
+		this.srcImg = srcImg;
+		this.dstImg = dstImg;
+		if( border != null )
+			border.setImage(srcImg);
+
+		if( cached ) {
+			if( dirty || width != dstImg.width || height != dstImg.height ) {
+				width = dstImg.width;
+				height = dstImg.height;
+				if( map.length < width*height*2 )
+					map = new int[width*height*2];
+				for( int y = 0; y < height; y++ ) {
+					computeRow(y, 0, width, y*width*2);
+				}
+				dirty = false;
+			}
+
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				BoofConcurrency.loopBlocks(dstY0, dstY1, BoofConcurrency.getMinBandHeight(), new IntRangeTask() {
+					@Override
+					public void process(int y0, int y1) {
+						for( int y = y0; y < y1; y++ )
+							distortRow(y, dstX0, dstX1, (y*width + dstX0)*2);
+					}
+				});
+			} else {
+				for( int y = dstY0; y < dstY1; y++ )
+					distortRow(y, dstX0, dstX1, (y*width + dstX0)*2);
+			}
+		} else {
+			if( map.length < (dstX1-dstX0)*2 )
+				map = new int[(dstX1-dstX0)*2];
+			for( int y = dstY0; y < dstY1; y++ ) {
+				computeRow(y, dstX0, dstX1, 0);
+				distortRow(y, dstX0, dstX1, 0);
+			}
+		}
+	}
+
+	/**
+	 * Computes the fixed-point location of pixels in the specified row and saves the results in the map.
+	 */
+	private void computeRow( int y , int x0 , int x1 , int indexMap ) {
+		final int[] map = this.map;
+		for( int x = x0; x < x1; x++ ) {
+			dstToSrc.compute(x,y);
+			map[indexMap++] = toFixed(dstToSrc.distX);
+			map[indexMap++] = toFixed(dstToSrc.distY);
+		}
+	}
+
+	/**
+	 * Converts to 16.16 fixed-point.  Values which are too large saturate at the min or max integer value.
+	 */
+	private static int toFixed( float value ) {
+		return (int)(value*65536f);
+	}
+
+	/**
+	 * Distorts pixels in a row using the fixed-point locations stored in the map.
+	 */
+	private void distortRow( int y , int x0 , int x1 , int indexMap ) {
+		final int[] map = this.map;
+		final byte[] data = srcImg.data;
+		final byte[] dataDst = dstImg.data;
+		final int startIndex = srcImg.startIndex;
+		final int stride = srcImg.stride;
+		final int srcWidth = srcImg.width;
+		final int srcHeight = srcImg.height;
+
+		// pixels inside this region can be interpolated using the 2x2 neighborhood
+		final int maxFastX = (srcWidth-2) << 16;
+		final int maxFastY = (srcHeight-2) << 16;
+		// pixels inside this region are inside the image
+		final int maxX = (srcWidth-1) << 16;
+		final int maxY = (srcHeight-1) << 16;
+
+		final int shift = 16-WEIGHT_BITS;
+		final int mask = (1 << WEIGHT_BITS)-1;
+
+		int indexDst = dstImg.startIndex + y*dstImg.stride + x0;
+		for( int x = x0; x < x1; x++ , indexDst++ ) {
+			int sx = map[indexMap++];
+			int sy = map[indexMap++];
+
+			int dx,dy;
+			if( sx >= 0 && sy >= 0 && sx <= maxFastX && sy <= maxFastY ) {
+				dx = 1;
+				dy = stride;
+			} else if( sx >= 0 && sy >= 0 && sx <= maxX && sy <= maxY ) {
+				// reduce the support along the image border
+				dx = (sx >> 16) == srcWidth-1 ? 0 : 1;
+				dy = (sy >> 16) == srcHeight-1 ? 0 : stride;
+			} else {
+				if( border != null )
+					dataDst[indexDst] = (byte)border.getGeneral(sx / 65536, sy / 65536);
+				continue;
+			}
+
+			int ax = (sx >> shift) & mask;
+			int ay = (sy >> shift) & mask;
+
+			int index = startIndex + (sy >> 16)*stride + (sx >> 16);
+
+			int p00 = data[index] & 0xFF;
+			int p10 = data[index+dx] & 0xFF;
+			int p01 = data[index+dy] & 0xFF;
+			int p11 = data[index+dx+dy] & 0xFF;
+
+			int top = (p00 << WEIGHT_BITS) + ax*(p10-p00);
+			int bottom = (p01 << WEIGHT_BITS) + ax*(p11-p01);
+
+			dataDst[indexDst] = (byte)(((top << WEIGHT_BITS) + ay*(bottom-top)) >> (2*WEIGHT_BITS));
+		}
+	}
+
+	public boolean isCached() {
+		return cached;
+	}
+}
@@ -19,9 +19,12 @@
 package boofcv.alg.enhance;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.enhance.impl.ImplEnhanceClahe;
+import boofcv.alg.enhance.impl.ImplEnhanceClahe_MT;
 import boofcv.alg.enhance.impl.ImplEnhanceFilter;
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
 import boofcv.alg.misc.ImageStatistics;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -59,7 +62,7 @@ public class EnhanceImageOps {
 		int maxValue = histogram.length-1;
 
 		for( int i = 0; i < histogram.length; i++ ) {
-			transform[i] = (transform[i]*maxValue)/sum;
+			transform[i] = (int)(((long)transform[i]*maxValue)/sum);
 		}
 	}
 
@@ -211,6 +214,105 @@ public class EnhanceImageOps {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Contrast limited adaptive histogram equalization (CLAHE).  The image is split into a grid of tiles and
+	 * the histogram of each tile is clipped and then equalized.  The output for each pixel is interpolated
+	 * between the equalization tables of the four closest tiles.  Much faster than
+	 * {@link #equalizeLocal(ImageUInt8, int, ImageUInt8, int[], int[])} since the histogram is only computed
+	 * once for each tile.
+	 * </p>
+	 *
+	 * @param input Input image.
+	 * @param tilesX Number of tiles along the x-axis.
+	 * @param tilesY Number of tiles along the y-axis.
+	 * @param clipLimit Maximum count in each histogram bin relative to the average count.  Larger values
+	 *                  increase contrast more.  Try 4.  If &le; 0 then the histogram isn't clipped.
+	 * @param output Output image.
+	 * @param transforms (Optional) Storage for the transformation table of each tile.  Must have
+	 *                   tilesX*tilesY arrays with 256 elements.  Can be null.
+	 */
+	public static void equalizeClahe( ImageUInt8 input , int tilesX , int tilesY , double clipLimit ,
+									  ImageUInt8 output , int transforms[][] ) {
+		InputSanityCheck.checkSameShape(input, output);
+		transforms = checkClahe(input, tilesX, tilesY, 256, transforms);
+
+		int boundsX[] = ImplEnhanceClahe.tileBounds(input.width,tilesX);
+		int boundsY[] = ImplEnhanceClahe.tileBounds(input.height,tilesY);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceClahe_MT.computeTransforms(input,boundsX,boundsY,clipLimit,256,transforms);
+			ImplEnhanceClahe_MT.applyTransforms(input,boundsX,boundsY,transforms,output);
+		} else {
+			ImplEnhanceClahe.computeTransforms(input,boundsX,boundsY,clipLimit,0,tilesX*tilesY,new int[256],transforms);
+			ImplEnhanceClahe.applyTransforms(input,boundsX,boundsY,transforms,0,input.height,output);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Contrast limited adaptive histogram equalization (CLAHE).  The image is split into a grid of tiles and
+	 * the histogram of each tile is clipped and then equalized.  The output for each pixel is interpolated
+	 * between the equalization tables of the four closest tiles.  Much faster than
+	 * {@link #equalizeLocal(ImageUInt16, int, ImageUInt16, int[], int[])} since the histogram is only computed
+	 * once for each tile.
+	 * </p>
+	 *
+	 * @param input Input image.
+	 * @param maxValue Maximum possible pixel value in the input image.  E.g. 16383 for a 14-bit camera.
+	 *                 All the pixels must be &le; maxValue.
+	 * @param tilesX Number of tiles along the x-axis.
+	 * @param tilesY Number of tiles along the y-axis.
+	 * @param clipLimit Maximum count in each histogram bin relative to the average count.  Larger values
+	 *                  increase contrast more.  Try 4.  If &le; 0 then the histogram isn't clipped.
+	 * @param output Output image.
+	 * @param transforms (Optional) Storage for the transformation table of each tile.  Must have
+	 *                   tilesX*tilesY arrays with maxValue+1 elements.  Can be null.
+	 */
+	public static void equalizeClahe( ImageUInt16 input , int maxValue , int tilesX , int tilesY , double clipLimit ,
+									  ImageUInt16 output , int transforms[][] ) {
+		InputSanityCheck.checkSameShape(input, output);
+		if( maxValue <= 0 || maxValue > 0xFFFF )
+			throw new IllegalArgumentException("maxValue must be from 1 to 65535");
+		int numValues = maxValue+1;
+		transforms = checkClahe(input, tilesX, tilesY, numValues, transforms);
+
+		int boundsX[] = ImplEnhanceClahe.tileBounds(input.width,tilesX);
+		int boundsY[] = ImplEnhanceClahe.tileBounds(input.height,tilesY);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplEnhanceClahe_MT.computeTransforms(input,boundsX,boundsY,clipLimit,numValues,transforms);
+			ImplEnhanceClahe_MT.applyTransforms(input,boundsX,boundsY,transforms,output);
+		} else {
+			ImplEnhanceClahe.computeTransforms(input,boundsX,boundsY,clipLimit,0,tilesX*tilesY,new int[numValues],transforms);
+			ImplEnhanceClahe.applyTransforms(input,boundsX,boundsY,transforms,0,input.height,output);
+		}
+	}
+
+	/**
+	 * Sanity checks CLAHE's parameters and declares storage for the transforms if needed
+	 */
+	private static int[][] checkClahe( ImageSingleBand input , int tilesX , int tilesY , int numValues ,
+									   int transforms[][] ) {
+		if( tilesX <= 0 || tilesY <= 0 )
+			throw new IllegalArgumentException("The number of tiles must be positive");
+		if( tilesX > input.width || tilesY > input.height )
+			throw new IllegalArgumentException("More tiles than pixels");
+
+		int numTiles = tilesX*tilesY;
+		if( transforms == null ) {
+			transforms = new int[numTiles][numValues];
+		} else {
+			if( transforms.length < numTiles )
+				throw new IllegalArgumentException("'transforms' must have at least "+numTiles+" arrays");
+			for( int i = 0; i < numTiles; i++ ) {
+				if( transforms[i].length < numValues )
+					throw new IllegalArgumentException("Each transform must have at least "+numValues+" elements");
+			}
+		}
+		return transforms;
+	}
+
 	/**
 	 * Applies a Laplacian-4 based sharpen filter to the image.
 	 *
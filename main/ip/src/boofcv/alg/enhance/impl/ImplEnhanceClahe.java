@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.enhance.EnhanceImageOps;
+import boofcv.struct.image.ImageUInt16;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Contrast limited adaptive histogram equalization (CLAHE).  The image is split into a grid of tiles and
+ * a transformation table is computed for each tile from its clipped histogram.  Clipping limits how much
+ * the contrast can be amplified in nearly uniform regions.  The count clipped from each bin is
+ * redistributed evenly across all the bins.  To avoid discontinuities at tile borders, the output of each
+ * pixel is interpolated between the transforms of the four closest tile centers.
+ * </p>
+ *
+ * <p>
+ * K. Zuiderveld, "Contrast Limited Adaptive Histogram Equalization" Graphics Gems IV, 1994
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplEnhanceClahe {
+
+	/**
+	 * Splits a length into the specified number of tiles which are as close to the same size as possible.
+	 *
+	 * @return Location of the first element in each tile followed by the length.
+	 */
+	public static int[] tileBounds( int length , int numTiles ) {
+		int bounds[] = new int[ numTiles+1 ];
+		for( int i = 0; i <= numTiles; i++ ) {
+			bounds[i] = i*length/numTiles;
+		}
+		return bounds;
+	}
+
+	/**
+	 * Clips each bin in the histogram and redistributes the excess evenly across all the bins.
+	 *
+	 * @param histogram Histogram which is to be clipped.  Modified.
+	 * @param clipLimit Clip limit relative to the average count in each bin.
+	 * @param total Sum of all the counts in the histogram.
+	 */
+	public static void clipHistogram( int histogram[] , double clipLimit , int total ) {
+		int N = histogram.length;
+		int limit = Math.max(1,(int)(clipLimit*total/N));
+
+		int excess = 0;
+		for( int i = 0; i < N; i++ ) {
+			if( histogram[i] > limit ) {
+				excess += histogram[i] - limit;
+				histogram[i] = limit;
+			}
+		}
+
+		if( excess == 0 )
+			return;
+
+		int increment = excess/N;
+		int remainder = excess - increment*N;
+
+		for( int i = 0; i < N; i++ ) {
+			histogram[i] += increment;
+		}
+
+		// spread what's left over across the whole range
+		if( remainder > 0 ) {
+			int step = N/remainder;
+			for( int i = 0; i < remainder; i++ ) {
+				histogram[i*step]++;
+			}
+		}
+	}
+
+	/**
+	 * Computes the transformation table for tiles in the range tile0 (inclusive) to tile1 (exclusive).
+	 * Tiles are ordered row-major.
+	 *
+	 * @param input Input image.
+	 * @param boundsX Boundaries of the tiles along the x-axis.  See {@link #tileBounds(int, int)}.
+	 * @param boundsY Boundaries of the tiles along the y-axis.  See {@link #tileBounds(int, int)}.
+	 * @param clipLimit Histogram clip limit relative to the average count in each bin.  If &le; 0 then
+	 *                  the histogram is not clipped.
+	 * @param tile0 First tile which is processed.
+	 * @param tile1 Last tile which is processed, exclusive.
+	 * @param histogram Storage for the histogram.  Length is the number of possible pixel values.
+	 * @param transforms Transformation table for each tile.  Modified.
+	 */
+	public static void computeTransforms( ImageUInt8 input , int boundsX[] , int boundsY[] , double clipLimit ,
+										  int tile0 , int tile1 , int histogram[] , int transforms[][] )
+	{
+		int tilesX = boundsX.length-1;
+
+		for( int tile = tile0; tile < tile1; tile++ ) {
+			int x0 = boundsX[tile % tilesX], x1 = boundsX[tile % tilesX + 1];
+			int y0 = boundsY[tile / tilesX], y1 = boundsY[tile / tilesX + 1];
+
+			ImplEnhanceHistogram.localHistogram(input,x0,y0,x1,y1,histogram);
+			if( clipLimit > 0 )
+				clipHistogram(histogram,clipLimit,(x1-x0)*(y1-y0));
+			EnhanceImageOps.equalize(histogram,transforms[tile]);
+		}
+	}
+
+	/**
+	 * Applies the tile transformation tables to rows y0 (inclusive) to y1 (exclusive).  The output value of each
+	 * pixel is found by bilinear interpolation between the transforms of the four closest tile centers.
+	 *
+	 * @param input Input image.
+	 * @param boundsX Boundaries of the tiles along the x-axis.
+	 * @param boundsY Boundaries of the tiles along the y-axis.
+	 * @param transforms Transformation table for each tile.
+	 * @param y0 First row which is processed.
+	 * @param y1 Last row which is processed, exclusive.
+	 * @param output Output image.  Modified.
+	 */
+	public static void applyTransforms( ImageUInt8 input , int boundsX[] , int boundsY[] , int transforms[][] ,
+										int y0 , int y1 , ImageUInt8 output )
+	{
+		int tilesX = boundsX.length-1;
+
+		// the tiles and weights along each column only need to be computed once
+		int colTile[] = new int[ input.width*2 ];
+		float colWeight[] = new float[ input.width ];
+		interpolationWeights(boundsX,colTile,colWeight);
+
+		int rowTile[] = new int[2];
+		float rowWeight[] = new float[1];
+
+		for( int y = y0; y < y1; y++ ) {
+			interpolationWeights(boundsY,y,rowTile,rowWeight);
+			float wy = rowWeight[0];
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < input.width; x++ ) {
+				int value = input.data[indexIn++] & 0xFF;
+
+				int tileX0 = colTile[x*2];
+				int tileX1 = colTile[x*2+1];
+				float wx = colWeight[x];
+
+				float top = (1-wx)*transforms[rowTile[0]*tilesX + tileX0][value] +
+						wx*transforms[rowTile[0]*tilesX + tileX1][value];
+				float bottom = (1-wx)*transforms[rowTile[1]*tilesX + tileX0][value] +
+						wx*transforms[rowTile[1]*tilesX + tileX1][value];
+
+				output.data[indexOut++] = (byte)((1-wy)*top + wy*bottom + 0.5f);
+			}
+		}
+	}
+
+	/**
+	 * Computes the transformation table for tiles in the range tile0 (inclusive) to tile1 (exclusive).
+	 * Tiles are ordered row-major.
+	 *
+	 * @param input Input image.
+	 * @param boundsX Boundaries of the tiles along the x-axis.  See {@link #tileBounds(int, int)}.
+	 * @param boundsY Boundaries of the tiles along the y-axis.  See {@link #tileBounds(int, int)}.
+	 * @param clipLimit Histogram clip limit relative to the average count in each bin.  If &le; 0 then
+	 *                  the histogram is not clipped.
+	 * @param tile0 First tile which is processed.
+	 * @param tile1 Last tile which is processed, exclusive.
+	 * @param histogram Storage for the histogram.  Length is the number of possible pixel values.
+	 * @param transforms Transformation table for each tile.  Modified.
+	 */
+	public static void computeTransforms( ImageUInt16 input , int boundsX[] , int boundsY[] , double clipLimit ,
+										  int tile0 , int tile1 , int histogram[] , int transforms[][] )
+	{
+		int tilesX = boundsX.length-1;
+
+		for( int tile = tile0; tile < tile1; tile++ ) {
+			int x0 = boundsX[tile % tilesX], x1 = boundsX[tile % tilesX + 1];
+			int y0 = boundsY[tile / tilesX], y1 = boundsY[tile / tilesX + 1];
+
+			ImplEnhanceHistogram.localHistogram(input,x0,y0,x1,y1,histogram);
+			if( clipLimit > 0 )
+				clipHistogram(histogram,clipLimit,(x1-x0)*(y1-y0));
+			EnhanceImageOps.equalize(histogram,transforms[tile]);
+		}
+	}
+
+	/**
+	 * Applies the tile transformation tables to rows y0 (inclusive) to y1 (exclusive).  The output value of each
+	 * pixel is found by bilinear interpolation between the transforms of the four closest tile centers.
+	 *
+	 * @param input Input image.
+	 * @param boundsX Boundaries of the tiles along the x-axis.
+	 * @param boundsY Boundaries of the tiles along the y-axis.
+	 * @param transforms Transformation table for each tile.
+	 * @param y0 First row which is processed.
+	 * @param y1 Last row which is processed, exclusive.
+	 * @param output Output image.  Modified.
+	 */
+	public static void applyTransforms( ImageUInt16 input , int boundsX[] , int boundsY[] , int transforms[][] ,
+										int y0 , int y1 , ImageUInt16 output )
+	{
+		int tilesX = boundsX.length-1;
+
+		// the tiles and weights along each column only need to be computed once
+		int colTile[] = new int[ input.width*2 ];
+		float colWeight[] = new float[ input.width ];
+		interpolationWeights(boundsX,colTile,colWeight);
+
+		int rowTile[] = new int[2];
+		float rowWeight[] = new float[1];
+
+		for( int y = y0; y < y1; y++ ) {
+			interpolationWeights(boundsY,y,rowTile,rowWeight);
+			float wy = rowWeight[0];
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < input.width; x++ ) {
+				int value = input.data[indexIn++] & 0xFFFF;
+
+				int tileX0 = colTile[x*2];
+				int tileX1 = colTile[x*2+1];
+				float wx = colWeight[x];
+
+				float top = (1-wx)*transforms[rowTile[0]*tilesX + tileX0][value] +
+						wx*transforms[rowTile[0]*tilesX + tileX1][value];
+				float bottom = (1-wx)*transforms[rowTile[1]*tilesX + tileX0][value] +
+						wx*transforms[rowTile[1]*tilesX + tileX1][value];
+
+				output.data[indexOut++] = (short)((1-wy)*top + wy*bottom + 0.5f);
+			}
+		}
+	}
+
+	/**
+	 * Computes the tiles and interpolation weight for every coordinate along an axis.
+	 *
+	 * @param bounds Tile boundaries.
+	 * @param tiles Storage for the two tiles each coordinate is interpolated between.
+	 * @param weights Storage for the weight of the second tile.
+	 */
+	private static void interpolationWeights( int bounds[] , int tiles[] , float weights[] ) {
+		int t[] = new int[2];
+		float w[] = new float[1];
+		for( int i = 0; i < weights.length; i++ ) {
+			interpolationWeights(bounds,i,t,w);
+			tiles[i*2] = t[0];
+			tiles[i*2+1] = t[1];
+			weights[i] = w[0];
+		}
+	}
+
+	/**
+	 * Finds the two tiles whose centers are on either side of the coordinate and the weight of the second tile.
+	 * Coordinates before the first center or after the last center use a single tile.
+	 */
+	private static void interpolationWeights( int bounds[] , int coordinate , int tiles[] , float weight[] ) {
+		int numTiles = bounds.length-1;
+
+		float first = center(bounds,0);
+		float last = center(bounds,numTiles-1);
+
+		if( coordinate <= first ) {
+			tiles[0] = tiles[1] = 0;
+			weight[0] = 0;
+		} else if( coordinate >= last ) {
+			tiles[0] = tiles[1] = numTiles-1;
+			weight[0] = 0;
+		} else {
+			int i = 0;
+			while( center(bounds,i+1) <= coordinate )
+				i++;
+
+			float c0 = center(bounds,i);
+			float c1 = center(bounds,i+1);
+			tiles[0] = i;
+			tiles[1] = i+1;
+			weight[0] = (coordinate-c0)/(c1-c0);
+		}
+	}
+
+	private static float center( int bounds[] , int tile ) {
+		return (bounds[tile] + bounds[tile+1] - 1)/2.0f;
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageUInt16;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Concurrent implementation of {@link ImplEnhanceClahe}.  Tiles are processed in parallel when computing the
+ * transformation tables and rows are processed in parallel when applying them.
+ *
+ * @author Peter Abeles
+ */
+public class ImplEnhanceClahe_MT {
+
+	/**
+	 * @see ImplEnhanceClahe#computeTransforms(ImageUInt8, int[], int[], double, int, int, int[], int[][])
+	 */
+	public static void computeTransforms( final ImageUInt8 input , final int boundsX[] , final int boundsY[] ,
+										  final double clipLimit , final int numValues , final int transforms[][] )
+	{
+		int numTiles = (boundsX.length-1)*(boundsY.length-1);
+
+		BoofConcurrency.loopBlocks(0,numTiles,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				int histogram[] = new int[ numValues ];
+				ImplEnhanceClahe.computeTransforms(input,boundsX,boundsY,clipLimit,start,end,histogram,transforms);
+			}
+		});
+	}
+
+	/**
+	 * @see ImplEnhanceClahe#applyTransforms(ImageUInt8, int[], int[], int[][], int, int, ImageUInt8)
+	 */
+	public static void applyTransforms( final ImageUInt8 input , final int boundsX[] , final int boundsY[] ,
+										final int transforms[][] , final ImageUInt8 output )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				ImplEnhanceClahe.applyTransforms(input,boundsX,boundsY,transforms,start,end,output);
+			}
+		});
+	}
+
+	/**
+	 * @see ImplEnhanceClahe#computeTransforms(ImageUInt16, int[], int[], double, int, int, int[], int[][])
+	 */
+	public static void computeTransforms( final ImageUInt16 input , final int boundsX[] , final int boundsY[] ,
+										  final double clipLimit , final int numValues , final int transforms[][] )
+	{
+		int numTiles = (boundsX.length-1)*(boundsY.length-1);
+
+		BoofConcurrency.loopBlocks(0,numTiles,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				int histogram[] = new int[ numValues ];
+				ImplEnhanceClahe.computeTransforms(input,boundsX,boundsY,clipLimit,start,end,histogram,transforms);
+			}
+		});
+	}
+
+	/**
+	 * @see ImplEnhanceClahe#applyTransforms(ImageUInt16, int[], int[], int[][], int, int, ImageUInt16)
+	 */
+	public static void applyTransforms( final ImageUInt16 input , final int boundsX[] , final int boundsY[] ,
+										final int transforms[][] , final ImageUInt16 output )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				ImplEnhanceClahe.applyTransforms(input,boundsX,boundsY,transforms,start,end,output);
+			}
+		});
+	}
+}
@@ -21,8 +21,11 @@ package boofcv.alg.filter.binary;
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.binary.impl.ImplBinaryBorderOps;
 import boofcv.alg.filter.binary.impl.ImplBinaryInnerOps;
+import boofcv.alg.filter.binary.impl.ImplBinaryPackedOps;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageBinaryPacked;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageUInt8;
 import georegression.struct.point.Point2D_I32;
@@ -356,6 +359,255 @@ public class BinaryImageOps {
 		return output;
 	}
 
+	/**
+	 * For each pixel it applies the logical 'and' operator between two packed images.  64 pixels are processed at once.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static ImageBinaryPacked logicAnd( ImageBinaryPacked inputA , ImageBinaryPacked inputB ,
+											 ImageBinaryPacked output )
+	{
+		checkSameShape(inputA, inputB);
+		output = checkDeclare(inputA, output);
+
+		ImplBinaryPackedOps.logicAnd(inputA,inputB,output);
+
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'or' operator between two packed images.  64 pixels are processed at once.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static ImageBinaryPacked logicOr( ImageBinaryPacked inputA , ImageBinaryPacked inputB ,
+											 ImageBinaryPacked output )
+	{
+		checkSameShape(inputA, inputB);
+		output = checkDeclare(inputA, output);
+
+		ImplBinaryPackedOps.logicOr(inputA,inputB,output);
+
+		return output;
+	}
+
+	/**
+	 * For each pixel it applies the logical 'xor' operator between two packed images.  64 pixels are processed at once.
+	 *
+	 * @param inputA First input image. Not modified.
+	 * @param inputB Second input image. Not modified.
+	 * @param output Output image. Can be same as either input.  If null a new instance will be declared, Modified.
+	 * @return Output of logical operation.
+	 */
+	public static ImageBinaryPacked logicXor( ImageBinaryPacked inputA , ImageBinaryPacked inputB ,
+											 ImageBinaryPacked output )
+	{
+		checkSameShape(inputA, inputB);
+		output = checkDeclare(inputA, output);
+
+		ImplBinaryPackedOps.logicXor(inputA,inputB,output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Erodes an image according to a 4-neighborhood.  Unless a pixel is connected to all its neighbors its value
+	 * is set to zero.  Same as {@link #erode4(ImageUInt8, int, ImageUInt8)} but for a packed image.
+	 * </p>
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static ImageBinaryPacked erode4(ImageBinaryPacked input, int numTimes, ImageBinaryPacked output) {
+		output = checkDeclare(input, output);
+
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+
+		ImplBinaryPackedOps.erode4(input, output);
+		for( int i = 1; i < numTimes; i++ ) {
+			ImplBinaryPackedOps.erode4(output, output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Dilates an image according to a 4-neighborhood.  If a pixel is connected to any other pixel then its output
+	 * value will be one.  Same as {@link #dilate4(ImageUInt8, int, ImageUInt8)} but for a packed image.
+	 * </p>
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static ImageBinaryPacked dilate4(ImageBinaryPacked input, int numTimes, ImageBinaryPacked output) {
+		output = checkDeclare(input, output);
+
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+
+		ImplBinaryPackedOps.dilate4(input, output);
+		for( int i = 1; i < numTimes; i++ ) {
+			ImplBinaryPackedOps.dilate4(output, output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Binary operation which is designed to remove all pixels but ones which are on the edge of an object.
+	 * The edge is defined as lying on the object and not being surrounded by a pixel along a 4-neighborhood.  Same as {@link #edge4(ImageUInt8, ImageUInt8)} but for a packed image.
+	 * </p>
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static ImageBinaryPacked edge4(ImageBinaryPacked input, ImageBinaryPacked output) {
+		output = checkDeclare(input, output);
+
+		ImplBinaryPackedOps.edge4(input, output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Erodes an image according to a 8-neighborhood.  Unless a pixel is connected to all its neighbors its value
+	 * is set to zero.  Same as {@link #erode8(ImageUInt8, int, ImageUInt8)} but for a packed image.
+	 * </p>
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static ImageBinaryPacked erode8(ImageBinaryPacked input, int numTimes, ImageBinaryPacked output) {
+		output = checkDeclare(input, output);
+
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+
+		ImplBinaryPackedOps.erode8(input, output);
+		for( int i = 1; i < numTimes; i++ ) {
+			ImplBinaryPackedOps.erode8(output, output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Dilates an image according to a 8-neighborhood.  If a pixel is connected to any other pixel then its output
+	 * value will be one.  Same as {@link #dilate8(ImageUInt8, int, ImageUInt8)} but for a packed image.
+	 * </p>
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param numTimes How many times the operation will be applied to the image.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static ImageBinaryPacked dilate8(ImageBinaryPacked input, int numTimes, ImageBinaryPacked output) {
+		output = checkDeclare(input, output);
+
+		if( numTimes <= 0 )
+			throw new IllegalArgumentException("numTimes must be >= 1");
+
+		ImplBinaryPackedOps.dilate8(input, output);
+		for( int i = 1; i < numTimes; i++ ) {
+			ImplBinaryPackedOps.dilate8(output, output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Binary operation which is designed to remove all pixels but ones which are on the edge of an object.
+	 * The edge is defined as lying on the object and not being surrounded by 8 pixels.  Same as {@link #edge8(ImageUInt8, ImageUInt8)} but for a packed image.
+	 * </p>
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static ImageBinaryPacked edge8(ImageBinaryPacked input, ImageBinaryPacked output) {
+		output = checkDeclare(input, output);
+
+		ImplBinaryPackedOps.edge8(input, output);
+
+		return output;
+	}
+
+	/**
+	 * <p>
+	 * Binary operation which is designed to remove small bits of spurious noise.  An 8-neighborhood is used.
+	 * If a pixel is connected to less than 2 neighbors then its value zero.  If connected to more than 6 then
+	 * its value is one.  Otherwise it retains its original value.  Same as {@link #removePointNoise(ImageUInt8, ImageUInt8)} but for a packed image.
+	 * </p>
+	 *
+	 * @param input  Input image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Output image.
+	 */
+	public static ImageBinaryPacked removePointNoise(ImageBinaryPacked input, ImageBinaryPacked output) {
+		output = checkDeclare(input, output);
+
+		ImplBinaryPackedOps.removePointNoise(input, output);
+
+		return output;
+	}
+
+	/**
+	 * Converts a binary image, such as one created by {@link ThresholdImageOps}, into a packed binary image.  Any
+	 * pixel which is not zero is set to one.
+	 *
+	 * @param input Input binary image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Packed binary image.
+	 */
+	public static ImageBinaryPacked pack( ImageUInt8 input , ImageBinaryPacked output ) {
+		if( output == null )
+			output = new ImageBinaryPacked(input.width,input.height);
+		else if( output.width != input.width || output.height != input.height )
+			throw new IllegalArgumentException("Width and/or height of input and output do not match.");
+
+		ImplBinaryPackedOps.pack(input,output);
+
+		return output;
+	}
+
+	/**
+	 * Converts a packed binary image into a binary {@link ImageUInt8} with pixel values of 0 and 1.
+	 *
+	 * @param input Input packed image. Not modified.
+	 * @param output If not null, the output image.  If null a new image is declared and returned.  Modified.
+	 * @return Binary image.
+	 */
+	public static ImageUInt8 unpack( ImageBinaryPacked input , ImageUInt8 output ) {
+		if( output == null )
+			output = new ImageUInt8(input.width,input.height);
+		else if( output.width != input.width || output.height != input.height )
+			throw new IllegalArgumentException("Width and/or height of input and output do not match.");
+
+		ImplBinaryPackedOps.unpack(input,output);
+
+		return output;
+	}
+
 	/**
 	 * <p>
 	 * Given a binary image, connect together pixels to form blobs/clusters using the specified connectivity rule.
@@ -372,6 +624,7 @@ public class BinaryImageOps {
 	 * </p>
 	 *
 	 * @see LinearContourLabelChang2004
+	 * @see LinearContourLabelChang2004_MT
 	 *
 	 * @param input Input binary image.  Not modified.
 	 * @oaram rule Connectivity rule.  Can be 4 or 8.  8 is more commonly used.
@@ -385,9 +638,15 @@ public class BinaryImageOps {
 			InputSanityCheck.checkSameShape(input,output);
 		}
 
-		LinearContourLabelChang2004 alg = new LinearContourLabelChang2004(rule);
-		alg.process(input,output);
-		return alg.getContours().toList();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(rule);
+			alg.process(input,output);
+			return alg.getContours().toList();
+		} else {
+			LinearContourLabelChang2004 alg = new LinearContourLabelChang2004(rule);
+			alg.process(input,output);
+			return alg.getContours().toList();
+		}
 	}
 
 	/**
@@ -562,4 +821,16 @@ public class BinaryImageOps {
 		}
 		return colors;
 	}
+
+	private static void checkSameShape( ImageBinaryPacked imgA , ImageBinaryPacked imgB ) {
+		if( imgA.width != imgB.width || imgA.height != imgB.height )
+			throw new IllegalArgumentException("Image widths or heights do not match.");
+	}
+
+	private static ImageBinaryPacked checkDeclare( ImageBinaryPacked input , ImageBinaryPacked output ) {
+		if( output == null )
+			return input.createSameShape();
+		checkSameShape(input, output);
+		return output;
+	}
 }
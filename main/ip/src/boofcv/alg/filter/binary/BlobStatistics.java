@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+/**
+ * Simple statistics which describe the shape of a blob in a labeled image.
+ *
+ * @author Peter Abeles
+ */
+public class BlobStatistics {
+	/**
+	 * ID of the blob in the labeled image
+	 */
+	public int id;
+	/**
+	 * Number of pixels in the blob
+	 */
+	public int area;
+	/**
+	 * Bounding box of the blob.  The min and max values are inclusive.
+	 */
+	public int minX, minY, maxX, maxY;
+	/**
+	 * Centroid of the pixels in the blob
+	 */
+	public double centerX, centerY;
+
+	public void reset() {
+		id = -1;
+		area = 0;
+		minX = minY = Integer.MAX_VALUE;
+		maxX = maxY = Integer.MIN_VALUE;
+		centerX = centerY = 0;
+	}
+
+	public int getWidth() {
+		return maxX - minX + 1;
+	}
+
+	public int getHeight() {
+		return maxY - minY + 1;
+	}
+}
@@ -68,20 +68,35 @@ public class GThresholdImageOps {
 	 * b(x,y) = I(x,y) >= T(x,y) + bias ? 0 : 1
 	 * </p>
 	 *
-	 * <p>
-	 * NOTE: Internally, images are declared to store intermediate results.  If more control is needed over memory
-	 * call the type specific function.
-	 * </p>
-	 *
 	 * @param input Input image.
-	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.  Can't be the input or share its data.
 	 * @param radius Radius of square region.
 	 * @param bias Bias used to adjust threshold
 	 * @param down Should it threshold up or down.
+	 * @return Thresholded image.
+	 */
+	public static <T extends ImageSingleBand>
+	ImageUInt8 adaptiveSquare( T input , ImageUInt8 output ,
+							   int radius , double bias , boolean down )
+	{
+		if( input instanceof ImageFloat32 ) {
+			return ThresholdImageOps.adaptiveSquare((ImageFloat32) input, output, radius, (float) bias, down);
+		} else if( input instanceof ImageUInt8 ) {
+			return ThresholdImageOps.adaptiveSquare((ImageUInt8) input, output, radius, (int) bias, down);
+		} else {
+			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Same as {@link #adaptiveSquare(ImageSingleBand, ImageUInt8, int, double, boolean)} but the local mean is
+	 * first computed into an intermediate image.  For {@link ImageUInt8} the output can be the input image.
+	 *
 	 * @param work1 (Optional) Internal workspace.  Can be null
 	 * @param work2 (Optional) Internal workspace.  Can be null
-	 * @return Thresholded image.
+	 * @deprecated Use the version without work images, which doesn't need intermediate images.
 	 */
+	@Deprecated
 	public static <T extends ImageSingleBand>
 	ImageUInt8 adaptiveSquare( T input , ImageUInt8 output ,
 							   int radius , double bias , boolean down, T work1 , T work2 )
@@ -97,6 +112,37 @@ public class GThresholdImageOps {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Thresholds the image using the minimum and maximum values inside of local blocks, which is robust to
+	 * uneven lighting.  The threshold for a pixel is half way between the min and max of the 3x3 group of blocks
+	 * centered around its block.  Blocks with a spread less than minimumSpread are set to 0.
+	 * </p>
+	 *
+	 * @see ThresholdImageOps#adaptiveBlockMinMax(ImageUInt8, ImageUInt8, int, int, boolean)
+	 *
+	 * @param input Input image.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param blockWidth Width and height of each block.
+	 * @param minimumSpread Minimum difference between min and max for a block to contain foreground.
+	 * @param down Should it threshold up or down.
+	 * @return Thresholded image.
+	 */
+	public static <T extends ImageSingleBand>
+	ImageUInt8 adaptiveBlockMinMax( T input , ImageUInt8 output ,
+									int blockWidth , double minimumSpread , boolean down )
+	{
+		if( input instanceof ImageFloat32 ) {
+			return ThresholdImageOps.adaptiveBlockMinMax((ImageFloat32) input, output, blockWidth,
+					(float) minimumSpread, down);
+		} else if( input instanceof ImageUInt8 ) {
+			return ThresholdImageOps.adaptiveBlockMinMax((ImageUInt8) input, output, blockWidth,
+					(int) minimumSpread, down);
+		} else {
+			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getSimpleName());
+		}
+	}
+
 	/**
 	 * <p>
 	 * Thresholds the image using an adaptive threshold that is computed using a local square region centered
@@ -0,0 +1,796 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.ddogleg.struct.GrowQueue_I32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent version of {@link LinearContourLabelChang2004} which produces the same labeled image and contours.
+ * Instead of labeling while tracing, the image is split into strips of rows which are labeled independently
+ * using a union-find structure.  Labels which touch across strip boundaries are then merged and blobs are
+ * numbered in the order their first pixel is encountered in a raster scan, just like the single threaded
+ * algorithm.  Contours are traced after labeling, with different blobs being traced by different threads.
+ * </p>
+ *
+ * <p>
+ * Internal contours are found by labeling the background using the opposite connectivity rule.  Background
+ * regions which don't touch the image border are holes and the internal contour is traced starting from the
+ * pixel above the first pixel in the hole.  If only the labeled image, external contours, or blob statistics
+ * are needed then tracing can be turned off to save time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LinearContourLabelChang2004_MT {
+
+	// connectivity rule for blobs
+	private ConnectRule rule;
+
+	// what is computed
+	private boolean traceExternal = true;
+	private boolean traceInternal = true;
+	private boolean computeStatistics = false;
+
+	// binary image with a border of zero.
+	private ImageUInt8 border = new ImageUInt8(1,1);
+
+	// strips of rows which are labeled independently.  Recycled between calls
+	private final List<Strip> strips = new ArrayList<Strip>();
+	private int numStrips;
+
+	// union-find structure for all the labels in every strip.  The root is always the smallest label
+	private GrowQueue_I32 parent = new GrowQueue_I32();
+	// raster index of the first pixel for each label
+	private GrowQueue_I32 firstPixel = new GrowQueue_I32();
+	// index of the first label in each strip, for foreground and background
+	private GrowQueue_I32 offsets = new GrowQueue_I32();
+	private GrowQueue_I32 offsetsBackground = new GrowQueue_I32();
+	// look up table from the union-find label to the final blob ID
+	private GrowQueue_I32 finalLabel = new GrowQueue_I32();
+	// union-find structure for background regions and if they touch the image border
+	private GrowQueue_I32 parentBackground = new GrowQueue_I32();
+	private GrowQueue_I32 firstPixelBackground = new GrowQueue_I32();
+	private GrowQueue_I32 touchBorder = new GrowQueue_I32();
+
+	// first pixel in each blob and for each hole, the pixel above its first pixel
+	private GrowQueue_I32 blobStart = new GrowQueue_I32();
+	private GrowQueue_I32 holeStart = new GrowQueue_I32();
+	// holes sorted by the blob they are inside of
+	private GrowQueue_I32 holesInBlob = new GrowQueue_I32();
+	private GrowQueue_I32 holeBlobIndex = new GrowQueue_I32();
+
+	// storage for each group of blobs which are traced together
+	private final List<TraceGroup> groups = new ArrayList<TraceGroup>();
+
+	private FastQueue<Contour> contours = new FastQueue<Contour>(Contour.class,true);
+	private FastQueue<BlobStatistics> statistics = new FastQueue<BlobStatistics>(BlobStatistics.class,true);
+
+	/**
+	 * Configures the algorithm.
+	 *
+	 * @param rule Connectivity rule.  4 or 8
+	 */
+	public LinearContourLabelChang2004_MT( ConnectRule rule ) {
+		if( rule != ConnectRule.FOUR && rule != ConnectRule.EIGHT )
+			throw new IllegalArgumentException("Connectivity rule must be 4 or 8 not "+rule);
+		this.rule = rule;
+	}
+
+	/**
+	 * Processes the binary image to find the contour of and label blobs.
+	 *
+	 * @param binary Input binary image. Not modified.
+	 * @param labeled Output. Labeled image.  Modified.
+	 */
+	public void process( final ImageUInt8 binary , final ImageSInt32 labeled ) {
+		if( binary.width != labeled.width || binary.height != labeled.height )
+			throw new IllegalArgumentException("Input and output images must have the same shape");
+
+		contours.reset();
+		statistics.reset();
+
+		if( binary.width == 0 || binary.height == 0 )
+			return;
+
+		// ensure that the image border pixels are filled with zero by enlarging the image
+		if( border.width != binary.width+2 || border.height != binary.height+2)  {
+			border.reshape(binary.width + 2, binary.height + 2);
+			ImageMiscOps.fillBorder(border, 0, 1);
+		}
+		BoofConcurrency.loopBlocks(0,binary.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					System.arraycopy(binary.data,binary.startIndex+y*binary.stride,
+							border.data,border.startIndex+(y+1)*border.stride+1,binary.width);
+				}
+			}
+		});
+
+		// holes are only needed to trace internal contours
+		final boolean labelBackground = traceInternal;
+
+		// label each strip independently
+		numStrips = 0;
+		BoofConcurrency.loopBlocks(0,binary.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				Strip s = declareStrip();
+				s.y0 = y0;
+				s.y1 = y1;
+				labelStrip(s, labeled);
+				if( labelBackground )
+					labelStripBackground(s);
+			}
+		});
+		sortStrips();
+
+		mergeStrips(labeled);
+		if( labelBackground )
+			mergeStripsBackground();
+
+		// assign the final label to each pixel
+		BoofConcurrency.loopBlocks(0,numStrips,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int i = start; i < end; i++ ) {
+					relabelStrip(strips.get(i), offsets.data[i], labeled);
+				}
+			}
+		});
+
+		if( computeStatistics )
+			mergeStatistics();
+
+		if( labelBackground )
+			findHoles(labeled);
+
+		if( traceExternal || traceInternal )
+			traceContours(labeled);
+	}
+
+	/**
+	 * Labels the foreground in a strip with labels which are local to the strip.  The local labels are written
+	 * into the labeled image.
+	 */
+	private void labelStrip( Strip s , ImageSInt32 labeled ) {
+		final int width = labeled.width;
+		final int strideB = border.stride;
+		final int strideL = labeled.stride;
+		final byte[] dataB = border.data;
+		final int[] dataL = labeled.data;
+
+		s.parent.reset();
+		s.firstPixel.reset();
+		// label 0 is reserved for the background
+		s.parent.add(0);
+		s.firstPixel.add(-1);
+
+		for( int y = s.y0; y < s.y1; y++ ) {
+			int indexB = border.startIndex + (y+1)*strideB + 1;
+			int indexL = labeled.startIndex + y*strideL;
+			boolean firstRow = y == s.y0;
+
+			for( int x = 0; x < width; x++ , indexB++ , indexL++ ) {
+				if( dataB[indexB] != 1 ) {
+					dataL[indexL] = 0;
+					continue;
+				}
+
+				int label;
+				if( firstRow ) {
+					// can't look at the row above since it's in another strip
+					if( dataB[indexB-1] == 1 )
+						label = dataL[indexL-1];
+					else
+						label = newLabel(s.parent, s.firstPixel, y*width+x);
+				} else if( rule == ConnectRule.EIGHT ) {
+					if( dataB[indexB-strideB] == 1 ) {
+						// all the other neighbors are connected to the pixel above
+						label = dataL[indexL-strideL];
+					} else if( dataB[indexB-strideB+1] == 1 ) {
+						label = dataL[indexL-strideL+1];
+						if( dataB[indexB-strideB-1] == 1 )
+							union(s.parent.data, label, dataL[indexL-strideL-1]);
+						else if( dataB[indexB-1] == 1 )
+							union(s.parent.data, label, dataL[indexL-1]);
+					} else if( dataB[indexB-strideB-1] == 1 ) {
+						label = dataL[indexL-strideL-1];
+					} else if( dataB[indexB-1] == 1 ) {
+						label = dataL[indexL-1];
+					} else {
+						label = newLabel(s.parent, s.firstPixel, y*width+x);
+					}
+				} else {
+					if( dataB[indexB-strideB] == 1 ) {
+						label = dataL[indexL-strideL];
+						if( dataB[indexB-1] == 1 )
+							union(s.parent.data, label, dataL[indexL-1]);
+					} else if( dataB[indexB-1] == 1 ) {
+						label = dataL[indexL-1];
+					} else {
+						label = newLabel(s.parent, s.firstPixel, y*width+x);
+					}
+				}
+				dataL[indexL] = label;
+			}
+		}
+	}
+
+	/**
+	 * Labels the background in a strip using the opposite connectivity rule.  Only the labels in the first
+	 * and last row are saved so that strips can be merged.
+	 */
+	private void labelStripBackground( Strip s ) {
+		final int width = border.width-2;
+		final int height = border.height-2;
+		final int strideB = border.stride;
+		final byte[] dataB = border.data;
+		// background uses the opposite rule of the foreground
+		final boolean eight = rule == ConnectRule.FOUR;
+
+		s.parentB.reset();
+		s.firstPixelB.reset();
+		s.touchB.reset();
+		s.parentB.add(0);
+		s.firstPixelB.add(-1);
+		s.touchB.add(0);
+
+		// labels for the previous and current row with an extra element on each side
+		if( s.rowA.length < width+2 ) {
+			s.rowA = new int[ width+2 ];
+			s.rowB = new int[ width+2 ];
+			s.firstRowB = new int[ width ];
+			s.lastRowB = new int[ width ];
+		}
+		int[] prev = s.rowA;
+		int[] curr = s.rowB;
+
+		for( int y = s.y0; y < s.y1; y++ ) {
+			int indexB = border.startIndex + (y+1)*strideB + 1;
+			boolean firstRow = y == s.y0;
+			boolean edgeRow = y == 0 || y == height-1;
+
+			curr[0] = 0;
+			for( int x = 0; x < width; x++ , indexB++ ) {
+				if( dataB[indexB] != 0 ) {
+					curr[x+1] = 0;
+					continue;
+				}
+
+				int label;
+				int w = curr[x];
+				if( firstRow ) {
+					label = w != 0 ? w : s.newLabelBackground(y*width+x);
+				} else if( eight ) {
+					int n = prev[x+1], ne = prev[x+2], nw = prev[x];
+					if( n != 0 ) {
+						label = n;
+					} else if( ne != 0 ) {
+						label = ne;
+						if( nw != 0 )
+							union(s.parentB.data, label, nw);
+						else if( w != 0 )
+							union(s.parentB.data, label, w);
+					} else if( nw != 0 ) {
+						label = nw;
+					} else if( w != 0 ) {
+						label = w;
+					} else {
+						label = s.newLabelBackground(y*width+x);
+					}
+				} else {
+					int n = prev[x+1];
+					if( n != 0 ) {
+						label = n;
+						if( w != 0 )
+							union(s.parentB.data, label, w);
+					} else if( w != 0 ) {
+						label = w;
+					} else {
+						label = s.newLabelBackground(y*width+x);
+					}
+				}
+				curr[x+1] = label;
+			}
+			curr[width+1] = 0;
+
+			// mark regions which touch the image border.  Foreground pixels have a label of 0 which is ignored
+			if( edgeRow ) {
+				for( int x = 1; x <= width; x++ )
+					s.touchB.data[curr[x]] = 1;
+			} else {
+				s.touchB.data[curr[1]] = 1;
+				s.touchB.data[curr[width]] = 1;
+			}
+
+			if( firstRow )
+				System.arraycopy(curr,1,s.firstRowB,0,width);
+			if( y == s.y1-1 )
+				System.arraycopy(curr,1,s.lastRowB,0,width);
+
+			int[] tmp = prev;
+			prev = curr;
+			curr = tmp;
+		}
+	}
+
+	/**
+	 * Merges the foreground labels in all the strips into one union-find structure and assigns the final label
+	 * to each union
+	 */
+	private void mergeStrips( ImageSInt32 labeled ) {
+		final int width = labeled.width;
+		final int strideB = border.stride;
+		final int strideL = labeled.stride;
+
+		// concatenate the labels from each strip
+		offsets.reset();
+		parent.reset();
+		firstPixel.reset();
+		parent.add(0);
+		firstPixel.add(-1);
+		for( int i = 0; i < numStrips; i++ ) {
+			Strip s = strips.get(i);
+			int offset = parent.size-1;
+			offsets.add(offset);
+			for( int j = 1; j < s.parent.size; j++ ) {
+				parent.add(s.parent.data[j] + offset);
+				firstPixel.add(s.firstPixel.data[j]);
+			}
+		}
+
+		// connect labels which touch across the boundary between strips
+		for( int i = 1; i < numStrips; i++ ) {
+			int y = strips.get(i).y0;
+			int offsetA = offsets.data[i-1];
+			int offsetB = offsets.data[i];
+
+			int indexB = border.startIndex + (y+1)*strideB + 1;
+			int indexL = labeled.startIndex + y*strideL;
+
+			for( int x = 0; x < width; x++ , indexB++ , indexL++ ) {
+				if( border.data[indexB] != 1 )
+					continue;
+
+				int label = labeled.data[indexL] + offsetB;
+				if( border.data[indexB-strideB] == 1 )
+					union(parent.data, label, labeled.data[indexL-strideL] + offsetA);
+				if( rule == ConnectRule.EIGHT ) {
+					if( border.data[indexB-strideB-1] == 1 )
+						union(parent.data, label, labeled.data[indexL-strideL-1] + offsetA);
+					if( border.data[indexB-strideB+1] == 1 )
+						union(parent.data, label, labeled.data[indexL-strideL+1] + offsetA);
+				}
+			}
+		}
+
+		// Blobs are numbered in the order of their first label.  Labels are created in raster order
+		// so this is the same order the single threaded algorithm finds them in
+		finalLabel.resize(parent.size);
+		finalLabel.data[0] = 0;
+		blobStart.reset();
+		for( int i = 1; i < parent.size; i++ ) {
+			int root = find(parent.data, i);
+			if( root == i ) {
+				Contour c = contours.grow();
+				c.reset();
+				c.id = contours.size;
+				finalLabel.data[i] = contours.size;
+				blobStart.add(firstPixel.data[i]);
+			} else {
+				finalLabel.data[i] = finalLabel.data[root];
+			}
+		}
+	}
+
+	/**
+	 * Merges background labels across strips and finds which background regions touch the image border
+	 */
+	private void mergeStripsBackground() {
+		final int width = border.width-2;
+
+		offsetsBackground.reset();
+		parentBackground.reset();
+		firstPixelBackground.reset();
+		touchBorder.reset();
+		parentBackground.add(0);
+		firstPixelBackground.add(-1);
+		touchBorder.add(0);
+		for( int i = 0; i < numStrips; i++ ) {
+			Strip s = strips.get(i);
+			int offset = parentBackground.size-1;
+			offsetsBackground.add(offset);
+			for( int j = 1; j < s.parentB.size; j++ ) {
+				parentBackground.add(s.parentB.data[j] + offset);
+				firstPixelBackground.add(s.firstPixelB.data[j]);
+				touchBorder.add(s.touchB.data[j]);
+			}
+		}
+
+		boolean eight = rule == ConnectRule.FOUR;
+		for( int i = 1; i < numStrips; i++ ) {
+			int[] above = strips.get(i-1).lastRowB;
+			int[] below = strips.get(i).firstRowB;
+			int offsetA = offsetsBackground.data[i-1];
+			int offsetB = offsetsBackground.data[i];
+
+			for( int x = 0; x < width; x++ ) {
+				if( below[x] == 0 )
+					continue;
+				int label = below[x] + offsetB;
+				if( above[x] != 0 )
+					union(parentBackground.data, label, above[x] + offsetA);
+				if( eight ) {
+					if( x > 0 && above[x-1] != 0 )
+						union(parentBackground.data, label, above[x-1] + offsetA);
+					if( x < width-1 && above[x+1] != 0 )
+						union(parentBackground.data, label, above[x+1] + offsetA);
+				}
+			}
+		}
+
+		// a region touches the border if any part of it does
+		for( int i = 1; i < parentBackground.size; i++ ) {
+			int root = find(parentBackground.data, i);
+			if( touchBorder.data[i] == 1 )
+				touchBorder.data[root] = 1;
+		}
+	}
+
+	/**
+	 * Converts the local labels in the strip into final labels and optionally computes blob statistics.
+	 */
+	private void relabelStrip( Strip s , int offset , ImageSInt32 labeled ) {
+		final int[] lookup = finalLabel.data;
+		final int[] dataL = labeled.data;
+
+		if( computeStatistics ) {
+			s.declareStatistics(s.parent.size);
+		}
+
+		for( int y = s.y0; y < s.y1; y++ ) {
+			int indexL = labeled.startIndex + y*labeled.stride;
+			for( int x = 0; x < labeled.width; x++ , indexL++ ) {
+				int local = dataL[indexL];
+				if( local == 0 )
+					continue;
+				if( computeStatistics )
+					s.addStatistics(local, x, y);
+				dataL[indexL] = lookup[local + offset];
+			}
+		}
+	}
+
+	/**
+	 * Adds up the statistics from each strip
+	 */
+	private void mergeStatistics() {
+		long sumX[] = new long[ contours.size+1 ];
+		long sumY[] = new long[ contours.size+1 ];
+
+		for( int i = 0; i < contours.size; i++ ) {
+			BlobStatistics b = statistics.grow();
+			b.reset();
+			b.id = i+1;
+		}
+
+		for( int i = 0; i < numStrips; i++ ) {
+			Strip s = strips.get(i);
+			int offset = offsets.data[i];
+			for( int local = 1; local < s.parent.size; local++ ) {
+				if( s.area[local] == 0 )
+					continue;
+				int id = finalLabel.data[local + offset];
+				BlobStatistics b = statistics.get(id-1);
+				b.area += s.area[local];
+				b.minX = Math.min(b.minX, s.bounds[local*4]);
+				b.minY = Math.min(b.minY, s.bounds[local*4+1]);
+				b.maxX = Math.max(b.maxX, s.bounds[local*4+2]);
+				b.maxY = Math.max(b.maxY, s.bounds[local*4+3]);
+				sumX[id] += s.sumX[local];
+				sumY[id] += s.sumY[local];
+			}
+		}
+
+		for( int i = 0; i < statistics.size; i++ ) {
+			BlobStatistics b = statistics.get(i);
+			b.centerX = sumX[i+1]/(double)b.area;
+			b.centerY = sumY[i+1]/(double)b.area;
+		}
+	}
+
+	/**
+	 * Finds the starting point for each internal contour and sorts them by the blob they are inside of
+	 */
+	private void findHoles( ImageSInt32 labeled ) {
+		final int width = labeled.width;
+
+		holeStart.reset();
+		holeBlobIndex.reset();
+		for( int i = 1; i < parentBackground.size; i++ ) {
+			if( parentBackground.data[i] != i || touchBorder.data[i] == 1 )
+				continue;
+			// the pixel above the first pixel in the hole must be part of the blob around it
+			int start = firstPixelBackground.data[i] - width;
+			int x = start % width;
+			int y = start / width;
+			holeStart.add(start);
+			holeBlobIndex.add(labeled.data[labeled.startIndex + y*labeled.stride + x]);
+		}
+
+		// counting sort so that the holes are grouped by blob but remain in raster order
+		int numBlobs = contours.size;
+		holesInBlob.resize(numBlobs+2);
+		for( int i = 0; i < holesInBlob.size; i++ )
+			holesInBlob.data[i] = 0;
+		for( int i = 0; i < holeStart.size; i++ )
+			holesInBlob.data[holeBlobIndex.data[i]+1]++;
+		for( int i = 1; i < holesInBlob.size; i++ )
+			holesInBlob.data[i] += holesInBlob.data[i-1];
+
+		// holesInBlob[id] is now the index of the first hole for blob 'id'
+		int sorted[] = new int[ holeStart.size ];
+		int next[] = new int[ numBlobs+1 ];
+		System.arraycopy(holesInBlob.data,0,next,0,numBlobs+1);
+		for( int i = 0; i < holeStart.size; i++ ) {
+			sorted[ next[holeBlobIndex.data[i]]++ ] = holeStart.data[i];
+		}
+		System.arraycopy(sorted,0,holeStart.data,0,sorted.length);
+	}
+
+	/**
+	 * Traces the contours.  Each thread traces all the contours for a range of blobs so that no two threads
+	 * modify the same {@link Contour}.
+	 */
+	private void traceContours( final ImageSInt32 labeled ) {
+		final int numBlobs = contours.size;
+		final int numGroups = Math.max(1,Math.min(numBlobs,BoofConcurrency.getMaxThreads()));
+
+		while( groups.size() < numGroups ) {
+			groups.add( new TraceGroup(rule) );
+		}
+
+		BoofConcurrency.loopBlocks(0,numGroups,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int g = start; g < end; g++ ) {
+					int blob0 = (int)((long)g*numBlobs/numGroups);
+					int blob1 = (int)((long)(g+1)*numBlobs/numGroups);
+					traceGroup(groups.get(g), labeled, blob0, blob1);
+				}
+			}
+		});
+	}
+
+	private void traceGroup( TraceGroup group , ImageSInt32 labeled , int blob0 , int blob1 ) {
+		final int width = labeled.width;
+
+		group.storagePoints.reset();
+		group.storageLists.reset();
+		// The tracer will mark white pixels in the shared border image.  The mark only prevents the single
+		// threaded algorithm from tracing the same contour twice and isn't used here.
+		group.tracer.setInputs(border,labeled,group.storagePoints);
+
+		for( int i = blob0; i < blob1; i++ ) {
+			Contour c = contours.get(i);
+			int label = i+1;
+
+			if( traceExternal ) {
+				int start = blobStart.data[i];
+				group.tracer.trace(label, start%width + 1, start/width + 1, true, c.external);
+			}
+
+			if( traceInternal ) {
+				int end = holesInBlob.data[label+1];
+				for( int j = holesInBlob.data[label]; j < end; j++ ) {
+					int start = holeStart.data[j];
+					List<Point2D_I32> inner = group.storageLists.grow();
+					inner.clear();
+					c.internal.add(inner);
+					group.tracer.trace(label, start%width + 1, start/width + 1, false, inner);
+				}
+			}
+		}
+	}
+
+	private synchronized Strip declareStrip() {
+		if( strips.size() <= numStrips )
+			strips.add( new Strip() );
+		return strips.get(numStrips++);
+	}
+
+	/**
+	 * Sorts strips by their first row.  Insertion sort since there are very few of them
+	 */
+	private void sortStrips() {
+		for( int i = 1; i < numStrips; i++ ) {
+			Strip s = strips.get(i);
+			int j = i-1;
+			while( j >= 0 && strips.get(j).y0 > s.y0 ) {
+				strips.set(j+1, strips.get(j));
+				j--;
+			}
+			strips.set(j+1, s);
+		}
+	}
+
+	private static int newLabel( GrowQueue_I32 parent , GrowQueue_I32 firstPixel , int pixel ) {
+		int label = parent.size;
+		parent.add(label);
+		firstPixel.add(pixel);
+		return label;
+	}
+
+	/**
+	 * Finds the root of the set.  Path halving is used to keep trees shallow.
+	 */
+	private static int find( int parent[] , int label ) {
+		while( parent[label] != label ) {
+			parent[label] = parent[parent[label]];
+			label = parent[label];
+		}
+		return label;
+	}
+
+	/**
+	 * Merges two sets.  The root with the smallest label becomes the new root.
+	 */
+	private static void union( int parent[] , int a , int b ) {
+		a = find(parent, a);
+		b = find(parent, b);
+		if( a < b )
+			parent[b] = a;
+		else if( b < a )
+			parent[a] = b;
+	}
+
+	/**
+	 * If true the external contour around each blob will be traced.  Default is true.
+	 */
+	public void setTraceExternal( boolean traceExternal ) {
+		this.traceExternal = traceExternal;
+	}
+
+	public boolean isTraceExternal() {
+		return traceExternal;
+	}
+
+	/**
+	 * If true the contours around holes inside of each blob will be traced.  Default is true.
+	 */
+	public void setTraceInternal( boolean traceInternal ) {
+		this.traceInternal = traceInternal;
+	}
+
+	public boolean isTraceInternal() {
+		return traceInternal;
+	}
+
+	/**
+	 * If true then {@link BlobStatistics} will be computed for each blob.  Default is false.
+	 */
+	public void setComputeStatistics( boolean computeStatistics ) {
+		this.computeStatistics = computeStatistics;
+	}
+
+	public boolean isComputeStatistics() {
+		return computeStatistics;
+	}
+
+	/**
+	 * Found contours.  One for each blob.  If tracing has been turned off the contours will only contain the ID.
+	 */
+	public FastQueue<Contour> getContours() {
+		return contours;
+	}
+
+	/**
+	 * Statistics for each blob, if computed.  The statistics for blob ID 'i' is at index i-1.
+	 */
+	public FastQueue<BlobStatistics> getStatistics() {
+		return statistics;
+	}
+
+	/**
+	 * Labels and book keeping for a strip of rows
+	 */
+	private static class Strip {
+		// range of rows, y0 inclusive and y1 exclusive
+		int y0, y1;
+
+		// foreground union-find and first pixel of each label
+		GrowQueue_I32 parent = new GrowQueue_I32();
+		GrowQueue_I32 firstPixel = new GrowQueue_I32();
+
+		// background union-find, first pixel, and if it touches the image border
+		GrowQueue_I32 parentB = new GrowQueue_I32();
+		GrowQueue_I32 firstPixelB = new GrowQueue_I32();
+		GrowQueue_I32 touchB = new GrowQueue_I32();
+		int[] rowA = new int[0];
+		int[] rowB = new int[0];
+		int[] firstRowB = new int[0];
+		int[] lastRowB = new int[0];
+
+		// statistics for each local label
+		int[] area = new int[0];
+		int[] bounds = new int[0];
+		long[] sumX = new long[0];
+		long[] sumY = new long[0];
+
+		int newLabelBackground( int pixel ) {
+			int label = parentB.size;
+			parentB.add(label);
+			firstPixelB.add(pixel);
+			touchB.add(0);
+			return label;
+		}
+
+		void declareStatistics( int numLabels ) {
+			if( area.length < numLabels ) {
+				area = new int[ numLabels ];
+				bounds = new int[ numLabels*4 ];
+				sumX = new long[ numLabels ];
+				sumY = new long[ numLabels ];
+			}
+			for( int i = 0; i < numLabels; i++ ) {
+				area[i] = 0;
+				sumX[i] = sumY[i] = 0;
+				bounds[i*4] = bounds[i*4+1] = Integer.MAX_VALUE;
+				bounds[i*4+2] = bounds[i*4+3] = Integer.MIN_VALUE;
+			}
+		}
+
+		void addStatistics( int label , int x , int y ) {
+			area[label]++;
+			sumX[label] += x;
+			sumY[label] += y;
+			int i = label*4;
+			if( x < bounds[i] ) bounds[i] = x;
+			if( y < bounds[i+1] ) bounds[i+1] = y;
+			if( x > bounds[i+2] ) bounds[i+2] = x;
+			if( y > bounds[i+3] ) bounds[i+3] = y;
+		}
+	}
+
+	/**
+	 * Storage used to trace a group of blobs
+	 */
+	private static class TraceGroup {
+		ContourTracer tracer;
+		FastQueue<Point2D_I32> storagePoints = new FastQueue<Point2D_I32>(Point2D_I32.class,true);
+		FastQueue<List<Point2D_I32>> storageLists = new FastQueue<List<Point2D_I32>>((Class)ArrayList.class,true);
+
+		TraceGroup( ConnectRule rule ) {
+			tracer = new ContourTracer(rule);
+		}
+	}
+}
@@ -19,7 +19,10 @@
 package boofcv.alg.filter.binary;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.binary.impl.ImplThresholdAdaptive;
+import boofcv.alg.filter.binary.impl.ImplThresholdAdaptive_MT;
 import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -335,15 +338,48 @@ public class ThresholdImageOps {
 	 * If down is true then b(x,y) = I(x,y) <= T(x,y) + bias ? 1 : 0.  Otherwise
 	 * b(x,y) = I(x,y) >= T(x,y) + bias ? 0 : 1
 	 *
+	 * The local mean is computed from a sliding window of column sums in the same pass that the threshold
+	 * is applied, so no intermediate images are needed.
+	 *
 	 * @param input Input image.
-	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.  Can't be the input or share its data.
 	 * @param radius Radius of square region.
 	 * @param bias Bias used to adjust threshold
 	 * @param down Should it threshold up or down.
+	 * @return Thresholded image.
+	 */
+	public static ImageUInt8 adaptiveSquare( ImageUInt8 input , ImageUInt8 output ,
+											 int radius , int bias , boolean down ) {
+
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);
+
+		if( input.data == output.data )
+			throw new IllegalArgumentException("The output can't share data with the input");
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdAdaptive_MT.squareMean(input,radius,bias,down,output);
+		} else {
+			int columnSums[] = new int[ input.width ];
+			int rowMeans[] = new int[ input.width ];
+			ImplThresholdAdaptive.squareMean(input,radius,bias,down,0,input.height,columnSums,rowMeans,output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Same as {@link #adaptiveSquare(ImageUInt8, ImageUInt8, int, int, boolean)} but the local
+	 * mean is first computed into an intermediate image using {@link BlurImageOps#mean}.  The output
+	 * can be the input image.
+	 *
 	 * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.
 	 * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.
-	 * @return Thresholded image.
+	 * @deprecated Use the version without storage, which doesn't need intermediate images.
 	 */
+	@Deprecated
 	public static ImageUInt8 adaptiveSquare( ImageUInt8 input , ImageUInt8 output ,
 											 int radius , int bias , boolean down ,
 											 ImageUInt8 storage1 , ImageUInt8 storage2 ) {
@@ -395,6 +431,43 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Thresholds the image using the minimum and maximum values inside of local blocks, which is robust to
+	 * uneven lighting.  The image is broken up into square blocks and the threshold for a pixel is half way
+	 * between the min and max of the 3x3 group of blocks centered around its block.  If the difference
+	 * between the min and max is less than minimumSpread the block is assumed to be background and set to 0.
+	 * If down is true then b(x,y) = I(x,y) <= T(x,y) ? 1 : 0.  Otherwise b(x,y) = I(x,y) >= T(x,y) ? 1 : 0
+	 *
+	 * @param input Input image.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param blockWidth Width and height of each block.  Pixels which don't fill a block are added to the last one.
+	 * @param minimumSpread Minimum difference between min and max for a block to contain foreground.
+	 * @param down Should it threshold up or down.
+	 * @return Thresholded image.
+	 */
+	public static ImageUInt8 adaptiveBlockMinMax( ImageUInt8 input , ImageUInt8 output ,
+												  int blockWidth , int minimumSpread , boolean down ) {
+
+		if( blockWidth <= 0 )
+			throw new IllegalArgumentException("blockWidth must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);
+
+		int blocksX = ImplThresholdAdaptive.numBlocks(input.width,blockWidth);
+		int blocksY = ImplThresholdAdaptive.numBlocks(input.height,blockWidth);
+		int min[] = new int[ blocksX*blocksY ];
+		int max[] = new int[ blocksX*blocksY ];
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdAdaptive_MT.blockMinMax(input,blockWidth,minimumSpread,down,min,max,output);
+		} else {
+			ImplThresholdAdaptive.blockMinMax(input,blockWidth,0,blocksY,min,max);
+			ImplThresholdAdaptive.blockThreshold(input,blockWidth,minimumSpread,down,0,blocksY,min,max,output);
+		}
+
+		return output;
+	}
+
 	/**
 	 * Thresholds the image using an adaptive threshold that is computed using a local square region centered
 	 * on each pixel.  The threshold is equal to the gaussian weighted sum of the surrounding pixels plus the bias.
@@ -467,15 +540,43 @@ public class ThresholdImageOps {
 	 * If down is true then b(x,y) = I(x,y) <= T(x,y) + bias ? 1 : 0.  Otherwise
 	 * b(x,y) = I(x,y) >= T(x,y) + bias ? 0 : 1
 	 *
+	 * The local mean is computed from a sliding window of column sums in the same pass that the threshold
+	 * is applied, so no intermediate images are needed.
+	 *
 	 * @param input Input image.
 	 * @param output (optional) Output binary image.  If null it will be declared internally.
 	 * @param radius Radius of square region.
 	 * @param bias Bias used to adjust threshold
 	 * @param down Should it threshold up or down.
+	 * @return Thresholded image.
+	 */
+	public static ImageUInt8 adaptiveSquare( ImageFloat32 input , ImageUInt8 output ,
+											 int radius , float bias , boolean down ) {
+
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdAdaptive_MT.squareMean(input,radius,bias,down,output);
+		} else {
+			float columnSums[] = new float[ input.width ];
+			ImplThresholdAdaptive.squareMean(input,radius,bias,down,0,input.height,columnSums,output);
+		}
+
+		return output;
+	}
+
+	/**
+	 * Same as {@link #adaptiveSquare(ImageFloat32, ImageUInt8, int, float, boolean)} but the local
+	 * mean is first computed into an intermediate image using {@link BlurImageOps#mean}.
+	 *
 	 * @param storage1 (Optional) Storage for intermediate step. If null will be declared internally.
 	 * @param storage2 (Optional) Storage for intermediate step. If null will be declared internally.
-	 * @return Thresholded image.
+	 * @deprecated Use the version without storage, which doesn't need intermediate images.
 	 */
+	@Deprecated
 	public static ImageUInt8 adaptiveSquare( ImageFloat32 input , ImageUInt8 output ,
 											 int radius , float bias , boolean down ,
 											 ImageFloat32 storage1 , ImageFloat32 storage2 ) {
@@ -527,6 +628,43 @@ public class ThresholdImageOps {
 		return output;
 	}
 
+	/**
+	 * Thresholds the image using the minimum and maximum values inside of local blocks, which is robust to
+	 * uneven lighting.  The image is broken up into square blocks and the threshold for a pixel is half way
+	 * between the min and max of the 3x3 group of blocks centered around its block.  If the difference
+	 * between the min and max is less than minimumSpread the block is assumed to be background and set to 0.
+	 * If down is true then b(x,y) = I(x,y) <= T(x,y) ? 1 : 0.  Otherwise b(x,y) = I(x,y) >= T(x,y) ? 1 : 0
+	 *
+	 * @param input Input image.
+	 * @param output (optional) Output binary image.  If null it will be declared internally.
+	 * @param blockWidth Width and height of each block.  Pixels which don't fill a block are added to the last one.
+	 * @param minimumSpread Minimum difference between min and max for a block to contain foreground.
+	 * @param down Should it threshold up or down.
+	 * @return Thresholded image.
+	 */
+	public static ImageUInt8 adaptiveBlockMinMax( ImageFloat32 input , ImageUInt8 output ,
+												  int blockWidth , float minimumSpread , boolean down ) {
+
+		if( blockWidth <= 0 )
+			throw new IllegalArgumentException("blockWidth must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);
+
+		int blocksX = ImplThresholdAdaptive.numBlocks(input.width,blockWidth);
+		int blocksY = ImplThresholdAdaptive.numBlocks(input.height,blockWidth);
+		float min[] = new float[ blocksX*blocksY ];
+		float max[] = new float[ blocksX*blocksY ];
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplThresholdAdaptive_MT.blockMinMax(input,blockWidth,minimumSpread,down,min,max,output);
+		} else {
+			ImplThresholdAdaptive.blockMinMax(input,blockWidth,0,blocksY,min,max);
+			ImplThresholdAdaptive.blockThreshold(input,blockWidth,minimumSpread,down,0,blocksY,min,max,output);
+		}
+
+		return output;
+	}
+
 	/**
 	 * Thresholds the image using an adaptive threshold that is computed using a local square region centered
 	 * on each pixel.  The threshold is equal to the gaussian weighted sum of the surrounding pixels plus the bias.
@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.struct.image.ImageBinaryPacked;
+import boofcv.struct.image.ImageUInt8;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Binary operations on {@link ImageBinaryPacked} which process 64 pixels at once.  The neighbors of each pixel are
+ * found by shifting the words in the row and the rows above and below it.  Each operation treats pixels outside the
+ * image the same way as {@link ImplBinaryNaiveOps}: erode and edge consider them to be one, while dilate and
+ * removePointNoise consider them to be zero.
+ * </p>
+ *
+ * <p>
+ * Rows are copied into a small buffer before they are processed, allowing the input and output to be the same image.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplBinaryPackedOps {
+
+	public static void logicAnd( ImageBinaryPacked inputA , ImageBinaryPacked inputB , ImageBinaryPacked output ) {
+		int N = inputA.stride*inputA.height;
+		for( int i = 0; i < N; i++ ) {
+			output.data[i] = inputA.data[i] & inputB.data[i];
+		}
+	}
+
+	public static void logicOr( ImageBinaryPacked inputA , ImageBinaryPacked inputB , ImageBinaryPacked output ) {
+		int N = inputA.stride*inputA.height;
+		for( int i = 0; i < N; i++ ) {
+			output.data[i] = inputA.data[i] | inputB.data[i];
+		}
+	}
+
+	public static void logicXor( ImageBinaryPacked inputA , ImageBinaryPacked inputB , ImageBinaryPacked output ) {
+		int N = inputA.stride*inputA.height;
+		for( int i = 0; i < N; i++ ) {
+			output.data[i] = inputA.data[i] ^ inputB.data[i];
+		}
+	}
+
+	/**
+	 * Output is one only if the pixel and its 4 neighbors are one
+	 */
+	public static void erode4( ImageBinaryPacked input , ImageBinaryPacked output ) {
+		final int stride = input.stride;
+		final long lastMask = input.getLastWordMask();
+
+		long above[] = new long[ stride+2 ];
+		long row[] = new long[ stride+2 ];
+		long below[] = new long[ stride+2 ];
+
+		loadRow(input,-1,~0L,above);
+		loadRow(input,0,~0L,row);
+
+		for( int y = 0; y < input.height; y++ ) {
+			loadRow(input,y+1,~0L,below);
+
+			int indexOut = y*stride;
+			for( int k = 1; k <= stride; k++ ) {
+				long c = row[k];
+				long l = (c << 1) | (row[k-1] >>> 63);
+				long r = (c >>> 1) | (row[k+1] << 63);
+				long a = above[k];
+				long b = below[k];
+				output.data[indexOut++] = c & l & r & a & b;
+			}
+			output.data[indexOut-1] &= lastMask;
+
+			long tmp[] = above;
+			above = row;
+			row = below;
+			below = tmp;
+		}
+	}
+
+	/**
+	 * Output is one if the pixel or any of its 4 neighbors are one
+	 */
+	public static void dilate4( ImageBinaryPacked input , ImageBinaryPacked output ) {
+		final int stride = input.stride;
+		final long lastMask = input.getLastWordMask();
+
+		long above[] = new long[ stride+2 ];
+		long row[] = new long[ stride+2 ];
+		long below[] = new long[ stride+2 ];
+
+		loadRow(input,-1,0,above);
+		loadRow(input,0,0,row);
+
+		for( int y = 0; y < input.height; y++ ) {
+			loadRow(input,y+1,0,below);
+
+			int indexOut = y*stride;
+			for( int k = 1; k <= stride; k++ ) {
+				long c = row[k];
+				long l = (c << 1) | (row[k-1] >>> 63);
+				long r = (c >>> 1) | (row[k+1] << 63);
+				long a = above[k];
+				long b = below[k];
+				output.data[indexOut++] = c | l | r | a | b;
+			}
+			output.data[indexOut-1] &= lastMask;
+
+			long tmp[] = above;
+			above = row;
+			row = below;
+			below = tmp;
+		}
+	}
+
+	/**
+	 * Pixels which are surrounded by their 4 neighbors are set to zero
+	 */
+	public static void edge4( ImageBinaryPacked input , ImageBinaryPacked output ) {
+		final int stride = input.stride;
+		final long lastMask = input.getLastWordMask();
+
+		long above[] = new long[ stride+2 ];
+		long row[] = new long[ stride+2 ];
+		long below[] = new long[ stride+2 ];
+
+		loadRow(input,-1,~0L,above);
+		loadRow(input,0,~0L,row);
+
+		for( int y = 0; y < input.height; y++ ) {
+			loadRow(input,y+1,~0L,below);
+
+			int indexOut = y*stride;
+			for( int k = 1; k <= stride; k++ ) {
+				long c = row[k];
+				long l = (c << 1) | (row[k-1] >>> 63);
+				long r = (c >>> 1) | (row[k+1] << 63);
+				long a = above[k];
+				long b = below[k];
+				output.data[indexOut++] = c & ~(l & r & a & b);
+			}
+			output.data[indexOut-1] &= lastMask;
+
+			long tmp[] = above;
+			above = row;
+			row = below;
+			below = tmp;
+		}
+	}
+
+	/**
+	 * Output is one only if the pixel and its 8 neighbors are one
+	 */
+	public static void erode8( ImageBinaryPacked input , ImageBinaryPacked output ) {
+		final int stride = input.stride;
+		final long lastMask = input.getLastWordMask();
+
+		long above[] = new long[ stride+2 ];
+		long row[] = new long[ stride+2 ];
+		long below[] = new long[ stride+2 ];
+
+		loadRow(input,-1,~0L,above);
+		loadRow(input,0,~0L,row);
+
+		for( int y = 0; y < input.height; y++ ) {
+			loadRow(input,y+1,~0L,below);
+
+			int indexOut = y*stride;
+			for( int k = 1; k <= stride; k++ ) {
+				long c = row[k];
+				long l = (c << 1) | (row[k-1] >>> 63);
+				long r = (c >>> 1) | (row[k+1] << 63);
+				long a = above[k];
+				long al = (a << 1) | (above[k-1] >>> 63);
+				long ar = (a >>> 1) | (above[k+1] << 63);
+				long b = below[k];
+				long bl = (b << 1) | (below[k-1] >>> 63);
+				long br = (b >>> 1) | (below[k+1] << 63);
+				output.data[indexOut++] = c & l & r & a & al & ar & b & bl & br;
+			}
+			output.data[indexOut-1] &= lastMask;
+
+			long tmp[] = above;
+			above = row;
+			row = below;
+			below = tmp;
+		}
+	}
+
+	/**
+	 * Output is one if the pixel or any of its 8 neighbors are one
+	 */
+	public static void dilate8( ImageBinaryPacked input , ImageBinaryPacked output ) {
+		final int stride = input.stride;
+		final long lastMask = input.getLastWordMask();
+
+		long above[] = new long[ stride+2 ];
+		long row[] = new long[ stride+2 ];
+		long below[] = new long[ stride+2 ];
+
+		loadRow(input,-1,0,above);
+		loadRow(input,0,0,row);
+
+		for( int y = 0; y < input.height; y++ ) {
+			loadRow(input,y+1,0,below);
+
+			int indexOut = y*stride;
+			for( int k = 1; k <= stride; k++ ) {
+				long c = row[k];
+				long l = (c << 1) | (row[k-1] >>> 63);
+				long r = (c >>> 1) | (row[k+1] << 63);
+				long a = above[k];
+				long al = (a << 1) | (above[k-1] >>> 63);
+				long ar = (a >>> 1) | (above[k+1] << 63);
+				long b = below[k];
+				long bl = (b << 1) | (below[k-1] >>> 63);
+				long br = (b >>> 1) | (below[k+1] << 63);
+				output.data[indexOut++] = c | l | r | a | al | ar | b | bl | br;
+			}
+			output.data[indexOut-1] &= lastMask;
+
+			long tmp[] = above;
+			above = row;
+			row = below;
+			below = tmp;
+		}
+	}
+
+	/**
+	 * Pixels which are surrounded by their 8 neighbors are set to zero
+	 */
+	public static void edge8( ImageBinaryPacked input , ImageBinaryPacked output ) {
+		final int stride = input.stride;
+		final long lastMask = input.getLastWordMask();
+
+		long above[] = new long[ stride+2 ];
+		long row[] = new long[ stride+2 ];
+		long below[] = new long[ stride+2 ];
+
+		loadRow(input,-1,~0L,above);
+		loadRow(input,0,~0L,row);
+
+		for( int y = 0; y < input.height; y++ ) {
+			loadRow(input,y+1,~0L,below);
+
+			int indexOut = y*stride;
+			for( int k = 1; k <= stride; k++ ) {
+				long c = row[k];
+				long l = (c << 1) | (row[k-1] >>> 63);
+				long r = (c >>> 1) | (row[k+1] << 63);
+				long a = above[k];
+				long al = (a << 1) | (above[k-1] >>> 63);
+				long ar = (a >>> 1) | (above[k+1] << 63);
+				long b = below[k];
+				long bl = (b << 1) | (below[k-1] >>> 63);
+				long br = (b >>> 1) | (below[k+1] << 63);
+				output.data[indexOut++] = c & ~(l & r & a & al & ar & b & bl & br);
+			}
+			output.data[indexOut-1] &= lastMask;
+
+			long tmp[] = above;
+			above = row;
+			row = below;
+			below = tmp;
+		}
+	}
+
+	/**
+	 * Pixels with fewer than 2 neighbors are set to zero and pixels with more than 6 neighbors are set to one.
+	 * The number of neighbors is counted for all 64 pixels at once with a bit sliced adder.
+	 */
+	public static void removePointNoise( ImageBinaryPacked input , ImageBinaryPacked output ) {
+		final int stride = input.stride;
+		final long lastMask = input.getLastWordMask();
+
+		long above[] = new long[ stride+2 ];
+		long row[] = new long[ stride+2 ];
+		long below[] = new long[ stride+2 ];
+
+		loadRow(input,-1,0,above);
+		loadRow(input,0,0,row);
+
+		for( int y = 0; y < input.height; y++ ) {
+			loadRow(input,y+1,0,below);
+
+			int indexOut = y*stride;
+			for( int k = 1; k <= stride; k++ ) {
+				long c = row[k];
+				long l = (c << 1) | (row[k-1] >>> 63);
+				long r = (c >>> 1) | (row[k+1] << 63);
+				long a = above[k];
+				long al = (a << 1) | (above[k-1] >>> 63);
+				long ar = (a >>> 1) | (above[k+1] << 63);
+				long b = below[k];
+				long bl = (b << 1) | (below[k-1] >>> 63);
+				long br = (b >>> 1) | (below[k+1] << 63);
+
+				// each bit in s0 to s3 is one bit of the neighbor count for the pixel
+				long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+				long carry;
+				carry = s0 & l;  s0 ^= l;  s3 |= s2 & s1 & carry; s2 ^= s1 & carry; s1 ^= carry;
+				carry = s0 & r;  s0 ^= r;  s3 |= s2 & s1 & carry; s2 ^= s1 & carry; s1 ^= carry;
+				carry = s0 & a;  s0 ^= a;  s3 |= s2 & s1 & carry; s2 ^= s1 & carry; s1 ^= carry;
+				carry = s0 & al; s0 ^= al; s3 |= s2 & s1 & carry; s2 ^= s1 & carry; s1 ^= carry;
+				carry = s0 & ar; s0 ^= ar; s3 |= s2 & s1 & carry; s2 ^= s1 & carry; s1 ^= carry;
+				carry = s0 & b;  s0 ^= b;  s3 |= s2 & s1 & carry; s2 ^= s1 & carry; s1 ^= carry;
+				carry = s0 & bl; s0 ^= bl; s3 |= s2 & s1 & carry; s2 ^= s1 & carry; s1 ^= carry;
+				carry = s0 & br; s0 ^= br; s3 |= s2 & s1 & carry; s2 ^= s1 & carry; s1 ^= carry;
+
+				long atLeastTwo = s1 | s2 | s3;
+				long atLeastSeven = s3 | (s2 & s1 & s0);
+
+				output.data[indexOut++] = atLeastSeven | (atLeastTwo & c);
+			}
+			output.data[indexOut-1] &= lastMask;
+
+			long tmp[] = above;
+			above = row;
+			row = below;
+			below = tmp;
+		}
+	}
+
+	/**
+	 * Copies a row into the array with an extra word on either side.  Pixels outside the image, including the
+	 * unused bits at the end of the row, are set to the 'outside' value.
+	 *
+	 * @param outside Either 0 or ~0L
+	 */
+	private static void loadRow( ImageBinaryPacked image , int y , long outside , long row[] ) {
+		if( y < 0 || y >= image.height ) {
+			Arrays.fill(row,outside);
+		} else {
+			int stride = image.stride;
+			row[0] = outside;
+			System.arraycopy(image.data,y*stride,row,1,stride);
+			row[stride] |= outside & ~image.getLastWordMask();
+			row[stride+1] = outside;
+		}
+	}
+
+	/**
+	 * Converts a binary {@link ImageUInt8} image into a packed image.  Any pixel which is
+	 * not zero is set to one.
+	 */
+	public static void pack( ImageUInt8 input , ImageBinaryPacked output ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = y*output.stride;
+
+			for( int x = 0; x < input.width; x += 64 ) {
+				int end = Math.min(64,input.width-x);
+				long word = 0;
+				for( int i = 0; i < end; i++ ) {
+					if( input.data[indexIn++] != 0 )
+						word |= 1L << i;
+				}
+				output.data[indexOut++] = word;
+			}
+		}
+	}
+
+	/**
+	 * Converts a packed image into a binary {@link ImageUInt8} image with values of 0 and 1.
+	 */
+	public static void unpack( ImageBinaryPacked input , ImageUInt8 output ) {
+		for( int y = 0; y < input.height; y++ ) {
+			int indexIn = y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < input.width; x += 64 ) {
+				int end = Math.min(64,input.width-x);
+				long word = input.data[indexIn++];
+				for( int i = 0; i < end; i++ ) {
+					output.data[indexOut++] = (byte)((word >>> i) & 1);
+				}
+			}
+		}
+	}
+}
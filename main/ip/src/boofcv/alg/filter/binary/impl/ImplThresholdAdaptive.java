@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Adaptive thresholding algorithms which compute the local statistics and apply the threshold in a single pass,
+ * without creating any intermediate images.  Each function processes a range of rows or blocks so that
+ * the work can be split up between threads, see {@link ImplThresholdAdaptive_MT}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplThresholdAdaptive {
+
+	/**
+	 * Number of blocks along a side with the specified length.  The last block absorbs any left over pixels.
+	 */
+	public static int numBlocks( int length , int blockWidth ) {
+		return Math.max(1, length/blockWidth);
+	}
+
+	/**
+	 * Thresholds rows y0 to y1 using the mean of a square region around each pixel.  The mean is computed the same
+	 * way as {@link boofcv.alg.filter.blur.BlurImageOps#mean(ImageUInt8, ImageUInt8, int, ImageUInt8)}, where the
+	 * result of the horizontal pass is rounded before the vertical pass.  Column sums of the rounded horizontal
+	 * means are computed once for the first row and then updated as the window slides down, making the cost per
+	 * pixel independent of the radius.  The horizontal means of the row leaving the window are recomputed instead
+	 * of being saved.  Near the image border only pixels inside the image are included in the mean.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param radius Radius of the square region.
+	 * @param bias Value added to the mean to create the threshold.
+	 * @param down If true pixels <= threshold are set to 1, otherwise pixels >= threshold are set to 1.
+	 * @param y0 First row which is processed, inclusive.
+	 * @param y1 Last row which is processed, exclusive.
+	 * @param columnSums Storage for column sums.  Must be at least input.width in length.
+	 * @param rowMeans Storage for the horizontal means of a row.  Must be at least input.width in length.
+	 * @param output Output binary image.  Must not be the same as the input.  Modified.
+	 */
+	public static void squareMean( ImageUInt8 input , int radius , int bias , boolean down ,
+								   int y0 , int y1 , int columnSums[] , int rowMeans[] , ImageUInt8 output )
+	{
+		final int width = input.width;
+		final int height = input.height;
+
+		// sum up the columns for the first row
+		Arrays.fill(columnSums, 0, width, 0);
+		int rowEnd = Math.min(height, y0 + radius + 1);
+		for( int y = Math.max(0, y0 - radius); y < rowEnd; y++ ) {
+			horizontalMean(input, y, radius, rowMeans);
+			for( int x = 0; x < width; x++ ) {
+				columnSums[x] += rowMeans[x];
+			}
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			// slide the window down by adding the new row and removing the old row
+			if( y > y0 ) {
+				int rowAdd = y + radius;
+				if( rowAdd < height ) {
+					horizontalMean(input, rowAdd, radius, rowMeans);
+					for( int x = 0; x < width; x++ ) {
+						columnSums[x] += rowMeans[x];
+					}
+				}
+				int rowRemove = y - radius - 1;
+				if( rowRemove >= 0 ) {
+					horizontalMean(input, rowRemove, radius, rowMeans);
+					for( int x = 0; x < width; x++ ) {
+						columnSums[x] -= rowMeans[x];
+					}
+				}
+			}
+
+			int count = Math.min(height, y + radius + 1) - Math.max(0, y - radius);
+			int half = count/2;
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			// The threshold is the rounded mean, (sum + count/2)/count, plus the bias.  The division is avoided
+			// by moving count to the other side.  Since the pixel value is an integer the result is identical.
+			if( down ) {
+				for( int x = 0; x < width; x++ ) {
+					int value = (input.data[indexIn++] & 0xFF) - bias;
+					output.data[indexOut++] = (byte)(value*count <= columnSums[x] + half ? 1 : 0);
+				}
+			} else {
+				for( int x = 0; x < width; x++ ) {
+					int value = (input.data[indexIn++] & 0xFF) - bias;
+					output.data[indexOut++] = (byte)((value + 1)*count > columnSums[x] + half ? 1 : 0);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the rounded mean of each pixel in the row and its horizontal neighbors, using only pixels
+	 * inside the image.
+	 */
+	private static void horizontalMean( ImageUInt8 input , int y , int radius , int rowMeans[] ) {
+		final int width = input.width;
+		final int indexRow = input.startIndex + y*input.stride;
+
+		int total = 0;
+		int colEnd = Math.min(width, radius + 1);
+		for( int x = 0; x < colEnd; x++ ) {
+			total += input.data[indexRow + x] & 0xFF;
+		}
+
+		int count = colEnd;
+		for( int x = 0; x < width; x++ ) {
+			rowMeans[x] = (total + count/2)/count;
+
+			if( x + radius + 1 < width ) {
+				total += input.data[indexRow + x + radius + 1] & 0xFF;
+				count++;
+			}
+			if( x - radius >= 0 ) {
+				total -= input.data[indexRow + x - radius] & 0xFF;
+				count--;
+			}
+		}
+	}
+
+	/**
+	 * Computes the minimum and maximum value inside each block in block rows row0 to row1.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param blockWidth Width and height of a block.
+	 * @param row0 First block row, inclusive.
+	 * @param row1 Last block row, exclusive.
+	 * @param min Minimum value in each block, row major.  Modified.
+	 * @param max Maximum value in each block, row major.  Modified.
+	 */
+	public static void blockMinMax( ImageUInt8 input , int blockWidth , int row0 , int row1 ,
+									int min[] , int max[] )
+	{
+		final int blocksX = numBlocks(input.width, blockWidth);
+		final int blocksY = numBlocks(input.height, blockWidth);
+
+		for( int by = row0; by < row1; by++ ) {
+			int y0 = by*blockWidth;
+			int y1 = by == blocksY - 1 ? input.height : y0 + blockWidth;
+
+			for( int bx = 0; bx < blocksX; bx++ ) {
+				int x0 = bx*blockWidth;
+				int x1 = bx == blocksX - 1 ? input.width : x0 + blockWidth;
+
+				int blockMin = Integer.MAX_VALUE;
+				int blockMax = Integer.MIN_VALUE;
+
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + y*input.stride + x0;
+					int end = indexIn + (x1 - x0);
+					for( ; indexIn < end; indexIn++ ) {
+						int value = input.data[indexIn] & 0xFF;
+						if( value < blockMin )
+							blockMin = value;
+						if( value > blockMax )
+							blockMax = value;
+					}
+				}
+
+				min[by*blocksX + bx] = blockMin;
+				max[by*blocksX + bx] = blockMax;
+			}
+		}
+	}
+
+	/**
+	 * Thresholds the pixels in block rows row0 to row1.  The threshold is half way between the minimum and maximum
+	 * value in the 3x3 group of blocks centered around the pixel's block.  If the difference between the minimum
+	 * and maximum is less than minimumSpread then the block is assumed to be all background and set to zero.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param blockWidth Width and height of a block.
+	 * @param minimumSpread Minimum difference between the min and max for a block to contain foreground.
+	 * @param down If true pixels <= threshold are set to 1, otherwise pixels >= threshold are set to 1.
+	 * @param row0 First block row, inclusive.
+	 * @param row1 Last block row, exclusive.
+	 * @param min Minimum value in each block, computed by {@link #blockMinMax}.
+	 * @param max Maximum value in each block, computed by {@link #blockMinMax}.
+	 * @param output Output binary image.  Can be the same as the input.  Modified.
+	 */
+	public static void blockThreshold( ImageUInt8 input , int blockWidth , int minimumSpread , boolean down ,
+									   int row0 , int row1 , int min[] , int max[] , ImageUInt8 output )
+	{
+		final int blocksX = numBlocks(input.width, blockWidth);
+		final int blocksY = numBlocks(input.height, blockWidth);
+
+		for( int by = row0; by < row1; by++ ) {
+			int y0 = by*blockWidth;
+			int y1 = by == blocksY - 1 ? input.height : y0 + blockWidth;
+
+			int nearY0 = Math.max(0, by - 1);
+			int nearY1 = Math.min(blocksY, by + 2);
+
+			for( int bx = 0; bx < blocksX; bx++ ) {
+				int x0 = bx*blockWidth;
+				int x1 = bx == blocksX - 1 ? input.width : x0 + blockWidth;
+
+				int nearX0 = Math.max(0, bx - 1);
+				int nearX1 = Math.min(blocksX, bx + 2);
+
+				int localMin = Integer.MAX_VALUE;
+				int localMax = Integer.MIN_VALUE;
+				for( int i = nearY0; i < nearY1; i++ ) {
+					for( int j = nearX0; j < nearX1; j++ ) {
+						localMin = Math.min(localMin, min[i*blocksX + j]);
+						localMax = Math.max(localMax, max[i*blocksX + j]);
+					}
+				}
+
+				if( localMax - localMin < minimumSpread ) {
+					for( int y = y0; y < y1; y++ ) {
+						int indexOut = output.startIndex + y*output.stride + x0;
+						Arrays.fill(output.data, indexOut, indexOut + (x1 - x0), (byte)0);
+					}
+					continue;
+				}
+
+				int threshold = (localMin + localMax)/2;
+
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + y*input.stride + x0;
+					int indexOut = output.startIndex + y*output.stride + x0;
+					int end = indexIn + (x1 - x0);
+
+					if( down ) {
+						for( ; indexIn < end; indexIn++ ) {
+							output.data[indexOut++] = (byte)((input.data[indexIn] & 0xFF) <= threshold ? 1 : 0);
+						}
+					} else {
+						for( ; indexIn < end; indexIn++ ) {
+							output.data[indexOut++] = (byte)((input.data[indexIn] & 0xFF) >= threshold ? 1 : 0);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Thresholds rows y0 to y1 using the mean of a square region around each pixel.  Column sums are computed once
+	 * for the first row and then updated as the window slides down, making the cost per pixel independent of the
+	 * radius.  Near the image border only pixels inside the image are included in the mean.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param radius Radius of the square region.
+	 * @param bias Value added to the mean to create the threshold.
+	 * @param down If true pixels <= threshold are set to 1, otherwise pixels >= threshold are set to 1.
+	 * @param y0 First row which is processed, inclusive.
+	 * @param y1 Last row which is processed, exclusive.
+	 * @param columnSums Storage for column sums.  Must be at least input.width in length.
+	 * @param output Output binary image.  Must not be the same as the input.  Modified.
+	 */
+	public static void squareMean( ImageFloat32 input , int radius , float bias , boolean down ,
+								   int y0 , int y1 , float columnSums[] , ImageUInt8 output )
+	{
+		final int width = input.width;
+		final int height = input.height;
+
+		// sum up the columns for the first row
+		Arrays.fill(columnSums, 0, width, 0);
+		int rowEnd = Math.min(height, y0 + radius + 1);
+		for( int y = Math.max(0, y0 - radius); y < rowEnd; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			for( int x = 0; x < width; x++ ) {
+				columnSums[x] += input.data[indexIn++];
+			}
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			// slide the window down by adding the new row and removing the old row
+			if( y > y0 ) {
+				int rowAdd = y + radius;
+				if( rowAdd < height ) {
+					int indexIn = input.startIndex + rowAdd*input.stride;
+					for( int x = 0; x < width; x++ ) {
+						columnSums[x] += input.data[indexIn++];
+					}
+				}
+				int rowRemove = y - radius - 1;
+				if( rowRemove >= 0 ) {
+					int indexIn = input.startIndex + rowRemove*input.stride;
+					for( int x = 0; x < width; x++ ) {
+						columnSums[x] -= input.data[indexIn++];
+					}
+				}
+			}
+
+			int rows = Math.min(height, y + radius + 1) - Math.max(0, y - radius);
+
+			float total = 0;
+			int colEnd = Math.min(width, radius + 1);
+			for( int x = 0; x < colEnd; x++ ) {
+				total += columnSums[x];
+			}
+
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			int cols = colEnd;
+			for( int x = 0; x < width; x++ ) {
+				float threshold = total/(rows*cols) + bias;
+				float value = input.data[indexIn++];
+
+				if( down )
+					output.data[indexOut++] = (byte)(value <= threshold ? 1 : 0);
+				else
+					output.data[indexOut++] = (byte)(value >= threshold ? 1 : 0);
+
+				if( x + radius + 1 < width ) {
+					total += columnSums[x + radius + 1];
+					cols++;
+				}
+				if( x - radius >= 0 ) {
+					total -= columnSums[x - radius];
+					cols--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the minimum and maximum value inside each block in block rows row0 to row1.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param blockWidth Width and height of a block.
+	 * @param row0 First block row, inclusive.
+	 * @param row1 Last block row, exclusive.
+	 * @param min Minimum value in each block, row major.  Modified.
+	 * @param max Maximum value in each block, row major.  Modified.
+	 */
+	public static void blockMinMax( ImageFloat32 input , int blockWidth , int row0 , int row1 ,
+									float min[] , float max[] )
+	{
+		final int blocksX = numBlocks(input.width, blockWidth);
+		final int blocksY = numBlocks(input.height, blockWidth);
+
+		for( int by = row0; by < row1; by++ ) {
+			int y0 = by*blockWidth;
+			int y1 = by == blocksY - 1 ? input.height : y0 + blockWidth;
+
+			for( int bx = 0; bx < blocksX; bx++ ) {
+				int x0 = bx*blockWidth;
+				int x1 = bx == blocksX - 1 ? input.width : x0 + blockWidth;
+
+				float blockMin = Float.MAX_VALUE;
+				float blockMax = -Float.MAX_VALUE;
+
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + y*input.stride + x0;
+					int end = indexIn + (x1 - x0);
+					for( ; indexIn < end; indexIn++ ) {
+						float value = input.data[indexIn];
+						if( value < blockMin )
+							blockMin = value;
+						if( value > blockMax )
+							blockMax = value;
+					}
+				}
+
+				min[by*blocksX + bx] = blockMin;
+				max[by*blocksX + bx] = blockMax;
+			}
+		}
+	}
+
+	/**
+	 * Thresholds the pixels in block rows row0 to row1.  The threshold is half way between the minimum and maximum
+	 * value in the 3x3 group of blocks centered around the pixel's block.  If the difference between the minimum
+	 * and maximum is less than minimumSpread then the block is assumed to be all background and set to zero.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param blockWidth Width and height of a block.
+	 * @param minimumSpread Minimum difference between the min and max for a block to contain foreground.
+	 * @param down If true pixels <= threshold are set to 1, otherwise pixels >= threshold are set to 1.
+	 * @param row0 First block row, inclusive.
+	 * @param row1 Last block row, exclusive.
+	 * @param min Minimum value in each block, computed by {@link #blockMinMax}.
+	 * @param max Maximum value in each block, computed by {@link #blockMinMax}.
+	 * @param output Output binary image.  Can be the same as the input.  Modified.
+	 */
+	public static void blockThreshold( ImageFloat32 input , int blockWidth , float minimumSpread , boolean down ,
+									   int row0 , int row1 , float min[] , float max[] , ImageUInt8 output )
+	{
+		final int blocksX = numBlocks(input.width, blockWidth);
+		final int blocksY = numBlocks(input.height, blockWidth);
+
+		for( int by = row0; by < row1; by++ ) {
+			int y0 = by*blockWidth;
+			int y1 = by == blocksY - 1 ? input.height : y0 + blockWidth;
+
+			int nearY0 = Math.max(0, by - 1);
+			int nearY1 = Math.min(blocksY, by + 2);
+
+			for( int bx = 0; bx < blocksX; bx++ ) {
+				int x0 = bx*blockWidth;
+				int x1 = bx == blocksX - 1 ? input.width : x0 + blockWidth;
+
+				int nearX0 = Math.max(0, bx - 1);
+				int nearX1 = Math.min(blocksX, bx + 2);
+
+				float localMin = Float.MAX_VALUE;
+				float localMax = -Float.MAX_VALUE;
+				for( int i = nearY0; i < nearY1; i++ ) {
+					for( int j = nearX0; j < nearX1; j++ ) {
+						localMin = Math.min(localMin, min[i*blocksX + j]);
+						localMax = Math.max(localMax, max[i*blocksX + j]);
+					}
+				}
+
+				if( localMax - localMin < minimumSpread ) {
+					for( int y = y0; y < y1; y++ ) {
+						int indexOut = output.startIndex + y*output.stride + x0;
+						Arrays.fill(output.data, indexOut, indexOut + (x1 - x0), (byte)0);
+					}
+					continue;
+				}
+
+				float threshold = (localMin + localMax)/2;
+
+				for( int y = y0; y < y1; y++ ) {
+					int indexIn = input.startIndex + y*input.stride + x0;
+					int indexOut = output.startIndex + y*output.stride + x0;
+					int end = indexIn + (x1 - x0);
+
+					if( down ) {
+						for( ; indexIn < end; indexIn++ ) {
+							output.data[indexOut++] = (byte)((input.data[indexIn]) <= threshold ? 1 : 0);
+						}
+					} else {
+						for( ; indexIn < end; indexIn++ ) {
+							output.data[indexOut++] = (byte)((input.data[indexIn]) >= threshold ? 1 : 0);
+						}
+					}
+				}
+			}
+		}
+	}
+}
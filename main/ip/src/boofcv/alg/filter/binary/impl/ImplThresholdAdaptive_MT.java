@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Concurrent implementation of {@link ImplThresholdAdaptive}.  The image is split into bands of rows and each
+ * band maintains its own column sums.  For the block variant the statistics of all the blocks are computed
+ * before any pixels are thresholded since each block depends on its neighbors.
+ *
+ * @author Peter Abeles
+ */
+public class ImplThresholdAdaptive_MT {
+
+	/**
+	 * @see ImplThresholdAdaptive#squareMean(ImageUInt8, int, int, boolean, int, int, int[], int[], ImageUInt8)
+	 */
+	public static void squareMean( final ImageUInt8 input , final int radius , final int bias , final boolean down ,
+								   final ImageUInt8 output )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				int columnSums[] = new int[ input.width ];
+				int rowMeans[] = new int[ input.width ];
+				ImplThresholdAdaptive.squareMean(input,radius,bias,down,start,end,columnSums,rowMeans,output);
+			}
+		});
+	}
+
+	/**
+	 * @see ImplThresholdAdaptive#blockMinMax(ImageUInt8, int, int, int, int[], int[])
+	 * @see ImplThresholdAdaptive#blockThreshold(ImageUInt8, int, int, boolean, int, int, int[], int[], ImageUInt8)
+	 */
+	public static void blockMinMax( final ImageUInt8 input , final int blockWidth , final int minimumSpread ,
+									final boolean down , final int min[] , final int max[] ,
+									final ImageUInt8 output )
+	{
+		int blocksY = ImplThresholdAdaptive.numBlocks(input.height,blockWidth);
+
+		BoofConcurrency.loopBlocks(0,blocksY,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				ImplThresholdAdaptive.blockMinMax(input,blockWidth,start,end,min,max);
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,blocksY,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				ImplThresholdAdaptive.blockThreshold(input,blockWidth,minimumSpread,down,start,end,min,max,output);
+			}
+		});
+	}
+
+	/**
+	 * @see ImplThresholdAdaptive#squareMean(ImageFloat32, int, float, boolean, int, int, float[], ImageUInt8)
+	 */
+	public static void squareMean( final ImageFloat32 input , final int radius , final float bias , final boolean down ,
+								   final ImageUInt8 output )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				float columnSums[] = new float[ input.width ];
+				ImplThresholdAdaptive.squareMean(input,radius,bias,down,start,end,columnSums,output);
+			}
+		});
+	}
+
+	/**
+	 * @see ImplThresholdAdaptive#blockMinMax(ImageFloat32, int, int, int, float[], float[])
+	 * @see ImplThresholdAdaptive#blockThreshold(ImageFloat32, int, float, boolean, int, int, float[], float[], ImageUInt8)
+	 */
+	public static void blockMinMax( final ImageFloat32 input , final int blockWidth , final float minimumSpread ,
+									final boolean down , final float min[] , final float max[] ,
+									final ImageUInt8 output )
+	{
+		int blocksY = ImplThresholdAdaptive.numBlocks(input.height,blockWidth);
+
+		BoofConcurrency.loopBlocks(0,blocksY,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				ImplThresholdAdaptive.blockMinMax(input,blockWidth,start,end,min,max);
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,blocksY,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				ImplThresholdAdaptive.blockThreshold(input,blockWidth,minimumSpread,down,start,end,min,max,output);
+			}
+		});
+	}
+}
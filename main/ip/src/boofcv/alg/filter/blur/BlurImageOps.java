@@ -19,11 +19,14 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
+import boofcv.alg.filter.blur.impl.ImplGaussianRecursive;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramConstant;
 import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
+import boofcv.alg.filter.blur.impl.ImplMedianSortNetwork;
 import boofcv.alg.filter.convolve.ConvolveImageMean;
 import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
@@ -65,7 +68,8 @@ public class BlurImageOps {
 	}
 
 	/**
-	 * Applies a median filter.
+	 * Applies a median filter.  A sorting network is used for a radius of 1 or 2, otherwise a histogram based
+	 * approach is used whose cost per pixel does not depend on the radius.
 	 *
 	 * @param input Input image.  Not modified.
 	 * @param output (Optional) Storage for output image, Can be null.  Modified.
@@ -76,14 +80,18 @@ public class BlurImageOps {
 		if( radius <= 0 )
 			throw new IllegalArgumentException("Radius must be > 0");
 
+		if( BoofConcurrency.USE_CONCURRENT )
+			return BlurImageOps_MT.median(input,output,radius);
+
 		output = InputSanityCheck.checkDeclare(input,output);
 
-		int w = radius*2+1;
-		int offset[] = new int[ w*w ];
-		int histogram[] = new int[ 256 ];
+		if( radius <= 2 )
+			ImplMedianSortNetwork.process(input, output, radius);
+		else
+			ImplMedianHistogramConstant.process(input, output, radius, null);
 
-		ImplMedianHistogramInner.process(input, output, radius, offset, histogram);
-		ImplMedianSortEdgeNaive.process(input, output, radius, offset);
+		int w = radius*2+1;
+		ImplMedianSortEdgeNaive.process(input, output, radius, new int[ w*w ]);
 
 		return output;
 	}
@@ -178,6 +186,138 @@ public class BlurImageOps {
 		return output;
 	}
 
+	/**
+	 * Approximates Gaussian blur using a recursive filter.  The cost per pixel does not depend on sigma, making it
+	 * much faster than {@link #gaussian(ImageUInt8, ImageUInt8, double, int, ImageUInt8)} for large sigmas.
+	 * Pixels outside the image are treated as having the value of the closest pixel inside the image.
+	 *
+	 * @see ImplGaussianRecursive
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @return Output blurred image.
+	 */
+	public static ImageUInt8 gaussianRecursive(ImageUInt8 input, ImageUInt8 output, double sigma ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return BlurImageOps_MT.gaussianRecursive(input,output,sigma);
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		ImplGaussianRecursive alg = new ImplGaussianRecursive(sigma);
+		alg.horizontal(input,output,0,input.height);
+		alg.vertical(output,output,0,input.width);
+
+		return output;
+	}
+
+	/**
+	 * Approximates Gaussian blur using a recursive filter.  The cost per pixel does not depend on sigma, making it
+	 * much faster than {@link #gaussian(ImageFloat32, ImageFloat32, double, int, ImageFloat32)} for large sigmas.
+	 * Pixels outside the image are treated as having the value of the closest pixel inside the image.
+	 *
+	 * @see ImplGaussianRecursive
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @return Output blurred image.
+	 */
+	public static ImageFloat32 gaussianRecursive(ImageFloat32 input, ImageFloat32 output, double sigma ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return BlurImageOps_MT.gaussianRecursive(input,output,sigma);
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		ImplGaussianRecursive alg = new ImplGaussianRecursive(sigma);
+		alg.horizontal(input,output,0,input.height);
+		alg.vertical(output,output,0,input.width);
+
+		return output;
+	}
+
+	/**
+	 * Approximates Gaussian blur by applying a mean box filter several times along each axis.  The cost per pixel
+	 * does not depend on sigma.  The box sizes are selected by
+	 * {@link FactoryKernelGaussian#boxRadiusForSigma(double, int)} and are reduced if wider than the image.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.
+	 * @param numPasses Number of times the box filter is applied along each axis.  Typically 3.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static ImageUInt8 gaussianBox(ImageUInt8 input, ImageUInt8 output, double sigma , int numPasses ,
+										 ImageUInt8 storage ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return BlurImageOps_MT.gaussianBox(input,output,sigma,numPasses,storage);
+
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		int radius[] = FactoryKernelGaussian.boxRadiusForSigma(sigma,numPasses);
+
+		// the results alternate between storage and output, ending in output
+		ImageUInt8 src = input;
+		for( int i = 0; i < 2*numPasses; i++ ) {
+			ImageUInt8 dst = i % 2 == 0 ? storage : output;
+			boolean horizontal = i < numPasses;
+			int r = Math.min(radius[i % numPasses],((horizontal ? input.width : input.height)-1)/2);
+
+			if( r == 0 )
+				dst.setTo(src);
+			else if( horizontal )
+				ConvolveImageMean.horizontal(src,dst,r);
+			else
+				ConvolveImageMean.vertical(src,dst,r);
+			src = dst;
+		}
+
+		return output;
+	}
+
+	/**
+	 * Approximates Gaussian blur by applying a mean box filter several times along each axis.  The cost per pixel
+	 * does not depend on sigma.  The box sizes are selected by
+	 * {@link FactoryKernelGaussian#boxRadiusForSigma(double, int)} and are reduced if wider than the image.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.
+	 * @param numPasses Number of times the box filter is applied along each axis.  Typically 3.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static ImageFloat32 gaussianBox(ImageFloat32 input, ImageFloat32 output, double sigma , int numPasses ,
+										   ImageFloat32 storage ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return BlurImageOps_MT.gaussianBox(input,output,sigma,numPasses,storage);
+
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		int radius[] = FactoryKernelGaussian.boxRadiusForSigma(sigma,numPasses);
+
+		// the results alternate between storage and output, ending in output
+		ImageFloat32 src = input;
+		for( int i = 0; i < 2*numPasses; i++ ) {
+			ImageFloat32 dst = i % 2 == 0 ? storage : output;
+			boolean horizontal = i < numPasses;
+			int r = Math.min(radius[i % numPasses],((horizontal ? input.width : input.height)-1)/2);
+
+			if( r == 0 )
+				dst.setTo(src);
+			else if( horizontal )
+				ConvolveImageMean.horizontal(src,dst,r);
+			else
+				ConvolveImageMean.vertical(src,dst,r);
+			src = dst;
+		}
+
+		return output;
+	}
+
 	/**
 	 * Applies mean box filter to a {@link MultiSpectral}
 	 *
@@ -247,4 +387,51 @@ public class BlurImageOps {
 		}
 		return output;
 	}
+
+	/**
+	 * Applies recursive Gaussian blur to a {@link boofcv.struct.image.MultiSpectral}
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageSingleBand>
+	MultiSpectral<T> gaussianRecursive(MultiSpectral<T> input, MultiSpectral<T> output, double sigma ) {
+
+		if( output == null )
+			output = input._createNew(input.width,input.height);
+
+		for( int band = 0; band < input.getNumBands(); band++ ) {
+			GBlurImageOps.gaussianRecursive(input.getBand(band),output.getBand(band),sigma);
+		}
+		return output;
+	}
+
+	/**
+	 * Applies the box filter approximation of Gaussian blur to a {@link boofcv.struct.image.MultiSpectral}
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.
+	 * @param numPasses Number of times the box filter is applied along each axis.  Typically 3.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageSingleBand>
+	MultiSpectral<T> gaussianBox(MultiSpectral<T> input, MultiSpectral<T> output, double sigma , int numPasses ,
+								 T storage ) {
+
+		if( storage == null )
+			storage = GeneralizedImageOps.createSingleBand(input.getType(), input.width, input.height);
+		if( output == null )
+			output = input._createNew(input.width,input.height);
+
+		for( int band = 0; band < input.getNumBands(); band++ ) {
+			GBlurImageOps.gaussianBox(input.getBand(band),output.getBand(band),sigma,numPasses,storage);
+		}
+		return output;
+	}
 }
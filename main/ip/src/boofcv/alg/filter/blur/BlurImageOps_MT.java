@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.ImplGaussianRecursive;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramConstant;
+import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
+import boofcv.alg.filter.blur.impl.ImplMedianSortNetwork;
+import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ImageBandTask;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Concurrent implementations of functions in {@link BlurImageOps}.  For the median filter the inner portion of the
+ * image is split into bands of rows which are processed concurrently while the image border is processed in the
+ * calling thread.  The Gaussian approximations split the image into bands of rows for horizontal passes and strips
+ * of columns for vertical passes.  Mean and Gaussian blur are not included since they are already concurrent
+ * through {@link boofcv.alg.filter.convolve.ConvolveNormalized}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BlurImageOps_MT {
+
+	/**
+	 * Applies a median filter.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @return Output blurred image.
+	 */
+	public static ImageUInt8 median(ImageUInt8 input, ImageUInt8 output, final int radius) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		BoofConcurrency.loopBands(input, output, radius, radius, new ImageBandTask<ImageUInt8, ImageUInt8>() {
+			@Override
+			public void process(ImageUInt8 input, ImageUInt8 output) {
+				if( radius <= 2 )
+					ImplMedianSortNetwork.process(input, output, radius);
+				else
+					ImplMedianHistogramConstant.process(input, output, radius, null);
+			}
+		});
+
+		int w = radius*2+1;
+		ImplMedianSortEdgeNaive.process(input, output, radius, new int[ w*w ]);
+
+		return output;
+	}
+
+	/**
+	 * Approximates Gaussian blur using a recursive filter.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @return Output blurred image.
+	 */
+	public static ImageUInt8 gaussianRecursive(final ImageUInt8 input, ImageUInt8 output, double sigma ) {
+		final ImageUInt8 out = InputSanityCheck.checkDeclare(input,output);
+		final ImplGaussianRecursive alg = new ImplGaussianRecursive(sigma);
+		int minBlock = BoofConcurrency.getMinBandHeight();
+
+		BoofConcurrency.loopBlocks(0,input.height,minBlock,new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				alg.horizontal(input,out,y0,y1);
+			}
+		});
+		BoofConcurrency.loopBlocks(0,input.width,minBlock,new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				alg.vertical(out,out,x0,x1);
+			}
+		});
+
+		return out;
+	}
+
+	/**
+	 * Approximates Gaussian blur using a recursive filter.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @return Output blurred image.
+	 */
+	public static ImageFloat32 gaussianRecursive(final ImageFloat32 input, ImageFloat32 output, double sigma ) {
+		final ImageFloat32 out = InputSanityCheck.checkDeclare(input,output);
+		final ImplGaussianRecursive alg = new ImplGaussianRecursive(sigma);
+		int minBlock = BoofConcurrency.getMinBandHeight();
+
+		BoofConcurrency.loopBlocks(0,input.height,minBlock,new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				alg.horizontal(input,out,y0,y1);
+			}
+		});
+		BoofConcurrency.loopBlocks(0,input.width,minBlock,new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				alg.vertical(out,out,x0,x1);
+			}
+		});
+
+		return out;
+	}
+
+	/**
+	 * Approximates Gaussian blur by applying a mean box filter several times along each axis.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.
+	 * @param numPasses Number of times the box filter is applied along each axis.  Typically 3.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static ImageUInt8 gaussianBox(ImageUInt8 input, ImageUInt8 output, double sigma , int numPasses ,
+										 ImageUInt8 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		boxPasses(input, output, storage, FactoryKernelGaussian.boxRadiusForSigma(sigma, numPasses));
+
+		return output;
+	}
+
+	/**
+	 * Approximates Gaussian blur by applying a mean box filter several times along each axis.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.
+	 * @param numPasses Number of times the box filter is applied along each axis.  Typically 3.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @return Output blurred image.
+	 */
+	public static ImageFloat32 gaussianBox(ImageFloat32 input, ImageFloat32 output, double sigma , int numPasses ,
+										   ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		boxPasses(input, output, storage, FactoryKernelGaussian.boxRadiusForSigma(sigma, numPasses));
+
+		return output;
+	}
+
+	/**
+	 * Applies each box filter along the rows and then along the columns.  Results alternate between storage
+	 * and output, ending in output.
+	 */
+	private static <T extends ImageSingleBand>
+	void boxPasses( T input , T output , T storage , int radius[] ) {
+		final int numPasses = radius.length;
+		int minBlock = BoofConcurrency.getMinBandHeight();
+
+		T src = input;
+		for( int i = 0; i < 2*numPasses; i++ ) {
+			final T dst = i % 2 == 0 ? storage : output;
+			final T s = src;
+			final boolean horizontal = i < numPasses;
+			final int r = Math.min(radius[i % numPasses],((horizontal ? input.width : input.height)-1)/2);
+
+			if( r == 0 ) {
+				dst.setTo(src);
+			} else if( horizontal ) {
+				BoofConcurrency.loopBlocks(0,input.height,minBlock,new IntRangeTask() {
+					@Override
+					public void process(int y0, int y1) {
+						mean(s.subimage(0,y0,s.width,y1,null),dst.subimage(0,y0,dst.width,y1,null),r,true);
+					}
+				});
+			} else {
+				BoofConcurrency.loopBlocks(0,input.width,minBlock,new IntRangeTask() {
+					@Override
+					public void process(int x0, int x1) {
+						mean(s.subimage(x0,0,x1,s.height,null),dst.subimage(x0,0,x1,dst.height,null),r,false);
+					}
+				});
+			}
+			src = dst;
+		}
+	}
+
+	private static void mean( ImageSingleBand input , ImageSingleBand output , int radius , boolean horizontal ) {
+		if( input instanceof ImageUInt8 ) {
+			if( horizontal )
+				ConvolveImageMean.horizontal((ImageUInt8)input,(ImageUInt8)output,radius);
+			else
+				ConvolveImageMean.vertical((ImageUInt8)input,(ImageUInt8)output,radius);
+		} else {
+			if( horizontal )
+				ConvolveImageMean.horizontal((ImageFloat32)input,(ImageFloat32)output,radius);
+			else
+				ConvolveImageMean.vertical((ImageFloat32)input,(ImageFloat32)output,radius);
+		}
+	}
+}
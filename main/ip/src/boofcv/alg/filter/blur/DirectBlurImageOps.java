@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.abst.filter.FilterDirectImage;
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.*;
+
+/**
+ * Counterparts to functions in {@link BlurImageOps} for {@link DirectImageBase direct images}.  The image is
+ * processed in horizontal bands using {@link FilterDirectImage} and produces the same results as the array
+ * version.
+ *
+ * @author Peter Abeles
+ */
+public class DirectBlurImageOps {
+
+	/**
+	 * Applies a mean box filter.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @return Output blurred image.
+	 */
+	public static DirectImageUInt8 mean(DirectImageUInt8 input, DirectImageUInt8 output, int radius) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		if( output == null )
+			output = new DirectImageUInt8(input.width, input.height);
+
+		apply(FactoryBlurFilter.mean(ImageUInt8.class, radius), radius, input, output);
+		return output;
+	}
+
+	/**
+	 * Applies a median filter.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @return Output blurred image.
+	 */
+	public static DirectImageUInt8 median(DirectImageUInt8 input, DirectImageUInt8 output, int radius) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		if( output == null )
+			output = new DirectImageUInt8(input.width, input.height);
+
+		apply(FactoryBlurFilter.median(ImageUInt8.class, radius), radius, input, output);
+		return output;
+	}
+
+	/**
+	 * Applies Gaussian blur.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
+	 * @return Output blurred image.
+	 */
+	public static DirectImageUInt8 gaussian(DirectImageUInt8 input, DirectImageUInt8 output, double sigma , int radius ) {
+		if( output == null )
+			output = new DirectImageUInt8(input.width, input.height);
+
+		if( radius <= 0 )
+			radius = FactoryKernelGaussian.radiusForSigma(sigma, 0);
+
+		apply(FactoryBlurFilter.gaussian(ImageUInt8.class, sigma, radius), radius, input, output);
+		return output;
+	}
+
+	/**
+	 * Applies a mean box filter.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the box blur function.
+	 * @return Output blurred image.
+	 */
+	public static DirectImageFloat32 mean(DirectImageFloat32 input, DirectImageFloat32 output, int radius) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		if( output == null )
+			output = new DirectImageFloat32(input.width, input.height);
+
+		apply(FactoryBlurFilter.mean(ImageFloat32.class, radius), radius, input, output);
+		return output;
+	}
+
+	/**
+	 * Applies a median filter.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param radius Radius of the median blur function.
+	 * @return Output blurred image.
+	 */
+	public static DirectImageFloat32 median(DirectImageFloat32 input, DirectImageFloat32 output, int radius) {
+		if( radius <= 0 )
+			throw new IllegalArgumentException("Radius must be > 0");
+
+		if( output == null )
+			output = new DirectImageFloat32(input.width, input.height);
+
+		apply(FactoryBlurFilter.median(ImageFloat32.class, radius), radius, input, output);
+		return output;
+	}
+
+	/**
+	 * Applies Gaussian blur.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
+	 * @return Output blurred image.
+	 */
+	public static DirectImageFloat32 gaussian(DirectImageFloat32 input, DirectImageFloat32 output, double sigma , int radius ) {
+		if( output == null )
+			output = new DirectImageFloat32(input.width, input.height);
+
+		if( radius <= 0 )
+			radius = FactoryKernelGaussian.radiusForSigma(sigma, 0);
+
+		apply(FactoryBlurFilter.gaussian(ImageFloat32.class, sigma, radius), radius, input, output);
+		return output;
+	}
+
+	private static <T extends ImageSingleBand>
+	void apply( FilterImageInterface<T,T> filter , int radius ,
+				DirectImageBase<?,T> input , DirectImageBase<?,T> output ) {
+		new FilterDirectImage<T,T>(filter, radius).process(input, output);
+	}
+}
@@ -97,4 +97,54 @@ public class GBlurImageOps {
 			throw new IllegalArgumentException("Unsupported image type: "+input.getClass().getSimpleName());
 		}
 	}
+
+	/**
+	 * Approximates Gaussian blur using a recursive filter whose cost does not depend on sigma.
+	 *
+	 * @see BlurImageOps#gaussianRecursive(ImageFloat32, ImageFloat32, double)
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageBase>
+	T gaussianRecursive(T input, T output, double sigma ) {
+		if( input instanceof ImageUInt8 ) {
+			return (T)BlurImageOps.gaussianRecursive((ImageUInt8)input,(ImageUInt8)output,sigma);
+		} else if( input instanceof ImageFloat32) {
+			return (T)BlurImageOps.gaussianRecursive((ImageFloat32)input,(ImageFloat32)output,sigma);
+		} else if( input instanceof MultiSpectral ) {
+			return (T)BlurImageOps.gaussianRecursive((MultiSpectral)input,(MultiSpectral)output,sigma);
+		} else  {
+			throw new IllegalArgumentException("Unsupported image type: "+input.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Approximates Gaussian blur by repeatedly applying a box filter.  The cost does not depend on sigma.
+	 *
+	 * @see BlurImageOps#gaussianBox(ImageFloat32, ImageFloat32, double, int, ImageFloat32)
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for output image, Can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.
+	 * @param numPasses Number of times the box filter is applied along each axis.  Typically 3.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageBase>
+	T gaussianBox(T input, T output, double sigma , int numPasses , T storage ) {
+		if( input instanceof ImageUInt8 ) {
+			return (T)BlurImageOps.gaussianBox((ImageUInt8)input,(ImageUInt8)output,sigma,numPasses,(ImageUInt8)storage);
+		} else if( input instanceof ImageFloat32) {
+			return (T)BlurImageOps.gaussianBox((ImageFloat32)input,(ImageFloat32)output,sigma,numPasses,(ImageFloat32)storage);
+		} else if( input instanceof MultiSpectral ) {
+			return (T)BlurImageOps.gaussianBox((MultiSpectral)input,(MultiSpectral)output,sigma,numPasses,(ImageSingleBand)storage);
+		} else  {
+			throw new IllegalArgumentException("Unsupported image type: "+input.getClass().getSimpleName());
+		}
+	}
 }
@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Recursive (IIR) approximation of Gaussian blur [1].  Each pass along a row or column applies a third order causal
+ * filter followed by the same filter anti-causally, which costs the same per pixel no matter how large sigma is.
+ * The image border is handled as if the image were extended, using the initial conditions described in [2] so that
+ * the anti-causal pass does not introduce a transient at the end of each line.
+ * </p>
+ *
+ * <p>
+ * The approximation is only valid for sigma &ge; 0.5.  Results agree with convolution by a sampled Gaussian kernel
+ * to within a few percent of the maximum pixel value.
+ * </p>
+ *
+ * <p>
+ * [1] Ian T. Young and Lucas J. van Vliet, "Recursive implementation of the Gaussian filter" Signal Processing 44
+ * (1995) 139-151<br>
+ * [2] Bill Triggs and Michael Sdika, "Boundary Conditions for Young-van Vliet Recursive Filtering" IEEE Trans.
+ * Signal Processing 54(6) 2006
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplGaussianRecursive {
+
+	// smallest sigma the approximation is valid for
+	public static final double MIN_SIGMA = 0.5;
+
+	// gain applied to the input
+	float B;
+	// feedback coefficients
+	float a1,a2,a3;
+	// maps the final state of the causal filter onto the initial state of the anti-causal filter.  Unlike in [2]
+	// it includes the input gain since the filter here is normalized
+	float M[] = new float[9];
+
+	/**
+	 * Computes filter coefficients for the specified sigma
+	 *
+	 * @param sigma Gaussian's standard deviation.  Must be &ge; 0.5
+	 */
+	public ImplGaussianRecursive( double sigma ) {
+		if( sigma < MIN_SIGMA )
+			throw new IllegalArgumentException("sigma must be >= "+MIN_SIGMA);
+
+		double q;
+		if( sigma >= 2.5 )
+			q = 0.98711*sigma - 0.96330;
+		else
+			q = 3.97156 - 4.14554*Math.sqrt(1.0 - 0.26891*sigma);
+
+		double q2 = q*q;
+		double q3 = q2*q;
+
+		double b0 = 1.57825 + 2.44413*q + 1.4281*q2 + 0.422205*q3;
+		double b1 = 2.44413*q + 2.85619*q2 + 1.26661*q3;
+		double b2 = -(1.4281*q2 + 1.26661*q3);
+		double b3 = 0.422205*q3;
+
+		double a1 = b1/b0, a2 = b2/b0, a3 = b3/b0;
+
+		this.a1 = (float)a1;
+		this.a2 = (float)a2;
+		this.a3 = (float)a3;
+		this.B = (float)(1.0 - (a1 + a2 + a3));
+
+		double scale = 1.0/((1.0 + a1 - a2 + a3)*(1.0 + a2 + (a1 - a3)*a3));
+		M[0] = (float)(scale*(-a3*a1 + 1.0 - a3*a3 - a2));
+		M[1] = (float)(scale*(a3 + a1)*(a2 + a3*a1));
+		M[2] = (float)(scale*a3*(a1 + a3*a2));
+		M[3] = (float)(scale*(a1 + a3*a2));
+		M[4] = (float)(-scale*(a2 - 1.0)*(a2 + a3*a1));
+		M[5] = (float)(-scale*a3*(a3*a1 + a3*a3 + a2 - 1.0));
+		M[6] = (float)(scale*(a3*a1 + a2 + a1*a1 - a2*a2));
+		M[7] = (float)(scale*(a1*a2 + a3*a2*a2 - a1*a3*a3 - a3*a3*a3 - a3*a2 + a3));
+		M[8] = (float)(scale*a3*(a1 + a3*a2));
+	}
+
+	/**
+	 * Blurs each row from y0 to y1.  The input and output images can be the same instance.
+	 */
+	public void horizontal( ImageFloat32 input , ImageFloat32 output , int y0 , int y1 ) {
+		final int width = input.width;
+		float work[] = new float[ width + 3 ];
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < width; x++ ) {
+				work[x+3] = input.data[indexIn+x];
+			}
+			filterLine(work,width);
+			for( int x = 0; x < width; x++ ) {
+				output.data[indexOut+x] = work[x+3];
+			}
+		}
+	}
+
+	/**
+	 * Blurs each row from y0 to y1.  The input and output images can be the same instance.
+	 */
+	public void horizontal( ImageUInt8 input , ImageUInt8 output , int y0 , int y1 ) {
+		final int width = input.width;
+		float work[] = new float[ width + 3 ];
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int x = 0; x < width; x++ ) {
+				work[x+3] = input.data[indexIn+x] & 0xFF;
+			}
+			filterLine(work,width);
+			for( int x = 0; x < width; x++ ) {
+				output.data[indexOut+x] = toByte(work[x+3]);
+			}
+		}
+	}
+
+	/**
+	 * Blurs each column from x0 to x1.  Rows are traversed in order and all the columns are filtered together
+	 * to reduce cache misses.  The input and output images can be the same instance.
+	 */
+	public void vertical( ImageFloat32 input , ImageFloat32 output , int x0 , int x1 ) {
+		final int height = input.height;
+		final int N = x1-x0;
+
+		float first[] = new float[N];
+		float last[] = new float[N];
+		float s1[] = new float[N], s2[] = new float[N], s3[] = new float[N];
+
+		for( int i = 0; i < N; i++ ) {
+			first[i] = input.data[input.startIndex + x0 + i];
+			last[i] = input.data[input.startIndex + (height-1)*input.stride + x0 + i];
+		}
+
+		// causal filter.  The output image stores its results
+		System.arraycopy(first,0,s1,0,N);
+		System.arraycopy(first,0,s2,0,N);
+		System.arraycopy(first,0,s3,0,N);
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			int indexOut = output.startIndex + y*output.stride + x0;
+
+			for( int i = 0; i < N; i++ ) {
+				float u = B*input.data[indexIn+i] + a1*s1[i] + a2*s2[i] + a3*s3[i];
+				output.data[indexOut+i] = u;
+				s3[i] = s2[i]; s2[i] = s1[i]; s1[i] = u;
+			}
+		}
+
+		// anti-causal filter.  s1,s2,s3 contain the causal filter's final state
+		int indexLast = output.startIndex + (height-1)*output.stride + x0;
+		for( int i = 0; i < N; i++ ) {
+			float d1 = s1[i] - last[i];
+			float d2 = s2[i] - last[i];
+			float d3 = s3[i] - last[i];
+
+			s1[i] = M[0]*d1 + M[1]*d2 + M[2]*d3 + last[i];
+			s2[i] = M[3]*d1 + M[4]*d2 + M[5]*d3 + last[i];
+			s3[i] = M[6]*d1 + M[7]*d2 + M[8]*d3 + last[i];
+			output.data[indexLast+i] = s1[i];
+		}
+
+		for( int y = height-2; y >= 0; y-- ) {
+			int indexOut = output.startIndex + y*output.stride + x0;
+
+			for( int i = 0; i < N; i++ ) {
+				float v = B*output.data[indexOut+i] + a1*s1[i] + a2*s2[i] + a3*s3[i];
+				output.data[indexOut+i] = v;
+				s3[i] = s2[i]; s2[i] = s1[i]; s1[i] = v;
+			}
+		}
+	}
+
+	/**
+	 * Blurs each column from x0 to x1.  Rows are traversed in order and all the columns are filtered together
+	 * to reduce cache misses.  The input and output images can be the same instance.
+	 */
+	public void vertical( ImageUInt8 input , ImageUInt8 output , int x0 , int x1 ) {
+		final int height = input.height;
+		final int N = x1-x0;
+
+		// results from the causal filter
+		float work[] = new float[N*height];
+		float last[] = new float[N];
+		float s1[] = new float[N], s2[] = new float[N], s3[] = new float[N];
+
+		for( int i = 0; i < N; i++ ) {
+			s1[i] = s2[i] = s3[i] = input.data[input.startIndex + x0 + i] & 0xFF;
+			last[i] = input.data[input.startIndex + (height-1)*input.stride + x0 + i] & 0xFF;
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			int indexWork = y*N;
+
+			for( int i = 0; i < N; i++ ) {
+				float u = B*(input.data[indexIn+i] & 0xFF) + a1*s1[i] + a2*s2[i] + a3*s3[i];
+				work[indexWork+i] = u;
+				s3[i] = s2[i]; s2[i] = s1[i]; s1[i] = u;
+			}
+		}
+
+		int indexLast = output.startIndex + (height-1)*output.stride + x0;
+		for( int i = 0; i < N; i++ ) {
+			float d1 = s1[i] - last[i];
+			float d2 = s2[i] - last[i];
+			float d3 = s3[i] - last[i];
+
+			s1[i] = M[0]*d1 + M[1]*d2 + M[2]*d3 + last[i];
+			s2[i] = M[3]*d1 + M[4]*d2 + M[5]*d3 + last[i];
+			s3[i] = M[6]*d1 + M[7]*d2 + M[8]*d3 + last[i];
+			output.data[indexLast+i] = toByte(s1[i]);
+		}
+
+		for( int y = height-2; y >= 0; y-- ) {
+			int indexOut = output.startIndex + y*output.stride + x0;
+			int indexWork = y*N;
+
+			for( int i = 0; i < N; i++ ) {
+				float v = B*work[indexWork+i] + a1*s1[i] + a2*s2[i] + a3*s3[i];
+				output.data[indexOut+i] = toByte(v);
+				s3[i] = s2[i]; s2[i] = s1[i]; s1[i] = v;
+			}
+		}
+	}
+
+	/**
+	 * Applies the causal and anti-causal filters to a single line.  The line starts at index 3 and the first
+	 * three elements are used to store the causal filter's initial conditions.
+	 */
+	private void filterLine( float work[] , int length ) {
+		// causal filter, initialized with the steady state response to the first value
+		float first = work[3];
+		float last = work[length+2];
+		work[0] = work[1] = work[2] = first;
+
+		float u1 = first, u2 = first, u3 = first;
+		for( int i = 3; i < length+3; i++ ) {
+			float u = B*work[i] + a1*u1 + a2*u2 + a3*u3;
+			work[i] = u;
+			u3 = u2; u2 = u1; u1 = u;
+		}
+
+		// anti-causal filter.  Its output at the last element and its two prior states are computed
+		// from the causal filter's final state
+		float d1 = work[length+2] - last;
+		float d2 = work[length+1] - last;
+		float d3 = work[length] - last;
+
+		float v1 = M[0]*d1 + M[1]*d2 + M[2]*d3 + last;
+		float v2 = M[3]*d1 + M[4]*d2 + M[5]*d3 + last;
+		float v3 = M[6]*d1 + M[7]*d2 + M[8]*d3 + last;
+		work[length+2] = v1;
+
+		for( int i = length+1; i >= 3; i-- ) {
+			float v = B*work[i] + a1*v1 + a2*v2 + a3*v3;
+			work[i] = v;
+			v3 = v2; v2 = v1; v1 = v;
+		}
+	}
+
+	/**
+	 * Rounds to the nearest integer.  The filter can overshoot slightly near sharp edges so the value is bounded
+	 */
+	private static byte toByte( float value ) {
+		if( value <= 0 )
+			return 0;
+		if( value >= 255 )
+			return (byte)255;
+		return (byte)(value + 0.5f);
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.ImageUInt8;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Median filter which runs in constant time per pixel, independent of the filter's radius.  Only the inner portion
+ * of the image is processed.  A histogram is maintained for each column in the image, covering the rows inside the
+ * filter region.  When moving to the next row each column histogram is updated by removing one pixel and adding
+ * another.  The histogram for the whole region is updated by adding and removing entire column histograms.
+ * To reduce the cost of each update, histograms are split into 16 coarse bins and 256 fine bins.  The median is
+ * first found in the coarse histogram, then only the 16 fine bins inside the selected coarse bin are updated and
+ * searched.  Fine bins are only updated when they are needed.
+ * </p>
+ *
+ * <p>
+ * Perreault, S. and Hebert, P. "Median Filtering in Constant Time" IEEE Trans. Image Processing, 2007
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianHistogramConstant {
+
+	/**
+	 * Applies a median image filter.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param columns Storage for the column histograms.  Must have at least width*(16+256) elements.
+	 *                If null an array will be declared.  Counts are stored as shorts to reduce memory
+	 *                bandwidth, which limits the radius to 16383.
+	 */
+	public static void process( ImageUInt8 input , ImageUInt8 output , int radius , short columns[] ) {
+		final int width = input.width;
+		final int w = 2*radius+1;
+
+		if( width < w || input.height < w )
+			return;
+
+		final int N = width*(16+256);
+		if( columns == null )
+			columns = new short[ N ];
+		else if( columns.length < N )
+			throw new IllegalArgumentException("'columns' must be at least of length "+N);
+
+		// the coarse histograms are at the start of the array and followed by the fine histograms
+		final int startFine = width*16;
+		final int threshold = (w*w)/2+1;
+
+		int kernelCoarse[] = new int[16];
+		int kernelFine[] = new int[256];
+		// the x-coordinate which the fine bins in each coarse bin were last updated at
+		int lastUpdate[] = new int[16];
+
+		// histogram for each column using the first rows
+		Arrays.fill(columns,0,N,(short)0);
+		for( int y = 0; y < w; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			for( int x = 0; x < width; x++ ) {
+				int value = input.data[indexIn++] & 0xFF;
+				columns[x*16 + (value >> 4)]++;
+				columns[startFine + x*256 + value]++;
+			}
+		}
+
+		for( int y = radius; y < input.height-radius; y++ ) {
+			if( y > radius ) {
+				// move the column histograms down one row
+				int indexRemove = input.startIndex + (y-radius-1)*input.stride;
+				int indexAdd = input.startIndex + (y+radius)*input.stride;
+				for( int x = 0; x < width; x++ ) {
+					int remove = input.data[indexRemove++] & 0xFF;
+					int add = input.data[indexAdd++] & 0xFF;
+					columns[x*16 + (remove >> 4)]--;
+					columns[x*16 + (add >> 4)]++;
+					columns[startFine + x*256 + remove]--;
+					columns[startFine + x*256 + add]++;
+				}
+			}
+
+			// histogram of the region at the start of the row
+			Arrays.fill(kernelCoarse,0);
+			Arrays.fill(kernelFine,0);
+			for( int x = 0; x < w; x++ ) {
+				for( int i = 0, index = x*16; i < 16; i++ ) {
+					kernelCoarse[i] += columns[index++];
+				}
+				for( int i = 0, index = startFine + x*256; i < 256; i++ ) {
+					kernelFine[i] += columns[index++];
+				}
+			}
+			Arrays.fill(lastUpdate,radius);
+
+			int indexOut = output.startIndex + y*output.stride + radius;
+			for( int x = radius; x < width-radius; x++ ) {
+				if( x > radius ) {
+					int indexAdd = (x+radius)*16;
+					int indexRemove = (x-radius-1)*16;
+					for( int i = 0; i < 16; i++ ) {
+						kernelCoarse[i] += columns[indexAdd+i] - columns[indexRemove+i];
+					}
+				}
+
+				// find the coarse bin which contains the median
+				int count = 0;
+				int coarse = 0;
+				while( count + kernelCoarse[coarse] < threshold ) {
+					count += kernelCoarse[coarse++];
+				}
+
+				// bring the fine bins inside the coarse bin up to date
+				int offsetFine = coarse*16;
+				int last = lastUpdate[coarse];
+				if( 2*(x-last) > w ) {
+					// faster to recompute from scratch
+					Arrays.fill(kernelFine,offsetFine,offsetFine+16,0);
+					for( int i = x-radius; i <= x+radius; i++ ) {
+						int index = startFine + i*256 + offsetFine;
+						for( int j = 0; j < 16; j++ ) {
+							kernelFine[offsetFine+j] += columns[index+j];
+						}
+					}
+				} else {
+					for( int i = last+1; i <= x; i++ ) {
+						int indexAdd = startFine + (i+radius)*256 + offsetFine;
+						int indexRemove = startFine + (i-radius-1)*256 + offsetFine;
+						for( int j = 0; j < 16; j++ ) {
+							kernelFine[offsetFine+j] += columns[indexAdd+j] - columns[indexRemove+j];
+						}
+					}
+				}
+				lastUpdate[coarse] = x;
+
+				// find the median inside the fine bins
+				int median = offsetFine;
+				while( (count += kernelFine[median]) < threshold ) {
+					median++;
+				}
+
+				output.data[indexOut++] = (byte)median;
+			}
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Median filter for small regions which finds the median using a sorting network.  Only the inner portion of the
+ * image is processed.  The networks only perform the comparisons needed to find the median and are taken from:<br>
+ * N. Devillard, "Fast median search: an ANSI C implementation", 1998
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianSortNetwork {
+
+	/**
+	 * Applies a median filter to the inner portion of the image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.  Must be 1 or 2.
+	 */
+	public static void process( ImageUInt8 input , ImageUInt8 output , int radius ) {
+		if( radius == 1 )
+			process3(input,output);
+		else if( radius == 2 )
+			process5(input,output);
+		else
+			throw new IllegalArgumentException("Only a radius of 1 or 2 is supported");
+	}
+
+	/**
+	 * Median filter with a 3x3 region
+	 */
+	public static void process3( ImageUInt8 input , ImageUInt8 output ) {
+		int p[] = new int[9];
+		byte data[] = input.data;
+		int stride = input.stride;
+
+		for( int y = 1; y < input.height-1; y++ ) {
+			int indexIn = input.startIndex + (y-1)*stride;
+			int indexOut = output.startIndex + y*output.stride + 1;
+
+			for( int x = 1; x < input.width-1; x++ , indexIn++ ) {
+				for( int i = 0, index = indexIn; i < 9; i += 3, index += stride ) {
+					p[i  ] = data[index  ] & 0xFF;
+					p[i+1] = data[index+1] & 0xFF;
+					p[i+2] = data[index+2] & 0xFF;
+				}
+
+				output.data[indexOut++] = (byte)median9(p);
+			}
+		}
+	}
+
+	/**
+	 * Median filter with a 5x5 region
+	 */
+	public static void process5( ImageUInt8 input , ImageUInt8 output ) {
+		int p[] = new int[25];
+		byte data[] = input.data;
+		int stride = input.stride;
+
+		for( int y = 2; y < input.height-2; y++ ) {
+			int indexIn = input.startIndex + (y-2)*stride;
+			int indexOut = output.startIndex + y*output.stride + 2;
+
+			for( int x = 2; x < input.width-2; x++ , indexIn++ ) {
+				for( int i = 0, index = indexIn; i < 25; i += 5, index += stride ) {
+					p[i  ] = data[index  ] & 0xFF;
+					p[i+1] = data[index+1] & 0xFF;
+					p[i+2] = data[index+2] & 0xFF;
+					p[i+3] = data[index+3] & 0xFF;
+					p[i+4] = data[index+4] & 0xFF;
+				}
+
+				output.data[indexOut++] = (byte)median25(p);
+			}
+		}
+	}
+
+	/**
+	 * Finds the median of 9 values.  The order of the array is modified.
+	 */
+	public static int median9( int p[] ) {
+		sort(p,1,2); sort(p,4,5); sort(p,7,8);
+		sort(p,0,1); sort(p,3,4); sort(p,6,7);
+		sort(p,1,2); sort(p,4,5); sort(p,7,8);
+		sort(p,0,3); sort(p,5,8); sort(p,4,7);
+		sort(p,3,6); sort(p,1,4); sort(p,2,5);
+		sort(p,4,7); sort(p,4,2); sort(p,6,4);
+		sort(p,4,2);
+		return p[4];
+	}
+
+	/**
+	 * Finds the median of 25 values.  The order of the array is modified.
+	 */
+	public static int median25( int p[] ) {
+		sort(p,0,1); sort(p,3,4); sort(p,2,4);
+		sort(p,2,3); sort(p,6,7); sort(p,5,7);
+		sort(p,5,6); sort(p,9,10); sort(p,8,10);
+		sort(p,8,9); sort(p,12,13); sort(p,11,13);
+		sort(p,11,12); sort(p,15,16); sort(p,14,16);
+		sort(p,14,15); sort(p,18,19); sort(p,17,19);
+		sort(p,17,18); sort(p,21,22); sort(p,20,22);
+		sort(p,20,21); sort(p,23,24); sort(p,2,5);
+		sort(p,3,6); sort(p,0,6); sort(p,0,3);
+		sort(p,4,7); sort(p,1,7); sort(p,1,4);
+		sort(p,11,14); sort(p,8,14); sort(p,8,11);
+		sort(p,12,15); sort(p,9,15); sort(p,9,12);
+		sort(p,13,16); sort(p,10,16); sort(p,10,13);
+		sort(p,20,23); sort(p,17,23); sort(p,17,20);
+		sort(p,21,24); sort(p,18,24); sort(p,18,21);
+		sort(p,19,22); sort(p,8,17); sort(p,9,18);
+		sort(p,0,18); sort(p,0,9); sort(p,10,19);
+		sort(p,1,19); sort(p,1,10); sort(p,11,20);
+		sort(p,2,20); sort(p,2,11); sort(p,12,21);
+		sort(p,3,21); sort(p,3,12); sort(p,13,22);
+		sort(p,4,22); sort(p,4,13); sort(p,14,23);
+		sort(p,5,23); sort(p,5,14); sort(p,15,24);
+		sort(p,6,24); sort(p,6,15); sort(p,7,16);
+		sort(p,7,19); sort(p,13,21); sort(p,15,23);
+		sort(p,7,13); sort(p,7,15); sort(p,1,9);
+		sort(p,3,11); sort(p,5,17); sort(p,11,17);
+		sort(p,9,17); sort(p,4,10); sort(p,6,12);
+		sort(p,7,14); sort(p,4,6); sort(p,4,7);
+		sort(p,12,14); sort(p,10,14); sort(p,6,7);
+		sort(p,10,12); sort(p,6,10); sort(p,6,17);
+		sort(p,12,17); sort(p,7,17); sort(p,7,10);
+		sort(p,12,18); sort(p,7,12); sort(p,10,18);
+		sort(p,12,20); sort(p,10,20); sort(p,10,12);
+		return p[12];
+	}
+
+	/**
+	 * Swaps the two elements, if needed, so that p[a] &le; p[b]
+	 */
+	private static void sort( int p[] , int a , int b ) {
+		int va = p[a];
+		int vb = p[b];
+		p[a] = Math.min(va,vb);
+		p[b] = Math.max(va,vb);
+	}
+}
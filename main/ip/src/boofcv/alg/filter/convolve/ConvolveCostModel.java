@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
+import boofcv.struct.convolve.Kernel2D_F32;
+
+/**
+ * <p>
+ * Estimates the computational cost of different methods for convolving a kernel across an image and selects the
+ * fastest one.  Costs are in units of the time needed to perform one multiply-add in direct convolution.  The
+ * constants were found by timing each method on the same computer and are only approximate.
+ * </p>
+ *
+ * <ul>
+ * <li>Direct: width*height*kernelWidth*kernelHeight</li>
+ * <li>Separable: width*height*(kernelWidth+kernelHeight)</li>
+ * <li>Fourier: For each tile the cost of a forward and inverse FFT plus the per pixel work</li>
+ * </ul>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveCostModel {
+
+	/**
+	 * Cost of the forward plus inverse real FFT, per N*log2(N) where N is the number of elements in a tile
+	 */
+	public static double COST_FFT = 1.2;
+	/**
+	 * Cost of the per element work on each tile, copying the data and multiplying the spectrums
+	 */
+	public static double COST_TILE_ELEMENT = 6.4;
+	/**
+	 * Relative cost of direct 2D convolution with kernels that have unrolled implementations
+	 */
+	public static double COST_DIRECT_UNROLLED = 0.4;
+	/**
+	 * Extra cost per pixel of separable convolution caused by the intermediate image
+	 */
+	public static double COST_SEPARABLE_PIXEL = 1.0;
+
+	// widest 2D kernel which has an unrolled implementation
+	public static final int MAX_UNROLLED_WIDTH = 11;
+
+	// tiles are at least this long, unless the image is smaller
+	public static final int MIN_TILE_LENGTH = 32;
+	// tiles are at most this long, unless the kernel is larger
+	public static final int MAX_TILE_LENGTH = 1024;
+
+	/**
+	 * Estimated cost of direct convolution
+	 */
+	public static double costDirect( int kernelWidth , int kernelHeight , int width , int height ) {
+		double cost = (double)width*height*kernelWidth*kernelHeight;
+		if( kernelWidth == kernelHeight && kernelWidth <= MAX_UNROLLED_WIDTH )
+			cost *= COST_DIRECT_UNROLLED;
+		return cost;
+	}
+
+	/**
+	 * Estimated cost of applying a horizontal and then a vertical kernel
+	 */
+	public static double costSeparable( int kernelWidth , int kernelHeight , int width , int height ) {
+		return (double)width*height*(kernelWidth+kernelHeight+COST_SEPARABLE_PIXEL);
+	}
+
+	/**
+	 * Estimated cost of convolution in the frequency domain using the tiles selected by
+	 * {@link #selectTileLength(int, int)}.
+	 */
+	public static double costFourier( int kernelWidth , int kernelHeight , int width , int height ) {
+		int tileWidth = selectTileLength(kernelWidth,width);
+		int tileHeight = selectTileLength(kernelHeight,height);
+
+		return costFourier(kernelWidth, kernelHeight, width, height, tileWidth, tileHeight);
+	}
+
+	/**
+	 * Estimated cost of convolution in the frequency domain with the specified tile size
+	 */
+	public static double costFourier( int kernelWidth , int kernelHeight , int width , int height ,
+									  int tileWidth , int tileHeight ) {
+		int tilesX = numTiles(kernelWidth,width,tileWidth);
+		int tilesY = numTiles(kernelHeight,height,tileHeight);
+
+		double N = (double)tileWidth*tileHeight;
+		double log2 = Math.log(N)/Math.log(2);
+
+		return tilesX*tilesY*N*(COST_FFT*log2 + COST_TILE_ELEMENT);
+	}
+
+	/**
+	 * Selects the length of a tile along one axis which minimizes the cost of the FFT.  Power of two lengths
+	 * are used since they can be transformed most efficiently.
+	 *
+	 * @param kernelLength Length of the kernel along the axis
+	 * @param imageLength Number of output pixels along the axis
+	 * @return length of the tile along the axis
+	 */
+	public static int selectTileLength( int kernelLength , int imageLength ) {
+		// smallest tile which can contain the kernel and at least one output pixel
+		int smallest = DiscreteFourierTransformOps.nextPow2(kernelLength);
+		// avoid tiles which are much larger than needed
+		int largest = DiscreteFourierTransformOps.nextPow2(imageLength+kernelLength-1);
+		largest = Math.max(smallest,Math.min(MAX_TILE_LENGTH,largest));
+		smallest = Math.max(smallest,Math.min(MIN_TILE_LENGTH,largest));
+
+		int best = smallest;
+		double bestCost = Double.MAX_VALUE;
+		for( int N = smallest; N <= largest; N *= 2 ) {
+			double cost = numTiles(kernelLength,imageLength,N)*N*(Math.log(N)/Math.log(2)+1);
+			if( cost < bestCost ) {
+				bestCost = cost;
+				best = N;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Number of tiles needed to cover one axis
+	 */
+	private static int numTiles( int kernelLength , int imageLength , int tileLength ) {
+		int block = tileLength - kernelLength + 1;
+		return (imageLength + block - 1)/block;
+	}
+
+	/**
+	 * Selects the fastest method for convolving a 2D kernel across an image.
+	 *
+	 * @param kernel The kernel
+	 * @param separable true if the kernel can be decomposed into two 1D kernels
+	 * @param width Image width
+	 * @param height Image height
+	 * @return The selected method
+	 */
+	public static ConvolveMethod select( Kernel2D_F32 kernel , boolean separable , int width , int height ) {
+		int w = kernel.width;
+
+		double best = costDirect(w,w,width,height);
+		ConvolveMethod method = ConvolveMethod.DIRECT;
+
+		if( separable ) {
+			double cost = costSeparable(w,w,width,height);
+			if( cost < best ) {
+				best = cost;
+				method = ConvolveMethod.SEPARABLE;
+			}
+		}
+
+		if( costFourier(w,w,width,height) < best )
+			method = ConvolveMethod.FOURIER;
+
+		return method;
+	}
+
+	/**
+	 * Selects the fastest method for convolving a 1D kernel across an image.
+	 *
+	 * @param kernelWidth Number of elements in the kernel
+	 * @param horizontal true if the kernel is applied along the rows or false for columns
+	 * @param width Image width
+	 * @param height Image height
+	 * @return Either {@link ConvolveMethod#DIRECT} or {@link ConvolveMethod#FOURIER}
+	 */
+	public static ConvolveMethod select( int kernelWidth , boolean horizontal , int width , int height ) {
+		int kw = horizontal ? kernelWidth : 1;
+		int kh = horizontal ? 1 : kernelWidth;
+
+		if( costFourier(kw,kh,width,height) < costDirect(kw,kh,width,height) )
+			return ConvolveMethod.FOURIER;
+		return ConvolveMethod.DIRECT;
+	}
+}
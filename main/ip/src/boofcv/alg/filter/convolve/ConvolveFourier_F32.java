@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.abst.transform.fft.DiscreteFourierTransform;
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.transform.fft.DiscreteFourierTransformOps;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.InterleavedF32;
+
+/**
+ * <p>
+ * Convolves a kernel across an image using the Fast Fourier Transform.  For large kernels this is much faster
+ * than direct convolution since its cost per pixel grows with the log of the kernel size instead of its area.
+ * The results are the same as the functions in {@link ConvolveImageNoBorder}, {@link ConvolveWithBorder}, and
+ * {@link ConvolveNormalized}, up to floating point round off error.
+ * </p>
+ *
+ * <p>
+ * The image is broken up into blocks and each block is processed with a separate FFT, which keeps the size of the
+ * transform bounded for large images.  Each tile contains a block of the output plus the neighboring input pixels
+ * needed by the kernel. The tile is transformed, multiplied by the kernel's spectrum, and transformed back; the
+ * pixels contaminated by circular wrap around are thrown away (overlap-save).  Pixels outside the image are
+ * looked up using an {@link ImageBorder_F32}.  Tile sizes are selected by
+ * {@link ConvolveCostModel#selectTileLength(int, int)} and the kernel's spectrum is saved between calls.
+ * </p>
+ *
+ * <p>
+ * NOTE: Unlike the direct convolution functions, this class is not thread safe since it contains work space.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveFourier_F32 {
+
+	// the kernel
+	private float[] kernel;
+	private int kernelWidth;
+	private int kernelHeight;
+	// location of the kernel's origin
+	private int offsetX;
+	private int offsetY;
+
+	// sum of kernel elements inside the rectangle from (0,0) to (x,y) exclusive.  Used when normalizing
+	private float[] kernelIntegral;
+
+	// size of the tile the FFT is applied to
+	private int tileWidth = -1;
+	private int tileHeight = -1;
+
+	// work space for a tile and its spectrum
+	private ImageFloat32 tile = new ImageFloat32(1,1);
+	private InterleavedF32 tileSpectrum = new InterleavedF32(1,1,2);
+	// complex conjugate of the kernel's spectrum
+	private InterleavedF32 kernelSpectrum = new InterleavedF32(1,1,2);
+
+	private DiscreteFourierTransform<ImageFloat32,InterleavedF32> dft = DiscreteFourierTransformOps.createTransformF32();
+
+	/**
+	 * Convolution with a 2D kernel
+	 */
+	public ConvolveFourier_F32( Kernel2D_F32 kernel ) {
+		this.kernel = kernel.data.clone();
+		this.kernelWidth = kernel.width;
+		this.kernelHeight = kernel.width;
+		// 2D convolution uses the kernel's radius as its origin
+		this.offsetX = this.offsetY = kernel.getRadius();
+		declareKernelIntegral();
+		// spectrums are computed in work space and can be modified
+		dft.setModifyInputs(true);
+	}
+
+	/**
+	 * Convolution with a 1D kernel along the horizontal or vertical axis
+	 */
+	public ConvolveFourier_F32( Kernel1D_F32 kernel , boolean horizontal ) {
+		this.kernel = new float[kernel.width];
+		System.arraycopy(kernel.data,0,this.kernel,0,kernel.width);
+		if( horizontal ) {
+			kernelWidth = kernel.width;
+			kernelHeight = 1;
+			offsetX = kernel.getOffset();
+		} else {
+			kernelWidth = 1;
+			kernelHeight = kernel.width;
+			offsetY = kernel.getOffset();
+		}
+		declareKernelIntegral();
+		dft.setModifyInputs(true);
+	}
+
+	/**
+	 * Convolves the kernel across the entire image.  Pixels outside the image are handled by the border.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param border How the image borders are handled.
+	 */
+	public void convolve( ImageFloat32 input , ImageFloat32 output , ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		border.setImage(input);
+		process(input,border,output,0,0,input.width,input.height);
+	}
+
+	/**
+	 * Convolves the kernel across the image, skipping the pixels along the border where the kernel would
+	 * extend outside the image.  Those pixels in the output are not modified.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 */
+	public void convolve( ImageFloat32 input , ImageFloat32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int x1 = input.width - (kernelWidth - offsetX - 1);
+		int y1 = input.height - (kernelHeight - offsetY - 1);
+
+		if( x1 > offsetX && y1 > offsetY )
+			process(input,null,output,offsetX,offsetY,x1,y1);
+	}
+
+	/**
+	 * Convolves the kernel across the image and re-normalizes the kernel along the image border depending on
+	 * how much of it overlaps with the image.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 */
+	public void convolveNormalized( ImageFloat32 input , ImageFloat32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int width = input.width;
+		int height = input.height;
+
+		// pixels outside the image are treated as zero
+		process(input,null,output,0,0,width,height);
+
+		// along the border divide by the sum of the kernel which is inside the image
+		int x1 = width - (kernelWidth - offsetX - 1);
+		int y1 = height - (kernelHeight - offsetY - 1);
+
+		for( int y = 0; y < height; y++ ) {
+			int index = output.startIndex + y*output.stride;
+			boolean insideY = y >= offsetY && y < y1;
+
+			for( int x = 0; x < width; x++ , index++ ) {
+				if( insideY && x >= offsetX && x < x1 )
+					continue;
+
+				// region of the kernel which is inside the image
+				int kx0 = Math.max(0,offsetX-x);
+				int ky0 = Math.max(0,offsetY-y);
+				int kx1 = Math.min(kernelWidth,width-x+offsetX);
+				int ky1 = Math.min(kernelHeight,height-y+offsetY);
+
+				output.data[index] /= kernelSum(kx0,ky0,kx1,ky1);
+			}
+		}
+	}
+
+	/**
+	 * Computes output(x,y) = sum input(x+i-offsetX,y+j-offsetY)*kernel(i,j) inside the specified rectangle of the
+	 * output image.
+	 *
+	 * @param border If not null then pixels outside the image are looked up using this.  Otherwise they are zero.
+	 */
+	private void process( ImageFloat32 input , ImageBorder_F32 border , ImageFloat32 output ,
+						  int x0 , int y0 , int x1 , int y1 )
+	{
+		declareTiles(x1-x0,y1-y0);
+
+		int blockWidth = tileWidth - kernelWidth + 1;
+		int blockHeight = tileHeight - kernelHeight + 1;
+
+		for( int by = y0; by < y1; by += blockHeight ) {
+			int rows = Math.min(blockHeight,y1-by);
+			for( int bx = x0; bx < x1; bx += blockWidth ) {
+				int columns = Math.min(blockWidth,x1-bx);
+
+				fillTile(input,border,bx-offsetX,by-offsetY,columns+kernelWidth-1,rows+kernelHeight-1);
+
+				dft.forwardHalf(tile,tileSpectrum);
+				DiscreteFourierTransformOps.multiplyComplex(tileSpectrum,kernelSpectrum,tileSpectrum);
+				dft.inverseHalf(tileSpectrum,tile);
+
+				for( int y = 0; y < rows; y++ ) {
+					System.arraycopy(tile.data,y*tileWidth,output.data,
+							output.startIndex + (by+y)*output.stride + bx, columns);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Copies a rectangle from the input image, which can extend outside the image, into the tile.  The remainder
+	 * of the tile is set to zero.
+	 */
+	private void fillTile( ImageFloat32 input , ImageBorder_F32 border , int x0 , int y0 , int width , int height ) {
+		// columns which are inside the image
+		int insideX0 = Math.max(0,-x0);
+		int insideX1 = Math.max(insideX0,Math.min(width,input.width-x0));
+
+		for( int y = 0; y < tileHeight; y++ ) {
+			int indexTile = y*tileWidth;
+
+			if( y >= height ) {
+				fillZero(indexTile,tileWidth);
+				continue;
+			}
+
+			int inputY = y0 + y;
+			if( inputY < 0 || inputY >= input.height ) {
+				fillOutside(border,x0,inputY,indexTile,0,width);
+			} else {
+				fillOutside(border,x0,inputY,indexTile,0,insideX0);
+				System.arraycopy(input.data,input.startIndex + inputY*input.stride + x0+insideX0,
+						tile.data,indexTile+insideX0,insideX1-insideX0);
+				fillOutside(border,x0,inputY,indexTile,insideX1,width);
+			}
+			fillZero(indexTile+width,tileWidth-width);
+		}
+	}
+
+	private void fillOutside( ImageBorder_F32 border , int x0 , int inputY , int indexTile , int start , int end ) {
+		if( border == null ) {
+			fillZero(indexTile+start,end-start);
+		} else {
+			for( int x = start; x < end; x++ ) {
+				tile.data[indexTile+x] = border.get(x0+x,inputY);
+			}
+		}
+	}
+
+	private void fillZero( int index , int length ) {
+		for( int i = 0; i < length; i++ ) {
+			tile.data[index+i] = 0;
+		}
+	}
+
+	/**
+	 * Selects the tile size and computes the kernel's spectrum for it
+	 */
+	private void declareTiles( int regionWidth , int regionHeight ) {
+		int width = ConvolveCostModel.selectTileLength(kernelWidth,regionWidth);
+		int height = ConvolveCostModel.selectTileLength(kernelHeight,regionHeight);
+
+		if( width == tileWidth && height == tileHeight )
+			return;
+
+		tileWidth = width;
+		tileHeight = height;
+
+		tile.reshape(tileWidth,tileHeight);
+		tileSpectrum.reshape(tileWidth/2+1,tileHeight);
+		kernelSpectrum.reshape(tileWidth/2+1,tileHeight);
+
+		// the kernel is placed in the top left corner so that the origin of the correlation is the tile's corner
+		fillZero(0,tileWidth*tileHeight);
+		for( int y = 0; y < kernelHeight; y++ ) {
+			System.arraycopy(kernel,y*kernelWidth,tile.data,y*tileWidth,kernelWidth);
+		}
+		dft.forwardHalf(tile,kernelSpectrum);
+
+		// correlation is multiplication by the complex conjugate
+		int N = kernelSpectrum.width*kernelSpectrum.height*2;
+		for( int i = 1; i < N; i += 2 ) {
+			kernelSpectrum.data[i] = -kernelSpectrum.data[i];
+		}
+	}
+
+	private void declareKernelIntegral() {
+		kernelIntegral = new float[(kernelWidth+1)*(kernelHeight+1)];
+		int stride = kernelWidth+1;
+		for( int y = 0; y < kernelHeight; y++ ) {
+			float row = 0;
+			for( int x = 0; x < kernelWidth; x++ ) {
+				row += kernel[y*kernelWidth+x];
+				kernelIntegral[(y+1)*stride+x+1] = kernelIntegral[y*stride+x+1] + row;
+			}
+		}
+	}
+
+	/**
+	 * Sum of kernel elements inside the rectangle x0 &le; x &lt; x1 and y0 &le; y &lt; y1
+	 */
+	private float kernelSum( int x0 , int y0 , int x1 , int y1 ) {
+		int stride = kernelWidth+1;
+		return kernelIntegral[y1*stride+x1] - kernelIntegral[y0*stride+x1]
+				- kernelIntegral[y1*stride+x0] + kernelIntegral[y0*stride+x0];
+	}
+
+	public int getTileWidth() {
+		return tileWidth;
+	}
+
+	public int getTileHeight() {
+		return tileHeight;
+	}
+}
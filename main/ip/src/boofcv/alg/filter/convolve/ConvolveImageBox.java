@@ -19,7 +19,7 @@
 package boofcv.alg.filter.convolve;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_Padded;
 import boofcv.alg.filter.convolve.noborder.ImplConvolveBox;
 import boofcv.core.image.border.ImageBorderValue;
 import boofcv.factory.filter.kernel.FactoryKernel;
@@ -46,7 +46,7 @@ public class ConvolveImageBox {
 		InputSanityCheck.checkSameShape(input , output);
 
 		Kernel1D_F32 kernel = FactoryKernel.table1D_F32(radius,false);
-		ConvolveJustBorder_General.horizontal(kernel,ImageBorderValue.wrap(input,0),output);
+		ConvolveJustBorder_Padded.horizontal(kernel,ImageBorderValue.wrap(input,0),output);
 		ImplConvolveBox.horizontal(input, output, radius);
 	}
 
@@ -61,7 +61,7 @@ public class ConvolveImageBox {
 		InputSanityCheck.checkSameShape(input , output);
 
 		Kernel1D_I32 kernel = FactoryKernel.table1D_I32(radius);
-		ConvolveJustBorder_General.horizontal(kernel,ImageBorderValue.wrap(input,0),output);
+		ConvolveJustBorder_Padded.horizontal(kernel,ImageBorderValue.wrap(input,0),output);
 		ImplConvolveBox.horizontal(input, output, radius);
 	}
 
@@ -76,7 +76,7 @@ public class ConvolveImageBox {
 		InputSanityCheck.checkSameShape(input , output);
 
 		Kernel1D_I32 kernel = FactoryKernel.table1D_I32(radius);
-		ConvolveJustBorder_General.horizontal(kernel,ImageBorderValue.wrap(input,0),output);
+		ConvolveJustBorder_Padded.horizontal(kernel,ImageBorderValue.wrap(input,0),output);
 		ImplConvolveBox.horizontal(input, output, radius);
 	}
 
@@ -91,7 +91,7 @@ public class ConvolveImageBox {
 		InputSanityCheck.checkSameShape(input , output);
 
 		Kernel1D_I32 kernel = FactoryKernel.table1D_I32(radius);
-		ConvolveJustBorder_General.horizontal(kernel,ImageBorderValue.wrap(input,0),output);
+		ConvolveJustBorder_Padded.horizontal(kernel,ImageBorderValue.wrap(input,0),output);
 		ImplConvolveBox.horizontal(input, output, radius);
 	}
 
@@ -106,7 +106,7 @@ public class ConvolveImageBox {
 		InputSanityCheck.checkSameShape(input , output );
 
 		Kernel1D_F32 kernel = FactoryKernel.table1D_F32(radius,false);
-		ConvolveJustBorder_General.vertical(kernel,ImageBorderValue.wrap(input,0),output);
+		ConvolveJustBorder_Padded.vertical(kernel,ImageBorderValue.wrap(input,0),output);
 		ImplConvolveBox.vertical(input, output, radius);
 	}
 
@@ -121,7 +121,7 @@ public class ConvolveImageBox {
 		InputSanityCheck.checkSameShape(input , output);
 
 		Kernel1D_I32 kernel = FactoryKernel.table1D_I32(radius);
-		ConvolveJustBorder_General.vertical(kernel,ImageBorderValue.wrap(input,0),output);
+		ConvolveJustBorder_Padded.vertical(kernel,ImageBorderValue.wrap(input,0),output);
 		ImplConvolveBox.vertical(input, output, radius);
 	}
 
@@ -136,7 +136,7 @@ public class ConvolveImageBox {
 		InputSanityCheck.checkSameShape(input , output);
 
 		Kernel1D_I32 kernel = FactoryKernel.table1D_I32(radius);
-		ConvolveJustBorder_General.vertical(kernel,ImageBorderValue.wrap(input,0),output);
+		ConvolveJustBorder_Padded.vertical(kernel,ImageBorderValue.wrap(input,0),output);
 		ImplConvolveBox.vertical(input, output, radius);
 	}
 
@@ -151,7 +151,7 @@ public class ConvolveImageBox {
 		InputSanityCheck.checkSameShape(input , output);
 
 		Kernel1D_I32 kernel = FactoryKernel.table1D_I32(radius);
-		ConvolveJustBorder_General.vertical(kernel,ImageBorderValue.wrap(input,0),output);
+		ConvolveJustBorder_Padded.vertical(kernel,ImageBorderValue.wrap(input,0),output);
 		ImplConvolveBox.vertical(input, output, radius);
 	}
 }
@@ -20,6 +20,7 @@ package boofcv.alg.filter.convolve;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.filter.convolve.noborder.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_I32;
 import boofcv.struct.convolve.Kernel2D_F32;
@@ -44,6 +45,11 @@ import boofcv.struct.image.*;
  * handle image edges specialized functions are provided.
  * </p>
  *
+ * <p>
+ * If {@link BoofConcurrency#USE_CONCURRENT} is true then the concurrent implementation in
+ * {@link ConvolveImageNoBorder_MT} is used.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"ForLoopReplaceableByForEach"})
@@ -60,6 +66,11 @@ public class ConvolveImageNoBorder {
 								  ImageFloat32 input,  ImageFloat32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel,input,output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_F32_F32.horizontal(kernel, input, output))
 			ConvolveImageStandard.horizontal(kernel, input, output);
 	}
@@ -75,6 +86,11 @@ public class ConvolveImageNoBorder {
 								  ImageUInt8 input,  ImageInt8 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel,input,output,divisor);
+			return;
+		}
+
 		if( !ConvolveImageUnrolled_U8_I8_Div.horizontal(kernel, input,  output, divisor))
 			ConvolveImageStandard.horizontal(kernel, input,  output, divisor);
 	}
@@ -89,6 +105,11 @@ public class ConvolveImageNoBorder {
 	public static void horizontal(Kernel1D_I32 kernel, ImageUInt8 input,  ImageInt16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel,input,output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_U8_I16.horizontal(kernel, input,  output ))
 			ConvolveImageStandard.horizontal(kernel, input,  output);
 	}
@@ -104,6 +125,11 @@ public class ConvolveImageNoBorder {
 								  ImageUInt8 input, ImageSInt32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel,input,output);
+			return;
+		}
+
 		// todo add unroll
 		ConvolveImageStandard.horizontal(kernel, input, output);
 	}
@@ -118,6 +144,11 @@ public class ConvolveImageNoBorder {
 	public static void horizontal(Kernel1D_I32 kernel, ImageSInt16 input, ImageInt16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel,input,output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_S16_I16.horizontal(kernel, input, output))
 			ConvolveImageStandard.horizontal(kernel, input, output);
 	}
@@ -134,6 +165,11 @@ public class ConvolveImageNoBorder {
 								  ImageSInt16 input, ImageInt16 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel,input,output,divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_S16_I16_Div.horizontal(kernel, input, output, divisor))
 			ConvolveImageStandard.horizontal(kernel, input, output, divisor);
 	}
@@ -150,6 +186,11 @@ public class ConvolveImageNoBorder {
 								  ImageSInt32 input, ImageSInt32 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.horizontal(kernel,input,output,divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_S32_S32_Div.horizontal(kernel, input, output, divisor))
 			ConvolveImageStandard.horizontal(kernel, input, output, divisor);
 	}
@@ -165,6 +206,11 @@ public class ConvolveImageNoBorder {
 	public static void vertical(Kernel1D_F32 kernel, ImageFloat32 input,  ImageFloat32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel,input,output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_F32_F32.vertical(kernel, input,  output))
 			ConvolveImageStandard.vertical(kernel, input,  output);
 	}
@@ -181,6 +227,11 @@ public class ConvolveImageNoBorder {
 								ImageUInt8 input,  ImageInt8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel,input,output,divisor);
+			return;
+		}
+
 		if( !ConvolveImageUnrolled_U8_I8_Div.vertical(kernel, input,  output, divisor))
 			ConvolveImageStandard.vertical(kernel, input,  output, divisor);
 	}
@@ -196,6 +247,11 @@ public class ConvolveImageNoBorder {
 	public static void vertical(Kernel1D_I32 kernel, ImageUInt8 input,  ImageInt16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel,input,output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_U8_I16.vertical(kernel, input,  output))
 			ConvolveImageStandard.vertical(kernel, input,  output);
 	}
@@ -211,6 +267,11 @@ public class ConvolveImageNoBorder {
 	public static void vertical(Kernel1D_I32 kernel, ImageUInt8 input,  ImageSInt32 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel,input,output);
+			return;
+		}
+
 		// todo add unroll
 		ConvolveImageStandard.vertical(kernel, input,  output);
 	}
@@ -225,6 +286,11 @@ public class ConvolveImageNoBorder {
 	public static void vertical(Kernel1D_I32 kernel, ImageSInt16 input, ImageInt16 output ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel,input,output);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_S16_I16.vertical(kernel, input,  output))
 			ConvolveImageStandard.vertical(kernel, input,  output);
 	}
@@ -241,6 +307,11 @@ public class ConvolveImageNoBorder {
 	public static void vertical(Kernel1D_I32 kernel, ImageSInt16 input,  ImageInt16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel,input,output,divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_S16_I16_Div.vertical(kernel, input, output, divisor))
 			ConvolveImageStandard.vertical(kernel, input, output, divisor);
 	}
@@ -257,6 +328,11 @@ public class ConvolveImageNoBorder {
 	public static void vertical(Kernel1D_I32 kernel, ImageSInt32 input,  ImageSInt32 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.vertical(kernel,input,output,divisor);
+			return;
+		}
+
 		if (!ConvolveImageUnrolled_S32_S32_Div.vertical(kernel, input, output, divisor))
 			ConvolveImageStandard.vertical(kernel, input, output, divisor);
 	}
@@ -271,6 +347,11 @@ public class ConvolveImageNoBorder {
 	public static void convolve(Kernel2D_F32 kernel, ImageFloat32 input,  ImageFloat32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel,input,output);
+			return;
+		}
+
 		if( !ConvolveImageUnrolled_F32_F32.convolve(kernel,input,output))
 			ConvolveImageStandard.convolve(kernel, input,  output);
 	}
@@ -287,6 +368,11 @@ public class ConvolveImageNoBorder {
 								ImageUInt8 input,  ImageInt8 output, int divisor) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel,input,output,divisor);
+			return;
+		}
+
 		if( !ConvolveImageUnrolled_U8_I8_Div.convolve(kernel,input,output,divisor))
 			ConvolveImageStandard.convolve(kernel, input,  output, divisor);
 	}
@@ -301,6 +387,11 @@ public class ConvolveImageNoBorder {
 	public static void convolve(Kernel2D_I32 kernel, ImageUInt8 input,  ImageInt16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel,input,output);
+			return;
+		}
+
 		if( !ConvolveImageUnrolled_U8_I16.convolve(kernel,input,output))
 			ConvolveImageStandard.convolve(kernel, input,  output);
 	}
@@ -315,6 +406,11 @@ public class ConvolveImageNoBorder {
 	public static void convolve(Kernel2D_I32 kernel, ImageUInt8 input,  ImageSInt32 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel,input,output);
+			return;
+		}
+
 		// todo add unrolled
 		ConvolveImageStandard.convolve(kernel, input,  output);
 	}
@@ -329,6 +425,11 @@ public class ConvolveImageNoBorder {
 	public static void convolve(Kernel2D_I32 kernel, ImageSInt16 input,  ImageInt16 output) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel,input,output);
+			return;
+		}
+
 		if( !ConvolveImageUnrolled_S16_I16.convolve(kernel,input,output))
 			ConvolveImageStandard.convolve(kernel, input,  output);
 	}
@@ -344,6 +445,11 @@ public class ConvolveImageNoBorder {
 	public static void convolve(Kernel2D_I32 kernel, ImageSInt16 input,  ImageInt16 output, int divisor ) {
 		InputSanityCheck.checkSameShape(input, output);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ConvolveImageNoBorder_MT.convolve(kernel,input,output,divisor);
+			return;
+		}
+
 		if( !ConvolveImageUnrolled_S16_I16_Div.convolve(kernel,input,output,divisor))
 			ConvolveImageStandard.convolve(kernel, input,  output, divisor);
 	}
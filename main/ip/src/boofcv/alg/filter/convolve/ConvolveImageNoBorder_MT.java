@@ -0,0 +1,431 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.noborder.*;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ImageBandTask;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_I32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ConvolveImageNoBorder}.  The image is split into bands of rows which are
+ * convolved in parallel using the thread pool in {@link BoofConcurrency}.  Each band is given the rows around it
+ * which the kernel needs, so the output is identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveImageNoBorder_MT {
+
+	/**
+	 * Performs a horizontal 1D convolution across the image.  The horizontal border is not processed.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void horizontal(final Kernel1D_F32 kernel, ImageFloat32 input, ImageFloat32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, 0, 0, new ImageBandTask<ImageFloat32, ImageFloat32>() {
+			@Override
+			public void process(ImageFloat32 input, ImageFloat32 output) {
+				if (!ConvolveImageUnrolled_F32_F32.horizontal(kernel, input, output))
+					ConvolveImageStandard.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image.  The horizontal border is not processed.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, ImageUInt8 input, ImageInt8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, 0, 0, new ImageBandTask<ImageUInt8, ImageInt8>() {
+			@Override
+			public void process(ImageUInt8 input, ImageInt8 output) {
+				if( !ConvolveImageUnrolled_U8_I8_Div.horizontal(kernel, input,  output, divisor))
+					ConvolveImageStandard.horizontal(kernel, input,  output, divisor);
+			}
+		});
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image.  The horizontal border is not processed.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, ImageUInt8 input, ImageInt16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, 0, 0, new ImageBandTask<ImageUInt8, ImageInt16>() {
+			@Override
+			public void process(ImageUInt8 input, ImageInt16 output) {
+				if (!ConvolveImageUnrolled_U8_I16.horizontal(kernel, input,  output ))
+					ConvolveImageStandard.horizontal(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image.  The horizontal border is not processed.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, ImageUInt8 input, ImageSInt32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, 0, 0, new ImageBandTask<ImageUInt8, ImageSInt32>() {
+			@Override
+			public void process(ImageUInt8 input, ImageSInt32 output) {
+				ConvolveImageStandard.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image.  The horizontal border is not processed.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, ImageSInt16 input, ImageInt16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, 0, 0, new ImageBandTask<ImageSInt16, ImageInt16>() {
+			@Override
+			public void process(ImageSInt16 input, ImageInt16 output) {
+				if (!ConvolveImageUnrolled_S16_I16.horizontal(kernel, input, output))
+					ConvolveImageStandard.horizontal(kernel, input, output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image.  The horizontal border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param divisor The value that the convolved image is divided by.
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, ImageSInt16 input, ImageInt16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, 0, 0, new ImageBandTask<ImageSInt16, ImageInt16>() {
+			@Override
+			public void process(ImageSInt16 input, ImageInt16 output) {
+				if (!ConvolveImageUnrolled_S16_I16_Div.horizontal(kernel, input, output, divisor))
+					ConvolveImageStandard.horizontal(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image.  The horizontal border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param divisor The value that the convolved image is divided by.
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, ImageSInt32 input, ImageSInt32 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, 0, 0, new ImageBandTask<ImageSInt32, ImageSInt32>() {
+			@Override
+			public void process(ImageSInt32 input, ImageSInt32 output) {
+				if (!ConvolveImageUnrolled_S32_S32_Div.horizontal(kernel, input, output, divisor))
+					ConvolveImageStandard.horizontal(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image in the vertical direction.
+	 * The vertical border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void vertical(final Kernel1D_F32 kernel, ImageFloat32 input, ImageFloat32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1, new ImageBandTask<ImageFloat32, ImageFloat32>() {
+			@Override
+			public void process(ImageFloat32 input, ImageFloat32 output) {
+				if (!ConvolveImageUnrolled_F32_F32.vertical(kernel, input,  output))
+					ConvolveImageStandard.vertical(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image in the vertical direction.
+	 * The vertical border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, ImageUInt8 input, ImageInt8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1, new ImageBandTask<ImageUInt8, ImageInt8>() {
+			@Override
+			public void process(ImageUInt8 input, ImageInt8 output) {
+				if( !ConvolveImageUnrolled_U8_I8_Div.vertical(kernel, input,  output, divisor))
+					ConvolveImageStandard.vertical(kernel, input,  output, divisor);
+			}
+		});
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image in the vertical direction.
+	 * The vertical border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, ImageUInt8 input, ImageInt16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1, new ImageBandTask<ImageUInt8, ImageInt16>() {
+			@Override
+			public void process(ImageUInt8 input, ImageInt16 output) {
+				if (!ConvolveImageUnrolled_U8_I16.vertical(kernel, input,  output))
+					ConvolveImageStandard.vertical(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image in the vertical direction.
+	 * The vertical border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, ImageUInt8 input, ImageSInt32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1, new ImageBandTask<ImageUInt8, ImageSInt32>() {
+			@Override
+			public void process(ImageUInt8 input, ImageSInt32 output) {
+				ConvolveImageStandard.vertical(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image in the vertical direction.
+	 * The vertical border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, ImageSInt16 input, ImageInt16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1, new ImageBandTask<ImageSInt16, ImageInt16>() {
+			@Override
+			public void process(ImageSInt16 input, ImageInt16 output) {
+				if (!ConvolveImageUnrolled_S16_I16.vertical(kernel, input,  output))
+					ConvolveImageStandard.vertical(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image in the vertical direction.
+	 * The vertical border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param divisor The value that the convolved image is divided by.
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, ImageSInt16 input, ImageInt16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1, new ImageBandTask<ImageSInt16, ImageInt16>() {
+			@Override
+			public void process(ImageSInt16 input, ImageInt16 output) {
+				if (!ConvolveImageUnrolled_S16_I16_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image in the vertical direction.
+	 * The vertical border is not processed.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param divisor The value that the convolved image is divided by.
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, ImageSInt32 input, ImageSInt32 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getOffset(), kernel.getWidth() - kernel.getOffset() - 1, new ImageBandTask<ImageSInt32, ImageSInt32>() {
+			@Override
+			public void process(ImageSInt32 input, ImageSInt32 output) {
+				if (!ConvolveImageUnrolled_S32_S32_Div.vertical(kernel, input, output, divisor))
+					ConvolveImageStandard.vertical(kernel, input, output, divisor);
+			}
+		});
+	}
+
+	/**
+	 * Performs a 2D convolution across the image.  The image's borders are not processed.
+	 *
+	 * @param kernel A square kernel that will be convolved across the source image
+	 * @param input  The source image that is to be convolved
+	 * @param output   The results of the convolution
+	 */
+	public static void convolve(final Kernel2D_F32 kernel, ImageFloat32 input, ImageFloat32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getRadius(), kernel.getRadius(), new ImageBandTask<ImageFloat32, ImageFloat32>() {
+			@Override
+			public void process(ImageFloat32 input, ImageFloat32 output) {
+				if( !ConvolveImageUnrolled_F32_F32.convolve(kernel,input,output))
+					ConvolveImageStandard.convolve(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a 2D convolution with division across the image.  The image's borders are not processed.
+	 *
+	 * @param kernel  A square kernel that will be convolved across the source image
+	 * @param input   The source image that is to be convolved
+	 * @param output	The results of the convolution
+	 * @param divisor The value that the convolved image is divided by.
+	 */
+	public static void convolve(final Kernel2D_I32 kernel, ImageUInt8 input, ImageInt8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getRadius(), kernel.getRadius(), new ImageBandTask<ImageUInt8, ImageInt8>() {
+			@Override
+			public void process(ImageUInt8 input, ImageInt8 output) {
+				if( !ConvolveImageUnrolled_U8_I8_Div.convolve(kernel,input,output,divisor))
+					ConvolveImageStandard.convolve(kernel, input,  output, divisor);
+			}
+		});
+	}
+
+	/**
+	 * Performs a 2D convolution across the image.  The image's borders are not processed.
+	 *
+	 * @param kernel A square kernel that will be convolved across the source image
+	 * @param input  The source image that is to be convolved
+	 * @param output   The results of the convolution
+	 */
+	public static void convolve(final Kernel2D_I32 kernel, ImageUInt8 input, ImageInt16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getRadius(), kernel.getRadius(), new ImageBandTask<ImageUInt8, ImageInt16>() {
+			@Override
+			public void process(ImageUInt8 input, ImageInt16 output) {
+				if( !ConvolveImageUnrolled_U8_I16.convolve(kernel,input,output))
+					ConvolveImageStandard.convolve(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a 2D convolution across the image.  The image's borders are not processed.
+	 *
+	 * @param kernel A square kernel that will be convolved across the source image
+	 * @param input  The source image that is to be convolved
+	 * @param output   The results of the convolution
+	 */
+	public static void convolve(final Kernel2D_I32 kernel, ImageUInt8 input, ImageSInt32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getRadius(), kernel.getRadius(), new ImageBandTask<ImageUInt8, ImageSInt32>() {
+			@Override
+			public void process(ImageUInt8 input, ImageSInt32 output) {
+				ConvolveImageStandard.convolve(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a 2D convolution across the image.  The image's borders are not processed.
+	 *
+	 * @param kernel A square kernel that will be convolved across the source image
+	 * @param input  The source image that is to be convolved
+	 * @param output   The results of the convolution
+	 */
+	public static void convolve(final Kernel2D_I32 kernel, ImageSInt16 input, ImageInt16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getRadius(), kernel.getRadius(), new ImageBandTask<ImageSInt16, ImageInt16>() {
+			@Override
+			public void process(ImageSInt16 input, ImageInt16 output) {
+				if( !ConvolveImageUnrolled_S16_I16.convolve(kernel,input,output))
+					ConvolveImageStandard.convolve(kernel, input,  output);
+			}
+		});
+	}
+
+	/**
+	 * Performs a 2D convolution across the image.  The image's borders are not processed.
+	 *
+	 * @param kernel A square kernel that will be convolved across the source image
+	 * @param input  The source image that is to be convolved
+	 * @param output   The results of the convolution
+	 * @param divisor The value that the convolved image is divided by.
+	 */
+	public static void convolve(final Kernel2D_I32 kernel, ImageSInt16 input, ImageInt16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		BoofConcurrency.loopBands(input, output, kernel.getRadius(), kernel.getRadius(), new ImageBandTask<ImageSInt16, ImageInt16>() {
+			@Override
+			public void process(ImageSInt16 input, ImageInt16 output) {
+				if( !ConvolveImageUnrolled_S16_I16_Div.convolve(kernel,input,output,divisor))
+					ConvolveImageStandard.convolve(kernel, input,  output, divisor);
+			}
+		});
+	}
+}
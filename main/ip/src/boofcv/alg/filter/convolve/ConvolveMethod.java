@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+/**
+ * Algorithms which can be used to convolve a kernel across an image.
+ *
+ * @see ConvolveCostModel
+ *
+ * @author Peter Abeles
+ */
+public enum ConvolveMethod {
+	/**
+	 * Each output pixel is the weighted sum of every pixel under the kernel.
+	 */
+	DIRECT,
+	/**
+	 * The 2D kernel is decomposed into a horizontal and vertical 1D kernel, which are applied one after the other.
+	 */
+	SEPARABLE,
+	/**
+	 * The image is convolved in the frequency domain, see {@link ConvolveFourier_F32}.
+	 */
+	FOURIER
+}
@@ -19,7 +19,7 @@
 package boofcv.alg.filter.convolve;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_Padded;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
 import boofcv.struct.convolve.Kernel1D_F32;
@@ -51,7 +51,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.horizontal(kernel,image,dest);
-		ConvolveJustBorder_General.horizontal(kernel, border,dest);
+		ConvolveJustBorder_Padded.horizontal(kernel, border,dest);
 	}
 
 	/**
@@ -69,7 +69,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.vertical(kernel,image,dest);
-		ConvolveJustBorder_General.vertical(kernel, border,dest);
+		ConvolveJustBorder_Padded.vertical(kernel, border,dest);
 	}
 
 	/**
@@ -87,7 +87,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.convolve(kernel,image,dest);
-		ConvolveJustBorder_General.convolve(kernel,border,dest,kernel.getRadius());
+		ConvolveJustBorder_Padded.convolve(kernel,border,dest,kernel.getRadius());
 	}
 
 	/**
@@ -105,7 +105,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.horizontal(kernel,image,dest);
-		ConvolveJustBorder_General.horizontal(kernel, border,dest);
+		ConvolveJustBorder_Padded.horizontal(kernel, border,dest);
 	}
 
 	/**
@@ -123,7 +123,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.vertical(kernel,image,dest);
-		ConvolveJustBorder_General.vertical(kernel, border,dest);
+		ConvolveJustBorder_Padded.vertical(kernel, border,dest);
 	}
 
 	/**
@@ -141,7 +141,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.convolve(kernel,image,dest);
-		ConvolveJustBorder_General.convolve(kernel,border,dest,kernel.getRadius());
+		ConvolveJustBorder_Padded.convolve(kernel,border,dest,kernel.getRadius());
 	}
 
 	/**
@@ -159,7 +159,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.horizontal(kernel, image, dest);
-		ConvolveJustBorder_General.horizontal(kernel, border, dest);
+		ConvolveJustBorder_Padded.horizontal(kernel, border, dest);
 	}
 
 	/**
@@ -177,7 +177,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.vertical(kernel,image,dest);
-		ConvolveJustBorder_General.vertical(kernel, border,dest);
+		ConvolveJustBorder_Padded.vertical(kernel, border,dest);
 	}
 
 	/**
@@ -195,7 +195,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.convolve(kernel,image,dest);
-		ConvolveJustBorder_General.convolve(kernel,border,dest,kernel.getRadius());
+		ConvolveJustBorder_Padded.convolve(kernel,border,dest,kernel.getRadius());
 	}
 
 	/**
@@ -213,7 +213,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.horizontal(kernel,image,dest);
-		ConvolveJustBorder_General.horizontal(kernel, border, dest);
+		ConvolveJustBorder_Padded.horizontal(kernel, border, dest);
 	}
 
 	/**
@@ -231,7 +231,7 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.vertical(kernel,image,dest);
-		ConvolveJustBorder_General.vertical(kernel, border,dest);
+		ConvolveJustBorder_Padded.vertical(kernel, border,dest);
 	}
 
 	/**
@@ -249,6 +249,6 @@ public class ConvolveWithBorder {
 
 		border.setImage(image);
 		ConvolveImageNoBorder.convolve(kernel,image,dest);
-		ConvolveJustBorder_General.convolve(kernel,border,dest,kernel.getRadius());
+		ConvolveJustBorder_Padded.convolve(kernel,border,dest,kernel.getRadius());
 	}
 }
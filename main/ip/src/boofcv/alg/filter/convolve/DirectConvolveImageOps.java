@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.abst.filter.FilterDirectImage;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.filter.convolve.FactoryConvolve;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel2D;
+import boofcv.struct.image.DirectImageBase;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Convolves {@link DirectImageBase direct images}.  The same functions are supported as with
+ * {@link FactoryConvolve}, e.g. {@link ConvolveNormalized} for a {@link BorderType#NORMALIZED} border.  The image
+ * is processed in horizontal bands using {@link FilterDirectImage} and the results are identical to convolving
+ * the equivalent array images.
+ * </p>
+ *
+ * <p>
+ * {@link BorderType#WRAP} is not supported by {@link #vertical} and {@link #convolve} since it reads rows from the
+ * opposite side of the image.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DirectConvolveImageOps {
+
+	/**
+	 * Performs a horizontal 1D convolution across the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param border How the image border is handled.
+	 */
+	public static <I extends ImageSingleBand, O extends ImageSingleBand>
+	void horizontal( Kernel1D kernel , DirectImageBase<?,I> input , DirectImageBase<?,O> output , BorderType border ) {
+		new FilterDirectImage<I,O>(FactoryConvolve.convolve(kernel,
+				input.getArrayImageType().getImageClass(), output.getArrayImageType().getImageClass(),
+				border, true), 0).process(input, output);
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param border How the image border is handled.
+	 */
+	public static <I extends ImageSingleBand, O extends ImageSingleBand>
+	void vertical( Kernel1D kernel , DirectImageBase<?,I> input , DirectImageBase<?,O> output , BorderType border ) {
+		checkBorder(border);
+		new FilterDirectImage<I,O>(FactoryConvolve.convolve(kernel,
+				input.getArrayImageType().getImageClass(), output.getArrayImageType().getImageClass(),
+				border, false), kernel.getRadius()).process(input, output);
+	}
+
+	/**
+	 * Performs a 2D convolution across the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param border How the image border is handled.
+	 */
+	public static <I extends ImageSingleBand, O extends ImageSingleBand>
+	void convolve( Kernel2D kernel , DirectImageBase<?,I> input , DirectImageBase<?,O> output , BorderType border ) {
+		checkBorder(border);
+		new FilterDirectImage<I,O>(FactoryConvolve.convolve(kernel,
+				input.getArrayImageType().getImageClass(), output.getArrayImageType().getImageClass(),
+				border), kernel.getRadius()).process(input, output);
+	}
+
+	private static void checkBorder( BorderType border ) {
+		if( border == BorderType.WRAP )
+			throw new IllegalArgumentException("WRAP border is not supported by direct images");
+	}
+}
@@ -18,6 +18,9 @@
 
 package boofcv.alg.filter.convolve;
 
+import boofcv.abst.filter.convolve.ConvolveAuto_F32;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
@@ -235,4 +238,96 @@ public class GConvolveImageOps {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
 	}
+
+	/**
+	 * Performs a 2D convolution across the image using whichever of direct, separable, or Fourier convolution is
+	 * estimated to be the fastest, see {@link ConvolveCostModel}.  Only {@link ImageFloat32} images can be
+	 * processed in the frequency domain or separably, all other image types are convolved directly.  If the same
+	 * kernel is applied to multiple images then {@link ConvolveAuto_F32} is more efficient.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param type How the image borders are handled.
+	 */
+	public static <T extends ImageSingleBand, K extends Kernel2D>
+	void convolveAuto(K kernel, T input, T output , BorderType type ) {
+		if( input instanceof ImageFloat32 ) {
+			new ConvolveAuto_F32((Kernel2D_F32)kernel,type).process((ImageFloat32)input,(ImageFloat32)output);
+		} else {
+			switch( type ) {
+				case SKIP: convolve(kernel,input,output); break;
+				case NORMALIZED: convolveNormalized(kernel,input,output); break;
+				default: convolve(kernel,input,output,FactoryImageBorder.general(input,type)); break;
+			}
+		}
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image using either direct or Fourier convolution,
+	 * whichever is estimated to be the fastest.  Only {@link ImageFloat32} images can be processed in the
+	 * frequency domain.
+	 *
+	 * @see #convolveAuto
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param type How the image borders are handled.
+	 */
+	public static <T extends ImageSingleBand, K extends Kernel1D>
+	void horizontalAuto(K kernel, T input, T output , BorderType type ) {
+		if( input instanceof ImageFloat32 ) {
+			new ConvolveAuto_F32((Kernel1D_F32)kernel,true,type).process((ImageFloat32)input,(ImageFloat32)output);
+		} else {
+			switch( type ) {
+				case SKIP: horizontal(kernel,input,output); break;
+				case NORMALIZED: horizontalNormalized(kernel,input,output); break;
+				default: horizontal(kernel,input,output,FactoryImageBorder.general(input,type)); break;
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image using either direct or Fourier convolution,
+	 * whichever is estimated to be the fastest.  Only {@link ImageFloat32} images can be processed in the
+	 * frequency domain.
+	 *
+	 * @see #convolveAuto
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param type How the image borders are handled.
+	 */
+	public static <T extends ImageSingleBand, K extends Kernel1D>
+	void verticalAuto(K kernel, T input, T output , BorderType type ) {
+		if( input instanceof ImageFloat32 ) {
+			new ConvolveAuto_F32((Kernel1D_F32)kernel,false,type).process((ImageFloat32)input,(ImageFloat32)output);
+		} else {
+			switch( type ) {
+				case SKIP: vertical(kernel,input,output); break;
+				case NORMALIZED: verticalNormalized(kernel,input,output); break;
+				default: vertical(kernel,input,output,FactoryImageBorder.general(input,type)); break;
+			}
+		}
+	}
+
+	/**
+	 * Performs a 2D convolution across the image in the frequency domain, see {@link ConvolveFourier_F32}.
+	 * Produces the same results as {@link #convolve} up to floating point round off error.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param type How the image borders are handled.
+	 */
+	public static void convolveFourier(Kernel2D_F32 kernel, ImageFloat32 input, ImageFloat32 output , BorderType type ) {
+		ConvolveFourier_F32 alg = new ConvolveFourier_F32(kernel);
+		switch( type ) {
+			case SKIP: alg.convolve(input,output); break;
+			case NORMALIZED: alg.convolveNormalized(input,output); break;
+			default: alg.convolve(input,output,(ImageBorder_F32)FactoryImageBorder.general(input,type)); break;
+		}
+	}
 }
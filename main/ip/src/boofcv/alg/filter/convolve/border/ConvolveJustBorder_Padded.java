@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.border;
+
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.border.*;
+import boofcv.struct.convolve.*;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Convolves a kernel across the image border only.  Produces the same output as {@link ConvolveJustBorder_General}
+ * but does not call {@link ImageBorder} for every kernel element.  Instead, the pixels needed by each side of
+ * the border are copied into a small scratch image which has been padded using the border's rule.  The padded
+ * coordinates are only computed once per row/column.  The scratch image is then convolved using
+ * {@link ConvolveImageNoBorder}, the same unrolled code as the image's interior, and the results are copied
+ * into the output image.  On small images the border is a large fraction of the image and this can be much
+ * faster.
+ * </p>
+ *
+ * <p>
+ * Borders created by {@link ImageBorder1D_F32}, {@link ImageBorder1D_I32} and {@link ImageBorderValue} are
+ * supported.  All other borders and image types are passed on to {@link ConvolveJustBorder_General}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveJustBorder_Padded {
+
+	public static void horizontal(Kernel1D_F32 kernel, ImageBorder_F32 input, ImageFloat32 output ) {
+		if( isSupported(input,output) )
+			horizontal((Kernel1D)kernel, input, output);
+		else
+			ConvolveJustBorder_General.horizontal(kernel, input, output);
+	}
+
+	public static void vertical(Kernel1D_F32 kernel, ImageBorder_F32 input, ImageFloat32 output ) {
+		if( isSupported(input,output) )
+			vertical((Kernel1D) kernel, input, output);
+		else
+			ConvolveJustBorder_General.vertical(kernel, input, output);
+	}
+
+	public static void convolve(Kernel2D_F32 kernel, ImageBorder_F32 input, ImageFloat32 output , int border ) {
+		if( isSupported(input,output) )
+			convolve((Kernel2D)kernel, input, output, border);
+		else
+			ConvolveJustBorder_General.convolve(kernel, input, output, border);
+	}
+
+	public static void horizontal(Kernel1D_I32 kernel, ImageBorder_I32 input, ImageInt16 output ) {
+		if( isSupported(input,output) )
+			horizontal((Kernel1D)kernel, input, output);
+		else
+			ConvolveJustBorder_General.horizontal(kernel, input, output);
+	}
+
+	public static void vertical(Kernel1D_I32 kernel, ImageBorder_I32 input, ImageInt16 output ) {
+		if( isSupported(input,output) )
+			vertical((Kernel1D) kernel, input, output);
+		else
+			ConvolveJustBorder_General.vertical(kernel, input, output);
+	}
+
+	public static void convolve(Kernel2D_I32 kernel, ImageBorder_I32 input, ImageInt16 output , int border ) {
+		if( isSupported(input,output) )
+			convolve((Kernel2D)kernel, input, output, border);
+		else
+			ConvolveJustBorder_General.convolve(kernel, input, output, border);
+	}
+
+	public static void horizontal(Kernel1D_I32 kernel, ImageBorder_I32 input, ImageSInt32 output ) {
+		if( isSupported(input,output) )
+			horizontal((Kernel1D)kernel, input, output);
+		else
+			ConvolveJustBorder_General.horizontal(kernel, input, output);
+	}
+
+	public static void vertical(Kernel1D_I32 kernel, ImageBorder_I32 input, ImageSInt32 output ) {
+		if( isSupported(input,output) )
+			vertical((Kernel1D) kernel, input, output);
+		else
+			ConvolveJustBorder_General.vertical(kernel, input, output);
+	}
+
+	public static void convolve(Kernel2D_I32 kernel, ImageBorder_I32 input, ImageSInt32 output , int border ) {
+		if( isSupported(input,output) )
+			convolve((Kernel2D)kernel, input, output, border);
+		else
+			ConvolveJustBorder_General.convolve(kernel, input, output, border);
+	}
+
+	/**
+	 * Checks to see if the border's rule is known and if {@link ConvolveImageNoBorder} can convolve the
+	 * image types.
+	 */
+	public static boolean isSupported( ImageBorder border , ImageSingleBand output ) {
+		if( !(border instanceof ImageBorder1D_F32 || border instanceof ImageBorder1D_I32 ||
+				border instanceof ImageBorderValue.Value_F32 || border instanceof ImageBorderValue.Value_I ) )
+			return false;
+
+		ImageSingleBand image = border.getImage();
+
+		// the fixed value must be representable by the padded image
+		if( border instanceof ImageBorderValue.Value_I ) {
+			int value = ((ImageBorderValue.Value_I)border).getValue();
+			ImageDataType type = image.getDataType();
+			if( value < type.getMinValue() || value > type.getMaxValue() )
+				return false;
+		}
+
+		if( image instanceof ImageFloat32 )
+			return output instanceof ImageFloat32;
+		else if( image instanceof ImageUInt8 )
+			return output instanceof ImageInt16 || output instanceof ImageSInt32;
+		else if( image instanceof ImageSInt16 )
+			return output instanceof ImageInt16;
+		return false;
+	}
+
+	private static void horizontal( Kernel1D kernel , ImageBorder input , ImageSingleBand output ) {
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = output.getWidth();
+		final int height = output.getHeight();
+		final int borderRight = kernelWidth-offset-1;
+
+		// the border on each side can't extend past the image
+		final int left = Math.min(offset,width);
+		final int right = width - Math.max(left,width-borderRight);
+
+		Scratch scratch = Scratch.get(input,output);
+		try {
+			scratch.setRows(null,0,height);
+
+			if( left > 0 ) {
+				scratch.setCols(scratch.colWrap,-offset,left+kernelWidth-1);
+				scratch.fill();
+				GConvolveImageOps.horizontal(kernel,scratch.padded,scratch.convolved);
+				scratch.copy(offset,0,left,height,output,0,0);
+			}
+
+			if( right > 0 ) {
+				scratch.setCols(scratch.colWrap,width-right-offset,right+kernelWidth-1);
+				scratch.fill();
+				GConvolveImageOps.horizontal(kernel,scratch.padded,scratch.convolved);
+				scratch.copy(offset,0,right,height,output,width-right,0);
+			}
+		} finally {
+			scratch.release();
+		}
+	}
+
+	private static void vertical( Kernel1D kernel , ImageBorder input , ImageSingleBand output ) {
+		final int offset = kernel.getOffset();
+		final int kernelWidth = kernel.getWidth();
+		final int width = output.getWidth();
+		final int height = output.getHeight();
+		final int borderBottom = kernelWidth-offset-1;
+
+		// the border on each side can't extend past the image
+		final int top = Math.min(offset,height);
+		final int bottom = height - Math.max(top,height-borderBottom);
+
+		Scratch scratch = Scratch.get(input,output);
+		try {
+			scratch.setCols(null,0,width);
+
+			if( top > 0 ) {
+				scratch.setRows(scratch.rowWrap,-offset,top+kernelWidth-1);
+				scratch.fill();
+				GConvolveImageOps.vertical(kernel,scratch.padded,scratch.convolved);
+				scratch.copy(0,offset,width,top,output,0,0);
+			}
+
+			if( bottom > 0 ) {
+				scratch.setRows(scratch.rowWrap,height-bottom-offset,bottom+kernelWidth-1);
+				scratch.fill();
+				GConvolveImageOps.vertical(kernel,scratch.padded,scratch.convolved);
+				scratch.copy(0,offset,width,bottom,output,0,height-bottom);
+			}
+		} finally {
+			scratch.release();
+		}
+	}
+
+	private static void convolve( Kernel2D kernel , ImageBorder input , ImageSingleBand output , int border ) {
+		if( border <= 0 )
+			return;
+
+		final int radius = kernel.getRadius();
+		final int width = output.getWidth();
+		final int height = output.getHeight();
+
+		// the border on each side can't extend past the image.  If the image is small the top and bottom
+		// borders can cover the entire image
+		final int top = Math.min(border,height);
+		final int bottom = height - Math.max(top,height-border);
+		final int left = Math.min(border,width);
+		final int right = width - Math.max(left,width-border);
+		final int middle = height - top - bottom;
+
+		Scratch scratch = Scratch.get(input,output);
+		try {
+			// top and bottom borders, including the corners
+			scratch.setCols(scratch.colWrap,-radius,width+2*radius);
+
+			scratch.setRows(scratch.rowWrap,-radius,top+2*radius);
+			scratch.fill();
+			GConvolveImageOps.convolve(kernel,scratch.padded,scratch.convolved);
+			scratch.copy(radius,radius,width,top,output,0,0);
+
+			if( bottom > 0 ) {
+				scratch.setRows(scratch.rowWrap,height-bottom-radius,bottom+2*radius);
+				scratch.fill();
+				GConvolveImageOps.convolve(kernel,scratch.padded,scratch.convolved);
+				scratch.copy(radius,radius,width,bottom,output,0,height-bottom);
+			}
+
+			// left and right borders
+			if( middle <= 0 )
+				return;
+
+			scratch.setRows(scratch.rowWrap,top-radius,middle+2*radius);
+
+			scratch.setCols(scratch.colWrap,-radius,left+2*radius);
+			scratch.fill();
+			GConvolveImageOps.convolve(kernel,scratch.padded,scratch.convolved);
+			scratch.copy(radius,radius,left,middle,output,0,top);
+
+			if( right > 0 ) {
+				scratch.setCols(scratch.colWrap,width-right-radius,right+2*radius);
+				scratch.fill();
+				GConvolveImageOps.convolve(kernel,scratch.padded,scratch.convolved);
+				scratch.copy(radius,radius,right,middle,output,width-right,top);
+			}
+		} finally {
+			scratch.release();
+		}
+	}
+
+	/**
+	 * Computes the image coordinate for each coordinate in the range [start, start+length).  Outside
+	 * coordinates are remapped using 'wrap' or, if it is null, marked with -1 for a fixed value.
+	 *
+	 * @param storage (Optional) Array the table is written into.  A new array is returned if it is too small.
+	 */
+	protected static int[] lookupTable( BorderIndex1D wrap , int start , int length , int imageLength ,
+										int storage[] ) {
+		int table[] = storage == null || storage.length < length ? new int[length] : storage;
+		for( int i = 0; i < length; i++ ) {
+			int c = start + i;
+			if( c >= 0 && c < imageLength )
+				table[i] = c;
+			else
+				table[i] = wrap == null ? -1 : wrap.getIndex(c);
+		}
+		return table;
+	}
+
+	/**
+	 * Padded copy of the input image, the result of convolving it, and the lookup tables used to fill it.
+	 * They are reshaped and reused for each side of the border.  Each thread has its own instance which is
+	 * saved between calls.
+	 */
+	private static class Scratch {
+		private static final ThreadLocal<Scratch> local = new ThreadLocal<Scratch>() {
+			@Override
+			protected Scratch initialValue() {
+				return new Scratch();
+			}
+		};
+
+		ImageSingleBand image;
+		BorderIndex1D colWrap;
+		BorderIndex1D rowWrap;
+		// value of pixels outside the image if the border is a fixed value
+		double value;
+		boolean fixedValue;
+
+		ImageSingleBand padded;
+		ImageSingleBand convolved;
+
+		// image row and column of each pixel in the padded image
+		int rows[] = new int[0];
+		int cols[] = new int[0];
+		int numRows,numCols;
+
+		/**
+		 * Returns this thread's scratch after configuring it for the border and output image
+		 */
+		static Scratch get( ImageBorder border , ImageSingleBand output ) {
+			Scratch s = local.get();
+			s.setBorder(border,output);
+			return s;
+		}
+
+		void setBorder( ImageBorder border , ImageSingleBand output ) {
+			image = border.getImage();
+			colWrap = rowWrap = null;
+			fixedValue = false;
+			if( border instanceof ImageBorder1D_F32 ) {
+				colWrap = ((ImageBorder1D_F32)border).getColWrap();
+				rowWrap = ((ImageBorder1D_F32)border).getRowWrap();
+			} else if( border instanceof ImageBorder1D_I32 ) {
+				colWrap = ((ImageBorder1D_I32)border).getColWrap();
+				rowWrap = ((ImageBorder1D_I32)border).getRowWrap();
+			} else if( border instanceof ImageBorderValue.Value_F32 ) {
+				value = ((ImageBorderValue.Value_F32)border).getValue();
+				fixedValue = true;
+			} else {
+				value = ((ImageBorderValue.Value_I)border).getValue();
+				fixedValue = true;
+			}
+
+			if( padded == null || padded.getClass() != image.getClass() )
+				padded = (ImageSingleBand)image._createNew(1,1);
+			if( convolved == null || convolved.getClass() != output.getClass() )
+				convolved = (ImageSingleBand)output._createNew(1,1);
+		}
+
+		/**
+		 * Discards references to the input image so that it isn't kept in memory by the thread
+		 */
+		void release() {
+			image = null;
+			colWrap = rowWrap = null;
+		}
+
+		void setRows( BorderIndex1D wrap , int start , int length ) {
+			rows = lookupTable(wrap,start,length,image.height,rows);
+			numRows = length;
+		}
+
+		void setCols( BorderIndex1D wrap , int start , int length ) {
+			cols = lookupTable(wrap,start,length,image.width,cols);
+			numCols = length;
+		}
+
+		/**
+		 * Copies the pixels specified by the lookup tables into the padded image
+		 */
+		void fill() {
+			padded.reshape(numCols,numRows);
+			convolved.reshape(numCols,numRows);
+
+			if( fixedValue )
+				GImageMiscOps.fill(padded,value);
+
+			Object src = dataArray(image);
+			Object dst = dataArray(padded);
+
+			for( int i = 0; i < numRows; i++ ) {
+				if( rows[i] < 0 )
+					continue;
+				int indexSrc = image.startIndex + rows[i]*image.stride;
+				int indexDst = i*numCols;
+
+				if( src instanceof float[] )
+					copyRow((float[])src,indexSrc,cols,numCols,(float[])dst,indexDst);
+				else if( src instanceof byte[] )
+					copyRow((byte[])src,indexSrc,cols,numCols,(byte[])dst,indexDst);
+				else
+					copyRow((short[])src,indexSrc,cols,numCols,(short[])dst,indexDst);
+			}
+		}
+
+		/**
+		 * Copies a rectangular region from the convolved image into the output image
+		 */
+		void copy( int x0 , int y0 , int width , int height , ImageSingleBand output , int outX , int outY ) {
+			Object src = dataArray(convolved);
+			Object dst = dataArray(output);
+
+			for( int y = 0; y < height; y++ ) {
+				int indexSrc = convolved.startIndex + (y0+y)*convolved.stride + x0;
+				int indexDst = output.startIndex + (outY+y)*output.stride + outX;
+				System.arraycopy(src,indexSrc,dst,indexDst,width);
+			}
+		}
+	}
+
+	private static Object dataArray( ImageSingleBand image ) {
+		if( image instanceof ImageFloat32 )
+			return ((ImageFloat32)image).data;
+		else if( image instanceof ImageInt8 )
+			return ((ImageInt8)image).data;
+		else if( image instanceof ImageInt16 )
+			return ((ImageInt16)image).data;
+		else
+			return ((ImageSInt32)image).data;
+	}
+
+	private static void copyRow( float src[] , int indexSrc , int cols[] , int numCols , float dst[] , int indexDst ) {
+		for( int i = 0; i < numCols; i++ ) {
+			int x = cols[i];
+			if( x >= 0 )
+				dst[indexDst+i] = src[indexSrc+x];
+		}
+	}
+
+	private static void copyRow( byte src[] , int indexSrc , int cols[] , int numCols , byte dst[] , int indexDst ) {
+		for( int i = 0; i < numCols; i++ ) {
+			int x = cols[i];
+			if( x >= 0 )
+				dst[indexDst+i] = src[indexSrc+x];
+		}
+	}
+
+	private static void copyRow( short src[] , int indexSrc , int cols[] , int numCols , short dst[] , int indexDst ) {
+		for( int i = 0; i < numCols; i++ ) {
+			int x = cols[i];
+			if( x >= 0 )
+				dst[indexDst+i] = src[indexSrc+x];
+		}
+	}
+}
@@ -19,7 +19,7 @@
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
-import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_Padded;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
 import boofcv.struct.convolve.Kernel1D_F32;
@@ -38,7 +38,7 @@ public class DerivativeHelperFunctions {
 												Kernel1D_I32 kernel , ImageBorder_I32 borderType )
 	{
 		borderType.setImage(orig);
-		ConvolveJustBorder_General.horizontal(kernel, borderType,deriv);
+		ConvolveJustBorder_Padded.horizontal(kernel, borderType,deriv);
 
 		ImageUInt8 origSub;
 		ImageSInt16 derivSub;
@@ -55,7 +55,7 @@ public class DerivativeHelperFunctions {
 												Kernel1D_I32 kernel , ImageBorder_I32 borderType )
 	{
 		borderType.setImage(orig);
-		ConvolveJustBorder_General.horizontal(kernel, borderType,deriv);
+		ConvolveJustBorder_Padded.horizontal(kernel, borderType,deriv);
 
 		ImageSInt16 origSub;
 		ImageSInt16 derivSub;
@@ -72,7 +72,7 @@ public class DerivativeHelperFunctions {
 											  Kernel1D_I32 kernel , ImageBorder_I32 borderType)
 	{
 		borderType.setImage(orig);
-		ConvolveJustBorder_General.vertical(kernel,borderType,deriv);
+		ConvolveJustBorder_Padded.vertical(kernel,borderType,deriv);
 
 		ImageUInt8 origSub;
 		ImageSInt16 derivSub;
@@ -89,7 +89,7 @@ public class DerivativeHelperFunctions {
 											  Kernel1D_I32 kernel , ImageBorder_I32 borderType)
 	{
 		borderType.setImage(orig);
-		ConvolveJustBorder_General.vertical(kernel, borderType ,deriv);
+		ConvolveJustBorder_Padded.vertical(kernel, borderType ,deriv);
 
 		ImageSInt16 origSub;
 		ImageSInt16 derivSub;
@@ -106,7 +106,7 @@ public class DerivativeHelperFunctions {
 												Kernel1D_F32 kernel , ImageBorder_F32 borderType )
 	{
 		borderType.setImage(orig);
-		ConvolveJustBorder_General.horizontal(kernel, borderType , deriv );
+		ConvolveJustBorder_Padded.horizontal(kernel, borderType , deriv );
 
 		ImageFloat32 origSub;
 		ImageFloat32 derivSub;
@@ -123,7 +123,7 @@ public class DerivativeHelperFunctions {
 											  Kernel1D_F32 kernel , ImageBorder_F32 borderType)
 	{
 		borderType.setImage(orig);
-		ConvolveJustBorder_General.vertical(kernel, borderType ,deriv );
+		ConvolveJustBorder_Padded.vertical(kernel, borderType ,deriv );
 
 		ImageFloat32 origSub;
 		ImageFloat32 derivSub;
@@ -19,7 +19,7 @@
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_Padded;
 import boofcv.alg.filter.derivative.impl.GradientPrewitt_Shared;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
@@ -65,8 +65,8 @@ public class GradientPrewitt {
 
 		if( border != null ) {
 			border.setImage(orig);
-			ConvolveJustBorder_General.convolve(kernelDerivX_I32, border,derivX,1);
-			ConvolveJustBorder_General.convolve(kernelDerivY_I32, border,derivY,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivX_I32, border,derivX,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivY_I32, border,derivY,1);
 		}
 	}
 
@@ -84,8 +84,8 @@ public class GradientPrewitt {
 
 		if( border != null ) {
 			border.setImage(orig);
-			ConvolveJustBorder_General.convolve(kernelDerivX_I32, border,derivX,1);
-			ConvolveJustBorder_General.convolve(kernelDerivY_I32, border,derivY,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivX_I32, border,derivX,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivY_I32, border,derivY,1);
 		}
 	}
 
@@ -104,8 +104,8 @@ public class GradientPrewitt {
 
 		if( border != null ) {
 			border.setImage(orig);
-			ConvolveJustBorder_General.convolve(kernelDerivX_F32, border, derivX,1);
-			ConvolveJustBorder_General.convolve(kernelDerivY_F32, border, derivY,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivX_F32, border, derivX,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivY_F32, border, derivY,1);
 		}
 	}
 }
@@ -19,7 +19,7 @@
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_Padded;
 import boofcv.alg.filter.derivative.impl.GradientSobel_Outer;
 import boofcv.alg.filter.derivative.impl.GradientSobel_UnrolledOuter;
 import boofcv.core.image.border.ImageBorder_F32;
@@ -94,8 +94,8 @@ public class GradientSobel {
 
 		if( border != null ) {
 			border.setImage(orig);
-			ConvolveJustBorder_General.convolve(kernelDerivX_I32, border,derivX,1);
-			ConvolveJustBorder_General.convolve(kernelDerivY_I32, border,derivY,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivX_I32, border,derivX,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivY_I32, border,derivY,1);
 		}
 	}
 
@@ -113,8 +113,8 @@ public class GradientSobel {
 
 		if( border != null ) {
 			border.setImage(orig);
-			ConvolveJustBorder_General.convolve(kernelDerivX_I32, border,derivX,1);
-			ConvolveJustBorder_General.convolve(kernelDerivY_I32, border,derivY,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivX_I32, border,derivX,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivY_I32, border,derivY,1);
 		}
 	}
 
@@ -134,8 +134,8 @@ public class GradientSobel {
 
 		if( border != null ) {
 			border.setImage(orig);
-			ConvolveJustBorder_General.convolve(kernelDerivX_F32, border,derivX,1);
-			ConvolveJustBorder_General.convolve(kernelDerivY_F32, border,derivY,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivX_F32, border,derivX,1);
+			ConvolveJustBorder_Padded.convolve(kernelDerivY_F32, border,derivY,1);
 		}
 	}
 }
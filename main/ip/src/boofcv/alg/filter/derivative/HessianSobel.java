@@ -19,7 +19,7 @@
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_Padded;
 import boofcv.alg.filter.derivative.impl.HessianSobel_Shared;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
@@ -119,9 +119,9 @@ public class HessianSobel {
 
 		if( border != null ) {
 			border.setImage(orig);
-			ConvolveJustBorder_General.convolve(kernelXX_I32, border,derivXX,2);
-			ConvolveJustBorder_General.convolve(kernelYY_I32, border,derivYY,2);
-			ConvolveJustBorder_General.convolve(kernelXY_I32, border,derivXY,2);
+			ConvolveJustBorder_Padded.convolve(kernelXX_I32, border,derivXX,2);
+			ConvolveJustBorder_Padded.convolve(kernelYY_I32, border,derivYY,2);
+			ConvolveJustBorder_Padded.convolve(kernelXY_I32, border,derivXY,2);
 		}
 	}
 
@@ -142,9 +142,9 @@ public class HessianSobel {
 
 		if( border != null ) {
 			border.setImage(orig);
-			ConvolveJustBorder_General.convolve(kernelXX_F32, border , derivXX , 2);
-			ConvolveJustBorder_General.convolve(kernelYY_F32, border , derivYY , 2);
-			ConvolveJustBorder_General.convolve(kernelXY_F32, border , derivXY , 2);
+			ConvolveJustBorder_Padded.convolve(kernelXX_F32, border , derivXX , 2);
+			ConvolveJustBorder_Padded.convolve(kernelYY_F32, border , derivYY , 2);
+			ConvolveJustBorder_Padded.convolve(kernelXY_F32, border , derivXY , 2);
 		}
 	}
 }
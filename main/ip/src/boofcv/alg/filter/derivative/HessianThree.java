@@ -19,7 +19,7 @@
 package boofcv.alg.filter.derivative;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_Padded;
 import boofcv.alg.filter.derivative.impl.HessianThree_Standard;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
@@ -83,7 +83,7 @@ public class HessianThree {
 		if( border != null ) {
 			DerivativeHelperFunctions.processBorderHorizontal(orig, derivXX ,kernelXXYY_I32, border );
 			DerivativeHelperFunctions.processBorderVertical(orig, derivYY ,kernelXXYY_I32, border );
-			ConvolveJustBorder_General.convolve(kernelCross_I32, border,derivXY,2);
+			ConvolveJustBorder_Padded.convolve(kernelCross_I32, border,derivXY,2);
 		}
 	}
 
@@ -105,7 +105,7 @@ public class HessianThree {
 		if( border != null ) {
 			DerivativeHelperFunctions.processBorderHorizontal(orig, derivXX ,kernelXXYY_F32, border );
 			DerivativeHelperFunctions.processBorderVertical(orig, derivYY ,kernelXXYY_F32, border );
-			ConvolveJustBorder_General.convolve(kernelCross_F32,border,derivXY,2);
+			ConvolveJustBorder_Padded.convolve(kernelCross_F32,border,derivXY,2);
 		}
 	}
 }
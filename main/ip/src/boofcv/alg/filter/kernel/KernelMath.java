@@ -192,6 +192,52 @@ public class KernelMath {
 		return ret;
 	}
 
+	/**
+	 * Checks to see if the 2D kernel can be decomposed into a vertical and horizontal 1D kernel, i.e.
+	 * kernel(x,y) = vertical(y)*horizontal(x).  If it can then the two kernels are computed.
+	 *
+	 * @param kernel (Input) 2D kernel.  Not modified.
+	 * @param horizontal (Output) Horizontal kernel with the same width as the 2D kernel.  Modified.
+	 * @param vertical (Output) Vertical kernel with the same width as the 2D kernel.  Modified.
+	 * @param tol Tolerance relative to the largest element in the kernel
+	 * @return true if the kernel is separable
+	 */
+	public static boolean decomposeSeparable( Kernel2D_F32 kernel ,
+											  Kernel1D_F32 horizontal , Kernel1D_F32 vertical , float tol ) {
+		int w = kernel.width;
+		if( horizontal.width != w || vertical.width != w )
+			throw new IllegalArgumentException("The 1D kernels must have the same width as the 2D kernel");
+
+		// use the largest element as the pivot to reduce numerical error
+		int pivot = 0;
+		for( int i = 1; i < w*w; i++ ) {
+			if( Math.abs(kernel.data[i]) > Math.abs(kernel.data[pivot]) )
+				pivot = i;
+		}
+		float largest = kernel.data[pivot];
+		if( largest == 0 )
+			return false;
+
+		int pivotX = pivot % w;
+		int pivotY = pivot / w;
+
+		for( int i = 0; i < w; i++ ) {
+			horizontal.data[i] = kernel.get(i,pivotY);
+			vertical.data[i] = kernel.get(pivotX,i)/largest;
+		}
+		horizontal.offset = vertical.offset = kernel.getRadius();
+
+		float threshold = Math.abs(largest)*tol;
+		for( int y = 0; y < w; y++ ) {
+			for( int x = 0; x < w; x++ ) {
+				if( Math.abs(kernel.get(x,y) - vertical.data[y]*horizontal.data[x]) > threshold )
+					return false;
+			}
+		}
+
+		return true;
+	}
+
 	/**
 	 * Normalizes the array such that it sums up to one.
 	 *
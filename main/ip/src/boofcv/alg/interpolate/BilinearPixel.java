@@ -28,7 +28,7 @@ import boofcv.struct.image.ImageSingleBand;
  *
  * @author Peter Abeles
  */
-public abstract class BilinearPixel<T extends ImageSingleBand> implements InterpolatePixelS<T> {
+public abstract class BilinearPixel<T extends ImageSingleBand> implements InterpolatePixelBatchS<T> {
 
 	protected T orig;
 	protected int stride;
@@ -62,4 +62,18 @@ public abstract class BilinearPixel<T extends ImageSingleBand> implements Interp
 	public int getFastBorderY() {
 		return 1;
 	}
+
+	@Override
+	public void get(float x[], float y[], float values[], int length) {
+		for( int i = 0; i < length; i++ ) {
+			if( !isInFastBounds(x[i],y[i]) ) {
+				// at least one point is along the border, so the border needs to be checked for every point
+				for( int j = 0; j < length; j++ ) {
+					values[j] = get(x[j],y[j]);
+				}
+				return;
+			}
+		}
+		get_fast(x,y,values,length);
+	}
 }
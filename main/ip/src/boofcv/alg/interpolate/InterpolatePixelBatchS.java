@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.interpolate;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * Extension of {@link InterpolatePixelS} which interpolates a whole list of points with a single function call.
+ * Avoids calling the interface once per point and allows the inner loop to be optimized.
+ *
+ * @author Peter Abeles
+ */
+public interface InterpolatePixelBatchS<T extends ImageSingleBand> extends InterpolatePixelS<T> {
+
+	/**
+	 * Interpolates the pixel value at each point while taking in account the image border.  See
+	 * {@link #get(float, float)}.
+	 *
+	 * @param x Points' x-coordinates.  Not modified.
+	 * @param y Points' y-coordinates.  Not modified.
+	 * @param values Storage for the interpolated values.  Modified.
+	 * @param length Number of points to interpolate.
+	 */
+	public void get( float x[] , float y[] , float values[] , int length );
+
+	/**
+	 * Interpolates the pixel value at each point while assuming they are all inside the image far away
+	 * from the border.  For every point {@link #isInFastBounds} must return true.  See {@link #get_fast(float, float)}.
+	 *
+	 * @param x Points' x-coordinates.  Not modified.
+	 * @param y Points' y-coordinates.  Not modified.
+	 * @param values Storage for the interpolated values.  Modified.
+	 * @param length Number of points to interpolate.
+	 */
+	public void get_fast( float x[] , float y[] , float values[] , int length );
+}
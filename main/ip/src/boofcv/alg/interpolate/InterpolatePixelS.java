@@ -48,4 +48,13 @@ public interface InterpolatePixelS<T extends ImageSingleBand> extends Interpolat
 	 * @return Interpolated intensity value.
 	 */
 	public float get_fast(float x, float y);
+
+	/**
+	 * Creates a new instance of this interpolation algorithm with the same configuration.  The image
+	 * is not copied and must be specified using {@link #setImage}.  Useful when several threads
+	 * need to interpolate the same image at once.
+	 *
+	 * @return New instance with the same configuration.
+	 */
+	public InterpolatePixelS<T> copy();
 }
@@ -35,7 +35,7 @@ import boofcv.struct.image.ImageSingleBand;
  *
  * @author Peter Abeles
  */
-public abstract class PolynomialPixel<T extends ImageSingleBand> implements InterpolatePixelS<T> {
+public abstract class PolynomialPixel<T extends ImageSingleBand> implements InterpolatePixelBatchS<T> {
 	// the image that is being interpolated
 	protected T image;
 
@@ -99,4 +99,18 @@ public abstract class PolynomialPixel<T extends ImageSingleBand> implements Inte
 	public int getFastBorderY() {
 		return M;
 	}
+
+	@Override
+	public void get(float x[], float y[], float values[], int length) {
+		for( int i = 0; i < length; i++ ) {
+			if( !isInFastBounds(x[i],y[i]) ) {
+				// at least one point is along the border, so the border needs to be checked for every point
+				for( int j = 0; j < length; j++ ) {
+					values[j] = get(x[j],y[j]);
+				}
+				return;
+			}
+		}
+		get_fast(x,y,values,length);
+	}
 }
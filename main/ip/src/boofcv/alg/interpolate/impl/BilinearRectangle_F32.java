@@ -73,11 +73,6 @@ public class BilinearRectangle_F32 implements InterpolateRectangle<ImageFloat32>
 		float bx = 1.0f - ax;
 		float by = 1.0f - ay;
 
-		float a0 = bx * by;
-		float a1 = ax * by;
-		float a2 = ax * ay;
-		float a3 = bx * ay;
-
 		int regWidth = output.width;
 		int regHeight = output.height;
 		final float results[] = output.data;
@@ -98,25 +93,20 @@ public class BilinearRectangle_F32 implements InterpolateRectangle<ImageFloat32>
 			}
 		}
 
-		// perform the interpolation while reducing the number of times the image needs to be accessed
+		// perform the interpolation while reducing the number of times the image needs to be accessed.
+		// Each column is interpolated vertically once and then shared by the two pixels which use it
 		for (int i = 0; i < regHeight; i++) {
 			int index = orig.startIndex + (yt + i) * stride + xt;
 			int indexResults = output.startIndex + i*output.stride;
 
-			float XY = data[index];
-			float Xy = data[index + stride];
+			float left = by*(data[index]) + ay*(data[index + stride]);
 
 			int indexEnd = index + regWidth;
-			// for( int j = 0; j < regWidth; j++, index++ ) {
 			for (; index < indexEnd; index++) {
-				float xY = data[index + 1];
-				float xy = data[index + stride + 1];
-
-				float val = a0 * XY + a1 * xY + a2 * xy + a3 * Xy;
+				float right = by*(data[index + 1]) + ay*(data[index + stride + 1]);
 
-				results[indexResults++] = val;
-				XY = xY;
-				Xy = xy;
+				results[indexResults++] = bx*left + ax*right;
+				left = right;
 			}
 		}
 		
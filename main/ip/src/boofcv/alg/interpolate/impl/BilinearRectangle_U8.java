@@ -74,11 +74,6 @@ public class BilinearRectangle_U8 implements InterpolateRectangle<ImageUInt8> {
 		float bx = 1.0f - ax;
 		float by = 1.0f - ay;
 
-		float a0 = bx * by;
-		float a1 = ax * by;
-		float a2 = ax * ay;
-		float a3 = bx * ay;
-
 		int regWidth = output.width;
 		int regHeight = output.height;
 		final float results[] = output.data;
@@ -99,25 +94,20 @@ public class BilinearRectangle_U8 implements InterpolateRectangle<ImageUInt8> {
 			}
 		}
 
-		// perform the interpolation while reducing the number of times the image needs to be accessed
+		// perform the interpolation while reducing the number of times the image needs to be accessed.
+		// Each column is interpolated vertically once and then shared by the two pixels which use it
 		for (int i = 0; i < regHeight; i++) {
 			int index = orig.startIndex + (yt + i) * stride + xt;
 			int indexResults = output.startIndex + i*output.stride;
 
-			float XY = data[index]& 0xFF;
-			float Xy = data[index + stride]& 0xFF;
+			float left = by*(data[index] & 0xFF) + ay*(data[index + stride] & 0xFF);
 
 			int indexEnd = index + regWidth;
-			// for( int j = 0; j < regWidth; j++, index++ ) {
 			for (; index < indexEnd; index++) {
-				float xY = data[index + 1]& 0xFF;
-				float xy = data[index + stride + 1]& 0xFF;
-
-				float val = a0 * XY + a1 * xY + a2 * xy + a3 * Xy;
+				float right = by*(data[index + 1] & 0xFF) + ay*(data[index + stride + 1] & 0xFF);
 
-				results[indexResults++] = val;
-				XY = xY;
-				Xy = xy;
+				results[indexResults++] = bx*left + ax*right;
+				left = right;
 			}
 		}
 		
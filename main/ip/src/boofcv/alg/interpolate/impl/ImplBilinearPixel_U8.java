@@ -19,6 +19,7 @@
 package boofcv.alg.interpolate.impl;
 
 import boofcv.alg.interpolate.BilinearPixel;
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.struct.image.ImageUInt8;
 
 
@@ -60,6 +61,30 @@ public class ImplBilinearPixel_U8 extends BilinearPixel<ImageUInt8> {
 		return val;
 	}
 
+	@Override
+	public void get_fast(float x[], float y[], float values[], int length) {
+		final byte[] data = orig.data;
+
+		for( int i = 0; i < length; i++ ) {
+			float px = x[i];
+			float py = y[i];
+
+			int xt = (int) px;
+			int yt = (int) py;
+			float ax = px - xt;
+			float ay = py - yt;
+
+			int index = orig.startIndex + yt * stride + xt;
+
+			float val = (1.0f - ax) * (1.0f - ay) * (data[index] & 0xFF); // (x,y)
+			val += ax * (1.0f - ay) * (data[index + 1] & 0xFF); // (x+1,y)
+			val += ax * ay * (data[index + 1 + stride] & 0xFF); // (x+1,y+1)
+			val += (1.0f - ax) * ay * (data[index + stride] & 0xFF); // (x,y+1)
+
+			values[i] = val;
+		}
+	}
+
 	@Override
 	public float get(float x, float y) {
 		if (x < 0 || y < 0 || x > width-1 || y > height-1)
@@ -87,4 +112,8 @@ public class ImplBilinearPixel_U8 extends BilinearPixel<ImageUInt8> {
 		return val;
 	}
 
+	@Override
+	public InterpolatePixelS<ImageUInt8> copy() {
+		return new ImplBilinearPixel_U8();
+	}
 }
@@ -159,4 +159,8 @@ public class ImplInterpolatePixelConvolution_S16 implements InterpolatePixelS<Im
 		return kernel.getRadius();
 	}
 
+	@Override
+	public InterpolatePixelS<ImageSInt16> copy() {
+		return new ImplInterpolatePixelConvolution_S16(kernel,min,max);
+	}
 }
@@ -159,4 +159,8 @@ public class ImplInterpolatePixelConvolution_U8 implements InterpolatePixelS<Ima
 		return kernel.getRadius();
 	}
 
+	@Override
+	public InterpolatePixelS<ImageUInt8> copy() {
+		return new ImplInterpolatePixelConvolution_U8(kernel,min,max);
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.PolynomialPixel;
 import boofcv.struct.image.ImageFloat32;
 
@@ -108,4 +109,41 @@ public class ImplPolynomialPixel_F32 extends PolynomialPixel<ImageFloat32> {
 		return ret;
 	}
 
+	@Override
+	public void get_fast(float x[], float y[], float values[], int length) {
+		final float[] data = image.data;
+
+		for( int p = 0; p < length; p++ ) {
+			float px = x[p];
+			float py = y[p];
+
+			int x0 = (int) px - M/2 + offM;
+			int y0 = (int) py - M/2 + offM;
+
+			interp1D.setInput(horiz,horiz.length);
+			for( int i = 0; i < M; i++ ) {
+				int index = image.startIndex + (i+y0)*image.stride + x0;
+				for( int j = 0; j < M; j++ ) {
+					horiz[j] = data[index+j];
+				}
+				vert[i]=interp1D.process(px-x0,0,M-1);
+			}
+			interp1D.setInput(vert,vert.length);
+
+			float ret = interp1D.process(py-y0,0,M-1);
+
+			// because it is fitting polynomials it can go above or below max or min values.
+			if( ret > max ) {
+				ret = max;
+			} else if( ret < min ) {
+				ret = min;
+			}
+			values[p] = ret;
+		}
+	}
+
+	@Override
+	public InterpolatePixelS<ImageFloat32> copy() {
+		return new ImplPolynomialPixel_F32(M,min,max);
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.PolynomialPixel;
 import boofcv.struct.image.ImageInteger;
 
@@ -108,4 +109,38 @@ public class ImplPolynomialPixel_I extends PolynomialPixel<ImageInteger> {
 		return ret;
 	}
 
+	@Override
+	public void get_fast(float x[], float y[], float values[], int length) {
+		for( int p = 0; p < length; p++ ) {
+			float px = x[p];
+			float py = y[p];
+
+			int x0 = (int) px - M/2 + offM;
+			int y0 = (int) py - M/2 + offM;
+
+			interp1D.setInput(horiz,horiz.length);
+			for( int i = 0; i < M; i++ ) {
+				for( int j = 0; j < M; j++ ) {
+					horiz[j] = image.get(j+x0,i+y0);
+				}
+				vert[i]=interp1D.process(px-x0,0,M-1);
+			}
+			interp1D.setInput(vert,vert.length);
+
+			float ret = interp1D.process(py-y0,0,M-1);
+
+			// because it is fitting polynomials it can go above or below max or min values.
+			if( ret > max ) {
+				ret = max;
+			} else if( ret < min ) {
+				ret = min;
+			}
+			values[p] = ret;
+		}
+	}
+
+	@Override
+	public InterpolatePixelS<ImageInteger> copy() {
+		return new ImplPolynomialPixel_I(M,min,max);
+	}
 }
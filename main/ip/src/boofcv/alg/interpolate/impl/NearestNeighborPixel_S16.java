@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixel;
 import boofcv.struct.image.ImageSInt16;
 
@@ -62,4 +63,8 @@ public class NearestNeighborPixel_S16 extends NearestNeighborPixel<ImageSInt16>
 		return data[ orig.startIndex + yy*stride + xx];
 	}
 
+	@Override
+	public InterpolatePixelS<ImageSInt16> copy() {
+		return new NearestNeighborPixel_S16();
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixel;
 import boofcv.struct.image.ImageUInt16;
 
@@ -62,4 +63,8 @@ public class NearestNeighborPixel_U16 extends NearestNeighborPixel<ImageUInt16>
 		return data[ orig.startIndex + yy*stride + xx] & 0xFFFF;
 	}
 
+	@Override
+	public InterpolatePixelS<ImageUInt16> copy() {
+		return new NearestNeighborPixel_U16();
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.interpolate.NearestNeighborPixel;
 import boofcv.struct.image.ImageUInt8;
 
@@ -62,4 +63,9 @@ public class NearestNeighborPixel_U8 extends NearestNeighborPixel<ImageUInt8> {
 
 		return data[ orig.startIndex + yy*stride + xx] & 0xFF;
 	}
+
+	@Override
+	public InterpolatePixelS<ImageUInt8> copy() {
+		return new NearestNeighborPixel_U8();
+	}
 }
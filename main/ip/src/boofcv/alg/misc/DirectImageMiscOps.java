@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.struct.image.*;
+
+import java.util.Random;
+
+/**
+ * Counterparts to functions in {@link ImageMiscOps} for {@link DirectImageBase direct images}.  Pixels are accessed
+ * using absolute get and put calls on the buffer.
+ *
+ * @author Peter Abeles
+ */
+public class DirectImageMiscOps {
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static <T extends DirectImageBase<T,?>>
+	void copy( int srcX , int srcY , int dstX , int dstY , int width , int height , T input , T output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		T src = input.subimage(srcX,srcY,srcX+width,srcY+height,null);
+		T dst = output.subimage(dstX,dstY,dstX+width,dstY+height,null);
+		dst.setTo(src);
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( DirectImageUInt8 input , int value ) {
+		fillRectangle(input, value, 0, 0, input.width, input.height);
+	}
+
+	/**
+	 * Draws a filled rectangle that is aligned along the image axis inside the image.
+	 *
+	 * @param img Image the rectangle is drawn in.  Modified
+	 * @param value Value of the rectangle
+	 * @param x0 Top left x-coordinate
+	 * @param y0 Top left y-coordinate
+	 * @param width Rectangle width
+	 * @param height Rectangle height
+	 */
+	public static void fillRectangle( DirectImageUInt8 img , int value , int x0 , int y0 , int width , int height ) {
+		int x1 = x0 + width;
+		int y1 = y0 + height;
+
+		if( x0 < 0 ) x0 = 0; if( x1 > img.width ) x1 = img.width;
+		if( y0 < 0 ) y0 = 0; if( y1 > img.height ) y1 = img.height;
+
+		for (int y = y0; y < y1; y++) {
+			int index = img.getIndex(x0, y);
+			int end = index + x1 - x0;
+			for (; index < end; index++ ) {
+				img.data.put(index, (byte) value);
+			}
+		}
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( DirectImageUInt16 input , int value ) {
+		fillRectangle(input, value, 0, 0, input.width, input.height);
+	}
+
+	/**
+	 * Draws a filled rectangle that is aligned along the image axis inside the image.
+	 *
+	 * @param img Image the rectangle is drawn in.  Modified
+	 * @param value Value of the rectangle
+	 * @param x0 Top left x-coordinate
+	 * @param y0 Top left y-coordinate
+	 * @param width Rectangle width
+	 * @param height Rectangle height
+	 */
+	public static void fillRectangle( DirectImageUInt16 img , int value , int x0 , int y0 , int width , int height ) {
+		int x1 = x0 + width;
+		int y1 = y0 + height;
+
+		if( x0 < 0 ) x0 = 0; if( x1 > img.width ) x1 = img.width;
+		if( y0 < 0 ) y0 = 0; if( y1 > img.height ) y1 = img.height;
+
+		for (int y = y0; y < y1; y++) {
+			int index = img.getIndex(x0, y);
+			int end = index + x1 - x0;
+			for (; index < end; index++ ) {
+				img.data.putShort(index*2, (short) value);
+			}
+		}
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( DirectImageFloat32 input , float value ) {
+		fillRectangle(input, value, 0, 0, input.width, input.height);
+	}
+
+	/**
+	 * Draws a filled rectangle that is aligned along the image axis inside the image.
+	 *
+	 * @param img Image the rectangle is drawn in.  Modified
+	 * @param value Value of the rectangle
+	 * @param x0 Top left x-coordinate
+	 * @param y0 Top left y-coordinate
+	 * @param width Rectangle width
+	 * @param height Rectangle height
+	 */
+	public static void fillRectangle( DirectImageFloat32 img , float value , int x0 , int y0 , int width , int height ) {
+		int x1 = x0 + width;
+		int y1 = y0 + height;
+
+		if( x0 < 0 ) x0 = 0; if( x1 > img.width ) x1 = img.width;
+		if( y0 < 0 ) y0 = 0; if( y1 > img.height ) y1 = img.height;
+
+		for (int y = y0; y < y1; y++) {
+			int index = img.getIndex(x0, y);
+			int end = index + x1 - x0;
+			for (; index < end; index++ ) {
+				img.data.putFloat(index*4, value);
+			}
+		}
+	}
+
+	/**
+	 * Sets each value in the image to a value drawn from an uniform distribution that has a range of min &le; X &lt; max.
+	 *
+	 * @param img Image which is to be filled.  Modified,
+	 * @param rand Random number generator
+	 * @param min Minimum value of the distribution, inclusive
+	 * @param max Maximum value of the distribution, exclusive
+	 */
+	public static void fillUniform( DirectImageUInt8 img , Random rand , int min , int max ) {
+		int range = max-min;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.getIndex(0, y);
+			for (int x = 0; x < img.width; x++, index++) {
+				img.data.put(index, (byte)(rand.nextInt(range)+min));
+			}
+		}
+	}
+
+	/**
+	 * Sets each value in the image to a value drawn from an uniform distribution that has a range of min &le; X &lt; max.
+	 *
+	 * @param img Image which is to be filled.  Modified,
+	 * @param rand Random number generator
+	 * @param min Minimum value of the distribution, inclusive
+	 * @param max Maximum value of the distribution, inclusive
+	 */
+	public static void fillUniform( DirectImageFloat32 img , Random rand , float min , float max ) {
+		float range = max-min;
+
+		for (int y = 0; y < img.height; y++) {
+			int index = img.getIndex(0, y);
+			for (int x = 0; x < img.width; x++, index++) {
+				img.data.putFloat(index*4, (float)(rand.nextDouble()*range+min));
+			}
+		}
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( DirectInterleavedU8 input , int value ) {
+		for (int y = 0; y < input.height; y++) {
+			int index = input.getIndex(0, y);
+			int end = index + input.width*input.numBands;
+			for (; index < end; index++ ) {
+				input.data.put(index, (byte) value);
+			}
+		}
+	}
+
+	/**
+	 * Fills one band in the image with the specified value
+	 *
+	 * @param input An image.
+	 * @param band Which band is to be filled with the specified value
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fillBand( DirectInterleavedU8 input , int band , int value ) {
+		final int numBands = input.numBands;
+		for (int y = 0; y < input.height; y++) {
+			int index = input.getIndex(0, y) + band;
+			int end = index + input.width*numBands;
+			for (; index < end; index += numBands ) {
+				input.data.put(index, (byte) value);
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
  *
  * This file is part of BoofCV (http://boofcv.org).
  *
@@ -17,11 +17,11 @@
  */
 package boofcv.alg.misc;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 import java.util.Random;
 
-
 /**
  * Basic image operations which have no place better to go.
  *
@@ -44,21 +44,24 @@ public class ImageMiscOps {
 	 * @param input Input image
 	 * @param output output image
 	 */
-	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height ,
-							 ImageInt8 input , ImageInt8 output ) {
+	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height , ImageInt8 input ,
+							ImageInt8 output ) {
 
 		if( input.width < srcX+width || input.height < srcY+height )
 			throw new IllegalArgumentException("Copy region must be contained input image");
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX,srcY,dstX,dstY,width,height,input,output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
 
-			for (int x = 0; x < width; x++) {
-				output.data[indexDst++] = input.data[indexSrc++];
-			}
+			System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
 		}
 	}
 
@@ -68,12 +71,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(ImageInt8 input, int value) {
+	public static void fill( ImageInt8 input , int value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			for (int x = 0; x < input.width; x++) {
-				input.data[index++] = (byte)value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = (byte)value;
 			}
 		}
 	}
@@ -84,13 +101,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(InterleavedI8 input, int value) {
+	public static void fill( InterleavedI8 input , int value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			int end = index + input.width*input.numBands;
-			for (; index < end; index++ ) {
-				input.data[index] = (byte)value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width*input.numBands;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = (byte)value;
 			}
 		}
 	}
@@ -274,21 +304,24 @@ public class ImageMiscOps {
 	 * @param input Input image
 	 * @param output output image
 	 */
-	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height ,
-							 ImageInt16 input , ImageInt16 output ) {
+	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height , ImageInt16 input ,
+							ImageInt16 output ) {
 
 		if( input.width < srcX+width || input.height < srcY+height )
 			throw new IllegalArgumentException("Copy region must be contained input image");
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX,srcY,dstX,dstY,width,height,input,output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
 
-			for (int x = 0; x < width; x++) {
-				output.data[indexDst++] = input.data[indexSrc++];
-			}
+			System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
 		}
 	}
 
@@ -298,12 +331,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(ImageInt16 input, int value) {
+	public static void fill( ImageInt16 input , int value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			for (int x = 0; x < input.width; x++) {
-				input.data[index++] = (short)value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = (short)value;
 			}
 		}
 	}
@@ -314,13 +361,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(InterleavedI16 input, int value) {
+	public static void fill( InterleavedI16 input , int value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			int end = index + input.width*input.numBands;
-			for (; index < end; index++ ) {
-				input.data[index] = (short)value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width*input.numBands;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = (short)value;
 			}
 		}
 	}
@@ -504,21 +564,24 @@ public class ImageMiscOps {
 	 * @param input Input image
 	 * @param output output image
 	 */
-	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height ,
-							 ImageSInt32 input , ImageSInt32 output ) {
+	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height , ImageSInt32 input ,
+							ImageSInt32 output ) {
 
 		if( input.width < srcX+width || input.height < srcY+height )
 			throw new IllegalArgumentException("Copy region must be contained input image");
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX,srcY,dstX,dstY,width,height,input,output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
 
-			for (int x = 0; x < width; x++) {
-				output.data[indexDst++] = input.data[indexSrc++];
-			}
+			System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
 		}
 	}
 
@@ -528,12 +591,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(ImageSInt32 input, int value) {
+	public static void fill( ImageSInt32 input , int value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			for (int x = 0; x < input.width; x++) {
-				input.data[index++] = value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = value;
 			}
 		}
 	}
@@ -544,13 +621,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(InterleavedS32 input, int value) {
+	public static void fill( InterleavedS32 input , int value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			int end = index + input.width*input.numBands;
-			for (; index < end; index++ ) {
-				input.data[index] = value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width*input.numBands;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = value;
 			}
 		}
 	}
@@ -734,21 +824,24 @@ public class ImageMiscOps {
 	 * @param input Input image
 	 * @param output output image
 	 */
-	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height ,
-							 ImageSInt64 input , ImageSInt64 output ) {
+	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height , ImageSInt64 input ,
+							ImageSInt64 output ) {
 
 		if( input.width < srcX+width || input.height < srcY+height )
 			throw new IllegalArgumentException("Copy region must be contained input image");
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX,srcY,dstX,dstY,width,height,input,output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
 
-			for (int x = 0; x < width; x++) {
-				output.data[indexDst++] = input.data[indexSrc++];
-			}
+			System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
 		}
 	}
 
@@ -758,12 +851,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(ImageSInt64 input, long value) {
+	public static void fill( ImageSInt64 input , long value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			for (int x = 0; x < input.width; x++) {
-				input.data[index++] = value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = value;
 			}
 		}
 	}
@@ -774,13 +881,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(InterleavedS64 input, long value) {
+	public static void fill( InterleavedS64 input , long value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			int end = index + input.width*input.numBands;
-			for (; index < end; index++ ) {
-				input.data[index] = value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width*input.numBands;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = value;
 			}
 		}
 	}
@@ -964,21 +1084,24 @@ public class ImageMiscOps {
 	 * @param input Input image
 	 * @param output output image
 	 */
-	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height ,
-							 ImageFloat32 input , ImageFloat32 output ) {
+	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height , ImageFloat32 input ,
+							ImageFloat32 output ) {
 
 		if( input.width < srcX+width || input.height < srcY+height )
 			throw new IllegalArgumentException("Copy region must be contained input image");
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX,srcY,dstX,dstY,width,height,input,output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
 
-			for (int x = 0; x < width; x++) {
-				output.data[indexDst++] = input.data[indexSrc++];
-			}
+			System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
 		}
 	}
 
@@ -988,12 +1111,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(ImageFloat32 input, float value) {
+	public static void fill( ImageFloat32 input , float value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			for (int x = 0; x < input.width; x++) {
-				input.data[index++] = value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = value;
 			}
 		}
 	}
@@ -1004,13 +1141,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(InterleavedF32 input, float value) {
+	public static void fill( InterleavedF32 input , float value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			int end = index + input.width*input.numBands;
-			for (; index < end; index++ ) {
-				input.data[index] = value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width*input.numBands;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = value;
 			}
 		}
 	}
@@ -1194,21 +1344,24 @@ public class ImageMiscOps {
 	 * @param input Input image
 	 * @param output output image
 	 */
-	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height ,
-							 ImageFloat64 input , ImageFloat64 output ) {
+	public static void copy( int srcX , int srcY , int dstX , int dstY , int width , int height , ImageFloat64 input ,
+							ImageFloat64 output ) {
 
 		if( input.width < srcX+width || input.height < srcY+height )
 			throw new IllegalArgumentException("Copy region must be contained input image");
 		if( output.width < dstX+width || output.height < dstY+height )
 			throw new IllegalArgumentException("Copy region must be contained output image");
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.copy(srcX,srcY,dstX,dstY,width,height,input,output);
+			return;
+		}
+
 		for (int y = 0; y < height; y++) {
 			int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
 			int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
 
-			for (int x = 0; x < width; x++) {
-				output.data[indexDst++] = input.data[indexSrc++];
-			}
+			System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
 		}
 	}
 
@@ -1218,12 +1371,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(ImageFloat64 input, double value) {
+	public static void fill( ImageFloat64 input , double value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			for (int x = 0; x < input.width; x++) {
-				input.data[index++] = value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = value;
 			}
 		}
 	}
@@ -1234,13 +1401,26 @@ public class ImageMiscOps {
 	 * @param input An image.
 	 * @param value The value that the image is being filled with.
 	 */
-	public static void fill(InterleavedF64 input, double value) {
+	public static void fill( InterleavedF64 input , double value ) {
 
-		for (int y = 0; y < input.height; y++) {
-			int index = input.getStartIndex() + y * input.getStride();
-			int end = index + input.width*input.numBands;
-			for (; index < end; index++ ) {
-				input.data[index] = value;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageMiscOps_MT.fill(input,value);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width*input.numBands;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = input.startIndex + y*input.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				input.data[index+i] = value;
 			}
 		}
 	}
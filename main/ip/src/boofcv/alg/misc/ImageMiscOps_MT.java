@@ -0,0 +1,601 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementations of functions in {@link ImageMiscOps}. Images are split into blocks of
+ * rows which are processed in parallel using {@link BoofConcurrency}. Call the functions in
+ * {@link ImageMiscOps} instead of using this class directly.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GenerateImageMiscOps}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageMiscOps_MT {
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width ,
+							final int height , final ImageInt8 input , final ImageInt8 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageInt8 input , final int value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedI8 input , final int value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width*input.numBands;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width ,
+							final int height , final ImageInt16 input , final ImageInt16 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageInt16 input , final int value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedI16 input , final int value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width*input.numBands;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width ,
+							final int height , final ImageSInt32 input , final ImageSInt32 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageSInt32 input , final int value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedS32 input , final int value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width*input.numBands;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width ,
+							final int height , final ImageSInt64 input , final ImageSInt64 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageSInt64 input , final long value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedS64 input , final long value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width*input.numBands;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width ,
+							final int height , final ImageFloat32 input , final ImageFloat32 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageFloat32 input , final float value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedF32 input , final float value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width*input.numBands;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Copies a rectangular region from one image into another.<br>
+	 * output[dstX:(dstX+width) , dstY:(dstY+height-1)] = input[srcX:(srcX+width) , srcY:(srcY+height-1)]
+	 *
+	 * @param srcX x-coordinate of corner in input image
+	 * @param srcY y-coordinate of corner in input image
+	 * @param dstX x-coordinate of corner in output image
+	 * @param dstY y-coordinate of corner in output image
+	 * @param width Width of region to be copied
+	 * @param height Height of region to be copied
+	 * @param input Input image
+	 * @param output output image
+	 */
+	public static void copy( final int srcX , final int srcY , final int dstX , final int dstY , final int width ,
+							final int height , final ImageFloat64 input , final ImageFloat64 output ) {
+
+		if( input.width < srcX+width || input.height < srcY+height )
+			throw new IllegalArgumentException("Copy region must be contained input image");
+		if( output.width < dstX+width || output.height < dstY+height )
+			throw new IllegalArgumentException("Copy region must be contained output image");
+
+		BoofConcurrency.loopBlocks(0,height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for (int y = y0; y < y1; y++) {
+					int indexSrc = input.startIndex + (srcY + y) * input.stride + srcX;
+					int indexDst = output.startIndex + (dstY + y) * output.stride + dstX;
+
+					System.arraycopy(input.data,indexSrc,output.data,indexDst,width);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final ImageFloat64 input , final double value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fills the whole image with the specified value
+	 *
+	 * @param input An image.
+	 * @param value The value that the image is being filled with.
+	 */
+	public static void fill( final InterleavedF64 input , final double value ) {
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width*input.numBands;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						input.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+}
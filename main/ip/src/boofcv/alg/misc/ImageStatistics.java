@@ -15,15 +15,21 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package boofcv.alg.misc;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
  * Computes statistical properties of pixels inside an image.
  *
- * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GenerateImageStatistics}</p>.
+ * <p>
+ * When {@link BoofConcurrency#USE_CONCURRENT} is true, floating point sums are computed for each block
+ * of rows and then added together. The result can differ from the single threaded result
+ * by round off error.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GenerateImageStatistics}.</p>
  *
  * @author Peter Abeles
  */
@@ -37,14 +43,25 @@ public class ImageStatistics {
 	 */
 	public static int min( ImageUInt8 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
+
 		int min = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] & 0xFF;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] & 0xFF;
 				if( v < min )
 					min = v;
 			}
@@ -60,14 +77,25 @@ public class ImageStatistics {
 	 */
 	public static int max( ImageUInt8 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
+
 		int max = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] & 0xFF;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] & 0xFF;
 				if( v > max )
 					max = v;
 			}
@@ -83,14 +111,25 @@ public class ImageStatistics {
 	 */
 	public static int maxAbs( ImageUInt8 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
+
 		int max = 0;
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index]& 0xFF;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i]& 0xFF;
 				if( v > max )
 					max = v;
 			}
@@ -107,21 +146,28 @@ public class ImageStatistics {
 	 */
 	public static int sum( ImageUInt8 img ) {
 
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		int total = 0;
-		
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] & 0xFF;
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				total += img.data[index+i] & 0xFF;
 			}
 		}
-		
+
 		return total;
 	}
 
@@ -144,15 +190,25 @@ public class ImageStatistics {
 	 */
 	public static double variance( ImageUInt8 img , double mean ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
+
 		double variance = 0;
 
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
 
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]& 0xFF) - mean; 
+			for( int i = 0; i < columns; i++ ) {
+				double d = (img.data[index+i]& 0xFF) - mean;
 				variance += d*d;
 			}
 		}
@@ -167,14 +223,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffSq(ImageUInt8 imgA, ImageUInt8 imgB ) {
+	public static double meanDiffSq( ImageUInt8 imgA , ImageUInt8 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA]& 0xFF)-(imgB.data[indexB]& 0xFF);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i]& 0xFF)-(imgB.data[indexB+i]& 0xFF);
 				total += difference*difference;
 			}
 		}
@@ -189,14 +259,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffAbs(ImageUInt8 imgA, ImageUInt8 imgB ) {
+	public static double meanDiffAbs( ImageUInt8 imgA , ImageUInt8 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA]& 0xFF)-(imgB.data[indexB]& 0xFF);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i]& 0xFF)-(imgB.data[indexB+i]& 0xFF);
 				total += Math.abs(difference);
 			}
 		}
@@ -211,15 +295,28 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( ImageUInt8 input , int histogram[] ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
-		
-		for( int y = 0; y < input.height; y++ ) {
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				histogram[input.data[index]& 0xFF]++;
+			for( int i = 0; i < columns; i++ ) {
+				histogram[input.data[index+i]& 0xFF]++;
 			}
 		}
 	}
@@ -232,14 +329,25 @@ public class ImageStatistics {
 	 */
 	public static int min( ImageSInt8 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
+
 		int min = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] ;
 				if( v < min )
 					min = v;
 			}
@@ -255,14 +363,25 @@ public class ImageStatistics {
 	 */
 	public static int max( ImageSInt8 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
+
 		int max = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] ;
 				if( v > max )
 					max = v;
 			}
@@ -278,14 +397,25 @@ public class ImageStatistics {
 	 */
 	public static int maxAbs( ImageSInt8 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
+
 		int max = 0;
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = Math.abs(input.data[index]);
+			for( int i = 0; i < columns; i++ ) {
+				int v = Math.abs(input.data[index+i]);
 				if( v > max )
 					max = v;
 			}
@@ -302,21 +432,28 @@ public class ImageStatistics {
 	 */
 	public static int sum( ImageSInt8 img ) {
 
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		int total = 0;
-		
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				total += img.data[index+i] ;
 			}
 		}
-		
+
 		return total;
 	}
 
@@ -339,15 +476,25 @@ public class ImageStatistics {
 	 */
 	public static double variance( ImageSInt8 img , double mean ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
+
 		double variance = 0;
 
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
 
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
+			for( int i = 0; i < columns; i++ ) {
+				double d = (img.data[index+i]) - mean;
 				variance += d*d;
 			}
 		}
@@ -362,14 +509,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffSq(ImageSInt8 imgA, ImageSInt8 imgB ) {
+	public static double meanDiffSq( ImageSInt8 imgA , ImageSInt8 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += difference*difference;
 			}
 		}
@@ -384,14 +545,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffAbs(ImageSInt8 imgA, ImageSInt8 imgB ) {
+	public static double meanDiffAbs( ImageSInt8 imgA , ImageSInt8 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += Math.abs(difference);
 			}
 		}
@@ -407,16 +582,28 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( ImageSInt8 input , int minValue , int histogram[] ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
-		
-		for( int y = 0; y < input.height; y++ ) {
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				// floor value. just convert to int rounds towards zero
-				histogram[input.data[index] - minValue ]++;
+			for( int i = 0; i < columns; i++ ) {
+				histogram[input.data[index+i] - minValue]++;
 			}
 		}
 	}
@@ -429,14 +616,25 @@ public class ImageStatistics {
 	 */
 	public static int min( ImageUInt16 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
+
 		int min = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] & 0xFFFF;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] & 0xFFFF;
 				if( v < min )
 					min = v;
 			}
@@ -452,14 +650,25 @@ public class ImageStatistics {
 	 */
 	public static int max( ImageUInt16 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
+
 		int max = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] & 0xFFFF;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] & 0xFFFF;
 				if( v > max )
 					max = v;
 			}
@@ -475,14 +684,25 @@ public class ImageStatistics {
 	 */
 	public static int maxAbs( ImageUInt16 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
+
 		int max = 0;
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index]& 0xFFFF;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i]& 0xFFFF;
 				if( v > max )
 					max = v;
 			}
@@ -499,21 +719,28 @@ public class ImageStatistics {
 	 */
 	public static int sum( ImageUInt16 img ) {
 
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		int total = 0;
-		
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] & 0xFFFF;
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				total += img.data[index+i] & 0xFFFF;
 			}
 		}
-		
+
 		return total;
 	}
 
@@ -536,15 +763,25 @@ public class ImageStatistics {
 	 */
 	public static double variance( ImageUInt16 img , double mean ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
+
 		double variance = 0;
 
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
 
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]& 0xFFFF) - mean; 
+			for( int i = 0; i < columns; i++ ) {
+				double d = (img.data[index+i]& 0xFFFF) - mean;
 				variance += d*d;
 			}
 		}
@@ -559,14 +796,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffSq(ImageUInt16 imgA, ImageUInt16 imgB ) {
+	public static double meanDiffSq( ImageUInt16 imgA , ImageUInt16 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA]& 0xFFFF)-(imgB.data[indexB]& 0xFFFF);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i]& 0xFFFF)-(imgB.data[indexB+i]& 0xFFFF);
 				total += difference*difference;
 			}
 		}
@@ -581,14 +832,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffAbs(ImageUInt16 imgA, ImageUInt16 imgB ) {
+	public static double meanDiffAbs( ImageUInt16 imgA , ImageUInt16 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA]& 0xFFFF)-(imgB.data[indexB]& 0xFFFF);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i]& 0xFFFF)-(imgB.data[indexB+i]& 0xFFFF);
 				total += Math.abs(difference);
 			}
 		}
@@ -603,15 +868,28 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( ImageUInt16 input , int histogram[] ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
-		
-		for( int y = 0; y < input.height; y++ ) {
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				histogram[input.data[index]& 0xFFFF]++;
+			for( int i = 0; i < columns; i++ ) {
+				histogram[input.data[index+i]& 0xFFFF]++;
 			}
 		}
 	}
@@ -624,14 +902,25 @@ public class ImageStatistics {
 	 */
 	public static int min( ImageSInt16 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
+
 		int min = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] ;
 				if( v < min )
 					min = v;
 			}
@@ -647,14 +936,25 @@ public class ImageStatistics {
 	 */
 	public static int max( ImageSInt16 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
+
 		int max = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] ;
 				if( v > max )
 					max = v;
 			}
@@ -670,14 +970,25 @@ public class ImageStatistics {
 	 */
 	public static int maxAbs( ImageSInt16 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
+
 		int max = 0;
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = Math.abs(input.data[index]);
+			for( int i = 0; i < columns; i++ ) {
+				int v = Math.abs(input.data[index+i]);
 				if( v > max )
 					max = v;
 			}
@@ -694,21 +1005,28 @@ public class ImageStatistics {
 	 */
 	public static int sum( ImageSInt16 img ) {
 
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		int total = 0;
-		
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				total += img.data[index+i] ;
 			}
 		}
-		
+
 		return total;
 	}
 
@@ -731,15 +1049,25 @@ public class ImageStatistics {
 	 */
 	public static double variance( ImageSInt16 img , double mean ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
+
 		double variance = 0;
 
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
 
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
+			for( int i = 0; i < columns; i++ ) {
+				double d = (img.data[index+i]) - mean;
 				variance += d*d;
 			}
 		}
@@ -754,14 +1082,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffSq(ImageSInt16 imgA, ImageSInt16 imgB ) {
+	public static double meanDiffSq( ImageSInt16 imgA , ImageSInt16 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += difference*difference;
 			}
 		}
@@ -776,14 +1118,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffAbs(ImageSInt16 imgA, ImageSInt16 imgB ) {
+	public static double meanDiffAbs( ImageSInt16 imgA , ImageSInt16 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += Math.abs(difference);
 			}
 		}
@@ -799,16 +1155,28 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( ImageSInt16 input , int minValue , int histogram[] ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
-		
-		for( int y = 0; y < input.height; y++ ) {
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				// floor value. just convert to int rounds towards zero
-				histogram[input.data[index] - minValue ]++;
+			for( int i = 0; i < columns; i++ ) {
+				histogram[input.data[index+i] - minValue]++;
 			}
 		}
 	}
@@ -821,14 +1189,25 @@ public class ImageStatistics {
 	 */
 	public static int min( ImageSInt32 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
+
 		int min = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] ;
 				if( v < min )
 					min = v;
 			}
@@ -844,14 +1223,25 @@ public class ImageStatistics {
 	 */
 	public static int max( ImageSInt32 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
+
 		int max = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				int v = input.data[index+i] ;
 				if( v > max )
 					max = v;
 			}
@@ -867,14 +1257,25 @@ public class ImageStatistics {
 	 */
 	public static int maxAbs( ImageSInt32 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
+
 		int max = 0;
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				int v = Math.abs(input.data[index]);
+			for( int i = 0; i < columns; i++ ) {
+				int v = Math.abs(input.data[index+i]);
 				if( v > max )
 					max = v;
 			}
@@ -891,21 +1292,28 @@ public class ImageStatistics {
 	 */
 	public static int sum( ImageSInt32 img ) {
 
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		int total = 0;
-		
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				total += img.data[index+i] ;
 			}
 		}
-		
+
 		return total;
 	}
 
@@ -928,15 +1336,25 @@ public class ImageStatistics {
 	 */
 	public static double variance( ImageSInt32 img , double mean ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
+
 		double variance = 0;
 
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
 
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
+			for( int i = 0; i < columns; i++ ) {
+				double d = (img.data[index+i]) - mean;
 				variance += d*d;
 			}
 		}
@@ -951,14 +1369,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffSq(ImageSInt32 imgA, ImageSInt32 imgB ) {
+	public static double meanDiffSq( ImageSInt32 imgA , ImageSInt32 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
+
 		long total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += difference*difference;
 			}
 		}
@@ -973,14 +1405,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffAbs(ImageSInt32 imgA, ImageSInt32 imgB ) {
+	public static double meanDiffAbs( ImageSInt32 imgA , ImageSInt32 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
+
 		int total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += Math.abs(difference);
 			}
 		}
@@ -996,16 +1442,28 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( ImageSInt32 input , int minValue , int histogram[] ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
-		
-		for( int y = 0; y < input.height; y++ ) {
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				// floor value. just convert to int rounds towards zero
-				histogram[input.data[index] - minValue ]++;
+			for( int i = 0; i < columns; i++ ) {
+				histogram[input.data[index+i] - minValue]++;
 			}
 		}
 	}
@@ -1018,14 +1476,25 @@ public class ImageStatistics {
 	 */
 	public static long min( ImageSInt64 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
+
 		long min = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				long v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				long v = input.data[index+i] ;
 				if( v < min )
 					min = v;
 			}
@@ -1041,14 +1510,25 @@ public class ImageStatistics {
 	 */
 	public static long max( ImageSInt64 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
+
 		long max = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				long v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				long v = input.data[index+i] ;
 				if( v > max )
 					max = v;
 			}
@@ -1064,14 +1544,25 @@ public class ImageStatistics {
 	 */
 	public static long maxAbs( ImageSInt64 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
+
 		long max = 0;
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				long v = Math.abs(input.data[index]);
+			for( int i = 0; i < columns; i++ ) {
+				long v = Math.abs(input.data[index+i]);
 				if( v > max )
 					max = v;
 			}
@@ -1088,21 +1579,28 @@ public class ImageStatistics {
 	 */
 	public static long sum( ImageSInt64 img ) {
 
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		long total = 0;
-		
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				total += img.data[index+i] ;
 			}
 		}
-		
+
 		return total;
 	}
 
@@ -1125,15 +1623,25 @@ public class ImageStatistics {
 	 */
 	public static double variance( ImageSInt64 img , double mean ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
+
 		double variance = 0;
 
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
 
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
+			for( int i = 0; i < columns; i++ ) {
+				double d = (img.data[index+i]) - mean;
 				variance += d*d;
 			}
 		}
@@ -1148,14 +1656,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffSq(ImageSInt64 imgA, ImageSInt64 imgB ) {
+	public static double meanDiffSq( ImageSInt64 imgA , ImageSInt64 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
+
 		long total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				long difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				long difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += difference*difference;
 			}
 		}
@@ -1170,14 +1692,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffAbs(ImageSInt64 imgA, ImageSInt64 imgB ) {
+	public static double meanDiffAbs( ImageSInt64 imgA , ImageSInt64 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
+
 		long total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				long difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				long difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += Math.abs(difference);
 			}
 		}
@@ -1193,16 +1729,28 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( ImageSInt64 input , int minValue , int histogram[] ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
-		
-		for( int y = 0; y < input.height; y++ ) {
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				// floor value. just convert to int rounds towards zero
-				histogram[(int)input.data[index] - minValue]++;
+			for( int i = 0; i < columns; i++ ) {
+				histogram[(int)input.data[index+i] - minValue]++;
 			}
 		}
 	}
@@ -1215,14 +1763,25 @@ public class ImageStatistics {
 	 */
 	public static float min( ImageFloat32 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
+
 		float min = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				float v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				float v = input.data[index+i] ;
 				if( v < min )
 					min = v;
 			}
@@ -1238,14 +1797,25 @@ public class ImageStatistics {
 	 */
 	public static float max( ImageFloat32 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
+
 		float max = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				float v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				float v = input.data[index+i] ;
 				if( v > max )
 					max = v;
 			}
@@ -1261,14 +1831,25 @@ public class ImageStatistics {
 	 */
 	public static float maxAbs( ImageFloat32 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
+
 		float max = 0;
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				float v = Math.abs(input.data[index]);
+			for( int i = 0; i < columns; i++ ) {
+				float v = Math.abs(input.data[index+i]);
 				if( v > max )
 					max = v;
 			}
@@ -1285,21 +1866,28 @@ public class ImageStatistics {
 	 */
 	public static float sum( ImageFloat32 img ) {
 
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		float total = 0;
-		
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				total += img.data[index+i] ;
 			}
 		}
-		
+
 		return total;
 	}
 
@@ -1322,15 +1910,25 @@ public class ImageStatistics {
 	 */
 	public static double variance( ImageFloat32 img , double mean ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
+
 		double variance = 0;
 
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
 
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
+			for( int i = 0; i < columns; i++ ) {
+				double d = (img.data[index+i]) - mean;
 				variance += d*d;
 			}
 		}
@@ -1345,14 +1943,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffSq(ImageFloat32 imgA, ImageFloat32 imgB ) {
+	public static double meanDiffSq( ImageFloat32 imgA , ImageFloat32 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
+
 		double total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				float difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				float difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += difference*difference;
 			}
 		}
@@ -1367,14 +1979,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffAbs(ImageFloat32 imgA, ImageFloat32 imgB ) {
+	public static double meanDiffAbs( ImageFloat32 imgA , ImageFloat32 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
+
 		float total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				float difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				float difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += Math.abs(difference);
 			}
 		}
@@ -1390,16 +2016,28 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( ImageFloat32 input , int minValue , int histogram[] ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
-		
-		for( int y = 0; y < input.height; y++ ) {
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				// floor value. just convert to int rounds towards zero
-				histogram[(int)input.data[index] - minValue ]++;
+			for( int i = 0; i < columns; i++ ) {
+				histogram[(int)input.data[index+i] - minValue]++;
 			}
 		}
 	}
@@ -1412,14 +2050,25 @@ public class ImageStatistics {
 	 */
 	public static double min( ImageFloat64 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.min(input);
+		}
+
 		double min = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				double v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				double v = input.data[index+i] ;
 				if( v < min )
 					min = v;
 			}
@@ -1435,14 +2084,25 @@ public class ImageStatistics {
 	 */
 	public static double max( ImageFloat64 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.max(input);
+		}
+
 		double max = input.get(0,0);
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				double v = input.data[index] ;
+			for( int i = 0; i < columns; i++ ) {
+				double v = input.data[index+i] ;
 				if( v > max )
 					max = v;
 			}
@@ -1458,14 +2118,25 @@ public class ImageStatistics {
 	 */
 	public static double maxAbs( ImageFloat64 input ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.maxAbs(input);
+		}
+
 		double max = 0;
 
-		for( int y = 0; y < input.height; y++ ) {
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				double v = Math.abs(input.data[index]);
+			for( int i = 0; i < columns; i++ ) {
+				double v = Math.abs(input.data[index+i]);
 				if( v > max )
 					max = v;
 			}
@@ -1482,21 +2153,28 @@ public class ImageStatistics {
 	 */
 	public static double sum( ImageFloat64 img ) {
 
-		final int h = img.getHeight();
-		final int w = img.getWidth();
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.sum(img);
+		}
 
 		double total = 0;
-		
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				total += img.data[index] ;
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				total += img.data[index+i] ;
 			}
 		}
-		
+
 		return total;
 	}
 
@@ -1519,15 +2197,25 @@ public class ImageStatistics {
 	 */
 	public static double variance( ImageFloat64 img , double mean ) {
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.variance(img,mean);
+		}
+
 		double variance = 0;
 
-		for (int y = 0; y < img.height; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
 
-			int indexEnd = index+img.width;
-			// for(int x = 0; x < img.width; x++ ) {
-			for (; index < indexEnd; index++ ) {
-				double d = (img.data[index]) - mean; 
+			for( int i = 0; i < columns; i++ ) {
+				double d = (img.data[index+i]) - mean;
 				variance += d*d;
 			}
 		}
@@ -1542,14 +2230,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffSq(ImageFloat64 imgA, ImageFloat64 imgB ) {
+	public static double meanDiffSq( ImageFloat64 imgA , ImageFloat64 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffSq(imgA,imgB);
+		}
+
 		double total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				double difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				double difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += difference*difference;
 			}
 		}
@@ -1564,14 +2266,28 @@ public class ImageStatistics {
 	 * @param imgB second image. Not modified.
 	 * @return error between the two images.
 	 */
-	public static double meanDiffAbs(ImageFloat64 imgA, ImageFloat64 imgB ) {
+	public static double meanDiffAbs( ImageFloat64 imgA , ImageFloat64 imgB ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			return ImageStatistics_MT.meanDiffAbs(imgA,imgB);
+		}
+
 		double total = 0;
 
-		for (int y = 0; y < imgA.height; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
-				double difference = (imgA.data[indexA])-(imgB.data[indexB]);
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				double difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
 				total += Math.abs(difference);
 			}
 		}
@@ -1587,16 +2303,28 @@ public class ImageStatistics {
 	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
 	 */
 	public static void histogram( ImageFloat64 input , int minValue , int histogram[] ) {
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImageStatistics_MT.histogram(input,minValue,histogram);
+			return;
+		}
+
 		for( int i = 0; i < histogram.length; i++ )
 			histogram[i] = 0;
-		
-		for( int y = 0; y < input.height; y++ ) {
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
 			int index = input.startIndex + y*input.stride;
-			int end = index + input.width;
 
-			for( ; index < end; index++ ) {
-				// floor value. just convert to int rounds towards zero
-				histogram[(int)input.data[index] - minValue ]++;
+			for( int i = 0; i < columns; i++ ) {
+				histogram[(int)input.data[index+i] - minValue]++;
 			}
 		}
 	}
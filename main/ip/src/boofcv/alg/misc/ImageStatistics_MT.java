@@ -0,0 +1,2989 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Concurrent implementations of functions in {@link ImageStatistics}. Images are split into blocks of
+ * rows which are processed in parallel using {@link BoofConcurrency}. Call the functions in
+ * {@link ImageStatistics} instead of using this class directly.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GenerateImageStatistics}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageStatistics_MT {
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final ImageUInt8 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int min = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] & 0xFF;
+						if( v < min )
+							min = v;
+					}
+				}
+
+				partial[y0] = min;
+			}
+		});
+
+		int min = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final ImageUInt8 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] & 0xFF;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the absolute value of the element with the largest absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Largest pixel absolute value.
+	 */
+	public static int maxAbs( final ImageUInt8 input ) {
+
+		final int partial[] = new int[input.height];
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = 0;
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i]& 0xFF;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final ImageUInt8 img ) {
+
+		final int partial[] = new int[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						total += img.data[index+i] & 0xFF;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( ImageUInt8 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final ImageUInt8 img , final double mean ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double variance = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double d = (img.data[index+i]& 0xFF) - mean;
+						variance += d*d;
+					}
+				}
+
+				partial[y0] = variance;
+			}
+		});
+
+		double variance = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			variance += partial[i];
+		}
+
+		return variance/(img.width*img.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final ImageUInt8 imgA , final ImageUInt8 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i]& 0xFF)-(imgB.data[indexB+i]& 0xFF);
+						total += difference*difference;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final ImageUInt8 imgA , final ImageUInt8 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i]& 0xFF)-(imgB.data[indexB+i]& 0xFF);
+						total += Math.abs(difference);
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * 
+	 * @param input (input) Image.
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final ImageUInt8 input , final int histogram[] ) {
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int local[] = new int[histogram.length];
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						local[input.data[index+i]& 0xFF]++;
+					}
+				}
+
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final ImageSInt8 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int min = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] ;
+						if( v < min )
+							min = v;
+					}
+				}
+
+				partial[y0] = min;
+			}
+		});
+
+		int min = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final ImageSInt8 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] ;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the absolute value of the element with the largest absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Largest pixel absolute value.
+	 */
+	public static int maxAbs( final ImageSInt8 input ) {
+
+		final int partial[] = new int[input.height];
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = 0;
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = Math.abs(input.data[index+i]);
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final ImageSInt8 img ) {
+
+		final int partial[] = new int[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						total += img.data[index+i] ;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( ImageSInt8 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final ImageSInt8 img , final double mean ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double variance = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double d = (img.data[index+i]) - mean;
+						variance += d*d;
+					}
+				}
+
+				partial[y0] = variance;
+			}
+		});
+
+		double variance = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			variance += partial[i];
+		}
+
+		return variance/(img.width*img.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final ImageSInt8 imgA , final ImageSInt8 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += difference*difference;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final ImageSInt8 imgA , final ImageSInt8 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += Math.abs(difference);
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final ImageSInt8 input , final int minValue , final int histogram[] ) {
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int local[] = new int[histogram.length];
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						local[input.data[index+i] - minValue]++;
+					}
+				}
+
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final ImageUInt16 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int min = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] & 0xFFFF;
+						if( v < min )
+							min = v;
+					}
+				}
+
+				partial[y0] = min;
+			}
+		});
+
+		int min = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final ImageUInt16 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] & 0xFFFF;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the absolute value of the element with the largest absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Largest pixel absolute value.
+	 */
+	public static int maxAbs( final ImageUInt16 input ) {
+
+		final int partial[] = new int[input.height];
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = 0;
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i]& 0xFFFF;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final ImageUInt16 img ) {
+
+		final int partial[] = new int[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						total += img.data[index+i] & 0xFFFF;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( ImageUInt16 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final ImageUInt16 img , final double mean ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double variance = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double d = (img.data[index+i]& 0xFFFF) - mean;
+						variance += d*d;
+					}
+				}
+
+				partial[y0] = variance;
+			}
+		});
+
+		double variance = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			variance += partial[i];
+		}
+
+		return variance/(img.width*img.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final ImageUInt16 imgA , final ImageUInt16 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i]& 0xFFFF)-(imgB.data[indexB+i]& 0xFFFF);
+						total += difference*difference;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final ImageUInt16 imgA , final ImageUInt16 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i]& 0xFFFF)-(imgB.data[indexB+i]& 0xFFFF);
+						total += Math.abs(difference);
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * 
+	 * @param input (input) Image.
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final ImageUInt16 input , final int histogram[] ) {
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int local[] = new int[histogram.length];
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						local[input.data[index+i]& 0xFFFF]++;
+					}
+				}
+
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final ImageSInt16 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int min = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] ;
+						if( v < min )
+							min = v;
+					}
+				}
+
+				partial[y0] = min;
+			}
+		});
+
+		int min = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final ImageSInt16 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] ;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the absolute value of the element with the largest absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Largest pixel absolute value.
+	 */
+	public static int maxAbs( final ImageSInt16 input ) {
+
+		final int partial[] = new int[input.height];
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = 0;
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = Math.abs(input.data[index+i]);
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final ImageSInt16 img ) {
+
+		final int partial[] = new int[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						total += img.data[index+i] ;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( ImageSInt16 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final ImageSInt16 img , final double mean ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double variance = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double d = (img.data[index+i]) - mean;
+						variance += d*d;
+					}
+				}
+
+				partial[y0] = variance;
+			}
+		});
+
+		double variance = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			variance += partial[i];
+		}
+
+		return variance/(img.width*img.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final ImageSInt16 imgA , final ImageSInt16 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += difference*difference;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final ImageSInt16 imgA , final ImageSInt16 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += Math.abs(difference);
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final ImageSInt16 input , final int minValue , final int histogram[] ) {
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int local[] = new int[histogram.length];
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						local[input.data[index+i] - minValue]++;
+					}
+				}
+
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( final ImageSInt32 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int min = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] ;
+						if( v < min )
+							min = v;
+					}
+				}
+
+				partial[y0] = min;
+			}
+		});
+
+		int min = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( final ImageSInt32 input ) {
+
+		final int partial[] = new int[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = input.data[index+i] ;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the absolute value of the element with the largest absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Largest pixel absolute value.
+	 */
+	public static int maxAbs( final ImageSInt32 input ) {
+
+		final int partial[] = new int[input.height];
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int max = 0;
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int v = Math.abs(input.data[index+i]);
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static int sum( final ImageSInt32 img ) {
+
+		final int partial[] = new int[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						total += img.data[index+i] ;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( ImageSInt32 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final ImageSInt32 img , final double mean ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double variance = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double d = (img.data[index+i]) - mean;
+						variance += d*d;
+					}
+				}
+
+				partial[y0] = variance;
+			}
+		});
+
+		double variance = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			variance += partial[i];
+		}
+
+		return variance/(img.width*img.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final ImageSInt32 imgA , final ImageSInt32 imgB ) {
+
+		final long partial[] = new long[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				long total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += difference*difference;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		long total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final ImageSInt32 imgA , final ImageSInt32 imgB ) {
+
+		final int partial[] = new int[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += Math.abs(difference);
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final ImageSInt32 input , final int minValue , final int histogram[] ) {
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int local[] = new int[histogram.length];
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						local[input.data[index+i] - minValue]++;
+					}
+				}
+
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static long min( final ImageSInt64 input ) {
+
+		final long partial[] = new long[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				long min = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long v = input.data[index+i] ;
+						if( v < min )
+							min = v;
+					}
+				}
+
+				partial[y0] = min;
+			}
+		});
+
+		long min = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static long max( final ImageSInt64 input ) {
+
+		final long partial[] = new long[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				long max = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long v = input.data[index+i] ;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		long max = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the absolute value of the element with the largest absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Largest pixel absolute value.
+	 */
+	public static long maxAbs( final ImageSInt64 input ) {
+
+		final long partial[] = new long[input.height];
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				long max = 0;
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long v = Math.abs(input.data[index+i]);
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		long max = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static long sum( final ImageSInt64 img ) {
+
+		final long partial[] = new long[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				long total = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						total += img.data[index+i] ;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		long total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( ImageSInt64 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final ImageSInt64 img , final double mean ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double variance = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double d = (img.data[index+i]) - mean;
+						variance += d*d;
+					}
+				}
+
+				partial[y0] = variance;
+			}
+		});
+
+		double variance = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			variance += partial[i];
+		}
+
+		return variance/(img.width*img.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final ImageSInt64 imgA , final ImageSInt64 imgB ) {
+
+		final long partial[] = new long[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				long total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += difference*difference;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		long total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final ImageSInt64 imgA , final ImageSInt64 imgB ) {
+
+		final long partial[] = new long[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				long total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += Math.abs(difference);
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		long total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final ImageSInt64 input , final int minValue , final int histogram[] ) {
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int local[] = new int[histogram.length];
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						local[(int)input.data[index+i] - minValue]++;
+					}
+				}
+
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static float min( final ImageFloat32 input ) {
+
+		final float partial[] = new float[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				float min = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float v = input.data[index+i] ;
+						if( v < min )
+							min = v;
+					}
+				}
+
+				partial[y0] = min;
+			}
+		});
+
+		float min = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static float max( final ImageFloat32 input ) {
+
+		final float partial[] = new float[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				float max = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float v = input.data[index+i] ;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		float max = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the absolute value of the element with the largest absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Largest pixel absolute value.
+	 */
+	public static float maxAbs( final ImageFloat32 input ) {
+
+		final float partial[] = new float[input.height];
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				float max = 0;
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float v = Math.abs(input.data[index+i]);
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		float max = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static float sum( final ImageFloat32 img ) {
+
+		final float partial[] = new float[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				float total = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						total += img.data[index+i] ;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		float total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( ImageFloat32 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final ImageFloat32 img , final double mean ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double variance = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double d = (img.data[index+i]) - mean;
+						variance += d*d;
+					}
+				}
+
+				partial[y0] = variance;
+			}
+		});
+
+		double variance = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			variance += partial[i];
+		}
+
+		return variance/(img.width*img.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final ImageFloat32 imgA , final ImageFloat32 imgB ) {
+
+		final double partial[] = new double[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += difference*difference;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final ImageFloat32 imgA , final ImageFloat32 imgB ) {
+
+		final float partial[] = new float[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				float total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += Math.abs(difference);
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		float total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final ImageFloat32 input , final int minValue , final int histogram[] ) {
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int local[] = new int[histogram.length];
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						local[(int)input.data[index+i] - minValue]++;
+					}
+				}
+
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns the minimum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static double min( final ImageFloat64 input ) {
+
+		final double partial[] = new double[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double min = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double v = input.data[index+i] ;
+						if( v < min )
+							min = v;
+					}
+				}
+
+				partial[y0] = min;
+			}
+		});
+
+		double min = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static double max( final ImageFloat64 input ) {
+
+		final double partial[] = new double[input.height];
+		Arrays.fill(partial,input.get(0,0));
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double max = input.get(0,0);
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double v = input.data[index+i] ;
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		double max = input.get(0,0);
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Returns the absolute value of the element with the largest absolute value.
+	 * 
+	 * @param input Input image. Not modified.
+	 * @return Largest pixel absolute value.
+	 */
+	public static double maxAbs( final ImageFloat64 input ) {
+
+		final double partial[] = new double[input.height];
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double max = 0;
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double v = Math.abs(input.data[index+i]);
+						if( v > max )
+							max = v;
+					}
+				}
+
+				partial[y0] = max;
+			}
+		});
+
+		double max = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * <p>
+	 * Returns the sum of all the pixels in the image.
+	 * </p>
+	 * 
+	 * @param img Input image. Not modified.
+	 */
+	public static double sum( final ImageFloat64 img ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double total = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						total += img.data[index+i] ;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total;
+	}
+
+	/**
+	 * Returns the mean pixel intensity value.
+	 * 
+	 * @param img Input image.  Not modified.
+	 * @return Mean pixel intensity value
+	 */
+	public static double mean( ImageFloat64 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values inside the image.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value.   
+	 * @return Pixel variance   
+	 */
+	public static double variance( final ImageFloat64 img , final double mean ) {
+
+		final double partial[] = new double[img.height];
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double variance = 0;
+
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double d = (img.data[index+i]) - mean;
+						variance += d*d;
+					}
+				}
+
+				partial[y0] = variance;
+			}
+		});
+
+		double variance = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			variance += partial[i];
+		}
+
+		return variance/(img.width*img.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffSq( final ImageFloat64 imgA , final ImageFloat64 imgB ) {
+
+		final double partial[] = new double[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += difference*difference;
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * <p>Computes the mean squared error (MSE) between the two images.</p>
+	 *
+	 * @param imgA first image. Not modified.
+	 * @param imgB second image. Not modified.
+	 * @return error between the two images.
+	 */
+	public static double meanDiffAbs( final ImageFloat64 imgA , final ImageFloat64 imgB ) {
+
+		final double partial[] = new double[imgA.height];
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				double total = 0;
+
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double difference = (imgA.data[indexA+i])-(imgB.data[indexB+i]);
+						total += Math.abs(difference);
+					}
+				}
+
+				partial[y0] = total;
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < partial.length; i++ ) {
+			total += partial[i];
+		}
+
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Computes the histogram of intensity values for the image.
+	 * 
+	 * @param input (input) Image.
+	 * @param minValue (input) Minimum possible intensity value   
+	 * @param histogram (output) Storage for histogram. Number of elements must be equal to max value.
+	 */
+	public static void histogram( final ImageFloat64 input , final int minValue , final int histogram[] ) {
+
+		for( int i = 0; i < histogram.length; i++ )
+			histogram[i] = 0;
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int local[] = new int[histogram.length];
+
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = input.startIndex + (y0+y)*input.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						local[(int)input.data[index+i] - minValue]++;
+					}
+				}
+
+				synchronized( histogram ) {
+					for( int i = 0; i < local.length; i++ )
+						histogram[i] += local[i];
+				}
+			}
+		});
+	}
+
+}
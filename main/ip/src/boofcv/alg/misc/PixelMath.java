@@ -15,10 +15,10 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package boofcv.alg.misc;
 
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -40,14 +40,26 @@ public class PixelMath {
 	public static void abs( ImageSInt8 input , ImageSInt8 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
-		
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = (byte)Math.abs(input.data[indexSrc]);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (byte)Math.abs(input.data[indexSrc+i]);
 			}
 		}
 	}
@@ -62,13 +74,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = (byte)-input.data[indexSrc];
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (byte)-input.data[indexSrc+i];
 			}
 		}
 	}
@@ -83,14 +107,26 @@ public class PixelMath {
 	public static void abs( ImageSInt16 input , ImageSInt16 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
-		
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = (short)Math.abs(input.data[indexSrc]);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (short)Math.abs(input.data[indexSrc+i]);
 			}
 		}
 	}
@@ -105,13 +141,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = (short)-input.data[indexSrc];
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (short)-input.data[indexSrc+i];
 			}
 		}
 	}
@@ -126,14 +174,26 @@ public class PixelMath {
 	public static void abs( ImageSInt32 input , ImageSInt32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
-		
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = Math.abs(input.data[indexSrc]);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = Math.abs(input.data[indexSrc+i]);
 			}
 		}
 	}
@@ -148,13 +208,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = -input.data[indexSrc];
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = -input.data[indexSrc+i];
 			}
 		}
 	}
@@ -169,14 +241,26 @@ public class PixelMath {
 	public static void abs( ImageSInt64 input , ImageSInt64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
-		
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = Math.abs(input.data[indexSrc]);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = Math.abs(input.data[indexSrc+i]);
 			}
 		}
 	}
@@ -191,13 +275,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = -input.data[indexSrc];
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = -input.data[indexSrc+i];
 			}
 		}
 	}
@@ -212,14 +308,26 @@ public class PixelMath {
 	public static void abs( ImageFloat32 input , ImageFloat32 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
-		
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = Math.abs(input.data[indexSrc]);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = Math.abs(input.data[indexSrc+i]);
 			}
 		}
 	}
@@ -234,13 +342,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = -input.data[indexSrc];
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = -input.data[indexSrc+i];
 			}
 		}
 	}
@@ -255,14 +375,26 @@ public class PixelMath {
 	public static void abs( ImageFloat64 input , ImageFloat64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
-		
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = Math.abs(input.data[indexSrc]);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.abs(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = Math.abs(input.data[indexSrc+i]);
 			}
 		}
 	}
@@ -277,13 +409,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.invert(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = -input.data[indexSrc];
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = -input.data[indexSrc+i];
 			}
 		}
 	}
@@ -300,13 +444,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) * value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (byte)((input.data[indexSrc+i] & 0xFF) * value);
 			}
 		}
 	}
@@ -325,16 +481,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] & 0xFF) * value);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] & 0xFF) * value);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (byte)val;
+				output.data[indexDst+i] = (byte)val;
 			}
 		}
 	}
@@ -350,13 +518,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (byte)((input.data[indexSrc+i] & 0xFF) / denominator);
 			}
 		}
 	}
@@ -374,16 +554,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] & 0xFF) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] & 0xFF) / denominator);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (byte)val;
+				output.data[indexDst+i] = (byte)val;
 			}
 		}
 	}
@@ -399,13 +591,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) + value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (byte)((input.data[indexSrc+i] & 0xFF) + value);
 			}
 		}
 	}
@@ -423,16 +627,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (input.data[indexSrc] & 0xFF) + value;
+			for( int i = 0; i < columns; i++ ) {
+				int val = (input.data[indexSrc+i] & 0xFF) + value;
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (byte)val;
+				output.data[indexDst+i] = (byte)val;
 			}
 		}
 	}
@@ -445,21 +661,28 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage( ImageUInt8 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
 
-		byte[] data = img.data;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
 
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index]& 0xFF;
-				if( value < min )
-					data[index] = (byte)min;
-				else if( value > max )
-					data[index] = (byte)max;
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int value = img.data[index+i]& 0xFF;
+				if( value < min ) value = min;
+				if( value > max ) value = max;
+				img.data[index+i] = (byte)value;
 			}
 		}
 	}
@@ -474,20 +697,29 @@ public class PixelMath {
 	 * @param diff Absolute value of difference image. Modified.
 	 */
 	public static void diffAbs( ImageUInt8 imgA , ImageUInt8 imgB , ImageUInt8 diff ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexDiff = diff.startIndex + y*diff.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				diff.data[indexDiff+i] = (byte)Math.abs((imgA.data[indexA+i] & 0xFF) - (imgB.data[indexB+i] & 0xFF));
 			}
 		}
 	}
@@ -532,13 +764,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (byte)((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (byte)((input.data[indexSrc+i] ) * value);
 			}
 		}
 	}
@@ -557,16 +801,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] ) * value);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (byte)val;
+				output.data[indexDst+i] = (byte)val;
 			}
 		}
 	}
@@ -582,13 +838,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (byte)((input.data[indexSrc] ) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (byte)((input.data[indexSrc+i] ) / denominator);
 			}
 		}
 	}
@@ -606,16 +874,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] ) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] ) / denominator);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (byte)val;
+				output.data[indexDst+i] = (byte)val;
 			}
 		}
 	}
@@ -631,13 +911,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (byte)((input.data[indexSrc] ) + value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (byte)((input.data[indexSrc+i] ) + value);
 			}
 		}
 	}
@@ -655,16 +947,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (input.data[indexSrc] ) + value;
+			for( int i = 0; i < columns; i++ ) {
+				int val = (input.data[indexSrc+i] ) + value;
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (byte)val;
+				output.data[indexDst+i] = (byte)val;
 			}
 		}
 	}
@@ -677,21 +981,28 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage( ImageSInt8 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
 
-		byte[] data = img.data;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
 
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = (byte)min;
-				else if( value > max )
-					data[index] = (byte)max;
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int value = img.data[index+i];
+				if( value < min ) value = min;
+				if( value > max ) value = max;
+				img.data[index+i] = (byte)value;
 			}
 		}
 	}
@@ -706,20 +1017,29 @@ public class PixelMath {
 	 * @param diff Absolute value of difference image. Modified.
 	 */
 	public static void diffAbs( ImageSInt8 imgA , ImageSInt8 imgB , ImageSInt8 diff ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (byte)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexDiff = diff.startIndex + y*diff.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				diff.data[indexDiff+i] = (byte)Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -764,13 +1084,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) * value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (short)((input.data[indexSrc+i] & 0xFFFF) * value);
 			}
 		}
 	}
@@ -789,16 +1121,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] & 0xFFFF) * value);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] & 0xFFFF) * value);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (short)val;
+				output.data[indexDst+i] = (short)val;
 			}
 		}
 	}
@@ -814,13 +1158,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (short)((input.data[indexSrc+i] & 0xFFFF) / denominator);
 			}
 		}
 	}
@@ -838,16 +1194,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] & 0xFFFF) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] & 0xFFFF) / denominator);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (short)val;
+				output.data[indexDst+i] = (short)val;
 			}
 		}
 	}
@@ -863,13 +1231,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (short)((input.data[indexSrc] & 0xFFFF) + value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (short)((input.data[indexSrc+i] & 0xFFFF) + value);
 			}
 		}
 	}
@@ -887,16 +1267,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (input.data[indexSrc] & 0xFFFF) + value;
+			for( int i = 0; i < columns; i++ ) {
+				int val = (input.data[indexSrc+i] & 0xFFFF) + value;
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (short)val;
+				output.data[indexDst+i] = (short)val;
 			}
 		}
 	}
@@ -909,21 +1301,28 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage( ImageUInt16 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
 
-		short[] data = img.data;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
 
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index]& 0xFFFF;
-				if( value < min )
-					data[index] = (short)min;
-				else if( value > max )
-					data[index] = (short)max;
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int value = img.data[index+i]& 0xFFFF;
+				if( value < min ) value = min;
+				if( value > max ) value = max;
+				img.data[index+i] = (short)value;
 			}
 		}
 	}
@@ -938,20 +1337,29 @@ public class PixelMath {
 	 * @param diff Absolute value of difference image. Modified.
 	 */
 	public static void diffAbs( ImageUInt16 imgA , ImageUInt16 imgB , ImageUInt16 diff ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexDiff = diff.startIndex + y*diff.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				diff.data[indexDiff+i] = (short)Math.abs((imgA.data[indexA+i] & 0xFFFF) - (imgB.data[indexB+i] & 0xFFFF));
 			}
 		}
 	}
@@ -996,13 +1404,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (short)((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (short)((input.data[indexSrc+i] ) * value);
 			}
 		}
 	}
@@ -1021,16 +1441,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] ) * value);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (short)val;
+				output.data[indexDst+i] = (short)val;
 			}
 		}
 	}
@@ -1046,13 +1478,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (short)((input.data[indexSrc] ) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (short)((input.data[indexSrc+i] ) / denominator);
 			}
 		}
 	}
@@ -1070,16 +1514,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] ) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] ) / denominator);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (short)val;
+				output.data[indexDst+i] = (short)val;
 			}
 		}
 	}
@@ -1095,13 +1551,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (short)((input.data[indexSrc] ) + value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (short)((input.data[indexSrc+i] ) + value);
 			}
 		}
 	}
@@ -1119,16 +1587,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (input.data[indexSrc] ) + value;
+			for( int i = 0; i < columns; i++ ) {
+				int val = (input.data[indexSrc+i] ) + value;
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = (short)val;
+				output.data[indexDst+i] = (short)val;
 			}
 		}
 	}
@@ -1141,21 +1621,28 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage( ImageSInt16 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
 
-		short[] data = img.data;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
 
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = (short)min;
-				else if( value > max )
-					data[index] = (short)max;
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int value = img.data[index+i];
+				if( value < min ) value = min;
+				if( value > max ) value = max;
+				img.data[index+i] = (short)value;
 			}
 		}
 	}
@@ -1170,20 +1657,29 @@ public class PixelMath {
 	 * @param diff Absolute value of difference image. Modified.
 	 */
 	public static void diffAbs( ImageSInt16 imgA , ImageSInt16 imgB , ImageSInt16 diff ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (short)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexDiff = diff.startIndex + y*diff.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				diff.data[indexDiff+i] = (short)Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -1228,13 +1724,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (int)((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (int)((input.data[indexSrc+i] ) * value);
 			}
 		}
 	}
@@ -1253,16 +1761,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] ) * value);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1278,13 +1798,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (int)((input.data[indexSrc] ) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (int)((input.data[indexSrc+i] ) / denominator);
 			}
 		}
 	}
@@ -1302,16 +1834,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (int)((input.data[indexSrc] ) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				int val = (int)((input.data[indexSrc+i] ) / denominator);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1327,13 +1871,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = ((input.data[indexSrc] ) + value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = ((input.data[indexSrc+i] ) + value);
 			}
 		}
 	}
@@ -1351,16 +1907,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				int val = (input.data[indexSrc] ) + value;
+			for( int i = 0; i < columns; i++ ) {
+				int val = (input.data[indexSrc+i] ) + value;
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1373,21 +1941,28 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage( ImageSInt32 img , int min , int max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
 
-		int[] data = img.data;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
 
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				int value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				int value = img.data[index+i];
+				if( value < min ) value = min;
+				if( value > max ) value = max;
+				img.data[index+i] = value;
 			}
 		}
 	}
@@ -1402,20 +1977,29 @@ public class PixelMath {
 	 * @param diff Absolute value of difference image. Modified.
 	 */
 	public static void diffAbs( ImageSInt32 imgA , ImageSInt32 imgB , ImageSInt32 diff ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (int)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexDiff = diff.startIndex + y*diff.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				diff.data[indexDiff+i] = (int)Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -1460,13 +2044,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (long)((input.data[indexSrc] ) * value);
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (long)((input.data[indexSrc+i] ) * value);
 			}
 		}
 	}
@@ -1485,16 +2081,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				long val = (long)((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				long val = (long)((input.data[indexSrc+i] ) * value);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1510,13 +2118,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = (long)((input.data[indexSrc] ) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (long)((input.data[indexSrc+i] ) / denominator);
 			}
 		}
 	}
@@ -1534,16 +2154,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				long val = (long)((input.data[indexSrc] ) / denominator);
+			for( int i = 0; i < columns; i++ ) {
+				long val = (long)((input.data[indexSrc+i] ) / denominator);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1559,13 +2191,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = ((input.data[indexSrc] ) + value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = ((input.data[indexSrc+i] ) + value);
 			}
 		}
 	}
@@ -1583,16 +2227,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				long val = (input.data[indexSrc] ) + value;
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				long val = (input.data[indexSrc+i] ) + value;
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1605,21 +2261,28 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage( ImageSInt64 img , long min , long max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
 
-		long[] data = img.data;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
+
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
 
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				long value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				long value = img.data[index+i];
+				if( value < min ) value = min;
+				if( value > max ) value = max;
+				img.data[index+i] = value;
 			}
 		}
 	}
@@ -1634,20 +2297,29 @@ public class PixelMath {
 	 * @param diff Absolute value of difference image. Modified.
 	 */
 	public static void diffAbs( ImageSInt64 imgA , ImageSInt64 imgB , ImageSInt64 diff ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = (long)Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexDiff = diff.startIndex + y*diff.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				diff.data[indexDiff+i] = (long)Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -1692,13 +2364,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = ((input.data[indexSrc] ) * value);
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = ((input.data[indexSrc+i] ) * value);
 			}
 		}
 	}
@@ -1717,16 +2401,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				float val = ((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				float val = ((input.data[indexSrc+i] ) * value);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1742,13 +2438,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = ((input.data[indexSrc] ) / denominator);
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = ((input.data[indexSrc+i] ) / denominator);
 			}
 		}
 	}
@@ -1766,16 +2474,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				float val = ((input.data[indexSrc] ) / denominator);
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				float val = ((input.data[indexSrc+i] ) / denominator);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1791,13 +2511,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = ((input.data[indexSrc] ) + value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = ((input.data[indexSrc+i] ) + value);
 			}
 		}
 	}
@@ -1815,16 +2547,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				float val = (input.data[indexSrc] ) + value;
+			for( int i = 0; i < columns; i++ ) {
+				float val = (input.data[indexSrc+i] ) + value;
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1837,21 +2581,28 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage( ImageFloat32 img , float min , float max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
 
-		float[] data = img.data;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
 
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				float value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				float value = img.data[index+i];
+				if( value < min ) value = min;
+				if( value > max ) value = max;
+				img.data[index+i] = value;
 			}
 		}
 	}
@@ -1866,20 +2617,29 @@ public class PixelMath {
 	 * @param diff Absolute value of difference image. Modified.
 	 */
 	public static void diffAbs( ImageFloat32 imgA , ImageFloat32 imgB , ImageFloat32 diff ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexDiff = diff.startIndex + y*diff.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				diff.data[indexDiff+i] = Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -1924,13 +2684,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = ((input.data[indexSrc] ) * value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = ((input.data[indexSrc+i] ) * value);
 			}
 		}
 	}
@@ -1949,16 +2721,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				double val = ((input.data[indexSrc] ) * value);
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				double val = ((input.data[indexSrc+i] ) * value);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -1974,13 +2758,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,output);
+			return;
+		}
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = ((input.data[indexSrc] ) / denominator);
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = ((input.data[indexSrc+i] ) / denominator);
 			}
 		}
 	}
@@ -1994,20 +2790,33 @@ public class PixelMath {
 	 * @param upper Upper bound on output
 	 * @param output The output image. Modified.
 	 */
-	public static void divide( ImageFloat64 input , double denominator , double lower , double upper , ImageFloat64 output ) {
+	public static void divide( ImageFloat64 input , double denominator , double lower , double upper ,
+							ImageFloat64 output ) {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(input,denominator,lower,upper,output);
+			return;
+		}
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				double val = ((input.data[indexSrc] ) / denominator);
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				double val = ((input.data[indexSrc+i] ) / denominator);
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -2023,13 +2832,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				output.data[indexDst] = ((input.data[indexSrc] ) + value);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = ((input.data[indexSrc+i] ) + value);
 			}
 		}
 	}
@@ -2047,16 +2868,28 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.plus(input,value,lower,upper,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++, indexDst++ ) {
-				double val = (input.data[indexSrc] ) + value;
+			for( int i = 0; i < columns; i++ ) {
+				double val = (input.data[indexSrc+i] ) + value;
 				if( val < lower ) val = lower;
 				if( val > upper ) val = upper;
-				output.data[indexDst] = val;
+				output.data[indexDst+i] = val;
 			}
 		}
 	}
@@ -2069,21 +2902,28 @@ public class PixelMath {
 	 * @param max maximum value.
 	 */
 	public static void boundImage( ImageFloat64 img , double min , double max ) {
-		final int h = img.getHeight();
-		final int w = img.getWidth();
 
-		double[] data = img.data;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.boundImage(img,min,max);
+			return;
+		}
 
-		for (int y = 0; y < h; y++) {
-			int index = img.getStartIndex() + y * img.getStride();
-			int indexEnd = index+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; index < indexEnd; index++) {
-				double value = data[index];
-				if( value < min )
-					data[index] = min;
-				else if( value > max )
-					data[index] = max;
+		int rows = img.height;
+		int columns = img.width;
+		if( img.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int index = img.startIndex + y*img.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				double value = img.data[index+i];
+				if( value < min ) value = min;
+				if( value > max ) value = max;
+				img.data[index+i] = value;
 			}
 		}
 	}
@@ -2098,20 +2938,29 @@ public class PixelMath {
 	 * @param diff Absolute value of difference image. Modified.
 	 */
 	public static void diffAbs( ImageFloat64 imgA , ImageFloat64 imgB , ImageFloat64 diff ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,diff);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexDiff = diff.getStartIndex() + y * diff.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexDiff++ ) {
-				diff.data[indexDiff] = Math.abs((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.diffAbs(imgA,imgB,diff);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexDiff = diff.startIndex + y*diff.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				diff.data[indexDiff+i] = Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2154,20 +3003,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void add( ImageUInt8 imgA , ImageUInt8 imgB , ImageUInt16 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) + (imgB.data[indexB] & 0xFF));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (short)((imgA.data[indexA+i] & 0xFF) + (imgB.data[indexB+i] & 0xFF));
 			}
 		}
 	}
@@ -2182,20 +3040,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void subtract( ImageUInt8 imgA , ImageUInt8 imgB , ImageInt16 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (short)((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (short)((imgA.data[indexA+i] & 0xFF) - (imgB.data[indexB+i] & 0xFF));
 			}
 		}
 	}
@@ -2210,20 +3077,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void add( ImageSInt8 imgA , ImageSInt8 imgB , ImageSInt16 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (short)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (short)((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2238,20 +3114,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void subtract( ImageSInt8 imgA , ImageSInt8 imgB , ImageSInt16 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (short)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (short)((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2266,20 +3151,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void add( ImageUInt16 imgA , ImageUInt16 imgB , ImageSInt32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) + (imgB.data[indexB] & 0xFFFF));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (int)((imgA.data[indexA+i] & 0xFFFF) + (imgB.data[indexB+i] & 0xFFFF));
 			}
 		}
 	}
@@ -2294,20 +3188,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void subtract( ImageUInt16 imgA , ImageUInt16 imgB , ImageSInt32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] & 0xFFFF) - (imgB.data[indexB] & 0xFFFF));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (int)((imgA.data[indexA+i] & 0xFFFF) - (imgB.data[indexB+i] & 0xFFFF));
 			}
 		}
 	}
@@ -2322,20 +3225,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void add( ImageSInt16 imgA , ImageSInt16 imgB , ImageSInt32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (int)((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2350,20 +3262,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void subtract( ImageSInt16 imgA , ImageSInt16 imgB , ImageSInt32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (int)((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2378,20 +3299,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void add( ImageSInt32 imgA , ImageSInt32 imgB , ImageSInt32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (int)((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2406,20 +3336,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void subtract( ImageSInt32 imgA , ImageSInt32 imgB , ImageSInt32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (int)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (int)((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2434,20 +3373,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void add( ImageSInt64 imgA , ImageSInt64 imgB , ImageSInt64 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (long)((imgA.data[indexA] ) + (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (long)((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2462,20 +3410,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void subtract( ImageSInt64 imgA , ImageSInt64 imgB , ImageSInt64 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = (long)((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = (long)((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2490,20 +3447,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void add( ImageFloat32 imgA , ImageFloat32 imgB , ImageFloat32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = ((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2518,20 +3484,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void subtract( ImageFloat32 imgA , ImageFloat32 imgB , ImageFloat32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = ((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2546,20 +3521,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void multiply( ImageFloat32 imgA , ImageFloat32 imgB , ImageFloat32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = ((imgA.data[indexA+i] ) * (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2574,20 +3558,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void divide( ImageFloat32 imgA , ImageFloat32 imgB , ImageFloat32 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = ((imgA.data[indexA+i] ) / (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2603,13 +3596,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.log(input,output);
+			return;
+		}
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = (float)Math.log(1 + input.data[indexSrc]);
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = (float)Math.log(1 + input.data[indexSrc+i]);
 			}
 		}
 	}
@@ -2624,20 +3629,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void add( ImageFloat64 imgA , ImageFloat64 imgB , ImageFloat64 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) + (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.add(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = ((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2652,20 +3666,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void subtract( ImageFloat64 imgA , ImageFloat64 imgB , ImageFloat64 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) - (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.subtract(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = ((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2680,20 +3703,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void multiply( ImageFloat64 imgA , ImageFloat64 imgB , ImageFloat64 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) * (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.multiply(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = ((imgA.data[indexA+i] ) * (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2708,20 +3740,29 @@ public class PixelMath {
 	 * @param output Output image. Modified.
 	 */
 	public static void divide( ImageFloat64 imgA , ImageFloat64 imgB , ImageFloat64 output ) {
+
 		InputSanityCheck.checkSameShape(imgA,imgB,output);
-		
-		final int h = imgA.getHeight();
-		final int w = imgA.getWidth();
 
-		for (int y = 0; y < h; y++) {
-			int indexA = imgA.getStartIndex() + y * imgA.getStride();
-			int indexB = imgB.getStartIndex() + y * imgB.getStride();
-			int indexOut = output.getStartIndex() + y * output.getStride();
-			
-			int indexEnd = indexA+w;
-			// for(int x = 0; x < w; x++ ) {
-			for (; indexA < indexEnd; indexA++, indexB++, indexOut++ ) {
-				output.data[indexOut] = ((imgA.data[indexA] ) / (imgB.data[indexB] ));
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.divide(imgA,imgB,output);
+			return;
+		}
+
+		int rows = imgA.height;
+		int columns = imgA.width;
+		if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexOut+i] = ((imgA.data[indexA+i] ) / (imgB.data[indexB+i] ));
 			}
 		}
 	}
@@ -2737,13 +3778,25 @@ public class PixelMath {
 
 		InputSanityCheck.checkSameShape(input,output);
 
-		for( int y = 0; y < input.height; y++ ) {
-			int indexSrc = input.startIndex + y* input.stride;
-			int indexDst = output.startIndex + y* output.stride;
-			int end = indexSrc + input.width;
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			PixelMath_MT.log(input,output);
+			return;
+		}
+
+		int rows = input.height;
+		int columns = input.width;
+		if( input.stride == columns && output.stride == columns ) {
+			// no gaps between rows, process the image as one long row
+			columns *= rows;
+			rows = 1;
+		}
+
+		for( int y = 0; y < rows; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
 
-			for( ; indexSrc < end; indexSrc++ , indexDst++) {
-				output.data[indexDst] = Math.log(1 + input.data[indexSrc]);
+			for( int i = 0; i < columns; i++ ) {
+				output.data[indexDst+i] = Math.log(1 + input.data[indexSrc+i]);
 			}
 		}
 	}
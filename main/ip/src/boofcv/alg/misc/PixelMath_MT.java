@@ -0,0 +1,3608 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.misc;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementations of functions in {@link PixelMath}. Images are split into blocks of
+ * rows which are processed in parallel using {@link BoofConcurrency}. Call the functions in
+ * {@link PixelMath} instead of using this class directly.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GeneratePixelMath}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class PixelMath_MT {
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageSInt8 input , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (byte)Math.abs(input.data[indexSrc+i]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageSInt8 input , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (byte)-input.data[indexSrc+i];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageSInt16 input , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (short)Math.abs(input.data[indexSrc+i]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageSInt16 input , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (short)-input.data[indexSrc+i];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageSInt32 input , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = Math.abs(input.data[indexSrc+i]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageSInt32 input , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = -input.data[indexSrc+i];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageSInt64 input , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = Math.abs(input.data[indexSrc+i]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageSInt64 input , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = -input.data[indexSrc+i];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = Math.abs(input.data[indexSrc+i]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = -input.data[indexSrc+i];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 * Both the input and output image can be the same instance.
+	 * 
+	 * @param input The input image. Not modified.
+	 * @param output Where the absolute value image is written to. Modified.
+	 */
+	public static void abs( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = Math.abs(input.data[indexSrc+i]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the inverted image is written to. Modified.
+	 */
+	public static void invert( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = -input.data[indexSrc+i];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageUInt8 input , final double value , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (byte)((input.data[indexSrc+i] & 0xFF) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageUInt8 input , final double value , final int lower , final int upper ,
+							final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] & 0xFF) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageUInt8 input , final double denominator , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (byte)((input.data[indexSrc+i] & 0xFF) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageUInt8 input , final double denominator , final int lower , final int upper ,
+							final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] & 0xFF) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageUInt8 input , final int value , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (byte)((input.data[indexSrc+i] & 0xFF) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageUInt8 input , final int value , final int lower , final int upper ,
+							final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (input.data[indexSrc+i] & 0xFF) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageUInt8 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int value = img.data[index+i]& 0xFF;
+						if( value < min ) value = min;
+						if( value > max ) value = max;
+						img.data[index+i] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageUInt8 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexDiff = diff.startIndex + (y0+y)*diff.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						diff.data[indexDiff+i] = (byte)Math.abs((imgA.data[indexA+i] & 0xFF) - (imgB.data[indexB+i] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt8 input , final double value , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (byte)((input.data[indexSrc+i] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt8 input , final double value , final int lower , final int upper ,
+							final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt8 input , final double denominator , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (byte)((input.data[indexSrc+i] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt8 input , final double denominator , final int lower , final int upper ,
+							final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt8 input , final int value , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (byte)((input.data[indexSrc+i] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt8 input , final int value , final int lower , final int upper ,
+							final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (input.data[indexSrc+i] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (byte)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageSInt8 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int value = img.data[index+i];
+						if( value < min ) value = min;
+						if( value > max ) value = max;
+						img.data[index+i] = (byte)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt8 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexDiff = diff.startIndex + (y0+y)*diff.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						diff.data[indexDiff+i] = (byte)Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageUInt16 input , final double value , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (short)((input.data[indexSrc+i] & 0xFFFF) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageUInt16 input , final double value , final int lower , final int upper ,
+							final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] & 0xFFFF) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageUInt16 input , final double denominator , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (short)((input.data[indexSrc+i] & 0xFFFF) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageUInt16 input , final double denominator , final int lower , final int upper ,
+							final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] & 0xFFFF) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageUInt16 input , final int value , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (short)((input.data[indexSrc+i] & 0xFFFF) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageUInt16 input , final int value , final int lower , final int upper ,
+							final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (input.data[indexSrc+i] & 0xFFFF) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageUInt16 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int value = img.data[index+i]& 0xFFFF;
+						if( value < min ) value = min;
+						if( value > max ) value = max;
+						img.data[index+i] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageUInt16 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexDiff = diff.startIndex + (y0+y)*diff.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						diff.data[indexDiff+i] = (short)Math.abs((imgA.data[indexA+i] & 0xFFFF) - (imgB.data[indexB+i] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt16 input , final double value , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (short)((input.data[indexSrc+i] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt16 input , final double value , final int lower , final int upper ,
+							final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt16 input , final double denominator , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (short)((input.data[indexSrc+i] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt16 input , final double denominator , final int lower , final int upper ,
+							final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt16 input , final int value , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (short)((input.data[indexSrc+i] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt16 input , final int value , final int lower , final int upper ,
+							final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (input.data[indexSrc+i] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = (short)val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageSInt16 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int value = img.data[index+i];
+						if( value < min ) value = min;
+						if( value > max ) value = max;
+						img.data[index+i] = (short)value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt16 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexDiff = diff.startIndex + (y0+y)*diff.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						diff.data[indexDiff+i] = (short)Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt32 input , final double value , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (int)((input.data[indexSrc+i] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt32 input , final double value , final int lower , final int upper ,
+							final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt32 input , final double denominator , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (int)((input.data[indexSrc+i] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt32 input , final double denominator , final int lower , final int upper ,
+							final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (int)((input.data[indexSrc+i] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt32 input , final int value , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = ((input.data[indexSrc+i] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt32 input , final int value , final int lower , final int upper ,
+							final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int val = (input.data[indexSrc+i] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageSInt32 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						int value = img.data[index+i];
+						if( value < min ) value = min;
+						if( value > max ) value = max;
+						img.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexDiff = diff.startIndex + (y0+y)*diff.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						diff.data[indexDiff+i] = (int)Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt64 input , final double value , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (long)((input.data[indexSrc+i] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageSInt64 input , final double value , final long lower , final long upper ,
+							final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long val = (long)((input.data[indexSrc+i] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt64 input , final double denominator , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (long)((input.data[indexSrc+i] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageSInt64 input , final double denominator , final long lower , final long upper ,
+							final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long val = (long)((input.data[indexSrc+i] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt64 input , final long value , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = ((input.data[indexSrc+i] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageSInt64 input , final long value , final long lower , final long upper ,
+							final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long val = (input.data[indexSrc+i] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageSInt64 img , final long min , final long max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						long value = img.data[index+i];
+						if( value < min ) value = min;
+						if( value > max ) value = max;
+						img.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexDiff = diff.startIndex + (y0+y)*diff.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						diff.data[indexDiff+i] = (long)Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageFloat32 input , final float value , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = ((input.data[indexSrc+i] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageFloat32 input , final float value , final float lower , final float upper ,
+							final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float val = ((input.data[indexSrc+i] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageFloat32 input , final float denominator , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = ((input.data[indexSrc+i] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageFloat32 input , final float denominator , final float lower , final float upper ,
+							final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float val = ((input.data[indexSrc+i] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageFloat32 input , final float value , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = ((input.data[indexSrc+i] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageFloat32 input , final float value , final float lower , final float upper ,
+							final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float val = (input.data[indexSrc+i] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageFloat32 img , final float min , final float max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						float value = img.data[index+i];
+						if( value < min ) value = min;
+						if( value > max ) value = max;
+						img.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexDiff = diff.startIndex + (y0+y)*diff.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						diff.data[indexDiff+i] = Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageFloat64 input , final double value , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = ((input.data[indexSrc+i] ) * value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result. Both input and output images can
+	 * be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( final ImageFloat64 input , final double value , final double lower , final double upper ,
+							final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double val = ((input.data[indexSrc+i] ) * value);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageFloat64 input , final double denominator , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = ((input.data[indexSrc+i] ) / denominator);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( final ImageFloat64 input , final double denominator , final double lower ,
+							final double upper , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double val = ((input.data[indexSrc+i] ) / denominator);
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageFloat64 input , final double value , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = ((input.data[indexSrc+i] ) + value);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result. Both input and output images can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( final ImageFloat64 input , final double value , final double lower , final double upper ,
+							final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double val = (input.data[indexSrc+i] ) + value;
+						if( val < lower ) val = lower;
+						if( val > upper ) val = upper;
+						output.data[indexDst+i] = val;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 * 
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( final ImageFloat64 img , final double min , final double max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = img.width;
+				if( img.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int index = img.startIndex + (y0+y)*img.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						double value = img.data[index+i];
+						if( value < min ) value = min;
+						if( value > max ) value = max;
+						img.data[index+i] = value;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param diff Absolute value of difference image. Modified.
+	 */
+	public static void diffAbs( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && diff.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexDiff = diff.startIndex + (y0+y)*diff.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						diff.data[indexDiff+i] = Math.abs((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (short)((imgA.data[indexA+i] & 0xFF) + (imgB.data[indexB+i] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (short)((imgA.data[indexA+i] & 0xFF) - (imgB.data[indexB+i] & 0xFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (short)((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (short)((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (int)((imgA.data[indexA+i] & 0xFFFF) + (imgB.data[indexB+i] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (int)((imgA.data[indexA+i] & 0xFFFF) - (imgB.data[indexB+i] & 0xFFFF));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (int)((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (int)((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (int)((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (int)((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (long)((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = (long)((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = ((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = ((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise multiplication<br>
+	 * output(x,y) = imgA(x,y) * imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void multiply( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = ((imgA.data[indexA+i] ) * (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise division<br>
+	 * output(x,y) = imgA(x,y) / imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void divide( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = ((imgA.data[indexA+i] ) / (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the log image is written to. Modified.
+	 */
+	public static void log( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = (float)Math.log(1 + input.data[indexSrc+i]);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise addition<br>
+	 * output(x,y) = imgA(x,y) + imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = ((imgA.data[indexA+i] ) + (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise subtraction.<br>
+	 * output(x,y) = imgA(x,y) - imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = ((imgA.data[indexA+i] ) - (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise multiplication<br>
+	 * output(x,y) = imgA(x,y) * imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void multiply( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = ((imgA.data[indexA+i] ) * (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * <p>
+	 * Performs pixel-wise division<br>
+	 * output(x,y) = imgA(x,y) / imgB(x,y)
+	 * </p>
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void divide( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = imgA.width;
+				if( imgA.stride == columns && imgB.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexA = imgA.startIndex + (y0+y)*imgA.stride;
+					int indexB = imgB.startIndex + (y0+y)*imgB.stride;
+					int indexOut = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexOut+i] = ((imgA.data[indexA+i] ) / (imgB.data[indexB+i] ));
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Sets each pixel in the output image to log( 1 + input(x,y)) of the input image.
+	 * Both the input and output image can be the same instance.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output Where the log image is written to. Modified.
+	 */
+	public static void log( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				int rows = y1-y0;
+				int columns = input.width;
+				if( input.stride == columns && output.stride == columns ) {
+					// no gaps between rows, process the image as one long row
+					columns *= rows;
+					rows = 1;
+				}
+
+				for( int y = 0; y < rows; y++ ) {
+					int indexSrc = input.startIndex + (y0+y)*input.stride;
+					int indexDst = output.startIndex + (y0+y)*output.stride;
+
+					for( int i = 0; i < columns; i++ ) {
+						output.data[indexDst+i] = Math.log(1 + input.data[indexSrc+i]);
+					}
+				}
+			}
+		});
+	}
+
+}
@@ -22,6 +22,7 @@ import boofcv.abst.transform.fft.DiscreteFourierTransform;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F32;
 import boofcv.abst.transform.fft.GeneralFft_to_DiscreteFourierTransform_F64;
 import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 
 /**
@@ -101,6 +102,21 @@ public class DiscreteFourierTransformOps {
 			throw new IllegalArgumentException("The transform must have two bands");
 	}
 
+	/**
+	 * Checks to see if the image and its half spectrum are appropriate sizes.  The transform should have
+	 * width/2+1 columns, the same height as the image, and two bands.
+	 *
+	 * @param image Storage for an image
+	 * @param transform Storage for half of a Fourier Transform
+	 */
+	public static void checkHalfArguments( ImageBase image , ImageInterleaved transform ) {
+		if( transform.width != image.width/2+1 || transform.height != image.height )
+			throw new IllegalArgumentException("The transform must be (width/2+1) by height. Expected "+
+					(image.width/2+1)+"x"+image.height+" found "+transform.width+"x"+transform.height);
+		if( 2 != transform.getNumBands() )
+			throw new IllegalArgumentException("The transform must have two bands");
+	}
+
 	/**
 	 * Moves the zero-frequency component into the image center (width/2,height/2).   This function can
 	 * be called to undo the transform.
@@ -258,6 +274,11 @@ public class DiscreteFourierTransformOps {
 	public static void magnitude( InterleavedF32 transform , ImageFloat32 magnitude ) {
 		checkImageArguments(magnitude,transform);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			DiscreteFourierTransformOps_MT.magnitude(transform,magnitude);
+			return;
+		}
+
 		for( int y = 0; y < transform.height; y++ ) {
 
 			int indexTran = transform.startIndex + y*transform.stride;
@@ -282,6 +303,11 @@ public class DiscreteFourierTransformOps {
 	public static void magnitude( InterleavedF64 transform , ImageFloat64 magnitude ) {
 		checkImageArguments(magnitude,transform);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			DiscreteFourierTransformOps_MT.magnitude(transform,magnitude);
+			return;
+		}
+
 		for( int y = 0; y < transform.height; y++ ) {
 
 			int indexTran = transform.startIndex + y*transform.stride;
@@ -306,6 +332,11 @@ public class DiscreteFourierTransformOps {
 	public static void phase( InterleavedF32 transform , ImageFloat32 phase ) {
 		checkImageArguments(phase,transform);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			DiscreteFourierTransformOps_MT.phase(transform,phase);
+			return;
+		}
+
 		for( int y = 0; y < transform.height; y++ ) {
 
 			int indexTran = transform.startIndex + y*transform.stride;
@@ -330,6 +361,11 @@ public class DiscreteFourierTransformOps {
 	public static void phase( InterleavedF64 transform , ImageFloat64 phase ) {
 		checkImageArguments(phase,transform);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			DiscreteFourierTransformOps_MT.phase(transform,phase);
+			return;
+		}
+
 		for( int y = 0; y < transform.height; y++ ) {
 
 			int indexTran = transform.startIndex + y*transform.stride;
@@ -399,6 +435,11 @@ public class DiscreteFourierTransformOps {
 
 		InputSanityCheck.checkSameShape( complexB,complexC);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			DiscreteFourierTransformOps_MT.multiplyRealComplex(realA,complexB,complexC);
+			return;
+		}
+
 		for( int y = 0; y < realA.height; y++ ) {
 
 			int indexA = realA.startIndex + y*realA.stride;
@@ -431,6 +472,11 @@ public class DiscreteFourierTransformOps {
 
 		InputSanityCheck.checkSameShape( complexB,complexC);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			DiscreteFourierTransformOps_MT.multiplyRealComplex(realA,complexB,complexC);
+			return;
+		}
+
 		for( int y = 0; y < realA.height; y++ ) {
 
 			int indexA = realA.startIndex + y*realA.stride;
@@ -460,6 +506,11 @@ public class DiscreteFourierTransformOps {
 
 		InputSanityCheck.checkSameShape(complexA, complexB,complexC);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			DiscreteFourierTransformOps_MT.multiplyComplex(complexA,complexB,complexC);
+			return;
+		}
+
 		for( int y = 0; y < complexA.height; y++ ) {
 
 			int indexA = complexA.startIndex + y*complexA.stride;
@@ -490,6 +541,11 @@ public class DiscreteFourierTransformOps {
 
 		InputSanityCheck.checkSameShape(complexA, complexB,complexC);
 
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			DiscreteFourierTransformOps_MT.multiplyComplex(complexA,complexB,complexC);
+			return;
+		}
+
 		for( int y = 0; y < complexA.height; y++ ) {
 
 			int indexA = complexA.startIndex + y*complexA.stride;
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementations of functions in {@link DiscreteFourierTransformOps}. Images are split into blocks of
+ * rows which are processed in parallel using {@link BoofConcurrency}. Call the functions in
+ * {@link DiscreteFourierTransformOps} instead of using this class directly.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DiscreteFourierTransformOps_MT {
+
+	/**
+	 * Computes the magnitude of the complex image concurrently
+	 *
+	 * @see DiscreteFourierTransformOps#magnitude(InterleavedF32, ImageFloat32)
+	 */
+	public static void magnitude( final InterleavedF32 transform , final ImageFloat32 magnitude ) {
+		DiscreteFourierTransformOps.checkImageArguments(magnitude,transform);
+
+		BoofConcurrency.loopBlocks(0,transform.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for( int y = y0; y < y1; y++ ) {
+
+					int indexTran = transform.startIndex + y*transform.stride;
+					int indexMag = magnitude.startIndex + y*magnitude.stride;
+
+					for( int x = 0; x < transform.width; x++, indexTran += 2 ) {
+
+						float real = transform.data[indexTran];
+						float img = transform.data[indexTran+1];
+
+						magnitude.data[indexMag++] = (float)Math.sqrt(real * real + img * img);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the phase of the complex image concurrently
+	 *
+	 * @see DiscreteFourierTransformOps#phase(InterleavedF32, ImageFloat32)
+	 */
+	public static void phase( final InterleavedF32 transform , final ImageFloat32 phase ) {
+		DiscreteFourierTransformOps.checkImageArguments(phase,transform);
+
+		BoofConcurrency.loopBlocks(0,transform.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for( int y = y0; y < y1; y++ ) {
+
+					int indexTran = transform.startIndex + y*transform.stride;
+					int indexPhase = phase.startIndex + y*phase.stride;
+
+					for( int x = 0; x < transform.width; x++, indexTran += 2 ) {
+
+						float real = transform.data[indexTran];
+						float img = transform.data[indexTran+1];
+
+						phase.data[indexPhase++] = (float)Math.atan2(img, real);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Performs element-wise complex multiplication between a real image and a complex image concurrently
+	 *
+	 * @see DiscreteFourierTransformOps#multiplyRealComplex(ImageFloat32, InterleavedF32, InterleavedF32)
+	 */
+	public static void multiplyRealComplex( final ImageFloat32 realA ,
+											final InterleavedF32 complexB , final InterleavedF32 complexC ) {
+
+		DiscreteFourierTransformOps.checkImageArguments(realA,complexB);
+
+		InputSanityCheck.checkSameShape( complexB,complexC);
+
+		BoofConcurrency.loopBlocks(0,realA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for( int y = y0; y < y1; y++ ) {
+
+					int indexA = realA.startIndex + y*realA.stride;
+					int indexB = complexB.startIndex + y*complexB.stride;
+					int indexC = complexC.startIndex + y*complexC.stride;
+
+					for( int x = 0; x < realA.width; x++, indexA++ , indexB += 2  ,indexC += 2 ) {
+
+						float real = realA.data[indexA];
+						float realB = complexB.data[indexB];
+						float imgB = complexB.data[indexB+1];
+
+						complexC.data[indexC] = real*realB;
+						complexC.data[indexC+1] = real*imgB;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Performs element-wise complex multiplication between two complex images concurrently
+	 *
+	 * @see DiscreteFourierTransformOps#multiplyComplex(InterleavedF32, InterleavedF32, InterleavedF32)
+	 */
+	public static void multiplyComplex( final InterleavedF32 complexA , final InterleavedF32 complexB ,
+										final InterleavedF32 complexC ) {
+
+		InputSanityCheck.checkSameShape(complexA, complexB,complexC);
+
+		BoofConcurrency.loopBlocks(0,complexA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for( int y = y0; y < y1; y++ ) {
+
+					int indexA = complexA.startIndex + y*complexA.stride;
+					int indexB = complexB.startIndex + y*complexB.stride;
+					int indexC = complexC.startIndex + y*complexC.stride;
+
+					for( int x = 0; x < complexA.width; x++, indexA += 2 , indexB += 2  ,indexC += 2 ) {
+
+						float realA = complexA.data[indexA];
+						float imgA = complexA.data[indexA+1];
+						float realB = complexB.data[indexB];
+						float imgB = complexB.data[indexB+1];
+
+						complexC.data[indexC] = realA*realB - imgA*imgB;
+						complexC.data[indexC+1] = realA*imgB + imgA*realB;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the magnitude of the complex image concurrently
+	 *
+	 * @see DiscreteFourierTransformOps#magnitude(InterleavedF64, ImageFloat64)
+	 */
+	public static void magnitude( final InterleavedF64 transform , final ImageFloat64 magnitude ) {
+		DiscreteFourierTransformOps.checkImageArguments(magnitude,transform);
+
+		BoofConcurrency.loopBlocks(0,transform.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for( int y = y0; y < y1; y++ ) {
+
+					int indexTran = transform.startIndex + y*transform.stride;
+					int indexMag = magnitude.startIndex + y*magnitude.stride;
+
+					for( int x = 0; x < transform.width; x++, indexTran += 2 ) {
+
+						double real = transform.data[indexTran];
+						double img = transform.data[indexTran+1];
+
+						magnitude.data[indexMag++] = Math.sqrt(real * real + img * img);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the phase of the complex image concurrently
+	 *
+	 * @see DiscreteFourierTransformOps#phase(InterleavedF64, ImageFloat64)
+	 */
+	public static void phase( final InterleavedF64 transform , final ImageFloat64 phase ) {
+		DiscreteFourierTransformOps.checkImageArguments(phase,transform);
+
+		BoofConcurrency.loopBlocks(0,transform.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for( int y = y0; y < y1; y++ ) {
+
+					int indexTran = transform.startIndex + y*transform.stride;
+					int indexPhase = phase.startIndex + y*phase.stride;
+
+					for( int x = 0; x < transform.width; x++, indexTran += 2 ) {
+
+						double real = transform.data[indexTran];
+						double img = transform.data[indexTran+1];
+
+						phase.data[indexPhase++] = Math.atan2(img, real);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Performs element-wise complex multiplication between a real image and a complex image concurrently
+	 *
+	 * @see DiscreteFourierTransformOps#multiplyRealComplex(ImageFloat64, InterleavedF64, InterleavedF64)
+	 */
+	public static void multiplyRealComplex( final ImageFloat64 realA ,
+											final InterleavedF64 complexB , final InterleavedF64 complexC ) {
+
+		DiscreteFourierTransformOps.checkImageArguments(realA,complexB);
+
+		InputSanityCheck.checkSameShape( complexB,complexC);
+
+		BoofConcurrency.loopBlocks(0,realA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for( int y = y0; y < y1; y++ ) {
+
+					int indexA = realA.startIndex + y*realA.stride;
+					int indexB = complexB.startIndex + y*complexB.stride;
+					int indexC = complexC.startIndex + y*complexC.stride;
+
+					for( int x = 0; x < realA.width; x++, indexA++ , indexB += 2  ,indexC += 2 ) {
+
+						double real = realA.data[indexA];
+						double realB = complexB.data[indexB];
+						double imgB = complexB.data[indexB+1];
+
+						complexC.data[indexC] = real*realB;
+						complexC.data[indexC+1] = real*imgB;
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Performs element-wise complex multiplication between two complex images concurrently
+	 *
+	 * @see DiscreteFourierTransformOps#multiplyComplex(InterleavedF64, InterleavedF64, InterleavedF64)
+	 */
+	public static void multiplyComplex( final InterleavedF64 complexA , final InterleavedF64 complexB ,
+										final InterleavedF64 complexC ) {
+
+		InputSanityCheck.checkSameShape(complexA, complexB,complexC);
+
+		BoofConcurrency.loopBlocks(0,complexA.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process( int y0 , int y1 ) {
+				for( int y = y0; y < y1; y++ ) {
+
+					int indexA = complexA.startIndex + y*complexA.stride;
+					int indexB = complexB.startIndex + y*complexB.stride;
+					int indexC = complexC.startIndex + y*complexC.stride;
+
+					for( int x = 0; x < complexA.width; x++, indexA += 2 , indexB += 2  ,indexC += 2 ) {
+
+						double realA = complexA.data[indexA];
+						double imgA = complexA.data[indexA+1];
+						double realB = complexB.data[indexB];
+						double imgB = complexB.data[indexB+1];
+
+						complexC.data[indexC] = realA*realB - imgA*imgB;
+						complexC.data[indexC+1] = realA*imgB + imgA*realB;
+					}
+				}
+			}
+		});
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Thread safe cache of FFT plans, see {@link FftPlan_F32} and {@link FftPlan_F64}.  Declaring a plan requires
+ * computing twiddle factors and allocating work space, which can be a significant fraction of the transform itself
+ * when the same image size is processed every frame.  Plans are looked up by (width,height,precision).
+ * </p>
+ *
+ * <p>
+ * A plan contains work space and can only be used by one thread at a time.  A plan is borrowed with one of the
+ * acquire functions and must be handed back with {@link #release} once the caller is done with it.  If no idle plan
+ * is available for the requested shape then a new one is declared.  Shapes which have not been used recently are
+ * discarded once more than {@link #getMaxShapes()} shapes are being tracked.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FftPlanCache {
+
+	// cache which is shared by all the DiscreteFourierTransform implementations
+	private static final FftPlanCache global = new FftPlanCache(16,4);
+
+	// maximum number of image shapes which are saved
+	private int maxShapes;
+	// maximum number of idle plans for each shape
+	private int maxPlansPerShape;
+
+	// idle plans for each shape, ordered from least to most recently used
+	private final LinkedHashMap<Key,List<Object>> idle;
+
+	// used to look up plans without declaring a new key each time
+	private final Key lookup = new Key();
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param maxShapes Maximum number of image shapes which are saved.
+	 * @param maxPlansPerShape Maximum number of idle plans saved for each shape.
+	 */
+	public FftPlanCache( final int maxShapes , int maxPlansPerShape ) {
+		if( maxShapes < 1 || maxPlansPerShape < 1 )
+			throw new IllegalArgumentException("Maximum sizes must be greater than 0");
+		this.maxShapes = maxShapes;
+		this.maxPlansPerShape = maxPlansPerShape;
+
+		idle = new LinkedHashMap<Key,List<Object>>(16,0.75f,true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, List<Object>> eldest) {
+				return size() > FftPlanCache.this.maxShapes;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cache which is shared by default
+	 */
+	public static FftPlanCache getGlobal() {
+		return global;
+	}
+
+	/**
+	 * Borrows a plan for a {@link boofcv.struct.image.ImageFloat32} image of the specified shape.
+	 */
+	public FftPlan_F32 acquireF32( int width , int height ) {
+		Object plan = acquire(width, height, false);
+		if( plan == null )
+			return new FftPlan_F32(width,height);
+		return (FftPlan_F32)plan;
+	}
+
+	/**
+	 * Borrows a plan for a {@link boofcv.struct.image.ImageFloat64} image of the specified shape.
+	 */
+	public FftPlan_F64 acquireF64( int width , int height ) {
+		Object plan = acquire(width, height, true);
+		if( plan == null )
+			return new FftPlan_F64(width,height);
+		return (FftPlan_F64)plan;
+	}
+
+	/**
+	 * Hands back a plan which was previously acquired.  It must not be used after it has been released.
+	 */
+	public void release( FftPlan_F32 plan ) {
+		release(plan, plan.width, plan.height, false);
+	}
+
+	/**
+	 * Hands back a plan which was previously acquired.  It must not be used after it has been released.
+	 */
+	public void release( FftPlan_F64 plan ) {
+		release(plan, plan.width, plan.height, true);
+	}
+
+	private synchronized Object acquire( int width , int height , boolean doublePrecision ) {
+		lookup.set(width,height,doublePrecision);
+		List<Object> plans = idle.get(lookup);
+		if( plans == null || plans.isEmpty() )
+			return null;
+		return plans.remove(plans.size()-1);
+	}
+
+	private synchronized void release( Object plan , int width , int height , boolean doublePrecision ) {
+		lookup.set(width,height,doublePrecision);
+		List<Object> plans = idle.get(lookup);
+		if( plans == null ) {
+			plans = new ArrayList<Object>();
+			idle.put(new Key(width,height,doublePrecision),plans);
+		}
+		if( plans.size() < maxPlansPerShape )
+			plans.add(plan);
+	}
+
+	/**
+	 * Discards all the saved plans
+	 */
+	public synchronized void clear() {
+		idle.clear();
+	}
+
+	/**
+	 * Number of image shapes which currently have saved plans
+	 */
+	public synchronized int getNumberOfShapes() {
+		return idle.size();
+	}
+
+	public int getMaxShapes() {
+		return maxShapes;
+	}
+
+	public int getMaxPlansPerShape() {
+		return maxPlansPerShape;
+	}
+
+	private static class Key {
+		int width,height;
+		boolean doublePrecision;
+
+		Key() {
+		}
+
+		Key(int width, int height, boolean doublePrecision) {
+			set(width,height,doublePrecision);
+		}
+
+		void set(int width, int height, boolean doublePrecision) {
+			this.width = width;
+			this.height = height;
+			this.doublePrecision = doublePrecision;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			Key k = (Key)o;
+			return width == k.width && height == k.height && doublePrecision == k.doublePrecision;
+		}
+
+		@Override
+		public int hashCode() {
+			return (width*31 + height)*2 + (doublePrecision ? 1 : 0);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.InterleavedF32;
+
+/**
+ * <p>
+ * Precomputed FFT for images of a specific size.  Contains the full 2D transform along with 1D transforms
+ * along the rows and columns, which are used to compute the half spectrum of a real image.  Each transform is
+ * declared the first time it is needed.  Plans are expensive to declare but cheap to reuse, see {@link FftPlanCache}.
+ * </p>
+ *
+ * <p>
+ * The half spectrum is stored as an interleaved complex image which is (width/2+1) columns wide and has the same
+ * height as the input image.  Each row is transformed with a real FFT, then each of the remaining columns is
+ * transformed with a complex FFT.
+ * </p>
+ *
+ * <p>
+ * NOTE: Plans contain internal work space and can't be used by multiple threads at the same time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FftPlan_F32 {
+	// shape of the image
+	int width;
+	int height;
+
+	// full 2D transform
+	private GeneralPurposeFFT_F32_2D full;
+	private GeneralPurposeFFT_F32_2D_MT fullConcurrent;
+	// 1D transforms along each row and column
+	private GeneralPurposeFFT_F32_1D alongRows;
+	private GeneralPurposeFFT_F32_1D alongColumns;
+
+	// storage for a single column of the half spectrum
+	private float[] column;
+
+	public FftPlan_F32(int width, int height) {
+		if( width < 1 || height < 1 )
+			throw new IllegalArgumentException("width and height must be greater than 0");
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Returns the full 2D transform for this image shape.  If {@link BoofConcurrency#USE_CONCURRENT} is true
+	 * then the concurrent implementation is returned.
+	 */
+	public GeneralPurposeFFT_F32_2D getFull() {
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			if( fullConcurrent == null )
+				fullConcurrent = new GeneralPurposeFFT_F32_2D_MT(height,width);
+			return fullConcurrent;
+		}
+		if( full == null )
+			full = new GeneralPurposeFFT_F32_2D(height,width);
+		return full;
+	}
+
+	/**
+	 * Computes the half spectrum of a real image.
+	 *
+	 * @param image (Input) Image which is to be transformed.  Not modified.
+	 * @param transform (Output) Half spectrum.  Must be (width/2+1) by height with two bands.  Modified.
+	 */
+	public void forwardHalf( ImageFloat32 image , InterleavedF32 transform ) {
+		declareHalf();
+
+		int w = width;
+
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = image.startIndex + y*image.stride;
+			int indexOut = transform.startIndex + y*transform.stride;
+
+			System.arraycopy(image.data,indexIn,transform.data,indexOut,w);
+			alongRows.realForward(transform.data,indexOut);
+
+			// Move the last element out of the packed format.  For even widths a[1] = Re[w/2] and for odd widths
+			// a[1] = Im[(w-1)/2].  Both are at index w in the unpacked format
+			if( w > 1 )
+				transform.data[indexOut+w] = transform.data[indexOut+1];
+			if( w % 2 == 0 )
+				transform.data[indexOut+w+1] = 0;
+			transform.data[indexOut+1] = 0;
+		}
+
+		for( int x = 0; x < transform.width; x++ ) {
+			copyColumnOut(transform,x);
+			alongColumns.complexForward(column);
+			copyColumnIn(transform,x);
+		}
+	}
+
+	/**
+	 * Computes the inverse of a half spectrum.  The transform is used as work space and is modified.
+	 *
+	 * @param transform (Input) Half spectrum.  Must be (width/2+1) by height with two bands.  Modified.
+	 * @param image (Output) Reconstructed image.  Modified.
+	 */
+	public void inverseHalf( InterleavedF32 transform , ImageFloat32 image ) {
+		declareHalf();
+
+		int w = width;
+
+		for( int x = 0; x < transform.width; x++ ) {
+			copyColumnOut(transform,x);
+			alongColumns.complexInverse(column,true);
+			copyColumnIn(transform,x);
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = transform.startIndex + y*transform.stride;
+			int indexOut = image.startIndex + y*image.stride;
+
+			// convert back into the packed format
+			if( w > 1 )
+				transform.data[indexIn+1] = transform.data[indexIn+w];
+			alongRows.realInverse(transform.data,indexIn,true);
+
+			System.arraycopy(transform.data,indexIn,image.data,indexOut,w);
+		}
+	}
+
+	private void declareHalf() {
+		if( alongRows == null ) {
+			alongRows = new GeneralPurposeFFT_F32_1D(width);
+			alongColumns = width == height ? alongRows : new GeneralPurposeFFT_F32_1D(height);
+			column = new float[height*2];
+		}
+	}
+
+	private void copyColumnOut( InterleavedF32 transform , int x ) {
+		int index = transform.startIndex + x*2;
+		for( int y = 0, i = 0; y < height; y++ , index += transform.stride ) {
+			column[i++] = transform.data[index];
+			column[i++] = transform.data[index+1];
+		}
+	}
+
+	private void copyColumnIn( InterleavedF32 transform , int x ) {
+		int index = transform.startIndex + x*2;
+		for( int y = 0, i = 0; y < height; y++ , index += transform.stride ) {
+			transform.data[index] = column[i++];
+			transform.data[index+1] = column[i++];
+		}
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link GeneralPurposeFFT_F32_2D}.  The 2D transform is computed by applying
+ * 1D transforms along each row and then along each column.  Blocks of rows and then blocks of columns are
+ * processed in parallel using the thread pool in {@link BoofConcurrency}.  Each thread is given its own 1D
+ * transforms since they contain work space.
+ * </p>
+ *
+ * <p>
+ * Images with fewer than {@link #getMinimumSize()} elements are processed by the single threaded code since the
+ * overhead of splitting up the work dominates.  For real transforms only the left half of the columns are
+ * transformed and the remainder is filled in using the symmetry of the spectrum.  Functions which are not
+ * overridden here are single threaded.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class GeneralPurposeFFT_F32_2D_MT extends GeneralPurposeFFT_F32_2D {
+
+	/**
+	 * Default value for the minimum number of elements before it's processed concurrently
+	 */
+	public static final int DEFAULT_MINIMUM_SIZE = 256*256;
+
+	private int rows;
+	private int columns;
+
+	// images with fewer elements than this are processed in a single thread
+	private int minimumSize = DEFAULT_MINIMUM_SIZE;
+
+	// number of columns which are copied into work space at the same time
+	private static final int COLUMN_GROUP = 4;
+
+	// work space which isn't being used by a thread
+	private final List<Workspace> available = new ArrayList<Workspace>();
+
+	// copy of the real input data, which is overwritten when the rows are expanded into complex numbers
+	private float[] realInput = new float[0];
+
+	public GeneralPurposeFFT_F32_2D_MT(int rows, int columns) {
+		super(rows, columns);
+		this.rows = rows;
+		this.columns = columns;
+	}
+
+	@Override
+	public void complexForward(final float[] a) {
+		if( !isConcurrent() ) {
+			super.complexForward(a);
+			return;
+		}
+
+		complexRows(a, true, false);
+		complexColumns(a, columns, true, false);
+	}
+
+	@Override
+	public void complexInverse(final float[] a, final boolean scale) {
+		if( !isConcurrent() ) {
+			super.complexInverse(a,scale);
+			return;
+		}
+
+		complexRows(a, false, scale);
+		complexColumns(a, columns, false, scale);
+	}
+
+	@Override
+	public void realForwardFull(final float[] a) {
+		if( !isConcurrent() ) {
+			super.realForwardFull(a);
+			return;
+		}
+
+		realRows(a, true, false);
+		// the spectrum of real data is symmetric so only half the columns need to be computed
+		complexColumns(a, columns/2+1, true, false);
+		fillSymmetric(a);
+	}
+
+	@Override
+	public void realInverseFull(final float[] a, final boolean scale) {
+		if( !isConcurrent() ) {
+			super.realInverseFull(a, scale);
+			return;
+		}
+
+		realRows(a, false, scale);
+		complexColumns(a, columns/2+1, false, scale);
+		fillSymmetric(a);
+	}
+
+	/**
+	 * Returns true if the image is large enough to be processed concurrently
+	 */
+	private boolean isConcurrent() {
+		return rows > 1 && columns > 1 && rows*columns >= minimumSize && BoofConcurrency.getMaxThreads() > 1;
+	}
+
+	/**
+	 * Applies a complex 1D transform along each row
+	 */
+	private void complexRows( final float[] a , final boolean forward , final boolean scale ) {
+		final int rowStride = 2*columns;
+
+		BoofConcurrency.loopBlocks(0,rows,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int r0, int r1) {
+				Workspace w = acquireWorkspace();
+				for( int r = r0; r < r1; r++ ) {
+					if( forward )
+						w.rowFft.complexForward(a, r*rowStride);
+					else
+						w.rowFft.complexInverse(a, r*rowStride, scale);
+				}
+				releaseWorkspace(w);
+			}
+		});
+	}
+
+	/**
+	 * Expands each row of real data into the full complex transform of that row
+	 */
+	private void realRows( final float[] a , final boolean forward , final boolean scale ) {
+		final int rowStride = 2*columns;
+
+		// rows are expanded in place and would overwrite the input of other rows
+		final int N = rows*columns;
+		if( realInput.length < N )
+			realInput = new float[N];
+		System.arraycopy(a,0,realInput,0,N);
+
+		BoofConcurrency.loopBlocks(0,rows,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int r0, int r1) {
+				Workspace w = acquireWorkspace();
+				for( int r = r0; r < r1; r++ ) {
+					int index = r*rowStride;
+					System.arraycopy(realInput,r*columns,a,index,columns);
+					// the 1D transform doesn't write to every element in the upper half
+					Arrays.fill(a,index+columns,index+rowStride,0);
+					if( forward )
+						w.rowFft.realForwardFull(a, index);
+					else
+						w.rowFft.realInverseFull(a, index, scale);
+				}
+				releaseWorkspace(w);
+			}
+		});
+	}
+
+	/**
+	 * Applies a complex 1D transform along columns 0 to numColumns-1.  Several adjacent columns are copied
+	 * at once to reduce the number of cache misses.
+	 */
+	private void complexColumns( final float[] a , int numColumns , final boolean forward , final boolean scale ) {
+		final int rowStride = 2*columns;
+		final int columnLength = 2*rows;
+
+		int numGroups = (numColumns + COLUMN_GROUP - 1)/COLUMN_GROUP;
+		final int numColumnsF = numColumns;
+
+		BoofConcurrency.loopBlocks(0,numGroups,BoofConcurrency.getMinBandHeight()/COLUMN_GROUP,new IntRangeTask() {
+			@Override
+			public void process(int g0, int g1) {
+				Workspace w = acquireWorkspace();
+				float[] buffer = w.buffer;
+
+				for( int g = g0; g < g1; g++ ) {
+					int c0 = g*COLUMN_GROUP;
+					int c1 = Math.min(numColumnsF,c0+COLUMN_GROUP);
+					int width = 2*(c1-c0);
+
+					for( int r = 0; r < rows; r++ ) {
+						int indexA = r*rowStride + 2*c0;
+						for( int i = 0, indexB = 2*r; i < width; i += 2, indexB += columnLength ) {
+							buffer[indexB] = a[indexA+i];
+							buffer[indexB+1] = a[indexA+i+1];
+						}
+					}
+
+					for( int c = c0; c < c1; c++ ) {
+						if( forward )
+							w.columnFft.complexForward(buffer, (c-c0)*columnLength);
+						else
+							w.columnFft.complexInverse(buffer, (c-c0)*columnLength, scale);
+					}
+
+					for( int r = 0; r < rows; r++ ) {
+						int indexA = r*rowStride + 2*c0;
+						for( int i = 0, indexB = 2*r; i < width; i += 2, indexB += columnLength ) {
+							a[indexA+i] = buffer[indexB];
+							a[indexA+i+1] = buffer[indexB+1];
+						}
+					}
+				}
+				releaseWorkspace(w);
+			}
+		});
+	}
+
+	/**
+	 * Fills in the right half of the spectrum using the symmetry of real data, X[k1][k2] = conj(X[-k1][-k2])
+	 */
+	private void fillSymmetric( final float[] a ) {
+		final int rowStride = 2*columns;
+		final int start = columns/2+1;
+
+		BoofConcurrency.loopBlocks(0,rows,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int r0, int r1) {
+				for( int r = r0; r < r1; r++ ) {
+					int indexDst = r*rowStride;
+					int indexSrc = ((rows-r)%rows)*rowStride;
+					for( int c = start; c < columns; c++ ) {
+						int i = 2*(columns-c);
+						a[indexDst+2*c] = a[indexSrc+i];
+						a[indexDst+2*c+1] = -a[indexSrc+i+1];
+					}
+				}
+			}
+		});
+	}
+
+	private Workspace acquireWorkspace() {
+		synchronized( available ) {
+			if( available.isEmpty() )
+				return new Workspace();
+			return available.remove(available.size()-1);
+		}
+	}
+
+	private void releaseWorkspace( Workspace w ) {
+		synchronized( available ) {
+			available.add(w);
+		}
+	}
+
+	/**
+	 * Images with fewer elements than this are processed in a single thread
+	 */
+	public int getMinimumSize() {
+		return minimumSize;
+	}
+
+	public void setMinimumSize(int minimumSize) {
+		this.minimumSize = minimumSize;
+	}
+
+	/**
+	 * Storage used by a single thread
+	 */
+	private class Workspace {
+		GeneralPurposeFFT_F32_1D rowFft = new GeneralPurposeFFT_F32_1D(columns);
+		GeneralPurposeFFT_F32_1D columnFft = new GeneralPurposeFFT_F32_1D(rows);
+		float[] buffer = new float[2*rows*COLUMN_GROUP];
+	}
+}
@@ -59,6 +59,8 @@ public class GIntegralImageOps {
 		} else if( input instanceof ImageFloat64) {
 			return (T)IntegralImageOps.transform((ImageFloat64)input,(ImageFloat64)transformed);
 		} else if( input instanceof ImageUInt8) {
+			if( transformed instanceof ImageSInt64 )
+				return (T)IntegralImageOps.transform((ImageUInt8)input,(ImageSInt64)transformed);
 			return (T)IntegralImageOps.transform((ImageUInt8)input,(ImageSInt32)transformed);
 		} else if( input instanceof ImageSInt32) {
 			return (T)IntegralImageOps.transform((ImageSInt32)input,(ImageSInt32)transformed);
@@ -20,6 +20,8 @@ package boofcv.alg.transform.ii;
 
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.ImageRectangle;
 import boofcv.struct.image.*;
 
@@ -29,6 +31,10 @@ import boofcv.struct.image.*;
  * Common operations for dealing with integral images.
  * </p>
  *
+ * <p>
+ * When {@link BoofConcurrency#USE_CONCURRENT} is true the integral image is computed using multiple threads.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class IntegralImageOps {
@@ -43,7 +49,11 @@ public class IntegralImageOps {
 	public static ImageFloat32 transform( ImageFloat32 input , ImageFloat32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -58,7 +68,11 @@ public class IntegralImageOps {
 	public static ImageFloat64 transform( ImageFloat64 input , ImageFloat64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -73,7 +87,32 @@ public class IntegralImageOps {
 	public static ImageSInt32 transform( ImageUInt8 input , ImageSInt32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt32.class);
 
-		ImplIntegralImageOps.transform(input,transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image using 64-bit integers.  Use this instead of
+	 * {@link #transform(ImageUInt8, ImageSInt32)} when the sum of all the pixels can exceed the range of
+	 * a 32-bit integer, which can happen with images that have more than 8,421,504 pixels.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static ImageSInt64 transform( ImageUInt8 input , ImageSInt64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input,transformed);
+		} else {
+			ImplIntegralImageOps.transform(input,transformed);
+		}
 
 		return transformed;
 	}
@@ -88,7 +127,11 @@ public class IntegralImageOps {
 	public static ImageSInt32 transform( ImageSInt32 input , ImageSInt32 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt32.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input, transformed);
+		} else {
+			ImplIntegralImageOps.transform(input, transformed);
+		}
 
 		return transformed;
 	}
@@ -103,7 +146,11 @@ public class IntegralImageOps {
 	public static ImageSInt64 transform( ImageSInt64 input , ImageSInt64 transformed ) {
 		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
 
-		ImplIntegralImageOps.transform(input, transformed);
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplIntegralImageOps_MT.transform(input, transformed);
+		} else {
+			ImplIntegralImageOps.transform(input, transformed);
+		}
 
 		return transformed;
 	}
@@ -320,6 +367,82 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.convolveSparse(integral,kernel,x,y);
 	}
 
+	/**
+	 * Convolves a kernel around each of the points in the list.  Produces the same results as calling
+	 * {@link #convolveSparse(ImageFloat32, IntegralKernel, int, int)} for each point, but is faster since the location
+	 * of each block is only computed once and points which are far enough from the image border are processed
+	 * without bounds checks.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param x x-coordinate of each point.
+	 * @param y y-coordinate of each point.
+	 * @param length Number of points.
+	 * @param output Storage for the value of the convolution at each point. Modified.
+	 */
+	public static void convolveSparse( ImageFloat32 integral , IntegralKernel kernel ,
+									   int x[] , int y[] , int length , float output[] )
+	{
+		ImplIntegralImageOps.convolveSparse(integral,kernel,x,y,length,output);
+	}
+
+	/**
+	 * Convolves a kernel around each of the points in the list.  Produces the same results as calling
+	 * {@link #convolveSparse(ImageFloat64, IntegralKernel, int, int)} for each point, but is faster since the location
+	 * of each block is only computed once and points which are far enough from the image border are processed
+	 * without bounds checks.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param x x-coordinate of each point.
+	 * @param y y-coordinate of each point.
+	 * @param length Number of points.
+	 * @param output Storage for the value of the convolution at each point. Modified.
+	 */
+	public static void convolveSparse( ImageFloat64 integral , IntegralKernel kernel ,
+									   int x[] , int y[] , int length , double output[] )
+	{
+		ImplIntegralImageOps.convolveSparse(integral,kernel,x,y,length,output);
+	}
+
+	/**
+	 * Convolves a kernel around each of the points in the list.  Produces the same results as calling
+	 * {@link #convolveSparse(ImageSInt32, IntegralKernel, int, int)} for each point, but is faster since the location
+	 * of each block is only computed once and points which are far enough from the image border are processed
+	 * without bounds checks.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param x x-coordinate of each point.
+	 * @param y y-coordinate of each point.
+	 * @param length Number of points.
+	 * @param output Storage for the value of the convolution at each point. Modified.
+	 */
+	public static void convolveSparse( ImageSInt32 integral , IntegralKernel kernel ,
+									   int x[] , int y[] , int length , int output[] )
+	{
+		ImplIntegralImageOps.convolveSparse(integral,kernel,x,y,length,output);
+	}
+
+	/**
+	 * Convolves a kernel around each of the points in the list.  Produces the same results as calling
+	 * {@link #convolveSparse(ImageSInt64, IntegralKernel, int, int)} for each point, but is faster since the location
+	 * of each block is only computed once and points which are far enough from the image border are processed
+	 * without bounds checks.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param x x-coordinate of each point.
+	 * @param y y-coordinate of each point.
+	 * @param length Number of points.
+	 * @param output Storage for the value of the convolution at each point. Modified.
+	 */
+	public static void convolveSparse( ImageSInt64 integral , IntegralKernel kernel ,
+									   int x[] , int y[] , int length , long output[] )
+	{
+		ImplIntegralImageOps.convolveSparse(integral,kernel,x,y,length,output);
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image without bounds checking.  The block is
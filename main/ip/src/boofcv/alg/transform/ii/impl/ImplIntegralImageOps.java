@@ -114,6 +114,32 @@ public class ImplIntegralImageOps {
 		}
 	}
 
+	public static void transform( final ImageUInt8 input , final ImageSInt64 transformed )
+	{
+		int indexSrc = input.startIndex;
+		int indexDst = transformed.startIndex;
+		int end = indexSrc + input.width;
+
+		long total = 0;
+		for( ; indexSrc < end; indexSrc++ ) {
+			transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+		}
+
+		for( int y = 1; y < input.height; y++ ) {
+			indexSrc = input.startIndex + input.stride*y;
+			indexDst = transformed.startIndex + transformed.stride*y;
+			int indexPrev = indexDst - transformed.stride;
+
+			end = indexSrc + input.width;
+
+			total = 0;
+			for( ; indexSrc < end; indexSrc++ ) {
+				total +=  input.data[indexSrc]& 0xFF;
+				transformed.data[indexDst++] = transformed.data[indexPrev++] + total;
+			}
+		}
+	}
+
 	public static void transform( final ImageSInt32 input , final ImageSInt32 transformed )
 	{
 		int indexSrc = input.startIndex;
@@ -239,6 +265,51 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( ImageFloat32 integral , IntegralKernel kernel ,
+									   int x[] , int y[] , int length , float output[] )
+	{
+		int N = kernel.getNumBlocks();
+
+		// offset of each block's corners from the center pixel and the region where no block touches the border
+		int offsets[] = new int[ N*4 ];
+		int minX = 0, minY = 0;
+		int maxX = integral.width-1, maxY = integral.height-1;
+
+		for( int i = 0; i < N; i++ ) {
+			ImageRectangle r = kernel.blocks[i];
+			offsets[i*4  ] = r.y1*integral.stride + r.x1;
+			offsets[i*4+1] = r.y0*integral.stride + r.x1;
+			offsets[i*4+2] = r.y1*integral.stride + r.x0;
+			offsets[i*4+3] = r.y0*integral.stride + r.x0;
+
+			minX = Math.max(minX,-r.x0);
+			minY = Math.max(minY,-r.y0);
+			maxX = Math.min(maxX,integral.width-1-r.x1);
+			maxY = Math.min(maxY,integral.height-1-r.y1);
+		}
+
+		for( int i = 0; i < length; i++ ) {
+			int px = x[i];
+			int py = y[i];
+
+			if( px >= minX && px <= maxX && py >= minY && py <= maxY ) {
+				int index = integral.startIndex + py*integral.stride + px;
+				float total = 0;
+				for( int j = 0; j < N; j++ ) {
+					int o = j*4;
+					float br = integral.data[ index + offsets[o  ] ];
+					float tr = integral.data[ index + offsets[o+1] ];
+					float bl = integral.data[ index + offsets[o+2] ];
+					float tl = integral.data[ index + offsets[o+3] ];
+					total += (br-tr-bl+tl)*kernel.scales[j];
+				}
+				output[i] = total;
+			} else {
+				output[i] = convolveSparse(integral,kernel,px,py);
+			}
+		}
+	}
+
 	public static float block_unsafe( ImageFloat32 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		float br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -343,6 +414,51 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( ImageSInt32 integral , IntegralKernel kernel ,
+									   int x[] , int y[] , int length , int output[] )
+	{
+		int N = kernel.getNumBlocks();
+
+		// offset of each block's corners from the center pixel and the region where no block touches the border
+		int offsets[] = new int[ N*4 ];
+		int minX = 0, minY = 0;
+		int maxX = integral.width-1, maxY = integral.height-1;
+
+		for( int i = 0; i < N; i++ ) {
+			ImageRectangle r = kernel.blocks[i];
+			offsets[i*4  ] = r.y1*integral.stride + r.x1;
+			offsets[i*4+1] = r.y0*integral.stride + r.x1;
+			offsets[i*4+2] = r.y1*integral.stride + r.x0;
+			offsets[i*4+3] = r.y0*integral.stride + r.x0;
+
+			minX = Math.max(minX,-r.x0);
+			minY = Math.max(minY,-r.y0);
+			maxX = Math.min(maxX,integral.width-1-r.x1);
+			maxY = Math.min(maxY,integral.height-1-r.y1);
+		}
+
+		for( int i = 0; i < length; i++ ) {
+			int px = x[i];
+			int py = y[i];
+
+			if( px >= minX && px <= maxX && py >= minY && py <= maxY ) {
+				int index = integral.startIndex + py*integral.stride + px;
+				int total = 0;
+				for( int j = 0; j < N; j++ ) {
+					int o = j*4;
+					int br = integral.data[ index + offsets[o  ] ];
+					int tr = integral.data[ index + offsets[o+1] ];
+					int bl = integral.data[ index + offsets[o+2] ];
+					int tl = integral.data[ index + offsets[o+3] ];
+					total += (br-tr-bl+tl)*kernel.scales[j];
+				}
+				output[i] = total;
+			} else {
+				output[i] = convolveSparse(integral,kernel,px,py);
+			}
+		}
+	}
+
 	public static int block_unsafe( ImageSInt32 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		int br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -447,6 +563,51 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( ImageFloat64 integral , IntegralKernel kernel ,
+									   int x[] , int y[] , int length , double output[] )
+	{
+		int N = kernel.getNumBlocks();
+
+		// offset of each block's corners from the center pixel and the region where no block touches the border
+		int offsets[] = new int[ N*4 ];
+		int minX = 0, minY = 0;
+		int maxX = integral.width-1, maxY = integral.height-1;
+
+		for( int i = 0; i < N; i++ ) {
+			ImageRectangle r = kernel.blocks[i];
+			offsets[i*4  ] = r.y1*integral.stride + r.x1;
+			offsets[i*4+1] = r.y0*integral.stride + r.x1;
+			offsets[i*4+2] = r.y1*integral.stride + r.x0;
+			offsets[i*4+3] = r.y0*integral.stride + r.x0;
+
+			minX = Math.max(minX,-r.x0);
+			minY = Math.max(minY,-r.y0);
+			maxX = Math.min(maxX,integral.width-1-r.x1);
+			maxY = Math.min(maxY,integral.height-1-r.y1);
+		}
+
+		for( int i = 0; i < length; i++ ) {
+			int px = x[i];
+			int py = y[i];
+
+			if( px >= minX && px <= maxX && py >= minY && py <= maxY ) {
+				int index = integral.startIndex + py*integral.stride + px;
+				double total = 0;
+				for( int j = 0; j < N; j++ ) {
+					int o = j*4;
+					double br = integral.data[ index + offsets[o  ] ];
+					double tr = integral.data[ index + offsets[o+1] ];
+					double bl = integral.data[ index + offsets[o+2] ];
+					double tl = integral.data[ index + offsets[o+3] ];
+					total += (br-tr-bl+tl)*kernel.scales[j];
+				}
+				output[i] = total;
+			} else {
+				output[i] = convolveSparse(integral,kernel,px,py);
+			}
+		}
+	}
+
 	public static double block_unsafe( ImageFloat64 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		double br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
@@ -551,6 +712,51 @@ public class ImplIntegralImageOps {
 		return ret;
 	}
 
+	public static void convolveSparse( ImageSInt64 integral , IntegralKernel kernel ,
+									   int x[] , int y[] , int length , long output[] )
+	{
+		int N = kernel.getNumBlocks();
+
+		// offset of each block's corners from the center pixel and the region where no block touches the border
+		int offsets[] = new int[ N*4 ];
+		int minX = 0, minY = 0;
+		int maxX = integral.width-1, maxY = integral.height-1;
+
+		for( int i = 0; i < N; i++ ) {
+			ImageRectangle r = kernel.blocks[i];
+			offsets[i*4  ] = r.y1*integral.stride + r.x1;
+			offsets[i*4+1] = r.y0*integral.stride + r.x1;
+			offsets[i*4+2] = r.y1*integral.stride + r.x0;
+			offsets[i*4+3] = r.y0*integral.stride + r.x0;
+
+			minX = Math.max(minX,-r.x0);
+			minY = Math.max(minY,-r.y0);
+			maxX = Math.min(maxX,integral.width-1-r.x1);
+			maxY = Math.min(maxY,integral.height-1-r.y1);
+		}
+
+		for( int i = 0; i < length; i++ ) {
+			int px = x[i];
+			int py = y[i];
+
+			if( px >= minX && px <= maxX && py >= minY && py <= maxY ) {
+				int index = integral.startIndex + py*integral.stride + px;
+				long total = 0;
+				for( int j = 0; j < N; j++ ) {
+					int o = j*4;
+					long br = integral.data[ index + offsets[o  ] ];
+					long tr = integral.data[ index + offsets[o+1] ];
+					long bl = integral.data[ index + offsets[o+2] ];
+					long tl = integral.data[ index + offsets[o+3] ];
+					total += (br-tr-bl+tl)*kernel.scales[j];
+				}
+				output[i] = total;
+			} else {
+				output[i] = convolveSparse(integral,kernel,px,py);
+			}
+		}
+	}
+
 	public static long block_unsafe( ImageSInt64 integral , int x0 , int y0 , int x1 , int y1 )
 	{
 		long br = integral.data[ integral.startIndex + y1*integral.stride + x1 ];
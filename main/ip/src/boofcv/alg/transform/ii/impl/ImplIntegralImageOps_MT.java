@@ -0,0 +1,315 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImplIntegralImageOps}.  The image is split into horizontal bands and the
+ * integral image of each band is computed in parallel as if it was an image by itself.  Then the last row of each
+ * band is corrected by sequentially adding the last row of the band above it.  Once all the last rows are
+ * known the remaining rows in each band are corrected in parallel.  Integer images produce identical results
+ * to the single threaded version, while floating point images can differ slightly since the order the sums
+ * are computed in is different.
+ * </p>
+ * 
+ * <p>
+ * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps}.
+ * </p>
+ * 
+ * @author Peter Abeles
+ */
+public class ImplIntegralImageOps_MT {
+
+	public static void transform( final ImageFloat32 input , final ImageFloat32 transformed )
+	{
+		final int bounds[] = selectBands(input.height);
+		final int numBands = bounds.length-1;
+
+		// integral image of each band, ignoring the rows above it
+		BoofConcurrency.loopBlocks(0,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					ImageFloat32 subIn = input.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImageFloat32 subOut = transformed.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImplIntegralImageOps.transform(subIn,subOut);
+				}
+			}
+		});
+
+		// carry the sum down to the last row in each band
+		for( int band = 1; band < numBands; band++ ) {
+			addRow(transformed,bounds[band]-1,bounds[band+1]-1,bounds[band+1]);
+		}
+
+		// add the sum of all the rows above each band to its remaining rows
+		BoofConcurrency.loopBlocks(1,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					addRow(transformed,bounds[band]-1,bounds[band],bounds[band+1]-1);
+				}
+			}
+		});
+	}
+
+	public static void transform( final ImageFloat64 input , final ImageFloat64 transformed )
+	{
+		final int bounds[] = selectBands(input.height);
+		final int numBands = bounds.length-1;
+
+		// integral image of each band, ignoring the rows above it
+		BoofConcurrency.loopBlocks(0,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					ImageFloat64 subIn = input.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImageFloat64 subOut = transformed.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImplIntegralImageOps.transform(subIn,subOut);
+				}
+			}
+		});
+
+		// carry the sum down to the last row in each band
+		for( int band = 1; band < numBands; band++ ) {
+			addRow(transformed,bounds[band]-1,bounds[band+1]-1,bounds[band+1]);
+		}
+
+		// add the sum of all the rows above each band to its remaining rows
+		BoofConcurrency.loopBlocks(1,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					addRow(transformed,bounds[band]-1,bounds[band],bounds[band+1]-1);
+				}
+			}
+		});
+	}
+
+	public static void transform( final ImageUInt8 input , final ImageSInt32 transformed )
+	{
+		final int bounds[] = selectBands(input.height);
+		final int numBands = bounds.length-1;
+
+		// integral image of each band, ignoring the rows above it
+		BoofConcurrency.loopBlocks(0,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					ImageUInt8 subIn = input.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImageSInt32 subOut = transformed.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImplIntegralImageOps.transform(subIn,subOut);
+				}
+			}
+		});
+
+		// carry the sum down to the last row in each band
+		for( int band = 1; band < numBands; band++ ) {
+			addRow(transformed,bounds[band]-1,bounds[band+1]-1,bounds[band+1]);
+		}
+
+		// add the sum of all the rows above each band to its remaining rows
+		BoofConcurrency.loopBlocks(1,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					addRow(transformed,bounds[band]-1,bounds[band],bounds[band+1]-1);
+				}
+			}
+		});
+	}
+
+	public static void transform( final ImageUInt8 input , final ImageSInt64 transformed )
+	{
+		final int bounds[] = selectBands(input.height);
+		final int numBands = bounds.length-1;
+
+		// integral image of each band, ignoring the rows above it
+		BoofConcurrency.loopBlocks(0,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					ImageUInt8 subIn = input.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImageSInt64 subOut = transformed.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImplIntegralImageOps.transform(subIn,subOut);
+				}
+			}
+		});
+
+		// carry the sum down to the last row in each band
+		for( int band = 1; band < numBands; band++ ) {
+			addRow(transformed,bounds[band]-1,bounds[band+1]-1,bounds[band+1]);
+		}
+
+		// add the sum of all the rows above each band to its remaining rows
+		BoofConcurrency.loopBlocks(1,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					addRow(transformed,bounds[band]-1,bounds[band],bounds[band+1]-1);
+				}
+			}
+		});
+	}
+
+	public static void transform( final ImageSInt32 input , final ImageSInt32 transformed )
+	{
+		final int bounds[] = selectBands(input.height);
+		final int numBands = bounds.length-1;
+
+		// integral image of each band, ignoring the rows above it
+		BoofConcurrency.loopBlocks(0,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					ImageSInt32 subIn = input.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImageSInt32 subOut = transformed.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImplIntegralImageOps.transform(subIn,subOut);
+				}
+			}
+		});
+
+		// carry the sum down to the last row in each band
+		for( int band = 1; band < numBands; band++ ) {
+			addRow(transformed,bounds[band]-1,bounds[band+1]-1,bounds[band+1]);
+		}
+
+		// add the sum of all the rows above each band to its remaining rows
+		BoofConcurrency.loopBlocks(1,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					addRow(transformed,bounds[band]-1,bounds[band],bounds[band+1]-1);
+				}
+			}
+		});
+	}
+
+	public static void transform( final ImageSInt64 input , final ImageSInt64 transformed )
+	{
+		final int bounds[] = selectBands(input.height);
+		final int numBands = bounds.length-1;
+
+		// integral image of each band, ignoring the rows above it
+		BoofConcurrency.loopBlocks(0,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					ImageSInt64 subIn = input.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImageSInt64 subOut = transformed.subimage(0,bounds[band],input.width,bounds[band+1],null);
+					ImplIntegralImageOps.transform(subIn,subOut);
+				}
+			}
+		});
+
+		// carry the sum down to the last row in each band
+		for( int band = 1; band < numBands; band++ ) {
+			addRow(transformed,bounds[band]-1,bounds[band+1]-1,bounds[band+1]);
+		}
+
+		// add the sum of all the rows above each band to its remaining rows
+		BoofConcurrency.loopBlocks(1,numBands,1,new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int band = start; band < end; band++ ) {
+					addRow(transformed,bounds[band]-1,bounds[band],bounds[band+1]-1);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Splits the rows into bands, one for each thread, which are at least
+	 * {@link BoofConcurrency#getMinBandHeight()} rows tall.
+	 *
+	 * @return The first row in each band followed by the image's height.
+	 */
+	private static int[] selectBands( int height ) {
+		int numBands = Math.min(BoofConcurrency.getMaxThreads(),height/BoofConcurrency.getMinBandHeight());
+		numBands = Math.max(1,numBands);
+
+		int bounds[] = new int[ numBands+1 ];
+		for( int i = 0; i <= numBands; i++ ) {
+			bounds[i] = (int)((long)i*height/numBands);
+		}
+		return bounds;
+	}
+
+	/**
+	 * Adds row 'src' to rows y0 (inclusive) to y1 (exclusive)
+	 */
+	private static void addRow( ImageFloat32 image , int src , int y0 , int y1 ) {
+		int indexSrc = image.startIndex + src*image.stride;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexDst = image.startIndex + y*image.stride;
+			for( int x = 0; x < image.width; x++ ) {
+				image.data[indexDst+x] += image.data[indexSrc+x];
+			}
+		}
+	}
+
+	/**
+	 * Adds row 'src' to rows y0 (inclusive) to y1 (exclusive)
+	 */
+	private static void addRow( ImageFloat64 image , int src , int y0 , int y1 ) {
+		int indexSrc = image.startIndex + src*image.stride;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexDst = image.startIndex + y*image.stride;
+			for( int x = 0; x < image.width; x++ ) {
+				image.data[indexDst+x] += image.data[indexSrc+x];
+			}
+		}
+	}
+
+	/**
+	 * Adds row 'src' to rows y0 (inclusive) to y1 (exclusive)
+	 */
+	private static void addRow( ImageSInt32 image , int src , int y0 , int y1 ) {
+		int indexSrc = image.startIndex + src*image.stride;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexDst = image.startIndex + y*image.stride;
+			for( int x = 0; x < image.width; x++ ) {
+				image.data[indexDst+x] += image.data[indexSrc+x];
+			}
+		}
+	}
+
+	/**
+	 * Adds row 'src' to rows y0 (inclusive) to y1 (exclusive)
+	 */
+	private static void addRow( ImageSInt64 image , int src , int y0 , int y1 ) {
+		int indexSrc = image.startIndex + src*image.stride;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexDst = image.startIndex + y*image.stride;
+			for( int x = 0; x < image.width; x++ ) {
+				image.data[indexDst+x] += image.data[indexSrc+x];
+			}
+		}
+	}
+
+}
@@ -47,7 +47,7 @@ import boofcv.struct.pyramid.PyramidDiscrete;
 public class PyramidDiscreteSampleBlur<T extends ImageSingleBand> extends PyramidDiscrete<T> {
 
 	// stores the results from the first convolution
-	private T temp;
+	protected T temp;
 	GenericConvolveDown<T,T> horizontal;
 	GenericConvolveDown<T,T> vertical;
 
@@ -101,27 +101,30 @@ public class PyramidDiscreteSampleBlur<T extends ImageSingleBand> extends Pyrami
 				getLayer(0).setTo(input);
 			}
 		} else {
-			int skip = scale[0];
-
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
-
-			temp.reshape(input.width/skip,input.height);
-			horizontal.process(input,temp);
-			vertical.process(temp,getLayer(0));
+			downSample(input, scale[0], getLayer(0));
 		}
 
 		for (int index = 1; index < getNumLayers(); index++) {
 			int skip = scale[index]/scale[index-1];
-			T prev = getLayer(index-1);
-			temp.reshape(prev.width/skip,prev.height);
+			downSample(getLayer(index - 1), skip, getLayer(index));
+		}
+	}
 
-			horizontal.setSkip(skip);
-			vertical.setSkip(skip);
+	/**
+	 * Blurs and down samples the input image by the specified amount and writes the results into the output.
+	 *
+	 * @param input Image being down sampled.  Not modified.
+	 * @param skip Down sampling factor.
+	 * @param output Down sampled image.  Modified.
+	 */
+	protected void downSample( T input , int skip , T output ) {
+		temp.reshape(input.width/skip,input.height);
 
-			horizontal.process(prev,temp);
-			vertical.process(temp,getLayer(index));
-		}
+		horizontal.setSkip(skip);
+		vertical.setSkip(skip);
+
+		horizontal.process(input,temp);
+		vertical.process(temp,output);
 	}
 
 	/**
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.ImageBandTask;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link PyramidDiscreteSampleBlur}.  Blur and down sampling are done in the same
+ * pass, so only an image which has already been down sampled horizontally is stored.  The horizontal pass is
+ * split into bands of rows and the vertical pass into bands of columns, which are processed in parallel
+ * using the thread pool in {@link BoofConcurrency}.  Each layer is identical to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class PyramidDiscreteSampleBlur_MT<T extends ImageSingleBand> extends PyramidDiscreteSampleBlur<T> {
+
+	// width of the blur kernel
+	int kernelWidth;
+
+	/**
+	 * See {@link PyramidDiscreteSampleBlur#PyramidDiscreteSampleBlur} for a description of each parameter.
+	 */
+	public PyramidDiscreteSampleBlur_MT(Kernel1D kernel, double sigma, Class<T> imageType,
+										boolean saveOriginalReference, int... scaleFactors)
+	{
+		super(kernel, sigma, imageType, saveOriginalReference, scaleFactors);
+		kernelWidth = kernel.getWidth();
+	}
+
+	@Override
+	protected void downSample( T input , int skip , final T output ) {
+		temp.reshape(input.width/skip,input.height);
+
+		horizontal.setSkip(skip);
+		vertical.setSkip(skip);
+
+		// each row is processed independently
+		BoofConcurrency.loopBands(input, temp, 0, 0, new ImageBandTask<T, T>() {
+			@Override
+			public void process(T input, T output) {
+				horizontal.process(input, output);
+			}
+		});
+
+		// Each column is processed independently.  Bands must be wider than the kernel since narrow images
+		// are handled by a different algorithm
+		final int width = temp.width;
+		int minBlock = Math.max(BoofConcurrency.getMinBandHeight(), kernelWidth + 1);
+
+		BoofConcurrency.loopBlocks(0, width, minBlock, new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				if( x0 == 0 && x1 == width ) {
+					vertical.process(temp, output);
+				} else {
+					T bandIn = (T)temp.subimage(x0, 0, x1, temp.height, null);
+					T bandOut = (T)output.subimage(x0, 0, x1, output.height, null);
+					vertical.process(bandIn, bandOut);
+				}
+			}
+		});
+	}
+}
@@ -24,6 +24,7 @@ import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.distort.impl.DistortSupport;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.PyramidFloat;
 
@@ -52,6 +53,9 @@ public class PyramidFloatGaussianScale< T extends ImageSingleBand> extends Pyram
 	// used to store the blurred image
 	protected T tempImage;
 
+	// source of intermediate images used while blurring
+	protected ImagePool pool = new ImagePool();
+
 	// how much each layer is blurred before sub-sampling
 	protected float[] sigmaLayers;
 
@@ -94,29 +98,51 @@ public class PyramidFloatGaussianScale< T extends ImageSingleBand> extends Pyram
 		if( isSaveOriginalReference() )
 			throw new IllegalArgumentException("The original reference cannot be saved");
 
-		if( tempImage == null ) {
-			tempImage = (T)input._createNew(input.width,input.height);
-		}
-
 		for( int i = 0; i < scale.length; i++ ) {
 			T prev = i == 0 ? input : getLayer(i-1);
 			T layer = getLayer(i);
 
-			// Apply the requested blur to the previous layer
-			BlurStorageFilter<T> blur = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(layer.getClass(), sigmaLayers[i],-1);
-			tempImage.reshape(prev.width,prev.height);
-			blur.process(prev,tempImage);
-
-			// Resample the blurred image
-			if( scale[i] == 1 ) {
-				layer.setTo(tempImage);
-			} else {
-				PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,tempImage);
-				DistortImageOps.distortSingle(tempImage,layer,model,null,interpolate);
-			}
+			processLayer(i, prev, layer);
 		}
 	}
 
+	/**
+	 * Computes a layer in the pyramid by blurring the previous layer and then re-sampling it.
+	 *
+	 * @param index Index of the layer being computed
+	 * @param prev The previous layer or the input image if it's the first layer.  Not modified.
+	 * @param layer The layer being computed.  Modified.
+	 */
+	protected void processLayer( int index , T prev , T layer ) {
+		if( tempImage == null ) {
+			tempImage = (T)prev._createNew(prev.width,prev.height);
+		}
+
+		// Apply the requested blur to the previous layer
+		BlurStorageFilter<T> blur = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(layer.getClass(), sigmaLayers[index],-1,pool);
+		tempImage.reshape(prev.width,prev.height);
+		blur.process(prev,tempImage);
+
+		// Resample the blurred image
+		if( scale[index] == 1 ) {
+			layer.setTo(tempImage);
+		} else {
+			PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,tempImage);
+			DistortImageOps.distortSingle(tempImage,layer,model,null,interpolate);
+		}
+	}
+
+	/**
+	 * Specifies the pool which intermediate images are borrowed from.  Can be shared with other algorithms.
+	 */
+	public void setImagePool( ImagePool pool ) {
+		this.pool = pool;
+	}
+
+	public ImagePool getImagePool() {
+		return pool;
+	}
+
 	public InterpolatePixelS<T> getInterpolate() {
 		return interpolate;
 	}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformAffine_F32;
+import boofcv.alg.distort.impl.DistortSupport;
+import boofcv.alg.filter.blur.GBlurImageOps;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link PyramidFloatGaussianScale}.  Each layer is split into bands of rows
+ * which are computed in parallel using the thread pool in {@link BoofConcurrency}.  For each band only the rows
+ * in the previous layer which are sampled are blurred, plus the rows which the blur kernel needs.  The blur and
+ * re-sampling is done in one pass and the entire blurred image is never stored. Each layer is identical to the
+ * single threaded version.
+ * </p>
+ *
+ * <p>
+ * The interpolation algorithm is copied for each band using {@link InterpolatePixelS#copy()}.  Blurred bands are
+ * stored in images borrowed from the {@link boofcv.struct.image.ImagePool}, which is shared by all the threads.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class PyramidFloatGaussianScale_MT<T extends ImageSingleBand> extends PyramidFloatGaussianScale<T> {
+
+	/**
+	 * See {@link PyramidFloatGaussianScale#PyramidFloatGaussianScale} for a description of each parameter.
+	 */
+	public PyramidFloatGaussianScale_MT(InterpolatePixelS<T> interpolate, double scales[], double sigmaLayers[],
+										Class<T> imageType) {
+		super(interpolate, scales, sigmaLayers, imageType);
+	}
+
+	@Override
+	protected void processLayer( int index , final T prev , final T layer ) {
+		final boolean resample = scale[index] != 1;
+
+		if( !resample && (prev.width != layer.width || prev.height != layer.height) ) {
+			super.processLayer(index,prev,layer);
+			return;
+		}
+
+		final float sigma = sigmaLayers[index];
+		final int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+		final int border = interpolate.getFastBorderY();
+
+		BoofConcurrency.loopBlocks(0, layer.height, BoofConcurrency.getMinBandHeight(), new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				PixelTransformAffine_F32 model = null;
+
+				// rows in the blurred image which are sampled by this band
+				int sampleY0,sampleY1;
+				if( resample ) {
+					model = DistortSupport.transformScale(layer,prev);
+					model.compute(0,y0);
+					sampleY0 = Math.max(0,(int)model.distY - border);
+					model.compute(0,y1-1);
+					sampleY1 = Math.min(prev.height,(int)model.distY + 2 + border);
+				} else {
+					sampleY0 = y0;
+					sampleY1 = y1;
+				}
+
+				// rows in the previous layer which are needed to blur the sampled rows.  Images which are
+				// not taller than the kernel are blurred differently, so avoid creating one
+				int minHeight = 2*radius + 2;
+				int inputY0 = Math.max(0,sampleY0 - radius);
+				int inputY1 = Math.min(prev.height,sampleY1 + radius);
+				if( inputY1 - inputY0 < minHeight ) {
+					inputY1 = Math.min(prev.height,inputY0 + minHeight);
+					inputY0 = Math.max(0,inputY1 - minHeight);
+				}
+
+				T input = (T)prev.subimage(0,inputY0,prev.width,inputY1,null);
+				T blurred = pool.borrowLike(prev,input.width,input.height);
+				T storage = pool.borrowLike(prev,input.width,input.height);
+				GBlurImageOps.gaussian(input,blurred,sigma,-1,storage);
+				pool.recycle(storage);
+
+				T sampled = (T)blurred.subimage(0,sampleY0-inputY0,blurred.width,sampleY1-inputY0,null);
+
+				if( resample ) {
+					// shift the model so that it references the sampled rows.  Since the offset is an integer
+					// the interpolated values are not changed
+					model.getModel().ty = -sampleY0;
+
+					InterpolatePixelS<T> interp = interpolate.copy();
+					ImageDistort<T> distort = FactoryDistort.distort(interp,null,(Class<T>)layer.getClass());
+					distort.setModel(model);
+					distort.apply(sampled,layer,0,y0,layer.width,y1);
+				} else {
+					T output = (T)layer.subimage(0,y0,layer.width,y1,null);
+					output.setTo(sampled);
+				}
+				pool.recycle(blurred);
+			}
+		});
+	}
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.misc.PixelMath;
+import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformLifting;
+import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformLifting_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderIndex1D_Reflect;
+import boofcv.core.image.border.BorderIndex1D_Wrap;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+import boofcv.struct.wavelet.WlLifting;
+
+/**
+ * <p>
+ * Wavelet transforms which are computed in-place using the lifting scheme.  Only wavelets with
+ * {@link WaveletDescription#getLifting()} set are supported, see {@link #isSupported}.  Other than a work
+ * array the size of a few rows no additional memory is required.  If {@link BoofConcurrency#USE_CONCURRENT}
+ * is true then each level is computed using multiple threads.
+ * </p>
+ *
+ * <p>
+ * Floating point transforms produce the same results as {@link WaveletTransformOps}, which uses these functions
+ * automatically when possible.  Integer transforms are exactly reversible and do NOT produce the same coefficients
+ * as the integer transforms in {@link WaveletTransformOps}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class WaveletLiftingOps {
+
+	/**
+	 * Returns true if the wavelet can be computed using the lifting scheme.
+	 */
+	public static boolean isSupported( WaveletDescription desc ) {
+		if( desc.getLifting() == null )
+			return false;
+
+		switch( desc.getLifting() ) {
+			case HAAR:
+				return true;
+
+			case DAUB_4:
+				return desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+			case BIORTHOGONAL_5:
+				return desc.getBorder() instanceof BorderIndex1D_Wrap ||
+						desc.getBorder() instanceof BorderIndex1D_Reflect;
+		}
+		return false;
+	}
+
+	/**
+	 * <p>
+	 * Performs a single level wavelet transform.  Input and output images must have the same shape.
+	 * </p>
+	 *
+	 * @param desc Description of the wavelet.
+	 * @param input Input image. Not modified.
+	 * @param output Where the wavelet transform is written to. Can be the same instance as the input. Modified.
+	 */
+	public static void transform1( WaveletDescription<WlCoef_F32> desc ,
+								   ImageFloat32 input , ImageFloat32 output ) {
+		checkInput(desc, input, output);
+
+		if( input != output )
+			output.setTo(input);
+
+		transform(desc,output);
+	}
+
+	/**
+	 * <p>
+	 * Performs a level N wavelet transform.  Same as {@link WaveletTransformOps#transformN}, but all the levels
+	 * after the first are computed in-place.  The first level is also computed in-place if the input and output
+	 * images have the same shape.
+	 * </p>
+	 *
+	 * @param desc Description of the wavelet.
+	 * @param input Input image and is used as internal workspace. Modified.
+	 * @param output Where the multilevel wavelet transform is written to. Modified.
+	 * @param storage Optional storage image.  Only used if the input and output have a different shape.
+	 * @param numLevels Number of levels which should be computed in the transform.
+	 */
+	public static void transformN( WaveletDescription<WlCoef_F32> desc ,
+								   ImageFloat32 input , ImageFloat32 output ,
+								   ImageFloat32 storage ,
+								   int numLevels )
+	{
+		if( !isSupported(desc) )
+			throw new IllegalArgumentException("Wavelet does not support lifting");
+		UtilWavelet.checkShape(desc.getForward(),input,output,numLevels);
+
+		if( input.width == output.width && input.height == output.height ) {
+			if( input != output )
+				output.setTo(input);
+			transform(desc,output);
+		} else {
+			WaveletTransformOps.transform1(desc,input,output,storage);
+		}
+
+		for( int i = 2; i <= numLevels; i++ ) {
+			int width = output.width/2;
+			int height = output.height/2;
+			width += width%2;
+			height += height%2;
+
+			output = output.subimage(0,0,width,height, null);
+			transform(desc,output);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Performs a single level inverse wavelet transform.  Input and output images must have the same shape.
+	 * </p>
+	 *
+	 * @param desc Description of the wavelet.
+	 * @param input Input wavelet transform. Not modified.
+	 * @param output Reconstruction of original image. Can be the same instance as the input. Modified.
+	 */
+	public static void inverse1( WaveletDescription<WlCoef_F32> desc ,
+								 ImageFloat32 input , ImageFloat32 output ) {
+		checkInput(desc, input, output);
+
+		if( input != output )
+			output.setTo(input);
+
+		inverse(desc,output);
+	}
+
+	/**
+	 * <p>
+	 * Performs a level N inverse wavelet transform.  Same as {@link WaveletTransformOps#inverseN}, but all the
+	 * levels before the last are computed in-place inside the input image.  The last level is also computed
+	 * in-place if the input and output images have the same shape.
+	 * </p>
+	 *
+	 * @param desc Description of the inverse wavelet.
+	 * @param input Input wavelet transform and is used as internal workspace. Modified.
+	 * @param output Reconstruction of original image. Modified.
+	 * @param storage Optional storage image.  Only used if the input and output have a different shape.
+	 * @param numLevels Number of levels in the transform.
+	 * @param minValue Minimum allowed pixel value
+	 * @param maxValue Maximum allowed pixel value
+	 */
+	public static void inverseN( WaveletDescription<WlCoef_F32> desc ,
+								 ImageFloat32 input , ImageFloat32 output ,
+								 ImageFloat32 storage,
+								 int numLevels ,
+								 float minValue , float maxValue)
+	{
+		if( !isSupported(desc) )
+			throw new IllegalArgumentException("Wavelet does not support lifting");
+		UtilWavelet.checkShape(desc.getForward(),output,input,numLevels);
+
+		boolean sameShape = input.width == output.width && input.height == output.height;
+		ImageFloat32 work = input;
+		if( sameShape && input != output ) {
+			output.setTo(input);
+			work = output;
+		}
+
+		int scale = UtilWavelet.computeScale(numLevels);
+		for( int i = numLevels; i >= 2; i--, scale /= 2 ) {
+			int width = input.width/scale;
+			int height = input.height/scale;
+			width += width%2;
+			height += height%2;
+
+			inverse(desc,work.subimage(0,0,width,height, null));
+		}
+
+		if( sameShape ) {
+			inverse(desc,work);
+		} else {
+			WaveletTransformOps.inverse1(desc,input,output,storage,-Float.MAX_VALUE,Float.MAX_VALUE);
+		}
+
+		if( minValue != -Float.MAX_VALUE && maxValue != Float.MAX_VALUE )
+			PixelMath.boundImage(output, minValue, maxValue);
+	}
+
+	/**
+	 * <p>
+	 * Performs a level N reversible integer wavelet transform.  Only {@link WlLifting#HAAR} and
+	 * {@link WlLifting#BIORTHOGONAL_5} are supported.  The input and output images must have the same shape.
+	 * </p>
+	 *
+	 * @param desc Description of the wavelet.
+	 * @param input Input image. Not modified.
+	 * @param output Where the multilevel wavelet transform is written to. Can be the same instance as the input.
+	 * Modified.
+	 * @param numLevels Number of levels which should be computed in the transform.
+	 */
+	public static void transformN( WaveletDescription<WlCoef_I32> desc ,
+								   ImageSInt32 input , ImageSInt32 output ,
+								   int numLevels )
+	{
+		checkInput(desc, input, output);
+		UtilWavelet.checkShape(desc.getForward(),input,output,numLevels);
+
+		if( input != output )
+			output.setTo(input);
+
+		boolean wrap = desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+		for( int i = 1; i <= numLevels; i++ ) {
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplWaveletTransformLifting_MT.transform(desc.getLifting(),wrap,output);
+			} else {
+				ImplWaveletTransformLifting.transform(desc.getLifting(),wrap,output);
+			}
+
+			int width = output.width/2;
+			int height = output.height/2;
+			width += width%2;
+			height += height%2;
+
+			output = output.subimage(0,0,width,height, null);
+		}
+	}
+
+	/**
+	 * <p>
+	 * Inverse of {@link #transformN(WaveletDescription, ImageSInt32, ImageSInt32, int)}.  The original image is
+	 * exactly reconstructed.
+	 * </p>
+	 *
+	 * @param desc Description of the wavelet.
+	 * @param input Input wavelet transform. Not modified.
+	 * @param output Reconstruction of original image. Can be the same instance as the input. Modified.
+	 * @param numLevels Number of levels in the transform.
+	 */
+	public static void inverseN( WaveletDescription<WlCoef_I32> desc ,
+								 ImageSInt32 input , ImageSInt32 output ,
+								 int numLevels )
+	{
+		checkInput(desc, input, output);
+		UtilWavelet.checkShape(desc.getForward(),output,input,numLevels);
+
+		if( input != output )
+			output.setTo(input);
+
+		boolean wrap = desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+		int scale = UtilWavelet.computeScale(numLevels);
+		for( int i = numLevels; i >= 1; i--, scale /= 2 ) {
+			int width = output.width/scale;
+			int height = output.height/scale;
+			width += width%2;
+			height += height%2;
+
+			ImageSInt32 level = output.subimage(0,0,width,height, null);
+			if( BoofConcurrency.USE_CONCURRENT ) {
+				ImplWaveletTransformLifting_MT.inverse(desc.getLifting(),wrap,level);
+			} else {
+				ImplWaveletTransformLifting.inverse(desc.getLifting(),wrap,level);
+			}
+		}
+	}
+
+	private static void checkInput( WaveletDescription desc , ImageBase input , ImageBase output ) {
+		if( !isSupported(desc) )
+			throw new IllegalArgumentException("Wavelet does not support lifting");
+		if( input.width != output.width || input.height != output.height )
+			throw new IllegalArgumentException("Input and output images must have the same shape");
+		if( input.width % 2 == 1 || input.height % 2 == 1 )
+			throw new IllegalArgumentException("Image must have an even width and height.");
+	}
+
+	private static void transform( WaveletDescription desc , ImageFloat32 image ) {
+		boolean wrap = desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplWaveletTransformLifting_MT.transform(desc.getLifting(),wrap,image);
+		} else {
+			ImplWaveletTransformLifting.transform(desc.getLifting(),wrap,image);
+		}
+	}
+
+	private static void inverse( WaveletDescription desc , ImageFloat32 image ) {
+		boolean wrap = desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+		if( BoofConcurrency.USE_CONCURRENT ) {
+			ImplWaveletTransformLifting_MT.inverse(desc.getLifting(),wrap,image);
+		} else {
+			ImplWaveletTransformLifting.inverse(desc.getLifting(),wrap,image);
+		}
+	}
+}
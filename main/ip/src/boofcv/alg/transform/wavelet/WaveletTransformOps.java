@@ -77,6 +77,11 @@ public class WaveletTransformOps {
 			throw new IllegalArgumentException("Wavelet is too large for provided image.");
 		if( output.height < coef.scaling.length || output.height < coef.wavelet.length )
 			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+
+		if( WaveletLiftingOps.isSupported(desc) && input.width == output.width && input.height == output.height ) {
+			WaveletLiftingOps.transform1(desc,input,output);
+			return;
+		}
 		storage = InputSanityCheck.checkDeclare(output, storage);
 
 		// the faster routines can only be run on images which are not too small
@@ -116,6 +121,10 @@ public class WaveletTransformOps {
 			transform1(desc,input,output, storage);
 			return;
 		}
+		if( WaveletLiftingOps.isSupported(desc) ) {
+			WaveletLiftingOps.transformN(desc,input,output,storage,numLevels);
+			return;
+		}
 
 		UtilWavelet.checkShape(desc.getForward(),input,output,numLevels);
 		storage = InputSanityCheck.checkDeclare(output, storage);
@@ -165,6 +174,13 @@ public class WaveletTransformOps {
 			throw new IllegalArgumentException("Wavelet is too large for provided image.");
 		if( output.height < coef.scaling.length || output.height < coef.wavelet.length )
 			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+
+		if( WaveletLiftingOps.isSupported(desc) && input.width == output.width && input.height == output.height ) {
+			WaveletLiftingOps.inverse1(desc,input,output);
+			if( minValue != -Float.MAX_VALUE && maxValue != Float.MAX_VALUE )
+				PixelMath.boundImage(output,minValue,maxValue);
+			return;
+		}
 		storage = InputSanityCheck.checkDeclare(input, storage);
 
 		// the faster routines can only be run on images which are not too small
@@ -209,6 +225,10 @@ public class WaveletTransformOps {
 			PixelMath.boundImage(output, minValue, maxValue);
 			return;
 		}
+		if( WaveletLiftingOps.isSupported(desc) ) {
+			WaveletLiftingOps.inverseN(desc,input,output,storage,numLevels,minValue,maxValue);
+			return;
+		}
 
 		UtilWavelet.checkShape(desc.getForward(),output,input,numLevels);
 		storage = InputSanityCheck.checkDeclare(input, storage);
@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WlLifting;
+
+
+/**
+ * <p>
+ * Single level wavelet transforms which are computed in-place using the lifting scheme.  Each row or block
+ * of columns is copied into a work array with the even samples in front of the odd samples, lifted, and then
+ * copied back into the image.  No temporary image is required.
+ * </p>
+ *
+ * <p>
+ * Floating point transforms produce the same coefficients as {@link ImplWaveletTransformNaive} for images with
+ * an even width and height, up to rounding error.  Integer transforms are reversible integer to integer
+ * transforms, e.g. the 5/3 transform in JPEG 2000, and do NOT produce the same coefficients as the convolution
+ * based integer transforms.  Integer transforms are only provided for {@link WlLifting#HAAR} and
+ * {@link WlLifting#BIORTHOGONAL_5}.
+ * </p>
+ *
+ * <p>
+ * The border is either wrapped or reflected.  {@link WlLifting#HAAR} never accesses pixels outside the image and
+ * {@link WlLifting#DAUB_4} is only supported with a wrapped border.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplWaveletTransformLifting {
+
+	/**
+	 * Number of columns which are processed at the same time by the vertical transforms
+	 */
+	public static final int BLOCK_WIDTH = 32;
+
+	// Haar coefficient, same as in FactoryWaveletHaar
+	private static final float HAAR = (float)(1.0/Math.sqrt(2));
+
+	// Daubechies 4 lifting coefficients
+	private static final float D4_SQRT3 = (float)Math.sqrt(3);
+	private static final float D4_P0 = (float)(Math.sqrt(3)/4.0);
+	private static final float D4_P1 = (float)((Math.sqrt(3)-2.0)/4.0);
+	private static final float D4_K0 = (float)((Math.sqrt(3)-1.0)/Math.sqrt(2));
+	private static final float D4_K1 = (float)(-(Math.sqrt(3)+1.0)/Math.sqrt(2));
+
+	/**
+	 * Length of the work array needed to transform an image of the specified shape.
+	 */
+	public static int workLength( int width , int height ) {
+		return Math.max(width,BLOCK_WIDTH*height);
+	}
+
+	/**
+	 * Applies a single level transform to the entire image, in-place.
+	 */
+	public static void transform( WlLifting type , boolean wrap , ImageFloat32 image ) {
+		float work[] = new float[ workLength(image.width,image.height) ];
+		horizontal(type,wrap,image,0,image.height,work);
+		vertical(type,wrap,image,0,image.width,work);
+	}
+
+	/**
+	 * Applies a single level inverse transform to the entire image, in-place.
+	 */
+	public static void inverse( WlLifting type , boolean wrap , ImageFloat32 image ) {
+		float work[] = new float[ workLength(image.width,image.height) ];
+		verticalInverse(type,wrap,image,0,image.width,work);
+		horizontalInverse(type,wrap,image,0,image.height,work);
+	}
+
+	/**
+	 * Applies a single level transform to the entire image, in-place.
+	 */
+	public static void transform( WlLifting type , boolean wrap , ImageSInt32 image ) {
+		int work[] = new int[ workLength(image.width,image.height) ];
+		horizontal(type,wrap,image,0,image.height,work);
+		vertical(type,wrap,image,0,image.width,work);
+	}
+
+	/**
+	 * Applies a single level inverse transform to the entire image, in-place.
+	 */
+	public static void inverse( WlLifting type , boolean wrap , ImageSInt32 image ) {
+		int work[] = new int[ workLength(image.width,image.height) ];
+		verticalInverse(type,wrap,image,0,image.width,work);
+		horizontalInverse(type,wrap,image,0,image.height,work);
+	}
+
+	/**
+	 * Transforms rows y0 to y1 along the horizontal axis.
+	 *
+	 * @param work Work array with at least image.width elements
+	 */
+	public static void horizontal( WlLifting type , boolean wrap , ImageFloat32 image ,
+								   int y0 , int y1 , float work[] ) {
+		final int M = image.width/2;
+		final int shift = type == WlLifting.DAUB_4 ? 1 : 0;
+		final float data[] = image.data;
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = image.startIndex + y*image.stride;
+
+			for( int i = 0; i < M; i++ ) {
+				work[i] = data[index++];
+				work[M+i] = data[index++];
+			}
+
+			forward(type,wrap,work,M,1);
+
+			index = image.startIndex + y*image.stride;
+			System.arraycopy(work,0,data,index,M);
+			System.arraycopy(work,M+shift,data,index+M,M-shift);
+			System.arraycopy(work,M,data,index+2*M-shift,shift);
+		}
+	}
+
+	/**
+	 * Inverse of {@link #horizontal(WlLifting, boolean, ImageFloat32, int, int, float[])}.
+	 */
+	public static void horizontalInverse( WlLifting type , boolean wrap , ImageFloat32 image ,
+										  int y0 , int y1 , float work[] ) {
+		final int M = image.width/2;
+		final int shift = type == WlLifting.DAUB_4 ? 1 : 0;
+		final float data[] = image.data;
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = image.startIndex + y*image.stride;
+
+			System.arraycopy(data,index,work,0,M);
+			System.arraycopy(data,index+M,work,M+shift,M-shift);
+			System.arraycopy(data,index+2*M-shift,work,M,shift);
+
+			inverse(type,wrap,work,M,1);
+
+			for( int i = 0; i < M; i++ ) {
+				data[index++] = work[i];
+				data[index++] = work[M+i];
+			}
+		}
+	}
+
+	/**
+	 * Transforms columns x0 to x1 along the vertical axis.
+	 *
+	 * @param work Work array with at least {@link #BLOCK_WIDTH}*image.height elements
+	 */
+	public static void vertical( WlLifting type , boolean wrap , ImageFloat32 image ,
+								 int x0 , int x1 , float work[] ) {
+		final int M = image.height/2;
+		final int shift = type == WlLifting.DAUB_4 ? 1 : 0;
+
+		for( int blockX = x0; blockX < x1; blockX += BLOCK_WIDTH ) {
+			int B = Math.min(BLOCK_WIDTH,x1-blockX);
+
+			for( int y = 0; y < image.height; y++ ) {
+				int row = y/2 + (y%2)*M;
+				System.arraycopy(image.data,image.startIndex+y*image.stride+blockX,work,row*B,B);
+			}
+
+			forward(type,wrap,work,M,B);
+
+			for( int y = 0; y < image.height; y++ ) {
+				int row = y < M ? y : M + (y-M+shift)%M;
+				System.arraycopy(work,row*B,image.data,image.startIndex+y*image.stride+blockX,B);
+			}
+		}
+	}
+
+	/**
+	 * Inverse of {@link #vertical(WlLifting, boolean, ImageFloat32, int, int, float[])}.
+	 */
+	public static void verticalInverse( WlLifting type , boolean wrap , ImageFloat32 image ,
+										int x0 , int x1 , float work[] ) {
+		final int M = image.height/2;
+		final int shift = type == WlLifting.DAUB_4 ? 1 : 0;
+
+		for( int blockX = x0; blockX < x1; blockX += BLOCK_WIDTH ) {
+			int B = Math.min(BLOCK_WIDTH,x1-blockX);
+
+			for( int y = 0; y < image.height; y++ ) {
+				int row = y < M ? y : M + (y-M+shift)%M;
+				System.arraycopy(image.data,image.startIndex+y*image.stride+blockX,work,row*B,B);
+			}
+
+			inverse(type,wrap,work,M,B);
+
+			for( int y = 0; y < image.height; y++ ) {
+				int row = y/2 + (y%2)*M;
+				System.arraycopy(work,row*B,image.data,image.startIndex+y*image.stride+blockX,B);
+			}
+		}
+	}
+
+	/**
+	 * Transforms rows y0 to y1 along the horizontal axis.
+	 *
+	 * @param work Work array with at least image.width elements
+	 */
+	public static void horizontal( WlLifting type , boolean wrap , ImageSInt32 image ,
+								   int y0 , int y1 , int work[] ) {
+		final int M = image.width/2;
+		final int data[] = image.data;
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = image.startIndex + y*image.stride;
+
+			for( int i = 0; i < M; i++ ) {
+				work[i] = data[index++];
+				work[M+i] = data[index++];
+			}
+
+			forward(type,wrap,work,M,1);
+
+			System.arraycopy(work,0,data,image.startIndex + y*image.stride,2*M);
+		}
+	}
+
+	/**
+	 * Inverse of {@link #horizontal(WlLifting, boolean, ImageSInt32, int, int, int[])}.
+	 */
+	public static void horizontalInverse( WlLifting type , boolean wrap , ImageSInt32 image ,
+										  int y0 , int y1 , int work[] ) {
+		final int M = image.width/2;
+		final int data[] = image.data;
+
+		for( int y = y0; y < y1; y++ ) {
+			int index = image.startIndex + y*image.stride;
+
+			System.arraycopy(data,index,work,0,2*M);
+
+			inverse(type,wrap,work,M,1);
+
+			for( int i = 0; i < M; i++ ) {
+				data[index++] = work[i];
+				data[index++] = work[M+i];
+			}
+		}
+	}
+
+	/**
+	 * Transforms columns x0 to x1 along the vertical axis.
+	 *
+	 * @param work Work array with at least {@link #BLOCK_WIDTH}*image.height elements
+	 */
+	public static void vertical( WlLifting type , boolean wrap , ImageSInt32 image ,
+								 int x0 , int x1 , int work[] ) {
+		final int M = image.height/2;
+
+		for( int blockX = x0; blockX < x1; blockX += BLOCK_WIDTH ) {
+			int B = Math.min(BLOCK_WIDTH,x1-blockX);
+
+			for( int y = 0; y < image.height; y++ ) {
+				int row = y/2 + (y%2)*M;
+				System.arraycopy(image.data,image.startIndex+y*image.stride+blockX,work,row*B,B);
+			}
+
+			forward(type,wrap,work,M,B);
+
+			for( int y = 0; y < image.height; y++ ) {
+				System.arraycopy(work,y*B,image.data,image.startIndex+y*image.stride+blockX,B);
+			}
+		}
+	}
+
+	/**
+	 * Inverse of {@link #vertical(WlLifting, boolean, ImageSInt32, int, int, int[])}.
+	 */
+	public static void verticalInverse( WlLifting type , boolean wrap , ImageSInt32 image ,
+										int x0 , int x1 , int work[] ) {
+		final int M = image.height/2;
+
+		for( int blockX = x0; blockX < x1; blockX += BLOCK_WIDTH ) {
+			int B = Math.min(BLOCK_WIDTH,x1-blockX);
+
+			for( int y = 0; y < image.height; y++ ) {
+				System.arraycopy(image.data,image.startIndex+y*image.stride+blockX,work,y*B,B);
+			}
+
+			inverse(type,wrap,work,M,B);
+
+			for( int y = 0; y < image.height; y++ ) {
+				int row = y/2 + (y%2)*M;
+				System.arraycopy(work,row*B,image.data,image.startIndex+y*image.stride+blockX,B);
+			}
+		}
+	}
+
+	/**
+	 * Lifts B interleaved signals.  Sample n of signal c is at work[n*B+c].  The first M samples are the
+	 * even samples and the last M samples are the odd samples.  After lifting the first M samples are the
+	 * scaling coefficients and the last M samples are the wavelet coefficients.
+	 */
+	private static void forward( WlLifting type , boolean wrap , float work[] , int M , int B ) {
+		final int N = M*B;
+
+		switch( type ) {
+			case HAAR:
+				for( int i = 0; i < N; i++ ) {
+					float a = work[i];
+					float b = work[N+i];
+					work[i] = a*HAAR + b*HAAR;
+					work[N+i] = a*HAAR - b*HAAR;
+				}
+				break;
+
+			case DAUB_4:
+				for( int i = 0; i < N; i++ ) {
+					work[i] += D4_SQRT3*work[N+i];
+				}
+				for( int n = 0; n < M; n++ ) {
+					int s0 = (n == 0 ? M-1 : n-1)*B;
+					int s1 = n*B;
+					int d = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[d+c] -= D4_P0*work[s1+c] + D4_P1*work[s0+c];
+					}
+				}
+				for( int n = 0; n < M; n++ ) {
+					int s = n*B;
+					int d = N + (n == M-1 ? 0 : n+1)*B;
+					for( int c = 0; c < B; c++ ) {
+						work[s+c] = D4_K0*(work[s+c] - work[d+c]);
+					}
+				}
+				for( int i = N; i < 2*N; i++ ) {
+					work[i] *= D4_K1;
+				}
+				break;
+
+			case BIORTHOGONAL_5:
+				for( int n = 0; n < M; n++ ) {
+					int e0 = n*B;
+					int e1 = (n < M-1 ? n+1 : (wrap ? 0 : M-1))*B;
+					int d = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[d+c] -= 0.5f*(work[e0+c] + work[e1+c]);
+					}
+				}
+				for( int n = 0; n < M; n++ ) {
+					int s = n*B;
+					int d0 = N + (n > 0 ? n-1 : (wrap ? M-1 : 0))*B;
+					int d1 = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[s+c] += 0.25f*(work[d0+c] + work[d1+c]);
+					}
+				}
+				break;
+
+			default:
+				throw new IllegalArgumentException("Unknown type "+type);
+		}
+	}
+
+	/**
+	 * Inverse of {@link #forward(WlLifting, boolean, float[], int, int)}
+	 */
+	private static void inverse( WlLifting type , boolean wrap , float work[] , int M , int B ) {
+		final int N = M*B;
+
+		switch( type ) {
+			case HAAR:
+				for( int i = 0; i < N; i++ ) {
+					float a = work[i];
+					float b = work[N+i];
+					work[i] = a*HAAR + b*HAAR;
+					work[N+i] = a*HAAR - b*HAAR;
+				}
+				break;
+
+			case DAUB_4:
+				for( int i = N; i < 2*N; i++ ) {
+					work[i] /= D4_K1;
+				}
+				for( int n = 0; n < M; n++ ) {
+					int s = n*B;
+					int d = N + (n == M-1 ? 0 : n+1)*B;
+					for( int c = 0; c < B; c++ ) {
+						work[s+c] = work[s+c]/D4_K0 + work[d+c];
+					}
+				}
+				for( int n = 0; n < M; n++ ) {
+					int s0 = (n == 0 ? M-1 : n-1)*B;
+					int s1 = n*B;
+					int d = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[d+c] += D4_P0*work[s1+c] + D4_P1*work[s0+c];
+					}
+				}
+				for( int i = 0; i < N; i++ ) {
+					work[i] -= D4_SQRT3*work[N+i];
+				}
+				break;
+
+			case BIORTHOGONAL_5:
+				for( int n = 0; n < M; n++ ) {
+					int s = n*B;
+					int d0 = N + (n > 0 ? n-1 : (wrap ? M-1 : 0))*B;
+					int d1 = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[s+c] -= 0.25f*(work[d0+c] + work[d1+c]);
+					}
+				}
+				for( int n = 0; n < M; n++ ) {
+					int e0 = n*B;
+					int e1 = (n < M-1 ? n+1 : (wrap ? 0 : M-1))*B;
+					int d = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[d+c] += 0.5f*(work[e0+c] + work[e1+c]);
+					}
+				}
+				break;
+
+			default:
+				throw new IllegalArgumentException("Unknown type "+type);
+		}
+	}
+
+	/**
+	 * Reversible integer version of {@link #forward(WlLifting, boolean, float[], int, int)}.
+	 */
+	private static void forward( WlLifting type , boolean wrap , int work[] , int M , int B ) {
+		final int N = M*B;
+
+		switch( type ) {
+			case HAAR:
+				for( int i = 0; i < N; i++ ) {
+					int d = work[N+i] - work[i];
+					work[i] += d >> 1;
+					work[N+i] = d;
+				}
+				break;
+
+			case BIORTHOGONAL_5:
+				for( int n = 0; n < M; n++ ) {
+					int e0 = n*B;
+					int e1 = (n < M-1 ? n+1 : (wrap ? 0 : M-1))*B;
+					int d = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[d+c] -= (work[e0+c] + work[e1+c]) >> 1;
+					}
+				}
+				for( int n = 0; n < M; n++ ) {
+					int s = n*B;
+					int d0 = N + (n > 0 ? n-1 : (wrap ? M-1 : 0))*B;
+					int d1 = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[s+c] += (work[d0+c] + work[d1+c] + 2) >> 2;
+					}
+				}
+				break;
+
+			default:
+				throw new IllegalArgumentException("Not supported by integer images: "+type);
+		}
+	}
+
+	/**
+	 * Inverse of {@link #forward(WlLifting, boolean, int[], int, int)}
+	 */
+	private static void inverse( WlLifting type , boolean wrap , int work[] , int M , int B ) {
+		final int N = M*B;
+
+		switch( type ) {
+			case HAAR:
+				for( int i = 0; i < N; i++ ) {
+					int d = work[N+i];
+					work[i] -= d >> 1;
+					work[N+i] = work[i] + d;
+				}
+				break;
+
+			case BIORTHOGONAL_5:
+				for( int n = 0; n < M; n++ ) {
+					int s = n*B;
+					int d0 = N + (n > 0 ? n-1 : (wrap ? M-1 : 0))*B;
+					int d1 = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[s+c] -= (work[d0+c] + work[d1+c] + 2) >> 2;
+					}
+				}
+				for( int n = 0; n < M; n++ ) {
+					int e0 = n*B;
+					int e1 = (n < M-1 ? n+1 : (wrap ? 0 : M-1))*B;
+					int d = N + n*B;
+					for( int c = 0; c < B; c++ ) {
+						work[d+c] += (work[e0+c] + work[e1+c]) >> 1;
+					}
+				}
+				break;
+
+			default:
+				throw new IllegalArgumentException("Not supported by integer images: "+type);
+		}
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WlLifting;
+
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImplWaveletTransformLifting}.  The horizontal pass is split into bands of
+ * rows and the vertical pass into bands of columns.  Each thread has its own work array.  Produces identical
+ * results to the single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplWaveletTransformLifting_MT {
+
+	public static void transform( final WlLifting type , final boolean wrap , final ImageFloat32 image ) {
+		BoofConcurrency.loopBlocks(0,image.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				float work[] = new float[image.width];
+				ImplWaveletTransformLifting.horizontal(type,wrap,image,y0,y1,work);
+			}
+		});
+		BoofConcurrency.loopBlocks(0,image.width,ImplWaveletTransformLifting.BLOCK_WIDTH,new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				float work[] = new float[ImplWaveletTransformLifting.BLOCK_WIDTH*image.height];
+				ImplWaveletTransformLifting.vertical(type,wrap,image,x0,x1,work);
+			}
+		});
+	}
+
+	public static void inverse( final WlLifting type , final boolean wrap , final ImageFloat32 image ) {
+		BoofConcurrency.loopBlocks(0,image.width,ImplWaveletTransformLifting.BLOCK_WIDTH,new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				float work[] = new float[ImplWaveletTransformLifting.BLOCK_WIDTH*image.height];
+				ImplWaveletTransformLifting.verticalInverse(type,wrap,image,x0,x1,work);
+			}
+		});
+		BoofConcurrency.loopBlocks(0,image.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				float work[] = new float[image.width];
+				ImplWaveletTransformLifting.horizontalInverse(type,wrap,image,y0,y1,work);
+			}
+		});
+	}
+
+	public static void transform( final WlLifting type , final boolean wrap , final ImageSInt32 image ) {
+		BoofConcurrency.loopBlocks(0,image.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				int work[] = new int[image.width];
+				ImplWaveletTransformLifting.horizontal(type,wrap,image,y0,y1,work);
+			}
+		});
+		BoofConcurrency.loopBlocks(0,image.width,ImplWaveletTransformLifting.BLOCK_WIDTH,new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				int work[] = new int[ImplWaveletTransformLifting.BLOCK_WIDTH*image.height];
+				ImplWaveletTransformLifting.vertical(type,wrap,image,x0,x1,work);
+			}
+		});
+	}
+
+	public static void inverse( final WlLifting type , final boolean wrap , final ImageSInt32 image ) {
+		BoofConcurrency.loopBlocks(0,image.width,ImplWaveletTransformLifting.BLOCK_WIDTH,new IntRangeTask() {
+			@Override
+			public void process(int x0, int x1) {
+				int work[] = new int[ImplWaveletTransformLifting.BLOCK_WIDTH*image.height];
+				ImplWaveletTransformLifting.verticalInverse(type,wrap,image,x0,x1,work);
+			}
+		});
+		BoofConcurrency.loopBlocks(0,image.height,BoofConcurrency.getMinBandHeight(),new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				int work[] = new int[image.width];
+				ImplWaveletTransformLifting.horizontalInverse(type,wrap,image,y0,y1,work);
+			}
+		});
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import boofcv.struct.image.ImageBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * <p>
+ * Global settings and utilities for concurrent image processing.  Algorithms which have a concurrent
+ * implementation can be invoked directly through their concurrent class, typically having the same name as the
+ * single threaded class with a "_MT" suffix, or the single threaded class can be told to use it automatically
+ * by setting {@link #USE_CONCURRENT} to true.
+ * </p>
+ *
+ * <p>
+ * Work is divided into blocks of rows which are processed in a shared thread pool.  The calling thread always
+ * processes one of the blocks itself.  If a block is being processed and it attempts to process more work
+ * concurrently then that work is processed in the calling thread.  This prevents dead locks and excessive
+ * context switching.  The same results are produced independent of the number of threads.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+
+	/**
+	 * If true then functions which have a concurrent implementation will use it by default.
+	 */
+	public static boolean USE_CONCURRENT = false;
+
+	// maximum number of blocks that work is split into
+	private static int maxThreads = Runtime.getRuntime().availableProcessors();
+	// blocks smaller than this number of rows will not be created
+	private static int minBandHeight = 16;
+
+	// thread pool used to process blocks
+	private static ExecutorService pool;
+	// true if the pool was created here and can be shutdown
+	private static boolean ownsPool;
+
+	// indicates that the current thread is processing a block
+	private static final ThreadLocal<Boolean> insideBlock = new ThreadLocal<Boolean>() {
+		@Override
+		protected Boolean initialValue() {
+			return Boolean.FALSE;
+		}
+	};
+
+	/**
+	 * Specifies the maximum number of threads which will process a single operation.  If the current thread pool
+	 * was created internally it will be discarded and a new one created the next time it's needed.
+	 *
+	 * @param maxThreads Maximum number of threads.  Must be &ge; 1.
+	 */
+	public static synchronized void setMaxThreads( int maxThreads ) {
+		if( maxThreads < 1 )
+			throw new IllegalArgumentException("maxThreads must be at least one");
+		BoofConcurrency.maxThreads = maxThreads;
+		if( ownsPool && pool != null ) {
+			pool.shutdown();
+			pool = null;
+		}
+	}
+
+	public static synchronized int getMaxThreads() {
+		return maxThreads;
+	}
+
+	/**
+	 * Specifies the thread pool which will be used to process blocks.  The pool is not shutdown by this class.
+	 *
+	 * @param pool The thread pool.  If null then an internal pool will be created when needed.
+	 * @param maxThreads Maximum number of threads which will process a single operation.
+	 */
+	public static synchronized void setPool( ExecutorService pool , int maxThreads ) {
+		setMaxThreads(maxThreads);
+		if( ownsPool && BoofConcurrency.pool != null )
+			BoofConcurrency.pool.shutdown();
+		BoofConcurrency.pool = pool;
+		BoofConcurrency.ownsPool = false;
+	}
+
+	/**
+	 * Returns the thread pool used to process blocks.  If one has not been specified then a pool composed of
+	 * daemon threads is created.
+	 */
+	public static synchronized ExecutorService getPool() {
+		if( pool == null ) {
+			pool = Executors.newFixedThreadPool(maxThreads, new ThreadFactory() {
+				int count = 0;
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "BoofConcurrency-" + (count++));
+					t.setDaemon(true);
+					return t;
+				}
+			});
+			ownsPool = true;
+		}
+		return pool;
+	}
+
+	/**
+	 * Specifies the minimum number of rows in a band.  Images with fewer rows than twice this number
+	 * are processed in a single thread.
+	 */
+	public static synchronized void setMinBandHeight( int minBandHeight ) {
+		if( minBandHeight < 1 )
+			throw new IllegalArgumentException("minBandHeight must be at least one");
+		BoofConcurrency.minBandHeight = minBandHeight;
+	}
+
+	public static synchronized int getMinBandHeight() {
+		return minBandHeight;
+	}
+
+	/**
+	 * Splits the range from start to end into contiguous blocks and processes them concurrently.  Returns after
+	 * all the blocks have been processed.  If any block throws an exception it will be rethrown here.
+	 *
+	 * @param start First index in the range, inclusive.
+	 * @param end Last index in the range, exclusive.
+	 * @param minBlock Minimum number of elements in a block.
+	 * @param task Processes each block.
+	 */
+	public static void loopBlocks( int start , int end , int minBlock , final IntRangeTask task ) {
+		int length = end - start;
+		if( length <= 0 )
+			return;
+
+		int numBlocks = Math.min(getMaxThreads(), length/Math.max(1,minBlock));
+
+		if( numBlocks <= 1 || insideBlock.get() ) {
+			task.process(start,end);
+			return;
+		}
+
+		ExecutorService pool = getPool();
+		List<Future<?>> futures = new ArrayList<Future<?>>(numBlocks-1);
+		for( int i = 1; i < numBlocks; i++ ) {
+			final int blockStart = start + (int)((long)i*length/numBlocks);
+			final int blockEnd = start + (int)((long)(i+1)*length/numBlocks);
+
+			futures.add(pool.submit(new Runnable() {
+				@Override
+				public void run() {
+					processBlock(task,blockStart,blockEnd);
+				}
+			}));
+		}
+
+		try {
+			processBlock(task, start, start + length/numBlocks);
+		} finally {
+			waitForAll(futures);
+		}
+	}
+
+	/**
+	 * Splits the image into bands of rows and processes them concurrently.  The task is given sub-images of the
+	 * input and output images which contain the band plus the specified number of rows above and below it,
+	 * truncated by the image border.  These extra rows are provided so that operations which skip the image
+	 * border, such as convolution, produce identical results to when the entire image is processed at once.
+	 * Since the extra rows overlap with neighboring bands the task can only write to rows inside the band.
+	 *
+	 * @param input Input image.
+	 * @param output Output image.  Must have the same height as the input.
+	 * @param rowsAbove Number of extra rows above each band.
+	 * @param rowsBelow Number of extra rows below each band.
+	 * @param task Processes each band.
+	 */
+	@SuppressWarnings({"unchecked"})
+	public static <In extends ImageBase, Out extends ImageBase>
+	void loopBands( final In input , final Out output ,
+					final int rowsAbove , final int rowsBelow ,
+					final ImageBandTask<In,Out> task )
+	{
+		if( input.height != output.height )
+			throw new IllegalArgumentException("Input and output images must have the same height");
+
+		final int height = input.height;
+
+		// small bands are dominated by the overhead of the extra rows
+		int minBlock = Math.max(getMinBandHeight(), rowsAbove + rowsBelow);
+
+		loopBlocks(0, height, minBlock, new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				int bandY0 = Math.max(0, y0 - rowsAbove);
+				int bandY1 = Math.min(height, y1 + rowsBelow);
+
+				if( bandY0 == 0 && bandY1 == height ) {
+					task.process(input, output);
+				} else {
+					In bandIn = (In)input.subimage(0, bandY0, input.width, bandY1, null);
+					Out bandOut = (Out)output.subimage(0, bandY0, output.width, bandY1, null);
+					task.process(bandIn, bandOut);
+				}
+			}
+		});
+	}
+
+	private static void processBlock( IntRangeTask task , int start , int end ) {
+		boolean previous = insideBlock.get();
+		insideBlock.set(Boolean.TRUE);
+		try {
+			task.process(start, end);
+		} finally {
+			insideBlock.set(previous);
+		}
+	}
+
+	/**
+	 * Waits for every block to finish before returning, even if one fails or the thread is interrupted, so that
+	 * no block is still writing to the output.  The first failure is then rethrown.  If interrupted the thread's
+	 * interrupt status is restored after all the blocks have finished.
+	 */
+	private static void waitForAll( List<Future<?>> futures ) {
+		Throwable failure = null;
+		boolean interrupted = false;
+		for( Future<?> f : futures ) {
+			while( true ) {
+				try {
+					f.get();
+					break;
+				} catch( InterruptedException e ) {
+					interrupted = true;
+				} catch( ExecutionException e ) {
+					if( failure == null )
+						failure = e.getCause();
+					break;
+				} catch( CancellationException e ) {
+					if( failure == null )
+						failure = e;
+					break;
+				}
+			}
+		}
+
+		if( interrupted )
+			Thread.currentThread().interrupt();
+
+		if( failure instanceof Error )
+			throw (Error)failure;
+		else if( failure instanceof RuntimeException )
+			throw (RuntimeException)failure;
+		else if( failure != null )
+			throw new RuntimeException(failure);
+	}
+}
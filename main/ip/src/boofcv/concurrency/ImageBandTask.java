@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import boofcv.struct.image.ImageBase;
+
+/**
+ * Processes a band of rows inside of an input and output image.  The images passed in are sub-images of the
+ * original images and can include rows above and below the band, see
+ * {@link BoofConcurrency#loopBands(ImageBase, ImageBase, int, int, ImageBandTask)}.
+ *
+ * @author Peter Abeles
+ */
+public interface ImageBandTask<In extends ImageBase, Out extends ImageBase> {
+	/**
+	 * Processes a single band.  Only rows which are not part of the extra rows above and below the band
+	 * can be written to.
+	 *
+	 * @param input Sub-image of the input image.  Not modified.
+	 * @param output Sub-image of the output image.  Modified.
+	 */
+	public void process( In input , Out output );
+}
@@ -18,6 +18,8 @@
 
 package boofcv.core.image;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.*;
 import sun.awt.image.ByteInterleavedRaster;
 import sun.awt.image.IntegerInterleavedRaster;
@@ -47,8 +49,7 @@ public class ConvertBufferedImage {
 	 */
 	public static InterleavedU8 extractInterleavedU8(BufferedImage img) {
 
-		if (img.getRaster() instanceof ByteInterleavedRaster &&
-				img.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
+		if (isInterleavedByte(img)) {
 			ByteInterleavedRaster raster = (ByteInterleavedRaster) img.getRaster();
 
 			InterleavedU8 ret = new InterleavedU8();
@@ -56,7 +57,7 @@ public class ConvertBufferedImage {
 			ret.width = img.getWidth();
 			ret.height = img.getHeight();
 			ret.stride = raster.getScanlineStride();
-			ret.startIndex = raster.getDataOffset(0)-raster.getPixelStride()+1;
+			ret.startIndex = ConvertRaster.dataStart(raster);
 			ret.numBands = raster.getNumBands();
 			ret.data = raster.getDataStorage();
 
@@ -75,8 +76,7 @@ public class ConvertBufferedImage {
 	 * @return An image whose internal data is the same as the input image.
 	 */
 	public static ImageUInt8 extractImageUInt8(BufferedImage img) {
-		if (img.getRaster() instanceof ByteInterleavedRaster &&
-				img.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
+		if (isInterleavedByte(img)) {
 
 			ByteInterleavedRaster raster = (ByteInterleavedRaster) img.getRaster();
 			if (raster.getNumBands() != 1)
@@ -94,6 +94,69 @@ public class ConvertBufferedImage {
 		throw new IllegalArgumentException("Buffered image does not have a gray scale byte raster");
 	}
 
+	/**
+	 * Returns an {@link InterleavedU8} which shares its data with the BufferedImage when possible, avoiding
+	 * a copy.  This is possible when the image is backed by a byte array where the bands of each pixel are
+	 * packed next to each other, e.g. TYPE_3BYTE_BGR, TYPE_4BYTE_ABGR, or TYPE_BYTE_GRAY.  Otherwise the image
+	 * is converted into 'storage'.  In both cases the bands are in the order they are stored in the
+	 * BufferedImage, see {@link #orderBandsIntoRGB(InterleavedU8, BufferedImage)}.
+	 *
+	 * @param src Input image.
+	 * @param storage (Optional) Used if the image can't be wrapped.  Must be the correct shape and number
+	 *                of bands to be used.  Can be null.
+	 * @return An image which either shares data with the input image or is a copy of it.
+	 */
+	public static InterleavedU8 wrapInterleavedU8(BufferedImage src, InterleavedU8 storage) {
+		if (isInterleavedByte(src))
+			return extractInterleavedU8(src);
+
+		if (storage != null && (storage.width != src.getWidth() || storage.height != src.getHeight() ||
+				storage.numBands != numBandsInterleaved(src)))
+			storage = null;
+
+		return convertFrom(src, storage, false);
+	}
+
+	/**
+	 * Returns an {@link ImageUInt8} which shares its data with the BufferedImage when possible, avoiding a
+	 * copy.  This is possible when the image is backed by a byte array with a single band, e.g. TYPE_BYTE_GRAY.
+	 * Otherwise the image is converted into 'storage' by averaging its bands.
+	 *
+	 * @param src Input image.
+	 * @param storage (Optional) Used if the image can't be wrapped.  Reshaped if needed.  Can be null.
+	 * @return An image which either shares data with the input image or is a copy of it.
+	 */
+	public static ImageUInt8 wrapImageUInt8(BufferedImage src, ImageUInt8 storage) {
+		if (isInterleavedByte(src) && src.getRaster().getNumBands() == 1)
+			return extractImageUInt8(src);
+
+		if (storage == null)
+			storage = new ImageUInt8(src.getWidth(), src.getHeight());
+		else
+			storage.reshape(src.getWidth(), src.getHeight());
+
+		return convertFrom(src, storage);
+	}
+
+	/**
+	 * Checks to see if the BufferedImage's data is a byte array where the bands of each pixel are next
+	 * to each other, which allows it to be wrapped by an image without copying.
+	 */
+	private static boolean isInterleavedByte(BufferedImage img) {
+		try {
+			if (!(img.getRaster() instanceof ByteInterleavedRaster) ||
+					img.getType() == BufferedImage.TYPE_BYTE_INDEXED)
+				return false;
+
+			// there can't be any padding between pixels
+			ByteInterleavedRaster raster = (ByteInterleavedRaster) img.getRaster();
+			return raster.getPixelStride() == raster.getNumBands();
+		} catch( java.security.AccessControlException e) {
+			// Applets don't allow access to the raster()
+			return false;
+		}
+	}
+
 	/**
 	 * Creates a new BufferedImage that internally uses the same data as the provided
 	 * {@link InterleavedU8}.  If 3 bands then the image will be of type TYPE_3BYTE_BGR
@@ -197,6 +260,8 @@ public class ConvertBufferedImage {
 		} else if( dst instanceof MultiSpectral ) {
 			MultiSpectral ms = (MultiSpectral)dst;
 			convertFromMulti(src,ms,orderRgb,ms.getType());
+		} else if( dst instanceof InterleavedU8 ) {
+			convertFrom(src,(InterleavedU8)dst,orderRgb);
 		} else {
 			throw new IllegalArgumentException("Unknown type " + dst.getClass().getSimpleName());
 		}
@@ -235,19 +300,7 @@ public class ConvertBufferedImage {
 			dst = new ImageUInt8(src.getWidth(), src.getHeight());
 		}
 
-		try {
-			if (src.getRaster() instanceof ByteInterleavedRaster &&
-					src.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
-				ConvertRaster.bufferedToGray((ByteInterleavedRaster) src.getRaster(), dst);
-			} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
-				ConvertRaster.bufferedToGray((IntegerInterleavedRaster) src.getRaster(), dst);
-			} else {
-				ConvertRaster.bufferedToGray(src, dst);
-			}
-		} catch( java.security.AccessControlException e) {
-			// Applets don't allow access to the raster()
-			ConvertRaster.bufferedToGray(src, dst);
-		}
+		convertRows(src, dst, GRAY_U8);
 
 		return dst;
 	}
@@ -299,19 +352,7 @@ public class ConvertBufferedImage {
 			dst = new ImageFloat32(src.getWidth(), src.getHeight());
 		}
 
-		try {
-			if (src.getRaster() instanceof ByteInterleavedRaster &&
-					src.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
-				ConvertRaster.bufferedToGray((ByteInterleavedRaster) src.getRaster(), dst);
-			} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
-				ConvertRaster.bufferedToGray((IntegerInterleavedRaster) src.getRaster(), dst);
-			} else {
-				ConvertRaster.bufferedToGray(src, dst);
-			}
-		} catch( java.security.AccessControlException e) {
-			// Applets don't allow access to the raster()
-			ConvertRaster.bufferedToGray(src, dst);
-		}
+		convertRows(src, dst, GRAY_F32);
 
 		return dst;
 	}
@@ -339,71 +380,220 @@ public class ConvertBufferedImage {
 			}
 		}
 
-		try {
-			WritableRaster raster = src.getRaster();
+		int numBands = numBandsInterleaved(src);
 
-			int numBands;
+		if( dst == null)
+			dst = new MultiSpectral<T>(type,src.getWidth(),src.getHeight(),numBands);
+		else if( dst.getNumBands() != numBands )
+			throw new IllegalArgumentException("Expected "+numBands+" bands in dst not "+dst.getNumBands());
+
+		if( type == ImageUInt8.class ) {
+			convertRows(src, (MultiSpectral<ImageUInt8>)dst, MULTI_U8);
+		} else if( type == ImageFloat32.class ) {
+			convertRows(src, (MultiSpectral<ImageFloat32>)dst, MULTI_F32);
+		} else {
+			throw new IllegalArgumentException("Band type not supported yet");
+		}
+
+		// if requested, ensure the ordering of the bands
+		if( orderRgb ) {
+			orderBandsIntoRGB(dst,src);
+		}
+
+		return dst;
+	}
+
+	/**
+	 * Converts the buffered image into an {@link InterleavedU8}.  Images backed by an interleaved byte array
+	 * are copied one row at a time.  To avoid the copy entirely see
+	 * {@link #wrapInterleavedU8(BufferedImage, InterleavedU8)}.
+	 *
+	 * @param src Input image. Not modified.
+	 * @param dst Output. The converted image is written to.  If null a new image is created.
+	 * @param orderRgb If applicable, should it adjust the ordering of each color band to maintain color consistency.
+	 *                 Most of the time you want this to be true.
+	 * @return Converted image.
+	 */
+	public static InterleavedU8 convertFrom(BufferedImage src, InterleavedU8 dst, final boolean orderRgb) {
+		if( src == null )
+			throw new IllegalArgumentException("src is null!");
+
+		int numBands = numBandsInterleaved(src);
+
+		if (dst != null) {
+			if (src.getWidth() != dst.getWidth() || src.getHeight() != dst.getHeight()) {
+				throw new IllegalArgumentException("image dimension are different");
+			}
+			if( dst.numBands != numBands )
+				throw new IllegalArgumentException("Expected "+numBands+" bands in dst not "+dst.numBands);
+		} else {
+			dst = new InterleavedU8(src.getWidth(), src.getHeight(), numBands);
+		}
+
+		convertRows(src, dst, new RowConverter<InterleavedU8>() {
+			@Override
+			public void convert(BufferedImage src, InterleavedU8 dst) {
+				convertInterleaved(src, dst);
+				// if requested, ensure the ordering of the bands
+				if( orderRgb )
+					orderBandsIntoRGB(dst, src);
+			}
+		});
+
+		return dst;
+	}
+
+	/**
+	 * Number of bands in the image produced when the BufferedImage is converted into a multi-band image.
+	 */
+	private static int numBandsInterleaved(BufferedImage src) {
+		try {
 			if( src.getType() == BufferedImage.TYPE_BYTE_INDEXED )
-				numBands = 3;
+				return 3;
 			else
-				numBands = raster.getNumBands();
+				return src.getRaster().getNumBands();
+		} catch( java.security.AccessControlException e) {
+			// Applets don't allow access to the raster() and getRGB() will be used
+			return 3;
+		}
+	}
 
-			if( dst == null)
-				dst = new MultiSpectral<T>(type,src.getWidth(),src.getHeight(),numBands);
-			else if( dst.getNumBands() != numBands )
-				throw new IllegalArgumentException("Expected "+numBands+" bands in dst not "+dst.getNumBands());
+	private static void convertInterleaved(BufferedImage src, InterleavedU8 dst) {
+		try {
+			if (isInterleavedByte(src)) {
+				ConvertRaster.bufferedToInterleaved((ByteInterleavedRaster) src.getRaster(), dst);
+			} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
+				ConvertRaster.bufferedToInterleaved((IntegerInterleavedRaster) src.getRaster(), dst);
+			} else {
+				ConvertRaster.bufferedToInterleaved(src, dst);
+			}
+		} catch( java.security.AccessControlException e) {
+			// Applets don't allow access to the raster()
+			ConvertRaster.bufferedToInterleaved(src, dst);
+		}
+	}
+
+	/**
+	 * Converts a BufferedImage into an image.  Used to process bands of rows independently.
+	 */
+	private interface RowConverter<T extends ImageBase> {
+		void convert(BufferedImage src, T dst);
+	}
+
+	/**
+	 * Converts the whole image at once, or if {@link BoofConcurrency#USE_CONCURRENT} is true splits it into bands
+	 * of rows which are converted concurrently.  Each band is a sub-image of the input and output images.
+	 */
+	private static <T extends ImageBase> void convertRows(final BufferedImage src, final T dst,
+														  final RowConverter<T> converter) {
+		if( !BoofConcurrency.USE_CONCURRENT ) {
+			converter.convert(src, dst);
+			return;
+		}
 
-			if( type == ImageUInt8.class ) {
+		final int width = src.getWidth();
+		final int height = src.getHeight();
+
+		BoofConcurrency.loopBlocks(0, height, BoofConcurrency.getMinBandHeight(), new IntRangeTask() {
+			@Override
+			public void process(int y0, int y1) {
+				if( y0 == 0 && y1 == height ) {
+					converter.convert(src, dst);
+				} else {
+					converter.convert(src.getSubimage(0, y0, width, y1 - y0),
+							(T) dst.subimage(0, y0, width, y1, null));
+				}
+			}
+		});
+	}
+
+	private static final RowConverter<ImageUInt8> GRAY_U8 = new RowConverter<ImageUInt8>() {
+		@Override
+		public void convert(BufferedImage src, ImageUInt8 dst) {
+			try {
+				if (src.getRaster() instanceof ByteInterleavedRaster &&
+						src.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
+					ConvertRaster.bufferedToGray((ByteInterleavedRaster) src.getRaster(), dst);
+				} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
+					ConvertRaster.bufferedToGray((IntegerInterleavedRaster) src.getRaster(), dst);
+				} else {
+					ConvertRaster.bufferedToGray(src, dst);
+				}
+			} catch( java.security.AccessControlException e) {
+				// Applets don't allow access to the raster()
+				ConvertRaster.bufferedToGray(src, dst);
+			}
+		}
+	};
+
+	private static final RowConverter<ImageFloat32> GRAY_F32 = new RowConverter<ImageFloat32>() {
+		@Override
+		public void convert(BufferedImage src, ImageFloat32 dst) {
+			try {
+				if (src.getRaster() instanceof ByteInterleavedRaster &&
+						src.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
+					ConvertRaster.bufferedToGray((ByteInterleavedRaster) src.getRaster(), dst);
+				} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
+					ConvertRaster.bufferedToGray((IntegerInterleavedRaster) src.getRaster(), dst);
+				} else {
+					ConvertRaster.bufferedToGray(src, dst);
+				}
+			} catch( java.security.AccessControlException e) {
+				// Applets don't allow access to the raster()
+				ConvertRaster.bufferedToGray(src, dst);
+			}
+		}
+	};
+
+	private static final RowConverter<MultiSpectral<ImageUInt8>> MULTI_U8 =
+			new RowConverter<MultiSpectral<ImageUInt8>>() {
+		@Override
+		public void convert(BufferedImage src, MultiSpectral<ImageUInt8> dst) {
+			try {
 				if (src.getRaster() instanceof ByteInterleavedRaster &&
 						src.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
 					if( src.getType() == BufferedImage.TYPE_BYTE_GRAY)  {
 						for( int i = 0; i < dst.getNumBands(); i++ )
-							ConvertRaster.bufferedToGray(src, ((MultiSpectral<ImageUInt8>) dst).getBand(i));
+							ConvertRaster.bufferedToGray(src, dst.getBand(i));
 					} else {
-						ConvertRaster.bufferedToMulti_U8((ByteInterleavedRaster) src.getRaster(), (MultiSpectral<ImageUInt8>)dst);
+						ConvertRaster.bufferedToMulti_U8((ByteInterleavedRaster) src.getRaster(), dst);
 					}
 				} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
-					ConvertRaster.bufferedToMulti_U8((IntegerInterleavedRaster) src.getRaster(), (MultiSpectral<ImageUInt8>)dst);
+					ConvertRaster.bufferedToMulti_U8((IntegerInterleavedRaster) src.getRaster(), dst);
 				} else {
-					ConvertRaster.bufferedToMulti_U8(src, (MultiSpectral<ImageUInt8>)dst);
+					ConvertRaster.bufferedToMulti_U8(src, dst);
 				}
-			} else if( type == ImageFloat32.class ) {
+			} catch( java.security.AccessControlException e) {
+				// Applets don't allow access to the raster()
+				ConvertRaster.bufferedToMulti_U8(src, dst);
+			}
+		}
+	};
+
+	private static final RowConverter<MultiSpectral<ImageFloat32>> MULTI_F32 =
+			new RowConverter<MultiSpectral<ImageFloat32>>() {
+		@Override
+		public void convert(BufferedImage src, MultiSpectral<ImageFloat32> dst) {
+			try {
 				if (src.getRaster() instanceof ByteInterleavedRaster &&
 						src.getType() != BufferedImage.TYPE_BYTE_INDEXED  ) {
 					if( src.getType() == BufferedImage.TYPE_BYTE_GRAY)  {
 						for( int i = 0; i < dst.getNumBands(); i++ )
-							ConvertRaster.bufferedToGray(src,((MultiSpectral<ImageFloat32>)dst).getBand(i));
+							ConvertRaster.bufferedToGray(src, dst.getBand(i));
 					} else {
-						ConvertRaster.bufferedToMulti_F32((ByteInterleavedRaster) src.getRaster(), (MultiSpectral<ImageFloat32>)dst);
+						ConvertRaster.bufferedToMulti_F32((ByteInterleavedRaster) src.getRaster(), dst);
 					}
 				} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
-					ConvertRaster.bufferedToMulti_F32((IntegerInterleavedRaster) src.getRaster(), (MultiSpectral<ImageFloat32>)dst);
+					ConvertRaster.bufferedToMulti_F32((IntegerInterleavedRaster) src.getRaster(), dst);
 				} else {
-					ConvertRaster.bufferedToMulti_F32(src, (MultiSpectral<ImageFloat32>)dst);
+					ConvertRaster.bufferedToMulti_F32(src, dst);
 				}
-			} else {
-				throw new IllegalArgumentException("Band type not supported yet");
-			}
-
-		} catch( java.security.AccessControlException e) {
-			// Applets don't allow access to the raster()
-			if( dst == null )
-				dst = new MultiSpectral<T>(type,src.getWidth(),src.getHeight(),3);
-
-			if( type == ImageUInt8.class ) {
-				ConvertRaster.bufferedToMulti_U8(src, (MultiSpectral<ImageUInt8>)dst);
-			} else if( type == ImageFloat32.class ) {
-				ConvertRaster.bufferedToMulti_F32(src, (MultiSpectral<ImageFloat32>)dst);
+			} catch( java.security.AccessControlException e) {
+				// Applets don't allow access to the raster()
+				ConvertRaster.bufferedToMulti_F32(src, dst);
 			}
 		}
-
-		// if requested, ensure the ordering of the bands
-		if( orderRgb ) {
-			orderBandsIntoRGB(dst,src);
-		}
-
-		return dst;
-	}
+	};
 
 	/**
 	 * Converts an image into a BufferedImage.
@@ -724,6 +914,79 @@ public class ConvertBufferedImage {
 		}
 	}
 
+	/**
+	 * If an {@link InterleavedU8} was created from a BufferedImage its colors might not be in the expected order.
+	 * Invoking this function ensures that the image will have the same ordering as
+	 * {@link #orderBandsIntoRGB(MultiSpectral, BufferedImage)}.  The bands are swapped in place.
+	 */
+	public static void orderBandsIntoRGB( InterleavedU8 image , BufferedImage input ) {
+
+		int bufferedImageType;
+
+		// see if access to the raster is restricted or not
+		try {
+			WritableRaster raster = input.getRaster();
+			if( raster instanceof ByteInterleavedRaster ) {
+				((ByteInterleavedRaster)raster).getDataStorage();
+			} else if( raster instanceof IntegerInterleavedRaster ) {
+				((IntegerInterleavedRaster)raster).getDataStorage();
+			}
+
+			bufferedImageType = input.getType();
+		} catch( java.security.AccessControlException e) {
+			// its in an applet or something and will need to use getRGB() to read/write from the image
+			// so no need to re-order the bands
+			return;
+		}
+
+		byte[] data = image.data;
+
+		if( image.numBands == 3 ) {
+			if( bufferedImageType != BufferedImage.TYPE_3BYTE_BGR &&
+					bufferedImageType != BufferedImage.TYPE_INT_BGR )
+				return;
+
+			for( int y = 0; y < image.height; y++ ) {
+				int index = image.startIndex + y*image.stride;
+				int indexEnd = index + image.width*3;
+				for( ; index < indexEnd; index += 3 ) {
+					byte tmp = data[index];
+					data[index] = data[index+2];
+					data[index+2] = tmp;
+				}
+			}
+		} else if( image.numBands == 4 ) {
+			if( bufferedImageType == BufferedImage.TYPE_INT_ARGB ) {
+				// ARGB -> RGBA
+				for( int y = 0; y < image.height; y++ ) {
+					int index = image.startIndex + y*image.stride;
+					int indexEnd = index + image.width*4;
+					for( ; index < indexEnd; index += 4 ) {
+						byte a = data[index];
+						data[index] = data[index+1];
+						data[index+1] = data[index+2];
+						data[index+2] = data[index+3];
+						data[index+3] = a;
+					}
+				}
+			} else if( bufferedImageType == BufferedImage.TYPE_4BYTE_ABGR ) {
+				// ABGR -> RGBA
+				for( int y = 0; y < image.height; y++ ) {
+					int index = image.startIndex + y*image.stride;
+					int indexEnd = index + image.width*4;
+					for( ; index < indexEnd; index += 4 ) {
+						byte tmp = data[index];
+						data[index] = data[index+3];
+						data[index+3] = tmp;
+						tmp = data[index+1];
+						data[index+1] = data[index+2];
+						data[index+2] = tmp;
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Checks to see if the input image is a subImage().
 	 * @param img
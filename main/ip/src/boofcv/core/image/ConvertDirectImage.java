@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.core.image;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Converts between different types of {@link DirectImageBase direct images}.  Type conversion follows the same
+ * rules as {@link ConvertImage}, e.g. values are typecast and not rounded.  To move pixels between direct and
+ * array images see {@link DirectImageBase#copyTo} and {@link DirectImageBase#copyFrom}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvertDirectImage {
+
+	/**
+	 * <p>
+	 * Converts an {@link DirectImageUInt8} into a {@link DirectImageFloat32}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectImageFloat32 convert(DirectImageUInt8 input, DirectImageFloat32 output) {
+		if (output == null) {
+			output = new DirectImageFloat32(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		convertRows(input, output);
+
+		return output;
+	}
+
+	private static void convertRows( DirectImageUInt8 from, DirectImageFloat32 to ) {
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.getIndex(0, y);
+			int indexTo = to.getIndex(0, y);
+
+			for (int x = 0; x < from.width; x++, indexFrom++, indexTo++) {
+				to.data.putFloat(indexTo*4, (from.data.get(indexFrom) & 0xFF));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link DirectImageFloat32} into a {@link DirectImageUInt8}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectImageUInt8 convert(DirectImageFloat32 input, DirectImageUInt8 output) {
+		if (output == null) {
+			output = new DirectImageUInt8(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		convertRows(input, output);
+
+		return output;
+	}
+
+	private static void convertRows( DirectImageFloat32 from, DirectImageUInt8 to ) {
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.getIndex(0, y);
+			int indexTo = to.getIndex(0, y);
+
+			for (int x = 0; x < from.width; x++, indexFrom++, indexTo++) {
+				to.data.put(indexTo, (byte) (from.data.getFloat(indexFrom*4)));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link DirectImageUInt16} into a {@link DirectImageFloat32}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectImageFloat32 convert(DirectImageUInt16 input, DirectImageFloat32 output) {
+		if (output == null) {
+			output = new DirectImageFloat32(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		convertRows(input, output);
+
+		return output;
+	}
+
+	private static void convertRows( DirectImageUInt16 from, DirectImageFloat32 to ) {
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.getIndex(0, y);
+			int indexTo = to.getIndex(0, y);
+
+			for (int x = 0; x < from.width; x++, indexFrom++, indexTo++) {
+				to.data.putFloat(indexTo*4, (from.data.getShort(indexFrom*2) & 0xFFFF));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link DirectImageFloat32} into a {@link DirectImageUInt16}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectImageUInt16 convert(DirectImageFloat32 input, DirectImageUInt16 output) {
+		if (output == null) {
+			output = new DirectImageUInt16(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		convertRows(input, output);
+
+		return output;
+	}
+
+	private static void convertRows( DirectImageFloat32 from, DirectImageUInt16 to ) {
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.getIndex(0, y);
+			int indexTo = to.getIndex(0, y);
+
+			for (int x = 0; x < from.width; x++, indexFrom++, indexTo++) {
+				to.data.putShort(indexTo*2, (short) (from.data.getFloat(indexFrom*4)));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link DirectImageUInt8} into a {@link DirectImageUInt16}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectImageUInt16 convert(DirectImageUInt8 input, DirectImageUInt16 output) {
+		if (output == null) {
+			output = new DirectImageUInt16(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		convertRows(input, output);
+
+		return output;
+	}
+
+	private static void convertRows( DirectImageUInt8 from, DirectImageUInt16 to ) {
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.getIndex(0, y);
+			int indexTo = to.getIndex(0, y);
+
+			for (int x = 0; x < from.width; x++, indexFrom++, indexTo++) {
+				to.data.putShort(indexTo*2, (short) (from.data.get(indexFrom) & 0xFF));
+			}
+		}
+	}
+
+	/**
+	 * <p>
+	 * Converts an {@link DirectImageUInt16} into a {@link DirectImageUInt8}.
+	 * </p>
+	 *
+	 * @param input Input image which is being converted. Not modified.
+	 * @param output (Optional) The output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectImageUInt8 convert(DirectImageUInt16 input, DirectImageUInt8 output) {
+		if (output == null) {
+			output = new DirectImageUInt8(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		convertRows(input, output);
+
+		return output;
+	}
+
+	private static void convertRows( DirectImageUInt16 from, DirectImageUInt8 to ) {
+		for (int y = 0; y < from.height; y++) {
+			int indexFrom = from.getIndex(0, y);
+			int indexTo = to.getIndex(0, y);
+
+			for (int x = 0; x < from.width; x++, indexFrom++, indexTo++) {
+				to.data.put(indexTo, (byte) (from.data.getShort(indexFrom*2) & 0xFFFF));
+			}
+		}
+	}
+
+	/**
+	 * Converts a {@link DirectInterleavedU8} into a {@link DirectImageUInt8} by computing the average value of each
+	 * pixel across all the bands.
+	 *
+	 * @param input Input image that is being converted. Not modified.
+	 * @param output (Optional) The single band output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static DirectImageUInt8 average( DirectInterleavedU8 input , DirectImageUInt8 output ) {
+		if (output == null) {
+			output = new DirectImageUInt8(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		int numBands = input.numBands;
+		for (int y = 0; y < input.height; y++) {
+			int indexFrom = input.getIndex(0, y);
+			int indexTo = output.getIndex(0, y);
+
+			for (int x = 0; x < input.width; x++) {
+				int sum = 0;
+				for( int b = 0; b < numBands; b++ ) {
+					sum += input.data.get(indexFrom++) & 0xFF;
+				}
+				output.data.put(indexTo++, (byte)(sum/numBands));
+			}
+		}
+
+		return output;
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.core.image;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageInt16;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
 import sun.awt.image.ByteInterleavedRaster;
 import sun.awt.image.IntegerInterleavedRaster;
@@ -318,6 +319,41 @@ public class ConvertRaster {
 		}
 	}
 
+	/**
+	 * A faster convert that works directly with a specific raster.  Each row is copied in a single operation
+	 * and the bands are left in the same order as they are stored in the raster.
+	 */
+	public static void bufferedToInterleaved(ByteInterleavedRaster src, InterleavedU8 dst) {
+		if( src.getPixelStride() != dst.numBands )
+			throw new IllegalArgumentException("Pixel stride of the raster does not match the number of bands");
+
+		byte[] srcData = src.getDataStorage();
+
+		int srcStride = src.getScanlineStride();
+		int srcOffset = dataStart(src);
+
+		int length = dst.width*dst.numBands;
+
+		for (int y = 0; y < dst.height; y++) {
+			int indexSrc = srcOffset + srcStride * y;
+			int indexDst = dst.startIndex + dst.stride * y;
+
+			System.arraycopy(srcData, indexSrc, dst.data, indexDst, length);
+		}
+	}
+
+	/**
+	 * Returns the index of the first pixel's first sample in the raster's data array.  Unlike the
+	 * offset of band 0 this does not assume that the bands are stored in reverse order.
+	 */
+	static int dataStart(ByteInterleavedRaster src) {
+		int start = src.getDataOffset(0);
+		for (int i = 1; i < src.getNumBands(); i++) {
+			start = Math.min(start, src.getDataOffset(i));
+		}
+		return start;
+	}
+
 	/**
 	 * A faster convert that works directly with a specific raster
 	 */
@@ -483,6 +519,56 @@ public class ConvertRaster {
 		}
 	}
 
+	/**
+	 * A faster convert that works directly with a specific raster.  The bands are ordered from the most
+	 * significant to the least significant byte, the same as
+	 * {@link #bufferedToMulti_U8(IntegerInterleavedRaster, MultiSpectral)}.
+	 */
+	public static void bufferedToInterleaved(IntegerInterleavedRaster src, InterleavedU8 dst) {
+		int[] srcData = src.getDataStorage();
+
+		int srcStride = src.getScanlineStride();
+		int srcOffset = src.getDataOffset(0)-src.getPixelStride()+1;
+		int srcStrideDiff = srcStride-src.getPixelStride()*dst.width;
+
+		byte[] data = dst.data;
+
+		if( dst.numBands == 3 ) {
+			int indexSrc = srcOffset;
+			for (int y = 0; y < dst.height; y++) {
+				int indexDst = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < dst.width; x++) {
+
+					int rgb = srcData[indexSrc++];
+
+					data[indexDst++] = (byte) (rgb >>> 16);
+					data[indexDst++] = (byte) (rgb >>> 8);
+					data[indexDst++] = (byte) rgb;
+				}
+
+				indexSrc += srcStrideDiff;
+			}
+		} else if( dst.numBands == 4 ) {
+			int indexSrc = srcOffset;
+			for (int y = 0; y < dst.height; y++) {
+				int indexDst = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < dst.width; x++) {
+
+					int rgb = srcData[indexSrc++];
+
+					data[indexDst++] = (byte) (rgb >>> 24);
+					data[indexDst++] = (byte) (rgb >>> 16);
+					data[indexDst++] = (byte) (rgb >>> 8);
+					data[indexDst++] = (byte) rgb;
+				}
+
+				indexSrc += srcStrideDiff;
+			}
+		} else {
+			throw new IllegalArgumentException("Expected 3 or 4 bands in dst not "+dst.numBands);
+		}
+	}
+
 	/**
 	 * <p>
 	 * Converts a buffered image into an 8bit intensity image using the
@@ -726,6 +812,69 @@ public class ConvertRaster {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Converts a buffered image into an interleaved image using the BufferedImage's RGB interface.  Pixels
+	 * are read one row at a time.  With 3 bands the output is RGB and with 4 bands it is RGBA.  Images with
+	 * a single band are converted into gray scale.
+	 * </p>
+	 * <p>
+	 * This is much slower than working directly with the BufferedImage's internal raster and should be
+	 * avoided if possible.
+	 * </p>
+	 *
+	 * @param src Input image.
+	 * @param dst Output image.
+	 */
+	public static void bufferedToInterleaved(BufferedImage src, InterleavedU8 dst) {
+		final int width = src.getWidth();
+		final int height = src.getHeight();
+
+		if( dst.numBands == 1 ) {
+			// share the data so that the special cases for gray images are handled
+			ImageUInt8 gray = new ImageUInt8();
+			gray.width = dst.width;
+			gray.height = dst.height;
+			gray.startIndex = dst.startIndex;
+			gray.stride = dst.stride;
+			gray.data = dst.data;
+			bufferedToGray(src, gray);
+			return;
+		}
+
+		byte[] data = dst.data;
+		int[] row = new int[width];
+
+		if (dst.numBands == 3) {
+			for (int y = 0; y < height; y++) {
+				src.getRGB(0, y, width, 1, row, 0, width);
+				int index = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < width; x++) {
+					int argb = row[x];
+
+					data[index++] = (byte) (argb >>> 16);
+					data[index++] = (byte) (argb >>> 8);
+					data[index++] = (byte) argb;
+				}
+			}
+		} else if (dst.numBands == 4) {
+			for (int y = 0; y < height; y++) {
+				src.getRGB(0, y, width, 1, row, 0, width);
+				int index = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < width; x++) {
+					int argb = row[x];
+
+					data[index++] = (byte) (argb >>> 16);
+					data[index++] = (byte) (argb >>> 8);
+					data[index++] = (byte) argb;
+					data[index++] = (byte) (argb >>> 24);
+				}
+			}
+		} else {
+			throw new IllegalArgumentException("Unsupported number of bands "+dst.numBands);
+		}
+	}
+
 	public static void grayToBuffered(ImageUInt8 src, ByteInterleavedRaster dst) {
 
 		final byte[] srcData = src.data;
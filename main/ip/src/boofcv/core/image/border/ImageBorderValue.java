@@ -114,6 +114,10 @@ public class ImageBorderValue {
 			this.value = value;
 		}
 
+		public float getValue() {
+			return value;
+		}
+
 		@Override
 		public float getOutside( int x , int y ) {
 			return value;
@@ -137,6 +141,10 @@ public class ImageBorderValue {
 			this.value = value;
 		}
 
+		public int getValue() {
+			return value;
+		}
+
 		@Override
 		public int getOutside( int x , int y ) {
 			return value;
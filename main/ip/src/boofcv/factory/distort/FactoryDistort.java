@@ -94,4 +94,20 @@ public class FactoryDistort {
 			throw new IllegalArgumentException("Image type not supported: "+imageType.getSimpleName());
 		}
 	}
+
+	/**
+	 * Creates a {@link boofcv.alg.distort.ImageDistort} for {@link ImageUInt8} which performs bilinear
+	 * interpolation using fixed point integer arithmetic, see {@link ImplImageDistortBilinear_U8}.  It is
+	 * faster than {@link #distort} or {@link #distortCached} with bilinear interpolation, but pixel values can
+	 * differ slightly since the coordinates and interpolation weights are quantized.
+	 *
+	 * @param border Specifies how requests to pixels outside the image should be handled.  If null then no change
+	 * @param cached If true the location of each pixel is computed once and saved until the model or image
+	 *               shape changes.
+	 * @return Image distort which uses fixed point bilinear interpolation.
+	 */
+	public static ImageDistort<ImageUInt8> distortBilinearFixed_U8(ImageBorder<ImageUInt8> border , boolean cached )
+	{
+		return new ImplImageDistortBilinear_U8(border,cached);
+	}
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.factory.filter;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.abst.filter.TiledImageFilter;
+import boofcv.concurrency.WorkerFactory;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.factory.filter.convolve.FactoryConvolve;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel2D;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * Factory for creating {@link TiledImageFilter} with square tiles.  The halo is set from the kernel's radius and
+ * each thread is given its own instance of the filter.
+ *
+ * @author Peter Abeles
+ */
+public class FactoryTiledFilter {
+
+	/**
+	 * Convolves a 1D kernel across the image.  The halo is only added along the direction of the kernel.
+	 *
+	 * @param kernel Convolution kernel.
+	 * @param inputType Specifies input image type.
+	 * @param outputType Specifies input image type.
+	 * @param border How the image border is handled.  WRAP is not supported.
+	 * @param isHorizontal true for a horizontal convolution and false for vertical.
+	 * @param tileSize Width and height of each tile's core
+	 * @return The tiled filter
+	 */
+	public static <Input extends ImageSingleBand, Output extends ImageSingleBand>
+	TiledImageFilter<Input,Output> convolve( final Kernel1D kernel ,
+											 final Class<Input> inputType , final Class<Output> outputType ,
+											 final BorderType border , final boolean isHorizontal ,
+											 int tileSize ) {
+		checkBorder(border);
+		int r = kernel.getRadius();
+		return new TiledImageFilter<Input, Output>(new WorkerFactory<FilterImageInterface<Input, Output>>() {
+			@Override
+			public FilterImageInterface<Input, Output> create() {
+				return FactoryConvolve.convolve(kernel, inputType, outputType, border, isHorizontal);
+			}
+		}, isHorizontal ? r : 0, isHorizontal ? 0 : r, tileSize, tileSize);
+	}
+
+	/**
+	 * Convolves a 2D kernel across the image.
+	 *
+	 * @param kernel Convolution kernel.
+	 * @param inputType Specifies input image type.
+	 * @param outputType Specifies input image type.
+	 * @param border How the image border is handled.  WRAP is not supported.
+	 * @param tileSize Width and height of each tile's core
+	 * @return The tiled filter
+	 */
+	public static <Input extends ImageSingleBand, Output extends ImageSingleBand>
+	TiledImageFilter<Input,Output> convolve( final Kernel2D kernel ,
+											 final Class<Input> inputType , final Class<Output> outputType ,
+											 final BorderType border , int tileSize ) {
+		checkBorder(border);
+		int r = kernel.getRadius();
+		return new TiledImageFilter<Input, Output>(new WorkerFactory<FilterImageInterface<Input, Output>>() {
+			@Override
+			public FilterImageInterface<Input, Output> create() {
+				return FactoryConvolve.convolve(kernel, inputType, outputType, border);
+			}
+		}, r, r, tileSize, tileSize);
+	}
+
+	/**
+	 * Gaussian blur.
+	 *
+	 * @param type Image type.
+	 * @param sigma Gaussian distribution's sigma.  If &le; 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If &le; 0 then radius will be determined by sigma.
+	 * @param tileSize Width and height of each tile's core
+	 * @return The tiled filter
+	 */
+	public static <T extends ImageSingleBand>
+	TiledImageFilter<T,T> gaussian( final Class<T> type , final double sigma , int radius , int tileSize ) {
+		if( radius <= 0 )
+			radius = FactoryKernelGaussian.radiusForSigma(sigma, 0);
+		final int r = radius;
+		return new TiledImageFilter<T, T>(new WorkerFactory<FilterImageInterface<T, T>>() {
+			@Override
+			public FilterImageInterface<T, T> create() {
+				return FactoryBlurFilter.gaussian(type, sigma, r);
+			}
+		}, r, r, tileSize, tileSize);
+	}
+
+	/**
+	 * Mean box blur.
+	 *
+	 * @param type Image type.
+	 * @param radius Radius of the box blur function.
+	 * @param tileSize Width and height of each tile's core
+	 * @return The tiled filter
+	 */
+	public static <T extends ImageSingleBand>
+	TiledImageFilter<T,T> mean( final Class<T> type , final int radius , int tileSize ) {
+		return new TiledImageFilter<T, T>(new WorkerFactory<FilterImageInterface<T, T>>() {
+			@Override
+			public FilterImageInterface<T, T> create() {
+				return FactoryBlurFilter.mean(type, radius);
+			}
+		}, radius, radius, tileSize, tileSize);
+	}
+
+	/**
+	 * Median blur.
+	 *
+	 * @param type Image type.
+	 * @param radius Radius of the median blur function.
+	 * @param tileSize Width and height of each tile's core
+	 * @return The tiled filter
+	 */
+	public static <T extends ImageSingleBand>
+	TiledImageFilter<T,T> median( final Class<T> type , final int radius , int tileSize ) {
+		return new TiledImageFilter<T, T>(new WorkerFactory<FilterImageInterface<T, T>>() {
+			@Override
+			public FilterImageInterface<T, T> create() {
+				return FactoryBlurFilter.median(type, radius);
+			}
+		}, radius, radius, tileSize, tileSize);
+	}
+
+	private static void checkBorder( BorderType border ) {
+		if( border == BorderType.WRAP )
+			throw new IllegalArgumentException("WRAP border is not supported by tiled images");
+	}
+}
@@ -18,8 +18,13 @@
 
 package boofcv.factory.filter.blur;
 
+import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.abst.filter.blur.BlurStorageFilter;
+import boofcv.abst.filter.blur.GaussianApproxFilter;
 import boofcv.abst.filter.blur.MedianImageFilter;
+import boofcv.alg.filter.blur.impl.ImplGaussianRecursive;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 
 /**
@@ -51,6 +56,20 @@ public class FactoryBlurFilter {
 		return new BlurStorageFilter<T>("mean",type,radius);
 	}
 
+	/**
+	 * Creates a mean filter for the specified image type which borrows intermediate images from a pool.
+	 *
+	 * @param type Image type.
+	 * @param radius Size of the filter.
+	 * @param pool (Optional) Pool that intermediate images are borrowed from.  If null the filter has its own storage.
+	 * @return mean image filter.
+	 */
+	public static <T extends ImageSingleBand> BlurStorageFilter<T> mean( Class<T> type , int radius , ImagePool pool ) {
+		BlurStorageFilter<T> filter = mean(type,radius);
+		filter.setImagePool(pool);
+		return filter;
+	}
+
 	/**
 	 * Creates a Gaussian filter for the specified image type.
 	 *
@@ -61,4 +80,72 @@ public class FactoryBlurFilter {
 	public static <T extends ImageSingleBand> BlurStorageFilter<T> gaussian( Class<T> type , double sigma , int radius ) {
 		return new BlurStorageFilter<T>("gaussian",type,sigma,radius);
 	}
+
+	/**
+	 * Creates a Gaussian filter for the specified image type which borrows intermediate images from a pool.
+	 *
+	 * @param type Image type.
+	 * @param radius Size of the filter.
+	 * @param pool (Optional) Pool that intermediate images are borrowed from.  If null the filter has its own storage.
+	 * @return mean image filter.
+	 */
+	public static <T extends ImageSingleBand> BlurStorageFilter<T> gaussian( Class<T> type , double sigma , int radius ,
+																			 ImagePool pool ) {
+		BlurStorageFilter<T> filter = gaussian(type,sigma,radius);
+		filter.setImagePool(pool);
+		return filter;
+	}
+
+	/**
+	 * Creates a Gaussian filter for the specified image type.  If an approximation is acceptable and sigma is
+	 * large enough then a recursive filter is used, whose cost does not depend on sigma.  Otherwise the Gaussian
+	 * kernel is convolved with the image.
+	 *
+	 * @param type Image type.
+	 * @param sigma Gaussian distribution's sigma.  If <= 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If <= 0 then radius will be determined by sigma.
+	 * @param approximate If true then the Gaussian can be approximated.
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageSingleBand> BlurFilter<T> gaussian( Class<T> type , double sigma , int radius ,
+																	  boolean approximate ) {
+		if( approximate ) {
+			double s = sigma > 0 ? sigma : FactoryKernelGaussian.sigmaForRadius(radius,0);
+			if( s >= ImplGaussianRecursive.MIN_SIGMA )
+				return gaussianRecursive(type,s);
+		}
+		return gaussian(type,sigma,radius);
+	}
+
+	/**
+	 * Creates a filter which approximates Gaussian blur using a recursive filter.
+	 *
+	 * @see boofcv.alg.filter.blur.BlurImageOps#gaussianRecursive
+	 *
+	 * @param type Image type.
+	 * @param sigma Gaussian distribution's sigma.  Must be &ge; 0.5
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageSingleBand> GaussianApproxFilter<T> gaussianRecursive( Class<T> type , double sigma ) {
+		if( sigma < ImplGaussianRecursive.MIN_SIGMA )
+			throw new IllegalArgumentException("sigma must be >= "+ImplGaussianRecursive.MIN_SIGMA);
+		return new GaussianApproxFilter<T>(type,sigma,0);
+	}
+
+	/**
+	 * Creates a filter which approximates Gaussian blur by repeatedly applying a box filter.
+	 *
+	 * @see boofcv.alg.filter.blur.BlurImageOps#gaussianBox
+	 *
+	 * @param type Image type.
+	 * @param sigma Gaussian distribution's sigma.
+	 * @param numPasses Number of times the box filter is applied along each axis.  Typically 3.
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageSingleBand> GaussianApproxFilter<T> gaussianBox( Class<T> type , double sigma ,
+																				   int numPasses ) {
+		if( numPasses <= 0 )
+			throw new IllegalArgumentException("Number of passes must be > 0");
+		return new GaussianApproxFilter<T>(type,sigma,numPasses);
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.factory.filter.convolve;
 
+import boofcv.abst.filter.convolve.ConvolveAuto_F32;
 import boofcv.abst.filter.convolve.ConvolveInterface;
 import boofcv.abst.filter.convolve.GenericConvolve;
 import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
@@ -26,7 +27,10 @@ import boofcv.alg.filter.convolve.ConvolveWithBorder;
 import boofcv.core.image.border.BorderType;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel2D;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.testing.BoofTesting;
 
@@ -142,4 +146,45 @@ public class FactoryConvolve {
 
 		return new GenericConvolve<Input,Output>(m,kernel, borderType,inputType);
 	}
+
+	/**
+	 * Creates a filter for convolving 1D kernels along the image which selects the fastest of direct and Fourier
+	 * convolution, see {@link ConvolveAuto_F32}.  Only {@link ImageFloat32} is processed in the frequency domain,
+	 * other image types are the same as {@link #convolve(Kernel1D, Class, Class, BorderType, boolean)}.
+	 *
+	 * @param kernel Convolution kernel.
+	 * @param inputType Specifies input image type.
+	 * @param outputType Specifies input image type.
+	 * @param border How the image border is handled.
+	 * @return FilterInterface which will perform the specified convolution.
+	 */
+	public static <Input extends ImageSingleBand, Output extends ImageSingleBand>
+	ConvolveInterface<Input,Output>
+	convolveAuto( Kernel1D kernel, Class<Input> inputType, Class<Output> outputType , BorderType border , boolean isHorizontal )
+	{
+		if( inputType == ImageFloat32.class && outputType == ImageFloat32.class )
+			return (ConvolveInterface)new ConvolveAuto_F32((Kernel1D_F32)kernel,isHorizontal,border);
+		return convolve(kernel,inputType,outputType,border,isHorizontal);
+	}
+
+	/**
+	 * Creates a filter for convolving 2D kernels along the image which selects the fastest of direct, separable,
+	 * and Fourier convolution, see {@link ConvolveAuto_F32}.  Only {@link ImageFloat32} is processed in the
+	 * frequency domain or separably, other image types are the same as
+	 * {@link #convolve(Kernel2D, Class, Class, BorderType)}.
+	 *
+	 * @param kernel Convolution kernel.
+	 * @param inputType Specifies input image type.
+	 * @param outputType Specifies input image type.
+	 * @param borderType How the image border is handled.
+	 * @return FilterInterface which will perform the specified convolution.
+	 */
+	public static <Input extends ImageSingleBand, Output extends ImageSingleBand>
+	ConvolveInterface<Input,Output>
+	convolveAuto( Kernel2D kernel, Class<Input> inputType, Class<Output> outputType , BorderType borderType)
+	{
+		if( inputType == ImageFloat32.class && outputType == ImageFloat32.class )
+			return (ConvolveInterface)new ConvolveAuto_F32((Kernel2D_F32)kernel,borderType);
+		return convolve(kernel,inputType,outputType,borderType);
+	}
 }
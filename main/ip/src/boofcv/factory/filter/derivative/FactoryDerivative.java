@@ -24,6 +24,7 @@ import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageUInt8;
@@ -108,6 +109,19 @@ public class FactoryDerivative {
 		return new ImageGradient_Gaussian<I,D>(sigma,radius,inputType,derivType);
 	}
 
+	/**
+	 * Gaussian derivative which borrows intermediate images from the pool.
+	 *
+	 * @param pool (Optional) Pool that intermediate images are borrowed from.  If null it has its own storage.
+	 */
+	public static <I extends ImageSingleBand, D extends ImageSingleBand>
+	ImageGradient<I,D> gaussian( double sigma , int radius , Class<I> inputType , Class<D> derivType ,
+								 ImagePool pool ) {
+		ImageGradient_Gaussian<I,D> alg = new ImageGradient_Gaussian<I,D>(sigma,radius,inputType,derivType);
+		alg.setImagePool(pool);
+		return alg;
+	}
+
 	public static ImageGradient<ImageFloat32,ImageFloat32> gaussian_F32( double sigma , int radius ) {
 		return gaussian(sigma,radius, ImageFloat32.class,ImageFloat32.class);
 	}
@@ -347,6 +347,46 @@ public class FactoryKernelGaussian {
 		return (int)Math.ceil((((5+0.8*order)*sigma)-1)/2);
 	}
 
+	/**
+	 * <p>
+	 * Selects the radius of each box filter in a sequence of box filters which approximates a Gaussian.  Repeatedly
+	 * applying a box filter converges towards a Gaussian.  Since box widths are restricted to odd integers the
+	 * variance can't be matched exactly using a single width, so two widths which differ by two are used and the
+	 * number of passes at each width is selected to best match sigma [1].
+	 * </p>
+	 *
+	 * <p>
+	 * [1] Peter Kovesi, "Fast Almost-Gaussian Filtering" DICTA 2010
+	 * </p>
+	 *
+	 * @param sigma Gaussian's standard deviation.
+	 * @param numPasses Number of times a box filter is applied.  Three or more is recommended.
+	 * @return Radius of the box filter in each pass.  A radius of zero is the identity.
+	 */
+	public static int[] boxRadiusForSigma( double sigma , int numPasses ) {
+		if( sigma <= 0 )
+			throw new IllegalArgumentException("Sigma must be > 0");
+		if( numPasses <= 0 )
+			throw new IllegalArgumentException("Number of passes must be > 0");
+
+		double variance = 12*sigma*sigma;
+		int widthLower = (int)Math.sqrt(variance/numPasses + 1);
+		if( widthLower % 2 == 0 )
+			widthLower--;
+		int widthUpper = widthLower + 2;
+
+		// number of passes which use the smaller width
+		int numLower = (int)Math.round((variance - numPasses*widthLower*widthLower - 4*numPasses*widthLower -
+				3*numPasses)/(-4.0*widthLower - 4));
+		numLower = Math.max(0,Math.min(numPasses,numLower));
+
+		int radius[] = new int[ numPasses ];
+		for( int i = 0; i < numPasses; i++ ) {
+			radius[i] = i < numLower ? widthLower/2 : widthUpper/2;
+		}
+		return radius;
+	}
+
 	/**
 	 * Create a gaussian kernel based on its width.  Supports kernels of even or odd widths
 	 * .
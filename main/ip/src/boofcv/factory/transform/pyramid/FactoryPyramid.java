@@ -20,18 +20,23 @@ package boofcv.factory.transform.pyramid;
 
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.transform.pyramid.PyramidDiscreteSampleBlur;
+import boofcv.alg.transform.pyramid.PyramidDiscreteSampleBlur_MT;
 import boofcv.alg.transform.pyramid.PyramidFloatGaussianScale;
+import boofcv.alg.transform.pyramid.PyramidFloatGaussianScale_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import boofcv.struct.pyramid.PyramidFloat;
 
 
 /**
- * Factory for creating classes related to image pyramids.
+ * Factory for creating classes related to image pyramids.  If {@link BoofConcurrency#USE_CONCURRENT} is true
+ * then concurrent implementations are returned when available.
  *
  * @author Peter Abeles
  */
@@ -54,7 +59,10 @@ public class FactoryPyramid {
 
 		Kernel1D kernel = FactoryKernelGaussian.gaussian(kernelType,sigma,radius);
 
-		return new PyramidDiscreteSampleBlur<T>(kernel,sigma,imageType,saveOriginalReference,scaleFactors);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return new PyramidDiscreteSampleBlur_MT<T>(kernel,sigma,imageType,saveOriginalReference,scaleFactors);
+		else
+			return new PyramidDiscreteSampleBlur<T>(kernel,sigma,imageType,saveOriginalReference,scaleFactors);
 	}
 
 	/**
@@ -72,7 +80,23 @@ public class FactoryPyramid {
 
 		InterpolatePixelS<T> interp = FactoryInterpolation.bilinearPixelS(imageType);
 
-		return new PyramidFloatGaussianScale<T>(interp,scaleFactors,sigmas,imageType);
+		if( BoofConcurrency.USE_CONCURRENT )
+			return new PyramidFloatGaussianScale_MT<T>(interp,scaleFactors,sigmas,imageType);
+		else
+			return new PyramidFloatGaussianScale<T>(interp,scaleFactors,sigmas,imageType);
+	}
+
+	/**
+	 * Same as {@link #floatGaussian(double[], double[], Class)} but intermediate images are borrowed from
+	 * the specified pool.
+	 *
+	 * @param pool Pool that intermediate images are borrowed from.  Can be shared with other algorithms.
+	 */
+	public static <T extends ImageSingleBand>
+	PyramidFloat<T> floatGaussian( double scaleFactors[], double []sigmas , Class<T> imageType , ImagePool pool ) {
+		PyramidFloatGaussianScale<T> alg = (PyramidFloatGaussianScale<T>)floatGaussian(scaleFactors,sigmas,imageType);
+		alg.setImagePool(pool);
+		return alg;
 	}
 
 	/**
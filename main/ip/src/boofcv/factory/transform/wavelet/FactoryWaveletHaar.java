@@ -43,7 +43,9 @@ public class FactoryWaveletHaar {
 
 				WlBorderCoef<WlCoef_I32> inverse = new WlBorderCoefStandard<WlCoef_I32>(generateInv_I32());
 
-				return new WaveletDescription(new BorderIndex1D_Extend(),forward,inverse);
+				WaveletDescription ret = new WaveletDescription(new BorderIndex1D_Extend(),forward,inverse);
+				ret.lifting = WlLifting.HAAR;
+				return ret;
 			}
 		} else {
 			if( imageBits == 32 ) {
@@ -54,7 +56,9 @@ public class FactoryWaveletHaar {
 
 				WlBorderCoef<WlCoef_F32> inverse = new WlBorderCoefStandard<WlCoef_F32>(forward);
 
-				return new WaveletDescription(new BorderIndex1D_Extend(),forward,inverse);
+				WaveletDescription ret = new WaveletDescription(new BorderIndex1D_Extend(),forward,inverse);
+				ret.lifting = WlLifting.HAAR;
+				return ret;
 			}
 		}
 		return null;
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct;
+
+/**
+ * Splits an image into a grid of tiles.  Each tile has a core region, which it is responsible for, and a halo
+ * region that surrounds the core by a fixed number of pixels and is clipped by the image border.  Tiles are
+ * indexed in a row-major order.
+ *
+ * @author Peter Abeles
+ */
+public class ImageTileGrid {
+	// shape of the image
+	int width, height;
+	// size of the core region in each tile
+	int tileWidth, tileHeight;
+	// number of pixels around the core
+	int haloX, haloY;
+
+	// number of tiles along each axis
+	int numCols, numRows;
+
+	public ImageTileGrid(int width, int height, int tileWidth, int tileHeight, int haloX, int haloY) {
+		if( tileWidth <= 0 || tileHeight <= 0 )
+			throw new IllegalArgumentException("Tile size must be more than zero");
+		if( haloX < 0 || haloY < 0 )
+			throw new IllegalArgumentException("Halo must be >= 0");
+
+		this.width = width;
+		this.height = height;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.haloX = haloX;
+		this.haloY = haloY;
+
+		numCols = (width + tileWidth - 1)/tileWidth;
+		numRows = (height + tileHeight - 1)/tileHeight;
+	}
+
+	/**
+	 * Region of the image which the tile is responsible for
+	 */
+	public void getCore( int tile , ImageRectangle core ) {
+		int x0 = (tile % numCols)*tileWidth;
+		int y0 = (tile / numCols)*tileHeight;
+		core.set(x0, y0, Math.min(width, x0 + tileWidth), Math.min(height, y0 + tileHeight));
+	}
+
+	/**
+	 * Core region of the tile expanded by the halo and clipped by the image border.
+	 */
+	public void getHalo( int tile , ImageRectangle halo ) {
+		getCore(tile, halo);
+		halo.set(Math.max(0, halo.x0 - haloX), Math.max(0, halo.y0 - haloY),
+				Math.min(width, halo.x1 + haloX), Math.min(height, halo.y1 + haloY));
+	}
+
+	public int getNumTiles() {
+		return numCols*numRows;
+	}
+
+	public int getNumCols() {
+		return numCols;
+	}
+
+	public int getNumRows() {
+		return numRows;
+	}
+
+	public int getHaloX() {
+		return haloX;
+	}
+
+	public int getHaloY() {
+		return haloY;
+	}
+}
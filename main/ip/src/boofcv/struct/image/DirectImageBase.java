@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Base class for images whose pixels are stored outside of the Java heap inside a {@link ByteBuffer}.  The buffer
+ * can be a direct buffer, a memory mapped file, or a buffer handed over by native capture code.  This allows
+ * images which are larger than the heap to be processed and frames to be shared with native code without copying.
+ * </p>
+ *
+ * <p>
+ * The layout is identical to the array based images.  startIndex and stride are specified in elements, not bytes,
+ * and the index of band 'b' at pixel (x,y) is startIndex + y*stride + x*numBands + b.  Sub-images share the
+ * same buffer as the original image.  The byte offset of an element is its index multiplied by
+ * {@link #getBytesPerElement()}.  Since a ByteBuffer is indexed by an int, a single image can't be larger than
+ * 2^31-1 bytes.  Larger data sets need to be broken up into multiple images.
+ * </p>
+ *
+ * <p>
+ * Most operations in BoofCV work on array images.  Pixels are moved between the two with {@link #copyTo} and
+ * {@link #copyFrom}, which is how the direct image operations process a large image one band of rows at a time.
+ * </p>
+ *
+ * <p>
+ * NOTE: The buffer is not serialized.
+ * </p>
+ *
+ * @param <T> Type of direct image
+ * @param <A> Array image with the same data type and layout
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public abstract class DirectImageBase<T extends DirectImageBase, A extends ImageBase> extends ImageBase<T> {
+
+	/**
+	 * Buffer which stores the image's pixels
+	 */
+	public transient ByteBuffer data;
+
+	/**
+	 * Number of elements in each pixel.
+	 */
+	public int numBands;
+
+	// true if the buffer was allocated by this image, false if it wraps an external or memory mapped buffer
+	protected boolean ownsBuffer;
+
+	/**
+	 * Creates a new image backed by a newly allocated direct buffer in the platform's native byte order.
+	 *
+	 * @param width Image's width.
+	 * @param height Image's height.
+	 * @param numBands Number of elements in each pixel.
+	 */
+	protected DirectImageBase( int width , int height , int numBands ) {
+		this.numBands = numBands;
+		this.data = allocate((long)width*height*numBands*getBytesPerElement());
+		this.ownsBuffer = true;
+		this.startIndex = 0;
+		this.stride = width*numBands;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Creates an image which wraps around the provided buffer.  Pixels are read starting at byte 0 of the buffer
+	 * using its current byte order.
+	 *
+	 * @param data Buffer containing the pixels.
+	 * @param width Image's width.
+	 * @param height Image's height.
+	 * @param numBands Number of elements in each pixel.
+	 */
+	protected DirectImageBase( ByteBuffer data , int width , int height , int numBands ) {
+		if( data.capacity() < (long)width*height*numBands*getBytesPerElement() )
+			throw new IllegalArgumentException("Buffer is too small for an image of that shape");
+		this.numBands = numBands;
+		this.data = data;
+		this.startIndex = 0;
+		this.stride = width*numBands;
+		this.width = width;
+		this.height = height;
+	}
+
+	protected DirectImageBase() {
+	}
+
+	/**
+	 * Allocates a direct buffer in the platform's native byte order.
+	 *
+	 * @param numBytes Size of the buffer in bytes.
+	 * @return The new buffer
+	 */
+	public static ByteBuffer allocate( long numBytes ) {
+		if( numBytes > Integer.MAX_VALUE )
+			throw new IllegalArgumentException("Image requires more than 2^31-1 bytes, break it into smaller images");
+		return ByteBuffer.allocateDirect((int)numBytes).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Maps a region of a file into memory.  If the mode is READ_WRITE and the file is too short it will be
+	 * extended.  The buffer uses the platform's native byte order.
+	 *
+	 * @param channel Channel of the file being mapped
+	 * @param mode How the file is mapped.
+	 * @param position Offset in bytes of the first pixel inside the file
+	 * @param numBytes Number of bytes which are mapped
+	 * @return The mapped buffer
+	 */
+	public static MappedByteBuffer map( FileChannel channel , FileChannel.MapMode mode ,
+										long position , long numBytes ) throws IOException {
+		if( numBytes > Integer.MAX_VALUE )
+			throw new IllegalArgumentException("Image requires more than 2^31-1 bytes, break it into smaller images");
+		MappedByteBuffer buffer = channel.map(mode,position,numBytes);
+		buffer.order(ByteOrder.nativeOrder());
+		return buffer;
+	}
+
+	/**
+	 * Creates a rectangular sub-image from 'this' image.  The sub-image shares the same buffer.  Follows
+	 * the same conventions as {@link ImageSingleBand#subimage}.
+	 */
+	@Override
+	public T subimage(int x0, int y0, int x1, int y1, T subimage) {
+		if (x0 < 0 || y0 < 0)
+			throw new IllegalArgumentException("x0 or y0 is less than zero");
+		if (x1 < x0 || y1 < y0)
+			throw new IllegalArgumentException("x1 or y1 is less than x0 or y0 respectively");
+		if (x1 > width || y1 > height)
+			throw new IllegalArgumentException("x1 or y1 is more than the width or height respectively");
+
+		if( subimage == null ) {
+			subimage = _createNew(-1, -1);
+		}
+
+		subimage.data = data;
+		subimage.numBands = numBands;
+		subimage.stride = Math.max(width*numBands, stride);
+		subimage.width = x1 - x0;
+		subimage.height = y1 - y0;
+		subimage.startIndex = startIndex + y0*stride + x0*numBands;
+		subimage.subImage = true;
+
+		return subimage;
+	}
+
+	/**
+	 * Changes the image's width and height.  A new direct buffer is only allocated if the current one
+	 * is too small.  Images which wrap an external or memory mapped buffer can't grow and will throw an
+	 * exception instead.
+	 *
+	 * @param width The new width.
+	 * @param height The new height.
+	 */
+	@Override
+	public void reshape(int width, int height) {
+		if( isSubimage() )
+			throw new IllegalArgumentException("Can't reshape sub-images");
+
+		long numBytes = (long)width*height*numBands*getBytesPerElement();
+		if( data == null || data.capacity() < numBytes ) {
+			if( data != null && !ownsBuffer )
+				throw new IllegalArgumentException("Can't grow an image which wraps an external buffer");
+			data = allocate(numBytes);
+			ownsBuffer = true;
+		}
+
+		this.stride = width*numBands;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Copies the pixels in 'orig' into this image.  Both images must have the same shape.
+	 *
+	 * @param orig The original image whose value is to be copied into this one
+	 */
+	@Override
+	public void setTo(T orig) {
+		if (orig.width != width || orig.height != height || orig.numBands != numBands )
+			throw new IllegalArgumentException("The width and/or height of 'orig' is not the same as this class");
+
+		int bytes = getBytesPerElement();
+		ByteBuffer src = orig.data.duplicate();
+		ByteBuffer dst = data.duplicate();
+
+		if (!orig.isSubimage() && !isSubimage()) {
+			copyBytes(src, orig.startIndex*bytes, dst, startIndex*bytes, stride*height*bytes);
+		} else {
+			int rowBytes = width*numBands*bytes;
+			for (int y = 0; y < height; y++) {
+				copyBytes(src, orig.getIndex(0, y)*bytes, dst, getIndex(0, y)*bytes, rowBytes);
+			}
+		}
+	}
+
+	private static void copyBytes( ByteBuffer src , int indexSrc , ByteBuffer dst , int indexDst , int length ) {
+		src.clear();
+		src.position(indexSrc);
+		src.limit(indexSrc + length);
+		dst.clear();
+		dst.position(indexDst);
+		dst.put(src);
+	}
+
+	/**
+	 * Returns a duplicate of the buffer with its position set to zero, limit set to its capacity, and the same
+	 * byte order.  Used to create views without modifying the state of {@link #data}.
+	 */
+	protected ByteBuffer duplicate() {
+		ByteBuffer b = data.duplicate().order(data.order());
+		b.clear();
+		return b;
+	}
+
+	@Override
+	public int getIndex(int x, int y) {
+		return startIndex + y*stride + x*numBands;
+	}
+
+	/**
+	 * Copies the pixels of this image into an array image of the same shape.
+	 *
+	 * @param dst Array image which is written to.  Modified.
+	 */
+	public abstract void copyTo( A dst );
+
+	/**
+	 * Copies the pixels of an array image of the same shape into this image.
+	 *
+	 * @param src Array image which is read from.  Not modified.
+	 */
+	public abstract void copyFrom( A src );
+
+	/**
+	 * Type of array image which has the same data type and number of bands.
+	 */
+	public abstract ImageType<A> getArrayImageType();
+
+	/**
+	 * Number of bytes used to store each element.
+	 */
+	public abstract int getBytesPerElement();
+
+	public int getNumBands() {
+		return numBands;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Direct image which stores unsigned 8-bit pixels inside a {@link ByteBuffer}.  Same layout as {@link ImageUInt8}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DirectImageUInt8 extends DirectImageBase<DirectImageUInt8,ImageUInt8> {
+
+	/**
+	 * Creates a new image backed by a direct buffer.
+	 *
+	 * @param width  Image's width.
+	 * @param height Image's height.
+	 */
+	public DirectImageUInt8(int width, int height) {
+		super(width, height, 1);
+	}
+
+	/**
+	 * Creates an image which wraps around an existing buffer.  No data is copied.
+	 *
+	 * @param data Buffer containing the pixels, starting at byte 0.
+	 * @param width  Image's width.
+	 * @param height Image's height.
+	 */
+	public DirectImageUInt8(ByteBuffer data, int width, int height) {
+		super(data, width, height, 1);
+	}
+
+	public DirectImageUInt8() {
+	}
+
+	/**
+	 * Creates an image which is backed by a region of a memory mapped file.
+	 *
+	 * @param channel Channel of the file being mapped
+	 * @param mode How the file is mapped.
+	 * @param position Offset in bytes of the first pixel inside the file
+	 * @param width  Image's width.
+	 * @param height Image's height.
+	 * @return Image backed by the file
+	 */
+	public static DirectImageUInt8 map( FileChannel channel , FileChannel.MapMode mode ,
+									long position , int width , int height ) throws IOException {
+		return new DirectImageUInt8(map(channel, mode, position, (long)width*height*1), width, height);
+	}
+
+	/**
+	 * Returns the value of the specified pixel.
+	 *
+	 * @param x pixel coordinate.
+	 * @param y pixel coordinate.
+	 * @return Pixel intensity value.
+	 */
+	public int get(int x, int y) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		return unsafe_get(x, y);
+	}
+
+	/**
+	 * Sets the value of the specified pixel.
+	 *
+	 * @param x pixel coordinate.
+	 * @param y pixel coordinate.
+	 * @param value The pixel's new value.
+	 */
+	public void set(int x, int y, int value) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		unsafe_set(x, y, value);
+	}
+
+	public int unsafe_get(int x, int y) {
+		return data.get(getIndex(x, y)) & 0xFF;
+	}
+
+	public void unsafe_set(int x, int y, int value) {
+		data.put(getIndex(x, y), (byte) value);
+	}
+
+	@Override
+	public void copyTo(ImageUInt8 dst) {
+		if (dst.width != width || dst.height != height)
+			throw new IllegalArgumentException("Shapes do not match");
+
+		ByteBuffer b = duplicate();
+		for (int y = 0; y < height; y++) {
+			b.position(getIndex(0, y));
+			b.get(dst.data, dst.startIndex + y*dst.stride, width);
+		}
+	}
+
+	@Override
+	public void copyFrom(ImageUInt8 src) {
+		if (src.width != width || src.height != height)
+			throw new IllegalArgumentException("Shapes do not match");
+
+		ByteBuffer b = duplicate();
+		for (int y = 0; y < height; y++) {
+			b.position(getIndex(0, y));
+			b.put(src.data, src.startIndex + y*src.stride, width);
+		}
+	}
+
+	@Override
+	public ImageType<ImageUInt8> getArrayImageType() {
+		return ImageType.single(ImageUInt8.class);
+	}
+
+	@Override
+	public int getBytesPerElement() {
+		return 1;
+	}
+
+	@Override
+	public DirectImageUInt8 _createNew(int imgWidth, int imgHeight) {
+		if (imgWidth == -1 || imgHeight == -1) {
+			return new DirectImageUInt8();
+		}
+		return new DirectImageUInt8(imgWidth, imgHeight);
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Direct image which stores interleaved unsigned 8-bit pixels inside a {@link ByteBuffer}.  Same layout as
+ * {@link InterleavedU8}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DirectInterleavedU8 extends DirectImageBase<DirectInterleavedU8,InterleavedU8> {
+
+	/**
+	 * Creates a new image backed by a direct buffer.
+	 *
+	 * @param width	Image's width.
+	 * @param height   Image's height.
+	 * @param numBands Number of bands/colors.
+	 */
+	public DirectInterleavedU8(int width, int height, int numBands) {
+		super(width, height, numBands);
+	}
+
+	/**
+	 * Creates an image which wraps around an existing buffer.  No data is copied.
+	 *
+	 * @param data Buffer containing the pixels, starting at byte 0.
+	 * @param width	Image's width.
+	 * @param height   Image's height.
+	 * @param numBands Number of bands/colors.
+	 */
+	public DirectInterleavedU8(ByteBuffer data, int width, int height, int numBands) {
+		super(data, width, height, numBands);
+	}
+
+	public DirectInterleavedU8() {
+	}
+
+	/**
+	 * Creates an image which is backed by a region of a memory mapped file.
+	 *
+	 * @param channel Channel of the file being mapped
+	 * @param mode How the file is mapped.
+	 * @param position Offset in bytes of the first pixel inside the file
+	 * @param width	Image's width.
+	 * @param height   Image's height.
+	 * @param numBands Number of bands/colors.
+	 * @return Image backed by the file
+	 */
+	public static DirectInterleavedU8 map( FileChannel channel , FileChannel.MapMode mode ,
+										   long position , int width , int height , int numBands )
+			throws IOException
+	{
+		return new DirectInterleavedU8(map(channel, mode, position, (long)width*height*numBands),
+				width, height, numBands);
+	}
+
+	/**
+	 * Returns the index of the specified band in the specified pixel.
+	 */
+	public int getIndex(int x, int y, int band) {
+		return startIndex + y*stride + x*numBands + band;
+	}
+
+	/**
+	 * Returns the value of the specified band in the specified pixel.
+	 *
+	 * @param x	pixel coordinate.
+	 * @param y	pixel coordinate.
+	 * @param band which color band in the pixel
+	 * @return an intensity value.
+	 */
+	public int getBand(int x, int y, int band) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds.");
+		if (band < 0 || band >= numBands)
+			throw new ImageAccessException("Invalid band requested.");
+
+		return data.get(getIndex(x, y, band)) & 0xFF;
+	}
+
+	/**
+	 * Sets the value of the specified band in the specified pixel.
+	 *
+	 * @param x	pixel coordinate.
+	 * @param y	pixel coordinate.
+	 * @param band which color band in the pixel
+	 * @param value The new value of the element.
+	 */
+	public void setBand(int x, int y, int band, int value) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds.");
+		if (band < 0 || band >= numBands)
+			throw new ImageAccessException("Invalid band requested.");
+
+		data.put(getIndex(x, y, band), (byte) value);
+	}
+
+	@Override
+	public void copyTo(InterleavedU8 dst) {
+		if (dst.width != width || dst.height != height || dst.numBands != numBands)
+			throw new IllegalArgumentException("Shapes do not match");
+
+		ByteBuffer b = duplicate();
+		int length = width*numBands;
+		for (int y = 0; y < height; y++) {
+			b.position(getIndex(0, y));
+			b.get(dst.data, dst.startIndex + y*dst.stride, length);
+		}
+	}
+
+	@Override
+	public void copyFrom(InterleavedU8 src) {
+		if (src.width != width || src.height != height || src.numBands != numBands)
+			throw new IllegalArgumentException("Shapes do not match");
+
+		ByteBuffer b = duplicate();
+		int length = width*numBands;
+		for (int y = 0; y < height; y++) {
+			b.position(getIndex(0, y));
+			b.put(src.data, src.startIndex + y*src.stride, length);
+		}
+	}
+
+	@Override
+	public ImageType<InterleavedU8> getArrayImageType() {
+		return ImageType.interleaved(numBands, InterleavedU8.class);
+	}
+
+	@Override
+	public int getBytesPerElement() {
+		return 1;
+	}
+
+	@Override
+	public DirectInterleavedU8 _createNew(int imgWidth, int imgHeight) {
+		if (imgWidth == -1 || imgHeight == -1)
+			return new DirectInterleavedU8();
+		return new DirectInterleavedU8(imgWidth, imgHeight, numBands);
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Binary image where each pixel is stored as a single bit, 64 pixels per long.  Uses 1/8 the memory of a binary
+ * {@link ImageUInt8} and allows operations to process 64 pixels at once.  Each row starts on a new word.  Pixel
+ * (x,y) is stored in bit (x % 64) of word data[y*stride + x/64], where bit 0 is the least significant bit.
+ * Bits past the end of each row are always zero.
+ * </p>
+ *
+ * <p>
+ * Sub-images are not supported since rows would not be aligned to a word.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageBinaryPacked implements Serializable {
+
+	/**
+	 * Bits for each row in the image
+	 */
+	public long data[];
+
+	/**
+	 * Number of words in each row
+	 */
+	public int stride;
+
+	/**
+	 * Number of columns in the image
+	 */
+	public int width;
+
+	/**
+	 * Number of rows in the image
+	 */
+	public int height;
+
+	/**
+	 * Creates a new image with all pixels set to zero.
+	 *
+	 * @param width Number of columns in the image.
+	 * @param height Number of rows in the image.
+	 */
+	public ImageBinaryPacked( int width , int height ) {
+		this.width = width;
+		this.height = height;
+		this.stride = wordsPerRow(width);
+		this.data = new long[ stride*height ];
+	}
+
+	public ImageBinaryPacked() {
+		data = new long[0];
+	}
+
+	/**
+	 * Number of words needed to store a row with the specified number of pixels
+	 */
+	public static int wordsPerRow( int width ) {
+		return (width+63)/64;
+	}
+
+	/**
+	 * Changes the image's shape.  The internal array is only declared again if it is too small.  The value
+	 * of each pixel is undefined after being reshaped.
+	 */
+	public void reshape( int width , int height ) {
+		int stride = wordsPerRow(width);
+		if( data.length < stride*height )
+			data = new long[ stride*height ];
+
+		this.width = width;
+		this.height = height;
+		this.stride = stride;
+	}
+
+	/**
+	 * Mask of the bits in the last word of each row which are inside the image
+	 */
+	public long getLastWordMask() {
+		int remainder = width % 64;
+		return remainder == 0 ? ~0L : (1L << remainder) - 1;
+	}
+
+	public boolean isInBounds( int x , int y ) {
+		return x >= 0 && x < width && y >= 0 && y < height;
+	}
+
+	/**
+	 * Returns the value of the specified pixel, 0 or 1.
+	 */
+	public int get( int x , int y ) {
+		if( !isInBounds(x, y) )
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		return unsafe_get(x,y);
+	}
+
+	/**
+	 * Sets the value of the specified pixel.  Any value which is not zero is treated as one.
+	 */
+	public void set( int x , int y , int value ) {
+		if( !isInBounds(x, y) )
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		unsafe_set(x,y,value);
+	}
+
+	public int unsafe_get( int x , int y ) {
+		return (int)(data[y*stride + (x >> 6)] >>> (x & 63)) & 1;
+	}
+
+	public void unsafe_set( int x , int y , int value ) {
+		int index = y*stride + (x >> 6);
+		long bit = 1L << (x & 63);
+		if( value != 0 )
+			data[index] |= bit;
+		else
+			data[index] &= ~bit;
+	}
+
+	/**
+	 * Sets every pixel in the image to the specified value, 0 or 1.
+	 */
+	public void fill( int value ) {
+		if( value == 0 || stride == 0 ) {
+			Arrays.fill(data,0,stride*height,0);
+		} else {
+			long mask = getLastWordMask();
+			for( int y = 0; y < height; y++ ) {
+				int index = y*stride;
+				Arrays.fill(data,index,index+stride,~0L);
+				data[index+stride-1] = mask;
+			}
+		}
+	}
+
+	/**
+	 * Copies the value of the provided image into this image.  Both images must have the same shape.
+	 */
+	public void setTo( ImageBinaryPacked orig ) {
+		if( orig.width != width || orig.height != height )
+			throw new IllegalArgumentException("The width and/or height of 'orig' is not the same as this class");
+
+		System.arraycopy(orig.data,0,data,0,stride*height);
+	}
+
+	/**
+	 * Number of pixels with a value of one.
+	 */
+	public int countOnes() {
+		int total = 0;
+		int N = stride*height;
+		for( int i = 0; i < N; i++ ) {
+			total += Long.bitCount(data[i]);
+		}
+		return total;
+	}
+
+	/**
+	 * Creates a new image with the same shape as this image.
+	 */
+	public ImageBinaryPacked createSameShape() {
+		return new ImageBinaryPacked(width,height);
+	}
+
+	@Override
+	public ImageBinaryPacked clone() {
+		ImageBinaryPacked ret = new ImageBinaryPacked(width,height);
+		ret.setTo(this);
+		return ret;
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public int getStride() {
+		return stride;
+	}
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Pool of images which are used to store intermediate results.  Instead of declaring a new image each time
+ * temporary storage is needed an image is borrowed from the pool and then recycled once it is no longer needed.
+ * This avoids putting pressure on the garbage collector when images are processed at a high frame rate.
+ * </p>
+ *
+ * <p>
+ * Images are organized by their {@link ImageType} and then placed into buckets by size.  Bucket 'i' contains images
+ * whose internal array can store from 2<sup>i</sup> to 2<sup>i+1</sup>-1 pixels.  A borrowed image is taken from
+ * a bucket which has images large enough for the requested shape and then reshaped, which never requires a new
+ * array to be declared.  Images with a very different size are never used, limiting how much memory is wasted.
+ * If no image is available a new one is declared.  The value of pixels inside a borrowed image is not defined.
+ * </p>
+ *
+ * <p>
+ * All functions are thread safe, allowing the same pool to be shared by concurrent algorithms.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class ImagePool {
+
+	// number of size classes.  Enough for any array length
+	private static final int NUM_BUCKETS = 32;
+
+	// images which are available.  Organized by image type and then by size
+	private Map<ImageType,List<ImageBase>[]> available = new HashMap<ImageType, List<ImageBase>[]>();
+
+	// maximum number of images which are saved in each bucket
+	private int maxPerBucket;
+
+	/**
+	 * Specifies the maximum number of images in each bucket
+	 *
+	 * @param maxPerBucket Maximum number of images of the same type and size class which are saved.  Images
+	 *                     recycled into a full bucket are discarded.
+	 */
+	public ImagePool( int maxPerBucket ) {
+		this.maxPerBucket = maxPerBucket;
+	}
+
+	/**
+	 * Saves up to 4 images in each bucket
+	 */
+	public ImagePool() {
+		this(4);
+	}
+
+	/**
+	 * Returns an image of the specified type and shape.  When finished call {@link #recycle(ImageBase)}.
+	 *
+	 * @param type Type of image
+	 * @param width Image width
+	 * @param height Image height
+	 * @return Image with the requested shape.  Pixel values are not defined.
+	 */
+	public synchronized <T extends ImageBase> T borrow( ImageType<T> type , int width , int height ) {
+		List<ImageBase>[] buckets = available.get(type);
+
+		if( buckets != null ) {
+			int pixels = width*height;
+			int bucket = bucket(pixels);
+
+			// images in the same bucket might not be large enough
+			List<ImageBase> list = buckets[bucket];
+			for( int i = list.size()-1; i >= 0; i-- ) {
+				if( capacity(list.get(i)) >= pixels ) {
+					return reshape((T)list.remove(i),width,height);
+				}
+			}
+
+			// all the images in the next bucket are large enough
+			if( bucket+1 < NUM_BUCKETS ) {
+				list = buckets[bucket+1];
+				if( list.size() > 0 ) {
+					return reshape((T)list.remove(list.size()-1),width,height);
+				}
+			}
+		}
+
+		return type.createImage(width,height);
+	}
+
+	/**
+	 * Returns a single band image of the specified type and shape.  When finished call {@link #recycle(ImageBase)}.
+	 *
+	 * @see #borrow(ImageType, int, int)
+	 */
+	public <T extends ImageSingleBand> T borrow( Class<T> type , int width , int height ) {
+		return borrow(ImageType.single(type),width,height);
+	}
+
+	/**
+	 * Returns an image of the same type as 'image' and with the specified shape.  When finished call
+	 * {@link #recycle(ImageBase)}.
+	 *
+	 * @see #borrow(ImageType, int, int)
+	 */
+	public <T extends ImageBase> T borrowLike( T image , int width , int height ) {
+		return (T)borrow(typeOf(image),width,height);
+	}
+
+	/**
+	 * Returns an image to the pool so that it can be borrowed later on.  The image must not be used after it
+	 * has been recycled.
+	 *
+	 * @param image Image which is no longer needed.  Can't be a sub-image.  If null nothing happens.
+	 */
+	public synchronized void recycle( ImageBase image ) {
+		if( image == null )
+			return;
+		if( image.isSubimage() )
+			throw new IllegalArgumentException("Sub-images can't be recycled");
+
+		ImageType type = typeOf(image);
+		List<ImageBase>[] buckets = available.get(type);
+		if( buckets == null ) {
+			buckets = new List[NUM_BUCKETS];
+			for( int i = 0; i < NUM_BUCKETS; i++ ) {
+				buckets[i] = new ArrayList<ImageBase>();
+			}
+			available.put(type,buckets);
+		}
+
+		List<ImageBase> list = buckets[bucket(capacity(image))];
+		if( list.size() < maxPerBucket && !list.contains(image) ) {
+			list.add(image);
+		}
+	}
+
+	/**
+	 * Total number of images which are available in the pool.
+	 */
+	public synchronized int size() {
+		int total = 0;
+		for( List<ImageBase>[] buckets : available.values() ) {
+			for( List<ImageBase> list : buckets ) {
+				total += list.size();
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Discards all the images in the pool
+	 */
+	public synchronized void clear() {
+		available.clear();
+	}
+
+	public int getMaxPerBucket() {
+		return maxPerBucket;
+	}
+
+	/**
+	 * Size class of an image which can store the specified number of pixels
+	 */
+	private static int bucket( int pixels ) {
+		if( pixels <= 1 )
+			return 0;
+		return 31-Integer.numberOfLeadingZeros(pixels);
+	}
+
+	/**
+	 * Number of pixels the image can store without declaring a new array
+	 */
+	private static int capacity( ImageBase image ) {
+		if( image instanceof ImageSingleBand ) {
+			return Array.getLength(((ImageSingleBand)image)._getData());
+		} else if( image instanceof ImageInterleaved ) {
+			ImageInterleaved img = (ImageInterleaved)image;
+			return Array.getLength(img._getData())/img.numBands;
+		} else if( image instanceof MultiSpectral ) {
+			MultiSpectral img = (MultiSpectral)image;
+			int capacity = Integer.MAX_VALUE;
+			for( int i = 0; i < img.getNumBands(); i++ ) {
+				capacity = Math.min(capacity,capacity(img.getBand(i)));
+			}
+			return capacity;
+		}
+		throw new IllegalArgumentException("Unknown image type "+image.getClass().getSimpleName());
+	}
+
+	private static ImageType typeOf( ImageBase image ) {
+		ImageType type = image.getImageType();
+		if( type == null ) {
+			// images created using the default constructor don't have their type set
+			if( image instanceof ImageSingleBand )
+				type = ImageType.single((Class)image.getClass());
+			else
+				throw new IllegalArgumentException("The image type has not been set");
+		}
+		return type;
+	}
+
+	private static <T extends ImageBase> T reshape( T image , int width , int height ) {
+		image.reshape(width,height);
+		return image;
+	}
+}
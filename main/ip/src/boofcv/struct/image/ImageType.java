@@ -154,6 +154,22 @@ public class ImageType<T extends ImageBase> {
 		throw new RuntimeException("Support this image type thing");
 	}
 
+	@Override
+	public boolean equals(Object o) {
+		if( this == o )
+			return true;
+		if( o == null || getClass() != o.getClass() )
+			return false;
+
+		ImageType t = (ImageType)o;
+		return family == t.family && dataType == t.dataType && numBands == t.numBands;
+	}
+
+	@Override
+	public int hashCode() {
+		return (family.hashCode()*31 + dataType.hashCode())*31 + numBands;
+	}
+
 	@Override
 	public String toString() {
 		return "ImageType( "+family+" "+dataType+" "+numBands+" )";
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+/**
+ * <p>
+ * An image which is accessed by copying rectangular regions in and out of it, instead of through a single
+ * array.  Used to process images which are too large to fit inside a single {@link ImageSingleBand} one
+ * tile at a time.
+ * </p>
+ *
+ * <p>
+ * Implementations must allow different threads to read and write non-overlapping regions at the same time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface TiledImage<T extends ImageSingleBand> {
+
+	/**
+	 * Copies the region with the top-left corner at (x0,y0) and the same shape as 'dst' into 'dst'.
+	 *
+	 * @param x0 x-coordinate of top-left corner, inclusive.
+	 * @param y0 y-coordinate of top-left corner, inclusive.
+	 * @param dst Storage for the region.  Can be a sub-image.  Modified.
+	 */
+	public void read( int x0 , int y0 , T dst );
+
+	/**
+	 * Copies 'src' into the region with the top-left corner at (x0,y0) and the same shape as 'src'.
+	 *
+	 * @param x0 x-coordinate of top-left corner, inclusive.
+	 * @param y0 y-coordinate of top-left corner, inclusive.
+	 * @param src The region's new values.  Can be a sub-image.  Not modified.
+	 */
+	public void write( int x0 , int y0 , T src );
+
+	public int getWidth();
+
+	public int getHeight();
+
+	/**
+	 * Type of image used to read and write regions.
+	 */
+	public Class<T> getImageType();
+}
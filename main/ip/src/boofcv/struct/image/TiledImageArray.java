@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+/**
+ * {@link TiledImage} which is stored inside of a regular {@link ImageSingleBand}.  Regions are accessed
+ * using {@link ImageSingleBand#subimage}.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class TiledImageArray<T extends ImageSingleBand> implements TiledImage<T> {
+
+	T image;
+
+	public TiledImageArray(T image) {
+		this.image = image;
+	}
+
+	@Override
+	public void read(int x0, int y0, T dst) {
+		dst.setTo(image.subimage(x0, y0, x0 + dst.width, y0 + dst.height, null));
+	}
+
+	@Override
+	public void write(int x0, int y0, T src) {
+		image.subimage(x0, y0, x0 + src.width, y0 + src.height, null).setTo(src);
+	}
+
+	@Override
+	public int getWidth() {
+		return image.width;
+	}
+
+	@Override
+	public int getHeight() {
+		return image.height;
+	}
+
+	@Override
+	public Class<T> getImageType() {
+		return (Class<T>)image.getClass();
+	}
+
+	public T getImage() {
+		return image;
+	}
+}
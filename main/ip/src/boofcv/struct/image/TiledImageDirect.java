@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * {@link TiledImage} which is stored in one or more {@link DirectImageBase direct images}, each one containing a
+ * horizontal strip of rows.  Since a single direct image is limited to 2^31-1 bytes, very large images are split
+ * into multiple strips, e.g. a 30,000 x 30,000 {@link ImageFloat32} requires two.  Strips can be allocated
+ * outside the heap or mapped from a file.
+ * </p>
+ *
+ * <p>
+ * Supported types are {@link ImageUInt8}, {@link ImageUInt16} and {@link ImageFloat32}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class TiledImageDirect<T extends ImageSingleBand> implements TiledImage<T> {
+
+	// horizontal strips which compose the image, ordered from top to bottom
+	List<DirectImageBase> strips = new ArrayList<DirectImageBase>();
+	// y-coordinate of the first row in each strip
+	int stripY0[];
+
+	int width;
+	int height;
+	Class<T> imageType;
+
+	/**
+	 * Creates a tiled image from a list of strips.  All the strips must have the same width and type.
+	 *
+	 * @param strips Strips ordered from top to bottom.
+	 */
+	public TiledImageDirect( List<? extends DirectImageBase<?,T>> strips ) {
+		if( strips.size() == 0 )
+			throw new IllegalArgumentException("No strips");
+
+		this.width = strips.get(0).width;
+		this.imageType = strips.get(0).getArrayImageType().getImageClass();
+		this.stripY0 = new int[ strips.size() ];
+
+		for( int i = 0; i < strips.size(); i++ ) {
+			DirectImageBase<?,T> s = strips.get(i);
+			if( s.width != width )
+				throw new IllegalArgumentException("All strips must have the same width");
+			stripY0[i] = height;
+			height += s.height;
+			this.strips.add(s);
+		}
+	}
+
+	/**
+	 * Creates a tiled image composed of a single direct image.
+	 */
+	public TiledImageDirect( DirectImageBase<?,T> image ) {
+		this((List)wrap(image));
+	}
+
+	private static List<DirectImageBase> wrap( DirectImageBase image ) {
+		List<DirectImageBase> list = new ArrayList<DirectImageBase>();
+		list.add(image);
+		return list;
+	}
+
+	/**
+	 * Creates a new image in direct buffers outside of the heap
+	 *
+	 * @param width Image's width
+	 * @param height Image's height
+	 * @param imageType Type of image
+	 * @return The new image
+	 */
+	public static <T extends ImageSingleBand>
+	TiledImageDirect<T> create( int width , int height , Class<T> imageType ) {
+		int bytes = bytesPerPixel(imageType);
+		int maxRows = maxStripRows(width, bytes);
+
+		List<DirectImageBase> strips = new ArrayList<DirectImageBase>();
+		for( int y = 0; y < height; y += maxRows ) {
+			int rows = Math.min(maxRows, height - y);
+			strips.add(createStrip(imageType, DirectImageBase.allocate((long)width*rows*bytes), width, rows));
+		}
+		return new TiledImageDirect<T>((List)strips);
+	}
+
+	/**
+	 * Creates an image which is backed by a memory mapped file.  Pixels are stored row by row, starting at
+	 * 'position', without any padding.
+	 *
+	 * @param channel Channel of the file being mapped
+	 * @param mode How the file is mapped.
+	 * @param position Offset in bytes of the first pixel inside the file
+	 * @param width Image's width
+	 * @param height Image's height
+	 * @param imageType Type of image
+	 * @return Image backed by the file
+	 */
+	public static <T extends ImageSingleBand>
+	TiledImageDirect<T> map( FileChannel channel , FileChannel.MapMode mode , long position ,
+							 int width , int height , Class<T> imageType ) throws IOException {
+		int bytes = bytesPerPixel(imageType);
+		int maxRows = maxStripRows(width, bytes);
+
+		List<DirectImageBase> strips = new ArrayList<DirectImageBase>();
+		for( int y = 0; y < height; y += maxRows ) {
+			int rows = Math.min(maxRows, height - y);
+			long offset = position + (long)y*width*bytes;
+			ByteBuffer data = DirectImageBase.map(channel, mode, offset, (long)width*rows*bytes);
+			strips.add(createStrip(imageType, data, width, rows));
+		}
+		return new TiledImageDirect<T>((List)strips);
+	}
+
+	private static int bytesPerPixel( Class type ) {
+		if( type == ImageUInt8.class )
+			return 1;
+		else if( type == ImageUInt16.class )
+			return 2;
+		else if( type == ImageFloat32.class )
+			return 4;
+		throw new IllegalArgumentException("Unsupported image type "+type.getSimpleName());
+	}
+
+	private static int maxStripRows( int width , int bytes ) {
+		return Math.max(1, Integer.MAX_VALUE/(Math.max(1,width)*bytes));
+	}
+
+	private static DirectImageBase createStrip( Class type , ByteBuffer data , int width , int height ) {
+		if( type == ImageUInt8.class )
+			return new DirectImageUInt8(data, width, height);
+		else if( type == ImageUInt16.class )
+			return new DirectImageUInt16(data, width, height);
+		else
+			return new DirectImageFloat32(data, width, height);
+	}
+
+	@Override
+	public void read(int x0, int y0, T dst) {
+		int y1 = y0 + dst.height;
+		for( int i = 0; i < strips.size(); i++ ) {
+			DirectImageBase s = strips.get(i);
+			int a = Math.max(y0, stripY0[i]);
+			int b = Math.min(y1, stripY0[i] + s.height);
+			if( a >= b )
+				continue;
+
+			DirectImageBase sub = (DirectImageBase)s.subimage(x0, a - stripY0[i], x0 + dst.width, b - stripY0[i], null);
+			sub.copyTo(dst.subimage(0, a - y0, dst.width, b - y0, null));
+		}
+	}
+
+	@Override
+	public void write(int x0, int y0, T src) {
+		int y1 = y0 + src.height;
+		for( int i = 0; i < strips.size(); i++ ) {
+			DirectImageBase s = strips.get(i);
+			int a = Math.max(y0, stripY0[i]);
+			int b = Math.min(y1, stripY0[i] + s.height);
+			if( a >= b )
+				continue;
+
+			DirectImageBase sub = (DirectImageBase)s.subimage(x0, a - stripY0[i], x0 + src.width, b - stripY0[i], null);
+			sub.copyFrom(src.subimage(0, a - y0, src.width, b - y0, null));
+		}
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	@Override
+	public Class<T> getImageType() {
+		return imageType;
+	}
+
+	/**
+	 * The strips the image is composed of, from top to bottom
+	 */
+	public List<DirectImageBase> getStrips() {
+		return strips;
+	}
+}
@@ -35,6 +35,8 @@ public class WaveletDescription<T extends WlCoef> {
 	public T forward;
 	// coefficients for the inverse transform
 	public WlBorderCoef<T> inverse;
+	// if not null then the wavelet can be computed in-place using the lifting scheme
+	public WlLifting lifting;
 
 	public WaveletDescription( BorderIndex1D border , T forward, WlBorderCoef<T> inverse) {
 		this.border = border;
@@ -62,4 +64,15 @@ public class WaveletDescription<T extends WlCoef> {
 	public WlBorderCoef<T> getInverse() {
 		return inverse;
 	}
+
+	/**
+	 * Lifting scheme which is equivalent to this wavelet, or null if there is none.
+	 */
+	public WlLifting getLifting() {
+		return lifting;
+	}
+
+	public void setLifting(WlLifting lifting) {
+		this.lifting = lifting;
+	}
 }
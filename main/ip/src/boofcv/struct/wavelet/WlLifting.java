@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.wavelet;
+
+/**
+ * Wavelets which can be computed in-place using the lifting scheme.  The lifting implementation produces the same
+ * coefficients as the convolution based implementation for the wavelet with the same name.
+ *
+ * @author Peter Abeles
+ */
+public enum WlLifting {
+	/**
+	 * Haar wavelet.  See {@link boofcv.factory.transform.wavelet.FactoryWaveletHaar}.
+	 */
+	HAAR,
+	/**
+	 * Daubechies 4 wavelet with a wrapped border.  See {@link boofcv.factory.transform.wavelet.FactoryWaveletDaub#daubJ_F32}.
+	 */
+	DAUB_4,
+	/**
+	 * Daubechies 5/3 biorthogonal wavelet with a wrapped or reflected border.
+	 * See {@link boofcv.factory.transform.wavelet.FactoryWaveletDaub#biorthogonal_F32}.
+	 */
+	BIORTHOGONAL_5
+}
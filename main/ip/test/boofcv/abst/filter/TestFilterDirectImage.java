@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter;
+
+import boofcv.abst.filter.blur.BlurFilter;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.image.DirectImageFloat32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImagePool;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+/**
+ * @author Peter Abeles
+ */
+public class TestFilterDirectImage {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Process the image in many small bands and see if it produces the same result as all at once
+	 */
+	@Test
+	public void compareToArray() {
+		int radius = 3;
+		BlurFilter<ImageFloat32> filter = FactoryBlurFilter.gaussian(ImageFloat32.class, -1, radius);
+
+		ImageFloat32 input = new ImageFloat32(30, 41);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageFloat32 expected = new ImageFloat32(30, 41);
+		filter.process(input, expected);
+
+		DirectImageFloat32 directIn = new DirectImageFloat32(30, 41);
+		DirectImageFloat32 directOut = new DirectImageFloat32(30, 41);
+		directIn.copyFrom(input);
+
+		ImagePool pool = new ImagePool();
+		for( int bandHeight : new int[]{1,4,7,41,100} ) {
+			FilterDirectImage<ImageFloat32,ImageFloat32> alg =
+					new FilterDirectImage<ImageFloat32, ImageFloat32>(filter, radius, bandHeight, pool);
+			alg.process(directIn, directOut);
+
+			ImageFloat32 found = new ImageFloat32(30, 41);
+			directOut.copyTo(found);
+			BoofTesting.assertEquals(expected, found, 1e-4);
+		}
+	}
+}
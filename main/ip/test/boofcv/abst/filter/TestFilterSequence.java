@@ -25,6 +25,7 @@ import boofcv.factory.filter.convolve.FactoryConvolve;
 import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImagePool;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
@@ -49,6 +50,25 @@ public class TestFilterSequence {
 	 */
 	@Test
 	public void compareToManualSequence() {
+		compareToManualSequence(new ImagePool());
+	}
+
+	/**
+	 * Recycled images contain old pixel values.  Pixels along the border which the filters skip must be
+	 * handled the same as in a new image.
+	 */
+	@Test
+	public void compareToManualSequence_recycled() {
+		ImagePool pool = new ImagePool();
+		for( int i = 0; i < 2; i++ ) {
+			ImageFloat32 old = new ImageFloat32(width,height);
+			ImageMiscOps.fillUniform(old,rand,1000,2000);
+			pool.recycle(old);
+		}
+		compareToManualSequence(pool);
+	}
+
+	private void compareToManualSequence( ImagePool pool ) {
 		Kernel1D_F32 ker1 = FactoryKernel.random1D_F32(radius,0,5,rand);
 		Kernel1D_F32 ker2 = FactoryKernel.random1D_F32(radius+1,0,5,rand);
 		Kernel1D_F32 ker3 = FactoryKernel.random1D_F32(radius+2,0,5,rand);
@@ -62,7 +82,7 @@ public class TestFilterSequence {
 		FilterImageInterface f2 = FactoryConvolve.convolve(ker2,ImageFloat32.class,ImageFloat32.class, BorderType.SKIP, true);
 		FilterImageInterface f3 = FactoryConvolve.convolve(ker3,ImageFloat32.class,ImageFloat32.class, BorderType.SKIP, true);
 
-		FilterSequence sequence = new FilterSequence(f1,f2,f3);
+		FilterSequence sequence = new FilterSequence(pool,f1,f2,f3);
 		sequence.process(input,found);
 		assertEquals(radius+2,sequence.borderHorizontal);
 		assertEquals(radius+2,sequence.borderVertical);
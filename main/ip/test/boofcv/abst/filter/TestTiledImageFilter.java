@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.filter.convolve.ConvolveWithBorder;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.factory.filter.FactoryTiledFilter;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.TiledImageArray;
+import boofcv.struct.image.TiledImageDirect;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTiledImageFilter {
+
+	Random rand = new Random(234);
+	int width = 47;
+	int height = 39;
+
+	/**
+	 * Tiles with the halo clipped by the image should produce the same results as filtering the whole image
+	 */
+	@Test
+	public void compareToWholeImage() {
+		ImageFloat32 input = new ImageFloat32(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageFloat32 expected = BlurImageOps.gaussian(input, null, -1, 3, null);
+
+		for( int tileSize : new int[]{5,16,100} ) {
+			TiledImageFilter<ImageFloat32,ImageFloat32> alg =
+					FactoryTiledFilter.gaussian(ImageFloat32.class, -1, 3, tileSize);
+
+			ImageFloat32 found = new ImageFloat32(width, height);
+			alg.process(new TiledImageArray<ImageFloat32>(input), new TiledImageArray<ImageFloat32>(found));
+			BoofTesting.assertEquals(expected, found, 1e-4);
+
+			// images stored outside the heap
+			TiledImageDirect<ImageFloat32> directIn = TiledImageDirect.create(width, height, ImageFloat32.class);
+			TiledImageDirect<ImageFloat32> directOut = TiledImageDirect.create(width, height, ImageFloat32.class);
+			directIn.write(0, 0, input);
+			alg.process(directIn, directOut);
+			directOut.read(0, 0, found);
+			BoofTesting.assertEquals(expected, found, 1e-4);
+		}
+	}
+
+	/**
+	 * Same results should be produced when tiles are processed by multiple threads
+	 */
+	@Test
+	public void concurrent() {
+		boolean prevUse = BoofConcurrency.USE_CONCURRENT;
+		int prevThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.USE_CONCURRENT = true;
+		BoofConcurrency.setMaxThreads(4);
+		try {
+			compareToWholeImage();
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = prevUse;
+			BoofConcurrency.setMaxThreads(prevThreads);
+		}
+	}
+
+	/**
+	 * Pad tiles along the image border so that a filter which skips the border processes the whole image
+	 */
+	@Test
+	public void borderType() {
+		Kernel2D_F32 kernel = FactoryKernel.random2D_F32(2, -1, 1, rand);
+
+		ImageFloat32 input = new ImageFloat32(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageFloat32 expected = new ImageFloat32(width, height);
+		ConvolveWithBorder.convolve(kernel, input, expected,
+				(ImageBorder_F32)FactoryImageBorder.general(input, BorderType.REFLECT));
+
+		TiledImageFilter<ImageFloat32,ImageFloat32> alg = FactoryTiledFilter.convolve(kernel,
+				ImageFloat32.class, ImageFloat32.class, BorderType.SKIP, 10);
+		alg.setBorderType(BorderType.REFLECT);
+
+		ImageFloat32 found = new ImageFloat32(width, height);
+		alg.process(new TiledImageArray<ImageFloat32>(input), new TiledImageArray<ImageFloat32>(found));
+		BoofTesting.assertEquals(expected, found, 1e-4);
+
+		// without padding the border should be left untouched
+		alg.setBorderType(null);
+		ImageMiscOps.fill(expected, 2);
+		ConvolveImageNoBorder.convolve(kernel, input, expected);
+		ImageMiscOps.fill(found, 2);
+		alg.process(new TiledImageArray<ImageFloat32>(input), new TiledImageArray<ImageFloat32>(found));
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.abst.filter.convolve;
+
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.filter.convolve.ConvolveMethod;
+import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.filter.convolve.ConvolveWithBorder;
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveAuto_F32 {
+
+	Random rand = new Random(234);
+
+	int width = 80;
+	int height = 70;
+
+	BorderType types[] = new BorderType[]{BorderType.SKIP,BorderType.NORMALIZED,
+			BorderType.EXTENDED,BorderType.REFLECT,BorderType.WRAP};
+
+	@Test
+	public void direct() {
+		Kernel2D_F32 kernel = FactoryKernel.random2D_F32(1,0.5f,1,rand);
+		for( BorderType type : types ) {
+			check(kernel,type,ConvolveMethod.DIRECT);
+		}
+	}
+
+	@Test
+	public void separable() {
+		Kernel2D_F32 kernel = FactoryKernelGaussian.gaussian2D_F32(2,4,true);
+		for( BorderType type : types ) {
+			check(kernel,type,ConvolveMethod.SEPARABLE);
+		}
+	}
+
+	@Test
+	public void fourier() {
+		Kernel2D_F32 kernel = FactoryKernel.random2D_F32(12,0.5f,1,rand);
+		KernelMath.normalizeSumToOne(kernel);
+		for( BorderType type : types ) {
+			check(kernel,type,ConvolveMethod.FOURIER);
+		}
+	}
+
+	@Test
+	public void fourier1D() {
+		// the image needs to be large relative to the kernel for the FFT to be faster
+		width = 300;
+		height = 250;
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(40,0.5f,1,rand);
+		for( BorderType type : types ) {
+			check(kernel,true,type,ConvolveMethod.FOURIER);
+			check(kernel,false,type,ConvolveMethod.FOURIER);
+		}
+	}
+
+	private void check( Kernel2D_F32 kernel , BorderType type , ConvolveMethod expectedMethod ) {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,1);
+
+		ConvolveAuto_F32 alg = new ConvolveAuto_F32(kernel,type);
+		alg.process(input,found);
+		assertTrue(expectedMethod == alg.getMethod());
+
+		switch( type ) {
+			case SKIP: ConvolveImageNoBorder.convolve(kernel,input,expected); break;
+			case NORMALIZED: ConvolveNormalized.convolve(kernel,input,expected); break;
+			default:
+				ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorder.general(ImageFloat32.class,type);
+				ConvolveWithBorder.convolve(kernel,input,expected,border);
+		}
+
+		BoofTesting.assertEquals(expected,found,1e-3);
+	}
+
+	private void check( Kernel1D_F32 kernel , boolean horizontal , BorderType type , ConvolveMethod expectedMethod ) {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,1);
+
+		ConvolveAuto_F32 alg = new ConvolveAuto_F32(kernel,horizontal,type);
+		alg.process(input,found);
+		assertTrue(expectedMethod == alg.getMethod());
+
+		ImageBorder_F32 border = null;
+		if( type != BorderType.SKIP && type != BorderType.NORMALIZED )
+			border = (ImageBorder_F32)FactoryImageBorder.general(ImageFloat32.class,type);
+
+		if( horizontal ) {
+			switch( type ) {
+				case SKIP: ConvolveImageNoBorder.horizontal(kernel,input,expected); break;
+				case NORMALIZED: ConvolveNormalized.horizontal(kernel,input,expected); break;
+				default: ConvolveWithBorder.horizontal(kernel,input,expected,border);
+			}
+		} else {
+			switch( type ) {
+				case SKIP: ConvolveImageNoBorder.vertical(kernel,input,expected); break;
+				case NORMALIZED: ConvolveNormalized.vertical(kernel,input,expected); break;
+				default: ConvolveWithBorder.vertical(kernel,input,expected,border);
+			}
+		}
+
+		BoofTesting.assertEquals(expected,found,1e-3);
+	}
+}
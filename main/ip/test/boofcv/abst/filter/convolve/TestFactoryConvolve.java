@@ -38,6 +38,8 @@ import org.junit.Test;
 
 import java.util.Random;
 
+import static org.junit.Assert.assertTrue;
+
 
 /**
  * @author Peter Abeles
@@ -180,4 +182,30 @@ public class TestFactoryConvolve {
 		ConvolveNormalized.convolve(kernel,input,expected8);
 		BoofTesting.assertEquals(expected8,found8,0);
 	}
+
+	@Test
+	public void convolveAuto_F32() {
+		Kernel2D_F32 kernel = FactoryKernel.random2D_F32(radius,1,6,rand);
+		Kernel1D_F32 kernel1D = FactoryKernel.random1D_F32(radius,1,6,rand);
+
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+
+		ImageMiscOps.fillUniform(input,rand,0,5);
+
+		ConvolveInterface<ImageFloat32,ImageFloat32> conv;
+
+		conv = FactoryConvolve.convolveAuto(kernel,ImageFloat32.class,ImageFloat32.class,BorderType.EXTENDED);
+		assertTrue(conv instanceof ConvolveAuto_F32);
+		conv.process(input,found);
+		ConvolveWithBorder.convolve(kernel,input,expected,new ImageBorder1D_F32(BorderIndex1D_Extend.class));
+		BoofTesting.assertEquals(expected,found,1e-4f);
+
+		conv = FactoryConvolve.convolveAuto(kernel1D,ImageFloat32.class,ImageFloat32.class,BorderType.NORMALIZED,false);
+		assertTrue(conv instanceof ConvolveAuto_F32);
+		conv.process(input,found);
+		ConvolveNormalized.vertical(kernel1D,input,expected);
+		BoofTesting.assertEquals(expected,found,1e-4f);
+	}
 }
@@ -292,4 +292,131 @@ public abstract class GenericTestDiscreteFourierTransform<T extends ImageSingleB
 			fail("Should have thrown an exception");
 		} catch( IllegalArgumentException ignore ){}
 	}
+
+	/**
+	 * The half spectrum should be identical to the first width/2+1 columns of the full spectrum
+	 */
+	@Test
+	public void forwardHalf_compareToFull() {
+		for( int h = 1; h < 10; h++ ) {
+			for( int w = 1; w < 10; w++ ) {
+				checkHalfCompareToFull(w, h);
+			}
+		}
+
+		checkHalfCompareToFull(64,64);
+		checkHalfCompareToFull(71,97);
+	}
+
+	protected void checkHalfCompareToFull( int width , int height ) {
+		T input = createImage(width,height);
+		I transform = createTransform(width,height);
+		I half = createTransform(width/2+1,height);
+
+		GImageMiscOps.fillUniform(input,rand,-20,20);
+
+		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+
+		alg.forward(input,transform);
+		alg.forwardHalf(input,half);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < half.width; x++ ) {
+				for( int band = 0; band < 2; band++ ) {
+					double expected = GeneralizedImageOps.get(transform,x,y,band);
+					double found = GeneralizedImageOps.get(half,x,y,band);
+					assertEquals(expected,found,tolerance*(1+Math.abs(expected)));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Check correctness by having it convert an image to and from using the half spectrum
+	 */
+	@Test
+	public void forwardsBackwards_half() {
+		for( int h = 1; h < 10; h++ ) {
+			for( int w = 1; w < 10; w++ ) {
+				checkForwardsBackwardsHalf(w,h);
+			}
+		}
+
+		checkForwardsBackwardsHalf(64,64);
+		checkForwardsBackwardsHalf(71,97);
+	}
+
+	protected void checkForwardsBackwardsHalf( int width , int height ) {
+		T input = createImage(width,height);
+		I half = createTransform(width/2+1,height);
+		T found = createImage(width,height);
+
+		GImageMiscOps.fillUniform(input,rand,-20,20);
+
+		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+
+		T inputOrig = (T)input.clone();
+		alg.forwardHalf(input,half);
+		I halfOrig = (I)half.clone();
+		alg.inverseHalf(half, found);
+
+		BoofTesting.assertEquals(input, found, tolerance);
+
+		// inputs should not be modified by default
+		BoofTesting.assertEquals(input, inputOrig, 0);
+		BoofTesting.assertEquals(half, halfOrig, 0);
+
+		// same results when it can modify the inputs
+		T foundM = createImage(width,height);
+		alg.setModifyInputs(true);
+		alg.inverseHalf(half, foundM);
+		BoofTesting.assertEquals(found, foundM, tolerance);
+	}
+
+	@Test
+	public void subimage_half() {
+		int w = 21;
+		int h = 32;
+		T input = createImage(w,h);
+		I half = createTransform(w/2+1,h);
+		T found = createImage(w,h);
+
+		GImageMiscOps.fillUniform(input,rand,-20,20);
+
+		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+		alg.forwardHalf(input,half);
+		alg.inverseHalf(half, found);
+
+		T inputSub = BoofTesting.createSubImageOf(input);
+		I halfSub = BoofTesting.createSubImageOf(half);
+		T foundSub = BoofTesting.createSubImageOf(found);
+
+		alg.forwardHalf(inputSub,halfSub);
+		alg.inverseHalf(halfSub, foundSub);
+
+		BoofTesting.assertEquals(half,halfSub,tolerance);
+		BoofTesting.assertEquals(found,foundSub,tolerance);
+	}
+
+	/**
+	 * Makes sure it only accepts half spectrums which are the correct size
+	 */
+	@Test
+	public void inputImageSize_half() {
+		int width = 20;
+		int height = 25;
+		T input = createImage(width,height);
+
+		DiscreteFourierTransform<T,I> alg = createAlgorithm();
+
+		try {
+			alg.forwardHalf(input,createTransform(width,height) );
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+
+		try {
+			alg.inverseHalf(createTransform(width/2+1,height-1),input );
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+	}
 }
@@ -20,7 +20,10 @@ package boofcv.alg.color;
 
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -122,4 +125,48 @@ public class TestColorHsv {
 		assertEquals(b,found[1],tol);
 		assertEquals(c,found[2],tol);
 	}
+
+	@Test
+	public void interleaved_U8() {
+		// extra band should be ignored
+		InterleavedU8 rgb = new InterleavedU8(10,15,4);
+		GImageMiscOps.fillUniform(rgb, rand, 0, 256);
+		rgb.set(0,0,new byte[]{0,0,0,0});
+		rgb.set(1,0,new byte[]{20,20,20,0});
+		rgb = BoofTesting.createSubImageOf(rgb);
+		InterleavedF32 hsv = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+
+		ColorHsv.rgbToHsv_U8(rgb,hsv);
+
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorHsv.rgbToHsv((float)rgb.getBand(x,y,0),rgb.getBand(x,y,1),rgb.getBand(x,y,2),hsv_F32);
+
+				for( int band = 0; band < 3; band++ )
+					assertEquals(hsv_F32[band],hsv.getBand(x,y,band),1e-4);
+			}
+		}
+	}
+
+	@Test
+	public void interleaved_F32() {
+		InterleavedF32 rgb = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		InterleavedF32 hsv = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		InterleavedF32 found = new InterleavedF32(10,15,3);
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 1);
+
+		ColorHsv.rgbToHsv_F32(rgb,hsv);
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorHsv.rgbToHsv(rgb.getBand(x,y,0),rgb.getBand(x,y,1),rgb.getBand(x,y,2),hsv_F32);
+
+				for( int band = 0; band < 3; band++ )
+					assertEquals(hsv_F32[band],hsv.getBand(x,y,band),1e-6);
+			}
+		}
+
+		ColorHsv.hsvToRgb_F32(hsv,found);
+		BoofTesting.assertEquals(rgb,found,1e-4);
+	}
 }
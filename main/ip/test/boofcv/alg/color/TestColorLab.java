@@ -21,7 +21,10 @@ package boofcv.alg.color;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -93,4 +96,43 @@ public class TestColorLab {
 		}
 	}
 
+	@Test
+	public void interleaved_U8() {
+		InterleavedU8 rgb = BoofTesting.createSubImageOf(new InterleavedU8(10,15,4));
+		InterleavedF32 lab = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		float expected[] = new float[3];
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 256);
+		// extreme values
+		rgb.set(0,0,new byte[]{0,0,0,0});
+		rgb.set(1,0,new byte[]{(byte)255,(byte)255,(byte)255,(byte)255});
+		rgb.set(2,0,new byte[]{1,0,0,0});
+
+		ColorLab.rgbToLab_U8(rgb,lab);
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorLab.srgbToLab(rgb.getBand(x,y,0)/255f,rgb.getBand(x,y,1)/255f,rgb.getBand(x,y,2)/255f,expected);
+				for( int band = 0; band < 3; band++ )
+					assertEquals(expected[band],lab.getBand(x,y,band),0.01);
+			}
+		}
+	}
+
+	@Test
+	public void interleaved_F32() {
+		InterleavedF32 rgb = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		InterleavedF32 lab = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		float expected[] = new float[3];
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+
+		ColorLab.rgbToLab_F32(rgb,lab);
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorLab.srgbToLab(rgb.getBand(x,y,0)/255f,rgb.getBand(x,y,1)/255f,rgb.getBand(x,y,2)/255f,expected);
+				for( int band = 0; band < 3; band++ )
+					assertEquals(expected[band],lab.getBand(x,y,band),1e-4);
+			}
+		}
+	}
 }
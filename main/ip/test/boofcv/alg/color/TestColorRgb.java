@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.color;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestColorRgb {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void rgbToGray_Weighted_U8() {
+		// extra band should be ignored
+		InterleavedU8 rgb = BoofTesting.createSubImageOf(new InterleavedU8(10,15,4));
+		ImageUInt8 gray = BoofTesting.createSubImageOf(new ImageUInt8(10,15));
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 256);
+		rgb.set(0,0,new byte[]{(byte)255,(byte)255,(byte)255,0});
+
+		ColorRgb.rgbToGray_Weighted(rgb,gray);
+
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				double expected = 0.299*rgb.getBand(x,y,0) + 0.587*rgb.getBand(x,y,1) + 0.114*rgb.getBand(x,y,2);
+				assertEquals(expected,gray.get(x,y),1);
+			}
+		}
+		assertEquals(255,gray.get(0,0));
+	}
+
+	@Test
+	public void rgbToGray_Weighted_F32() {
+		InterleavedF32 rgb = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		ImageFloat32 gray = BoofTesting.createSubImageOf(new ImageFloat32(10,15));
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+
+		ColorRgb.rgbToGray_Weighted(rgb,gray);
+
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				double expected = 0.299*rgb.getBand(x,y,0) + 0.587*rgb.getBand(x,y,1) + 0.114*rgb.getBand(x,y,2);
+				assertEquals(expected,gray.get(x,y),1e-2);
+			}
+		}
+	}
+}
@@ -21,7 +21,10 @@ package boofcv.alg.color;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -187,4 +190,39 @@ public class TestColorXyz {
 		}
 	}
 
+	@Test
+	public void interleaved_U8() {
+		InterleavedU8 rgb = BoofTesting.createSubImageOf(new InterleavedU8(10,15,4));
+		InterleavedF32 xyz = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		float expected[] = new float[3];
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 256);
+
+		ColorXyz.rgbToXyz_U8(rgb,xyz);
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorXyz.rgbToXyz(rgb.getBand(x,y,0),rgb.getBand(x,y,1),rgb.getBand(x,y,2),expected);
+				for( int band = 0; band < 3; band++ )
+					assertEquals(expected[band],xyz.getBand(x,y,band),1e-5);
+			}
+		}
+	}
+
+	@Test
+	public void interleaved_F32() {
+		InterleavedF32 rgb = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		InterleavedF32 xyz = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		float expected[] = new float[3];
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 255);
+
+		ColorXyz.rgbToXyz_F32(rgb,xyz);
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorXyz.srgbToXyz(rgb.getBand(x,y,0)/255f,rgb.getBand(x,y,1)/255f,rgb.getBand(x,y,2)/255f,expected);
+				for( int band = 0; band < 3; band++ )
+					assertEquals(expected[band],xyz.getBand(x,y,band),1e-5);
+			}
+		}
+	}
 }
@@ -21,7 +21,10 @@ package boofcv.alg.color;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
 import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import java.util.Random;
@@ -174,4 +177,54 @@ public class TestColorYuv {
 		assertEquals(b,found[1],tol);
 		assertEquals(c, found[2], tol);
 	}
+
+	@Test
+	public void interleaved_U8() {
+		InterleavedU8 rgb = BoofTesting.createSubImageOf(new InterleavedU8(10,15,4));
+		InterleavedU8 yuv = BoofTesting.createSubImageOf(new InterleavedU8(10,15,3));
+		InterleavedU8 found = new InterleavedU8(10,15,4);
+		byte expected[] = new byte[3];
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 256);
+
+		ColorYuv.rgbToYCbCr_U8(rgb,yuv);
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorYuv.rgbToYCbCr(rgb.getBand(x,y,0),rgb.getBand(x,y,1),rgb.getBand(x,y,2),expected);
+				for( int band = 0; band < 3; band++ )
+					assertEquals(expected[band]&0xFF,yuv.getBand(x,y,band));
+			}
+		}
+
+		ColorYuv.ycbcrToRgb_U8(yuv,found);
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorYuv.ycbcrToRgb(yuv.getBand(x,y,0),yuv.getBand(x,y,1),yuv.getBand(x,y,2),expected);
+				for( int band = 0; band < 3; band++ )
+					assertEquals(expected[band]&0xFF,found.getBand(x,y,band));
+			}
+		}
+	}
+
+	@Test
+	public void interleaved_F32() {
+		InterleavedF32 rgb = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		InterleavedF32 yuv = BoofTesting.createSubImageOf(new InterleavedF32(10,15,3));
+		InterleavedF32 found = new InterleavedF32(10,15,3);
+		float yuv_F32[] = new float[3];
+
+		GImageMiscOps.fillUniform(rgb, rand, 0, 1);
+
+		ColorYuv.rgbToYuv_F32(rgb,yuv);
+		for( int y = 0; y < rgb.height; y++ ) {
+			for( int x = 0; x < rgb.width; x++ ) {
+				ColorYuv.rgbToYuv(rgb.getBand(x,y,0),rgb.getBand(x,y,1),rgb.getBand(x,y,2),yuv_F32);
+				for( int band = 0; band < 3; band++ )
+					assertEquals(yuv_F32[band],yuv.getBand(x,y,band),1e-6);
+			}
+		}
+
+		ColorYuv.yuvToRgb_F32(yuv,found);
+		BoofTesting.assertEquals(rgb,found,1e-3);
+	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.color.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.InterleavedF32;
+import boofcv.struct.image.InterleavedU8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares each function in {@link ImplColorInterleaved_MT} against the single threaded version applied
+ * to the entire image.
+ *
+ * @author Peter Abeles
+ */
+public class TestImplColorInterleaved_MT {
+
+	Random rand = new Random(234);
+
+	int width = 21;
+	int height = 33;
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	@Test
+	public void compareToSingle() throws Exception {
+		int total = 0;
+		for( Method m : ImplColorInterleaved_MT.class.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != ImplColorInterleaved_MT.class )
+				continue;
+
+			Class<?> params[] = m.getParameterTypes();
+			Method single = ImplColorInterleaved.class.getMethod(m.getName(),
+					params[0],params[1],int.class,int.class);
+
+			// HSV uses a different range for hue
+			boolean unitRange = m.getName().startsWith("hsv");
+
+			ImageBase input = create(params[0],4,unitRange);
+			ImageBase expected = create(params[1],3,false);
+			ImageBase found = create(params[1],3,false);
+
+			single.invoke(null,input,expected,0,height);
+			m.invoke(null,input,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+			total++;
+		}
+
+		assertEquals(13,total);
+	}
+
+	private ImageBase create( Class<?> type , int numBands , boolean unitRange ) {
+		ImageBase image;
+		if( type == InterleavedU8.class ) {
+			image = new InterleavedU8(width,height,numBands);
+		} else if( type == InterleavedF32.class ) {
+			image = new InterleavedF32(width,height,numBands);
+		} else if( type == ImageUInt8.class ) {
+			image = new ImageUInt8(width,height);
+		} else if( type == ImageFloat32.class ) {
+			image = new ImageFloat32(width,height);
+		} else {
+			throw new RuntimeException("Unexpected type "+type.getSimpleName());
+		}
+
+		if( unitRange )
+			GImageMiscOps.fillUniform(image,rand,0,1);
+		else
+			GImageMiscOps.fillUniform(image,rand,0,255);
+		return image;
+	}
+}
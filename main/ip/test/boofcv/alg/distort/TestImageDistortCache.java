@@ -18,13 +18,23 @@
 
 package boofcv.alg.distort;
 
+import boofcv.alg.distort.impl.ImplImageDistortCache_F32;
 import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.interpolate.TypeInterpolate;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.distort.FactoryDistort;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.distort.PixelTransform_F32;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
+import georegression.struct.affine.Affine2D_F32;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -98,6 +108,83 @@ public class TestImageDistortCache {
 		assertEquals(9*14,alg.getTotal());
 	}
 
+	/**
+	 * The distortion should only be computed again if the model or the image shape changes
+	 */
+	@Test
+	public void recomputeOnlyWhenChanged() {
+		final int count[] = new int[1];
+		PixelTransform_F32 counter = new PixelTransform_F32() {
+			@Override
+			public void compute(int x, int y) {
+				count[0]++;
+				distX = x;
+				distY = y;
+			}
+		};
+
+		Helper alg = new Helper(interp,null);
+		alg.setModel(counter);
+		alg.apply(new ImageFloat32(10, 15), new ImageFloat32(10, 15));
+		assertEquals(150,count[0]);
+		alg.apply(new ImageFloat32(10, 15), new ImageFloat32(10, 15));
+		assertEquals(150,count[0]);
+		alg.apply(new ImageFloat32(10, 15), new ImageFloat32(10, 12));
+		assertEquals(150+120,count[0]);
+		alg.setModel(counter);
+		alg.apply(new ImageFloat32(10, 15), new ImageFloat32(10, 12));
+		assertEquals(150+240,count[0]);
+	}
+
+	/**
+	 * Output should be the same when the destination image is a sub-image and when processed concurrently
+	 */
+	@Test
+	public void subimage_concurrent() {
+		Random rand = new Random(234);
+		ImageFloat32 src = new ImageFloat32(60,50);
+		ImageMiscOps.fillUniform(src,rand,0,100);
+
+		PixelTransformAffine_F32 tran = new PixelTransformAffine_F32(new Affine2D_F32(1.1f,0.2f,-0.1f,0.9f,-4,3));
+
+		for( TypeInterpolate type : new TypeInterpolate[]{TypeInterpolate.BILINEAR,TypeInterpolate.POLYNOMIAL4}) {
+			for( int i = 0; i < 2; i++ ) {
+				ImageBorder<ImageFloat32> border = i == 0 ? null : FactoryImageBorder.value(ImageFloat32.class, 1);
+				InterpolatePixelS<ImageFloat32> interp = FactoryInterpolation.createPixelS(0,100,type,ImageFloat32.class);
+
+				ImageDistort<ImageFloat32> standard = FactoryDistort.distort(interp.copy(),border,ImageFloat32.class);
+				ImageDistortCache<ImageFloat32> alg = new ImplImageDistortCache_F32(interp,border);
+				standard.setModel(tran);
+				alg.setModel(tran);
+
+				ImageFloat32 expected = new ImageFloat32(55,45);
+				standard.apply(src,expected);
+				standard.apply(src,expected,5,3,40,42);
+
+				ImageFloat32 found = BoofTesting.createSubImageOf(new ImageFloat32(55,45));
+				alg.apply(src,found);
+				BoofTesting.assertEquals(expected,found,0);
+
+				int previousThreads = BoofConcurrency.getMaxThreads();
+				int previousBand = BoofConcurrency.getMinBandHeight();
+				try {
+					BoofConcurrency.USE_CONCURRENT = true;
+					BoofConcurrency.setMaxThreads(4);
+					BoofConcurrency.setMinBandHeight(1);
+
+					found = BoofTesting.createSubImageOf(new ImageFloat32(55,45));
+					alg.apply(src,found);
+					alg.apply(src,found,5,3,40,42);
+					BoofTesting.assertEquals(expected,found,0);
+				} finally {
+					BoofConcurrency.USE_CONCURRENT = false;
+					BoofConcurrency.setMaxThreads(previousThreads);
+					BoofConcurrency.setMinBandHeight(previousBand);
+				}
+			}
+		}
+	}
+
 	private static class Helper extends ImageDistortCache {
 
 		int total = 0;
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformHomography_F32;
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.interpolate.impl.ImplBilinearPixel_U8;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.distort.PixelTransform_F32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import georegression.struct.homo.Homography2D_F32;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplImageDistortBilinear_U8 extends GeneralImageDistortTests<ImageUInt8> {
+
+	public TestImplImageDistortBilinear_U8() {
+		super(ImageUInt8.class);
+	}
+
+	@Override
+	public ImageDistort<ImageUInt8> createDistort(PixelTransform_F32 dstToSrc,
+												  InterpolatePixelS<ImageUInt8> interp ,
+												  ImageBorder<ImageUInt8> border) {
+		ImageDistort<ImageUInt8> ret = new ImplImageDistortBilinear_U8(border,false);
+		ret.setModel(dstToSrc);
+		return ret;
+	}
+
+	/**
+	 * Compares the results against floating point bilinear interpolation
+	 */
+	@Test
+	public void compareToFloat() {
+		ImageUInt8 src = new ImageUInt8(40,35);
+		ImageMiscOps.fillUniform(src, rand, 0, 256);
+
+		Homography2D_F32 H = new Homography2D_F32(0.9f,0.15f,-3.2f,-0.1f,1.2f,2.7f,0.001f,0.002f,1);
+		PixelTransformHomography_F32 tran = new PixelTransformHomography_F32(H);
+
+		for( int i = 0; i < 3; i++ ) {
+			ImageBorder<ImageUInt8> border = null;
+			if( i == 1 )
+				border = FactoryImageBorder.value(ImageUInt8.class, 7);
+			else if( i == 2 )
+				border = FactoryImageBorder.general(ImageUInt8.class, BorderType.EXTENDED);
+
+			ImageDistort<ImageUInt8> standard = new ImplImageDistort_I8<ImageUInt8>(new ImplBilinearPixel_U8(),border);
+			standard.setModel(tran);
+
+			ImageUInt8 expected = new ImageUInt8(45,38);
+			standard.apply(src, expected);
+			ImageUInt8 expectedCrop = new ImageUInt8(45,38);
+			standard.apply(src, expectedCrop, 5, 3, 30, 33);
+
+			for( int j = 0; j < 2; j++ ) {
+				ImageDistort<ImageUInt8> alg = new ImplImageDistortBilinear_U8(border,j==1);
+				alg.setModel(tran);
+
+				ImageUInt8 found = BoofTesting.createSubImageOf(new ImageUInt8(45,38));
+				alg.apply(src, found);
+				BoofTesting.assertEquals(expected, found, 1);
+
+				found = BoofTesting.createSubImageOf(new ImageUInt8(45,38));
+				alg.apply(BoofTesting.createSubImageOf(src), found, 5, 3, 30, 33);
+				BoofTesting.assertEquals(expectedCrop, found, 1);
+			}
+		}
+	}
+
+	/**
+	 * Cached distortions can be processed concurrently
+	 */
+	@Test
+	public void concurrent() {
+		ImageUInt8 src = new ImageUInt8(40,35);
+		ImageMiscOps.fillUniform(src, rand, 0, 256);
+
+		Homography2D_F32 H = new Homography2D_F32(0.9f,0.15f,-3.2f,-0.1f,1.2f,2.7f,0.001f,0.002f,1);
+		PixelTransformHomography_F32 tran = new PixelTransformHomography_F32(H);
+		ImageBorder<ImageUInt8> border = FactoryImageBorder.value(ImageUInt8.class, 7);
+
+		ImageDistort<ImageUInt8> alg = new ImplImageDistortBilinear_U8(border,true);
+		alg.setModel(tran);
+
+		ImageUInt8 expected = new ImageUInt8(45,38);
+		alg.apply(src, expected);
+
+		int previousThreads = BoofConcurrency.getMaxThreads();
+		int previousBand = BoofConcurrency.getMinBandHeight();
+		try {
+			BoofConcurrency.USE_CONCURRENT = true;
+			BoofConcurrency.setMaxThreads(4);
+			BoofConcurrency.setMinBandHeight(1);
+
+			ImageUInt8 found = new ImageUInt8(45,38);
+			alg.apply(src, found);
+			BoofTesting.assertEquals(expected, found, 0);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(previousThreads);
+			BoofConcurrency.setMinBandHeight(previousBand);
+		}
+	}
+
+	/**
+	 * The fixed point distortion should only be used when explicitly requested
+	 */
+	@Test
+	public void factory() {
+		InterpolatePixelS<ImageUInt8> interp = FactoryInterpolation.bilinearPixelS(ImageUInt8.class);
+		ImageBorder<ImageUInt8> border = FactoryImageBorder.value(ImageUInt8.class, 7);
+
+		assertTrue(FactoryDistort.distort(interp, border, ImageUInt8.class) instanceof ImplImageDistort_I8);
+		assertTrue(FactoryDistort.distortCached(interp, border, ImageUInt8.class) instanceof ImplImageDistortCache_I8);
+		assertTrue(FactoryDistort.distortBilinearFixed_U8(border, true) instanceof ImplImageDistortBilinear_U8);
+	}
+}
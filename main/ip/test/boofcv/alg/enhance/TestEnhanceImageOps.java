@@ -20,8 +20,12 @@ package boofcv.alg.enhance;
 
 import boofcv.alg.enhance.impl.ImplEnhanceHistogram;
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageInteger;
+import boofcv.struct.image.ImageUInt16;
+import boofcv.struct.image.ImageUInt8;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
@@ -29,6 +33,7 @@ import java.lang.reflect.Method;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -92,4 +97,65 @@ public class TestEnhanceImageOps {
 			BoofTesting.assertEquals(expected, found, 1e-10);
 		}
 	}
+
+	/**
+	 * With a single tile and no clipping CLAHE should be the same as global histogram equalization
+	 */
+	@Test
+	public void equalizeClahe_oneTile() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageUInt8 found = new ImageUInt8(width,height);
+		ImageUInt8 expected = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 256);
+
+		int histogram[] = new int[256];
+		int transform[] = new int[256];
+		ImageStatistics.histogram(input,histogram);
+		EnhanceImageOps.equalize(histogram, transform);
+		EnhanceImageOps.applyTransform(input, transform, expected);
+
+		EnhanceImageOps.equalizeClahe(input, 1, 1, 0, found, null);
+		BoofTesting.assertEquals(expected, found, 0);
+
+		ImageUInt16 input16 = new ImageUInt16(width,height);
+		ImageUInt16 found16 = new ImageUInt16(width,height);
+		ImageUInt16 expected16 = new ImageUInt16(width,height);
+		ImageMiscOps.fillUniform(input16, rand, 0, 4096);
+
+		histogram = new int[4096];
+		transform = new int[4096];
+		ImageStatistics.histogram(input16,histogram);
+		EnhanceImageOps.equalize(histogram, transform);
+		EnhanceImageOps.applyTransform(input16, transform, expected16);
+
+		EnhanceImageOps.equalizeClahe(input16, 4095, 1, 1, 0, found16, null);
+		BoofTesting.assertEquals(expected16, found16, 0);
+	}
+
+	/**
+	 * Clipping should limit how much noise in a nearly uniform image is amplified
+	 */
+	@Test
+	public void equalizeClahe_clip() {
+		ImageUInt8 input = new ImageUInt8(40,30);
+		ImageMiscOps.fillUniform(input, rand, 100, 103);
+
+		ImageUInt8 clipped = new ImageUInt8(40,30);
+		ImageUInt8 unclipped = new ImageUInt8(40,30);
+
+		EnhanceImageOps.equalizeClahe(input, 2, 2, 2, clipped, null);
+		EnhanceImageOps.equalizeClahe(input, 2, 2, 0, unclipped, null);
+
+		int rangeClipped = ImageStatistics.max(clipped) - ImageStatistics.min(clipped);
+		int rangeUnclipped = ImageStatistics.max(unclipped) - ImageStatistics.min(unclipped);
+
+		assertTrue(rangeUnclipped > 150);
+		assertTrue(rangeClipped < 50);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void equalizeClahe_tooManyTiles() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		EnhanceImageOps.equalizeClahe(input, width+1, 1, 0, input.clone(), null);
+	}
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.enhance.EnhanceImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplEnhanceClahe {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void tileBounds() {
+		int bounds[] = ImplEnhanceClahe.tileBounds(10,3);
+
+		assertEquals(4,bounds.length);
+		assertEquals(0,bounds[0]);
+		assertEquals(3,bounds[1]);
+		assertEquals(6,bounds[2]);
+		assertEquals(10,bounds[3]);
+	}
+
+	@Test
+	public void clipHistogram() {
+		int histogram[] = new int[10];
+		histogram[2] = 50;
+		histogram[5] = 23;
+		histogram[7] = 7;
+
+		// average is 8 so the limit is 16
+		ImplEnhanceClahe.clipHistogram(histogram,2,80);
+
+		int total = 0;
+		for( int i = 0; i < histogram.length; i++ ) {
+			total += histogram[i];
+			// limit plus the redistributed excess
+			assertTrue(histogram[i] <= 16+5);
+		}
+		assertEquals(80,total);
+		// bins which were empty should now have a count
+		assertTrue(histogram[0] > 0);
+	}
+
+	/**
+	 * Pixels at the center of a tile should only be influenced by that tile's transform
+	 */
+	@Test
+	public void tileCenters() {
+		ImageUInt8 input = new ImageUInt8(35,27);
+		ImageUInt8 output = new ImageUInt8(35,27);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		int boundsX[] = ImplEnhanceClahe.tileBounds(input.width,5);
+		int boundsY[] = ImplEnhanceClahe.tileBounds(input.height,3);
+
+		int transforms[][] = new int[15][256];
+		ImplEnhanceClahe.computeTransforms(input,boundsX,boundsY,3,0,15,new int[256],transforms);
+		ImplEnhanceClahe.applyTransforms(input,boundsX,boundsY,transforms,0,input.height,output);
+
+		for( int tileY = 0; tileY < 3; tileY++ ) {
+			for( int tileX = 0; tileX < 5; tileX++ ) {
+				// tiles are 7x9 so the center is at an integer coordinate
+				int x = (boundsX[tileX]+boundsX[tileX+1]-1)/2;
+				int y = (boundsY[tileY]+boundsY[tileY+1]-1)/2;
+
+				int expected = transforms[tileY*5+tileX][input.get(x,y)];
+				assertEquals(expected,output.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * Checks the transform of each tile against equalizing the clipped histogram of the tile
+	 */
+	@Test
+	public void computeTransforms() {
+		ImageUInt8 input = new ImageUInt8(30,20);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		int boundsX[] = ImplEnhanceClahe.tileBounds(input.width,3);
+		int boundsY[] = ImplEnhanceClahe.tileBounds(input.height,2);
+
+		int transforms[][] = new int[6][256];
+		// only compute a subset of the tiles
+		ImplEnhanceClahe.computeTransforms(input,boundsX,boundsY,2.5,2,5,new int[256],transforms);
+
+		int histogram[] = new int[256];
+		int expected[] = new int[256];
+		for( int tile = 0; tile < 6; tile++ ) {
+			int x0 = boundsX[tile%3], y0 = boundsY[tile/3];
+			ImplEnhanceHistogram.localHistogram(input,x0,y0,x0+10,y0+10,histogram);
+			ImplEnhanceClahe.clipHistogram(histogram,2.5,100);
+			EnhanceImageOps.equalize(histogram,expected);
+
+			for( int i = 0; i < 256; i++ ) {
+				if( tile >= 2 && tile < 5 )
+					assertEquals(expected[i],transforms[tile][i]);
+				else
+					assertEquals(0,transforms[tile][i]);
+			}
+		}
+	}
+}
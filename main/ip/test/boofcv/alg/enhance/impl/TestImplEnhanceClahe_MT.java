@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.enhance.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageUInt16;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplEnhanceClahe_MT {
+
+	Random rand = new Random(234);
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	@Test
+	public void compareToSingleThread_U8() {
+		ImageUInt8 input = new ImageUInt8(45,32);
+		ImageUInt8 expected = new ImageUInt8(45,32);
+		ImageUInt8 found = new ImageUInt8(45,32);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		int boundsX[] = ImplEnhanceClahe.tileBounds(input.width,4);
+		int boundsY[] = ImplEnhanceClahe.tileBounds(input.height,3);
+
+		int transformsA[][] = new int[12][256];
+		int transformsB[][] = new int[12][256];
+
+		ImplEnhanceClahe.computeTransforms(input,boundsX,boundsY,3,0,12,new int[256],transformsA);
+		ImplEnhanceClahe.applyTransforms(input,boundsX,boundsY,transformsA,0,input.height,expected);
+
+		ImplEnhanceClahe_MT.computeTransforms(input,boundsX,boundsY,3,256,transformsB);
+		ImplEnhanceClahe_MT.applyTransforms(input,boundsX,boundsY,transformsB,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	public void compareToSingleThread_U16() {
+		ImageUInt16 input = new ImageUInt16(45,32);
+		ImageUInt16 expected = new ImageUInt16(45,32);
+		ImageUInt16 found = new ImageUInt16(45,32);
+		ImageMiscOps.fillUniform(input,rand,0,1024);
+
+		int boundsX[] = ImplEnhanceClahe.tileBounds(input.width,4);
+		int boundsY[] = ImplEnhanceClahe.tileBounds(input.height,3);
+
+		int transformsA[][] = new int[12][1024];
+		int transformsB[][] = new int[12][1024];
+
+		ImplEnhanceClahe.computeTransforms(input,boundsX,boundsY,3,0,12,new int[1024],transformsA);
+		ImplEnhanceClahe.applyTransforms(input,boundsX,boundsY,transformsA,0,input.height,expected);
+
+		ImplEnhanceClahe_MT.computeTransforms(input,boundsX,boundsY,3,1024,transformsB);
+		ImplEnhanceClahe_MT.applyTransforms(input,boundsX,boundsY,transformsB,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+}
@@ -21,6 +21,7 @@ package boofcv.alg.filter.binary;
 import boofcv.alg.filter.binary.impl.CompareToBinaryNaive;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageBinaryPacked;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageUInt8;
 import boofcv.testing.BoofTesting;
@@ -125,6 +126,24 @@ public class TestBinaryImageOps {
 	}
 
 	
+	@Test
+	public void logic_packed() {
+		ImageUInt8 image0 = new ImageUInt8(70,6);
+		ImageUInt8 image1 = new ImageUInt8(70,6);
+		ImageMiscOps.fillUniform(image0, rand, 0, 2);
+		ImageMiscOps.fillUniform(image1, rand, 0, 2);
+
+		ImageBinaryPacked packed0 = BinaryImageOps.pack(image0,null);
+		ImageBinaryPacked packed1 = BinaryImageOps.pack(image1,null);
+
+		BoofTesting.assertEquals(BinaryImageOps.logicAnd(image0, image1, null),
+				BinaryImageOps.unpack(BinaryImageOps.logicAnd(packed0, packed1, null), null), 0);
+		BoofTesting.assertEquals(BinaryImageOps.logicOr(image0, image1, null),
+				BinaryImageOps.unpack(BinaryImageOps.logicOr(packed0, packed1, null), null), 0);
+		BoofTesting.assertEquals(BinaryImageOps.logicXor(image0, image1, null),
+				BinaryImageOps.unpack(BinaryImageOps.logicXor(packed0, packed1, null), null), 0);
+	}
+
 	@Test
 	public void compareToNaive() {
 		CompareToBinaryNaive tests = new CompareToBinaryNaive(true,BinaryImageOps.class);
@@ -135,18 +154,51 @@ public class TestBinaryImageOps {
 	 * Checks to see if multiple calls are supported correctly
 	 */
 	@Test
-	public void checkMultipleCalls() throws InvocationTargetException, IllegalAccessException {
+	public void checkMultipleCalls() throws InvocationTargetException, IllegalAccessException,
+			NoSuchMethodException
+	{
 		Method methods[] = BinaryImageOps.class.getMethods();
 
 		int numTimes = 0;
+		int numPacked = 0;
 		for( Method m : methods ) {
 			if( m.getName().contains("erode") || m.getName().contains("dilate")) {
-				checkMultipleCalls(m);
-				numTimes++;
+				if( m.getParameterTypes()[0] == ImageBinaryPacked.class ) {
+					checkMultipleCallsPacked(m);
+					numPacked++;
+				} else {
+					checkMultipleCalls(m);
+					numTimes++;
+				}
 			}
 		}
 
 		assertEquals(4,numTimes);
+		assertEquals(4,numPacked);
+	}
+
+	/**
+	 * Applies the packed operation multiple times and compares it against the same operation on
+	 * {@link ImageUInt8}
+	 */
+	public void checkMultipleCallsPacked( Method m ) throws InvocationTargetException, IllegalAccessException,
+			NoSuchMethodException
+	{
+		Method mU8 = BinaryImageOps.class.getMethod(m.getName(),ImageUInt8.class,int.class,ImageUInt8.class);
+
+		ImageUInt8 input = new ImageUInt8(70,12);
+		ImageMiscOps.fillUniform(input, rand, 0, 2);
+		ImageBinaryPacked packed = BinaryImageOps.pack(input,null);
+
+		ImageUInt8 expected = new ImageUInt8(70,12);
+		ImageBinaryPacked found = new ImageBinaryPacked(70,12);
+
+		for( int numTimes = 1; numTimes <= 3; numTimes++ ) {
+			mU8.invoke(null, input, numTimes, expected);
+			m.invoke(null, packed, numTimes, found);
+
+			BoofTesting.assertEquals(expected, BinaryImageOps.unpack(found,null), 0);
+		}
 	}
 
 	public void checkMultipleCalls( Method m ) throws InvocationTargetException, IllegalAccessException {
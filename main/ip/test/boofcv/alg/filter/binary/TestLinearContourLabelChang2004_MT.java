@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.ConnectRule;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import georegression.struct.point.Point2D_I32;
+import org.ddogleg.struct.FastQueue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLinearContourLabelChang2004_MT {
+
+	Random rand = new Random(234);
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	/**
+	 * Compare against the single threaded algorithm on random images with different densities
+	 */
+	@Test
+	public void compareToSingleThread() {
+		for( ConnectRule rule : new ConnectRule[]{ConnectRule.FOUR,ConnectRule.EIGHT} ) {
+			for( int trial = 0; trial < 50; trial++ ) {
+				int width = 1 + rand.nextInt(60);
+				int height = 1 + rand.nextInt(60);
+				double fraction = 0.2 + 0.6*rand.nextDouble();
+
+				ImageUInt8 input = new ImageUInt8(width,height);
+				for( int i = 0; i < input.data.length; i++ ) {
+					input.data[i] = (byte)(rand.nextDouble() < fraction ? 1 : 0);
+				}
+
+				compareToSingleThread(input, rule);
+				compareToSingleThread(BoofTesting.createSubImageOf(input), rule);
+			}
+		}
+	}
+
+	private void compareToSingleThread( ImageUInt8 input , ConnectRule rule ) {
+		ImageSInt32 expectedLabeled = new ImageSInt32(input.width,input.height);
+		ImageSInt32 foundLabeled = BoofTesting.createSubImageOf(new ImageSInt32(input.width,input.height));
+		ImageMiscOps.fill(foundLabeled,-2);
+
+		LinearContourLabelChang2004 expectedAlg = new LinearContourLabelChang2004(rule);
+		LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(rule);
+
+		expectedAlg.process(input,expectedLabeled);
+		alg.process(input,foundLabeled);
+
+		BoofTesting.assertEquals(expectedLabeled,foundLabeled,0);
+
+		FastQueue<Contour> expected = expectedAlg.getContours();
+		FastQueue<Contour> found = alg.getContours();
+
+		assertEquals(expected.size,found.size);
+		for( int i = 0; i < expected.size; i++ ) {
+			Contour e = expected.get(i);
+			Contour f = found.get(i);
+
+			assertEquals(e.id,f.id);
+			checkSame(e.external, f.external);
+			assertEquals(e.internal.size(),f.internal.size());
+			for( int j = 0; j < e.internal.size(); j++ ) {
+				checkSame(e.internal.get(j),f.internal.get(j));
+			}
+		}
+	}
+
+	/**
+	 * Turn off tracing of internal contours
+	 */
+	@Test
+	public void externalOnly() {
+		ImageUInt8 input = new ImageUInt8(40,35);
+		ImageMiscOps.fillUniform(input,rand,0,2);
+
+		LinearContourLabelChang2004 expectedAlg = new LinearContourLabelChang2004(ConnectRule.EIGHT);
+		LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(ConnectRule.EIGHT);
+		alg.setTraceInternal(false);
+
+		ImageSInt32 expectedLabeled = new ImageSInt32(input.width,input.height);
+		ImageSInt32 foundLabeled = new ImageSInt32(input.width,input.height);
+		expectedAlg.process(input,expectedLabeled);
+		alg.process(input,foundLabeled);
+
+		BoofTesting.assertEquals(expectedLabeled,foundLabeled,0);
+		assertEquals(expectedAlg.getContours().size,alg.getContours().size);
+		int totalInternal = 0;
+		for( int i = 0; i < alg.getContours().size; i++ ) {
+			Contour c = alg.getContours().get(i);
+			checkSame(expectedAlg.getContours().get(i).external,c.external);
+			totalInternal += expectedAlg.getContours().get(i).internal.size();
+			assertEquals(0,c.internal.size());
+		}
+		// make sure the test is meaningful
+		assertTrue(totalInternal > 0);
+	}
+
+	/**
+	 * Only label the image and compute statistics
+	 */
+	@Test
+	public void statistics() {
+		ImageUInt8 input = new ImageUInt8(40,35);
+		ImageMiscOps.fillUniform(input,rand,0,2);
+
+		LinearContourLabelChang2004_MT alg = new LinearContourLabelChang2004_MT(ConnectRule.FOUR);
+		alg.setTraceExternal(false);
+		alg.setTraceInternal(false);
+		alg.setComputeStatistics(true);
+
+		ImageSInt32 labeled = new ImageSInt32(input.width,input.height);
+		alg.process(input,labeled);
+
+		int numBlobs = alg.getContours().size;
+		assertEquals(numBlobs,alg.getStatistics().size);
+		assertTrue(numBlobs > 10);
+
+		for( int i = 0; i < numBlobs; i++ ) {
+			assertEquals(0,alg.getContours().get(i).external.size());
+
+			BlobStatistics found = alg.getStatistics().get(i);
+			assertEquals(i+1,found.id);
+
+			int area = 0;
+			double sumX = 0, sumY = 0;
+			int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE;
+			int maxX = -1, maxY = -1;
+			for( int y = 0; y < labeled.height; y++ ) {
+				for( int x = 0; x < labeled.width; x++ ) {
+					if( labeled.get(x,y) != i+1 )
+						continue;
+					area++;
+					sumX += x; sumY += y;
+					minX = Math.min(minX,x); maxX = Math.max(maxX,x);
+					minY = Math.min(minY,y); maxY = Math.max(maxY,y);
+				}
+			}
+
+			assertEquals(area,found.area);
+			assertEquals(minX,found.minX);
+			assertEquals(minY,found.minY);
+			assertEquals(maxX,found.maxX);
+			assertEquals(maxY,found.maxY);
+			assertEquals(sumX/area,found.centerX,1e-8);
+			assertEquals(sumY/area,found.centerY,1e-8);
+		}
+	}
+
+	private void checkSame( List<Point2D_I32> expected , List<Point2D_I32> found ) {
+		assertEquals(expected.size(),found.size());
+		for( int i = 0; i < expected.size(); i++ ) {
+			assertEquals(expected.get(i).x,found.get(i).x);
+			assertEquals(expected.get(i).y,found.get(i).y);
+		}
+	}
+}
@@ -53,7 +53,7 @@ public class TestThresholdImageOps {
 		Method[] list = ThresholdImageOps.class.getMethods();
 
 		for( Method m : list ) {
-			if( !m.getName().equals("adaptiveSquare"))
+			if( !m.getName().equals("adaptiveSquare") || m.isAnnotationPresent(Deprecated.class) )
 				continue;
 
 			Class param[] = m.getParameterTypes();
@@ -81,14 +81,14 @@ public class TestThresholdImageOps {
 
 				ImageMiscOps.fillUniform(output,rand,0,200);
 				ImageMiscOps.fillUniform(expected,rand,0,200);
-				m.invoke(null,input,output,radius,bias,true,null,null);
+				m.invoke(null,input,output,radius,bias,true);
 				naiveAdaptiveSquare(input, expected, radius, bias, true);
 
 				BoofTesting.assertEquals(expected,output,0);
 
 				ImageMiscOps.fillUniform(output,rand,0,200);
 				ImageMiscOps.fillUniform(expected,rand,0,200);
-				m.invoke(null,input,output,radius,bias,false,null,null);
+				m.invoke(null,input,output,radius,bias,false);
 				naiveAdaptiveSquare(input, expected, radius, bias, false);
 
 				BoofTesting.assertEquals(expected,output,0);
@@ -132,6 +132,147 @@ public class TestThresholdImageOps {
 		}
 	}
 
+	/**
+	 * The deprecated functions should produce the same results
+	 */
+	@Test
+	public void adaptiveSquare_deprecated() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		ImageUInt8 expected = ThresholdImageOps.adaptiveSquare(input,null,3,-5,true);
+		ImageUInt8 found = ThresholdImageOps.adaptiveSquare(input,null,3,-5,true,null,null);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * The deprecated function computes the mean first, so the output can be the input
+	 */
+	@Test
+	public void adaptiveSquare_deprecated_inplace() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		ImageUInt8 expected = ThresholdImageOps.adaptiveSquare(input,null,3,-5,true);
+		ThresholdImageOps.adaptiveSquare(input,input,3,-5,true,null,null);
+
+		BoofTesting.assertEquals(expected,input,0);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void adaptiveSquare_inplace() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ThresholdImageOps.adaptiveSquare(input,input,3,-5,true);
+	}
+
+	/**
+	 * A sub-image of the input shares its data and can't be used as the output either
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void adaptiveSquare_inplace_subimage() {
+		ImageUInt8 larger = new ImageUInt8(width+2,height+2);
+		ImageUInt8 input = larger.subimage(0,0,width,height,null);
+		ImageUInt8 output = larger.subimage(2,2,width+2,height+2,null);
+		ThresholdImageOps.adaptiveSquare(input,output,3,-5,true);
+	}
+
+	@Test
+	public void adaptiveBlockMinMax() {
+		int total = 0;
+		Method[] list = ThresholdImageOps.class.getMethods();
+
+		for( Method m : list ) {
+			if( !m.getName().equals("adaptiveBlockMinMax"))
+				continue;
+
+			Class param[] = m.getParameterTypes();
+
+			ImageSingleBand input = GeneralizedImageOps.createSingleBand(param[0], width, height);
+			ImageUInt8 output = new ImageUInt8(width,height);
+
+			// uneven lighting with a small region that has almost no variation
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width; x++ ) {
+					double value = x*4 + rand.nextInt(60);
+					if( y < 6 && x < 6 )
+						value = 100 + rand.nextInt(3);
+					GeneralizedImageOps.set(input,x,y,value);
+				}
+			}
+
+			BoofTesting.checkSubImage(this,"performAdaptiveBlockMinMax",true,m,input,output);
+			total++;
+		}
+
+		assertEquals(2, total);
+	}
+
+	public void performAdaptiveBlockMinMax( Method m , ImageSingleBand input , ImageUInt8 output )
+			throws InvocationTargetException, IllegalAccessException
+	{
+		ImageUInt8 expected = new ImageUInt8(output.width,output.height);
+
+		for( int blockWidth = 3; blockWidth <= 7; blockWidth++ ) {
+			for( int spread = 0; spread <= 10; spread += 10 ) {
+				for( int i = 0; i < 2; i++ ) {
+					boolean down = i == 0;
+
+					ImageMiscOps.fillUniform(output,rand,0,200);
+					m.invoke(null,input,output,blockWidth,spread,down);
+					naiveAdaptiveBlockMinMax(input, expected, blockWidth, spread, down);
+
+					BoofTesting.assertEquals(expected,output,0);
+				}
+			}
+		}
+	}
+
+	public void naiveAdaptiveBlockMinMax(ImageSingleBand input, ImageUInt8 output,
+										 int blockWidth, double minimumSpread, boolean down) {
+
+		int blocksX = Math.max(1,input.width/blockWidth);
+		int blocksY = Math.max(1,input.height/blockWidth);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int by = Math.min(blocksY-1,y/blockWidth);
+			int y0 = Math.max(0,by-1)*blockWidth;
+			int y1 = by+1 >= blocksY-1 ? input.height : (by+2)*blockWidth;
+
+			for( int x = 0; x < input.width; x++ ) {
+				int bx = Math.min(blocksX-1,x/blockWidth);
+				int x0 = Math.max(0,bx-1)*blockWidth;
+				int x1 = bx+1 >= blocksX-1 ? input.width : (bx+2)*blockWidth;
+
+				double min = Double.MAX_VALUE;
+				double max = -Double.MAX_VALUE;
+				for( int i = y0; i < y1; i++ ) {
+					for( int j = x0; j < x1; j++ ) {
+						double v = GeneralizedImageOps.get(input,j,i);
+						min = Math.min(min,v);
+						max = Math.max(max,v);
+					}
+				}
+
+				if( max-min < minimumSpread ) {
+					output.set(x,y,0);
+					continue;
+				}
+
+				double threshold = (min+max)/2;
+				if( input instanceof ImageUInt8 )
+					threshold = (int)threshold;
+
+				double v = GeneralizedImageOps.get(input,x,y);
+				if( down ) {
+					output.set(x,y, v <= threshold ? 1 : 0);
+				} else {
+					output.set(x,y, v >= threshold ? 1 : 0);
+				}
+			}
+		}
+	}
+
 	@Test
 	public void adaptiveGaussian() {
 		int total = 0;
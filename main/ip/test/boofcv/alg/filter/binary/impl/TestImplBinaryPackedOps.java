@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageBinaryPacked;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplBinaryPackedOps {
+
+	Random rand = new Random(234);
+
+	// widths which test partial words, a full word, and multiple words
+	int widths[] = new int[]{1,7,63,64,65,130};
+	int height = 15;
+
+	@Test
+	public void compareToNaive() {
+		String names[] = new String[]{"erode4","dilate4","edge4","erode8","dilate8","edge8","removePointNoise"};
+
+		for( String name : names ) {
+			try {
+				Method naive = ImplBinaryNaiveOps.class.getMethod(name,ImageUInt8.class,ImageUInt8.class);
+				Method packed = ImplBinaryPackedOps.class.getMethod(name,ImageBinaryPacked.class,ImageBinaryPacked.class);
+
+				for( int width : widths ) {
+					compareToNaive(naive, packed, width, false);
+					compareToNaive(naive, packed, width, true);
+				}
+			} catch( Exception e ) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	private void compareToNaive( Method naive , Method packed , int width , boolean inplace ) throws Exception {
+		for( int trial = 0; trial < 5; trial++ ) {
+			ImageUInt8 input = new ImageUInt8(width,height);
+			// vary the density so that erode and dilate produce interesting results
+			double fraction = trial/4.0;
+			for( int i = 0; i < input.data.length; i++ ) {
+				input.data[i] = (byte)(rand.nextDouble() < fraction ? 1 : 0);
+			}
+			ImageUInt8 expected = new ImageUInt8(width,height);
+			naive.invoke(null,input,expected);
+
+			ImageBinaryPacked packedIn = new ImageBinaryPacked(width,height);
+			ImplBinaryPackedOps.pack(input, packedIn);
+			ImageBinaryPacked packedOut = inplace ? packedIn : new ImageBinaryPacked(width,height);
+			packed.invoke(null,packedIn,packedOut);
+
+			checkPadding(packedOut);
+
+			ImageUInt8 found = new ImageUInt8(width,height);
+			ImplBinaryPackedOps.unpack(packedOut, found);
+
+			BoofTesting.assertEquals(expected, found, 0);
+		}
+	}
+
+	@Test
+	public void logic() {
+		for( int width : widths ) {
+			ImageBinaryPacked a = random(width, height);
+			ImageBinaryPacked b = random(width, height);
+			ImageBinaryPacked and = new ImageBinaryPacked(width,height);
+			ImageBinaryPacked or = new ImageBinaryPacked(width,height);
+			ImageBinaryPacked xor = new ImageBinaryPacked(width,height);
+
+			ImplBinaryPackedOps.logicAnd(a,b,and);
+			ImplBinaryPackedOps.logicOr(a,b,or);
+			ImplBinaryPackedOps.logicXor(a,b,xor);
+
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width; x++ ) {
+					int va = a.get(x,y), vb = b.get(x,y);
+					assertEquals(va & vb, and.get(x,y));
+					assertEquals(va | vb, or.get(x,y));
+					assertEquals(va ^ vb, xor.get(x,y));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void pack_unpack() {
+		for( int width : widths ) {
+			ImageUInt8 input = new ImageUInt8(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,5);
+
+			ImageBinaryPacked packed = new ImageBinaryPacked(width,height);
+			ImplBinaryPackedOps.pack(input, packed);
+			checkPadding(packed);
+
+			ImageUInt8 found = new ImageUInt8(width,height);
+			ImplBinaryPackedOps.unpack(packed, found);
+
+			for( int y = 0; y < height; y++ ) {
+				for( int x = 0; x < width; x++ ) {
+					int expected = input.get(x,y) != 0 ? 1 : 0;
+					assertEquals(expected,packed.get(x,y));
+					assertEquals(expected,found.get(x,y));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Makes sure pack and unpack work with sub-images
+	 */
+	@Test
+	public void pack_unpack_subimage() {
+		ImageUInt8 input = new ImageUInt8(70,height);
+		ImageMiscOps.fillUniform(input,rand,0,2);
+		ImageUInt8 sub = BoofTesting.createSubImageOf(input);
+
+		ImageBinaryPacked packed = new ImageBinaryPacked(70,height);
+		ImplBinaryPackedOps.pack(sub, packed);
+
+		ImageUInt8 found = BoofTesting.createSubImageOf(new ImageUInt8(70,height));
+		ImplBinaryPackedOps.unpack(packed, found);
+
+		BoofTesting.assertEquals(input, found, 0);
+	}
+
+	private ImageBinaryPacked random( int width , int height ) {
+		ImageBinaryPacked ret = new ImageBinaryPacked(width,height);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				ret.set(x,y,rand.nextInt(2));
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * Bits outside the image must always be zero
+	 */
+	private void checkPadding( ImageBinaryPacked image ) {
+		long mask = image.getLastWordMask();
+		for( int y = 0; y < image.height; y++ ) {
+			assertEquals(0, image.data[(y+1)*image.stride-1] & ~mask);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.filter.binary.ThresholdImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.misc.ImageStatistics;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Correctness of the thresholds is tested in {@link boofcv.alg.filter.binary.TestThresholdImageOps}.  Here
+ * processing subsets of the image is tested.
+ *
+ * @author Peter Abeles
+ */
+public class TestImplThresholdAdaptive {
+
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 25;
+
+	@Test
+	public void numBlocks() {
+		assertEquals(1,ImplThresholdAdaptive.numBlocks(3,5));
+		assertEquals(1,ImplThresholdAdaptive.numBlocks(9,5));
+		assertEquals(2,ImplThresholdAdaptive.numBlocks(10,5));
+	}
+
+	/**
+	 * Process the rows in several pieces and see if it produces the same result as doing it all at once
+	 */
+	@Test
+	public void squareMean_rowRange() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		ImageUInt8 expected = ThresholdImageOps.adaptiveSquare(input,null,4,0,true);
+		ImageUInt8 found = new ImageUInt8(width,height);
+
+		int columnSums[] = new int[width];
+		int rowMeans[] = new int[width];
+		ImplThresholdAdaptive.squareMean(input,4,0,true,0,3,columnSums,rowMeans,found);
+		ImplThresholdAdaptive.squareMean(input,4,0,true,3,11,columnSums,rowMeans,found);
+		ImplThresholdAdaptive.squareMean(input,4,0,true,11,height,columnSums,rowMeans,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * Radius larger than the image
+	 */
+	@Test
+	public void squareMean_largeRadius() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		// the mean of each row is rounded before the mean of the rows is computed
+		int total = 0;
+		for( int y = 0; y < height; y++ ) {
+			int rowTotal = 0;
+			for( int x = 0; x < width; x++ )
+				rowTotal += input.get(x,y);
+			total += (rowTotal + width/2)/width;
+		}
+		int mean = (total + height/2)/height;
+
+		ImageUInt8 found = new ImageUInt8(width,height);
+		ImplThresholdAdaptive.squareMean(input,100,0,true,0,height,new int[width],new int[width],found);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(input.get(x,y) <= mean ? 1 : 0, found.get(x,y));
+			}
+		}
+	}
+
+	/**
+	 * Blocks with a small spread should be set to zero
+	 */
+	@Test
+	public void blockThreshold_spread() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input,rand,100,105);
+
+		int blocksX = ImplThresholdAdaptive.numBlocks(width,5);
+		int blocksY = ImplThresholdAdaptive.numBlocks(height,5);
+		int min[] = new int[blocksX*blocksY];
+		int max[] = new int[blocksX*blocksY];
+
+		ImageUInt8 found = new ImageUInt8(width,height);
+		ImplThresholdAdaptive.blockMinMax(input,5,0,blocksY,min,max);
+
+		ImplThresholdAdaptive.blockThreshold(input,5,10,true,0,blocksY,min,max,found);
+		assertEquals(0, ImageStatistics.sum(found));
+
+		ImplThresholdAdaptive.blockThreshold(input,5,2,true,0,blocksY,min,max,found);
+		assertTrue(ImageStatistics.sum(found) > 0);
+	}
+}
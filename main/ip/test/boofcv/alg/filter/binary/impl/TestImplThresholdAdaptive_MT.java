@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplThresholdAdaptive_MT {
+
+	Random rand = new Random(234);
+
+	int width = 45;
+	int height = 32;
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	@Test
+	public void squareMean_U8() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		ImageUInt8 expected = new ImageUInt8(width,height);
+		ImageUInt8 found = new ImageUInt8(width,height);
+
+		for( int radius = 1; radius < 6; radius += 2 ) {
+			ImplThresholdAdaptive.squareMean(input,radius,-3,true,0,height,new int[width],new int[width],expected);
+			ImplThresholdAdaptive_MT.squareMean(input,radius,-3,true,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void squareMean_F32() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		// integer values so that the sums are exact no matter which order they are computed in
+		for( int i = 0; i < input.data.length; i++ ) {
+			input.data[i] = rand.nextInt(256);
+		}
+
+		ImageUInt8 expected = new ImageUInt8(width,height);
+		ImageUInt8 found = new ImageUInt8(width,height);
+
+		for( int radius = 1; radius < 6; radius += 2 ) {
+			ImplThresholdAdaptive.squareMean(input,radius,2,false,0,height,new float[width],expected);
+			ImplThresholdAdaptive_MT.squareMean(input,radius,2,false,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void blockMinMax_U8() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		ImageUInt8 expected = new ImageUInt8(width,height);
+		ImageUInt8 found = new ImageUInt8(width,height);
+
+		int blocksX = ImplThresholdAdaptive.numBlocks(width,5);
+		int blocksY = ImplThresholdAdaptive.numBlocks(height,5);
+		int min[] = new int[blocksX*blocksY];
+		int max[] = new int[blocksX*blocksY];
+
+		ImplThresholdAdaptive.blockMinMax(input,5,0,blocksY,min,max);
+		ImplThresholdAdaptive.blockThreshold(input,5,20,true,0,blocksY,min,max,expected);
+		ImplThresholdAdaptive_MT.blockMinMax(input,5,20,true,new int[min.length],new int[max.length],found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	public void blockMinMax_F32() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,256);
+
+		ImageUInt8 expected = new ImageUInt8(width,height);
+		ImageUInt8 found = new ImageUInt8(width,height);
+
+		int blocksX = ImplThresholdAdaptive.numBlocks(width,5);
+		int blocksY = ImplThresholdAdaptive.numBlocks(height,5);
+		float min[] = new float[blocksX*blocksY];
+		float max[] = new float[blocksX*blocksY];
+
+		ImplThresholdAdaptive.blockMinMax(input,5,0,blocksY,min,max);
+		ImplThresholdAdaptive.blockThreshold(input,5,20,false,0,blocksY,min,max,expected);
+		ImplThresholdAdaptive_MT.blockMinMax(input,5,20,false,new float[min.length],new float[max.length],found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+}
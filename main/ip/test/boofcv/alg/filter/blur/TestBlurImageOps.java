@@ -176,4 +176,86 @@ public class TestBlurImageOps {
 			BoofTesting.assertEquals(expected,found,1e-4);
 		}
 	}
+
+	@Test
+	public void gaussianRecursive_U8() {
+		ImageUInt8 input = new ImageUInt8(60,50);
+		ImageUInt8 expected = new ImageUInt8(60,50);
+		ImageUInt8 found = new ImageUInt8(60,50);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( double sigma : new double[]{1.5,3} ) {
+			int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+			BlurImageOps.gaussian(input,expected,sigma,radius,null);
+			BlurImageOps.gaussianRecursive(input,found,sigma);
+
+			BoofTesting.assertEqualsInner(expected,found,3,radius,radius,false);
+		}
+	}
+
+	@Test
+	public void gaussianRecursive_F32() {
+		ImageFloat32 input = new ImageFloat32(60,50);
+		ImageFloat32 expected = new ImageFloat32(60,50);
+		ImageFloat32 found = new ImageFloat32(60,50);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( double sigma : new double[]{1.5,3} ) {
+			int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+			BlurImageOps.gaussian(input,expected,sigma,radius,null);
+			BlurImageOps.gaussianRecursive(input,found,sigma);
+
+			BoofTesting.assertEqualsInner(expected,found,3,radius,radius,false);
+		}
+	}
+
+	@Test
+	public void gaussianBox_U8() {
+		ImageUInt8 input = new ImageUInt8(60,50);
+		ImageUInt8 expected = new ImageUInt8(60,50);
+		ImageUInt8 found = new ImageUInt8(60,50);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( double sigma : new double[]{1.5,3} ) {
+			int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+			BlurImageOps.gaussian(input,expected,sigma,radius,null);
+			BlurImageOps.gaussianBox(input,found,sigma,3,null);
+
+			BoofTesting.assertEqualsInner(expected,found,4,radius,radius,false);
+		}
+	}
+
+	@Test
+	public void gaussianBox_F32() {
+		ImageFloat32 input = new ImageFloat32(60,50);
+		ImageFloat32 expected = new ImageFloat32(60,50);
+		ImageFloat32 found = new ImageFloat32(60,50);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( double sigma : new double[]{1.5,3} ) {
+			int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+			BlurImageOps.gaussian(input,expected,sigma,radius,null);
+
+			for( int numPasses = 3; numPasses <= 4; numPasses++ ) {
+				BlurImageOps.gaussianBox(input,found,sigma,numPasses,null);
+				BoofTesting.assertEqualsInner(expected,found,3,radius,radius,false);
+			}
+		}
+	}
+
+	/**
+	 * The box filter is larger than the image
+	 */
+	@Test
+	public void gaussianBox_smallImage() {
+		ImageFloat32 input = new ImageFloat32(6,4);
+		ImageMiscOps.fill(input,5);
+
+		ImageFloat32 found = BlurImageOps.gaussianBox(input,null,10,3,null);
+		BoofTesting.assertEquals(input,found,1e-4);
+	}
 }
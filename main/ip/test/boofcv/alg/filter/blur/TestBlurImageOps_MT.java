@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.filter.blur.impl.ImplGaussianRecursive;
+import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
+import boofcv.alg.filter.convolve.ConvolveImageMean;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBlurImageOps_MT {
+
+	Random rand = new Random(234);
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	@Test
+	public void median_U8() {
+		ImageUInt8 input = new ImageUInt8(25,40);
+		ImageUInt8 found = new ImageUInt8(25,40);
+		ImageUInt8 expected = new ImageUInt8(25,40);
+
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		for( int radius = 1; radius <= 5; radius++ ) {
+			ImplMedianSortNaive.process(input,expected,radius,null);
+			BlurImageOps_MT.median(input,found,radius);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void gaussianRecursive_U8() {
+		ImageUInt8 input = new ImageUInt8(25,40);
+		ImageUInt8 found = new ImageUInt8(25,40);
+		ImageUInt8 expected = new ImageUInt8(25,40);
+
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		ImplGaussianRecursive alg = new ImplGaussianRecursive(2.5);
+		alg.horizontal(input,expected,0,40);
+		alg.vertical(expected,expected,0,25);
+		BlurImageOps_MT.gaussianRecursive(input,found,2.5);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	@Test
+	public void gaussianRecursive_F32() {
+		ImageFloat32 input = new ImageFloat32(25,40);
+		ImageFloat32 found = new ImageFloat32(25,40);
+		ImageFloat32 expected = new ImageFloat32(25,40);
+
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		ImplGaussianRecursive alg = new ImplGaussianRecursive(2.5);
+		alg.horizontal(input,expected,0,40);
+		alg.vertical(expected,expected,0,25);
+		BlurImageOps_MT.gaussianRecursive(input,found,2.5);
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+
+	@Test
+	public void gaussianBox_U8() {
+		ImageUInt8 input = new ImageUInt8(25,40);
+		ImageUInt8 found = new ImageUInt8(25,40);
+		ImageUInt8 expected = new ImageUInt8(25,40);
+		ImageUInt8 storage = new ImageUInt8(25,40);
+
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		int radius[] = FactoryKernelGaussian.boxRadiusForSigma(3,3);
+		ConvolveImageMean.horizontal(input,expected,radius[0]);
+		ConvolveImageMean.horizontal(expected,storage,radius[1]);
+		ConvolveImageMean.horizontal(storage,expected,radius[2]);
+		ConvolveImageMean.vertical(expected,storage,radius[0]);
+		ConvolveImageMean.vertical(storage,expected,radius[1]);
+		ConvolveImageMean.vertical(expected,storage,radius[2]);
+
+		BlurImageOps_MT.gaussianBox(input,found,3,3,null);
+
+		BoofTesting.assertEquals(storage,found,0);
+	}
+
+	@Test
+	public void gaussianBox_F32() {
+		ImageFloat32 input = new ImageFloat32(25,40);
+		ImageFloat32 found = new ImageFloat32(25,40);
+		ImageFloat32 expected = new ImageFloat32(25,40);
+		ImageFloat32 storage = new ImageFloat32(25,40);
+
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		int radius[] = FactoryKernelGaussian.boxRadiusForSigma(3,3);
+		ConvolveImageMean.horizontal(input,expected,radius[0]);
+		ConvolveImageMean.horizontal(expected,storage,radius[1]);
+		ConvolveImageMean.horizontal(storage,expected,radius[2]);
+		ConvolveImageMean.vertical(expected,storage,radius[0]);
+		ConvolveImageMean.vertical(storage,expected,radius[1]);
+		ConvolveImageMean.vertical(expected,storage,radius[2]);
+
+		BlurImageOps_MT.gaussianBox(input,found,3,3,null);
+
+		BoofTesting.assertEquals(storage,found,1e-4);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.DirectImageFloat32;
+import boofcv.struct.image.DirectImageUInt8;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDirectBlurImageOps {
+
+	Random rand = new Random(234);
+	int width = 25;
+	int height = 30;
+
+	@Test
+	public void mean() {
+		ImageUInt8 input = new ImageUInt8(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		ImageUInt8 expected = BlurImageOps.mean(input, null, 2, null);
+		DirectImageUInt8 found = DirectBlurImageOps.mean(toDirect(input), null, 2);
+
+		BoofTesting.assertEquals(expected, toArray(found), 0);
+	}
+
+	@Test
+	public void median() {
+		ImageUInt8 input = new ImageUInt8(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		ImageUInt8 expected = BlurImageOps.median(input, null, 2);
+		DirectImageUInt8 found = DirectBlurImageOps.median(toDirect(input), null, 2);
+
+		BoofTesting.assertEquals(expected, toArray(found), 0);
+	}
+
+	@Test
+	public void gaussian() {
+		ImageFloat32 input = new ImageFloat32(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+
+		ImageFloat32 expected = BlurImageOps.gaussian(input, null, 1.5, -1, null);
+		DirectImageFloat32 directIn = new DirectImageFloat32(width, height);
+		directIn.copyFrom(input);
+		DirectImageFloat32 found = DirectBlurImageOps.gaussian(directIn, null, 1.5, -1);
+
+		ImageFloat32 foundArray = new ImageFloat32(width, height);
+		found.copyTo(foundArray);
+		BoofTesting.assertEquals(expected, foundArray, 1e-4);
+	}
+
+	private DirectImageUInt8 toDirect( ImageUInt8 image ) {
+		DirectImageUInt8 ret = new DirectImageUInt8(image.width, image.height);
+		ret.copyFrom(image);
+		return ret;
+	}
+
+	private ImageUInt8 toArray( DirectImageUInt8 image ) {
+		ImageUInt8 ret = new ImageUInt8(image.width, image.height);
+		image.copyTo(ret);
+		return ret;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.filter.convolve.ConvolveWithBorder;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderIndex1D_Extend;
+import boofcv.core.image.border.ImageBorder1D_F32;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplGaussianRecursive {
+
+	Random rand = new Random(234);
+
+	int width = 60;
+	int height = 50;
+
+	double sigmas[] = new double[]{0.5,1,2.5,4,10};
+
+	/**
+	 * Compare against convolution with a Gaussian kernel
+	 */
+	@Test
+	public void compareToKernel() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+		ImageBorder1D_F32 border = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		for( double sigma : new double[]{2.5,4,10} ) {
+			ImplGaussianRecursive alg = new ImplGaussianRecursive(sigma);
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,(int)(sigma*5));
+
+			alg.horizontal(input,found,0,height);
+			ConvolveWithBorder.horizontal(kernel,input,expected,border);
+			checkApproximate(expected,found);
+
+			alg.vertical(input,found,0,width);
+			ConvolveWithBorder.vertical(kernel,input,expected,border);
+			checkApproximate(expected,found);
+		}
+	}
+
+	private void checkApproximate( ImageFloat32 expected , ImageFloat32 found ) {
+		double total = 0;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				double error = Math.abs(expected.get(x,y)-found.get(x,y));
+				assertTrue(error < 2);
+				total += error;
+			}
+		}
+		assertTrue(total/(width*height) < 0.5);
+	}
+
+	/**
+	 * The border is handled as if the image was extended.  Compare against an image which has been explicitly
+	 * extended far enough for the filter's response to die out
+	 */
+	@Test
+	public void border() {
+		int pad = 200;
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageFloat32 padded = new ImageFloat32(width+2*pad,height+2*pad);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width+2*pad,height+2*pad);
+
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		for( int y = 0; y < padded.height; y++ ) {
+			for( int x = 0; x < padded.width; x++ ) {
+				int xx = Math.min(width-1,Math.max(0,x-pad));
+				int yy = Math.min(height-1,Math.max(0,y-pad));
+				padded.set(x,y,input.get(xx,yy));
+			}
+		}
+		ImageFloat32 inner = expected.subimage(pad,pad,pad+width,pad+height,null);
+
+		for( double sigma : sigmas ) {
+			ImplGaussianRecursive alg = new ImplGaussianRecursive(sigma);
+
+			alg.horizontal(input,found,0,height);
+			alg.horizontal(padded,expected,0,padded.height);
+			BoofTesting.assertEquals(inner,found,1e-2);
+
+			alg.vertical(input,found,0,width);
+			alg.vertical(padded,expected,0,padded.width);
+			BoofTesting.assertEquals(inner,found,1e-2);
+		}
+	}
+
+	/**
+	 * Constant images should not be modified
+	 */
+	@Test
+	public void constant() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageMiscOps.fill(input,50);
+
+		for( double sigma : sigmas ) {
+			ImplGaussianRecursive alg = new ImplGaussianRecursive(sigma);
+
+			alg.horizontal(input,found,0,height);
+			BoofTesting.assertEquals(input,found,1e-2);
+			alg.vertical(input,found,0,width);
+			BoofTesting.assertEquals(input,found,1e-2);
+		}
+	}
+
+	/**
+	 * Process only part of the image and use the same image for input and output
+	 */
+	@Test
+	public void partial_inplace() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		ImplGaussianRecursive alg = new ImplGaussianRecursive(3);
+
+		ImageFloat32 found = input.clone();
+		alg.horizontal(input,expected,0,height);
+		alg.horizontal(found,found,0,20);
+		alg.horizontal(found,found,20,height);
+		BoofTesting.assertEquals(expected,found,1e-4);
+
+		found = input.clone();
+		alg.vertical(input,expected,0,width);
+		alg.vertical(found,found,0,7);
+		alg.vertical(found,found,7,width);
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+
+	/**
+	 * Images which are smaller than the filter's state
+	 */
+	@Test
+	public void tinyImage() {
+		for( int length = 1; length <= 3; length++ ) {
+			ImageFloat32 input = new ImageFloat32(length,length);
+			ImageMiscOps.fill(input,20);
+			ImageFloat32 found = new ImageFloat32(length,length);
+
+			ImplGaussianRecursive alg = new ImplGaussianRecursive(2);
+			alg.horizontal(input,found,0,length);
+			alg.vertical(found,found,0,length);
+
+			BoofTesting.assertEquals(input,found,1e-2);
+		}
+	}
+
+	@Test
+	public void compare_U8_F32() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageUInt8 found = new ImageUInt8(width,height);
+		ImageFloat32 inputF = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+
+		ImageMiscOps.fillUniform(input,rand,0,256);
+		// the filter will overshoot and needs to be bounded
+		ImageMiscOps.fill(input.subimage(10,10,20,20,null),255);
+		ImageMiscOps.fill(input.subimage(30,30,40,40,null),0);
+		for( int i = 0; i < input.data.length; i++ )
+			inputF.data[i] = input.data[i] & 0xFF;
+
+		for( double sigma : sigmas ) {
+			ImplGaussianRecursive alg = new ImplGaussianRecursive(sigma);
+
+			alg.horizontal(input,found,0,height);
+			alg.horizontal(inputF,expected,0,height);
+			checkU8(expected,found);
+
+			alg.vertical(input,found,0,width);
+			alg.vertical(inputF,expected,0,width);
+			checkU8(expected,found);
+		}
+	}
+
+	private void checkU8( ImageFloat32 expected , ImageUInt8 found ) {
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				float e = Math.max(0,Math.min(255,expected.get(x,y)));
+				assertEquals(e,found.get(x,y),0.51);
+			}
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void sigmaTooSmall() {
+		new ImplGaussianRecursive(0.4);
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianHistogramConstant {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSort() {
+		ImageUInt8 image = new ImageUInt8(40,50);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		ImageUInt8 found = new ImageUInt8( image.width , image.height );
+		ImageUInt8 expected = new ImageUInt8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSort", true, image, found, expected);
+	}
+
+	public void compareToSort(ImageUInt8 image, ImageUInt8 found, ImageUInt8 expected) {
+		for( int radius = 1; radius <= 12; radius++ ) {
+
+			ImplMedianHistogramConstant.process(image,found,radius,null);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEqualsInner(expected, found, 0, radius, radius, false);
+		}
+	}
+
+	/**
+	 * Few distinct values, so the median often stays in the same coarse bin
+	 */
+	@Test
+	public void fewValues() {
+		ImageUInt8 image = new ImageUInt8(60,25);
+		ImageMiscOps.fillUniform(image,rand, 30, 36);
+
+		ImageUInt8 found = new ImageUInt8( image.width , image.height );
+		ImageUInt8 expected = new ImageUInt8( image.width , image.height );
+
+		for( int radius = 1; radius <= 5; radius++ ) {
+			ImplMedianHistogramConstant.process(image,found,radius,null);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEqualsInner(expected, found, 0, radius, radius, false);
+		}
+	}
+
+	/**
+	 * Image is smaller than the filter
+	 */
+	@Test
+	public void smallImage() {
+		ImageUInt8 image = new ImageUInt8(4,10);
+		ImageUInt8 found = new ImageUInt8( image.width , image.height );
+
+		ImplMedianHistogramConstant.process(image,found,2,null);
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianSortNetwork {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSort() {
+		ImageUInt8 image = new ImageUInt8(20,30);
+		ImageMiscOps.fillUniform(image,rand, 0, 100);
+
+		ImageUInt8 found = new ImageUInt8( image.width , image.height );
+		ImageUInt8 expected = new ImageUInt8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSort", true, image, found, expected);
+	}
+
+	public void compareToSort(ImageUInt8 image, ImageUInt8 found, ImageUInt8 expected) {
+		for( int radius = 1; radius <= 2; radius++ ) {
+
+			ImplMedianSortNetwork.process(image,found,radius);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEqualsInner(expected, found, 0, radius, radius, false);
+		}
+	}
+
+	@Test
+	public void median9() {
+		checkMedian(9);
+	}
+
+	@Test
+	public void median25() {
+		checkMedian(25);
+	}
+
+	private void checkMedian( int N ) {
+		int p[] = new int[N];
+		int sorted[] = new int[N];
+
+		for( int trial = 0; trial < 1000; trial++ ) {
+			// small range of values so that there are duplicates
+			for( int i = 0; i < N; i++ ) {
+				p[i] = sorted[i] = rand.nextInt(20);
+			}
+			Arrays.sort(sorted);
+
+			int found = N == 9 ? ImplMedianSortNetwork.median9(p) : ImplMedianSortNetwork.median25(p);
+			assertEquals(sorted[N/2],found);
+		}
+	}
+}
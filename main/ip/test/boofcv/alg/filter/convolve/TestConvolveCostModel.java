@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel2D_F32;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveCostModel {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void selectTileLength() {
+		for( int kernel : new int[]{1,3,21,101,2001} ) {
+			for( int image : new int[]{1,10,100,640,5000} ) {
+				int found = ConvolveCostModel.selectTileLength(kernel,image);
+
+				// power of two which can contain the kernel
+				assertEquals(0,found & (found-1));
+				assertTrue(found >= kernel);
+				// not excessively large
+				assertTrue(found <= Math.max(ConvolveCostModel.MAX_TILE_LENGTH,2*kernel));
+			}
+		}
+	}
+
+	@Test
+	public void select2D() {
+		Kernel2D_F32 small = FactoryKernel.random2D_F32(1,-1,1,rand);
+		Kernel2D_F32 medium = FactoryKernel.random2D_F32(3,-1,1,rand);
+		Kernel2D_F32 large = FactoryKernel.random2D_F32(20,-1,1,rand);
+
+		assertTrue(ConvolveMethod.DIRECT == ConvolveCostModel.select(small,false,640,480));
+		assertTrue(ConvolveMethod.SEPARABLE == ConvolveCostModel.select(medium,true,640,480));
+		assertTrue(ConvolveMethod.FOURIER == ConvolveCostModel.select(large,false,640,480));
+	}
+
+	@Test
+	public void select1D() {
+		assertTrue(ConvolveMethod.DIRECT == ConvolveCostModel.select(5,true,640,480));
+		assertTrue(ConvolveMethod.DIRECT == ConvolveCostModel.select(5,false,640,480));
+		assertTrue(ConvolveMethod.FOURIER == ConvolveCostModel.select(101,true,640,480));
+		assertTrue(ConvolveMethod.FOURIER == ConvolveCostModel.select(101,false,640,480));
+	}
+}
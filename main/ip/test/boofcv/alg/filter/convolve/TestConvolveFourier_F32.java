@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.*;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveFourier_F32 {
+
+	Random rand = new Random(234);
+
+	// image shapes which are smaller, similar, and larger than a tile
+	int shapes[][] = new int[][]{{7,9},{30,41},{117,75}};
+	int radiuses[] = new int[]{1,4,10};
+
+	float tol = 1e-3f;
+
+	@Test
+	public void convolve2D_skip() {
+		for( int[] shape : shapes ) {
+			for( int radius : radiuses ) {
+				Kernel2D_F32 kernel = FactoryKernel.random2D_F32(radius,-1,1,rand);
+				ImageFloat32 input = createInput(shape);
+				ImageFloat32 found = new ImageFloat32(shape[0],shape[1]);
+				ImageFloat32 expected = new ImageFloat32(shape[0],shape[1]);
+
+				// the border should not be modified
+				ImageMiscOps.fill(found,5);
+				ImageMiscOps.fill(expected,5);
+
+				new ConvolveFourier_F32(kernel).convolve(input,found);
+				ConvolveImageNoBorder.convolve(kernel,input,expected);
+
+				BoofTesting.assertEquals(expected,found,tol);
+			}
+		}
+	}
+
+	@Test
+	public void convolve2D_border() {
+		for( int[] shape : shapes ) {
+			for( int radius : radiuses ) {
+				// the border is accessed at least a full image width away
+				if( radius >= shape[0] || radius >= shape[1] )
+					continue;
+
+				Kernel2D_F32 kernel = FactoryKernel.random2D_F32(radius,-1,1,rand);
+
+				checkBorder(kernel,shape,new ImageBorder1D_F32(BorderIndex1D_Extend.class));
+				checkBorder(kernel,shape,new ImageBorder1D_F32(BorderIndex1D_Reflect.class));
+				checkBorder(kernel,shape,new ImageBorder1D_F32(BorderIndex1D_Wrap.class));
+				checkBorder(kernel,shape,(ImageBorder_F32)FactoryImageBorder.value(ImageFloat32.class,2.5));
+			}
+		}
+	}
+
+	private void checkBorder( Kernel2D_F32 kernel , int shape[] , ImageBorder_F32 border ) {
+		ImageFloat32 input = createInput(shape);
+		ImageFloat32 found = new ImageFloat32(shape[0],shape[1]);
+		ImageFloat32 expected = new ImageFloat32(shape[0],shape[1]);
+
+		new ConvolveFourier_F32(kernel).convolve(input,found,border);
+		ConvolveWithBorder.convolve(kernel,input,expected,border);
+
+		BoofTesting.assertEquals(expected,found,tol);
+	}
+
+	@Test
+	public void convolve2D_normalized() {
+		for( int[] shape : shapes ) {
+			for( int radius : radiuses ) {
+				if( 2*radius+1 >= shape[0] || 2*radius+1 >= shape[1] )
+					continue;
+				Kernel2D_F32 kernel = FactoryKernel.random2D_F32(radius,0.5f,1,rand);
+				ImageFloat32 input = createInput(shape);
+				ImageFloat32 found = new ImageFloat32(shape[0],shape[1]);
+				ImageFloat32 expected = new ImageFloat32(shape[0],shape[1]);
+
+				new ConvolveFourier_F32(kernel).convolveNormalized(input,found);
+				ConvolveNormalized.convolve(kernel,input,expected);
+
+				BoofTesting.assertEquals(expected,found,tol);
+			}
+		}
+	}
+
+	@Test
+	public void convolve1D() {
+		for( int[] shape : shapes ) {
+			for( int radius : radiuses ) {
+				if( 2*radius+1 >= shape[0] || 2*radius+1 >= shape[1] )
+					continue;
+				Kernel1D_F32 kernel = FactoryKernel.random1D_F32(radius,0.5f,1,rand);
+				check1D(kernel,shape);
+
+				// kernel origin isn't at the center
+				kernel.offset = 1;
+				check1D(kernel,shape);
+			}
+		}
+	}
+
+	private void check1D( Kernel1D_F32 kernel , int shape[] ) {
+		ImageFloat32 input = createInput(shape);
+		ImageFloat32 found = new ImageFloat32(shape[0],shape[1]);
+		ImageFloat32 expected = new ImageFloat32(shape[0],shape[1]);
+		ImageBorder_F32 border = new ImageBorder1D_F32(BorderIndex1D_Reflect.class);
+
+		new ConvolveFourier_F32(kernel,true).convolve(input,found);
+		ConvolveImageNoBorder.horizontal(kernel,input,expected);
+		BoofTesting.assertEquals(expected,found,tol);
+
+		new ConvolveFourier_F32(kernel,false).convolve(input,found);
+		ConvolveImageNoBorder.vertical(kernel,input,expected);
+		BoofTesting.assertEquals(expected,found,tol);
+
+		new ConvolveFourier_F32(kernel,true).convolve(input,found,border);
+		ConvolveWithBorder.horizontal(kernel,input,expected,border);
+		BoofTesting.assertEquals(expected,found,tol);
+
+		new ConvolveFourier_F32(kernel,false).convolve(input,found,border);
+		ConvolveWithBorder.vertical(kernel,input,expected,border);
+		BoofTesting.assertEquals(expected,found,tol);
+
+		if( kernel.offset == kernel.getRadius() ) {
+			new ConvolveFourier_F32(kernel,true).convolveNormalized(input,found);
+			ConvolveNormalized.horizontal(kernel,input,expected);
+			BoofTesting.assertEquals(expected,found,tol);
+
+			new ConvolveFourier_F32(kernel,false).convolveNormalized(input,found);
+			ConvolveNormalized.vertical(kernel,input,expected);
+			BoofTesting.assertEquals(expected,found,tol);
+		}
+	}
+
+	/**
+	 * The same instance is used on images of different shapes and sub-images
+	 */
+	@Test
+	public void multipleCalls_subimage() {
+		Kernel2D_F32 kernel = FactoryKernel.random2D_F32(6,-1,1,rand);
+		ConvolveFourier_F32 alg = new ConvolveFourier_F32(kernel);
+		ImageBorder_F32 border = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+
+		for( int[] shape : new int[][]{{60,50},{20,25},{60,50}} ) {
+			ImageFloat32 input = BoofTesting.createSubImageOf(createInput(shape));
+			ImageFloat32 found = BoofTesting.createSubImageOf(new ImageFloat32(shape[0],shape[1]));
+			ImageFloat32 expected = new ImageFloat32(shape[0],shape[1]);
+
+			alg.convolve(input,found,border);
+			ConvolveWithBorder.convolve(kernel,input,expected,border);
+
+			BoofTesting.assertEquals(expected,found,tol);
+		}
+	}
+
+	private ImageFloat32 createInput( int shape[] ) {
+		ImageFloat32 input = new ImageFloat32(shape[0],shape[1]);
+		ImageMiscOps.fillUniform(input,rand,0,1);
+		return input;
+	}
+}
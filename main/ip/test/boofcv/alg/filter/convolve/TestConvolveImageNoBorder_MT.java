@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_I32;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveImageNoBorder_MT {
+
+	Random rand = new Random(234);
+
+	int width = 25;
+	int height = 43;
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	@Test
+	public void compareToStandard() {
+		CompareToStandardConvolution a = new CompareToStandardConvolution(ConvolveImageNoBorder_MT.class);
+		a.performTests(20);
+	}
+
+	/**
+	 * The output must be identical to the single threaded implementation for unrolled and standard kernels
+	 */
+	@Test
+	public void compareToSingleThread() throws Exception {
+		Method[] methods = ConvolveImageNoBorder_MT.class.getMethods();
+
+		int total = 0;
+		for( Method m : methods ) {
+			if( m.getDeclaringClass() != ConvolveImageNoBorder_MT.class )
+				continue;
+
+			Method single = ConvolveImageNoBorder.class.getMethod(m.getName(),m.getParameterTypes());
+
+			for( int radius = 1; radius <= 6; radius++ ) {
+				compare(m, single, radius, false);
+				compare(m, single, radius, true);
+			}
+			total++;
+		}
+
+		assertEquals(20,total);
+	}
+
+	private void compare( Method concurrent , Method single , int radius , boolean subimage )
+			throws InvocationTargetException, IllegalAccessException
+	{
+		Class<?> params[] = concurrent.getParameterTypes();
+
+		KernelBase kernel = createKernel(params[0], radius);
+
+		ImageSingleBand input = ConvolutionTestHelper.createImage(params[1], width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageSingleBand expected = ConvolutionTestHelper.createImage(params[2], width, height);
+		ImageSingleBand found = ConvolutionTestHelper.createImage(params[2], width, height);
+
+		if( subimage ) {
+			input = BoofTesting.createSubImageOf(input);
+			found = BoofTesting.createSubImageOf(found);
+		}
+
+		if( params.length == 4 ) {
+			single.invoke(null, kernel, input, expected, 11);
+			concurrent.invoke(null, kernel, input, found, 11);
+		} else {
+			single.invoke(null, kernel, input, expected);
+			concurrent.invoke(null, kernel, input, found);
+		}
+
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	private KernelBase createKernel( Class<?> type , int radius ) {
+		if (Kernel1D_F32.class == type) {
+			return FactoryKernel.random1D_F32(radius, -1, 1, rand);
+		} else if (Kernel1D_I32.class == type) {
+			return FactoryKernel.random1D_I32(radius, 0, 5, rand);
+		} else if (Kernel2D_I32.class == type) {
+			return FactoryKernel.random2D_I32(radius, -1, 1, rand);
+		} else if (Kernel2D_F32.class == type) {
+			return FactoryKernel.random2D_F32(radius, 0, 5, rand);
+		} else {
+			throw new RuntimeException("Unknown kernel type");
+		}
+	}
+}
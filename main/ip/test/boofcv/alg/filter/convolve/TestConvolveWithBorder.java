@@ -44,7 +44,11 @@ public class TestConvolveWithBorder extends CompareImageBorder {
 	int kernelWidth = 5;
 
 	public TestConvolveWithBorder() {
-		super(ConvolveWithBorder.class);
+		this(ConvolveWithBorder.class);
+	}
+
+	protected TestConvolveWithBorder( Class<?> testClass ) {
+		super(testClass);
 	}
 
 	@Test
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.DirectImageFloat32;
+import boofcv.struct.image.DirectImageUInt8;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDirectConvolveImageOps {
+
+	Random rand = new Random(234);
+	int width = 25;
+	int height = 30;
+
+	@Test
+	public void horizontal_normalized() {
+		Kernel1D_I32 kernel = FactoryKernel.random1D_I32(3, 1, 10, rand);
+
+		ImageUInt8 input = new ImageUInt8(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+		ImageUInt8 expected = new ImageUInt8(width, height);
+		ConvolveNormalized.horizontal(kernel, input, expected);
+
+		DirectImageUInt8 directIn = new DirectImageUInt8(width, height);
+		DirectImageUInt8 directOut = new DirectImageUInt8(width, height);
+		directIn.copyFrom(input);
+		DirectConvolveImageOps.horizontal(kernel, directIn, directOut, BorderType.NORMALIZED);
+
+		ImageUInt8 found = new ImageUInt8(width, height);
+		directOut.copyTo(found);
+		BoofTesting.assertEquals(expected, found, 0);
+	}
+
+	@Test
+	public void vertical_extended() {
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(4, -1, 1, rand);
+
+		ImageFloat32 input = new ImageFloat32(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+		ImageFloat32 expected = new ImageFloat32(width, height);
+		ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorder.general(input, BorderType.EXTENDED);
+		ConvolveWithBorder.vertical(kernel, input, expected, border);
+
+		ImageFloat32 found = convolveDirect(input, kernel, null);
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	@Test
+	public void convolve_skip() {
+		Kernel2D_F32 kernel = FactoryKernel.random2D_F32(2, -1, 1, rand);
+
+		ImageFloat32 input = new ImageFloat32(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 200);
+		ImageFloat32 expected = new ImageFloat32(width, height);
+		ImageMiscOps.fill(expected, 5);
+		ConvolveImageNoBorder.convolve(kernel, input, expected);
+
+		// the border should be left unmodified
+		ImageFloat32 found = convolveDirect(input, null, kernel);
+		BoofTesting.assertEquals(expected, found, 1e-4);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void vertical_wrap() {
+		Kernel1D_F32 kernel = FactoryKernel.random1D_F32(4, -1, 1, rand);
+		DirectConvolveImageOps.vertical(kernel, new DirectImageFloat32(width, height),
+				new DirectImageFloat32(width, height), BorderType.WRAP);
+	}
+
+	private ImageFloat32 convolveDirect( ImageFloat32 input , Kernel1D_F32 kernel1 , Kernel2D_F32 kernel2 ) {
+		DirectImageFloat32 directIn = new DirectImageFloat32(width, height);
+		DirectImageFloat32 directOut = new DirectImageFloat32(width, height);
+		directIn.copyFrom(input);
+		for( int y = 0; y < height; y++ )
+			for( int x = 0; x < width; x++ )
+				directOut.set(x, y, 5);
+
+		if( kernel1 != null )
+			DirectConvolveImageOps.vertical(kernel1, directIn, directOut, BorderType.EXTENDED);
+		else
+			DirectConvolveImageOps.convolve(kernel2, directIn, directOut, BorderType.SKIP);
+
+		ImageFloat32 found = new ImageFloat32(width, height);
+		directOut.copyTo(found);
+		return found;
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve.border;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveJustBorder_Padded {
+
+	Random rand = new Random(234);
+
+	BorderType borderTypes[] = new BorderType[]{BorderType.EXTENDED,BorderType.REFLECT,BorderType.WRAP,BorderType.VALUE};
+
+	/**
+	 * Compare every function against {@link ConvolveJustBorder_General} across different border types,
+	 * kernel shapes and image sizes
+	 */
+	@Test
+	public void compareToGeneral() {
+		int total = 0;
+		for( Method m : ConvolveJustBorder_Padded.class.getMethods() ) {
+			if( m.getDeclaringClass() != ConvolveJustBorder_Padded.class )
+				continue;
+			Class<?> params[] = m.getParameterTypes();
+			if( params.length < 3 || !ImageBorder.class.isAssignableFrom(params[1]) )
+				continue;
+
+			Method general;
+			try {
+				general = ConvolveJustBorder_General.class.getMethod(m.getName(),params);
+			} catch (NoSuchMethodException e) {
+				throw new RuntimeException(e);
+			}
+
+			if( params[2] == ImageFloat32.class ) {
+				compareToGeneral(m, general, ImageFloat32.class, ImageFloat32.class);
+			} else if( params[2] == ImageInt16.class ) {
+				compareToGeneral(m, general, ImageUInt8.class, ImageSInt16.class);
+				compareToGeneral(m, general, ImageSInt16.class, ImageSInt16.class);
+			} else {
+				compareToGeneral(m, general, ImageUInt8.class, ImageSInt32.class);
+			}
+			total++;
+		}
+
+		assertEquals(9,total);
+	}
+
+	private void compareToGeneral( Method padded , Method general , Class inputType , Class outputType ) {
+		boolean is1D = Kernel1D.class.isAssignableFrom(padded.getParameterTypes()[0]);
+		Class kernelType = padded.getParameterTypes()[0];
+
+		int shapes[][] = new int[][]{{7,8},{20,15},{31,40}};
+
+		for( int shape[] : shapes ) {
+			ImageSingleBand input = GeneralizedImageOps.createSingleBand(inputType,shape[0],shape[1]);
+			GImageMiscOps.fillUniform(input, rand, 0, 10);
+
+			for( BorderType type : borderTypes ) {
+				for( int radius = 1; radius <= 3; radius++ ) {
+					KernelBase kernel = FactoryKernel.random(kernelType,radius,-10,10,rand);
+
+					if( is1D ) {
+						for( int offset = 0; offset < kernel.width; offset++ ) {
+							kernel.offset = offset;
+							compare(padded,general,kernel,input,outputType,type,null);
+							compare(padded,general,kernel,BoofTesting.createSubImageOf(input),outputType,type,null);
+						}
+					} else {
+						for( int border = radius-1; border <= radius+1; border++ ) {
+							compare(padded,general,kernel,input,outputType,type,border);
+							compare(padded,general,kernel,BoofTesting.createSubImageOf(input),outputType,type,border);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	private void compare( Method padded , Method general , KernelBase kernel ,
+						  ImageSingleBand input , Class outputType , BorderType type , Integer border ) {
+		ImageBorder imageBorder = type == BorderType.VALUE ?
+				FactoryImageBorder.value(input, 3) : FactoryImageBorder.general(input, type);
+		imageBorder.setImage(input);
+
+		ImageSingleBand expected = GeneralizedImageOps.createSingleBand(outputType,input.width,input.height);
+		ImageSingleBand found = GeneralizedImageOps.createSingleBand(outputType,input.width,input.height);
+		found = BoofTesting.createSubImageOf(found);
+
+		try {
+			if( border == null ) {
+				general.invoke(null,kernel,imageBorder,expected);
+				padded.invoke(null,kernel,imageBorder,found);
+			} else {
+				general.invoke(null,kernel,imageBorder,expected,border);
+				padded.invoke(null,kernel,imageBorder,found,border);
+			}
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		}
+
+		// floats can differ slightly since the order of summation is not the same
+		BoofTesting.assertEquals(expected, found, 1e-3);
+	}
+
+	/**
+	 * Images which are smaller than the border or the kernel.  Compared against a naive implementation
+	 * since {@link ConvolveJustBorder_General} can't handle them either.  Reflect and wrap borders are only
+	 * defined up to one image length outside so they can't be used here.
+	 */
+	@Test
+	public void smallImages() {
+		int shapes[][] = new int[][]{{1,1},{2,2},{3,3},{2,20},{20,2},{4,3},{3,4}};
+		BorderType borderTypes[] = new BorderType[]{BorderType.EXTENDED,BorderType.VALUE};
+
+		for( int shape[] : shapes ) {
+			ImageFloat32 input = new ImageFloat32(shape[0],shape[1]);
+			GImageMiscOps.fillUniform(input, rand, 0, 10);
+
+			for( BorderType type : borderTypes ) {
+				ImageBorder_F32 imageBorder = (ImageBorder_F32)(type == BorderType.VALUE ?
+						FactoryImageBorder.value(input, 3) : FactoryImageBorder.general(input, type));
+
+				for( int radius = 1; radius <= 4; radius++ ) {
+					Kernel1D_F32 kernel1 = FactoryKernel.random1D_F32(radius,-10,10,rand);
+					for( int offset = 0; offset < kernel1.width; offset++ ) {
+						kernel1.offset = offset;
+						for( int i = 0; i < 2; i++ ) {
+							boolean horizontal = i == 0;
+							ImageFloat32 expected = new ImageFloat32(input.width,input.height);
+							ImageFloat32 found = BoofTesting.createSubImageOf(new ImageFloat32(input.width,input.height));
+							naive(kernel1,horizontal,imageBorder,expected);
+							if( horizontal )
+								ConvolveJustBorder_Padded.horizontal(kernel1,imageBorder,found);
+							else
+								ConvolveJustBorder_Padded.vertical(kernel1,imageBorder,found);
+							BoofTesting.assertEquals(expected, found, 1e-3);
+						}
+					}
+
+					Kernel2D_F32 kernel2 = FactoryKernel.random2D_F32(radius,-10,10,rand);
+					for( int border = radius-1; border <= radius+1; border++ ) {
+						ImageFloat32 expected = new ImageFloat32(input.width,input.height);
+						ImageFloat32 found = BoofTesting.createSubImageOf(new ImageFloat32(input.width,input.height));
+						naive(kernel2,border,imageBorder,expected);
+						ConvolveJustBorder_Padded.convolve(kernel2,imageBorder,found,border);
+						BoofTesting.assertEquals(expected, found, 1e-3);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Convolves pixels along the border one at a time.  Pixels inside are left as zero.
+	 */
+	private void naive( Kernel1D_F32 kernel , boolean horizontal , ImageBorder_F32 input , ImageFloat32 output ) {
+		int length = horizontal ? output.width : output.height;
+		int after = kernel.width - kernel.offset - 1;
+
+		for( int y = 0; y < output.height; y++ ) {
+			for( int x = 0; x < output.width; x++ ) {
+				int c = horizontal ? x : y;
+				if( c >= kernel.offset && c < length - after )
+					continue;
+
+				float total = 0;
+				for( int i = 0; i < kernel.width; i++ ) {
+					int d = i - kernel.offset;
+					total += kernel.get(i)*(horizontal ? input.get(x+d,y) : input.get(x,y+d));
+				}
+				output.set(x,y,total);
+			}
+		}
+	}
+
+	/**
+	 * Convolves pixels along the border one at a time.  Pixels inside are left as zero.
+	 */
+	private void naive( Kernel2D_F32 kernel , int border , ImageBorder_F32 input , ImageFloat32 output ) {
+		int r = kernel.getRadius();
+
+		for( int y = 0; y < output.height; y++ ) {
+			for( int x = 0; x < output.width; x++ ) {
+				if( x >= border && x < output.width-border && y >= border && y < output.height-border )
+					continue;
+
+				float total = 0;
+				for( int i = 0; i < kernel.width; i++ ) {
+					for( int j = 0; j < kernel.width; j++ ) {
+						total += kernel.get(j,i)*input.get(x+j-r,y+i-r);
+					}
+				}
+				output.set(x,y,total);
+			}
+		}
+	}
+
+	/**
+	 * Borders which can't be turned into a padded image need to be processed by the general algorithm
+	 */
+	@Test
+	public void isSupported() {
+		ImageUInt8 input = new ImageUInt8(10,12);
+		ImageSInt16 output = new ImageSInt16(10,12);
+
+		assertTrue(ConvolveJustBorder_Padded.isSupported(FactoryImageBorder.general(input, BorderType.EXTENDED), output));
+		assertTrue(ConvolveJustBorder_Padded.isSupported(FactoryImageBorder.value(input, 255), output));
+		// value can't be stored inside the padded image
+		assertFalse(ConvolveJustBorder_Padded.isSupported(FactoryImageBorder.value(input, 256), output));
+		// no convolution for this combination of images
+		assertFalse(ConvolveJustBorder_Padded.isSupported(FactoryImageBorder.general(input, BorderType.EXTENDED),
+				new ImageFloat32(10,12)));
+	}
+}
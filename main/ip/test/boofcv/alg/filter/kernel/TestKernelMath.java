@@ -28,6 +28,8 @@ import org.junit.Test;
 import java.util.Random;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -361,4 +363,28 @@ public class TestKernelMath {
 		assertEquals(found.data[7],-10);
 		assertEquals(found.data[8],-1);
 	}
+
+	@Test
+	public void decomposeSeparable() {
+		Kernel1D_F32 a = FactoryKernel.random1D_F32(2,0.5f,2,rand);
+		Kernel1D_F32 b = FactoryKernel.random1D_F32(2,-1,1,rand);
+		Kernel2D_F32 kernel = KernelMath.convolve(a,b);
+
+		Kernel1D_F32 horizontal = new Kernel1D_F32(5);
+		Kernel1D_F32 vertical = new Kernel1D_F32(5);
+
+		assertTrue(KernelMath.decomposeSeparable(kernel,horizontal,vertical,1e-5f));
+		assertEquals(2,horizontal.offset);
+		assertEquals(2,vertical.offset);
+
+		for( int y = 0; y < 5; y++ ) {
+			for( int x = 0; x < 5; x++ ) {
+				assertEquals(kernel.get(x,y),vertical.data[y]*horizontal.data[x],1e-5f);
+			}
+		}
+
+		// a random kernel is not separable
+		kernel = FactoryKernel.random2D_F32(2,-1,1,rand);
+		assertFalse(KernelMath.decomposeSeparable(kernel,horizontal,vertical,1e-5f));
+	}
 }
@@ -18,6 +18,7 @@
 
 package boofcv.alg.interpolate.impl;
 
+import boofcv.alg.interpolate.InterpolatePixelBatchS;
 import boofcv.alg.interpolate.InterpolatePixelS;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.struct.image.ImageSingleBand;
@@ -144,6 +145,59 @@ public abstract class GeneralChecksInterpolationPixelS< T extends ImageSingleBan
 		assertEquals(interp.get(10.8f, 10.6f), interp.get_fast(10.8f, 10.6f), 1e-6);
 	}
 
+	/**
+	 * Compare the batch functions against calling get() once for each point
+	 */
+	@Test
+	public void batch() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "batch", false, img);
+	}
+
+	public void batch(T img) {
+		InterpolatePixelS<T> interp = wrap(img, 0, 100);
+		if( !(interp instanceof InterpolatePixelBatchS) )
+			return;
+		InterpolatePixelBatchS<T> batch = (InterpolatePixelBatchS<T>)interp;
+
+		int N = 50;
+		float x[] = new float[N+5];
+		float y[] = new float[N+5];
+		float found[] = new float[N+5];
+
+		// points which are all inside the fast bounds
+		int border = Math.max(interp.getFastBorderX(),interp.getFastBorderY());
+		for( int i = 0; i < N; i++ ) {
+			x[i] = border + rand.nextFloat()*(width-2*border-1);
+			y[i] = border + rand.nextFloat()*(height-2*border-1);
+		}
+		// only the first N elements should be processed
+		found[N] = -1;
+
+		batch.get_fast(x, y, found, N);
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(interp.get_fast(x[i], y[i]), found[i], 1e-4);
+		}
+		assertEquals(-1,found[N],1e-8);
+
+		batch.get(x, y, found, N);
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(interp.get(x[i], y[i]), found[i], 1e-4);
+		}
+
+		// put a few points along the image border
+		x[3] = 0; y[3] = 0;
+		x[7] = width-1; y[7] = height/2;
+		x[20] = width/2; y[20] = height-1;
+
+		batch.get(x, y, found, N);
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(interp.get(x[i], y[i]), found[i], 1e-4);
+		}
+	}
+
 	@Test
 	public void getImage() {
 		T img = createImage(width, height);
@@ -261,4 +315,31 @@ public abstract class GeneralChecksInterpolationPixelS< T extends ImageSingleBan
 			}
 		}
 	}
+
+	/**
+	 * The copy should produce identical results and not share the image with the original
+	 */
+	@Test
+	public void copy() {
+		T imgA = createImage(30, 40);
+		GImageMiscOps.fillUniform(imgA, rand, 0, 100);
+		T imgB = createImage(30, 40);
+
+		InterpolatePixelS<T> interpA = wrap(imgA, 0, 100);
+		InterpolatePixelS<T> interpB = interpA.copy();
+
+		assertTrue(interpA != interpB);
+		interpB.setImage(imgB);
+		assertTrue(imgA == interpA.getImage());
+		interpB.setImage(imgA);
+
+		for (int y = 0; y < 40; y++) {
+			for (int x = 0; x < 30; x++) {
+				float xx = Math.min(29, x + rand.nextFloat());
+				float yy = Math.min(39, y + rand.nextFloat());
+
+				assertTrue("( " + x + " , " + y + " )", interpA.get(xx, yy) == interpB.get(xx,yy));
+			}
+		}
+	}
 }
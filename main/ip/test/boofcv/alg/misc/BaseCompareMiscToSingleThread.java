@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageInterleaved;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the output of every function in a concurrent "_MT" class against the function with the same
+ * signature in the single threaded class.  Images are filled with random values in the range [0,100),
+ * or [-20,80) for signed images.
+ *
+ * @author Peter Abeles
+ */
+public abstract class BaseCompareMiscToSingleThread {
+
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 41;
+	protected int numBands = 3;
+
+	Class<?> concurrentType;
+	Class<?> singleType;
+
+	boolean previousConcurrent;
+	int previousThreads;
+	int previousBand;
+
+	protected BaseCompareMiscToSingleThread( Class<?> concurrentType, Class<?> singleType ) {
+		this.concurrentType = concurrentType;
+		this.singleType = singleType;
+	}
+
+	@Before
+	public void forceBands() {
+		previousConcurrent = BoofConcurrency.USE_CONCURRENT;
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		// the single threaded function must not pass the call on to the concurrent one
+		BoofConcurrency.USE_CONCURRENT = false;
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.USE_CONCURRENT = previousConcurrent;
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	/**
+	 * Values of the primitive parameters in the order they appear in the function
+	 */
+	protected abstract double[] createScalars( Method m );
+
+	/**
+	 * Checks every function and that the expected number of functions were found
+	 */
+	public void compareToSingleThread( int expectedTotal ) {
+		int total = 0;
+		for( Method m : concurrentType.getMethods() ) {
+			if( m.getDeclaringClass() != concurrentType || !Modifier.isStatic(m.getModifiers()) )
+				continue;
+
+			try {
+				Method single = singleType.getMethod(m.getName(), m.getParameterTypes());
+				compare(m, single, false);
+				compare(m, single, true);
+			} catch( NoSuchMethodException e ) {
+				throw new RuntimeException("No single threaded version of "+m.getName(), e);
+			} catch( InvocationTargetException e ) {
+				throw new RuntimeException(e.getCause());
+			} catch( IllegalAccessException e ) {
+				throw new RuntimeException(e);
+			}
+			total++;
+		}
+
+		assertEquals(expectedTotal, total);
+	}
+
+	private void compare( Method concurrent , Method single , boolean subimage )
+			throws InvocationTargetException, IllegalAccessException
+	{
+		Class<?> params[] = concurrent.getParameterTypes();
+		double scalars[] = createScalars(concurrent);
+
+		Object argsSingle[] = new Object[params.length];
+		Object argsConcurrent[] = new Object[params.length];
+
+		int numScalars = 0;
+		for( int i = 0; i < params.length; i++ ) {
+			Class<?> p = params[i];
+			if( ImageBase.class.isAssignableFrom(p) ) {
+				ImageBase a = createImage(p);
+				ImageBase b = a.clone();
+				if( subimage ) {
+					a = BoofTesting.createSubImageOf(a);
+					b = BoofTesting.createSubImageOf(b);
+				}
+				argsSingle[i] = a;
+				argsConcurrent[i] = b;
+			} else if( p == int[].class ) {
+				argsSingle[i] = new int[256];
+				argsConcurrent[i] = new int[256];
+			} else {
+				double value = scalars[numScalars++];
+				argsSingle[i] = argsConcurrent[i] = castScalar(p, value);
+			}
+		}
+		assertEquals(concurrent.getName(), scalars.length, numScalars);
+
+		Object expected = single.invoke(null, argsSingle);
+		Object found = concurrent.invoke(null, argsConcurrent);
+
+		if( expected != null ) {
+			double a = ((Number)expected).doubleValue();
+			double b = ((Number)found).doubleValue();
+			// floating point sums are added together in a different order
+			assertEquals(concurrent.getName(), a, b, Math.abs(a)*1e-5);
+		}
+
+		for( int i = 0; i < params.length; i++ ) {
+			if( argsSingle[i] instanceof ImageBase ) {
+				BoofTesting.assertEquals((ImageBase)argsSingle[i], (ImageBase)argsConcurrent[i], 0);
+			} else if( argsSingle[i] instanceof int[] ) {
+				assertArrayEquals((int[])argsSingle[i], (int[])argsConcurrent[i]);
+			}
+		}
+	}
+
+	private ImageBase createImage( Class<?> type ) {
+		type = BoofTesting.convertGenericToSpecificType(type);
+
+		ImageBase image;
+		boolean signed;
+		if( ImageInterleaved.class.isAssignableFrom(type) ) {
+			ImageInterleaved img = GeneralizedImageOps.createInterleaved((Class)type, width, height, numBands);
+			signed = img.getDataType().isSigned();
+			image = img;
+		} else {
+			ImageSingleBand img = GeneralizedImageOps.createSingleBand((Class)type, width, height);
+			signed = img.getDataType().isSigned();
+			image = img;
+		}
+
+		if( signed )
+			GImageMiscOps.fillUniform(image, rand, -20, 80);
+		else
+			GImageMiscOps.fillUniform(image, rand, 0, 100);
+
+		return image;
+	}
+
+	private static Object castScalar( Class<?> type , double value ) {
+		if( type == byte.class )
+			return (byte)value;
+		else if( type == short.class )
+			return (short)value;
+		else if( type == int.class )
+			return (int)value;
+		else if( type == long.class )
+			return (long)value;
+		else if( type == float.class )
+			return (float)value;
+		else if( type == double.class )
+			return value;
+		throw new RuntimeException("Unknown type "+type.getSimpleName());
+	}
+}
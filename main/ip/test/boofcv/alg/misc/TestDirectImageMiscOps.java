@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import boofcv.struct.image.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDirectImageMiscOps {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void copy() {
+		DirectImageUInt16 input = new DirectImageUInt16(10, 12);
+		DirectImageUInt16 output = new DirectImageUInt16(8, 9);
+		input.set(3, 4, 1000);
+
+		DirectImageMiscOps.copy(2, 3, 1, 1, 5, 6, input, output);
+		assertEquals(1000, output.get(2, 2));
+		assertEquals(0, output.get(1, 1));
+	}
+
+	@Test
+	public void fill_fillRectangle() {
+		DirectImageFloat32 image = new DirectImageFloat32(10, 12);
+		DirectImageMiscOps.fill(image, 2.5f);
+		DirectImageMiscOps.fillRectangle(image, 4, 8, 9, 5, 5);
+
+		assertEquals(2.5f, image.get(0, 0), 1e-8);
+		assertEquals(4f, image.get(8, 9), 1e-8);
+		assertEquals(4f, image.get(9, 11), 1e-8);
+		assertEquals(2.5f, image.get(7, 9), 1e-8);
+	}
+
+	@Test
+	public void fill_interleaved() {
+		DirectInterleavedU8 image = new DirectInterleavedU8(10, 12, 3);
+		DirectImageMiscOps.fill(image, 4);
+		DirectImageMiscOps.fillBand(image, 1, 200);
+
+		assertEquals(4, image.getBand(9, 11, 0));
+		assertEquals(200, image.getBand(9, 11, 1));
+		assertEquals(4, image.getBand(9, 11, 2));
+	}
+
+	@Test
+	public void fillUniform() {
+		DirectImageUInt8 image = new DirectImageUInt8(10, 12);
+		DirectImageMiscOps.fillUniform(image, rand, 10, 20);
+
+		for( int y = 0; y < image.height; y++ ) {
+			for( int x = 0; x < image.width; x++ ) {
+				int v = image.get(x, y);
+				assertTrue(v >= 10 && v < 20);
+			}
+		}
+	}
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageStatistics_MT extends BaseCompareMiscToSingleThread {
+
+	public TestImageStatistics_MT() {
+		super(ImageStatistics_MT.class, ImageStatistics.class);
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		compareToSingleThread(72);
+	}
+
+	@Override
+	protected double[] createScalars( Method m ) {
+		if( m.getName().equals("variance") )
+			return new double[]{40};
+		else if( m.getName().equals("histogram") && m.getParameterTypes().length == 3 )
+			// minimum value of signed images
+			return new double[]{-20};
+		return new double[0];
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.misc;
+
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPixelMath_MT extends BaseCompareMiscToSingleThread {
+
+	public TestPixelMath_MT() {
+		super(PixelMath_MT.class, PixelMath.class);
+	}
+
+	@Test
+	public void compareToSingleThread() {
+		compareToSingleThread(98);
+	}
+
+	@Override
+	protected double[] createScalars( Method m ) {
+		int numScalars = 0;
+		for( Class<?> p : m.getParameterTypes() ) {
+			if( p.isPrimitive() )
+				numScalars++;
+		}
+
+		switch( numScalars ) {
+			case 0: return new double[0];
+			// value
+			case 1: return new double[]{3};
+			// lower and upper bound
+			case 2: return new double[]{5,60};
+			// value, lower and upper bound
+			case 3: return new double[]{3,5,60};
+		}
+		throw new RuntimeException("Unexpected number of parameters in "+m.getName());
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFftPlanCache {
+
+	/**
+	 * Plans which are released should be handed out again
+	 */
+	@Test
+	public void reuse() {
+		FftPlanCache cache = new FftPlanCache(4,2);
+
+		FftPlan_F32 a = cache.acquireF32(10,12);
+		cache.release(a);
+		assertTrue(a == cache.acquireF32(10,12));
+
+		FftPlan_F64 b = cache.acquireF64(10,12);
+		cache.release(b);
+		assertTrue(b == cache.acquireF64(10,12));
+	}
+
+	/**
+	 * A plan should only be given to one user at a time
+	 */
+	@Test
+	public void exclusive() {
+		FftPlanCache cache = new FftPlanCache(4,2);
+
+		FftPlan_F32 a = cache.acquireF32(10,12);
+		FftPlan_F32 b = cache.acquireF32(10,12);
+		assertTrue(a != b);
+
+		cache.release(a);
+		cache.release(b);
+
+		FftPlan_F32 c = cache.acquireF32(10,12);
+		FftPlan_F32 d = cache.acquireF32(10,12);
+		assertTrue(c != d);
+		assertTrue(c == a || c == b);
+		assertTrue(d == a || d == b);
+	}
+
+	/**
+	 * Shape and precision should be part of the key
+	 */
+	@Test
+	public void keys() {
+		FftPlanCache cache = new FftPlanCache(10,2);
+
+		cache.release(new FftPlan_F32(10,12));
+		cache.release(new FftPlan_F64(10,12));
+		cache.release(new FftPlan_F32(12,10));
+		assertEquals(3,cache.getNumberOfShapes());
+
+		FftPlan_F32 a = cache.acquireF32(12,10);
+		assertEquals(12,a.getWidth());
+		assertEquals(10,a.getHeight());
+
+		FftPlan_F64 b = cache.acquireF64(10,12);
+		assertEquals(10,b.getWidth());
+		assertEquals(12,b.getHeight());
+	}
+
+	/**
+	 * The least recently used shape should be discarded
+	 */
+	@Test
+	public void leastRecentlyUsed() {
+		FftPlanCache cache = new FftPlanCache(2,2);
+
+		FftPlan_F32 a = new FftPlan_F32(10,10);
+		FftPlan_F32 b = new FftPlan_F32(20,20);
+		cache.release(a);
+		cache.release(b);
+
+		// touch the first shape so that the second is the oldest
+		cache.release(cache.acquireF32(10,10));
+		cache.release(new FftPlan_F32(30,30));
+
+		assertEquals(2,cache.getNumberOfShapes());
+		assertTrue(a == cache.acquireF32(10,10));
+		assertTrue(b != cache.acquireF32(20,20));
+	}
+
+	/**
+	 * Only a limited number of idle plans are saved for each shape
+	 */
+	@Test
+	public void maxPlansPerShape() {
+		FftPlanCache cache = new FftPlanCache(2,2);
+
+		FftPlan_F32 a = new FftPlan_F32(10,10);
+		FftPlan_F32 b = new FftPlan_F32(10,10);
+		FftPlan_F32 c = new FftPlan_F32(10,10);
+		cache.release(a);
+		cache.release(b);
+		cache.release(c);
+
+		FftPlan_F32 found0 = cache.acquireF32(10,10);
+		FftPlan_F32 found1 = cache.acquireF32(10,10);
+		FftPlan_F32 found2 = cache.acquireF32(10,10);
+
+		assertTrue(found0 == a || found0 == b);
+		assertTrue(found1 == a || found1 == b);
+		assertTrue(found2 != a && found2 != b && found2 != c);
+	}
+}
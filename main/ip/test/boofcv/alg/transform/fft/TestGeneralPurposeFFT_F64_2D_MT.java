@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.alg.transform.fft;
+
+import boofcv.concurrency.BoofConcurrency;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestGeneralPurposeFFT_F64_2D_MT {
+
+	double tol = 1e-8;
+
+	Random rand = new Random(234);
+
+	int sizes[] = new int[]{1,2,3,16,32,100,103};
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	@Test
+	public void complexForward() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				compare(sizes[i], sizes[j], 0);
+			}
+		}
+	}
+
+	@Test
+	public void complexInverse() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				compare(sizes[i], sizes[j], 1);
+			}
+		}
+	}
+
+	@Test
+	public void realForwardFull() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				compare(sizes[i], sizes[j], 2);
+			}
+		}
+	}
+
+	@Test
+	public void realInverseFull() {
+		for( int i = 0; i < sizes.length; i++ ) {
+			for( int j = 0; j < sizes.length; j++ ) {
+				compare(sizes[i], sizes[j], 3);
+			}
+		}
+	}
+
+	/**
+	 * Small images should be processed by the single threaded code
+	 */
+	@Test
+	public void minimumSize() {
+		GeneralPurposeFFT_F64_2D_MT alg = new GeneralPurposeFFT_F64_2D_MT(16,16);
+		assertEquals(GeneralPurposeFFT_F64_2D_MT.DEFAULT_MINIMUM_SIZE, alg.getMinimumSize());
+
+		double input[] = new double[16*16*2];
+		for( int i = 0; i < input.length; i++ )
+			input[i] = rand.nextGaussian();
+		double expected[] = input.clone();
+
+		alg.complexForward(input);
+		new GeneralPurposeFFT_F64_2D(16,16).complexForward(expected);
+
+		for( int i = 0; i < input.length; i++ )
+			assertEquals(expected[i],input[i],0);
+	}
+
+	/**
+	 * Compares the concurrent results to the single threaded results
+	 */
+	private void compare( int numRows , int numColumns , int operation ) {
+		int N = numRows*numColumns;
+		double input[] = new double[N*2];
+		for( int i = 0; i < N*2; i++ ) {
+			input[i] = rand.nextGaussian();
+		}
+		double expected[] = input.clone();
+
+		GeneralPurposeFFT_F64_2D single = new GeneralPurposeFFT_F64_2D(numRows,numColumns);
+		GeneralPurposeFFT_F64_2D_MT alg = new GeneralPurposeFFT_F64_2D_MT(numRows,numColumns);
+		alg.setMinimumSize(1);
+
+		// process it twice to see if the work space is correctly reused
+		for( int trial = 0; trial < 2; trial++ ) {
+			double found[] = input.clone();
+			double single_[] = expected.clone();
+
+			switch( operation ) {
+				case 0: single.complexForward(single_); alg.complexForward(found); break;
+				case 1: single.complexInverse(single_,true); alg.complexInverse(found,true); break;
+				case 2: single.realForwardFull(single_); alg.realForwardFull(found); break;
+				case 3: single.realInverseFull(single_,true); alg.realInverseFull(found,true); break;
+			}
+
+			double scale = Math.sqrt(N);
+			for( int i = 0; i < N*2; i++ ) {
+				assertEquals(numRows+" "+numColumns+" "+i,single_[i],found[i],tol*scale);
+			}
+		}
+	}
+}
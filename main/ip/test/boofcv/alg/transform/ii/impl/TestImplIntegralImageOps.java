@@ -37,6 +37,7 @@ import boofcv.testing.BoofTesting;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Random;
@@ -56,7 +57,7 @@ public class TestImplIntegralImageOps {
 	@Test
 	public void transform() {
 		int numFound = BoofTesting.findMethodThenCall(this,"transform",ImplIntegralImageOps.class,"transform");
-		Assert.assertEquals(5, numFound);
+		Assert.assertEquals(6, numFound);
 	}
 
 	public void transform( Method m ) {
@@ -174,13 +175,18 @@ public class TestImplIntegralImageOps {
 	@Test
 	public void convolveSparse() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolveSparse",ImplIntegralImageOps.class,"convolveSparse");
-		assertEquals(4,numFound);
+		assertEquals(8,numFound);
 	}
 
 	public void convolveSparse( Method m ) throws InvocationTargetException, IllegalAccessException {
 		Class paramType[] = m.getParameterTypes();
 		Class inputType = paramType[0];
 
+		if( paramType.length == 6 ) {
+			convolveSparseBatch(m);
+			return;
+		}
+
 		ImageSingleBand integral = GeneralizedImageOps.createSingleBand(inputType, width, height);
 
 		GImageMiscOps.fillUniform(integral, rand, 0, 1000);
@@ -205,6 +211,44 @@ public class TestImplIntegralImageOps {
 		assertEquals(e.get(19,29).doubleValue(),found2,1e-4f);
 	}
 
+	/**
+	 * Compares the batch version against the results of convolving the whole image, both at points along
+	 * the border and inside the image
+	 */
+	public void convolveSparseBatch( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramType[] = m.getParameterTypes();
+		Class inputType = paramType[0];
+
+		ImageSingleBand integral = GeneralizedImageOps.createSingleBand(inputType, width, height);
+
+		GImageMiscOps.fillUniform(integral, rand, 0, 1000);
+
+		ImageSingleBand expected = GeneralizedImageOps.createSingleBand(inputType, width, height);
+
+		IntegralKernel kernel = new IntegralKernel(2);
+		kernel.blocks[0] = new ImageRectangle(-2,-2,1,1);
+		kernel.blocks[1] = new ImageRectangle(-2,-1,1,0);
+		kernel.scales =  new int[]{1,2};
+
+		GIntegralImageOps.convolve(integral,kernel,expected);
+
+		GImageSingleBand e = FactoryGImageSingleBand.wrap(expected);
+
+		int x[] = new int[]{0,10,19,2,1,18,5,0};
+		int y[] = new int[]{0,12,29,2,15,28,1,29};
+		int length = x.length-1;
+
+		Object output = Array.newInstance(paramType[5].getComponentType(),x.length);
+		m.invoke(null,integral,kernel,x,y,length,output);
+
+		for( int i = 0; i < length; i++ ) {
+			double found = ((Number)Array.get(output,i)).doubleValue();
+			assertEquals(e.get(x[i],y[i]).doubleValue(),found,1e-4f);
+		}
+		// only the first 'length' points should be processed
+		assertEquals(0,((Number)Array.get(output,length)).doubleValue(),1e-8);
+	}
+
 	@Test
 	public void block_unsafe() {
 		int numFound = BoofTesting.findMethodThenCall(this,"block_unsafe",ImplIntegralImageOps.class,"block_unsafe");
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPyramidDiscreteSampleBlur_MT {
+
+	Random rand = new Random(234);
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	/**
+	 * Each layer should be identical to the single threaded implementation
+	 */
+	@Test
+	public void compareToSingleThread() {
+		compareToSingleThread(ImageFloat32.class, 60, 45, 1, 2, 4, 8);
+		compareToSingleThread(ImageFloat32.class, 61, 47, 2, 6);
+		compareToSingleThread(ImageUInt8.class, 60, 45, 1, 2, 4, 8);
+		compareToSingleThread(ImageUInt8.class, 33, 70, 3, 6);
+	}
+
+	private <T extends ImageSingleBand>
+	void compareToSingleThread( Class<T> imageType , int width , int height , int ...scales ) {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			Class<Kernel1D> kernelType = FactoryKernel.getKernelType(imageType,1);
+			Kernel1D kernel = FactoryKernelGaussian.gaussian(kernelType,-1,radius);
+
+			T input = GeneralizedImageOps.createSingleBand(imageType, width, height);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			BoofTesting.checkSubImage(this, "_compareToSingleThread", true, input, kernel, scales);
+		}
+	}
+
+	public <T extends ImageSingleBand>
+	void _compareToSingleThread( T input , Kernel1D kernel , int scales[] ) {
+		Class<T> imageType = (Class<T>)input.getClass();
+
+		PyramidDiscreteSampleBlur<T> expected =
+				new PyramidDiscreteSampleBlur<T>(kernel,2,imageType,false,scales);
+		PyramidDiscreteSampleBlur_MT<T> found =
+				new PyramidDiscreteSampleBlur_MT<T>(kernel,2,imageType,false,scales);
+
+		expected.process(input);
+		found.process(input);
+
+		for( int i = 0; i < scales.length; i++ ) {
+			BoofTesting.assertEquals(expected.getLayer(i), found.getLayer(i), 0);
+		}
+	}
+}
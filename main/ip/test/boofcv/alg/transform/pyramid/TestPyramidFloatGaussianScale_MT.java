@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid;
+
+import boofcv.alg.interpolate.InterpolatePixelS;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPyramidFloatGaussianScale_MT {
+
+	Random rand = new Random(234);
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	/**
+	 * Each layer should be identical to the single threaded implementation
+	 */
+	@Test
+	public void compareToSingleThread() {
+		compareToSingleThread(ImageFloat32.class, 60, 45, new double[]{1, 1.5, 2.2, 4}, new double[]{1, 1.2, 2, 0.8});
+		compareToSingleThread(ImageFloat32.class, 61, 47, new double[]{1, 1, 3}, new double[]{0.5, 2.5, 3});
+		compareToSingleThread(ImageFloat32.class, 30, 90, new double[]{2, 7}, new double[]{1.5, 1});
+		compareToSingleThread(ImageUInt8.class, 60, 45, new double[]{1, 1.5, 2.2, 4}, new double[]{1, 1.2, 2, 0.8});
+		compareToSingleThread(ImageUInt8.class, 33, 70, new double[]{1.7, 3}, new double[]{3, 1});
+	}
+
+	private <T extends ImageSingleBand>
+	void compareToSingleThread( Class<T> imageType , int width , int height , double scales[] , double sigmas[] ) {
+		T input = GeneralizedImageOps.createSingleBand(imageType, width, height);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "_compareToSingleThread", true, input, scales, sigmas);
+	}
+
+	public <T extends ImageSingleBand>
+	void _compareToSingleThread( T input , double scales[] , double sigmas[] ) {
+		Class<T> imageType = (Class<T>)input.getClass();
+		InterpolatePixelS<T> interp = FactoryInterpolation.bilinearPixelS(imageType);
+
+		PyramidFloatGaussianScale<T> expected = new PyramidFloatGaussianScale<T>(interp,scales,sigmas,imageType);
+		PyramidFloatGaussianScale_MT<T> found = new PyramidFloatGaussianScale_MT<T>(interp,scales,sigmas,imageType);
+
+		expected.process(input);
+		found.process(input);
+
+		for( int i = 0; i < scales.length; i++ ) {
+			BoofTesting.assertEquals(expected.getLayer(i), found.getLayer(i), 0);
+		}
+	}
+}
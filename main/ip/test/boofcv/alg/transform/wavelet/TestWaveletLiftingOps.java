@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.wavelet.impl.TestImplWaveletTransformLifting;
+import boofcv.struct.image.ImageDimension;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWaveletLiftingOps {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void isSupported() {
+		for( WaveletDescription desc : TestImplWaveletTransformLifting.descriptions_F32() ) {
+			assertTrue(WaveletLiftingOps.isSupported(desc));
+			assertFalse(WaveletLiftingOps.isSupported(withoutLifting(desc)));
+		}
+	}
+
+	/**
+	 * Compare against the convolution based multilevel transform, including when the transform is larger
+	 * than the original image
+	 */
+	@Test
+	public void compareToConvolution_F32() {
+		for( WaveletDescription<WlCoef_F32> desc : TestImplWaveletTransformLifting.descriptions_F32() ) {
+			WaveletDescription<WlCoef_F32> plain = withoutLifting(desc);
+
+			for( int adjust = 0; adjust < 3; adjust++ ) {
+				int w = 60+adjust;
+				int h = 46+adjust;
+				ImageFloat32 orig = new ImageFloat32(w,h);
+				ImageMiscOps.fillUniform(orig,rand,0,50);
+
+				for( int level = 1; level <= 4; level++ ) {
+					ImageDimension dim = UtilWavelet.transformDimension(w,h,level);
+					ImageFloat32 expected = new ImageFloat32(dim.width,dim.height);
+					ImageFloat32 found = new ImageFloat32(dim.width,dim.height);
+
+					WaveletTransformOps.transformN(plain,orig.clone(),expected,null,level);
+					WaveletLiftingOps.transformN(desc,orig.clone(),found,null,level);
+					BoofTesting.assertEquals(expected,found,1e-3);
+
+					ImageFloat32 reconstructed = new ImageFloat32(w,h);
+					WaveletLiftingOps.inverseN(desc,found,reconstructed,null,level,0,50);
+					BoofTesting.assertEquals(orig,reconstructed,1e-3);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void reversible_I32() {
+		for( WaveletDescription<WlCoef_I32> desc : TestImplWaveletTransformLifting.descriptions_I32() ) {
+			for( int level = 1; level <= 4; level++ ) {
+				ImageSInt32 orig = new ImageSInt32(64,48);
+				ImageMiscOps.fillUniform(orig,rand,0,65535);
+
+				ImageSInt32 transformed = new ImageSInt32(64,48);
+				ImageSInt32 found = new ImageSInt32(64,48);
+
+				WaveletLiftingOps.transformN(desc,orig,transformed,level);
+				WaveletLiftingOps.inverseN(desc,transformed,found,level);
+
+				BoofTesting.assertEquals(orig,found,0);
+			}
+		}
+	}
+
+	private static <T extends WlCoef> WaveletDescription<T> withoutLifting( WaveletDescription<T> desc ) {
+		return new WaveletDescription<T>(desc.getBorder(),desc.getForward(),desc.getInverse());
+	}
+}
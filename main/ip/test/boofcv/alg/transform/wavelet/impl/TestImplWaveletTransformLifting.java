@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderIndex1D_Wrap;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.factory.transform.wavelet.FactoryWaveletHaar;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplWaveletTransformLifting {
+
+	Random rand = new Random(234);
+
+	int shapes[][] = new int[][]{{4,4},{4,6},{10,8},{20,30},{38,64}};
+
+	/**
+	 * Compare against the convolution based transform
+	 */
+	@Test
+	public void compareToNaive_F32() {
+		for( WaveletDescription<WlCoef_F32> desc : descriptions_F32() ) {
+			boolean wrap = desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+			for( int shape[] : shapes ) {
+				ImageFloat32 orig = new ImageFloat32(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(orig,rand,0,30);
+
+				ImageFloat32 storage = new ImageFloat32(shape[0],shape[1]);
+				ImageFloat32 expected = new ImageFloat32(shape[0],shape[1]);
+				ImplWaveletTransformNaive.horizontal(desc.getBorder(),desc.getForward(),orig,storage);
+				ImplWaveletTransformNaive.vertical(desc.getBorder(),desc.getForward(),storage,expected);
+
+				ImageFloat32 found = BoofTesting.createSubImageOf(orig);
+				ImplWaveletTransformLifting.transform(desc.getLifting(),wrap,found);
+				BoofTesting.assertEquals(expected,found,1e-4);
+
+				ImplWaveletTransformLifting.inverse(desc.getLifting(),wrap,found);
+				BoofTesting.assertEquals(orig,found,1e-4);
+			}
+		}
+	}
+
+	/**
+	 * The integer transform should be exactly reversible
+	 */
+	@Test
+	public void reversible_I32() {
+		for( WaveletDescription<WlCoef_I32> desc : descriptions_I32() ) {
+			boolean wrap = desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+			for( int shape[] : shapes ) {
+				ImageSInt32 orig = new ImageSInt32(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(orig,rand,-30000,30000);
+
+				ImageSInt32 found = BoofTesting.createSubImageOf(orig);
+				ImplWaveletTransformLifting.transform(desc.getLifting(),wrap,found);
+				ImplWaveletTransformLifting.inverse(desc.getLifting(),wrap,found);
+
+				BoofTesting.assertEquals(orig,found,0);
+			}
+		}
+	}
+
+	/**
+	 * The integer transform is a rounded version of the floating point transform
+	 */
+	@Test
+	public void compareToFloat_I32() {
+		boolean wrap[] = new boolean[]{false,true};
+		BorderType borders[] = new BorderType[]{BorderType.REFLECT,BorderType.WRAP};
+
+		for( int i = 0; i < borders.length; i++ ) {
+			WaveletDescription<WlCoef_F32> desc = FactoryWaveletDaub.biorthogonal_F32(5,borders[i]);
+
+			ImageSInt32 orig = new ImageSInt32(20,30);
+			ImageMiscOps.fillUniform(orig,rand,0,1000);
+			ImageFloat32 expected = new ImageFloat32(20,30);
+			for( int j = 0; j < orig.data.length; j++ )
+				expected.data[j] = orig.data[j];
+
+			ImplWaveletTransformLifting.horizontal(desc.getLifting(),wrap[i],orig,0,30,new int[20]);
+			ImplWaveletTransformLifting.horizontal(desc.getLifting(),wrap[i],expected,0,30,new float[20]);
+			BoofTesting.assertEquals(expected,orig,1);
+		}
+	}
+
+	public static List<WaveletDescription<WlCoef_F32>> descriptions_F32() {
+		List<WaveletDescription<WlCoef_F32>> ret = new ArrayList<WaveletDescription<WlCoef_F32>>();
+		ret.add(FactoryWaveletHaar.<WlCoef_F32>generate(false,32));
+		ret.add(FactoryWaveletDaub.daubJ_F32(4));
+		ret.add(FactoryWaveletDaub.biorthogonal_F32(5,BorderType.REFLECT));
+		ret.add(FactoryWaveletDaub.biorthogonal_F32(5,BorderType.WRAP));
+		return ret;
+	}
+
+	public static List<WaveletDescription<WlCoef_I32>> descriptions_I32() {
+		List<WaveletDescription<WlCoef_I32>> ret = new ArrayList<WaveletDescription<WlCoef_I32>>();
+		ret.add(FactoryWaveletHaar.<WlCoef_I32>generate(true,32));
+		ret.add(FactoryWaveletDaub.biorthogonal_I32(5,BorderType.REFLECT));
+		ret.add(FactoryWaveletDaub.biorthogonal_I32(5,BorderType.WRAP));
+		return ret;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderIndex1D_Wrap;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplWaveletTransformLifting_MT {
+
+	Random rand = new Random(234);
+
+	// widths which split into several blocks of columns, including a partial block
+	int shapes[][] = new int[][]{{4,6},{38,64},{70,31*2}};
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void forceBands() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+		BoofConcurrency.setMinBandHeight(1);
+	}
+
+	@After
+	public void restore() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	@Test
+	public void compare_F32() {
+		for( WaveletDescription<WlCoef_F32> desc : TestImplWaveletTransformLifting.descriptions_F32() ) {
+			boolean wrap = desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+			for( int shape[] : shapes ) {
+				ImageFloat32 expected = new ImageFloat32(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(expected,rand,0,30);
+				ImageFloat32 found = BoofTesting.createSubImageOf(expected);
+
+				ImplWaveletTransformLifting.transform(desc.getLifting(),wrap,expected);
+				ImplWaveletTransformLifting_MT.transform(desc.getLifting(),wrap,found);
+				BoofTesting.assertEquals(expected,found,0);
+
+				ImplWaveletTransformLifting.inverse(desc.getLifting(),wrap,expected);
+				ImplWaveletTransformLifting_MT.inverse(desc.getLifting(),wrap,found);
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		}
+	}
+
+	@Test
+	public void compare_I32() {
+		for( WaveletDescription<WlCoef_I32> desc : TestImplWaveletTransformLifting.descriptions_I32() ) {
+			boolean wrap = desc.getBorder() instanceof BorderIndex1D_Wrap;
+
+			for( int shape[] : shapes ) {
+				ImageSInt32 expected = new ImageSInt32(shape[0],shape[1]);
+				ImageMiscOps.fillUniform(expected,rand,0,4000);
+				ImageSInt32 found = BoofTesting.createSubImageOf(expected);
+
+				ImplWaveletTransformLifting.transform(desc.getLifting(),wrap,expected);
+				ImplWaveletTransformLifting_MT.transform(desc.getLifting(),wrap,found);
+				BoofTesting.assertEquals(expected,found,0);
+
+				ImplWaveletTransformLifting.inverse(desc.getLifting(),wrap,expected);
+				ImplWaveletTransformLifting_MT.inverse(desc.getLifting(),wrap,found);
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		}
+	}
+}
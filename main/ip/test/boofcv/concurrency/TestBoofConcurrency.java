@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.concurrency;
+
+import boofcv.struct.image.ImageUInt8;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	int previousThreads;
+	int previousBand;
+
+	@Before
+	public void before() {
+		previousThreads = BoofConcurrency.getMaxThreads();
+		previousBand = BoofConcurrency.getMinBandHeight();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(previousThreads);
+		BoofConcurrency.setMinBandHeight(previousBand);
+	}
+
+	/**
+	 * Every element should be processed exactly once
+	 */
+	@Test
+	public void loopBlocks_coverage() {
+		for( int length = 0; length < 30; length++ ) {
+			final int counts[] = new int[length+5];
+			final AtomicInteger calls = new AtomicInteger();
+
+			BoofConcurrency.loopBlocks(5, 5 + length, 2, new IntRangeTask() {
+				@Override
+				public void process(int start, int end) {
+					calls.incrementAndGet();
+					for( int i = start; i < end; i++ )
+						counts[i]++;
+				}
+			});
+
+			for( int i = 0; i < 5; i++ )
+				assertEquals(0,counts[i]);
+			for( int i = 5; i < counts.length; i++ )
+				assertEquals(1,counts[i]);
+
+			assertTrue(calls.get() <= 4);
+			if( length >= 8 )
+				assertEquals(4,calls.get());
+		}
+	}
+
+	/**
+	 * Exceptions thrown inside of a block should be passed on to the caller
+	 */
+	@Test
+	public void loopBlocks_exception() {
+		try {
+			BoofConcurrency.loopBlocks(0, 100, 1, new IntRangeTask() {
+				@Override
+				public void process(int start, int end) {
+					if( start > 0 )
+						throw new IllegalArgumentException("Foo");
+				}
+			});
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException e ) {
+			assertEquals("Foo",e.getMessage());
+		}
+	}
+
+	/**
+	 * If a block throws an Error the other blocks must still finish before it is passed on
+	 */
+	@Test
+	public void loopBlocks_error_waitsForAll() {
+		final AtomicInteger finished = new AtomicInteger();
+		try {
+			BoofConcurrency.loopBlocks(0, 4, 1, new IntRangeTask() {
+				@Override
+				public void process(int start, int end) {
+					if( start == 1 )
+						throw new AssertionError("Foo");
+					sleep(100);
+					finished.incrementAndGet();
+				}
+			});
+			fail("Error should have been thrown");
+		} catch( AssertionError e ) {
+			assertEquals("Foo",e.getMessage());
+		}
+		assertEquals(3,finished.get());
+	}
+
+	/**
+	 * An interrupted caller must still wait for all the blocks and then restore its interrupt status
+	 */
+	@Test
+	public void loopBlocks_interrupted_waitsForAll() {
+		final AtomicInteger finished = new AtomicInteger();
+		BoofConcurrency.loopBlocks(0, 4, 1, new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				if( start == 0 ) {
+					Thread.currentThread().interrupt();
+				} else {
+					sleep(100);
+					finished.incrementAndGet();
+				}
+			}
+		});
+		assertTrue(Thread.interrupted());
+		assertEquals(3,finished.get());
+	}
+
+	private static void sleep( long milli ) {
+		try {
+			Thread.sleep(milli);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Blocks which attempt to run concurrent operations should not dead lock
+	 */
+	@Test
+	public void loopBlocks_nested() {
+		final AtomicInteger total = new AtomicInteger();
+
+		BoofConcurrency.loopBlocks(0, 10, 1, new IntRangeTask() {
+			@Override
+			public void process(int start, int end) {
+				for( int i = start; i < end; i++ ) {
+					BoofConcurrency.loopBlocks(0, 10, 1, new IntRangeTask() {
+						@Override
+						public void process(int start, int end) {
+							total.addAndGet(end-start);
+						}
+					});
+				}
+			}
+		});
+
+		assertEquals(100,total.get());
+	}
+
+	/**
+	 * Sees if the extra rows around each band are correctly truncated at the image border
+	 */
+	@Test
+	public void loopBands() {
+		BoofConcurrency.setMinBandHeight(5);
+
+		final ImageUInt8 input = new ImageUInt8(10,40);
+		final ImageUInt8 output = new ImageUInt8(10,40);
+
+		BoofConcurrency.loopBands(input, output, 2, 3, new ImageBandTask<ImageUInt8, ImageUInt8>() {
+			@Override
+			public void process(ImageUInt8 input, ImageUInt8 output) {
+				assertEquals(input.startIndex, output.startIndex);
+				assertEquals(input.height, output.height);
+				assertEquals(10, input.width);
+
+				int y0 = input.startIndex/input.stride;
+				int y1 = y0 + input.height;
+
+				// rows written to by this band
+				int bandY0 = y0 == 0 ? 0 : y0 + 2;
+				int bandY1 = y1 == 40 ? 40 : y1 - 3;
+
+				assertTrue(bandY1 - bandY0 >= 5);
+
+				for( int y = bandY0; y < bandY1; y++ ) {
+					output.data[y*output.stride]++;
+				}
+			}
+		});
+
+		for( int y = 0; y < 40; y++ ) {
+			assertEquals(1,output.get(0,y));
+		}
+	}
+}
@@ -21,13 +21,15 @@ package boofcv.core.image;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.ImageInterleavedTestingOps;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
 import javax.swing.*;
 import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.awt.color.ColorSpace;
+import java.awt.image.*;
 import java.util.Random;
 
 import static org.junit.Assert.*;
@@ -315,6 +317,215 @@ public class TestConvertBufferedImage {
 		}
 	}
 
+	/**
+	 * Compares the interleaved conversion against the multi-spectral conversion for different image types
+	 */
+	@Test
+	public void convertFrom_interleaved() {
+		int types[] = new int[]{BufferedImage.TYPE_BYTE_GRAY,BufferedImage.TYPE_3BYTE_BGR,
+				BufferedImage.TYPE_4BYTE_ABGR,BufferedImage.TYPE_BYTE_INDEXED,BufferedImage.TYPE_INT_RGB,
+				BufferedImage.TYPE_INT_BGR,BufferedImage.TYPE_INT_ARGB,BufferedImage.TYPE_USHORT_GRAY};
+
+		for( int type : types ) {
+			BufferedImage origImg = TestConvertRaster.createByteBuffByType(imgWidth, imgHeight, type, rand);
+
+			for( int i = 0; i < 2; i++ ) {
+				if( i == 1 )
+					origImg = origImg.getSubimage(1,2,imgWidth-1,imgHeight-2);
+
+				for( boolean orderRgb : new boolean[]{false,true} ) {
+					InterleavedU8 found = ConvertBufferedImage.convertFrom(origImg, (InterleavedU8)null, orderRgb);
+					MultiSpectral<ImageUInt8> expected =
+							ConvertBufferedImage.convertFromMulti(origImg, null, orderRgb, ImageUInt8.class);
+
+					checkEquals(expected, found);
+
+					// predeclared sub-image output
+					InterleavedU8 larger = new InterleavedU8(origImg.getWidth()+2,origImg.getHeight()+3,found.numBands);
+					InterleavedU8 sub = (InterleavedU8)larger.subimage(1,2,origImg.getWidth()+1,origImg.getHeight()+2,null);
+					ConvertBufferedImage.convertFrom(origImg, (ImageBase)sub, orderRgb);
+					checkEquals(expected, sub);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Byte image where the bands are stored in RGB order, which is what some image readers produce
+	 */
+	@Test
+	public void convertFrom_interleaved_customOrder() {
+		BufferedImage origImg = createCustomByte(imgWidth, imgHeight, 3, new int[]{0, 1, 2});
+
+		InterleavedU8 wrapped = ConvertBufferedImage.extractInterleavedU8(origImg);
+		assertEquals(0,wrapped.startIndex);
+
+		InterleavedU8 found = ConvertBufferedImage.convertFrom(origImg, (InterleavedU8)null, false);
+
+		checkRGB(origImg, wrapped);
+		checkRGB(origImg, found);
+	}
+
+	/**
+	 * There is padding between pixels so the image can't be wrapped
+	 */
+	@Test
+	public void convertFrom_interleaved_padded() {
+		BufferedImage origImg = createCustomByte(imgWidth, imgHeight, 4, new int[]{0, 1, 2});
+
+		try {
+			ConvertBufferedImage.extractInterleavedU8(origImg);
+			fail("Pixel stride doesn't match the number of bands");
+		} catch( IllegalArgumentException e ) {}
+
+		InterleavedU8 found = ConvertBufferedImage.wrapInterleavedU8(origImg, null);
+		assertTrue(found.data != ((DataBufferByte) origImg.getRaster().getDataBuffer()).getData());
+		checkRGB(origImg, found);
+	}
+
+	@Test
+	public void wrapInterleavedU8() {
+		// can be wrapped
+		BufferedImage origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand);
+		InterleavedU8 storage = new InterleavedU8(imgWidth,imgHeight,3);
+
+		InterleavedU8 found = ConvertBufferedImage.wrapInterleavedU8(origImg, storage);
+		assertTrue(found != storage);
+		assertTrue(found.data == ((DataBufferByte) origImg.getRaster().getDataBuffer()).getData());
+		BoofTesting.checkEquals(origImg, found);
+
+		// needs to be converted
+		origImg = TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand);
+		found = ConvertBufferedImage.wrapInterleavedU8(origImg, storage);
+		assertTrue(found == storage);
+		checkRGB(origImg, found);
+
+		// storage is the wrong shape
+		storage = new InterleavedU8(imgWidth,imgHeight+1,3);
+		found = ConvertBufferedImage.wrapInterleavedU8(origImg, storage);
+		assertTrue(found != storage);
+		checkRGB(origImg, found);
+	}
+
+	@Test
+	public void wrapImageUInt8() {
+		// can be wrapped
+		BufferedImage origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
+		ImageUInt8 storage = new ImageUInt8(imgWidth,imgHeight);
+
+		ImageUInt8 found = ConvertBufferedImage.wrapImageUInt8(origImg, storage);
+		assertTrue(found != storage);
+		assertTrue(found.data == ((DataBufferByte) origImg.getRaster().getDataBuffer()).getData());
+		BoofTesting.checkEquals(origImg, found);
+
+		// needs to be converted
+		origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand);
+		found = ConvertBufferedImage.wrapImageUInt8(origImg, storage);
+		assertTrue(found == storage);
+		BoofTesting.checkEquals(origImg, found);
+
+		found = ConvertBufferedImage.wrapImageUInt8(origImg, null);
+		BoofTesting.checkEquals(origImg, found);
+	}
+
+	/**
+	 * Converting bands of rows concurrently should produce the same results
+	 */
+	@Test
+	public void convertFrom_concurrent() {
+		int types[] = new int[]{BufferedImage.TYPE_BYTE_GRAY,BufferedImage.TYPE_3BYTE_BGR,
+				BufferedImage.TYPE_BYTE_INDEXED,BufferedImage.TYPE_INT_ARGB};
+
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		int minBandHeight = BoofConcurrency.getMinBandHeight();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			BoofConcurrency.setMinBandHeight(1);
+
+			for( int type : types ) {
+				BufferedImage origImg = TestConvertRaster.createByteBuffByType(30, 41, type, rand);
+
+				Class[] dstTypes = new Class[]{ImageUInt8.class, ImageFloat32.class};
+				for( Class t : dstTypes ) {
+					ImageBase expected = GeneralizedImageOps.createSingleBand(t, 30, 41);
+					ImageBase found = GeneralizedImageOps.createSingleBand(t, 30, 41);
+					convert(origImg, expected, false, false);
+					convert(origImg, found, false, true);
+					BoofTesting.assertEquals(expected, found, 1e-8);
+
+					int numBands = type == BufferedImage.TYPE_BYTE_INDEXED ? 3 : origImg.getRaster().getNumBands();
+					expected = new MultiSpectral(t, 30, 41, numBands);
+					found = new MultiSpectral(t, 30, 41, numBands);
+					convert(origImg, expected, true, false);
+					convert(origImg, found, true, true);
+					BoofTesting.assertEquals(expected, found, 1e-8);
+				}
+
+				InterleavedU8 expected = ConvertBufferedImage.convertFrom(origImg, (InterleavedU8)null, true);
+				BoofConcurrency.USE_CONCURRENT = true;
+				InterleavedU8 found = ConvertBufferedImage.convertFrom(origImg, (InterleavedU8)null, true);
+				BoofConcurrency.USE_CONCURRENT = false;
+				BoofTesting.assertEquals(expected, found, 1e-8);
+			}
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+			BoofConcurrency.setMaxThreads(maxThreads);
+			BoofConcurrency.setMinBandHeight(minBandHeight);
+		}
+	}
+
+	private static void convert( BufferedImage src , ImageBase dst , boolean orderRgb , boolean concurrent ) {
+		BoofConcurrency.USE_CONCURRENT = concurrent;
+		try {
+			ConvertBufferedImage.convertFrom(src, dst, orderRgb);
+		} finally {
+			BoofConcurrency.USE_CONCURRENT = false;
+		}
+	}
+
+	private static void checkEquals( MultiSpectral<ImageUInt8> expected , InterleavedU8 found ) {
+		assertEquals(expected.width, found.width);
+		assertEquals(expected.height, found.height);
+		assertEquals(expected.getNumBands(), found.numBands);
+
+		for( int y = 0; y < found.height; y++ ) {
+			for( int x = 0; x < found.width; x++ ) {
+				for( int band = 0; band < found.numBands; band++ ) {
+					assertEquals(expected.getBand(band).get(x,y), found.getBand(x,y,band) & 0xFF);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks to see if the interleaved image has the same values as getRGB() in RGB order
+	 */
+	private static void checkRGB( BufferedImage expected , InterleavedU8 found ) {
+		assertEquals(3, found.numBands);
+
+		for( int y = 0; y < found.height; y++ ) {
+			for( int x = 0; x < found.width; x++ ) {
+				int rgb = expected.getRGB(x,y);
+				assertEquals((rgb >> 16) & 0xFF, found.getBand(x,y,0) & 0xFF);
+				assertEquals((rgb >> 8) & 0xFF, found.getBand(x,y,1) & 0xFF);
+				assertEquals(rgb & 0xFF, found.getBand(x,y,2) & 0xFF);
+			}
+		}
+	}
+
+	private BufferedImage createCustomByte( int width , int height , int pixelStride , int bandOffsets[] ) {
+		ColorSpace cs = ColorSpace.getInstance(ColorSpace.CS_sRGB);
+		ColorModel colorModel = new ComponentColorModel(cs, new int[]{8, 8, 8}, false, false,
+				Transparency.OPAQUE, DataBuffer.TYPE_BYTE);
+		WritableRaster raster = Raster.createInterleavedRaster(DataBuffer.TYPE_BYTE, width, height,
+				width*pixelStride, pixelStride, bandOffsets, null);
+
+		BufferedImage ret = new BufferedImage(colorModel, raster, false, null);
+		TestConvertRaster.randomize(ret, rand);
+
+		return ret;
+	}
+
 	/**
 	 * Create an image and convert it into a buffered image
 	 */
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvertDirectImage {
+
+	Random rand = new Random(234);
+	int width = 10;
+	int height = 15;
+
+	/**
+	 * Compare against {@link ConvertImage} using sub-images
+	 */
+	@Test
+	public void convert_U8_F32() {
+		ImageUInt8 input = new ImageUInt8(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		DirectImageUInt8 directIn = new DirectImageUInt8(width+2, height+3).subimage(1, 2, width+1, height+2, null);
+		directIn.copyFrom(input);
+		DirectImageFloat32 directOut = ConvertDirectImage.convert(directIn, (DirectImageFloat32)null);
+
+		ImageFloat32 found = new ImageFloat32(width, height);
+		directOut.copyTo(found);
+		BoofTesting.assertEquals(ConvertImage.convert(input, (ImageFloat32)null), found, 1e-8);
+
+		// and back again
+		DirectImageUInt8 back = ConvertDirectImage.convert(directOut, new DirectImageUInt8(width, height));
+		ImageUInt8 foundU8 = new ImageUInt8(width, height);
+		back.copyTo(foundU8);
+		BoofTesting.assertEquals(input, foundU8, 0);
+	}
+
+	@Test
+	public void convert_U16_F32() {
+		ImageUInt16 input = new ImageUInt16(width, height);
+		ImageMiscOps.fillUniform(input, rand, 0, 60000);
+
+		DirectImageUInt16 directIn = new DirectImageUInt16(width, height);
+		directIn.copyFrom(input);
+		DirectImageFloat32 directOut = ConvertDirectImage.convert(directIn, (DirectImageFloat32)null);
+
+		ImageFloat32 found = new ImageFloat32(width, height);
+		directOut.copyTo(found);
+		BoofTesting.assertEquals(ConvertImage.convert(input, (ImageFloat32)null), found, 1e-8);
+	}
+
+	@Test
+	public void average() {
+		DirectInterleavedU8 input = new DirectInterleavedU8(width, height, 3);
+		input.setBand(2, 3, 0, 10);
+		input.setBand(2, 3, 1, 20);
+		input.setBand(2, 3, 2, 60);
+
+		DirectImageUInt8 found = ConvertDirectImage.average(input, null);
+		assertEquals(30, found.get(2, 3));
+		assertEquals(0, found.get(3, 3));
+	}
+}
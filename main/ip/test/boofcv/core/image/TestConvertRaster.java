@@ -45,7 +45,7 @@ public class TestConvertRaster {
 	int imgWidth = 10;
 	int imgHeight = 20;
 
-	int numMethods = 30;
+	int numMethods = 33;
 
 	/**
 	 * Use reflections to test all the functions.
@@ -159,6 +159,8 @@ public class TestConvertRaster {
 		ImageBase output;
 		if (ImageSingleBand.class.isAssignableFrom(imageType)) {
 			output = GeneralizedImageOps.createSingleBand(imageType, inputBuff.getWidth(), inputBuff.getHeight());
+		} else if (imageType == InterleavedU8.class) {
+			output = new InterleavedU8(inputBuff.getWidth(), inputBuff.getHeight(), numBands);
 		} else {
 			Class type;
 			if (m.getName().contains("U8")) {
@@ -203,7 +205,15 @@ public class TestConvertRaster {
 
 	public void performBufferedTo(Method m, BufferedImage input, ImageBase output) {
 		try {
-			if (Raster.class.isAssignableFrom(m.getParameterTypes()[0])) {
+			if (output instanceof InterleavedU8) {
+				if (Raster.class.isAssignableFrom(m.getParameterTypes()[0])) {
+					m.invoke(null, input.getRaster(), output);
+					BoofTesting.checkEquals(input.getRaster(), toMulti((InterleavedU8) output), 1);
+				} else {
+					m.invoke(null, input, output);
+					BoofTesting.checkEquals(input, toMulti((InterleavedU8) output), false, 1);
+				}
+			} else if (Raster.class.isAssignableFrom(m.getParameterTypes()[0])) {
 				m.invoke(null, input.getRaster(), output);
 
 				// read directly from raster if the raster is an input
@@ -222,6 +232,23 @@ public class TestConvertRaster {
 		}
 	}
 
+	/**
+	 * Copies the interleaved image into a multi-spectral image so that the multi-spectral checks can be used
+	 */
+	private static MultiSpectral<ImageUInt8> toMulti(InterleavedU8 input) {
+		MultiSpectral<ImageUInt8> ret = new MultiSpectral<ImageUInt8>(ImageUInt8.class,
+				input.width, input.height, input.numBands);
+
+		for (int y = 0; y < input.height; y++) {
+			for (int x = 0; x < input.width; x++) {
+				for (int band = 0; band < input.numBands; band++) {
+					ret.getBand(band).set(x, y, input.getBand(x, y, band) & 0xFF);
+				}
+			}
+		}
+		return ret;
+	}
+
 	private void testImageTo(Method m) {
 
 		Class paramTypes[] = m.getParameterTypes();
@@ -171,4 +171,30 @@ public class TestFactoryKernelGaussian {
 		}
 
 	}
+
+	@Test
+	public void boxRadiusForSigma() {
+		for( int numPasses = 1; numPasses <= 5; numPasses++ ) {
+			for( double sigma : new double[]{1,2.5,5,20} ) {
+				int radius[] = FactoryKernelGaussian.boxRadiusForSigma(sigma,numPasses);
+				assertEquals(numPasses,radius.length);
+
+				// the variance of each box filter adds together
+				double variance = 0;
+				for( int r : radius ) {
+					int w = 2*r+1;
+					variance += (w*w-1)/12.0;
+				}
+
+				// each pass can change the variance by at most this amount
+				double step = ((2*radius[numPasses-1]+1)*4+4)/12.0;
+				assertEquals(sigma*sigma,variance,step);
+
+				// radius should be the same or increasing
+				for( int i = 1; i < numPasses; i++ ) {
+					assertTrue(radius[i]-radius[i-1] == 0 || radius[i]-radius[i-1] == 1);
+				}
+			}
+		}
+	}
 }
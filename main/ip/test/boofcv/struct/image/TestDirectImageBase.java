@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestDirectImageBase {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void get_set() {
+		DirectImageUInt8 a = new DirectImageUInt8(10, 12);
+		a.set(3, 4, 200);
+		assertEquals(200, a.get(3, 4));
+		assertTrue(a.data.isDirect());
+
+		DirectImageUInt16 b = new DirectImageUInt16(10, 12);
+		b.set(3, 4, 60000);
+		assertEquals(60000, b.get(3, 4));
+
+		DirectImageFloat32 c = new DirectImageFloat32(10, 12);
+		c.set(3, 4, 2.5f);
+		assertEquals(2.5f, c.get(3, 4), 1e-8);
+
+		DirectInterleavedU8 d = new DirectInterleavedU8(10, 12, 3);
+		d.setBand(3, 4, 2, 250);
+		assertEquals(250, d.getBand(3, 4, 2));
+		assertEquals(0, d.getBand(3, 4, 1));
+
+		try {
+			a.get(10, 0);
+			fail("Should have thrown an exception");
+		} catch( ImageAccessException ignore ) {}
+	}
+
+	/**
+	 * Sub-images should have the same startIndex and stride as the equivalent array image
+	 */
+	@Test
+	public void subimage() {
+		DirectInterleavedU8 a = new DirectInterleavedU8(10, 12, 3);
+		InterleavedU8 b = new InterleavedU8(10, 12, 3);
+
+		DirectInterleavedU8 subA = a.subimage(2, 3, 8, 9, null);
+		InterleavedI8 subB = b.subimage(2, 3, 8, 9, null);
+
+		assertTrue(subA.isSubimage());
+		assertTrue(subA.data == a.data);
+		assertEquals(subB.startIndex, subA.startIndex);
+		assertEquals(subB.stride, subA.stride);
+		assertEquals(6, subA.width);
+		assertEquals(6, subA.height);
+
+		subA.setBand(1, 2, 1, 45);
+		assertEquals(45, a.getBand(3, 5, 1));
+
+		DirectImageFloat32 c = new DirectImageFloat32(10, 12);
+		DirectImageFloat32 subC = c.subimage(2, 3, 8, 9, null);
+		ImageFloat32 subD = new ImageFloat32(10, 12).subimage(2, 3, 8, 9, null);
+		assertEquals(subD.startIndex, subC.startIndex);
+		assertEquals(subD.stride, subC.stride);
+	}
+
+	@Test
+	public void reshape() {
+		DirectImageFloat32 a = new DirectImageFloat32(10, 12);
+		ByteBuffer data = a.data;
+
+		a.reshape(5, 6);
+		assertTrue(data == a.data);
+		assertEquals(5, a.stride);
+
+		a.reshape(20, 30);
+		assertTrue(data != a.data);
+		assertTrue(a.data.capacity() >= 20*30*4);
+
+		try {
+			a.subimage(0, 0, 2, 2, null).reshape(1, 1);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+	}
+
+	@Test
+	public void copyTo_copyFrom_setTo() {
+		ImageFloat32 orig = new ImageFloat32(10, 12);
+		ImageMiscOps.fillUniform(orig, rand, -10, 10);
+
+		DirectImageFloat32 a = new DirectImageFloat32(10, 12);
+		a.copyFrom(orig);
+		assertEquals(orig.get(4, 5), a.get(4, 5), 1e-8);
+
+		// sub-images on both sides
+		DirectImageFloat32 b = new DirectImageFloat32(14, 15);
+		DirectImageFloat32 subB = b.subimage(2, 3, 12, 15, null);
+		subB.setTo(a);
+
+		ImageFloat32 found = new ImageFloat32(20, 20).subimage(1, 2, 11, 14, null);
+		subB.copyTo(found);
+		BoofTesting.assertEquals(orig, found, 1e-8);
+
+		ImageUInt16 origU16 = new ImageUInt16(7, 5);
+		ImageMiscOps.fillUniform(origU16, rand, 0, 60000);
+		DirectImageUInt16 c = new DirectImageUInt16(7, 5);
+		c.copyFrom(origU16);
+		ImageUInt16 foundU16 = new ImageUInt16(7, 5);
+		c.copyTo(foundU16);
+		BoofTesting.assertEquals(origU16, foundU16, 0);
+	}
+
+	/**
+	 * Wraps a buffer which uses a different byte order than the native one
+	 */
+	@Test
+	public void wrap_byteOrder() {
+		ByteBuffer buffer = ByteBuffer.allocate(4*6).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putShort(2*4, (short)1234);
+
+		DirectImageUInt16 a = new DirectImageUInt16(buffer, 3, 4);
+		assertEquals(1234, a.get(1, 1));
+
+		ImageUInt16 b = new ImageUInt16(3, 4);
+		a.copyTo(b);
+		assertEquals(1234, b.get(1, 1));
+	}
+
+	@Test
+	public void map() throws Exception {
+		File file = File.createTempFile("direct", "img");
+		file.deleteOnExit();
+
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel channel = raf.getChannel();
+			DirectImageUInt8 a = DirectImageUInt8.map(channel, FileChannel.MapMode.READ_WRITE, 16, 20, 10);
+			a.set(5, 6, 123);
+			assertEquals(16+20*10, file.length());
+
+			DirectImageUInt8 b = DirectImageUInt8.map(channel, FileChannel.MapMode.READ_ONLY, 16, 20, 10);
+			assertEquals(123, b.get(5, 6));
+
+			try {
+				a.reshape(40, 40);
+				fail("Should have thrown an exception");
+			} catch( IllegalArgumentException ignore ) {}
+		} finally {
+			raf.close();
+		}
+	}
+}
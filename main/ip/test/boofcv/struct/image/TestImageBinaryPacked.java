@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageBinaryPacked {
+
+	@Test
+	public void constructor() {
+		ImageBinaryPacked img = new ImageBinaryPacked(65,10);
+		assertEquals(65,img.width);
+		assertEquals(10,img.height);
+		assertEquals(2,img.stride);
+		assertEquals(20,img.data.length);
+		assertEquals(0,img.countOnes());
+	}
+
+	@Test
+	public void wordsPerRow() {
+		assertEquals(0,ImageBinaryPacked.wordsPerRow(0));
+		assertEquals(1,ImageBinaryPacked.wordsPerRow(1));
+		assertEquals(1,ImageBinaryPacked.wordsPerRow(64));
+		assertEquals(2,ImageBinaryPacked.wordsPerRow(65));
+	}
+
+	@Test
+	public void reshape() {
+		ImageBinaryPacked img = new ImageBinaryPacked(130,10);
+		long data[] = img.data;
+
+		img.reshape(64,5);
+		assertTrue(data == img.data);
+		assertEquals(64,img.width);
+		assertEquals(5,img.height);
+		assertEquals(1,img.stride);
+
+		img.reshape(200,20);
+		assertEquals(4,img.stride);
+		assertTrue(img.data.length >= 80);
+	}
+
+	@Test
+	public void getLastWordMask() {
+		assertEquals(~0L,new ImageBinaryPacked(64,2).getLastWordMask());
+		assertEquals(~0L,new ImageBinaryPacked(128,2).getLastWordMask());
+		assertEquals(1L,new ImageBinaryPacked(65,2).getLastWordMask());
+		assertEquals(0x7FL,new ImageBinaryPacked(7,2).getLastWordMask());
+	}
+
+	@Test
+	public void get_set() {
+		ImageBinaryPacked img = new ImageBinaryPacked(70,5);
+
+		img.set(0,0,1);
+		img.set(63,1,1);
+		img.set(64,2,1);
+		img.set(69,4,5);
+
+		assertEquals(1,img.get(0,0));
+		assertEquals(1,img.get(63,1));
+		assertEquals(1,img.get(64,2));
+		assertEquals(1,img.get(69,4));
+		assertEquals(0,img.get(1,0));
+		assertEquals(4,img.countOnes());
+
+		assertEquals(1L,img.data[0]);
+		assertEquals(1L << 63,img.data[2]);
+		assertEquals(1L,img.data[5]);
+
+		img.set(63,1,0);
+		assertEquals(0,img.get(63,1));
+		assertEquals(3,img.countOnes());
+	}
+
+	@Test
+	public void get_set_bounds() {
+		ImageBinaryPacked img = new ImageBinaryPacked(70,5);
+
+		try {
+			img.get(70,0);
+			fail("Should have thrown an exception");
+		} catch( ImageAccessException ignore ){}
+
+		try {
+			img.set(0,-1,1);
+			fail("Should have thrown an exception");
+		} catch( ImageAccessException ignore ){}
+	}
+
+	@Test
+	public void fill() {
+		ImageBinaryPacked img = new ImageBinaryPacked(70,5);
+
+		img.fill(1);
+		assertEquals(70*5,img.countOnes());
+		// bits past the end of the row must be zero
+		assertEquals(0x3FL,img.data[1]);
+
+		img.fill(0);
+		assertEquals(0,img.countOnes());
+	}
+
+	@Test
+	public void setTo_clone() {
+		ImageBinaryPacked img = new ImageBinaryPacked(70,5);
+		img.set(3,4,1);
+		img.set(66,2,1);
+
+		ImageBinaryPacked found = img.clone();
+		assertEquals(70,found.width);
+		assertEquals(5,found.height);
+		assertEquals(1,found.get(3,4));
+		assertEquals(1,found.get(66,2));
+		assertEquals(2,found.countOnes());
+
+		try {
+			new ImageBinaryPacked(71,5).setTo(img);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ){}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImagePool {
+
+	@Test
+	public void borrow_new() {
+		ImagePool pool = new ImagePool();
+
+		ImageFloat32 a = pool.borrow(ImageFloat32.class, 20, 30);
+		assertEquals(20, a.width);
+		assertEquals(30, a.height);
+		assertEquals(0, pool.size());
+	}
+
+	@Test
+	public void recycle_then_borrow() {
+		ImagePool pool = new ImagePool();
+
+		ImageFloat32 a = pool.borrow(ImageFloat32.class, 20, 30);
+		pool.recycle(a);
+		assertEquals(1, pool.size());
+
+		// same size
+		ImageFloat32 b = pool.borrow(ImageFloat32.class, 20, 30);
+		assertTrue(a == b);
+		assertEquals(0, pool.size());
+
+		// smaller image in the same size class.  It should be reshaped without declaring a new array
+		float data[] = a.data;
+		pool.recycle(a);
+		b = pool.borrow(ImageFloat32.class, 15, 31);
+		assertTrue(a == b);
+		assertTrue(data == b.data);
+		assertEquals(15, b.width);
+		assertEquals(31, b.height);
+		assertEquals(15, b.stride);
+	}
+
+	/**
+	 * Images in a different size class should not be used
+	 */
+	@Test
+	public void borrow_sizeClass() {
+		ImagePool pool = new ImagePool();
+
+		ImageFloat32 a = new ImageFloat32(20, 30);
+		pool.recycle(a);
+
+		// too large
+		assertTrue(a != pool.borrow(ImageFloat32.class, 30, 30));
+		// much smaller
+		assertTrue(a != pool.borrow(ImageFloat32.class, 10, 10));
+		// a larger image in the same size class can't be used
+		ImageFloat32 b = new ImageFloat32(20, 31);
+		assertTrue(b != pool.borrow(ImageFloat32.class, 20, 32));
+		// the next size class up is always large enough
+		assertTrue(a == pool.borrow(ImageFloat32.class, 10, 31));
+	}
+
+	@Test
+	public void borrow_type() {
+		ImagePool pool = new ImagePool();
+
+		pool.recycle(new ImageFloat32(20, 30));
+		pool.recycle(new MultiSpectral<ImageFloat32>(ImageFloat32.class, 20, 30, 3));
+		pool.recycle(new InterleavedF32(20, 30, 3));
+
+		assertEquals(3, pool.size());
+		assertTrue(pool.borrow(ImageUInt8.class, 20, 30) instanceof ImageUInt8);
+		assertEquals(3, pool.size());
+
+		MultiSpectral<ImageFloat32> ms = pool.borrow(ImageType.ms(2, ImageFloat32.class), 20, 30);
+		assertEquals(2, ms.getNumBands());
+		assertEquals(3, pool.size());
+
+		ms = pool.borrow(ImageType.ms(3, ImageFloat32.class), 20, 30);
+		assertEquals(3, ms.getNumBands());
+		assertEquals(2, pool.size());
+
+		InterleavedF32 inter = pool.borrow(ImageType.interleaved(3, InterleavedF32.class), 25, 20);
+		assertEquals(3, inter.numBands);
+		assertEquals(25, inter.width);
+		assertEquals(1, pool.size());
+
+		ImageFloat32 single = pool.borrowLike(new ImageFloat32(1,1), 20, 30);
+		assertEquals(20*30, single.data.length);
+		assertEquals(0, pool.size());
+	}
+
+	@Test
+	public void recycle_maxPerBucket() {
+		ImagePool pool = new ImagePool(2);
+
+		ImageUInt8 a = new ImageUInt8(20, 30);
+		pool.recycle(a);
+		pool.recycle(a);
+		assertEquals(1, pool.size());
+
+		pool.recycle(new ImageUInt8(20, 30));
+		pool.recycle(new ImageUInt8(20, 30));
+		assertEquals(2, pool.size());
+
+		// different size class
+		pool.recycle(new ImageUInt8(200, 30));
+		assertEquals(3, pool.size());
+
+		pool.clear();
+		assertEquals(0, pool.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void recycle_subimage() {
+		ImagePool pool = new ImagePool();
+
+		ImageUInt8 a = new ImageUInt8(20, 30);
+		pool.recycle(a.subimage(0, 0, 10, 10, null));
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2014, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package boofcv.struct.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTiledImageDirect {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Read and write regions which span multiple strips
+	 */
+	@Test
+	public void read_write_strips() {
+		List<DirectImageFloat32> strips = new ArrayList<DirectImageFloat32>();
+		strips.add(new DirectImageFloat32(20, 7));
+		strips.add(new DirectImageFloat32(20, 3));
+		strips.add(new DirectImageFloat32(20, 10));
+
+		TiledImageDirect<ImageFloat32> alg = new TiledImageDirect<ImageFloat32>(strips);
+		assertEquals(20, alg.getWidth());
+		assertEquals(20, alg.getHeight());
+		assertEquals(ImageFloat32.class, alg.getImageType());
+
+		ImageFloat32 region = new ImageFloat32(8, 12);
+		ImageMiscOps.fillUniform(region, rand, 0, 100);
+		alg.write(5, 4, region);
+
+		assertEquals(region.get(0, 0), strips.get(0).get(5, 4), 1e-8);
+		assertEquals(region.get(1, 4), strips.get(1).get(6, 1), 1e-8);
+		assertEquals(region.get(7, 11), strips.get(2).get(12, 5), 1e-8);
+
+		ImageFloat32 found = new ImageFloat32(10, 14).subimage(1, 1, 9, 13, null);
+		alg.read(5, 4, found);
+		BoofTesting.assertEquals(region, found, 1e-8);
+	}
+
+	@Test
+	public void map() throws Exception {
+		File file = File.createTempFile("tiled", "img");
+		file.deleteOnExit();
+
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			TiledImageDirect<ImageUInt8> a = TiledImageDirect.map(raf.getChannel(), FileChannel.MapMode.READ_WRITE,
+					0, 30, 20, ImageUInt8.class);
+			assertEquals(1, a.getStrips().size());
+
+			ImageUInt8 region = new ImageUInt8(4, 5);
+			ImageMiscOps.fillUniform(region, rand, 0, 200);
+			a.write(10, 11, region);
+			assertEquals(30*20, file.length());
+
+			ImageUInt8 found = new ImageUInt8(4, 5);
+			TiledImageDirect.map(raf.getChannel(), FileChannel.MapMode.READ_ONLY, 0, 30, 20, ImageUInt8.class)
+					.read(10, 11, found);
+			BoofTesting.assertEquals(region, found, 0);
+		} finally {
+			raf.close();
+		}
+	}
+}